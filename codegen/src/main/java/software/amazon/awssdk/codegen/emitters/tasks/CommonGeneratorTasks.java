@@ -25,6 +25,7 @@ class CommonGeneratorTasks extends CompositeGeneratorTask {
         super(new CommonClientGeneratorTasks(params),
               new SyncClientGeneratorTasks(params),
               new MarshallerGeneratorTasks(params),
+              new JsonCodecGeneratorTasks(params),
               new ModelClassGeneratorTasks(params),
               new PackageInfoGeneratorTasks(params),
               new BaseExceptionClassGeneratorTasks(params),
@@ -0,0 +1,49 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.codegen.emitters.tasks;
+
+import java.util.ArrayList;
+import java.util.List;
+import software.amazon.awssdk.codegen.emitters.GeneratorTask;
+import software.amazon.awssdk.codegen.emitters.GeneratorTaskParams;
+import software.amazon.awssdk.codegen.poet.transform.JsonCodecRegistrySpec;
+import software.amazon.awssdk.codegen.poet.transform.JsonCodecShapes;
+import software.amazon.awssdk.codegen.poet.transform.JsonCodecSpec;
+
+/**
+ * Generates the JSON codecs of the shapes of the service, if enabled by the customization config.
+ */
+public class JsonCodecGeneratorTasks extends BaseGeneratorTasks {
+
+    public JsonCodecGeneratorTasks(GeneratorTaskParams dependencies) {
+        super(dependencies);
+    }
+
+    @Override
+    protected boolean hasTasks() {
+        return model.getMetadata().isJsonProtocol() && model.getCustomizationConfig().getEnableGeneratedJsonCodecs();
+    }
+
+    @Override
+    protected List<GeneratorTask> createTasks() {
+        JsonCodecShapes codecShapes = new JsonCodecShapes(model);
+        List<GeneratorTask> tasks = new ArrayList<>();
+        codecShapes.shapes().forEach(shape -> tasks.add(createPoetGeneratorTask(new JsonCodecSpec(model, shape, codecShapes))));
+        tasks.add(createPoetGeneratorTask(new JsonCodecRegistrySpec(model, codecShapes)));
+        return tasks;
+    }
+}
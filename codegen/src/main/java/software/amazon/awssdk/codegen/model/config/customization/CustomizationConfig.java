@@ -350,6 +350,13 @@ public class CustomizationConfig {
      */
     private boolean enableFastUnmarshaller;
 
+    /**
+     * A boolean flag to indicate if codecs are generated to marshall and unmarshall the shapes of JSON services, instead of
+     * going through the marshaller and unmarshaller registries of the protocol. The generated unmarshallers are only used by
+     * the fast unmarshaller code path.
+     */
+    private boolean enableGeneratedJsonCodecs;
+
     private CustomizationConfig() {
     }
 
@@ -924,4 +931,12 @@ public class CustomizationConfig {
     public void setEnableFastUnmarshaller(boolean enableFastUnmarshaller) {
         this.enableFastUnmarshaller = enableFastUnmarshaller;
     }
+
+    public boolean getEnableGeneratedJsonCodecs() {
+        return enableGeneratedJsonCodecs;
+    }
+
+    public void setEnableGeneratedJsonCodecs(boolean enableGeneratedJsonCodecs) {
+        this.enableGeneratedJsonCodecs = enableGeneratedJsonCodecs;
+    }
 }
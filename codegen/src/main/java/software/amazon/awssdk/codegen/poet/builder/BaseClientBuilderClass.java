@@ -59,6 +59,7 @@ import software.amazon.awssdk.codegen.poet.client.ClientClassUtils;
 import software.amazon.awssdk.codegen.poet.model.ServiceClientConfigurationUtils;
 import software.amazon.awssdk.codegen.poet.rules.EndpointParamsKnowledgeIndex;
 import software.amazon.awssdk.codegen.poet.rules.EndpointRulesSpecUtils;
+import software.amazon.awssdk.codegen.poet.transform.JsonCodecShapes;
 import software.amazon.awssdk.codegen.utils.AuthUtils;
 import software.amazon.awssdk.core.SdkPlugin;
 import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
@@ -513,6 +514,10 @@ public class BaseClientBuilderClass implements ClassSpec {
                 builder.addStatement("builder.option($1T.ENABLE_FAST_UNMARSHALLER, true)",
                                      SdkClientJsonProtocolAdvancedOption.class);
             }
+            if (model.getCustomizationConfig().getEnableGeneratedJsonCodecs()) {
+                builder.addStatement("builder.option($T.SHAPE_CODECS, $T.registry())",
+                                     SdkClientJsonProtocolAdvancedOption.class, new JsonCodecShapes(model).registryClass());
+            }
         }
 
         if (hasRequestAlgorithmMember(model) || hasResponseAlgorithms(model)) {
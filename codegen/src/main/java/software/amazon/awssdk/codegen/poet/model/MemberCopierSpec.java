@@ -42,6 +42,8 @@ import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.SdkOwnedList;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 
 class MemberCopierSpec implements ClassSpec {
     private final MemberModel memberModel;
@@ -268,8 +270,12 @@ class MemberCopierSpec implements ClassSpec {
 
             code.add("$T $N;", listType, outputVariableName)
                 .add("if ($1N == null || $1N instanceof $2T) {", inputVariableName, SdkAutoConstructList.class)
-                .add("$N = $T.getInstance();", outputVariableName, DefaultSdkAutoConstructList.class)
-                .add("} else {");
+                .add("$N = $T.getInstance();", outputVariableName, DefaultSdkAutoConstructList.class);
+            if (reusesOwnedCollections(builderTransform, enumTransform)) {
+                code.add("} else if ($N instanceof $T) {", inputVariableName, SdkOwnedList.class)
+                    .add("$N = $T.reuse($N);", outputVariableName, SdkOwnedList.class, inputVariableName);
+            }
+            code.add("} else {");
 
 
             String entryInputVariable = variableSource.getNew("entry");
@@ -289,7 +295,7 @@ class MemberCopierSpec implements ClassSpec {
                 code.add("$N.add($N);", modifiableVariableName, entryOutputVariable)
                     .add("});");
             }
-            code.add("$N = $T.unmodifiableList($N);", outputVariableName, Collections.class, modifiableVariableName)
+            code.add("$N = $L;", outputVariableName, unmodifiableList(builderTransform, modifiableVariableName))
                 .add("}");
 
             return outputVariableName;
@@ -306,8 +312,12 @@ class MemberCopierSpec implements ClassSpec {
 
             code.add("$T $N;", outputMapType, outputVariableName)
                 .add("if ($1N == null || $1N instanceof $2T) {", inputVariableName, SdkAutoConstructMap.class)
-                .add("$N = $T.getInstance();", outputVariableName, DefaultSdkAutoConstructMap.class)
-                .add("} else {")
+                .add("$N = $T.getInstance();", outputVariableName, DefaultSdkAutoConstructMap.class);
+            if (reusesOwnedCollections(builderTransform, enumTransform)) {
+                code.add("} else if ($N instanceof $T) {", inputVariableName, SdkOwnedMap.class)
+                    .add("$N = $T.reuse($N);", outputVariableName, SdkOwnedMap.class, inputVariableName);
+            }
+            code.add("} else {")
                 .add("$T $N = new $T<>($N.size());",
                      outputMapType, modifiableVariableName, LinkedHashMap.class, inputVariableName);
 
@@ -331,7 +341,7 @@ class MemberCopierSpec implements ClassSpec {
             }
 
             code.add("});")
-                .add("$N = $T.unmodifiableMap($N);", outputVariableName, Collections.class, modifiableVariableName)
+                .add("$N = $L;", outputVariableName, unmodifiableMap(builderTransform, modifiableVariableName))
                 .add("}");
 
             return outputVariableName;
@@ -340,6 +350,32 @@ class MemberCopierSpec implements ClassSpec {
         throw new UnsupportedOperationException("Unable to generate copier for member '" + inputMember + "'");
     }
 
+    /**
+     * Collections owned by the SDK are already unmodifiable and only contain other owned collections, so the plain copy
+     * method can reuse them instead of copying them again.
+     */
+    private boolean reusesOwnedCollections(BuilderTransform builderTransform, EnumTransform enumTransform) {
+        return builderTransform == BuilderTransform.NONE && enumTransform == EnumTransform.NONE;
+    }
+
+    /**
+     * Collections of builders are handed out to callers that may modify the builders, so they are never marked as owned by
+     * the SDK.
+     */
+    private CodeBlock unmodifiableList(BuilderTransform builderTransform, String modifiableVariableName) {
+        if (builderTransform == BuilderTransform.BUILDABLE_TO_BUILDER) {
+            return CodeBlock.of("$T.unmodifiableList($N)", Collections.class, modifiableVariableName);
+        }
+        return CodeBlock.of("$T.wrap($N)", SdkOwnedList.class, modifiableVariableName);
+    }
+
+    private CodeBlock unmodifiableMap(BuilderTransform builderTransform, String modifiableVariableName) {
+        if (builderTransform == BuilderTransform.BUILDABLE_TO_BUILDER) {
+            return CodeBlock.of("$T.unmodifiableMap($N)", Collections.class, modifiableVariableName);
+        }
+        return CodeBlock.of("$T.wrap($N)", SdkOwnedMap.class, modifiableVariableName);
+    }
+
     private TypeName typeName(MemberModel model, boolean isInputType, boolean useCollectionForList,
                               BuilderTransform builderTransform, EnumTransform enumTransform) {
 
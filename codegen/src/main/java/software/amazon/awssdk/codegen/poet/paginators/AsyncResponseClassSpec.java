@@ -42,6 +42,7 @@ import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.pagination.async.AsyncPageFetcher;
 import software.amazon.awssdk.core.pagination.async.PaginatedItemsPublisher;
 import software.amazon.awssdk.core.pagination.async.ResponsesSubscription;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * Java poet {@link ClassSpec} to generate the response class for async paginated operations.
@@ -49,6 +50,7 @@ import software.amazon.awssdk.core.pagination.async.ResponsesSubscription;
 public class AsyncResponseClassSpec extends PaginatorsClassSpec {
 
     protected static final String LAST_PAGE_FIELD = "isLastPage";
+    protected static final String PREFETCH_PAGES_FIELD = "prefetchPages";
     private static final String SUBSCRIBER = "subscriber";
     private static final String SUBSCRIBE_METHOD = "subscribe";
 
@@ -66,6 +68,7 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
                                                .addMethod(publicConstructor())
                                                .addMethod(privateConstructor())
                                                .addMethod(subscribeMethod())
+                                               .addMethod(prefetchPagesMethod())
                                                .addMethods(getMethodSpecsForResultKeyList())
                                                .addJavadoc(paginationDocs.getDocsForAsyncResponseClass(
                                                    getAsyncClientInterfaceName()))
@@ -97,7 +100,8 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
         return Stream.of(asyncClientInterfaceField(),
                          requestClassField(),
                          asyncPageFetcherField(),
-                         lastPageField());
+                         lastPageField(),
+                         prefetchPagesField());
     }
 
     protected FieldSpec asyncClientInterfaceField() {
@@ -112,6 +116,10 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
         return FieldSpec.builder(boolean.class, LAST_PAGE_FIELD, Modifier.PRIVATE).build();
     }
 
+    protected FieldSpec prefetchPagesField() {
+        return FieldSpec.builder(int.class, PREFETCH_PAGES_FIELD, Modifier.PRIVATE, Modifier.VOLATILE).build();
+    }
+
     protected MethodSpec publicConstructor() {
         return MethodSpec.constructorBuilder()
                          .addModifiers(Modifier.PUBLIC)
@@ -147,9 +155,31 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
                          .addParameter(ParameterizedTypeName.get(ClassName.get(Subscriber.class),
                                                                  WildcardTypeName.supertypeOf(responseType())),
                                        SUBSCRIBER)
-                         .addStatement("$1L.onSubscribe($2T.builder().$1L($1L).$3L($4L).build())",
+                         .addStatement("$1L.onSubscribe($2T.builder().$1L($1L).$3L($4L).$5L($5L).build())",
                                        SUBSCRIBER, ResponsesSubscription.class,
-                                       NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument())
+                                       NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherArgument(), PREFETCH_PAGES_FIELD)
+                         .build();
+    }
+
+    /**
+     * A {@link MethodSpec} for the method that sets the number of pages to fetch ahead of the demand of the subscriber.
+     */
+    private MethodSpec prefetchPagesMethod() {
+        return MethodSpec.methodBuilder(PREFETCH_PAGES_FIELD)
+                         .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                         .returns(className())
+                         .addParameter(int.class, PREFETCH_PAGES_FIELD)
+                         .addStatement("this.$1L = $2T.isNotNegative($1L, $1S)", PREFETCH_PAGES_FIELD, Validate.class)
+                         .addStatement("return this")
+                         .addJavadoc("Sets the number of pages to fetch ahead of the demand of the subscriber, so that the next "
+                                     + "pages are requested while the current page is processed. Pages and items are still "
+                                     + "delivered in order and only as requested by the subscriber. This applies to the "
+                                     + "subscriptions and item publishers created after this call.\n"
+                                     + "<p>\n"
+                                     + "By default, a page is only requested when it is needed.\n\n"
+                                     + "@param $1L The maximum number of pages to buffer ahead of the subscriber.\n"
+                                     + "@return This publisher for method chaining.",
+                                     PREFETCH_PAGES_FIELD)
                          .build();
     }
 
@@ -212,9 +242,10 @@ public class AsyncResponseClassSpec extends PaginatorsClassSpec {
                                                                                       resultKeyType)))
                          .addCode(getIteratorLambdaBlock(resultKey, resultKeyModel))
                          .addCode("\n")
-                         .addStatement("return $1T.builder().$2L(new $3L()).iteratorFunction(getIterator).$4L($4L).build()",
+                         .addStatement("return $1T.builder().$2L(new $3L()).iteratorFunction(getIterator).$4L($4L).$5L($5L)"
+                                       + ".build()",
                                        PaginatedItemsPublisher.class, NEXT_PAGE_FETCHER_MEMBER, nextPageFetcherClassName(),
-                                       LAST_PAGE_FIELD)
+                                       LAST_PAGE_FIELD, PREFETCH_PAGES_FIELD)
                          .addJavadoc(CodeBlock.builder()
                                               .add("Returns a publisher that can be used to get a stream of data. You need to "
                                                    + "subscribe to the publisher to request the stream of data. The publisher "
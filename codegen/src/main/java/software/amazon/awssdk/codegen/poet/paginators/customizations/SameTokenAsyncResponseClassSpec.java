@@ -44,7 +44,7 @@ public class SameTokenAsyncResponseClassSpec extends AsyncResponseClassSpec {
 
     @Override
     protected Stream<FieldSpec> fields() {
-        return Stream.of(asyncClientInterfaceField(), requestClassField(), lastPageField());
+        return Stream.of(asyncClientInterfaceField(), requestClassField(), lastPageField(), prefetchPagesField());
     }
 
     @Override
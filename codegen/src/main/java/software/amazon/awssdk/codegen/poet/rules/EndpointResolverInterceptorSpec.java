@@ -36,6 +36,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import javax.lang.model.element.Modifier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -91,6 +92,12 @@ import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.internal.CodegenNamingUtils;
 
 public class EndpointResolverInterceptorSpec implements ClassSpec {
+    /**
+     * The maximum number of resolved endpoints cached by a client. The endpoint parameters of the operations that can be cached
+     * only vary with the client configuration and the static context params of the operation, so a client rarely needs more than
+     * one entry per operation.
+     */
+    private static final int ENDPOINT_CACHE_MAX_SIZE = 128;
 
     private final IntermediateModel model;
     private final EndpointRulesSpecUtils endpointRulesSpecUtils;
@@ -130,6 +137,8 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
                                       .addAnnotation(SdkInternalApi.class)
                                       .addSuperinterface(ExecutionInterceptor.class);
 
+        b.addField(endpointCacheMaxSizeFieldSpec());
+        b.addField(endpointCacheFieldSpec());
         if (!useSraAuth) {
             b.addField(endpointAuthSchemeStrategyFieldSpec);
             b.addMethod(constructorMethodSpec(endpointAuthSchemeStrategyFieldSpec.name));
@@ -154,6 +163,7 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
         addOperationContextParamMethods(b);
 
         b.addMethod(hostPrefixMethod());
+        b.addMethod(isEndpointCacheableMethod());
 
         if (!useSraAuth) {
             b.addMethod(signerProviderMethod());
@@ -174,6 +184,21 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
                         .build();
     }
 
+    private FieldSpec endpointCacheMaxSizeFieldSpec() {
+        return FieldSpec.builder(int.class, "ENDPOINT_CACHE_MAX_SIZE", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$L", ENDPOINT_CACHE_MAX_SIZE)
+                        .build();
+    }
+
+    private FieldSpec endpointCacheFieldSpec() {
+        TypeName cacheType = ParameterizedTypeName.get(ClassName.get(ConcurrentHashMap.class),
+                                                       endpointRulesSpecUtils.parametersClassName(),
+                                                       ClassName.get(Endpoint.class));
+        return FieldSpec.builder(cacheType, "endpointCache", Modifier.PRIVATE, Modifier.FINAL)
+                        .initializer("new $T<>()", ConcurrentHashMap.class)
+                        .build();
+    }
+
     private MethodSpec modifyRequestMethod(String endpointAuthSchemeStrategyFieldName) {
 
         MethodSpec.Builder b = MethodSpec.methodBuilder("modifyRequest")
@@ -198,14 +223,26 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
         b.addStatement("long resolveEndpointStart = $T.nanoTime()", System.class);
         b.addStatement("$T endpointParams = ruleParams(result, executionAttributes)",
                        endpointRulesSpecUtils.parametersClassName());
-        b.addStatement("$T endpoint = $N.resolveEndpoint(endpointParams).join()",
-                       Endpoint.class, providerVar);
+        b.addStatement("boolean cacheable = isEndpointCacheable($N, executionAttributes.getAttribute($T.OPERATION_NAME))",
+                       providerVar, SdkExecutionAttribute.class);
+        b.addStatement("$T endpoint = cacheable ? endpointCache.get(endpointParams) : null", Endpoint.class);
+        b.addStatement("boolean endpointCacheHit = endpoint != null");
+        b.beginControlFlow("if (endpoint == null)");
+        b.addStatement("endpoint = $N.resolveEndpoint(endpointParams).join()", providerVar);
+        b.beginControlFlow("if (cacheable && endpointCache.size() < ENDPOINT_CACHE_MAX_SIZE)");
+        b.addStatement("endpointCache.putIfAbsent(endpointParams, endpoint)");
+        b.endControlFlow();
+        b.endControlFlow();
         b.addStatement("$1T resolveEndpointDuration = $1T.ofNanos($2T.nanoTime() - resolveEndpointStart)", Duration.class,
                        System.class);
         b.addStatement("$T metricCollector = executionAttributes.getOptionalAttribute($T.API_CALL_METRIC_COLLECTOR)",
                        ParameterizedTypeName.get(Optional.class, MetricCollector.class), SdkExecutionAttribute.class);
-        b.addStatement("metricCollector.ifPresent(mc -> mc.reportMetric($T.ENDPOINT_RESOLVE_DURATION, resolveEndpointDuration))",
-                       CoreMetric.class);
+        b.beginControlFlow("metricCollector.ifPresent(mc -> ");
+        b.addStatement("mc.reportMetric($T.ENDPOINT_RESOLVE_DURATION, resolveEndpointDuration)", CoreMetric.class);
+        b.beginControlFlow("if (cacheable)");
+        b.addStatement("mc.reportMetric($T.ENDPOINT_RESOLVE_CACHE_HIT, endpointCacheHit)", CoreMetric.class);
+        b.endControlFlow();
+        b.endControlFlow(")");
         b.beginControlFlow("if (!$T.disableHostPrefixInjection(executionAttributes))",
                            endpointRulesSpecUtils.rulesRuntimeClassName("AwsEndpointProviderUtils"));
         b.addStatement("$T hostPrefix = hostPrefix(executionAttributes.getAttribute($T.OPERATION_NAME), result)",
@@ -269,6 +306,45 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
         return b.build();
     }
 
+    /**
+     * Endpoints are only cached when they are resolved by the rules-based default provider, which always resolves the same
+     * parameters to the same endpoint, and for operations whose endpoint parameters do not come from the request.
+     */
+    private MethodSpec isEndpointCacheableMethod() {
+        MethodSpec.Builder b = MethodSpec.methodBuilder("isEndpointCacheable")
+                                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                         .returns(boolean.class)
+                                         .addParameter(endpointRulesSpecUtils.providerInterfaceName(), "provider")
+                                         .addParameter(String.class, "operationName");
+
+        ClassName defaultProvider = endpointRulesSpecUtils.providerDefaultImplName();
+        Map<String, OperationModel> operations = model.getOperations();
+        boolean generateSwitch = operations.values().stream().anyMatch(this::hasRequestDependentParams);
+        if (!generateSwitch) {
+            b.addStatement("return provider instanceof $T", defaultProvider);
+            return b.build();
+        }
+
+        b.beginControlFlow("if (!(provider instanceof $T))", defaultProvider);
+        b.addStatement("return false");
+        b.endControlFlow();
+        b.beginControlFlow("switch (operationName)");
+        operations.forEach((n, m) -> {
+            if (hasRequestDependentParams(m)) {
+                b.addCode("case $S:", n);
+            }
+        });
+        b.addStatement("return false");
+        b.addCode("default:");
+        b.addStatement("return true");
+        b.endControlFlow();
+        return b.build();
+    }
+
+    private boolean hasRequestDependentParams(OperationModel opModel) {
+        return hasContextParams(opModel) || hasOperationContextParams(opModel);
+    }
+
     private MethodSpec modifyHttpRequestMethod() {
         MethodSpec.Builder b = MethodSpec.methodBuilder("modifyHttpRequest")
                                          .addModifiers(Modifier.PUBLIC)
@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.codegen.poet.transform;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.TypeSpec;
+import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
+import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.PoetExtension;
+import software.amazon.awssdk.codegen.poet.PoetUtils;
+import software.amazon.awssdk.protocols.json.JsonShapeCodecRegistry;
+
+/**
+ * Generates the class holding the {@link JsonShapeCodecRegistry} of a service, which the client builder passes to the protocol.
+ */
+public class JsonCodecRegistrySpec implements ClassSpec {
+    private final JsonCodecShapes codecShapes;
+    private final PoetExtension poetExtensions;
+
+    public JsonCodecRegistrySpec(IntermediateModel model, JsonCodecShapes codecShapes) {
+        this.codecShapes = codecShapes;
+        this.poetExtensions = new PoetExtension(model);
+    }
+
+    @Override
+    public TypeSpec poetSpec() {
+        ClassName registryClass = ClassName.get(JsonShapeCodecRegistry.class);
+        return TypeSpec.classBuilder(className())
+                       .addJavadoc("The JSON codecs generated for the shapes of the service")
+                       .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                       .addAnnotation(PoetUtils.generatedAnnotation())
+                       .addAnnotation(SdkInternalApi.class)
+                       .addField(FieldSpec.builder(registryClass, "REGISTRY", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                                          .initializer(registryInitializer())
+                                          .build())
+                       .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                       .addMethod(MethodSpec.methodBuilder("registry")
+                                            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                                            .returns(registryClass)
+                                            .addStatement("return REGISTRY")
+                                            .build())
+                       .build();
+    }
+
+    private CodeBlock registryInitializer() {
+        CodeBlock.Builder initializer = CodeBlock.builder().add("$T.builder()", JsonShapeCodecRegistry.class);
+        for (ShapeModel shape : codecShapes.shapes()) {
+            ClassName shapeClass = poetExtensions.getModelClass(shape.getShapeName());
+            initializer.add("\n.codec($1T.class, $1T.serializableBuilderClass(), $2T.INSTANCE)", shapeClass,
+                            codecShapes.codecClass(shape.getShapeName()));
+        }
+        return initializer.add("\n.build()").build();
+    }
+
+    @Override
+    public ClassName className() {
+        return codecShapes.registryClass();
+    }
+}
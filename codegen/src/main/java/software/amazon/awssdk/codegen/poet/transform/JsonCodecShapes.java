@@ -0,0 +1,146 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.codegen.poet.transform;
+
+import com.squareup.javapoet.ClassName;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import software.amazon.awssdk.codegen.model.config.customization.CustomizationConfig;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.MemberModel;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeType;
+import software.amazon.awssdk.codegen.poet.PoetExtension;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+
+/**
+ * The shapes of a JSON service that get a generated codec, when enabled with
+ * {@link CustomizationConfig#getEnableGeneratedJsonCodecs()}.
+ * <p>
+ * A shape gets a codec when all of its members are plain payload members, i.e. members that the marshaller and unmarshaller
+ * registries handle without looking at their traits other than the timestamp format, and all the structures it references get
+ * a codec too. The other shapes, e.g. shapes with header members, explicit payloads or documents, keep using the registries.
+ */
+public final class JsonCodecShapes {
+    private static final Set<String> SCALAR_TYPES = new HashSet<>(Arrays.asList(
+        "STRING", "INTEGER", "LONG", "SHORT", "BYTE", "FLOAT", "DOUBLE", "BIG_DECIMAL", "BOOLEAN", "INSTANT", "SDK_BYTES"));
+
+    private final PoetExtension poetExtensions;
+    private final Map<String, ShapeModel> shapes;
+
+    public JsonCodecShapes(IntermediateModel model) {
+        this.poetExtensions = new PoetExtension(model);
+        this.shapes = codecShapes(model);
+    }
+
+    /**
+     * @return The shapes that get a codec, sorted by name.
+     */
+    public List<ShapeModel> shapes() {
+        List<ShapeModel> result = new ArrayList<>(shapes.values());
+        result.sort(Comparator.comparing(ShapeModel::getShapeName));
+        return result;
+    }
+
+    /**
+     * @return True if the given structure shape gets a codec.
+     */
+    public boolean hasCodec(String shapeName) {
+        return shapes.containsKey(shapeName);
+    }
+
+    /**
+     * @return The class of the codec of the given structure shape.
+     */
+    public ClassName codecClass(String shapeName) {
+        return poetExtensions.getTransformClass(shapeName + "JsonCodec");
+    }
+
+    /**
+     * @return The class holding the registry of the codecs of the service.
+     */
+    public ClassName registryClass() {
+        return poetExtensions.getTransformClass("JsonShapeCodecs");
+    }
+
+    private static Map<String, ShapeModel> codecShapes(IntermediateModel model) {
+        Map<String, ShapeModel> candidates = new LinkedHashMap<>();
+        if (!model.getMetadata().isJsonProtocol() || !model.getCustomizationConfig().getEnableGeneratedJsonCodecs()) {
+            return candidates;
+        }
+        model.getShapes().values().stream()
+             .filter(JsonCodecShapes::isCandidate)
+             .forEach(shape -> candidates.put(shape.getShapeName(), shape));
+
+        // Structures can reference each other, and recursively, so shapes are dropped until all the structures referenced by
+        // the remaining ones are remaining too.
+        boolean removed = true;
+        while (removed) {
+            removed = candidates.values().removeIf(shape -> !hasSupportedMembers(model, shape, candidates));
+        }
+        return candidates;
+    }
+
+    private static boolean isCandidate(ShapeModel shape) {
+        ShapeType shapeType = shape.getShapeType();
+        return (shapeType == ShapeType.Request || shapeType == ShapeType.Response || shapeType == ShapeType.Model)
+               && !shape.isEventStream()
+               && !shape.isEvent()
+               && !shape.isDocument()
+               && !shape.getCustomization().isSkipGeneratingModelClass();
+    }
+
+    private static boolean hasSupportedMembers(IntermediateModel model, ShapeModel shape, Map<String, ShapeModel> candidates) {
+        CustomizationConfig customizationConfig = model.getCustomizationConfig();
+        String payloadMemberCustomization = customizationConfig.getAttachPayloadTraitToMember().get(shape.getC2jName());
+        for (MemberModel member : shape.getMembers()) {
+            if (member.getHttp().getMarshallLocation() != MarshallLocation.PAYLOAD
+                || member.getHttp().getIsPayload()
+                || member.getHttp().getIsStreaming()
+                || member.isEventPayload()
+                || member.isEventHeader()
+                || member.isJsonValue()
+                || member.isIdempotencyToken()
+                || member.ignoreDataTypeConversionFailures()
+                || member.getC2jName().equals(payloadMemberCustomization)
+                || customizationConfig.getModelMarshallerDefaultValueSupplier().containsKey(member.getC2jName())
+                || !isSupportedValue(member, candidates)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSupportedValue(MemberModel member, Map<String, ShapeModel> candidates) {
+        if (member.isList()) {
+            return isSupportedValue(member.getListModel().getListMemberModel(), candidates);
+        }
+        if (member.isMap()) {
+            return isSupportedValue(member.getMapModel().getValueModel(), candidates);
+        }
+        if (member.hasBuilder()) {
+            return candidates.containsKey(member.getC2jShape());
+        }
+        return SCALAR_TYPES.contains(member.getMarshallingType());
+    }
+}
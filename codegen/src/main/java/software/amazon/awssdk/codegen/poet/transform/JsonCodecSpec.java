@@ -0,0 +1,323 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.codegen.poet.transform;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.NameAllocator;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.MemberModel;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
+import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.PoetExtension;
+import software.amazon.awssdk.codegen.poet.PoetUtils;
+import software.amazon.awssdk.codegen.poet.model.TypeProvider;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.protocols.json.JsonShapeCodec;
+import software.amazon.awssdk.protocols.json.JsonShapeReader;
+import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+import software.amazon.awssdk.utils.DateUtils;
+
+/**
+ * Generates the {@link JsonShapeCodec} of a shape. The codec writes and reads the members of the shape the same way as the
+ * marshaller and unmarshaller registries of the JSON protocols do for them, see {@link JsonCodecShapes}.
+ */
+public class JsonCodecSpec implements ClassSpec {
+    private static final String POJO = "pojo";
+    private static final String GENERATOR = "generator";
+    private static final String BUILDER = "builder";
+    private static final String FIELD_NAME = "fieldName";
+    private static final String READER = "reader";
+
+    private final IntermediateModel model;
+    private final ShapeModel shapeModel;
+    private final JsonCodecShapes codecShapes;
+    private final TypeProvider typeProvider;
+    private final ClassName shapeClass;
+    private final ClassName builderClass;
+    private final ClassName className;
+
+    public JsonCodecSpec(IntermediateModel model, ShapeModel shapeModel, JsonCodecShapes codecShapes) {
+        this.model = model;
+        this.shapeModel = shapeModel;
+        this.codecShapes = codecShapes;
+        this.typeProvider = new TypeProvider(model);
+        this.shapeClass = new PoetExtension(model).getModelClass(shapeModel.getShapeName());
+        this.builderClass = shapeClass.nestedClass("Builder");
+        this.className = codecShapes.codecClass(shapeModel.getShapeName());
+    }
+
+    @Override
+    public TypeSpec poetSpec() {
+        return TypeSpec.classBuilder(className)
+                       .addJavadoc("{@link $T} JSON codec", shapeClass)
+                       .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                       .addAnnotation(PoetUtils.generatedAnnotation())
+                       .addAnnotation(SdkInternalApi.class)
+                       .addSuperinterface(ParameterizedTypeName.get(ClassName.get(JsonShapeCodec.class),
+                                                                    shapeClass, builderClass))
+                       .addField(FieldSpec.builder(className, "INSTANCE", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+                                          .initializer("new $T()", className)
+                                          .build())
+                       .addMethod(MethodSpec.constructorBuilder().addModifiers(Modifier.PRIVATE).build())
+                       .addMethod(marshallMethod())
+                       .addMethod(newBuilderMethod())
+                       .addMethod(unmarshallMemberMethod())
+                       .addMethod(buildMethod())
+                       .build();
+    }
+
+    @Override
+    public ClassName className() {
+        return className;
+    }
+
+    private List<MemberModel> members() {
+        return shapeModel.getNonStreamingMembers().stream()
+                         .filter(m -> !m.isSynthetic())
+                         .collect(Collectors.toList());
+    }
+
+    private MethodSpec marshallMethod() {
+        NameAllocator names = new NameAllocator();
+        names.newName(POJO);
+        names.newName(GENERATOR);
+
+        MethodSpec.Builder method = MethodSpec.methodBuilder("marshall")
+                                              .addAnnotation(Override.class)
+                                              .addModifiers(Modifier.PUBLIC)
+                                              .addParameter(shapeClass, POJO)
+                                              .addParameter(StructuredJsonGenerator.class, GENERATOR);
+        for (MemberModel member : members()) {
+            String value = names.newName(member.getVariable().getVariableName());
+            method.addStatement("$T $L = $L.$L()", typeProvider.fieldType(member), value, POJO,
+                                member.getFluentGetterMethodName());
+            if (model.getCustomizationConfig().isRequiredTraitValidationEnabled() && member.isRequired()) {
+                method.beginControlFlow("if ($L == null)", value)
+                      .addStatement("throw new $T($S)", IllegalArgumentException.class,
+                                    String.format("Parameter '%s' must not be null", member.getHttp().getMarshallLocationName()))
+                      .endControlFlow();
+            }
+            method.beginControlFlow("if ($L)", shouldEmit(member, value))
+                  .addStatement("$L.writeFieldName($S)", GENERATOR, member.getHttp().getMarshallLocationName())
+                  .addCode(member.getTimestampFormat() != null ? writeFormattedTimestamp(member, value)
+                                                               : writeValue(member, value, names))
+                  .endControlFlow();
+        }
+        return method.build();
+    }
+
+    /**
+     * Lists and maps that are auto construct and empty are not written, as with the marshaller registry.
+     */
+    private CodeBlock shouldEmit(MemberModel member, String value) {
+        if (member.isList()) {
+            return CodeBlock.of("$1L != null && !($1L instanceof $2T && $1L.isEmpty())", value, SdkAutoConstructList.class);
+        }
+        if (member.isMap()) {
+            return CodeBlock.of("$1L != null && !($1L instanceof $2T && $1L.isEmpty())", value, SdkAutoConstructMap.class);
+        }
+        return CodeBlock.of("$L != null", value);
+    }
+
+    /**
+     * Writes the given non-null value of a member, a list element or a map value.
+     */
+    private CodeBlock writeValue(MemberModel member, String value, NameAllocator names) {
+        CodeBlock.Builder code = CodeBlock.builder();
+        if (member.isList()) {
+            MemberModel elementModel = member.getListModel().getListMemberModel();
+            String element = names.newName(value + "Element");
+            code.addStatement("$L.writeStartArray($L.size())", GENERATOR, value)
+                .beginControlFlow("for ($T $L : $L)", typeProvider.fieldType(elementModel), element, value)
+                .beginControlFlow("if ($L == null)", element)
+                .addStatement("$L.writeNull()", GENERATOR)
+                .nextControlFlow("else")
+                .add(writeValue(elementModel, element, names))
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("$L.writeEndArray()", GENERATOR);
+        } else if (member.isMap()) {
+            MemberModel valueModel = member.getMapModel().getValueModel();
+            TypeName valueType = typeProvider.fieldType(valueModel);
+            String entry = names.newName(value + "Entry");
+            String entryValue = names.newName(value + "Value");
+            code.addStatement("$L.writeStartObject()", GENERATOR)
+                .beginControlFlow("for ($T $L : $L.entrySet())",
+                                  ParameterizedTypeName.get(ClassName.get(Map.Entry.class), ClassName.get(String.class),
+                                                            valueType),
+                                  entry, value)
+                .addStatement("$T $L = $L.getValue()", valueType, entryValue, entry)
+                .beginControlFlow("if ($L != null)", entryValue)
+                .addStatement("$L.writeFieldName($L.getKey())", GENERATOR, entry)
+                .add(writeValue(valueModel, entryValue, names))
+                .endControlFlow()
+                .endControlFlow()
+                .addStatement("$L.writeEndObject()", GENERATOR);
+        } else if (member.hasBuilder()) {
+            code.addStatement("$L.writeStartObject()", GENERATOR)
+                .addStatement("$T.INSTANCE.marshall($L, $L)", codecShapes.codecClass(member.getC2jShape()), value, GENERATOR)
+                .addStatement("$L.writeEndObject()", GENERATOR);
+        } else if (member.isSdkBytesType()) {
+            code.addStatement("$L.writeValue($L.asByteBuffer())", GENERATOR, value);
+        } else {
+            code.addStatement("$L.writeValue($L)", GENERATOR, value);
+        }
+        return code.build();
+    }
+
+    /**
+     * Timestamp members with an explicit format are written in that format, as with the marshaller registry. Like the registry,
+     * the format of list elements and map values is not applied, they are written in the default format of the protocol.
+     */
+    private static CodeBlock writeFormattedTimestamp(MemberModel member, String value) {
+        TimestampFormatTrait.Format format = TimestampFormatTrait.Format.fromString(member.getTimestampFormat());
+        CodeBlock.Builder code = CodeBlock.builder();
+        switch (format) {
+            case UNIX_TIMESTAMP:
+                return code.addStatement("$L.writeNumber($T.formatUnixTimestampInstant($L))", GENERATOR, DateUtils.class, value)
+                           .build();
+            case RFC_822:
+                return code.addStatement("$L.writeValue($T.formatRfc822Date($L))", GENERATOR, DateUtils.class, value).build();
+            case ISO_8601:
+                return code.addStatement("$L.writeValue($T.formatIso8601Date($L))", GENERATOR, DateUtils.class, value).build();
+            default:
+                throw new IllegalArgumentException("Unsupported timestamp format for a JSON codec: " + format);
+        }
+    }
+
+    private MethodSpec newBuilderMethod() {
+        return MethodSpec.methodBuilder("newBuilder")
+                         .addAnnotation(Override.class)
+                         .addModifiers(Modifier.PUBLIC)
+                         .returns(builderClass)
+                         .addStatement("return $T.builder()", shapeClass)
+                         .build();
+    }
+
+    private MethodSpec unmarshallMemberMethod() {
+        MethodSpec.Builder method = MethodSpec.methodBuilder("unmarshallMember")
+                                              .addAnnotation(Override.class)
+                                              .addModifiers(Modifier.PUBLIC)
+                                              .returns(boolean.class)
+                                              .addParameter(builderClass, BUILDER)
+                                              .addParameter(String.class, FIELD_NAME)
+                                              .addParameter(JsonShapeReader.class, READER)
+                                              .addException(IOException.class);
+        List<MemberModel> members = members();
+        if (members.isEmpty()) {
+            return method.addStatement("return false").build();
+        }
+        method.beginControlFlow("switch ($L)", FIELD_NAME);
+        for (MemberModel member : members) {
+            method.addCode("case $S:\n", member.getHttp().getMarshallLocationName())
+                  .addCode(CodeBlock.builder()
+                                    .indent()
+                                    .addStatement("$L.$L($L)", BUILDER, member.getFluentSetterMethodName(),
+                                                  readValue(member, READER, 0))
+                                    .addStatement("return true")
+                                    .unindent()
+                                    .build());
+        }
+        method.addCode("default:\n")
+              .addCode(CodeBlock.builder().indent().addStatement("return false").unindent().build())
+              .endControlFlow();
+        return method.build();
+    }
+
+    /**
+     * Reads the value of a member, a list element or a map value from the given reader. Readers of nested lists and maps are
+     * lambdas, whose parameter is named after their depth.
+     */
+    private CodeBlock readValue(MemberModel member, String reader, int depth) {
+        if (member.isList()) {
+            return CodeBlock.of("$L.readList($L)", reader, valueReader(member.getListModel().getListMemberModel(), depth + 1));
+        }
+        if (member.isMap()) {
+            return CodeBlock.of("$L.readMap($L)", reader, valueReader(member.getMapModel().getValueModel(), depth + 1));
+        }
+        if (member.hasBuilder()) {
+            return CodeBlock.of("$L.readStructure($T.INSTANCE)", reader, codecShapes.codecClass(member.getC2jShape()));
+        }
+        if (member.getTimestampFormat() != null) {
+            return CodeBlock.of("$L.readInstant($T.$L)", reader, TimestampFormatTrait.Format.class,
+                                TimestampFormatTrait.Format.fromString(member.getTimestampFormat()).name());
+        }
+        return CodeBlock.of("$L.$L()", reader, scalarReadMethod(member));
+    }
+
+    private CodeBlock valueReader(MemberModel member, int depth) {
+        if (member.isList() || member.isMap() || member.hasBuilder() || member.getTimestampFormat() != null) {
+            String reader = READER + depth;
+            return CodeBlock.of("$L -> $L", reader, readValue(member, reader, depth));
+        }
+        return CodeBlock.of("$T::$L", JsonShapeReader.class, scalarReadMethod(member));
+    }
+
+    private static String scalarReadMethod(MemberModel member) {
+        switch (member.getMarshallingType()) {
+            case "STRING":
+                return "readString";
+            case "INTEGER":
+                return "readInteger";
+            case "LONG":
+                return "readLong";
+            case "SHORT":
+                return "readShort";
+            case "BYTE":
+                return "readByte";
+            case "FLOAT":
+                return "readFloat";
+            case "DOUBLE":
+                return "readDouble";
+            case "BIG_DECIMAL":
+                return "readBigDecimal";
+            case "BOOLEAN":
+                return "readBoolean";
+            case "INSTANT":
+                return "readInstant";
+            case "SDK_BYTES":
+                return "readSdkBytes";
+            default:
+                throw new IllegalArgumentException("Unsupported marshalling type for a JSON codec: "
+                                                   + member.getMarshallingType());
+        }
+    }
+
+    private MethodSpec buildMethod() {
+        return MethodSpec.methodBuilder("build")
+                         .addAnnotation(Override.class)
+                         .addModifiers(Modifier.PUBLIC)
+                         .returns(shapeClass)
+                         .addParameter(builderClass, BUILDER)
+                         .addStatement("return $L.build()", BUILDER)
+                         .build();
+    }
+}
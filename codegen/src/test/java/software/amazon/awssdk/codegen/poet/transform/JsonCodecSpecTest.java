@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.codegen.poet.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static software.amazon.awssdk.codegen.poet.PoetMatchers.generatesTo;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.codegen.C2jModels;
+import software.amazon.awssdk.codegen.IntermediateModelBuilder;
+import software.amazon.awssdk.codegen.model.config.customization.CustomizationConfig;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.service.ServiceModel;
+import software.amazon.awssdk.codegen.utils.ModelLoaderUtils;
+
+public class JsonCodecSpecTest {
+    private static IntermediateModel model;
+    private static JsonCodecShapes codecShapes;
+
+    @BeforeAll
+    public static void setUp() {
+        CustomizationConfig customizationConfig = customizationConfig();
+        customizationConfig.setModelMarshallerDefaultValueSupplier(Collections.emptyMap());
+        model = intermediateModel(customizationConfig);
+        codecShapes = new JsonCodecShapes(model);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"SimpleStruct", "RecursiveStructType", "NestedContainersRequest", "StructWithTimestamp"})
+    public void codecGeneration(String shapeName) {
+        assertThat(new JsonCodecSpec(model, model.getShapes().get(shapeName), codecShapes),
+                   generatesTo(shapeName.toLowerCase(Locale.ENGLISH) + "jsoncodec.java"));
+    }
+
+    @Test
+    public void registryGeneration() {
+        assertThat(new JsonCodecRegistrySpec(model, codecShapes), generatesTo("jsonshapecodecs.java"));
+    }
+
+    @Test
+    public void eventStreamShapes_haveNoCodec() {
+        assertThat(codecShapes.hasCodec("EventStreamOperationRequest")).isFalse();
+        assertThat(codecShapes.hasCodec("EventOne")).isFalse();
+        assertThat(codecShapes.hasCodec("AllTypesRequest")).isTrue();
+    }
+
+    @Test
+    public void membersWithCustomDefaultValue_haveNoCodec() {
+        JsonCodecShapes shapes = new JsonCodecShapes(intermediateModel(customizationConfig()));
+
+        assertThat(shapes.hasCodec("SimpleStruct")).isFalse();
+        assertThat(shapes.hasCodec("AllTypesRequest")).isFalse();
+        assertThat(shapes.hasCodec("RecursiveStructType")).isTrue();
+    }
+
+    @Test
+    public void codecsNotEnabled_haveNoCodec() {
+        CustomizationConfig customizationConfig = customizationConfig();
+        customizationConfig.setEnableGeneratedJsonCodecs(false);
+
+        assertThat(new JsonCodecShapes(intermediateModel(customizationConfig)).shapes()).isEmpty();
+    }
+
+    private static CustomizationConfig customizationConfig() {
+        File customizationConfigFile = new File(JsonCodecSpecTest.class.getResource("customization.config").getFile());
+        CustomizationConfig customizationConfig = ModelLoaderUtils.loadModel(CustomizationConfig.class,
+                                                                             customizationConfigFile);
+        customizationConfig.setEnableGeneratedJsonCodecs(true);
+        return customizationConfig;
+    }
+
+    private static IntermediateModel intermediateModel(CustomizationConfig customizationConfig) {
+        File serviceModelFile = new File(JsonCodecSpecTest.class.getResource("service-2.json").getFile());
+        return new IntermediateModelBuilder(
+            C2jModels.builder()
+                     .serviceModel(ModelLoaderUtils.loadModel(ServiceModel.class, serviceModelFile))
+                     .customizationConfig(customizationConfig)
+                     .build())
+            .build();
+    }
+}
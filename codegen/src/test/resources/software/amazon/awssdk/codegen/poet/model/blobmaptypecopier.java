@@ -2,13 +2,13 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class BlobMapTypeCopier {
@@ -16,12 +16,14 @@ final class BlobMapTypeCopier {
         Map<String, SdkBytes> map;
         if (blobMapTypeParam == null || blobMapTypeParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
+        } else if (blobMapTypeParam instanceof SdkOwnedMap) {
+            map = SdkOwnedMap.reuse(blobMapTypeParam);
         } else {
             Map<String, SdkBytes> modifiableMap = new LinkedHashMap<>(blobMapTypeParam.size());
             blobMapTypeParam.forEach((key, value) -> {
                 modifiableMap.put(key, value);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
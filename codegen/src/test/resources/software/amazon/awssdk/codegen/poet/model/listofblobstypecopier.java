@@ -4,12 +4,12 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkOwnedList;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfBlobsTypeCopier {
@@ -17,9 +17,11 @@ final class ListOfBlobsTypeCopier {
         List<SdkBytes> list;
         if (listOfBlobsTypeParam == null || listOfBlobsTypeParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
+        } else if (listOfBlobsTypeParam instanceof SdkOwnedList) {
+            list = SdkOwnedList.reuse(listOfBlobsTypeParam);
         } else {
             List<SdkBytes> modifiableList = new ArrayList<>(listOfBlobsTypeParam);
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
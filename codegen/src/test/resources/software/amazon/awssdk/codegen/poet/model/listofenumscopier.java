@@ -4,11 +4,11 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkOwnedList;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfEnumsCopier {
@@ -16,12 +16,14 @@ final class ListOfEnumsCopier {
         List<String> list;
         if (listOfEnumsParam == null || listOfEnumsParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
+        } else if (listOfEnumsParam instanceof SdkOwnedList) {
+            list = SdkOwnedList.reuse(listOfEnumsParam);
         } else {
             List<String> modifiableList = new ArrayList<>(listOfEnumsParam.size());
             listOfEnumsParam.forEach(entry -> {
                 modifiableList.add(entry);
             });
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
@@ -36,7 +38,7 @@ final class ListOfEnumsCopier {
                 String result = entry.toString();
                 modifiableList.add(result);
             });
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
@@ -51,7 +53,7 @@ final class ListOfEnumsCopier {
                 EnumType result = EnumType.fromValue(entry);
                 modifiableList.add(result);
             });
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
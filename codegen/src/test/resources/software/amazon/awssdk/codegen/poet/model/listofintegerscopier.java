@@ -4,11 +4,11 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkOwnedList;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfIntegersCopier {
@@ -16,9 +16,11 @@ final class ListOfIntegersCopier {
         List<Integer> list;
         if (listOfIntegersParam == null || listOfIntegersParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
+        } else if (listOfIntegersParam instanceof SdkOwnedList) {
+            list = SdkOwnedList.reuse(listOfIntegersParam);
         } else {
             List<Integer> modifiableList = new ArrayList<>(listOfIntegersParam);
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
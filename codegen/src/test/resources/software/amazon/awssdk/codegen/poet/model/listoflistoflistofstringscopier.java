@@ -4,11 +4,11 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkOwnedList;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfListOfListOfStringsCopier {
@@ -17,29 +17,35 @@ final class ListOfListOfListOfStringsCopier {
         List<List<List<String>>> list;
         if (listOfListOfListOfStringsParam == null || listOfListOfListOfStringsParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
+        } else if (listOfListOfListOfStringsParam instanceof SdkOwnedList) {
+            list = SdkOwnedList.reuse(listOfListOfListOfStringsParam);
         } else {
             List<List<List<String>>> modifiableList = new ArrayList<>(listOfListOfListOfStringsParam.size());
             listOfListOfListOfStringsParam.forEach(entry -> {
                 List<List<String>> list1;
                 if (entry == null || entry instanceof SdkAutoConstructList) {
                     list1 = DefaultSdkAutoConstructList.getInstance();
+                } else if (entry instanceof SdkOwnedList) {
+                    list1 = SdkOwnedList.reuse(entry);
                 } else {
                     List<List<String>> modifiableList1 = new ArrayList<>(entry.size());
                     entry.forEach(entry1 -> {
                         List<String> list2;
                         if (entry1 == null || entry1 instanceof SdkAutoConstructList) {
                             list2 = DefaultSdkAutoConstructList.getInstance();
+                        } else if (entry1 instanceof SdkOwnedList) {
+                            list2 = SdkOwnedList.reuse(entry1);
                         } else {
                             List<String> modifiableList2 = new ArrayList<>(entry1);
-                            list2 = Collections.unmodifiableList(modifiableList2);
+                            list2 = SdkOwnedList.wrap(modifiableList2);
                         }
                         modifiableList1.add(list2);
                     });
-                    list1 = Collections.unmodifiableList(modifiableList1);
+                    list1 = SdkOwnedList.wrap(modifiableList1);
                 }
                 modifiableList.add(list1);
             });
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
@@ -4,11 +4,11 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkOwnedList;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfListOfStringsCopier {
@@ -16,19 +16,23 @@ final class ListOfListOfStringsCopier {
         List<List<String>> list;
         if (listOfListOfStringsParam == null || listOfListOfStringsParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
+        } else if (listOfListOfStringsParam instanceof SdkOwnedList) {
+            list = SdkOwnedList.reuse(listOfListOfStringsParam);
         } else {
             List<List<String>> modifiableList = new ArrayList<>(listOfListOfStringsParam.size());
             listOfListOfStringsParam.forEach(entry -> {
                 List<String> list1;
                 if (entry == null || entry instanceof SdkAutoConstructList) {
                     list1 = DefaultSdkAutoConstructList.getInstance();
+                } else if (entry instanceof SdkOwnedList) {
+                    list1 = SdkOwnedList.reuse(entry);
                 } else {
                     List<String> modifiableList1 = new ArrayList<>(entry);
-                    list1 = Collections.unmodifiableList(modifiableList1);
+                    list1 = SdkOwnedList.wrap(modifiableList1);
                 }
                 modifiableList.add(list1);
             });
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
@@ -4,7 +4,6 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +12,8 @@ import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.SdkOwnedList;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfMapOfEnumToStringCopier {
@@ -20,22 +21,26 @@ final class ListOfMapOfEnumToStringCopier {
         List<Map<String, String>> list;
         if (listOfMapOfEnumToStringParam == null || listOfMapOfEnumToStringParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
+        } else if (listOfMapOfEnumToStringParam instanceof SdkOwnedList) {
+            list = SdkOwnedList.reuse(listOfMapOfEnumToStringParam);
         } else {
             List<Map<String, String>> modifiableList = new ArrayList<>(listOfMapOfEnumToStringParam.size());
             listOfMapOfEnumToStringParam.forEach(entry -> {
                 Map<String, String> map;
                 if (entry == null || entry instanceof SdkAutoConstructMap) {
                     map = DefaultSdkAutoConstructMap.getInstance();
+                } else if (entry instanceof SdkOwnedMap) {
+                    map = SdkOwnedMap.reuse(entry);
                 } else {
                     Map<String, String> modifiableMap = new LinkedHashMap<>(entry.size());
                     entry.forEach((key, value) -> {
                         modifiableMap.put(key, value);
                     });
-                    map = Collections.unmodifiableMap(modifiableMap);
+                    map = SdkOwnedMap.wrap(modifiableMap);
                 }
                 modifiableList.add(map);
             });
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
@@ -56,11 +61,11 @@ final class ListOfMapOfEnumToStringCopier {
                         String result = key.toString();
                         modifiableMap.put(result, value);
                     });
-                    map = Collections.unmodifiableMap(modifiableMap);
+                    map = SdkOwnedMap.wrap(modifiableMap);
                 }
                 modifiableList.add(map);
             });
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
@@ -83,11 +88,11 @@ final class ListOfMapOfEnumToStringCopier {
                             modifiableMap.put(result, value);
                         }
                     });
-                    map = Collections.unmodifiableMap(modifiableMap);
+                    map = SdkOwnedMap.wrap(modifiableMap);
                 }
                 modifiableList.add(map);
             });
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
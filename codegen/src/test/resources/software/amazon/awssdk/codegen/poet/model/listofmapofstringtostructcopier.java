@@ -13,6 +13,8 @@ import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.SdkOwnedList;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfMapOfStringToStructCopier {
@@ -21,22 +23,26 @@ final class ListOfMapOfStringToStructCopier {
         List<Map<String, SimpleStruct>> list;
         if (listOfMapOfStringToStructParam == null || listOfMapOfStringToStructParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
+        } else if (listOfMapOfStringToStructParam instanceof SdkOwnedList) {
+            list = SdkOwnedList.reuse(listOfMapOfStringToStructParam);
         } else {
             List<Map<String, SimpleStruct>> modifiableList = new ArrayList<>(listOfMapOfStringToStructParam.size());
             listOfMapOfStringToStructParam.forEach(entry -> {
                 Map<String, SimpleStruct> map;
                 if (entry == null || entry instanceof SdkAutoConstructMap) {
                     map = DefaultSdkAutoConstructMap.getInstance();
+                } else if (entry instanceof SdkOwnedMap) {
+                    map = SdkOwnedMap.reuse(entry);
                 } else {
                     Map<String, SimpleStruct> modifiableMap = new LinkedHashMap<>(entry.size());
                     entry.forEach((key, value) -> {
                         modifiableMap.put(key, value);
                     });
-                    map = Collections.unmodifiableMap(modifiableMap);
+                    map = SdkOwnedMap.wrap(modifiableMap);
                 }
                 modifiableList.add(map);
             });
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
@@ -58,11 +64,11 @@ final class ListOfMapOfStringToStructCopier {
                         SimpleStruct member = value == null ? null : value.build();
                         modifiableMap.put(key, member);
                     });
-                    map = Collections.unmodifiableMap(modifiableMap);
+                    map = SdkOwnedMap.wrap(modifiableMap);
                 }
                 modifiableList.add(map);
             });
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
@@ -9,6 +9,7 @@ import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkOwnedList;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfSimpleStructsCopier {
@@ -16,12 +17,14 @@ final class ListOfSimpleStructsCopier {
         List<SimpleStruct> list;
         if (listOfSimpleStructsParam == null || listOfSimpleStructsParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
+        } else if (listOfSimpleStructsParam instanceof SdkOwnedList) {
+            list = SdkOwnedList.reuse(listOfSimpleStructsParam);
         } else {
             List<SimpleStruct> modifiableList = new ArrayList<>(listOfSimpleStructsParam.size());
             listOfSimpleStructsParam.forEach(entry -> {
                 modifiableList.add(entry);
             });
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
@@ -36,7 +39,7 @@ final class ListOfSimpleStructsCopier {
                 SimpleStruct member = entry == null ? null : entry.build();
                 modifiableList.add(member);
             });
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
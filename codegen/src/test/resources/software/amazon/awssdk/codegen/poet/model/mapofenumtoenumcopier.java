@@ -2,12 +2,12 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToEnumCopier {
@@ -15,12 +15,14 @@ final class MapOfEnumToEnumCopier {
         Map<String, String> map;
         if (mapOfEnumToEnumParam == null || mapOfEnumToEnumParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
+        } else if (mapOfEnumToEnumParam instanceof SdkOwnedMap) {
+            map = SdkOwnedMap.reuse(mapOfEnumToEnumParam);
         } else {
             Map<String, String> modifiableMap = new LinkedHashMap<>(mapOfEnumToEnumParam.size());
             mapOfEnumToEnumParam.forEach((key, value) -> {
                 modifiableMap.put(key, value);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -36,7 +38,7 @@ final class MapOfEnumToEnumCopier {
                 String result1 = value.toString();
                 modifiableMap.put(result, result1);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -54,7 +56,7 @@ final class MapOfEnumToEnumCopier {
                     modifiableMap.put(result, result1);
                 }
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -4,7 +4,6 @@ import static java.util.stream.Collectors.toMap;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +12,8 @@ import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.SdkOwnedList;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToListOfEnumsCopier {
@@ -20,22 +21,26 @@ final class MapOfEnumToListOfEnumsCopier {
         Map<String, List<String>> map;
         if (mapOfEnumToListOfEnumsParam == null || mapOfEnumToListOfEnumsParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
+        } else if (mapOfEnumToListOfEnumsParam instanceof SdkOwnedMap) {
+            map = SdkOwnedMap.reuse(mapOfEnumToListOfEnumsParam);
         } else {
             Map<String, List<String>> modifiableMap = new LinkedHashMap<>(mapOfEnumToListOfEnumsParam.size());
             mapOfEnumToListOfEnumsParam.forEach((key, value) -> {
                 List<String> list;
                 if (value == null || value instanceof SdkAutoConstructList) {
                     list = DefaultSdkAutoConstructList.getInstance();
+                } else if (value instanceof SdkOwnedList) {
+                    list = SdkOwnedList.reuse(value);
                 } else {
                     List<String> modifiableList = new ArrayList<>(value.size());
                     value.forEach(entry -> {
                         modifiableList.add(entry);
                     });
-                    list = Collections.unmodifiableList(modifiableList);
+                    list = SdkOwnedList.wrap(modifiableList);
                 }
                 modifiableMap.put(key, list);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -57,11 +62,11 @@ final class MapOfEnumToListOfEnumsCopier {
                         String result1 = entry.toString();
                         modifiableList.add(result1);
                     });
-                    list = Collections.unmodifiableList(modifiableList);
+                    list = SdkOwnedList.wrap(modifiableList);
                 }
                 modifiableMap.put(result, list);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -83,13 +88,13 @@ final class MapOfEnumToListOfEnumsCopier {
                         EnumType result1 = EnumType.fromValue(entry);
                         modifiableList.add(result1);
                     });
-                    list = Collections.unmodifiableList(modifiableList);
+                    list = SdkOwnedList.wrap(modifiableList);
                 }
                 if (result != EnumType.UNKNOWN_TO_SDK_VERSION) {
                     modifiableMap.put(result, list);
                 }
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
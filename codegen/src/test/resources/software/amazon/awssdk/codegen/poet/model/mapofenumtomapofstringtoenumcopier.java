@@ -2,12 +2,12 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToMapOfStringToEnumCopier {
@@ -15,22 +15,26 @@ final class MapOfEnumToMapOfStringToEnumCopier {
         Map<String, Map<String, String>> map;
         if (mapOfEnumToMapOfStringToEnumParam == null || mapOfEnumToMapOfStringToEnumParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
+        } else if (mapOfEnumToMapOfStringToEnumParam instanceof SdkOwnedMap) {
+            map = SdkOwnedMap.reuse(mapOfEnumToMapOfStringToEnumParam);
         } else {
             Map<String, Map<String, String>> modifiableMap = new LinkedHashMap<>(mapOfEnumToMapOfStringToEnumParam.size());
             mapOfEnumToMapOfStringToEnumParam.forEach((key, value) -> {
                 Map<String, String> map1;
                 if (value == null || value instanceof SdkAutoConstructMap) {
                     map1 = DefaultSdkAutoConstructMap.getInstance();
+                } else if (value instanceof SdkOwnedMap) {
+                    map1 = SdkOwnedMap.reuse(value);
                 } else {
                     Map<String, String> modifiableMap1 = new LinkedHashMap<>(value.size());
                     value.forEach((key1, value1) -> {
                         modifiableMap1.put(key1, value1);
                     });
-                    map1 = Collections.unmodifiableMap(modifiableMap1);
+                    map1 = SdkOwnedMap.wrap(modifiableMap1);
                 }
                 modifiableMap.put(key, map1);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -53,11 +57,11 @@ final class MapOfEnumToMapOfStringToEnumCopier {
                         String result1 = value1.toString();
                         modifiableMap1.put(key1, result1);
                     });
-                    map1 = Collections.unmodifiableMap(modifiableMap1);
+                    map1 = SdkOwnedMap.wrap(modifiableMap1);
                 }
                 modifiableMap.put(result, map1);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -80,13 +84,13 @@ final class MapOfEnumToMapOfStringToEnumCopier {
                         EnumType result1 = EnumType.fromValue(value1);
                         modifiableMap1.put(key1, result1);
                     });
-                    map1 = Collections.unmodifiableMap(modifiableMap1);
+                    map1 = SdkOwnedMap.wrap(modifiableMap1);
                 }
                 if (result != EnumType.UNKNOWN_TO_SDK_VERSION) {
                     modifiableMap.put(result, map1);
                 }
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
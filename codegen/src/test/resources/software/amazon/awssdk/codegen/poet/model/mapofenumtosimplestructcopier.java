@@ -8,6 +8,7 @@ import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToSimpleStructCopier {
@@ -15,12 +16,14 @@ final class MapOfEnumToSimpleStructCopier {
         Map<String, SimpleStruct> map;
         if (mapOfEnumToSimpleStructParam == null || mapOfEnumToSimpleStructParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
+        } else if (mapOfEnumToSimpleStructParam instanceof SdkOwnedMap) {
+            map = SdkOwnedMap.reuse(mapOfEnumToSimpleStructParam);
         } else {
             Map<String, SimpleStruct> modifiableMap = new LinkedHashMap<>(mapOfEnumToSimpleStructParam.size());
             mapOfEnumToSimpleStructParam.forEach((key, value) -> {
                 modifiableMap.put(key, value);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -35,7 +38,7 @@ final class MapOfEnumToSimpleStructCopier {
                 SimpleStruct member = value == null ? null : value.build();
                 modifiableMap.put(key, member);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -65,7 +68,7 @@ final class MapOfEnumToSimpleStructCopier {
                 String result = key.toString();
                 modifiableMap.put(result, value);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -82,7 +85,7 @@ final class MapOfEnumToSimpleStructCopier {
                     modifiableMap.put(result, value);
                 }
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -2,12 +2,12 @@ package software.amazon.awssdk.services.jsonprotocoltests.model;
 
 import static java.util.stream.Collectors.toMap;
 
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfStringToEnumCopier {
@@ -15,12 +15,14 @@ final class MapOfStringToEnumCopier {
         Map<String, String> map;
         if (mapOfStringToEnumParam == null || mapOfStringToEnumParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
+        } else if (mapOfStringToEnumParam instanceof SdkOwnedMap) {
+            map = SdkOwnedMap.reuse(mapOfStringToEnumParam);
         } else {
             Map<String, String> modifiableMap = new LinkedHashMap<>(mapOfStringToEnumParam.size());
             mapOfStringToEnumParam.forEach((key, value) -> {
                 modifiableMap.put(key, value);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -35,7 +37,7 @@ final class MapOfStringToEnumCopier {
                 String result = value.toString();
                 modifiableMap.put(key, result);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -50,7 +52,7 @@ final class MapOfStringToEnumCopier {
                 EnumType result = EnumType.fromValue(value);
                 modifiableMap.put(key, result);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -4,7 +4,6 @@ import static java.util.stream.Collectors.toMap;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +12,8 @@ import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.SdkOwnedList;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfStringToIntegerListCopier {
@@ -20,19 +21,23 @@ final class MapOfStringToIntegerListCopier {
         Map<String, List<Integer>> map;
         if (mapOfStringToIntegerListParam == null || mapOfStringToIntegerListParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
+        } else if (mapOfStringToIntegerListParam instanceof SdkOwnedMap) {
+            map = SdkOwnedMap.reuse(mapOfStringToIntegerListParam);
         } else {
             Map<String, List<Integer>> modifiableMap = new LinkedHashMap<>(mapOfStringToIntegerListParam.size());
             mapOfStringToIntegerListParam.forEach((key, value) -> {
                 List<Integer> list;
                 if (value == null || value instanceof SdkAutoConstructList) {
                     list = DefaultSdkAutoConstructList.getInstance();
+                } else if (value instanceof SdkOwnedList) {
+                    list = SdkOwnedList.reuse(value);
                 } else {
                     List<Integer> modifiableList = new ArrayList<>(value);
-                    list = Collections.unmodifiableList(modifiableList);
+                    list = SdkOwnedList.wrap(modifiableList);
                 }
                 modifiableMap.put(key, list);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -4,7 +4,6 @@ import static java.util.stream.Collectors.toMap;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -13,6 +12,8 @@ import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.SdkOwnedList;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfStringToListOfListOfStringsCopier {
@@ -21,29 +22,35 @@ final class MapOfStringToListOfListOfStringsCopier {
         Map<String, List<List<String>>> map;
         if (mapOfStringToListOfListOfStringsParam == null || mapOfStringToListOfListOfStringsParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
+        } else if (mapOfStringToListOfListOfStringsParam instanceof SdkOwnedMap) {
+            map = SdkOwnedMap.reuse(mapOfStringToListOfListOfStringsParam);
         } else {
             Map<String, List<List<String>>> modifiableMap = new LinkedHashMap<>(mapOfStringToListOfListOfStringsParam.size());
             mapOfStringToListOfListOfStringsParam.forEach((key, value) -> {
                 List<List<String>> list;
                 if (value == null || value instanceof SdkAutoConstructList) {
                     list = DefaultSdkAutoConstructList.getInstance();
+                } else if (value instanceof SdkOwnedList) {
+                    list = SdkOwnedList.reuse(value);
                 } else {
                     List<List<String>> modifiableList = new ArrayList<>(value.size());
                     value.forEach(entry -> {
                         List<String> list1;
                         if (entry == null || entry instanceof SdkAutoConstructList) {
                             list1 = DefaultSdkAutoConstructList.getInstance();
+                        } else if (entry instanceof SdkOwnedList) {
+                            list1 = SdkOwnedList.reuse(entry);
                         } else {
                             List<String> modifiableList1 = new ArrayList<>(entry);
-                            list1 = Collections.unmodifiableList(modifiableList1);
+                            list1 = SdkOwnedList.wrap(modifiableList1);
                         }
                         modifiableList.add(list1);
                     });
-                    list = Collections.unmodifiableList(modifiableList);
+                    list = SdkOwnedList.wrap(modifiableList);
                 }
                 modifiableMap.put(key, list);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -8,6 +8,7 @@ import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfStringToSimpleStructCopier {
@@ -15,12 +16,14 @@ final class MapOfStringToSimpleStructCopier {
         Map<String, SimpleStruct> map;
         if (mapOfStringToSimpleStructParam == null || mapOfStringToSimpleStructParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
+        } else if (mapOfStringToSimpleStructParam instanceof SdkOwnedMap) {
+            map = SdkOwnedMap.reuse(mapOfStringToSimpleStructParam);
         } else {
             Map<String, SimpleStruct> modifiableMap = new LinkedHashMap<>(mapOfStringToSimpleStructParam.size());
             mapOfStringToSimpleStructParam.forEach((key, value) -> {
                 modifiableMap.put(key, value);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -35,7 +38,7 @@ final class MapOfStringToSimpleStructCopier {
                 SimpleStruct member = value == null ? null : value.build();
                 modifiableMap.put(key, member);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -9,6 +9,7 @@ import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkOwnedList;
 
 @Generated("software.amazon.awssdk:codegen")
 final class RecursiveListTypeCopier {
@@ -16,12 +17,14 @@ final class RecursiveListTypeCopier {
         List<RecursiveStructType> list;
         if (recursiveListTypeParam == null || recursiveListTypeParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
+        } else if (recursiveListTypeParam instanceof SdkOwnedList) {
+            list = SdkOwnedList.reuse(recursiveListTypeParam);
         } else {
             List<RecursiveStructType> modifiableList = new ArrayList<>(recursiveListTypeParam.size());
             recursiveListTypeParam.forEach(entry -> {
                 modifiableList.add(entry);
             });
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
@@ -36,7 +39,7 @@ final class RecursiveListTypeCopier {
                 RecursiveStructType member = entry == null ? null : entry.build();
                 modifiableList.add(member);
             });
-            list = Collections.unmodifiableList(modifiableList);
+            list = SdkOwnedList.wrap(modifiableList);
         }
         return list;
     }
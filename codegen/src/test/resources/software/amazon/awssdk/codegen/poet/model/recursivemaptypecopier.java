@@ -8,6 +8,7 @@ import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class RecursiveMapTypeCopier {
@@ -15,12 +16,14 @@ final class RecursiveMapTypeCopier {
         Map<String, RecursiveStructType> map;
         if (recursiveMapTypeParam == null || recursiveMapTypeParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
+        } else if (recursiveMapTypeParam instanceof SdkOwnedMap) {
+            map = SdkOwnedMap.reuse(recursiveMapTypeParam);
         } else {
             Map<String, RecursiveStructType> modifiableMap = new LinkedHashMap<>(recursiveMapTypeParam.size());
             recursiveMapTypeParam.forEach((key, value) -> {
                 modifiableMap.put(key, value);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
@@ -36,7 +39,7 @@ final class RecursiveMapTypeCopier {
                 RecursiveStructType member = value == null ? null : value.build();
                 modifiableMap.put(key, member);
             });
-            map = Collections.unmodifiableMap(modifiableMap);
+            map = SdkOwnedMap.wrap(modifiableMap);
         }
         return map;
     }
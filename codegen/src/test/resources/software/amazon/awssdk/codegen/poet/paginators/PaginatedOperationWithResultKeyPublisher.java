@@ -16,6 +16,7 @@ import software.amazon.awssdk.services.jsonprotocoltests.internal.UserAgentUtils
 import software.amazon.awssdk.services.jsonprotocoltests.model.PaginatedOperationWithResultKeyRequest;
 import software.amazon.awssdk.services.jsonprotocoltests.model.PaginatedOperationWithResultKeyResponse;
 import software.amazon.awssdk.services.jsonprotocoltests.model.SimpleStruct;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * <p>
@@ -83,6 +84,8 @@ public class PaginatedOperationWithResultKeyPublisher implements SdkPublisher<Pa
 
     private boolean isLastPage;
 
+    private volatile int prefetchPages;
+
     public PaginatedOperationWithResultKeyPublisher(JsonProtocolTestsAsyncClient client,
                                                     PaginatedOperationWithResultKeyRequest firstRequest) {
         this(client, firstRequest, false);
@@ -98,7 +101,24 @@ public class PaginatedOperationWithResultKeyPublisher implements SdkPublisher<Pa
 
     @Override
     public void subscribe(Subscriber<? super PaginatedOperationWithResultKeyResponse> subscriber) {
-        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher).build());
+        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher)
+                                                    .prefetchPages(prefetchPages).build());
+    }
+
+    /**
+     * Sets the number of pages to fetch ahead of the demand of the subscriber, so that the next pages are requested
+     * while the current page is processed. Pages and items are still delivered in order and only as requested by the
+     * subscriber. This applies to the subscriptions and item publishers created after this call.
+     * <p>
+     * By default, a page is only requested when it is needed.
+     *
+     * @param prefetchPages
+     *        The maximum number of pages to buffer ahead of the subscriber.
+     * @return This publisher for method chaining.
+     */
+    public final PaginatedOperationWithResultKeyPublisher prefetchPages(int prefetchPages) {
+        this.prefetchPages = Validate.isNotNegative(prefetchPages, "prefetchPages");
+        return this;
     }
 
     /**
@@ -114,7 +134,8 @@ public class PaginatedOperationWithResultKeyPublisher implements SdkPublisher<Pa
             return Collections.emptyIterator();
         };
         return PaginatedItemsPublisher.builder().nextPageFetcher(new PaginatedOperationWithResultKeyResponseFetcher())
-                                      .iteratorFunction(getIterator).isLastPage(isLastPage).build();
+                                      .iteratorFunction(getIterator).isLastPage(isLastPage).prefetchPages(prefetchPages)
+                                      .build();
     }
 
     private class PaginatedOperationWithResultKeyResponseFetcher implements
@@ -11,6 +11,7 @@ import software.amazon.awssdk.services.jsonprotocoltests.JsonProtocolTestsAsyncC
 import software.amazon.awssdk.services.jsonprotocoltests.internal.UserAgentUtils;
 import software.amazon.awssdk.services.jsonprotocoltests.model.PaginatedOperationWithoutResultKeyRequest;
 import software.amazon.awssdk.services.jsonprotocoltests.model.PaginatedOperationWithoutResultKeyResponse;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * <p>
@@ -78,6 +79,8 @@ public class PaginatedOperationWithoutResultKeyPublisher implements SdkPublisher
 
     private boolean isLastPage;
 
+    private volatile int prefetchPages;
+
     public PaginatedOperationWithoutResultKeyPublisher(JsonProtocolTestsAsyncClient client,
                                                        PaginatedOperationWithoutResultKeyRequest firstRequest) {
         this(client, firstRequest, false);
@@ -93,7 +96,24 @@ public class PaginatedOperationWithoutResultKeyPublisher implements SdkPublisher
 
     @Override
     public void subscribe(Subscriber<? super PaginatedOperationWithoutResultKeyResponse> subscriber) {
-        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher).build());
+        subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber).nextPageFetcher(nextPageFetcher)
+                                                    .prefetchPages(prefetchPages).build());
+    }
+
+    /**
+     * Sets the number of pages to fetch ahead of the demand of the subscriber, so that the next pages are requested
+     * while the current page is processed. Pages and items are still delivered in order and only as requested by the
+     * subscriber. This applies to the subscriptions and item publishers created after this call.
+     * <p>
+     * By default, a page is only requested when it is needed.
+     *
+     * @param prefetchPages
+     *        The maximum number of pages to buffer ahead of the subscriber.
+     * @return This publisher for method chaining.
+     */
+    public final PaginatedOperationWithoutResultKeyPublisher prefetchPages(int prefetchPages) {
+        this.prefetchPages = Validate.isNotNegative(prefetchPages, "prefetchPages");
+        return this;
     }
 
     private class PaginatedOperationWithoutResultKeyResponseFetcher implements
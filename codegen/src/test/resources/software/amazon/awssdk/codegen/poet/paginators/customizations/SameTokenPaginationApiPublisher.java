@@ -15,6 +15,7 @@ import software.amazon.awssdk.services.jsonprotocoltests.JsonProtocolTestsAsyncC
 import software.amazon.awssdk.services.jsonprotocoltests.model.SameTokenPaginationApiRequest;
 import software.amazon.awssdk.services.jsonprotocoltests.model.SameTokenPaginationApiResponse;
 import software.amazon.awssdk.services.jsonprotocoltests.model.SimpleStruct;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * <p>
@@ -80,6 +81,8 @@ public class SameTokenPaginationApiPublisher implements SdkPublisher<SameTokenPa
 
     private boolean isLastPage;
 
+    private volatile int prefetchPages;
+
     public SameTokenPaginationApiPublisher(JsonProtocolTestsAsyncClient client, SameTokenPaginationApiRequest firstRequest) {
         this(client, firstRequest, false);
     }
@@ -94,7 +97,23 @@ public class SameTokenPaginationApiPublisher implements SdkPublisher<SameTokenPa
     @Override
     public void subscribe(Subscriber<? super SameTokenPaginationApiResponse> subscriber) {
         subscriber.onSubscribe(ResponsesSubscription.builder().subscriber(subscriber)
-                .nextPageFetcher(new SameTokenPaginationApiResponseFetcher()).build());
+                .nextPageFetcher(new SameTokenPaginationApiResponseFetcher()).prefetchPages(prefetchPages).build());
+    }
+
+    /**
+     * Sets the number of pages to fetch ahead of the demand of the subscriber, so that the next pages are requested
+     * while the current page is processed. Pages and items are still delivered in order and only as requested by the
+     * subscriber. This applies to the subscriptions and item publishers created after this call.
+     * <p>
+     * By default, a page is only requested when it is needed.
+     *
+     * @param prefetchPages
+     *        The maximum number of pages to buffer ahead of the subscriber.
+     * @return This publisher for method chaining.
+     */
+    public final SameTokenPaginationApiPublisher prefetchPages(int prefetchPages) {
+        this.prefetchPages = Validate.isNotNegative(prefetchPages, "prefetchPages");
+        return this;
     }
 
     /**
@@ -110,7 +129,8 @@ public class SameTokenPaginationApiPublisher implements SdkPublisher<SameTokenPa
             return Collections.emptyIterator();
         };
         return PaginatedItemsPublisher.builder().nextPageFetcher(new SameTokenPaginationApiResponseFetcher())
-                .iteratorFunction(getIterator).isLastPage(isLastPage).build();
+                .iteratorFunction(getIterator).isLastPage(isLastPage).prefetchPages(prefetchPages)
+                .build();
     }
 
     private class SameTokenPaginationApiResponseFetcher implements AsyncPageFetcher<SameTokenPaginationApiResponse> {
@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -52,6 +53,10 @@ import software.amazon.awssdk.utils.CompletableFutureUtils;
 @Generated("software.amazon.awssdk:codegen")
 @SdkInternalApi
 public final class QueryResolveEndpointInterceptor implements ExecutionInterceptor {
+    private static final int ENDPOINT_CACHE_MAX_SIZE = 128;
+
+    private final ConcurrentHashMap<QueryEndpointParams, Endpoint> endpointCache = new ConcurrentHashMap<>();
+
     private final EndpointAuthSchemeStrategy endpointAuthSchemeStrategy;
 
     public QueryResolveEndpointInterceptor() {
@@ -70,11 +75,25 @@ public final class QueryResolveEndpointInterceptor implements ExecutionIntercept
         try {
             long resolveEndpointStart = System.nanoTime();
             QueryEndpointParams endpointParams = ruleParams(result, executionAttributes);
-            Endpoint endpoint = provider.resolveEndpoint(endpointParams).join();
+            boolean cacheable = isEndpointCacheable(provider,
+                executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME));
+            Endpoint endpoint = cacheable ? endpointCache.get(endpointParams) : null;
+            boolean endpointCacheHit = endpoint != null;
+            if (endpoint == null) {
+                endpoint = provider.resolveEndpoint(endpointParams).join();
+                if (cacheable && endpointCache.size() < ENDPOINT_CACHE_MAX_SIZE) {
+                    endpointCache.putIfAbsent(endpointParams, endpoint);
+                }
+            }
             Duration resolveEndpointDuration = Duration.ofNanos(System.nanoTime() - resolveEndpointStart);
             Optional<MetricCollector> metricCollector = executionAttributes
                 .getOptionalAttribute(SdkExecutionAttribute.API_CALL_METRIC_COLLECTOR);
-            metricCollector.ifPresent(mc -> mc.reportMetric(CoreMetric.ENDPOINT_RESOLVE_DURATION, resolveEndpointDuration));
+            metricCollector.ifPresent(mc -> {
+                mc.reportMetric(CoreMetric.ENDPOINT_RESOLVE_DURATION, resolveEndpointDuration);
+                if (cacheable) {
+                    mc.reportMetric(CoreMetric.ENDPOINT_RESOLVE_CACHE_HIT, endpointCacheHit);
+                }
+            });
             if (!AwsEndpointProviderUtils.disableHostPrefixInjection(executionAttributes)) {
                 Optional<String> hostPrefix = hostPrefix(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME),
                                                          result);
@@ -250,6 +269,21 @@ public final class QueryResolveEndpointInterceptor implements ExecutionIntercept
         }
     }
 
+    private static boolean isEndpointCacheable(QueryEndpointProvider provider, String operationName) {
+        if (!(provider instanceof DefaultQueryEndpointProvider)) {
+            return false;
+        }
+        switch (operationName) {
+            case "OperationWithContextParam":
+            case "OperationWithCustomizedOperationContextParam":
+            case "OperationWithMapOperationContextParam":
+            case "OperationWithOperationContextParam":
+                return false;
+            default:
+                return true;
+        }
+    }
+
     private Supplier<Signer> signerProvider(EndpointAuthScheme authScheme) {
         switch (authScheme.name()) {
             case "sigv4":
@@ -0,0 +1,52 @@
+package software.amazon.awssdk.services.jsonprotocoltests.transform;
+
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.protocols.json.JsonShapeCodecRegistry;
+import software.amazon.awssdk.services.jsonprotocoltests.model.AllTypesRequest;
+import software.amazon.awssdk.services.jsonprotocoltests.model.AllTypesResponse;
+import software.amazon.awssdk.services.jsonprotocoltests.model.BaseType;
+import software.amazon.awssdk.services.jsonprotocoltests.model.EventStreamOperationWithOnlyInputResponse;
+import software.amazon.awssdk.services.jsonprotocoltests.model.NestedContainersRequest;
+import software.amazon.awssdk.services.jsonprotocoltests.model.NestedContainersResponse;
+import software.amazon.awssdk.services.jsonprotocoltests.model.OperationWithNoInputOrOutputRequest;
+import software.amazon.awssdk.services.jsonprotocoltests.model.OperationWithNoInputOrOutputResponse;
+import software.amazon.awssdk.services.jsonprotocoltests.model.RecursiveStructType;
+import software.amazon.awssdk.services.jsonprotocoltests.model.SimpleStruct;
+import software.amazon.awssdk.services.jsonprotocoltests.model.StreamingInputOperationResponse;
+import software.amazon.awssdk.services.jsonprotocoltests.model.StreamingOutputOperationRequest;
+import software.amazon.awssdk.services.jsonprotocoltests.model.StructWithNestedBlobType;
+import software.amazon.awssdk.services.jsonprotocoltests.model.StructWithTimestamp;
+import software.amazon.awssdk.services.jsonprotocoltests.model.SubTypeOne;
+
+/**
+ * The JSON codecs generated for the shapes of the service
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+public final class JsonShapeCodecs {
+    private static final JsonShapeCodecRegistry REGISTRY = JsonShapeCodecRegistry.builder()
+        .codec(AllTypesRequest.class, AllTypesRequest.serializableBuilderClass(), AllTypesRequestJsonCodec.INSTANCE)
+        .codec(AllTypesResponse.class, AllTypesResponse.serializableBuilderClass(), AllTypesResponseJsonCodec.INSTANCE)
+        .codec(BaseType.class, BaseType.serializableBuilderClass(), BaseTypeJsonCodec.INSTANCE)
+        .codec(EventStreamOperationWithOnlyInputResponse.class, EventStreamOperationWithOnlyInputResponse.serializableBuilderClass(), EventStreamOperationWithOnlyInputResponseJsonCodec.INSTANCE)
+        .codec(NestedContainersRequest.class, NestedContainersRequest.serializableBuilderClass(), NestedContainersRequestJsonCodec.INSTANCE)
+        .codec(NestedContainersResponse.class, NestedContainersResponse.serializableBuilderClass(), NestedContainersResponseJsonCodec.INSTANCE)
+        .codec(OperationWithNoInputOrOutputRequest.class, OperationWithNoInputOrOutputRequest.serializableBuilderClass(), OperationWithNoInputOrOutputRequestJsonCodec.INSTANCE)
+        .codec(OperationWithNoInputOrOutputResponse.class, OperationWithNoInputOrOutputResponse.serializableBuilderClass(), OperationWithNoInputOrOutputResponseJsonCodec.INSTANCE)
+        .codec(RecursiveStructType.class, RecursiveStructType.serializableBuilderClass(), RecursiveStructTypeJsonCodec.INSTANCE)
+        .codec(SimpleStruct.class, SimpleStruct.serializableBuilderClass(), SimpleStructJsonCodec.INSTANCE)
+        .codec(StreamingInputOperationResponse.class, StreamingInputOperationResponse.serializableBuilderClass(), StreamingInputOperationResponseJsonCodec.INSTANCE)
+        .codec(StreamingOutputOperationRequest.class, StreamingOutputOperationRequest.serializableBuilderClass(), StreamingOutputOperationRequestJsonCodec.INSTANCE)
+        .codec(StructWithNestedBlobType.class, StructWithNestedBlobType.serializableBuilderClass(), StructWithNestedBlobTypeJsonCodec.INSTANCE)
+        .codec(StructWithTimestamp.class, StructWithTimestamp.serializableBuilderClass(), StructWithTimestampJsonCodec.INSTANCE)
+        .codec(SubTypeOne.class, SubTypeOne.serializableBuilderClass(), SubTypeOneJsonCodec.INSTANCE)
+        .build();
+
+    private JsonShapeCodecs() {
+    }
+
+    public static JsonShapeCodecRegistry registry() {
+        return REGISTRY;
+    }
+}
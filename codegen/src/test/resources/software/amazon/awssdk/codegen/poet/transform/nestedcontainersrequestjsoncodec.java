@@ -0,0 +1,136 @@
+package software.amazon.awssdk.services.jsonprotocoltests.transform;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.protocols.json.JsonShapeCodec;
+import software.amazon.awssdk.protocols.json.JsonShapeReader;
+import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+import software.amazon.awssdk.services.jsonprotocoltests.model.NestedContainersRequest;
+
+/**
+ * {@link NestedContainersRequest} JSON codec
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+public final class NestedContainersRequestJsonCodec implements JsonShapeCodec<NestedContainersRequest, NestedContainersRequest.Builder> {
+    public static final NestedContainersRequestJsonCodec INSTANCE = new NestedContainersRequestJsonCodec();
+
+    private NestedContainersRequestJsonCodec() {
+    }
+
+    @Override
+    public void marshall(NestedContainersRequest pojo, StructuredJsonGenerator generator) {
+        List<List<String>> listOfListOfStrings = pojo.listOfListOfStrings();
+        if (listOfListOfStrings != null && !(listOfListOfStrings instanceof SdkAutoConstructList && listOfListOfStrings.isEmpty())) {
+            generator.writeFieldName("ListOfListOfStrings");
+            generator.writeStartArray(listOfListOfStrings.size());
+            for (List<String> listOfListOfStringsElement : listOfListOfStrings) {
+                if (listOfListOfStringsElement == null) {
+                    generator.writeNull();
+                } else {
+                    generator.writeStartArray(listOfListOfStringsElement.size());
+                    for (String listOfListOfStringsElementElement : listOfListOfStringsElement) {
+                        if (listOfListOfStringsElementElement == null) {
+                            generator.writeNull();
+                        } else {
+                            generator.writeValue(listOfListOfStringsElementElement);
+                        }
+                    }
+                    generator.writeEndArray();
+                }
+            }
+            generator.writeEndArray();
+        }
+        List<List<List<String>>> listOfListOfListOfStrings = pojo.listOfListOfListOfStrings();
+        if (listOfListOfListOfStrings != null && !(listOfListOfListOfStrings instanceof SdkAutoConstructList && listOfListOfListOfStrings.isEmpty())) {
+            generator.writeFieldName("ListOfListOfListOfStrings");
+            generator.writeStartArray(listOfListOfListOfStrings.size());
+            for (List<List<String>> listOfListOfListOfStringsElement : listOfListOfListOfStrings) {
+                if (listOfListOfListOfStringsElement == null) {
+                    generator.writeNull();
+                } else {
+                    generator.writeStartArray(listOfListOfListOfStringsElement.size());
+                    for (List<String> listOfListOfListOfStringsElementElement : listOfListOfListOfStringsElement) {
+                        if (listOfListOfListOfStringsElementElement == null) {
+                            generator.writeNull();
+                        } else {
+                            generator.writeStartArray(listOfListOfListOfStringsElementElement.size());
+                            for (String listOfListOfListOfStringsElementElementElement : listOfListOfListOfStringsElementElement) {
+                                if (listOfListOfListOfStringsElementElementElement == null) {
+                                    generator.writeNull();
+                                } else {
+                                    generator.writeValue(listOfListOfListOfStringsElementElementElement);
+                                }
+                            }
+                            generator.writeEndArray();
+                        }
+                    }
+                    generator.writeEndArray();
+                }
+            }
+            generator.writeEndArray();
+        }
+        Map<String, List<List<String>>> mapOfStringToListOfListOfStrings = pojo.mapOfStringToListOfListOfStrings();
+        if (mapOfStringToListOfListOfStrings != null && !(mapOfStringToListOfListOfStrings instanceof SdkAutoConstructMap && mapOfStringToListOfListOfStrings.isEmpty())) {
+            generator.writeFieldName("MapOfStringToListOfListOfStrings");
+            generator.writeStartObject();
+            for (Map.Entry<String, List<List<String>>> mapOfStringToListOfListOfStringsEntry : mapOfStringToListOfListOfStrings.entrySet()) {
+                List<List<String>> mapOfStringToListOfListOfStringsValue = mapOfStringToListOfListOfStringsEntry.getValue();
+                if (mapOfStringToListOfListOfStringsValue != null) {
+                    generator.writeFieldName(mapOfStringToListOfListOfStringsEntry.getKey());
+                    generator.writeStartArray(mapOfStringToListOfListOfStringsValue.size());
+                    for (List<String> mapOfStringToListOfListOfStringsValueElement : mapOfStringToListOfListOfStringsValue) {
+                        if (mapOfStringToListOfListOfStringsValueElement == null) {
+                            generator.writeNull();
+                        } else {
+                            generator.writeStartArray(mapOfStringToListOfListOfStringsValueElement.size());
+                            for (String mapOfStringToListOfListOfStringsValueElementElement : mapOfStringToListOfListOfStringsValueElement) {
+                                if (mapOfStringToListOfListOfStringsValueElementElement == null) {
+                                    generator.writeNull();
+                                } else {
+                                    generator.writeValue(mapOfStringToListOfListOfStringsValueElementElement);
+                                }
+                            }
+                            generator.writeEndArray();
+                        }
+                    }
+                    generator.writeEndArray();
+                }
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    @Override
+    public NestedContainersRequest.Builder newBuilder() {
+        return NestedContainersRequest.builder();
+    }
+
+    @Override
+    public boolean unmarshallMember(NestedContainersRequest.Builder builder, String fieldName,
+            JsonShapeReader reader) throws IOException {
+        switch (fieldName) {
+            case "ListOfListOfStrings":
+                builder.listOfListOfStrings(reader.readList(reader1 -> reader1.readList(JsonShapeReader::readString)));
+                return true;
+            case "ListOfListOfListOfStrings":
+                builder.listOfListOfListOfStrings(reader.readList(reader1 -> reader1.readList(reader2 -> reader2.readList(JsonShapeReader::readString))));
+                return true;
+            case "MapOfStringToListOfListOfStrings":
+                builder.mapOfStringToListOfListOfStrings(reader.readMap(reader1 -> reader1.readList(reader2 -> reader2.readList(JsonShapeReader::readString))));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public NestedContainersRequest build(NestedContainersRequest.Builder builder) {
+        return builder.build();
+    }
+}
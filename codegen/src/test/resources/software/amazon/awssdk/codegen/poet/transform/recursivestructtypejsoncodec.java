@@ -0,0 +1,102 @@
+package software.amazon.awssdk.services.jsonprotocoltests.transform;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.protocols.json.JsonShapeCodec;
+import software.amazon.awssdk.protocols.json.JsonShapeReader;
+import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+import software.amazon.awssdk.services.jsonprotocoltests.model.RecursiveStructType;
+
+/**
+ * {@link RecursiveStructType} JSON codec
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+public final class RecursiveStructTypeJsonCodec implements JsonShapeCodec<RecursiveStructType, RecursiveStructType.Builder> {
+    public static final RecursiveStructTypeJsonCodec INSTANCE = new RecursiveStructTypeJsonCodec();
+
+    private RecursiveStructTypeJsonCodec() {
+    }
+
+    @Override
+    public void marshall(RecursiveStructType pojo, StructuredJsonGenerator generator) {
+        String noRecurse = pojo.noRecurse();
+        if (noRecurse != null) {
+            generator.writeFieldName("NoRecurse");
+            generator.writeValue(noRecurse);
+        }
+        RecursiveStructType recursiveStruct = pojo.recursiveStruct();
+        if (recursiveStruct != null) {
+            generator.writeFieldName("RecursiveStruct");
+            generator.writeStartObject();
+            RecursiveStructTypeJsonCodec.INSTANCE.marshall(recursiveStruct, generator);
+            generator.writeEndObject();
+        }
+        List<RecursiveStructType> recursiveList = pojo.recursiveList();
+        if (recursiveList != null && !(recursiveList instanceof SdkAutoConstructList && recursiveList.isEmpty())) {
+            generator.writeFieldName("RecursiveList");
+            generator.writeStartArray(recursiveList.size());
+            for (RecursiveStructType recursiveListElement : recursiveList) {
+                if (recursiveListElement == null) {
+                    generator.writeNull();
+                } else {
+                    generator.writeStartObject();
+                    RecursiveStructTypeJsonCodec.INSTANCE.marshall(recursiveListElement, generator);
+                    generator.writeEndObject();
+                }
+            }
+            generator.writeEndArray();
+        }
+        Map<String, RecursiveStructType> recursiveMap = pojo.recursiveMap();
+        if (recursiveMap != null && !(recursiveMap instanceof SdkAutoConstructMap && recursiveMap.isEmpty())) {
+            generator.writeFieldName("RecursiveMap");
+            generator.writeStartObject();
+            for (Map.Entry<String, RecursiveStructType> recursiveMapEntry : recursiveMap.entrySet()) {
+                RecursiveStructType recursiveMapValue = recursiveMapEntry.getValue();
+                if (recursiveMapValue != null) {
+                    generator.writeFieldName(recursiveMapEntry.getKey());
+                    generator.writeStartObject();
+                    RecursiveStructTypeJsonCodec.INSTANCE.marshall(recursiveMapValue, generator);
+                    generator.writeEndObject();
+                }
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    @Override
+    public RecursiveStructType.Builder newBuilder() {
+        return RecursiveStructType.builder();
+    }
+
+    @Override
+    public boolean unmarshallMember(RecursiveStructType.Builder builder, String fieldName,
+            JsonShapeReader reader) throws IOException {
+        switch (fieldName) {
+            case "NoRecurse":
+                builder.noRecurse(reader.readString());
+                return true;
+            case "RecursiveStruct":
+                builder.recursiveStruct(reader.readStructure(RecursiveStructTypeJsonCodec.INSTANCE));
+                return true;
+            case "RecursiveList":
+                builder.recursiveList(reader.readList(reader1 -> reader1.readStructure(RecursiveStructTypeJsonCodec.INSTANCE)));
+                return true;
+            case "RecursiveMap":
+                builder.recursiveMap(reader.readMap(reader1 -> reader1.readStructure(RecursiveStructTypeJsonCodec.INSTANCE)));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public RecursiveStructType build(RecursiveStructType.Builder builder) {
+        return builder.build();
+    }
+}
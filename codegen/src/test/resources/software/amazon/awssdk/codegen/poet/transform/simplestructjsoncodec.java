@@ -0,0 +1,52 @@
+package software.amazon.awssdk.services.jsonprotocoltests.transform;
+
+import java.io.IOException;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.protocols.json.JsonShapeCodec;
+import software.amazon.awssdk.protocols.json.JsonShapeReader;
+import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+import software.amazon.awssdk.services.jsonprotocoltests.model.SimpleStruct;
+
+/**
+ * {@link SimpleStruct} JSON codec
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+public final class SimpleStructJsonCodec implements JsonShapeCodec<SimpleStruct, SimpleStruct.Builder> {
+    public static final SimpleStructJsonCodec INSTANCE = new SimpleStructJsonCodec();
+
+    private SimpleStructJsonCodec() {
+    }
+
+    @Override
+    public void marshall(SimpleStruct pojo, StructuredJsonGenerator generator) {
+        String stringMember = pojo.stringMember();
+        if (stringMember != null) {
+            generator.writeFieldName("StringMember");
+            generator.writeValue(stringMember);
+        }
+    }
+
+    @Override
+    public SimpleStruct.Builder newBuilder() {
+        return SimpleStruct.builder();
+    }
+
+    @Override
+    public boolean unmarshallMember(SimpleStruct.Builder builder, String fieldName,
+            JsonShapeReader reader) throws IOException {
+        switch (fieldName) {
+            case "StringMember":
+                builder.stringMember(reader.readString());
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public SimpleStruct build(SimpleStruct.Builder builder) {
+        return builder.build();
+    }
+}
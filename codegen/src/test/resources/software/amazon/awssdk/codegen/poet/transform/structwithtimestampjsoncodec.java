@@ -0,0 +1,81 @@
+package software.amazon.awssdk.services.jsonprotocoltests.transform;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.protocols.json.JsonShapeCodec;
+import software.amazon.awssdk.protocols.json.JsonShapeReader;
+import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+import software.amazon.awssdk.services.jsonprotocoltests.model.StructWithTimestamp;
+import software.amazon.awssdk.utils.DateUtils;
+
+/**
+ * {@link StructWithTimestamp} JSON codec
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+public final class StructWithTimestampJsonCodec implements JsonShapeCodec<StructWithTimestamp, StructWithTimestamp.Builder> {
+    public static final StructWithTimestampJsonCodec INSTANCE = new StructWithTimestampJsonCodec();
+
+    private StructWithTimestampJsonCodec() {
+    }
+
+    @Override
+    public void marshall(StructWithTimestamp pojo, StructuredJsonGenerator generator) {
+        Instant nestedTimestamp = pojo.nestedTimestamp();
+        if (nestedTimestamp != null) {
+            generator.writeFieldName("NestedTimestamp");
+            generator.writeValue(nestedTimestamp);
+        }
+        Instant iso8601Timestamp = pojo.iso8601Timestamp();
+        if (iso8601Timestamp != null) {
+            generator.writeFieldName("Iso8601Timestamp");
+            generator.writeValue(DateUtils.formatIso8601Date(iso8601Timestamp));
+        }
+        List<Instant> unixTimestamps = pojo.unixTimestamps();
+        if (unixTimestamps != null && !(unixTimestamps instanceof SdkAutoConstructList && unixTimestamps.isEmpty())) {
+            generator.writeFieldName("UnixTimestamps");
+            generator.writeStartArray(unixTimestamps.size());
+            for (Instant unixTimestampsElement : unixTimestamps) {
+                if (unixTimestampsElement == null) {
+                    generator.writeNull();
+                } else {
+                    generator.writeValue(unixTimestampsElement);
+                }
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    @Override
+    public StructWithTimestamp.Builder newBuilder() {
+        return StructWithTimestamp.builder();
+    }
+
+    @Override
+    public boolean unmarshallMember(StructWithTimestamp.Builder builder, String fieldName,
+            JsonShapeReader reader) throws IOException {
+        switch (fieldName) {
+            case "NestedTimestamp":
+                builder.nestedTimestamp(reader.readInstant());
+                return true;
+            case "Iso8601Timestamp":
+                builder.iso8601Timestamp(reader.readInstant(TimestampFormatTrait.Format.ISO_8601));
+                return true;
+            case "UnixTimestamps":
+                builder.unixTimestamps(reader.readList(reader1 -> reader1.readInstant(TimestampFormatTrait.Format.UNIX_TIMESTAMP)));
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public StructWithTimestamp build(StructWithTimestamp.Builder builder) {
+        return builder.build();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.awscore.eventstream;
+
+import static java.util.Collections.singletonList;
+import static software.amazon.awssdk.core.http.HttpResponseHandler.X_AMZN_REQUEST_ID_HEADER;
+import static software.amazon.awssdk.core.http.HttpResponseHandler.X_AMZ_ID_2_HEADER;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+import software.amazon.eventstream.HeaderValue;
+
+/**
+ * A {@link SdkHttpFullResponse} view of an event message, used to unmarshall the event with the response handlers of the
+ * protocol.
+ * <p>
+ * Unlike a response built with {@link SdkHttpFullResponse#builder()}, the headers of the message are not copied: headers are
+ * looked up in the message directly, and the HTTP header map is only created if {@link #headers()} is called.
+ */
+@SdkInternalApi
+final class EventMessageResponse implements SdkHttpFullResponse {
+    private static final long serialVersionUID = 1;
+
+    private final transient Map<String, HeaderValue> messageHeaders;
+    private final String requestId;
+    private final String extendedRequestId;
+    private final transient AbortableInputStream content;
+    private transient Map<String, List<String>> headers;
+
+    EventMessageResponse(Map<String, HeaderValue> messageHeaders,
+                         String requestId,
+                         String extendedRequestId,
+                         AbortableInputStream content) {
+        this.messageHeaders = messageHeaders;
+        this.requestId = requestId;
+        this.extendedRequestId = extendedRequestId;
+        this.content = content;
+    }
+
+    @Override
+    public Optional<String> firstMatchingHeader(String header) {
+        HeaderValue value = messageHeaders.get(header);
+        if (value != null) {
+            return Optional.of(value.getString());
+        }
+        return SdkHttpUtils.firstMatchingHeader(headers(), header);
+    }
+
+    @Override
+    public List<String> matchingHeaders(String header) {
+        HeaderValue value = messageHeaders.get(header);
+        if (value != null) {
+            return singletonList(value.getString());
+        }
+        return SdkHttpFullResponse.super.matchingHeaders(header);
+    }
+
+    @Override
+    public Map<String, List<String>> headers() {
+        if (headers == null) {
+            Map<String, List<String>> result = new HashMap<>();
+            messageHeaders.forEach((name, value) -> result.put(name, singletonList(value.getString())));
+            if (requestId != null) {
+                result.put(X_AMZN_REQUEST_ID_HEADER, singletonList(requestId));
+            }
+            if (extendedRequestId != null) {
+                result.put(X_AMZ_ID_2_HEADER, singletonList(extendedRequestId));
+            }
+            headers = result;
+        }
+        return headers;
+    }
+
+    @Override
+    public Optional<String> statusText() {
+        return Optional.empty();
+    }
+
+    @Override
+    public int statusCode() {
+        return 200;
+    }
+
+    @Override
+    public Optional<AbortableInputStream> content() {
+        return Optional.ofNullable(content);
+    }
+
+    @Override
+    public SdkHttpFullResponse.Builder toBuilder() {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(statusCode())
+                                  .headers(headers())
+                                  .content(content);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("EventMessageResponse")
+                       .add("headers", headers().keySet())
+                       .build();
+    }
+}
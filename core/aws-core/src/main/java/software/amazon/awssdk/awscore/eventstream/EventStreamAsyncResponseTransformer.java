@@ -27,6 +27,7 @@ import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -37,6 +38,7 @@ import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.http.HttpResponseBodyParser;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
@@ -218,9 +220,10 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
 
     private Iterable<EventT> transformMessage(Message message) {
         try {
-            if (isEvent(message)) {
+            String messageType = message.getHeaders().get(":message-type").getString();
+            if ("event".equals(messageType)) {
                 return transformEventMessage(message);
-            } else if (isError(message) || isException(message)) {
+            } else if ("error".equals(messageType) || "exception".equals(messageType)) {
                 throw transformErrorMessage(message);
             } else {
                 log.debug(() -> getLogPrefix() + "Decoded a message of an unknown type, it will be dropped: " + message);
@@ -234,19 +237,40 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
     }
 
     private Iterable<EventT> transformEventMessage(Message message) throws Exception {
-        SdkHttpFullResponse response = adaptMessageToResponse(message, false);
         if (message.getHeaders().get(":event-type").getString().equals("initial-response")) {
+            SdkHttpFullResponse response = adaptMessageToResponse(message, false);
             ResponseT initialResponse = initialResponseHandler.handle(response, attributesFactory.get());
             eventStreamResponseHandler.responseReceived(initialResponse);
             log.debug(() -> getLogPrefix() + "Decoded initial response: " + initialResponse);
             return emptyList();
         }
 
-        EventT event = eventResponseHandler.handle(response, attributesFactory.get());
+        EventT event = unmarshallEvent(eventResponseHandler, message);
         log.debug(() -> getLogPrefix() + "Decoded event: " + event);
         return singleton(event);
     }
 
+    /**
+     * Unmarshalls an event without adapting the message to a full HTTP response. The headers of the message are read in place,
+     * and if the handler can parse the payload as it is received, the payload is passed to its parser as a buffer instead of
+     * as a stream.
+     */
+    private <T> T unmarshallEvent(HttpResponseHandler<T> handler, Message message) throws Exception {
+        ExecutionAttributes executionAttributes = attributesFactory.get();
+        Optional<HttpResponseBodyParser<T>> bodyParser =
+            handler.bodyParser(new EventMessageResponse(message.getHeaders(), requestId, extendedRequestId, null),
+                               executionAttributes);
+        if (bodyParser.isPresent()) {
+            HttpResponseBodyParser<T> parser = bodyParser.get();
+            parser.feed(ByteBuffer.wrap(message.getPayload()));
+            return parser.complete();
+        }
+
+        AbortableInputStream content = AbortableInputStream.create(new ByteArrayInputStream(message.getPayload()));
+        return handler.handle(new EventMessageResponse(message.getHeaders(), requestId, extendedRequestId, content),
+                              executionAttributes);
+    }
+
     private Throwable transformErrorMessage(Message message) throws Exception {
         SdkHttpFullResponse errorResponse = adaptMessageToResponse(message, true);
         Throwable exception = exceptionResponseHandler.handle(errorResponse, attributesFactory.get());
@@ -301,30 +325,6 @@ public final class EventStreamAsyncResponseTransformer<ResponseT, EventT>
         return builder.build();
     }
 
-    /**
-     * @param m Message frame.
-     * @return True if frame is an event frame, false if not.
-     */
-    private boolean isEvent(Message m) {
-        return "event".equals(m.getHeaders().get(":message-type").getString());
-    }
-
-    /**
-     * @param m Message frame.
-     * @return True if frame is an error frame, false if not.
-     */
-    private boolean isError(Message m) {
-        return "error".equals(m.getHeaders().get(":message-type").getString());
-    }
-
-    /**
-     * @param m Message frame.
-     * @return True if frame is an exception frame, false if not.
-     */
-    private boolean isException(Message m) {
-        return "exception".equals(m.getHeaders().get(":message-type").getString());
-    }
-
     /**
      * Builder for {@link EventStreamAsyncResponseTransformer}.
      *
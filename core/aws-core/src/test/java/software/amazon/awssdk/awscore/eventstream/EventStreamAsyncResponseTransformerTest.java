@@ -20,8 +20,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.reactivex.Flowable;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CountDownLatch;
@@ -37,7 +41,12 @@ import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.http.HttpResponseBodyParser;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.utils.ImmutableMap;
+import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.eventstream.HeaderValue;
 import software.amazon.eventstream.Message;
 
@@ -147,6 +156,53 @@ public class EventStreamAsyncResponseTransformerTest {
             .hasValue(2);
     }
 
+    @Test
+    public void eventHandlerWithBodyParser_parsesPayloadFromBuffer() {
+        AtomicBoolean handleCalled = new AtomicBoolean(false);
+        HttpResponseHandler<Object> eventResponseHandler = new HttpResponseHandler<Object>() {
+            @Override
+            public Object handle(SdkHttpFullResponse response, ExecutionAttributes executionAttributes) {
+                handleCalled.set(true);
+                return null;
+            }
+
+            @Override
+            public Optional<HttpResponseBodyParser<Object>> bodyParser(SdkHttpFullResponse response,
+                                                                       ExecutionAttributes executionAttributes) {
+                String eventType = response.firstMatchingHeader(":event-type").orElse(null);
+                StringBuilder payload = new StringBuilder();
+                return Optional.of(new HttpResponseBodyParser<Object>() {
+                    @Override
+                    public void feed(ByteBuffer part) {
+                        payload.append(StandardCharsets.UTF_8.decode(part));
+                    }
+
+                    @Override
+                    public Object complete() {
+                        return eventType + ":" + payload;
+                    }
+                });
+            }
+        };
+
+        List<Object> events = transformEvents(eventResponseHandler, eventMessage("foo", "helloworld"),
+                                              eventMessage("bar", "goodbye"));
+
+        assertThat(events).containsExactly("foo:helloworld", "bar:goodbye");
+        assertThat(handleCalled).isFalse();
+    }
+
+    @Test
+    public void eventHandlerWithoutBodyParser_handlesPayloadAsContent() {
+        HttpResponseHandler<Object> eventResponseHandler =
+            (response, executionAttributes) -> response.firstMatchingHeader(":event-type").orElse(null) + ":" +
+                                               IoUtils.toUtf8String(response.content().get());
+
+        List<Object> events = transformEvents(eventResponseHandler, eventMessage("foo", "helloworld"));
+
+        assertThat(events).containsExactly("foo:helloworld");
+    }
+
     @Test
     public void unknownExceptionEventsThrowException() {
         Map<String, HeaderValue> headers = new HashMap<>();
@@ -321,6 +377,27 @@ public class EventStreamAsyncResponseTransformerTest {
                 .hasValue(0);
     }
 
+    private static Message eventMessage(String eventType, String payload) {
+        return new Message(ImmutableMap.of(":message-type", HeaderValue.fromString("event"),
+                                           ":event-type", HeaderValue.fromString(eventType)),
+                           payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<Object> transformEvents(HttpResponseHandler<Object> eventResponseHandler, Message... messages) {
+        List<Object> events = new ArrayList<>();
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        AsyncResponseTransformer<SdkResponse, Void> transformer =
+            EventStreamAsyncResponseTransformer.builder()
+                                               .eventStreamResponseHandler(onEventStream(p -> p.subscribe(events::add)))
+                                               .eventResponseHandler(eventResponseHandler)
+                                               .future(future)
+                                               .build();
+        transformer.prepare();
+        transformer.onStream(SdkPublisher.adapt(Flowable.fromArray(messages).map(Message::toByteBuffer)));
+        future.join();
+        return events;
+    }
+
     private void verifyExceptionThrown(Map<String, HeaderValue> headers) {
         SdkServiceException exception = SdkServiceException.builder().build();
 
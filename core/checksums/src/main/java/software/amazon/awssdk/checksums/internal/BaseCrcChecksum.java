@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.checksums.internal;
 
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.checksums.SdkChecksum;
@@ -51,6 +53,16 @@ public abstract class BaseCrcChecksum implements SdkChecksum {
         checksum.update(b, off, len);
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        if (checksum instanceof CRC32) {
+            // Reads direct and mapped buffers in place instead of copying them to an array first.
+            ((CRC32) checksum).update(buffer);
+        } else {
+            SdkChecksum.super.update(buffer);
+        }
+    }
+
     @Override
     public long getValue() {
         return checksum.getValue();
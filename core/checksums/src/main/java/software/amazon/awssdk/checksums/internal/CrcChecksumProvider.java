@@ -29,7 +29,11 @@ import software.amazon.awssdk.checksums.SdkChecksum;
  *     <li>SDK-based CRC32C (fallback)</li>
  * </ul>
  *
- * <p>Only supports CRT-based implementation for CRC64NVME (using AWS CRT library).</p>
+ * <p>Supports the following implementations for CRC64NVME:</p>
+ * <ul>
+ *     <li>CRT-based CRC64NVME (using AWS CRT library)</li>
+ *     <li>SDK-based CRC64NVME (fallback)</li>
+ * </ul>
  *
  * <p>For internal use only ({@link SdkInternalApi}).</p>
  */
@@ -42,7 +46,6 @@ public final class CrcChecksumProvider {
     private static final String JAVA_CRC32C_CLASS_PATH = "java.util.zip.CRC32C";
     private static final ConstructorCache CONSTRUCTOR_CACHE = new ConstructorCache();
     private static final String CRT_CRC64NVME_PATH = "software.amazon.awssdk.crt.checksums.CRC64NVME";
-    private static final String CRT_MODULE = "software.amazon.awssdk.crt:aws-crt";
 
     // Private constructor to prevent instantiation
     private CrcChecksumProvider() {
@@ -85,27 +88,34 @@ public final class CrcChecksumProvider {
     }
 
     /**
-     * Creates an instance of the CRT-based CRC64NVME checksum using AWS's CRT library.
-     * <p>
-     * Attempts to load the `CRC64NVME` implementation specified by `CRT_CRC64NVME_PATH` and, if successful,
-     * wraps it in {@link CrcCloneOnMarkChecksum}. Throws a {@link RuntimeException} if `CRC64NVME` is unavailable.
-     * </p>
+     * Creates an instance of the SDK-based CRC64NVME checksum as a fallback.
      *
-     * @return An {@link SdkChecksum} instance for CRC64NVME.
-     * @throws IllegalStateException if instantiation fails.
-     * @throws RuntimeException if the `CRC64NVME` implementation is not available.
+     * @return An SdkChecksum instance.
      */
-    static SdkChecksum crc64NvmeCrtImplementation() {
+    static SdkChecksum createSdkBasedCrc64Nvme() {
+        return new CrcCombineOnMarkChecksum(SdkCrc64NvmeChecksum.create(), SdkCrc64NvmeChecksum::combine);
+    }
+
+    /**
+     * Tries to create a CRT-based CRC64NVME checksum.
+     * If it's not available, it falls back to an SDK-based CRC64NVME checksum.
+     *
+     * @return An instance of {@link SdkChecksum}, based on the first available option.
+     */
+    public static SdkChecksum crc64NvmeImplementation() {
+        SdkChecksum checksum = createCrtCrc64Nvme();
+        return checksum != null ? checksum : createSdkBasedCrc64Nvme();
+    }
+
+    static SdkChecksum createCrtCrc64Nvme() {
         return CONSTRUCTOR_CACHE.getConstructor(CRT_CRC64NVME_PATH).map(constructor -> {
             try {
                 Checksum checksumInstance = (Checksum) constructor.newInstance();
                 return new CrcCloneOnMarkChecksum(checksumInstance);
             } catch (ReflectiveOperationException e) {
-                throw new IllegalStateException("Failed to instantiate " + CRT_CRC32C_CLASS_PATH, e);
+                throw new IllegalStateException("Failed to instantiate " + CRT_CRC64NVME_PATH, e);
             }
-        }).orElseThrow(() -> new RuntimeException(
-            "Could not load " + CRT_CRC64NVME_PATH + ". Add dependency on '" + CRT_MODULE
-            + "' module to enable CRC64NVME feature."));
+        }).orElse(null);
     }
 
     static SdkChecksum createJavaCrc32C() {
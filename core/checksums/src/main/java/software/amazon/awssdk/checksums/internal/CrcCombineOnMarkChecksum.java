@@ -17,7 +17,9 @@ package software.amazon.awssdk.checksums.internal;
 
 import static software.amazon.awssdk.utils.NumericUtils.longToByte;
 
+import java.nio.ByteBuffer;
 import java.util.function.BiFunction;
+import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.checksums.SdkChecksum;
@@ -79,6 +81,18 @@ public class CrcCombineOnMarkChecksum implements SdkChecksum {
         dataLengthForChecksum += len;
     }
 
+    @Override
+    public void update(ByteBuffer buffer) {
+        if (crc instanceof CRC32) {
+            // Reads direct and mapped buffers in place instead of copying them to an array first.
+            int length = buffer.remaining();
+            ((CRC32) crc).update(buffer);
+            dataLengthForChecksum += length;
+        } else {
+            SdkChecksum.super.update(buffer);
+        }
+    }
+
     @Override
     public long getValue() {
         if (canRestoreMarkedState()) {
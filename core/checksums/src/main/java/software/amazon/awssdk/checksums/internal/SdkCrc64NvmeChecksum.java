@@ -0,0 +1,155 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import java.util.zip.Checksum;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A pure Java implementation of the CRC64NVME checksum, used when the AWS CRT library is not on the classpath.
+ * <p>
+ * The checksum is computed with the slicing-by-16 algorithm: sixteen lookup tables of 256 entries, where table {@code k}
+ * holds the CRC of a byte followed by {@code k} zero bytes, let the checksum consume 16 bytes per iteration with independent
+ * table lookups instead of one byte at a time.
+ */
+@SdkInternalApi
+public final class SdkCrc64NvmeChecksum implements Checksum, Cloneable {
+
+    /**
+     * The CRC64NVME polynomial 0xAD93D23594C93659, bit-reflected.
+     */
+    private static final long POLYNOMIAL = 0x9A6C9329AC4BC9B5L;
+
+    private static final int SLICES = 16;
+
+    private static final long[][] TABLES = generateTables();
+
+    private static final long[][] COMBINE_MATRICES =
+        CrcCombineChecksumUtil.generateCombineMatrices(POLYNOMIAL, CrcCombineChecksumUtil.CRC64_SIZE);
+
+    /**
+     * the current CRC value, bit-flipped
+     */
+    private long crc;
+
+    private SdkCrc64NvmeChecksum() {
+        reset();
+    }
+
+    private SdkCrc64NvmeChecksum(long crc) {
+        this.crc = crc;
+    }
+
+    public static SdkCrc64NvmeChecksum create() {
+        return new SdkCrc64NvmeChecksum();
+    }
+
+    /**
+     * Combines the CRCs of two parts. Please refer {@link CrcCombineChecksumUtil#combine(long, long, long, long[][])}
+     *
+     * @param crc1 The CRC of the first part.
+     * @param crc2 The CRC of the second part.
+     * @param originalLengthOfCrc2 The length of the second part's CRC before combining.
+     * @return The combined CRC.
+     */
+    public static long combine(long crc1, long crc2, long originalLengthOfCrc2) {
+        return CrcCombineChecksumUtil.combine(crc1, crc2, originalLengthOfCrc2, COMBINE_MATRICES);
+    }
+
+    @Override
+    public long getValue() {
+        return ~crc;
+    }
+
+    @Override
+    public void reset() {
+        crc = 0xFFFFFFFFFFFFFFFFL;
+    }
+
+    @Override
+    public void update(byte[] b, int off, int len) {
+        long[] t0 = TABLES[0];
+        long localCrc = crc;
+
+        while (len >= SLICES) {
+            long low = localCrc ^ readLongLittleEndian(b, off);
+            localCrc = TABLES[15][(int) (low & 0xff)]
+                       ^ TABLES[14][(int) ((low >>> 8) & 0xff)]
+                       ^ TABLES[13][(int) ((low >>> 16) & 0xff)]
+                       ^ TABLES[12][(int) ((low >>> 24) & 0xff)]
+                       ^ TABLES[11][(int) ((low >>> 32) & 0xff)]
+                       ^ TABLES[10][(int) ((low >>> 40) & 0xff)]
+                       ^ TABLES[9][(int) ((low >>> 48) & 0xff)]
+                       ^ TABLES[8][(int) (low >>> 56)]
+                       ^ TABLES[7][b[off + 8] & 0xff]
+                       ^ TABLES[6][b[off + 9] & 0xff]
+                       ^ TABLES[5][b[off + 10] & 0xff]
+                       ^ TABLES[4][b[off + 11] & 0xff]
+                       ^ TABLES[3][b[off + 12] & 0xff]
+                       ^ TABLES[2][b[off + 13] & 0xff]
+                       ^ TABLES[1][b[off + 14] & 0xff]
+                       ^ t0[b[off + 15] & 0xff];
+            off += SLICES;
+            len -= SLICES;
+        }
+
+        for (int index = 0; index < len; index++) {
+            localCrc = (localCrc >>> 8) ^ t0[(int) ((localCrc ^ b[off]) & 0xff)];
+            off++;
+        }
+
+        crc = localCrc;
+    }
+
+    @Override
+    public void update(int b) {
+        crc = (crc >>> 8) ^ TABLES[0][(int) ((crc ^ b) & 0xff)];
+    }
+
+    @Override
+    public SdkCrc64NvmeChecksum clone() {
+        return new SdkCrc64NvmeChecksum(crc);
+    }
+
+    private static long readLongLittleEndian(byte[] b, int off) {
+        return (b[off] & 0xffL)
+               | (b[off + 1] & 0xffL) << 8
+               | (b[off + 2] & 0xffL) << 16
+               | (b[off + 3] & 0xffL) << 24
+               | (b[off + 4] & 0xffL) << 32
+               | (b[off + 5] & 0xffL) << 40
+               | (b[off + 6] & 0xffL) << 48
+               | (b[off + 7] & 0xffL) << 56;
+    }
+
+    private static long[][] generateTables() {
+        long[][] tables = new long[SLICES][256];
+        for (int n = 0; n < 256; n++) {
+            long value = n;
+            for (int bit = 0; bit < 8; bit++) {
+                value = (value & 1) != 0 ? (value >>> 1) ^ POLYNOMIAL : value >>> 1;
+            }
+            tables[0][n] = value;
+        }
+        for (int k = 1; k < SLICES; k++) {
+            for (int n = 0; n < 256; n++) {
+                long previous = tables[k - 1][n];
+                tables[k][n] = (previous >>> 8) ^ tables[0][(int) (previous & 0xff)];
+            }
+        }
+        return tables;
+    }
+}
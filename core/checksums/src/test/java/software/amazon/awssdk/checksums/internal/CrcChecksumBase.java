@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.UnsupportedEncodingException;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -106,6 +107,28 @@ abstract class CrcChecksumBase {
         assertEquals(expectedChecksum, toBase64);
     }
 
+    @ParameterizedTest
+    @MethodSource("provideValidateMarkAndResetForCrc")
+    void validateMarkAndResetWithDirectBuffersForCrc(String expectedChecksum) {
+        sdkChecksum.update(directBuffer("ab"));
+        sdkChecksum.mark(3);
+        sdkChecksum.update(directBuffer("xyz"));
+        sdkChecksum.reset();
+        ByteBuffer last = directBuffer("c");
+        sdkChecksum.update(last);
+        assertEquals(0, last.remaining());
+        String toBase64 = BinaryUtils.toBase64(sdkChecksum.getChecksumBytes());
+        assertEquals(expectedChecksum, toBase64);
+    }
+
+    private static ByteBuffer directBuffer(String data) {
+        byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+        return buffer;
+    }
+
     private String getAsString(byte[] checksumBytes) {
         return String.format("%040x", new BigInteger(1, checksumBytes));
     }
@@ -18,6 +18,7 @@ package software.amazon.awssdk.checksums.internal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.util.ArrayList;
@@ -74,6 +75,19 @@ class DigestAlgorithmTest {
         assertThat(BinaryUtils.toBase64(sha256Hash)).isEqualTo("3/1gIbsr1bCvZ2KQgJ7DpTGR3YHH9wpLKGiKNiGCmG8=");
     }
 
+    @Test
+    void digestAlgorithmChecksum_directBuffer_matchesByteArray() {
+        byte[] data = "Hello, World!".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(data.length);
+        buffer.put(data);
+        buffer.flip();
+
+        DigestAlgorithmChecksum checksum = new DigestAlgorithmChecksum(DigestAlgorithm.SHA256);
+        checksum.update(buffer.asReadOnlyBuffer());
+
+        assertThat(BinaryUtils.toBase64(checksum.getChecksumBytes())).isEqualTo("3/1gIbsr1bCvZ2KQgJ7DpTGR3YHH9wpLKGiKNiGCmG8=");
+    }
+
     @Test
     void closedDigests_areClearedAndReused() {
         CloseableMessageDigest digest1 = DigestAlgorithm.SHA1.getDigest();
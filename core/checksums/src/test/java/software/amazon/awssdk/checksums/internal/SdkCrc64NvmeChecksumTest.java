@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.checksums.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Checksum;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.crt.checksums.CRC64NVME;
+
+/**
+ * Runs the {@link Crc64NvmeChecksumTest} cases against the SDK-based implementation, and compares it with the CRT-based one.
+ */
+class SdkCrc64NvmeChecksumTest extends Crc64NvmeChecksumTest {
+
+    @Override
+    @BeforeEach
+    public void setUp() {
+        sdkChecksum = new Crc64NvmeChecksum(CrcChecksumProvider.createSdkBasedCrc64Nvme());
+    }
+
+    @Test
+    void checkValue_matchesCrc64NvmeSpecification() {
+        SdkCrc64NvmeChecksum checksum = SdkCrc64NvmeChecksum.create();
+        byte[] bytes = "123456789".getBytes(StandardCharsets.UTF_8);
+        checksum.update(bytes, 0, bytes.length);
+        assertThat(checksum.getValue()).isEqualTo(0xAE8B14860A799888L);
+    }
+
+    @Test
+    void update_anyLengthAndOffset_matchesCrtImplementation() {
+        byte[] data = randomBytes(1024);
+        for (int length = 0; length <= 100; length++) {
+            for (int offset = 0; offset < 17; offset++) {
+                SdkCrc64NvmeChecksum sdk = SdkCrc64NvmeChecksum.create();
+                Checksum crt = new CRC64NVME();
+                sdk.update(data, offset, length);
+                crt.update(data, offset, length);
+                assertThat(sdk.getValue()).as("offset %s, length %s", offset, length).isEqualTo(crt.getValue());
+            }
+        }
+    }
+
+    @Test
+    void update_singleBytes_matchesBulkUpdate() {
+        byte[] data = randomBytes(257);
+        SdkCrc64NvmeChecksum bulk = SdkCrc64NvmeChecksum.create();
+        SdkCrc64NvmeChecksum single = SdkCrc64NvmeChecksum.create();
+
+        bulk.update(data, 0, data.length);
+        for (byte b : data) {
+            single.update(b);
+        }
+
+        assertThat(single.getValue()).isEqualTo(bulk.getValue());
+    }
+
+    @Test
+    void combine_twoParts_matchesChecksumOfWholeData() {
+        byte[] data = randomBytes(8 * 1024 * 1024 + 13);
+        int split = 5 * 1024 * 1024 + 7;
+
+        SdkCrc64NvmeChecksum whole = SdkCrc64NvmeChecksum.create();
+        whole.update(data, 0, data.length);
+        SdkCrc64NvmeChecksum first = SdkCrc64NvmeChecksum.create();
+        first.update(data, 0, split);
+        SdkCrc64NvmeChecksum second = SdkCrc64NvmeChecksum.create();
+        second.update(data, split, data.length - split);
+
+        long combined = SdkCrc64NvmeChecksum.combine(first.getValue(), second.getValue(), data.length - split);
+        assertThat(combined).isEqualTo(whole.getValue());
+    }
+
+    @Test
+    void clone_continuesFromCurrentState() {
+        SdkCrc64NvmeChecksum checksum = SdkCrc64NvmeChecksum.create();
+        checksum.update("12345".getBytes(StandardCharsets.UTF_8), 0, 5);
+        SdkCrc64NvmeChecksum copy = checksum.clone();
+        copy.update("6789".getBytes(StandardCharsets.UTF_8), 0, 4);
+
+        assertThat(copy.getValue()).isEqualTo(0xAE8B14860A799888L);
+        assertThat(checksum.getValue()).isNotEqualTo(copy.getValue());
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -41,6 +41,7 @@ import software.amazon.awssdk.http.auth.spi.signer.BaseSignRequest;
 import software.amazon.awssdk.http.auth.spi.signer.SignRequest;
 import software.amazon.awssdk.http.auth.spi.signer.SignedRequest;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.Logger;
 
 /**
@@ -82,6 +83,7 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
         CredentialScope credentialScope = new CredentialScope(regionName, serviceSigningName, signingInstant);
         boolean doubleUrlEncode = request.requireProperty(DOUBLE_URL_ENCODE, true);
         boolean normalizePath = request.requireProperty(NORMALIZE_PATH, true);
+        MetricCollector metricCollector = request.property(METRIC_COLLECTOR);
 
         return V4Properties.builder()
                            .credentials(credentials)
@@ -89,6 +91,7 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
                            .signingClock(signingClock)
                            .doubleUrlEncode(doubleUrlEncode)
                            .normalizePath(normalizePath)
+                           .metricCollector(metricCollector)
                            .build();
     }
 
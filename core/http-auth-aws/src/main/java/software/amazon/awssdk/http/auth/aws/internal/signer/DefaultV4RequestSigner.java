@@ -17,7 +17,6 @@ package software.amazon.awssdk.http.auth.aws.internal.signer;
 
 import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.AWS4_SIGNING_ALGORITHM;
 import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.deriveSigningKey;
-import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.hashCanonicalRequest;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpRequest;
@@ -52,11 +51,10 @@ public final class DefaultV4RequestSigner implements V4RequestSigner {
         // Step 1: Create a canonical request
         V4CanonicalRequest canonicalRequest = createCanonicalRequest(requestBuilder.build(), contentHash);
 
-        String canonicalRequestString = canonicalRequest.getCanonicalRequestString();
-        LOG.debug(() -> "AWS4 Canonical Request: " + canonicalRequestString);
+        LOG.debug(() -> "AWS4 Canonical Request: " + canonicalRequest.getCanonicalRequestString());
 
         // Step 2: Create a hash of the canonical request
-        String canonicalRequestHash = hashCanonicalRequest(canonicalRequestString);
+        String canonicalRequestHash = canonicalRequest.getCanonicalRequestHash();
 
         // Step 2: Create a hash of the canonical request
         String stringToSign = createSignString(canonicalRequestHash);
@@ -93,7 +91,7 @@ public final class DefaultV4RequestSigner implements V4RequestSigner {
     }
 
     private byte[] createSigningKey() {
-        return deriveSigningKey(properties.getCredentials(), properties.getCredentialScope());
+        return deriveSigningKey(properties.getCredentials(), properties.getCredentialScope(), properties.getMetricCollector());
     }
 
     private String createSignature(String stringToSign, byte[] signingKey) {
@@ -31,6 +31,7 @@ import org.reactivestreams.Publisher;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.checksums.SdkChecksum;
 import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
+import software.amazon.awssdk.http.ByteBufferContentStreamProvider;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.internal.signer.io.ChecksumInputStream;
@@ -56,6 +57,13 @@ public final class FlexibleChecksummer implements Checksummer {
 
     @Override
     public void checksum(ContentStreamProvider payload, SdkHttpRequest.Builder request) {
+        if (payload instanceof ByteBufferContentStreamProvider) {
+            ByteBuffer content = ((ByteBufferContentStreamProvider) payload).byteBuffer();
+            optionToSdkChecksum.values().forEach(sdkChecksum -> sdkChecksum.update(content.duplicate()));
+            addChecksums(request);
+            return;
+        }
+
         InputStream payloadStream = getBinaryRequestPayloadStream(payload);
 
         ChecksumInputStream computingStream = new ChecksumInputStream(
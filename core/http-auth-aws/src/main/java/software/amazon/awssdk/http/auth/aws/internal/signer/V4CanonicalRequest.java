@@ -17,6 +17,8 @@ package software.amazon.awssdk.http.auth.aws.internal.signer;
 
 import static software.amazon.awssdk.utils.StringUtils.lowerCase;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -29,6 +31,7 @@ import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant;
+import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
@@ -94,6 +97,25 @@ public final class V4CanonicalRequest {
         return canonicalRequestString;
     }
 
+    /**
+     * Get the hex-encoded SHA-256 hash of the canonical request string.
+     * <p>
+     * This is equivalent to hashing {@link #getCanonicalRequestString()}, but streams the canonical request into a reusable
+     * digest instead of building the canonical query string, headers string and request string.
+     */
+    public String getCanonicalRequestHash() {
+        Sha256Writer writer = Sha256Writer.get();
+        writer.append(request.method().toString()).append(SignerConstant.LINE_SEPARATOR)
+              .append(canonicalUri()).append(SignerConstant.LINE_SEPARATOR);
+        writeCanonicalQueryString(writer, canonicalQueryParams());
+        writer.append(SignerConstant.LINE_SEPARATOR);
+        writeCanonicalHeaders(writer, canonicalHeaders());
+        writer.append(SignerConstant.LINE_SEPARATOR)
+              .append(getSignedHeadersString()).append(SignerConstant.LINE_SEPARATOR)
+              .append(contentHash);
+        return BinaryUtils.toHex(writer.digest());
+    }
+
     private SortedMap<String, List<String>> canonicalQueryParams() {
         if (canonicalParams == null) {
             canonicalParams = getCanonicalQueryParams(request);
@@ -185,19 +207,28 @@ public final class V4CanonicalRequest {
         // The minimal DynamoDB get-item request at the time of testing used ~1100 bytes. 2048 was chosen as the
         // next-highest power-of-two.
         StringBuilder result = new StringBuilder(2048);
-        canonicalHeaders.forEach(header -> {
-            result.append(header.left());
-            result.append(":");
-            for (String headerValue : header.right()) {
-                addAndTrim(result, headerValue);
-                result.append(",");
-            }
-            result.setLength(result.length() - 1);
-            result.append("\n");
-        });
+        writeCanonicalHeaders(new StringBuilderWriter(result), canonicalHeaders);
         return result.toString();
     }
 
+    private static void writeCanonicalHeaders(CanonicalWriter writer, List<Pair<String, List<String>>> canonicalHeaders) {
+        for (Pair<String, List<String>> header : canonicalHeaders) {
+            writer.append(header.left());
+            List<String> values = header.right();
+            // Like joining the values and dropping the trailing separator, a header without values only writes its name.
+            if (!values.isEmpty()) {
+                writer.append(':');
+                for (int i = 0; i < values.size(); i++) {
+                    if (i > 0) {
+                        writer.append(',');
+                    }
+                    addAndTrim(writer, values.get(i));
+                }
+            }
+            writer.append('\n');
+        }
+    }
+
     /**
      * Get the string representing which headers are part of the signing process. Header names are separated by a semicolon.
      */
@@ -248,7 +279,7 @@ public final class V4CanonicalRequest {
      * but does not create a Pattern object that needs to compile the match string; it also prevents us from having to make a
      * Matcher object as well.
      */
-    private static void addAndTrim(StringBuilder result, String value) {
+    private static void addAndTrim(CanonicalWriter result, String value) {
         if (StringUtils.isEmpty(value)) {
             return;
         }
@@ -377,6 +408,22 @@ public final class V4CanonicalRequest {
         return stringBuilder.toString();
     }
 
+    /**
+     * Write the same representation of the query string parameters as {@link #getCanonicalQueryString(SortedMap)}.
+     */
+    private static void writeCanonicalQueryString(CanonicalWriter writer, SortedMap<String, List<String>> canonicalParams) {
+        boolean first = true;
+        for (Map.Entry<String, List<String>> param : canonicalParams.entrySet()) {
+            for (String value : param.getValue()) {
+                if (!first) {
+                    writer.append('&');
+                }
+                first = false;
+                writer.append(param.getKey()).append('=').append(value);
+            }
+        }
+    }
+
     private static boolean isWhiteSpace(char ch) {
         switch (ch) {
             case ' ':
@@ -391,6 +438,125 @@ public final class V4CanonicalRequest {
         }
     }
 
+    /**
+     * The target the parts of a canonical request are written to.
+     */
+    private interface CanonicalWriter {
+        CanonicalWriter append(char c);
+
+        CanonicalWriter append(String s);
+
+        CanonicalWriter append(String s, int start, int end);
+    }
+
+    private static final class StringBuilderWriter implements CanonicalWriter {
+        private final StringBuilder builder;
+
+        private StringBuilderWriter(StringBuilder builder) {
+            this.builder = builder;
+        }
+
+        @Override
+        public CanonicalWriter append(char c) {
+            builder.append(c);
+            return this;
+        }
+
+        @Override
+        public CanonicalWriter append(String s) {
+            builder.append(s);
+            return this;
+        }
+
+        @Override
+        public CanonicalWriter append(String s, int start, int end) {
+            builder.append(s, start, end);
+            return this;
+        }
+    }
+
+    /**
+     * Encodes what is written to it as UTF-8 into a SHA-256 digest. Each thread reuses a single instance, so that hashing a
+     * canonical request does not allocate a digest, an encoding buffer or any intermediate string.
+     */
+    private static final class Sha256Writer implements CanonicalWriter {
+        private static final ThreadLocal<Sha256Writer> INSTANCE = ThreadLocal.withInitial(Sha256Writer::new);
+
+        private final MessageDigest digest;
+        private final byte[] buffer = new byte[1024];
+        private int position;
+
+        private Sha256Writer() {
+            try {
+                this.digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException("Unable to fetch MessageDigest instance for Algorithm SHA-256: " + e.getMessage());
+            }
+        }
+
+        private static Sha256Writer get() {
+            Sha256Writer writer = INSTANCE.get();
+            writer.position = 0;
+            writer.digest.reset();
+            return writer;
+        }
+
+        @Override
+        public CanonicalWriter append(char c) {
+            if (c < 0x80) {
+                writeByte(c);
+                return this;
+            }
+            return append(String.valueOf(c));
+        }
+
+        @Override
+        public CanonicalWriter append(String s) {
+            return append(s, 0, s.length());
+        }
+
+        @Override
+        public CanonicalWriter append(String s, int start, int end) {
+            for (int i = start; i < end; i++) {
+                char c = s.charAt(i);
+                if (c < 0x80) {
+                    writeByte(c);
+                } else if (c < 0x800) {
+                    writeByte(0xC0 | (c >> 6));
+                    writeByte(0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, s.charAt(++i));
+                    writeByte(0xF0 | (codePoint >> 18));
+                    writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+                    writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+                    writeByte(0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    // Same replacement as String.getBytes(UTF_8) for malformed input.
+                    writeByte('?');
+                } else {
+                    writeByte(0xE0 | (c >> 12));
+                    writeByte(0x80 | ((c >> 6) & 0x3F));
+                    writeByte(0x80 | (c & 0x3F));
+                }
+            }
+            return this;
+        }
+
+        private byte[] digest() {
+            digest.update(buffer, 0, position);
+            position = 0;
+            return digest.digest();
+        }
+
+        private void writeByte(int b) {
+            if (position == buffer.length) {
+                digest.update(buffer, 0, position);
+                position = 0;
+            }
+            buffer[position++] = (byte) b;
+        }
+    }
+
     /**
      * A class for representing options used when creating a {@link V4CanonicalRequest}
      */
@@ -21,6 +21,8 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.auth.spi.signer.BaseSignRequest;
 import software.amazon.awssdk.http.auth.spi.signer.SignerProperty;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.Validate;
 
 
@@ -36,7 +38,7 @@ public final class V4Properties {
     private final Clock signingClock;
     private final boolean doubleUrlEncode;
     private final boolean normalizePath;
-
+    private final MetricCollector metricCollector;
 
     private V4Properties(Builder builder) {
         this.credentials = Validate.paramNotNull(builder.credentials, "Credentials");
@@ -44,6 +46,7 @@ public final class V4Properties {
         this.signingClock = Validate.paramNotNull(builder.signingClock, "SigningClock");
         this.doubleUrlEncode = Validate.getOrDefault(builder.doubleUrlEncode, () -> true);
         this.normalizePath = Validate.getOrDefault(builder.normalizePath, () -> true);
+        this.metricCollector = Validate.getOrDefault(builder.metricCollector, NoOpMetricCollector::create);
     }
 
     public static Builder builder() {
@@ -70,12 +73,17 @@ public final class V4Properties {
         return normalizePath;
     }
 
+    public MetricCollector getMetricCollector() {
+        return metricCollector;
+    }
+
     public static class Builder {
         private AwsCredentialsIdentity credentials;
         private CredentialScope credentialScope;
         private Clock signingClock;
         private Boolean doubleUrlEncode;
         private Boolean normalizePath;
+        private MetricCollector metricCollector;
 
         public Builder credentials(AwsCredentialsIdentity credentials) {
             this.credentials = Validate.paramNotNull(credentials, "Credentials");
@@ -102,6 +110,11 @@ public final class V4Properties {
             return this;
         }
 
+        public Builder metricCollector(MetricCollector metricCollector) {
+            this.metricCollector = metricCollector;
+            return this;
+        }
+
         public V4Properties build() {
             return new V4Properties(this);
         }
@@ -35,6 +35,8 @@ import software.amazon.awssdk.http.Header;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.internal.signer.CredentialScope;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
@@ -47,8 +49,7 @@ public final class SignerUtils {
 
     private static final Logger LOG = Logger.loggerFor(SignerUtils.class);
 
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(300);
+    private static final SigningKeyCache SIGNER_CACHE = new SigningKeyCache(signingKeyCacheSize());
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
         .ofPattern("yyyyMMdd").withZone(ZoneId.of("UTC"));
@@ -59,6 +60,29 @@ public final class SignerUtils {
     private SignerUtils() {
     }
 
+    /**
+     * Returns the size of the signing key cache from {@link SignerSystemSetting#AWS_SIGNING_KEY_CACHE_SIZE}. This is read in
+     * the static initializer of this class, which would fail every signing call of the JVM if it threw, so a value that is
+     * not a positive integer is logged and replaced with the default size.
+     */
+    static int signingKeyCacheSize() {
+        SignerSystemSetting setting = SignerSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE;
+        int defaultSize = Integer.parseInt(setting.defaultValue());
+        String value = setting.getStringValue().orElse(setting.defaultValue());
+        try {
+            int size = Integer.parseInt(value.trim());
+            if (size > 0) {
+                return size;
+            }
+        } catch (NumberFormatException e) {
+            // Logged below.
+        }
+        LOG.warn(() -> String.format("Ignoring the invalid signing key cache size '%s' of %s or %s, which must be a positive "
+                                     + "integer. Using the default size %d.",
+                                     value, setting.property(), setting.environmentVariable(), defaultSize));
+        return defaultSize;
+    }
+
     /**
      * Returns a string representation of the given datetime in yyyyMMdd format. The date returned is in the UTC zone.
      * <p>
@@ -94,27 +118,29 @@ public final class SignerUtils {
      * Get the signing key based on the given credentials and a credential-scope
      */
     public static byte[] deriveSigningKey(AwsCredentialsIdentity credentials, CredentialScope credentialScope) {
-        String cacheKey = createSigningCacheKeyName(credentials, credentialScope.getRegion(), credentialScope.getService());
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
-
-        if (signerKey != null && signerKey.isValidForDate(credentialScope.getInstant())) {
-            return signerKey.getSigningKey();
-        }
-
-        LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
-                        credentialScope.getInstant().toEpochMilli());
-        byte[] signingKey = newSigningKey(credentials,
-                                          credentialScope.getDate(),
-                                          credentialScope.getRegion(),
-                                          credentialScope.getService());
-        SIGNER_CACHE.add(cacheKey, new SignerKey(credentialScope.getInstant(), signingKey));
-        return signingKey;
+        return deriveSigningKey(credentials, credentialScope, NoOpMetricCollector.create());
     }
 
-    private static String createSigningCacheKeyName(AwsCredentialsIdentity credentials,
-                                                    String regionName,
-                                                    String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
+    /**
+     * Get the signing key based on the given credentials and a credential-scope, reporting whether it was found in the signing
+     * key cache to the given metric collector.
+     */
+    public static byte[] deriveSigningKey(AwsCredentialsIdentity credentials,
+                                          CredentialScope credentialScope,
+                                          MetricCollector metricCollector) {
+        return SIGNER_CACHE.get(credentials.secretAccessKey(),
+                                credentialScope.getRegion(),
+                                credentialScope.getService(),
+                                credentialScope.getInstant(),
+                                instant -> {
+                                    LOG.trace(() -> "Generating a new signing key as the signing key not available in the "
+                                                    + "cache for the date: " + instant.toEpochMilli());
+                                    return newSigningKey(credentials,
+                                                         formatDate(instant),
+                                                         credentialScope.getRegion(),
+                                                         credentialScope.getService());
+                                },
+                                metricCollector);
     }
 
     private static byte[] newSigningKey(AwsCredentialsIdentity credentials,
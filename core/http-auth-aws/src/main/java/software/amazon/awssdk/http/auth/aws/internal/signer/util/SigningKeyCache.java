@@ -0,0 +1,216 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.http.auth.aws.signer.AwsV4SignerMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded cache of SigV4 signing keys, keyed by secret key, region and service and valid for a single UTC day.
+ * <p>
+ * Lookups never take a lock. When the cache is full, entries are evicted with a CLOCK (second chance) policy, so keys that are
+ * in use are not evicted just because they were added early. Shortly before midnight UTC, the signing key of the next day is
+ * derived ahead of time, so that requests signed right after the date changes do not all have to derive a new key.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+    private static final long MILLIS_PER_DAY = Duration.ofDays(1).toMillis();
+    private static final long PRECOMPUTE_WINDOW_MILLIS = Duration.ofMinutes(5).toMillis();
+
+    private final int maxSize;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Key> evictionQueue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param maxSize the maximum number of entries of the cache
+     */
+    public SigningKeyCache(int maxSize) {
+        this.maxSize = Validate.isPositive(maxSize, "maxSize");
+    }
+
+    /**
+     * Returns the signing key for the given secret key, region, service and signing date, deriving it with
+     * {@code keyDeriver} if it is not cached. Whether the key was found in the cache is reported to {@code metricCollector}.
+     *
+     * @param keyDeriver Derives the signing key for the date of the given instant.
+     */
+    public byte[] get(String secretKey,
+                      String region,
+                      String service,
+                      Instant signingInstant,
+                      Function<Instant, byte[]> keyDeriver,
+                      MetricCollector metricCollector) {
+        Key key = new Key(secretKey, region, service);
+        Entry entry = entries.get(key);
+        SignerKey signerKey = entry == null ? null : entry.signerKeyFor(signingInstant);
+
+        boolean hit = signerKey != null;
+        metricCollector.reportMetric(AwsV4SignerMetric.SIGNING_KEY_CACHE_HIT, hit);
+        if (!hit) {
+            signerKey = new SignerKey(signingInstant, keyDeriver.apply(signingInstant));
+            entry = store(key, signerKey);
+        }
+
+        precomputeNextDayIfDue(entry, signingInstant, keyDeriver);
+        return signerKey.getSigningKey();
+    }
+
+    /**
+     * Returns the current size of the cache.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the maximum size of the cache.
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    private Entry store(Key key, SignerKey signerKey) {
+        Entry newEntry = new Entry(signerKey);
+        Entry existing = entries.putIfAbsent(key, newEntry);
+        if (existing != null) {
+            existing.current = signerKey;
+            return existing;
+        }
+        evictionQueue.offer(key);
+        evictIfNeeded();
+        return newEntry;
+    }
+
+    private void evictIfNeeded() {
+        int secondChances = 0;
+        while (entries.size() > maxSize) {
+            Key candidate = evictionQueue.poll();
+            if (candidate == null) {
+                return;
+            }
+            Entry entry = entries.get(candidate);
+            if (entry == null) {
+                continue;
+            }
+            // Bound the number of second chances, so that keys that are used concurrently with the eviction cannot keep it
+            // from ever finishing.
+            if (entry.referenced && secondChances++ < maxSize) {
+                entry.referenced = false;
+                evictionQueue.offer(candidate);
+            } else {
+                entries.remove(candidate, entry);
+            }
+        }
+    }
+
+    private static void precomputeNextDayIfDue(Entry entry, Instant signingInstant, Function<Instant, byte[]> keyDeriver) {
+        long signingMillis = signingInstant.toEpochMilli();
+        long millisIntoDay = Math.floorMod(signingMillis, MILLIS_PER_DAY);
+        if (MILLIS_PER_DAY - millisIntoDay > PRECOMPUTE_WINDOW_MILLIS) {
+            return;
+        }
+
+        Instant nextDay = Instant.ofEpochMilli(signingMillis - millisIntoDay + MILLIS_PER_DAY);
+        SignerKey next = entry.next;
+        if (next != null && next.isValidForDate(nextDay)) {
+            return;
+        }
+        if (!entry.precomputing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            entry.next = new SignerKey(nextDay, keyDeriver.apply(nextDay));
+        } finally {
+            entry.precomputing.set(false);
+        }
+    }
+
+    /**
+     * The signing keys for one secret key, region and service: the key currently in use and, near the end of the day, the key
+     * of the next day.
+     */
+    private static final class Entry {
+        private final AtomicBoolean precomputing = new AtomicBoolean();
+        private volatile SignerKey current;
+        private volatile SignerKey next;
+        private volatile boolean referenced;
+
+        private Entry(SignerKey current) {
+            this.current = current;
+        }
+
+        private SignerKey signerKeyFor(Instant signingInstant) {
+            referenced = true;
+            SignerKey currentKey = current;
+            if (currentKey.isValidForDate(signingInstant)) {
+                return currentKey;
+            }
+            SignerKey nextKey = next;
+            if (nextKey != null && nextKey.isValidForDate(signingInstant)) {
+                current = nextKey;
+                return nextKey;
+            }
+            return null;
+        }
+    }
+
+    private static final class Key {
+        private final String secretKey;
+        private final String region;
+        private final String service;
+        private final int hashCode;
+
+        private Key(String secretKey, String region, String service) {
+            this.secretKey = secretKey;
+            this.region = region;
+            this.service = service;
+            int result = secretKey.hashCode();
+            result = 31 * result + Objects.hashCode(region);
+            result = 31 * result + Objects.hashCode(service);
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key other = (Key) o;
+            return secretKey.equals(other.secretKey)
+                   && Objects.equals(region, other.region)
+                   && Objects.equals(service, other.service);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
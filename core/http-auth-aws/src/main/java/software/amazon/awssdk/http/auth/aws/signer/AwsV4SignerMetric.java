@@ -0,0 +1,38 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.signer;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.auth.spi.signer.HttpSigner;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics reported by {@link AwsV4HttpSigner} to the {@link HttpSigner#METRIC_COLLECTOR} of a sign request.
+ */
+@SdkPublicApi
+public final class AwsV4SignerMetric {
+    /**
+     * True if the SigV4 signing key for the request was found in the signing key cache, false if it had to be derived.
+     * Counting the true and false values gives the hits and misses of the cache.
+     */
+    public static final SdkMetric<Boolean> SIGNING_KEY_CACHE_HIT =
+        SdkMetric.create("SigningKeyCacheHit", Boolean.class, MetricLevel.TRACE, MetricCategory.CORE);
+
+    private AwsV4SignerMetric() {
+    }
+}
@@ -28,6 +28,7 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
 import org.reactivestreams.Publisher;
+import software.amazon.awssdk.http.ByteBufferContentStreamProvider;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
@@ -109,6 +110,23 @@ public class FlexibleChecksummerTest {
         assertEquals(expectedRequest.headers(), request.build().headers());
     }
 
+    @Test
+    public void checksummer_withByteBufferPayload_shouldAddAllChecksums() {
+        FlexibleChecksummer checksummer = new FlexibleChecksummer(
+            option().headerName("sha256").algorithm(SHA256).formatter(BinaryUtils::toHex).build(),
+            option().headerName("crc32").algorithm(CRC32).formatter(BinaryUtils::toBase64).build()
+        );
+        SdkHttpRequest expectedRequest = request
+            .putHeader("sha256", "2c26b46b68ffc68ff99b453c1d30413413422d706483bfa0f98a5e886266e7ae")
+            .putHeader("crc32", "jHNlIQ==")
+            .build();
+
+        checksummer.checksum(ByteBufferContentStreamProvider.fromByteArrayUnsafe("foo".getBytes(StandardCharsets.UTF_8)),
+                             request);
+
+        assertEquals(expectedRequest.headers(), request.build().headers());
+    }
+
     @Test
     public void checksummerAsync_withMultipleChecksums_shouldAddAllChecksums() {
         FlexibleChecksummer checksummer = new FlexibleChecksummer(
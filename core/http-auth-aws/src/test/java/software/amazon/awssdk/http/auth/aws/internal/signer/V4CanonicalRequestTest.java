@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.auth.aws.internal.signer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerUtils.hashCanonicalRequest;
 
 import java.util.Arrays;
 import org.junit.jupiter.api.Test;
@@ -184,6 +185,44 @@ public class V4CanonicalRequestTest {
         assertEquals("PUT\n/\n\n\n\nsha-256", cr.getCanonicalRequestString());
     }
 
+    @ParameterizedTest
+    @MethodSource("data")
+    public void canonicalRequestHash_matchesHashOfCanonicalRequestString(TestCase tc) {
+        assertEquals(hashCanonicalRequest(tc.canonicalRequest.getCanonicalRequestString()),
+                     tc.canonicalRequest.getCanonicalRequestHash());
+    }
+
+    @Test
+    public void canonicalRequestHash_withHeadersAndParams_matchesHashOfCanonicalRequestString() {
+        StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 500; i++) {
+            longValue.append("value").append(i).append("  ");
+        }
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .protocol("https")
+                                               .host("localhost")
+                                               .encodedPath("/foo/bar")
+                                               .method(SdkHttpMethod.POST)
+                                               .appendHeader("foo", " bar   baz ")
+                                               .appendHeader("foo", "qux")
+                                               .appendHeader("empty", "")
+                                               .putHeader("unicode", "caf\u00e9 \u20ac \ud83d\ude00 \ud800")
+                                               .putHeader("long", longValue.toString())
+                                               .putHeader("user-agent", "ignored")
+                                               .appendRawQueryParameter("b", "2")
+                                               .appendRawQueryParameter("b", "1")
+                                               .appendRawQueryParameter("a", "\u00e9 x")
+                                               .appendRawQueryParameter("c", (String) null)
+                                               .build();
+        V4CanonicalRequest cr = new V4CanonicalRequest(request, "sha-256",
+                                                       new V4CanonicalRequest.Options(true,
+                                                                                      true));
+
+        assertEquals(hashCanonicalRequest(cr.getCanonicalRequestString()), cr.getCanonicalRequestHash());
+        // The hashing writer is reused by the thread, so hashing again gives the same result.
+        assertEquals(hashCanonicalRequest(cr.getCanonicalRequestString()), cr.getCanonicalRequestHash());
+    }
+
     private static class TestCase {
         private final String name;
         private final String path;
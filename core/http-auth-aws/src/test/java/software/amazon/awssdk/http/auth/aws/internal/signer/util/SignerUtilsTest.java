@@ -22,16 +22,41 @@ import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerCo
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpRequest;
 
 public class SignerUtilsTest {
 
+    @AfterEach
+    void clearSigningKeyCacheSize() {
+        System.clearProperty(SignerSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE.property());
+    }
+
+    @Test
+    void signingKeyCacheSize_notSet_usesDefault() {
+        assertThat(SignerUtils.signingKeyCacheSize()).isEqualTo(300);
+    }
+
+    @Test
+    void signingKeyCacheSize_validValue_usesValue() {
+        System.setProperty(SignerSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE.property(), "42");
+        assertThat(SignerUtils.signingKeyCacheSize()).isEqualTo(42);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc", "", "0", "-5", "1.5", "99999999999"})
+    void signingKeyCacheSize_invalidValue_fallsBackToDefault(String value) {
+        System.setProperty(SignerSystemSetting.AWS_SIGNING_KEY_CACHE_SIZE.property(), value);
+        assertThat(SignerUtils.signingKeyCacheSize()).isEqualTo(300);
+    }
+
     @Test
     void moveContentLength_decodedContentLengthPresent_shouldNotInvokeNewStream() {
         SdkHttpRequest.Builder request = SdkHttpRequest.builder()
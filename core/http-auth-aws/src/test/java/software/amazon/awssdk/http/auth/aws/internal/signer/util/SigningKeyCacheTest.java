@@ -0,0 +1,140 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.auth.aws.signer.AwsV4SignerMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+
+public class SigningKeyCacheTest {
+    private static final Instant NOON = Instant.parse("2024-01-01T12:00:00Z");
+
+    private List<Instant> derivations;
+    private Function<Instant, byte[]> keyDeriver;
+
+    @BeforeEach
+    public void setup() {
+        derivations = new ArrayList<>();
+        keyDeriver = instant -> {
+            derivations.add(instant);
+            return SignerUtils.formatDate(instant).getBytes(StandardCharsets.UTF_8);
+        };
+    }
+
+    @Test
+    public void get_sameKeyAndDay_derivesKeyOnce() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+
+        byte[] first = get(cache, "secret", NOON);
+        byte[] second = get(cache, "secret", NOON.plusSeconds(60));
+
+        assertThat(first).isEqualTo(second).isEqualTo("20240101".getBytes(StandardCharsets.UTF_8));
+        assertThat(derivations).hasSize(1);
+    }
+
+    @Test
+    public void get_differentRegionOrService_derivesNewKey() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+
+        cache.get("secret", "us-east-1", "s3", NOON, keyDeriver, NoOpMetricCollector.create());
+        cache.get("secret", "us-west-2", "s3", NOON, keyDeriver, NoOpMetricCollector.create());
+        cache.get("secret", "us-east-1", "sqs", NOON, keyDeriver, NoOpMetricCollector.create());
+
+        assertThat(derivations).hasSize(3);
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    public void get_newDay_derivesNewKey() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+
+        get(cache, "secret", NOON);
+        byte[] nextDayKey = get(cache, "secret", NOON.plusSeconds(86400));
+
+        assertThat(nextDayKey).isEqualTo("20240102".getBytes(StandardCharsets.UTF_8));
+        assertThat(derivations).hasSize(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_shortlyBeforeMidnight_precomputesNextDayKey() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+        Instant beforeMidnight = Instant.parse("2024-01-01T23:58:00Z");
+
+        MetricCollector metricCollector = MetricCollector.create("test");
+
+        cache.get("secret", "us-east-1", "s3", beforeMidnight, keyDeriver, metricCollector);
+        assertThat(derivations).containsExactly(beforeMidnight, Instant.parse("2024-01-02T00:00:00Z"));
+
+        cache.get("secret", "us-east-1", "s3", beforeMidnight.plusSeconds(30), keyDeriver, metricCollector);
+        byte[] afterMidnight =
+            cache.get("secret", "us-east-1", "s3", Instant.parse("2024-01-02T00:00:01Z"), keyDeriver, metricCollector);
+
+        assertThat(afterMidnight).isEqualTo("20240102".getBytes(StandardCharsets.UTF_8));
+        assertThat(derivations).hasSize(2);
+        assertThat(metricCollector.collect().metricValues(AwsV4SignerMetric.SIGNING_KEY_CACHE_HIT))
+            .containsExactly(false, true, true);
+    }
+
+    @Test
+    public void get_cacheFull_evictsEntriesThatWereNotUsed() {
+        SigningKeyCache cache = new SigningKeyCache(2);
+
+        get(cache, "k1", NOON);
+        get(cache, "k2", NOON);
+        get(cache, "k1", NOON);
+        get(cache, "k3", NOON);
+
+        assertThat(cache.size()).isEqualTo(2);
+        derivations.clear();
+        get(cache, "k1", NOON);
+        get(cache, "k3", NOON);
+        assertThat(derivations).isEmpty();
+        get(cache, "k2", NOON);
+        assertThat(derivations).hasSize(1);
+    }
+
+    @Test
+    public void get_reportsCacheHitMetric() {
+        SigningKeyCache cache = new SigningKeyCache(10);
+        MetricCollector metricCollector = MetricCollector.create("test");
+
+        cache.get("secret", "us-east-1", "s3", NOON, keyDeriver, metricCollector);
+        cache.get("secret", "us-east-1", "s3", NOON, keyDeriver, metricCollector);
+
+        assertThat(metricCollector.collect().metricValues(AwsV4SignerMetric.SIGNING_KEY_CACHE_HIT))
+            .containsExactly(false, true);
+    }
+
+    @Test
+    public void create_nonPositiveSize_throws() {
+        assertThatThrownBy(() -> new SigningKeyCache(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private byte[] get(SigningKeyCache cache, String secretKey, Instant instant) {
+        return cache.get(secretKey, "us-east-1", "s3", instant, keyDeriver, NoOpMetricCollector.create());
+    }
+}
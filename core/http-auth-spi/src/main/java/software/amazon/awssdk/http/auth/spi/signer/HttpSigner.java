@@ -23,6 +23,7 @@ import software.amazon.awssdk.http.auth.spi.internal.signer.DefaultAsyncSignRequ
 import software.amazon.awssdk.http.auth.spi.internal.signer.DefaultSignRequest;
 import software.amazon.awssdk.http.auth.spi.internal.signer.NoOpHttpSigner;
 import software.amazon.awssdk.identity.spi.Identity;
+import software.amazon.awssdk.metrics.MetricCollector;
 
 /**
  * Interface for the process of modifying a request destined for a service so that the service can authenticate the SDK
@@ -39,6 +40,14 @@ public interface HttpSigner<IdentityT extends Identity> {
      */
     SignerProperty<Clock> SIGNING_CLOCK = SignerProperty.create(HttpSigner.class, "SigningClock");
 
+    /**
+     * A {@link MetricCollector} to which the signer can report metrics about signing. This property is optional. The SDK sets
+     * it to the metric collector of the current request attempt.
+     *
+     * <p>Note, signers are not required to report any metrics.
+     */
+    SignerProperty<MetricCollector> METRIC_COLLECTOR = SignerProperty.create(HttpSigner.class, "MetricCollector");
+
     /**
      * Retrieve a signer that returns the input message, without signing.
      */
@@ -16,25 +16,36 @@
 package software.amazon.awssdk.metrics.internal;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
-import software.amazon.awssdk.metrics.MetricRecord;
 import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 
+/**
+ * The default {@link MetricCollector}.
+ * <p>
+ * Most metrics of a request are reported by a single thread, so the first thread that reports a metric becomes the owner of
+ * the collector and appends to a {@link MetricLog} without taking a lock. Metrics reported by any other thread are appended
+ * to a second log under the collector's lock.
+ */
 @SdkInternalApi
 public final class DefaultMetricCollector implements MetricCollector {
     private static final Logger log = Logger.loggerFor(DefaultMetricCollector.class);
+
+    private static final AtomicReferenceFieldUpdater<DefaultMetricCollector, Thread> OWNER =
+        AtomicReferenceFieldUpdater.newUpdater(DefaultMetricCollector.class, Thread.class, "owner");
+
     private final String name;
-    private final Map<SdkMetric<?>, List<MetricRecord<?>>> metrics = new LinkedHashMap<>();
+    private final MetricLog ownerLog = new MetricLog();
     private final List<MetricCollector> children = new ArrayList<>();
+    private volatile Thread owner;
+    private MetricLog sharedLog;
 
     public DefaultMetricCollector(String name) {
         this.name = name;
@@ -46,9 +57,20 @@ public final class DefaultMetricCollector implements MetricCollector {
     }
 
     @Override
-    public synchronized <T> void reportMetric(SdkMetric<T> metric, T data) {
-        metrics.computeIfAbsent(metric, (m) -> new ArrayList<>())
-               .add(new DefaultMetricRecord<>(metric, data));
+    public <T> void reportMetric(SdkMetric<T> metric, T data) {
+        Thread current = Thread.currentThread();
+        Thread currentOwner = owner;
+        if (currentOwner == current || currentOwner == null && OWNER.compareAndSet(this, null, current)) {
+            ownerLog.append(metric, data);
+            return;
+        }
+
+        synchronized (this) {
+            if (sharedLog == null) {
+                sharedLog = new MetricLog();
+            }
+            sharedLog.append(metric, data);
+        }
     }
 
     @Override
@@ -64,12 +86,21 @@ public final class DefaultMetricCollector implements MetricCollector {
                 .map(MetricCollector::collect)
                 .collect(Collectors.toList());
 
-        DefaultMetricCollection metricRecords = new DefaultMetricCollection(name, metrics, collectedChildren);
+        MetricLogCollection metricRecords = new MetricLogCollection(name, snapshots(), collectedChildren);
 
         log.debug(() -> "Collected metrics records: " + metricRecords);
         return metricRecords;
     }
 
+    private synchronized List<MetricLog.Snapshot> snapshots() {
+        List<MetricLog.Snapshot> snapshots = new ArrayList<>(2);
+        snapshots.add(ownerLog.snapshot());
+        if (sharedLog != null) {
+            snapshots.add(sharedLog.snapshot());
+        }
+        return snapshots;
+    }
+
     public static MetricCollector create(String name) {
         Validate.notEmpty(name, "name");
         return new DefaultMetricCollector(name);
@@ -78,6 +109,6 @@ public final class DefaultMetricCollector implements MetricCollector {
     @Override
     public String toString() {
         return ToString.builder("DefaultMetricCollector")
-            .add("metrics", metrics).build();
+            .add("metrics", new MetricLogCollection(name, snapshots(), new ArrayList<>()).records()).build();
     }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.BiConsumer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * An append-only log of reported metric values, written by a single thread at a time and readable from any thread.
+ * <p>
+ * Values are stored in fixed size chunks of parallel arrays. {@link Long}, {@link Integer}, {@link Double}, {@link Boolean}
+ * and {@link Duration} values are stored as a {@code long}, so the log does not keep a reference to the reported object and
+ * does not allocate a record for it. Other values are stored as they are. Records are only created when the log is read.
+ * <p>
+ * An entry is published by a release store of {@link #size}, after the entry has been written. A reader that reads the size
+ * therefore sees all entries below it, and since entries are never modified, a {@link Snapshot} of the log is immutable.
+ * <p>
+ * The first chunk is only allocated when the first value is appended, so a collector to which nothing is reported only pays
+ * for an empty log.
+ */
+@SdkInternalApi
+final class MetricLog {
+    private static final int CHUNK_SIZE = 16;
+    private static final long MAX_DURATION_SECONDS = Long.MAX_VALUE / 1_000_000_000L - 1;
+
+    private static final byte OBJECT = 0;
+    private static final byte LONG = 1;
+    private static final byte INTEGER = 2;
+    private static final byte DOUBLE = 3;
+    private static final byte BOOLEAN = 4;
+    private static final byte DURATION = 5;
+
+    private static final AtomicIntegerFieldUpdater<MetricLog> SIZE =
+        AtomicIntegerFieldUpdater.newUpdater(MetricLog.class, "size");
+
+    private Chunk head;
+    private Chunk tail;
+    private volatile int size;
+
+    /**
+     * Appends a value to the log. Must not be called concurrently with itself.
+     */
+    void append(SdkMetric<?> metric, Object value) {
+        int index = size;
+        int offset = index % CHUNK_SIZE;
+        if (index == 0) {
+            head = new Chunk();
+            tail = head;
+        } else if (offset == 0) {
+            Chunk next = new Chunk();
+            tail.next = next;
+            tail = next;
+        }
+        tail.set(offset, metric, value);
+        SIZE.lazySet(this, index + 1);
+    }
+
+    /**
+     * Returns a view of the entries appended so far.
+     */
+    Snapshot snapshot() {
+        // Read the size first: the head is written before the first entry is published.
+        int currentSize = size;
+        return new Snapshot(currentSize == 0 ? null : head, currentSize);
+    }
+
+    private static final class Chunk {
+        private final SdkMetric<?>[] metrics = new SdkMetric<?>[CHUNK_SIZE];
+        private final byte[] types = new byte[CHUNK_SIZE];
+        private final long[] primitiveValues = new long[CHUNK_SIZE];
+        private Object[] objectValues;
+        private Chunk next;
+
+        private void set(int offset, SdkMetric<?> metric, Object value) {
+            metrics[offset] = metric;
+            if (value instanceof Long) {
+                store(offset, LONG, (Long) value);
+            } else if (value instanceof Integer) {
+                store(offset, INTEGER, (Integer) value);
+            } else if (value instanceof Double) {
+                store(offset, DOUBLE, Double.doubleToRawLongBits((Double) value));
+            } else if (value instanceof Boolean) {
+                store(offset, BOOLEAN, (Boolean) value ? 1 : 0);
+            } else if (value instanceof Duration && Math.abs(((Duration) value).getSeconds()) <= MAX_DURATION_SECONDS) {
+                store(offset, DURATION, ((Duration) value).toNanos());
+            } else {
+                if (objectValues == null) {
+                    objectValues = new Object[CHUNK_SIZE];
+                }
+                types[offset] = OBJECT;
+                objectValues[offset] = value;
+            }
+        }
+
+        private void store(int offset, byte type, long value) {
+            types[offset] = type;
+            primitiveValues[offset] = value;
+        }
+
+        private Object value(int offset) {
+            long value = primitiveValues[offset];
+            switch (types[offset]) {
+                case LONG:
+                    return value;
+                case INTEGER:
+                    return (int) value;
+                case DOUBLE:
+                    return Double.longBitsToDouble(value);
+                case BOOLEAN:
+                    return value != 0;
+                case DURATION:
+                    return Duration.ofNanos(value);
+                default:
+                    return objectValues[offset];
+            }
+        }
+    }
+
+    /**
+     * An immutable view of the first {@code size} entries of a log.
+     */
+    static final class Snapshot {
+        private final Chunk head;
+        private final int size;
+
+        private Snapshot(Chunk head, int size) {
+            this.head = head;
+            this.size = size;
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Passes the metric and the value of each entry, in the order they were appended, to the given consumer.
+         */
+        void forEach(BiConsumer<SdkMetric<?>, Object> consumer) {
+            Chunk chunk = head;
+            for (int i = 0; i < size; i++) {
+                int offset = i % CHUNK_SIZE;
+                if (offset == 0 && i > 0) {
+                    chunk = chunk.next;
+                }
+                consumer.accept(chunk.metrics[offset], chunk.value(offset));
+            }
+        }
+    }
+}
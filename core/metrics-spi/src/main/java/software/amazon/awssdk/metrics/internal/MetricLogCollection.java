@@ -0,0 +1,170 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * A {@link MetricCollection} backed by snapshots of the {@link MetricLog}s of a {@link DefaultMetricCollector}. Values and
+ * records are only created when they are first read, at which point the values are grouped by metric. The groups are found
+ * through the dense {@link DefaultSdkMetric#index()} of their metric, so looking up the values of a metric is an array access
+ * rather than a scan of the logs or a hash lookup. Like before the logs were introduced, records are iterated grouped by metric;
+ * metrics are ordered by their first report, in the log of the collector's owner first.
+ */
+@SdkInternalApi
+final class MetricLogCollection implements MetricCollection {
+    private final String name;
+    private final List<MetricLog.Snapshot> logs;
+    private final List<MetricCollection> children;
+    private final Instant creationTime;
+    private volatile Groups groups;
+
+    MetricLogCollection(String name, List<MetricLog.Snapshot> logs, List<MetricCollection> children) {
+        this.name = name;
+        this.logs = logs;
+        this.children = children;
+        this.creationTime = Instant.now();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> List<T> metricValues(SdkMetric<T> metric) {
+        List<Object> values = groups().values(metric);
+        return values == null ? Collections.emptyList() : (List<T>) Collections.unmodifiableList(values);
+    }
+
+    @Override
+    public List<MetricCollection> children() {
+        return Collections.unmodifiableList(children);
+    }
+
+    @Override
+    public Instant creationTime() {
+        return creationTime;
+    }
+
+    @Override
+    public Iterator<MetricRecord<?>> iterator() {
+        return Collections.unmodifiableList(records()).iterator();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    List<MetricRecord<?>> records() {
+        int size = 0;
+        for (MetricLog.Snapshot log : logs) {
+            size += log.size();
+        }
+        List<MetricRecord<?>> records = new ArrayList<>(size);
+        Groups current = groups();
+        for (int i = 0; i < current.metrics.size(); i++) {
+            SdkMetric<?> metric = current.metrics.get(i);
+            for (Object value : current.values.get(i)) {
+                records.add(new DefaultMetricRecord(metric, value));
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Groups the values of the logs by metric. The snapshots never change, so concurrent readers that both group them build
+     * equal groups, and either can be kept.
+     */
+    private Groups groups() {
+        Groups result = groups;
+        if (result == null) {
+            result = new Groups();
+            for (MetricLog.Snapshot log : logs) {
+                log.forEach(result::add);
+            }
+            groups = result;
+        }
+        return result;
+    }
+
+    /**
+     * The values of a collection grouped by metric, in the order in which the metrics were first reported.
+     */
+    private static final class Groups {
+        private final List<SdkMetric<?>> metrics = new ArrayList<>();
+        private final List<List<Object>> values = new ArrayList<>();
+
+        /**
+         * The position of each metric in {@link #metrics} plus one, by {@link DefaultSdkMetric#index()}. Zero means that the
+         * metric was not reported.
+         */
+        private int[] positions = new int[0];
+
+        private void add(SdkMetric<?> metric, Object value) {
+            int position = positionOf(metric);
+            if (position < 0) {
+                position = metrics.size();
+                metrics.add(metric);
+                values.add(new ArrayList<>());
+                if (metric instanceof DefaultSdkMetric) {
+                    int index = ((DefaultSdkMetric<?>) metric).index();
+                    if (index >= positions.length) {
+                        positions = Arrays.copyOf(positions, Math.max(index + 1, positions.length * 2));
+                    }
+                    positions[index] = position + 1;
+                }
+            }
+            values.get(position).add(value);
+        }
+
+        private List<Object> values(SdkMetric<?> metric) {
+            int position = positionOf(metric);
+            return position < 0 ? null : values.get(position);
+        }
+
+        private int positionOf(SdkMetric<?> metric) {
+            if (metric instanceof DefaultSdkMetric) {
+                int index = ((DefaultSdkMetric<?>) metric).index();
+                return index < positions.length ? positions[index] - 1 : -1;
+            }
+            // Metrics that are not created through SdkMetric.create have no index, and are rare enough to be searched for.
+            for (int i = 0; i < metrics.size(); i++) {
+                if (metric.equals(metrics.get(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("MetricCollection")
+                       .add("name", name)
+                       .add("metrics", records())
+                       .add("children", children)
+                       .build();
+    }
+}
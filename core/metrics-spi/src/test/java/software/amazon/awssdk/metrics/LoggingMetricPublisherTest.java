@@ -19,18 +19,11 @@ import static org.apache.logging.log4j.Level.DEBUG;
 import static org.apache.logging.log4j.Level.INFO;
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.apache.logging.log4j.core.LogEvent;
 import org.junit.jupiter.api.Test;
 import org.slf4j.event.Level;
 import software.amazon.awssdk.metrics.LoggingMetricPublisher.Format;
-import software.amazon.awssdk.metrics.internal.DefaultMetricCollection;
-import software.amazon.awssdk.metrics.internal.DefaultMetricRecord;
 import software.amazon.awssdk.testutils.LogCaptor;
 
 class LoggingMetricPublisherTest {
@@ -39,10 +32,7 @@ class LoggingMetricPublisherTest {
 
     @Test
     void testDefaultConfiguration() {
-        MetricCollection qux = metrics("qux");
-        MetricCollection baz = metrics("baz");
-        MetricCollection bar = metrics("bar", baz);
-        MetricCollection foo = metrics("foo", bar, qux);
+        MetricCollection foo = metrics();
 
         LoggingMetricPublisher publisher = LoggingMetricPublisher.create();
 
@@ -56,10 +46,7 @@ class LoggingMetricPublisherTest {
 
     @Test
     void testPrettyFormat() {
-        MetricCollection qux = metrics("qux");
-        MetricCollection baz = metrics("baz");
-        MetricCollection bar = metrics("bar", baz);
-        MetricCollection foo = metrics("foo", bar, qux);
+        MetricCollection foo = metrics();
         String guid = Integer.toHexString(foo.hashCode());
 
         LoggingMetricPublisher publisher = LoggingMetricPublisher.create(Level.DEBUG, Format.PRETTY);
@@ -95,13 +82,19 @@ class LoggingMetricPublisherTest {
         }
     }
 
-    private static MetricCollection metrics(String name, MetricCollection... children) {
-        Integer[] values = {1, 2, 3};
-        Map<SdkMetric<?>, List<MetricRecord<?>>> recordMap = new HashMap<>();
-        List<MetricRecord<?>> records =
-            Stream.of(values).map(v -> new DefaultMetricRecord<>(TEST_METRIC, v)).collect(Collectors.toList());
-        recordMap.put(TEST_METRIC, records);
-        return new DefaultMetricCollection(name, recordMap, Arrays.asList(children));
+    private static MetricCollection metrics() {
+        MetricCollector foo = reportValues(MetricCollector.create("foo"));
+        MetricCollector bar = reportValues(foo.createChild("bar"));
+        reportValues(bar.createChild("baz"));
+        reportValues(foo.createChild("qux"));
+        return foo.collect();
+    }
+
+    private static MetricCollector reportValues(MetricCollector collector) {
+        for (int value = 1; value <= 3; value++) {
+            collector.reportMetric(TEST_METRIC, value);
+        }
+        return collector;
     }
 
     private static void assertLogged(List<LogEvent> events, org.apache.logging.log4j.Level level, String message, Object... args) {
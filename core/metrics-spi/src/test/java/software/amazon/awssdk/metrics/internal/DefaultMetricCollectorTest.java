@@ -17,6 +17,16 @@ package software.amazon.awssdk.metrics.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import org.junit.AfterClass;
 import org.junit.Rule;
@@ -26,10 +36,16 @@ import software.amazon.awssdk.metrics.MetricCategory;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.MetricRecord;
 import software.amazon.awssdk.metrics.SdkMetric;
 
 public class DefaultMetricCollectorTest {
     private static final SdkMetric<Integer> M1 = SdkMetric.create("m1", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+    private static final SdkMetric<Long> LONG = metric("long", Long.class);
+    private static final SdkMetric<Double> DOUBLE = metric("double", Double.class);
+    private static final SdkMetric<Boolean> BOOLEAN = metric("boolean", Boolean.class);
+    private static final SdkMetric<Duration> DURATION = metric("duration", Duration.class);
+    private static final SdkMetric<String> STRING = metric("string", String.class);
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -70,4 +86,105 @@ public class DefaultMetricCollectorTest {
         MetricCollection collected = parent.collect();
         assertThat(collected.children().stream().map(MetricCollection::name)).containsExactly(childNames);
     }
+
+    @Test
+    public void testCollect_valuesOfEachTypeAreReturnedUnchanged() {
+        MetricCollector collector = MetricCollector.create("collector");
+        collector.reportMetric(M1, Integer.MIN_VALUE);
+        collector.reportMetric(LONG, Long.MAX_VALUE);
+        collector.reportMetric(DOUBLE, Double.NaN);
+        collector.reportMetric(DOUBLE, -0.5);
+        collector.reportMetric(BOOLEAN, true);
+        collector.reportMetric(BOOLEAN, false);
+        collector.reportMetric(DURATION, Duration.ofMillis(1234).plusNanos(5));
+        collector.reportMetric(DURATION, Duration.ofSeconds(Long.MAX_VALUE));
+        collector.reportMetric(STRING, "value");
+        collector.reportMetric(STRING, null);
+
+        MetricCollection collection = collector.collect();
+
+        assertThat(collection.metricValues(M1)).containsExactly(Integer.MIN_VALUE);
+        assertThat(collection.metricValues(LONG)).containsExactly(Long.MAX_VALUE);
+        assertThat(collection.metricValues(DOUBLE)).containsExactly(Double.NaN, -0.5);
+        assertThat(collection.metricValues(BOOLEAN)).containsExactly(true, false);
+        assertThat(collection.metricValues(DURATION)).containsExactly(Duration.ofMillis(1234).plusNanos(5),
+                                                                      Duration.ofSeconds(Long.MAX_VALUE));
+        assertThat(collection.metricValues(STRING)).containsExactly("value", null);
+    }
+
+    @Test
+    public void testCollect_recordsAreGroupedByMetricInReportedOrder() {
+        MetricCollector collector = MetricCollector.create("collector");
+        IntStream.range(0, 100).forEach(i -> {
+            collector.reportMetric(LONG, (long) -i);
+            collector.reportMetric(M1, i);
+        });
+
+        MetricCollection collection = collector.collect();
+
+        List<Object> values = new ArrayList<>();
+        collection.forEach(r -> values.add(r.value()));
+        assertThat(values).hasSize(200);
+        assertThat(values.subList(0, 100)).isEqualTo(LongStream.range(0, 100).map(i -> -i).boxed().collect(Collectors.toList()));
+        assertThat(values.subList(100, 200)).isEqualTo(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+        assertThat(collection.stream().<SdkMetric<?>>map(MetricRecord::metric).distinct()).containsExactly(LONG, M1);
+        assertThat(collection.metricValues(M1)).isEqualTo(IntStream.range(0, 100).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testCollect_doesNotIncludeMetricsReportedAfterwards() {
+        MetricCollector collector = MetricCollector.create("collector");
+        collector.reportMetric(M1, 1);
+        MetricCollection collection = collector.collect();
+
+        collector.reportMetric(M1, 2);
+
+        assertThat(collection.metricValues(M1)).containsExactly(1);
+        assertThat(collection).hasSize(1);
+    }
+
+    @Test
+    public void testCollect_metricNotReported_returnsEmptyList() {
+        MetricCollection collection = MetricCollector.create("collector").collect();
+
+        assertThat(collection.metricValues(M1)).isEmpty();
+        assertThat(collection).isEmpty();
+    }
+
+    @Test
+    public void testReportMetric_fromManyThreads_allValuesCollected() throws InterruptedException {
+        MetricCollector collector = MetricCollector.create("collector");
+        int threads = 8;
+        int valuesPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < valuesPerThread; i++) {
+                        collector.reportMetric(M1, thread * valuesPerThread + i);
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        }
+
+        assertThat(collector.collect().metricValues(M1))
+            .containsExactlyInAnyOrderElementsOf(IntStream.range(0, threads * valuesPerThread).boxed()
+                                                          .collect(Collectors.toList()));
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> valueClass) {
+        return SdkMetric.create(name, valueClass, MetricLevel.INFO, MetricCategory.CORE);
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package software.amazon.awssdk.metrics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+public class MetricLogCollectionTest {
+    private static final SdkMetric<Integer> M1 = SdkMetric.create("m1", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+
+    @AfterAll
+    public static void teardown() {
+        DefaultSdkMetric.clearDeclaredMetrics();
+    }
+
+    @Test
+    public void testMetricValues_noValues_returnsEmptyList() {
+        MetricCollection foo = MetricCollector.create("foo").collect();
+        assertThat(foo.metricValues(M1)).isEmpty();
+    }
+
+    @Test
+    public void testChildren_noChildren_returnsEmptyList() {
+        MetricCollection foo = MetricCollector.create("foo").collect();
+        assertThat(foo.children()).isEmpty();
+    }
+
+    @Test
+    public void testIterator_iteratesOverAllValues() {
+        Integer[] values = {1, 2, 3};
+        MetricCollector collector = MetricCollector.create("foo");
+        for (Integer value : values) {
+            collector.reportMetric(M1, value);
+        }
+
+        MetricCollection collection = collector.collect();
+        final Set<Integer> iteratorValues = StreamSupport.stream(collection.spliterator(), false)
+                .map(MetricRecord::value)
+                .map(Integer.class::cast)
+                .collect(Collectors.toSet());
+
+        assertThat(iteratorValues).containsExactly(values);
+    }
+
+    @Test
+    public void testMetricValues_manyMetrics_eachMetricHasItsOwnValues() {
+        List<SdkMetric<Integer>> metrics =
+            IntStream.range(0, 100)
+                     .mapToObj(i -> SdkMetric.create("many-" + i, Integer.class, MetricLevel.INFO, MetricCategory.CORE))
+                     .collect(Collectors.toList());
+        MetricCollector collector = MetricCollector.create("foo");
+        // Report in reverse, so that the index lookup has to grow for later reports.
+        for (int i = metrics.size() - 1; i >= 0; i--) {
+            collector.reportMetric(metrics.get(i), i);
+        }
+
+        MetricCollection collection = collector.collect();
+        for (int i = 0; i < metrics.size(); i++) {
+            assertThat(collection.metricValues(metrics.get(i))).containsExactly(i);
+        }
+        assertThat(collection.metricValues(M1)).isEmpty();
+    }
+
+    @Test
+    public void testMetricValues_metricNotCreatedBySdkMetricCreate_isFound() {
+        SdkMetric<Integer> custom = new CustomMetric();
+        MetricCollector collector = MetricCollector.create("foo");
+        collector.reportMetric(M1, 1);
+        collector.reportMetric(custom, 2);
+
+        MetricCollection collection = collector.collect();
+        assertThat(collection.metricValues(custom)).containsExactly(2);
+        assertThat(collection.metricValues(M1)).containsExactly(1);
+    }
+
+    private static final class CustomMetric implements SdkMetric<Integer> {
+        @Override
+        public String name() {
+            return "custom";
+        }
+
+        @Override
+        public Set<MetricCategory> categories() {
+            return Collections.singleton(MetricCategory.CUSTOM);
+        }
+
+        @Override
+        public MetricLevel level() {
+            return MetricLevel.INFO;
+        }
+
+        @Override
+        public Class<Integer> valueClass() {
+            return Integer.class;
+        }
+    }
+}
@@ -80,6 +80,7 @@ public abstract class BaseAwsJsonProtocolFactory {
     private final boolean hasAwsQueryCompatible;
     private final SdkClientConfiguration clientConfiguration;
     private final JsonProtocolUnmarshaller protocolUnmarshaller;
+    private final JsonShapeCodecRegistry shapeCodecs;
 
     protected BaseAwsJsonProtocolFactory(Builder<?> builder) {
         this.protocolMetadata = builder.protocolMetadata.build();
@@ -89,15 +90,19 @@ public abstract class BaseAwsJsonProtocolFactory {
         this.hasAwsQueryCompatible = builder.hasAwsQueryCompatible;
         this.clientConfiguration = builder.clientConfiguration;
         Boolean enableFastUnmarshalling = false;
+        JsonShapeCodecRegistry shapeCodecs = null;
         if (clientConfiguration != null) {
             enableFastUnmarshalling =
                 clientConfiguration.option(SdkClientJsonProtocolAdvancedOption.ENABLE_FAST_UNMARSHALLER);
             if (enableFastUnmarshalling == null) {
                 enableFastUnmarshalling = false;
             }
+            shapeCodecs = clientConfiguration.option(SdkClientJsonProtocolAdvancedOption.SHAPE_CODECS);
         }
+        this.shapeCodecs = shapeCodecs != null ? shapeCodecs : JsonShapeCodecRegistry.empty();
         this.protocolUnmarshaller = JsonProtocolUnmarshaller.builder()
                                                             .enableFastUnmarshalling(enableFastUnmarshalling)
+                                                            .shapeCodecs(this.shapeCodecs)
                                                             .protocolUnmarshallDependencies(
                                                                 builder.protocolUnmarshallDependencies.get())
                                                             .build();
@@ -237,6 +242,7 @@ public abstract class BaseAwsJsonProtocolFactory {
                                             .sendExplicitNullForPayload(false)
                                             .protocolMetadata(protocolMetadata)
                                             .hasAwsQueryCompatible(hasAwsQueryCompatible)
+                                            .shapeCodecs(shapeCodecs)
                                             .build();
     }
 
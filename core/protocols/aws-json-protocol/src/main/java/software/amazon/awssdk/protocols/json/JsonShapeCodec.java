@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json;
+
+import java.io.IOException;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+
+/**
+ * Marshaller and unmarshaller generated for a single structure shape of a JSON service.
+ * <p>
+ * A codec writes and reads the members of its shape directly, by name, instead of going through the {@link SdkField}s of the
+ * shape and the marshaller and unmarshaller registries of the protocol. Codecs are registered with the protocol in a
+ * {@link JsonShapeCodecRegistry}; shapes without a codec are still handled by the registries.
+ *
+ * @param <T> The type of the shape.
+ * @param <B> The type of the builder of the shape.
+ */
+@SdkProtectedApi
+public interface JsonShapeCodec<T extends SdkPojo, B extends SdkPojo> {
+
+    /**
+     * Writes the members of the given shape as fields of the JSON object that the generator is currently in.
+     */
+    void marshall(T pojo, StructuredJsonGenerator generator);
+
+    /**
+     * @return A new builder for the shape.
+     */
+    B newBuilder();
+
+    /**
+     * Reads the value of the given field from the reader, and sets it on the builder.
+     *
+     * @return True if the field is a member of the shape, false otherwise, in which case the value has not been read and is
+     * skipped by the caller.
+     */
+    boolean unmarshallMember(B builder, String fieldName, JsonShapeReader reader) throws IOException;
+
+    /**
+     * @return The shape built from the given builder.
+     */
+    T build(B builder);
+}
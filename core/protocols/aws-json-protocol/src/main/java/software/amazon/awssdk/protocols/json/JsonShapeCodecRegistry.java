@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json;
+
+import java.util.HashMap;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkPojo;
+
+/**
+ * The {@link JsonShapeCodec}s of a service, by shape class and by builder class.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class JsonShapeCodecRegistry {
+    private static final JsonShapeCodecRegistry EMPTY = builder().build();
+
+    private final Map<Class<?>, JsonShapeCodec<?, ?>> codecsByShape;
+    private final Map<Class<?>, JsonShapeCodec<?, ?>> codecsByBuilder;
+
+    private JsonShapeCodecRegistry(Builder builder) {
+        this.codecsByShape = new HashMap<>(builder.codecsByShape);
+        this.codecsByBuilder = new HashMap<>(builder.codecsByBuilder);
+    }
+
+    /**
+     * @return A registry without any codec, with which all shapes are handled by the registries of the protocol.
+     */
+    public static JsonShapeCodecRegistry empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return True if this registry does not have any codec.
+     */
+    public boolean isEmpty() {
+        return codecsByShape.isEmpty();
+    }
+
+    /**
+     * @return The codec of the given shape class, or null if the shape does not have one.
+     */
+    @SuppressWarnings("unchecked")
+    public JsonShapeCodec<SdkPojo, SdkPojo> codecForShape(Class<?> shapeClass) {
+        return (JsonShapeCodec<SdkPojo, SdkPojo>) codecsByShape.get(shapeClass);
+    }
+
+    /**
+     * @return The codec of the shape built by the given builder class, or null if the shape does not have one.
+     */
+    @SuppressWarnings("unchecked")
+    public JsonShapeCodec<SdkPojo, SdkPojo> codecForBuilder(Class<?> builderClass) {
+        return (JsonShapeCodec<SdkPojo, SdkPojo>) codecsByBuilder.get(builderClass);
+    }
+
+    /**
+     * @return Builder instance to construct a {@link JsonShapeCodecRegistry}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for a {@link JsonShapeCodecRegistry}.
+     */
+    public static final class Builder {
+        private final Map<Class<?>, JsonShapeCodec<?, ?>> codecsByShape = new HashMap<>();
+        private final Map<Class<?>, JsonShapeCodec<?, ?>> codecsByBuilder = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Registers the codec of a shape.
+         *
+         * @param shapeClass The class of the shape.
+         * @param builderClass The class of the builder implementation of the shape, which is the class of the instances
+         * returned by {@link JsonShapeCodec#newBuilder()}.
+         * @param codec The codec of the shape.
+         * @return This builder for method chaining.
+         */
+        public <T extends SdkPojo, B extends SdkPojo> Builder codec(Class<T> shapeClass,
+                                                                  Class<? extends B> builderClass,
+                                                                  JsonShapeCodec<T, B> codec) {
+            codecsByShape.put(shapeClass, codec);
+            codecsByBuilder.put(builderClass, codec);
+            return this;
+        }
+
+        /**
+         * @return An immutable {@link JsonShapeCodecRegistry} object.
+         */
+        public JsonShapeCodecRegistry build() {
+            return new JsonShapeCodecRegistry(this);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+
+/**
+ * Reads the value of a member for a {@link JsonShapeCodec}. Each method reads the current value of the document, and returns
+ * null if that value is a JSON null. Values are converted the same way as for members without a
+ * {@link JsonShapeCodec}, e.g. timestamps are read in the default format of the protocol.
+ */
+@SdkProtectedApi
+public interface JsonShapeReader {
+
+    String readString() throws IOException;
+
+    Integer readInteger() throws IOException;
+
+    Long readLong() throws IOException;
+
+    Short readShort() throws IOException;
+
+    Byte readByte() throws IOException;
+
+    Float readFloat() throws IOException;
+
+    Double readDouble() throws IOException;
+
+    BigDecimal readBigDecimal() throws IOException;
+
+    Boolean readBoolean() throws IOException;
+
+    Instant readInstant() throws IOException;
+
+    /**
+     * Reads a timestamp in the given format instead of the default format of the protocol.
+     */
+    Instant readInstant(TimestampFormatTrait.Format format) throws IOException;
+
+    SdkBytes readSdkBytes() throws IOException;
+
+    /**
+     * Reads a JSON object using the codec of its shape.
+     */
+    <T extends SdkPojo, B extends SdkPojo> T readStructure(JsonShapeCodec<T, B> codec) throws IOException;
+
+    /**
+     * Reads a JSON array, using the given reader for each of its elements.
+     */
+    <T> List<T> readList(ValueReader<T> elementReader) throws IOException;
+
+    /**
+     * Reads a JSON object as a map, using the given reader for each of its values.
+     */
+    <T> Map<String, T> readMap(ValueReader<T> valueReader) throws IOException;
+
+    /**
+     * Reads a single value from a {@link JsonShapeReader}, e.g. an element of a list.
+     */
+    @FunctionalInterface
+    interface ValueReader<T> {
+        T read(JsonShapeReader reader) throws IOException;
+    }
+}
@@ -15,7 +15,6 @@
 
 package software.amazon.awssdk.protocols.json;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -23,6 +22,7 @@ import java.nio.ByteBuffer;
 import java.time.Instant;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.protocols.json.internal.marshall.PooledByteArrayOutputStream;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonGenerator;
 import software.amazon.awssdk.utils.BinaryUtils;
@@ -34,14 +34,10 @@ import software.amazon.awssdk.utils.DateUtils;
 @SdkProtectedApi
 public class SdkJsonGenerator implements StructuredJsonGenerator {
 
-    /**
-     * Default buffer size for the BAOS. Chosen somewhat arbitrarily. Should be large enough to
-     * prevent frequent resizings but small enough to avoid wasted allocations for small requests.
-     */
-    private static final int DEFAULT_BUFFER_SIZE = 1024;
-    private final ByteArrayOutputStream baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+    private final PooledByteArrayOutputStream baos = new PooledByteArrayOutputStream();
     private final JsonGenerator generator;
     private final String contentType;
+    private byte[] content;
 
     public SdkJsonGenerator(JsonFactory factory, String contentType) {
         try {
@@ -273,8 +269,14 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
      */
     @Override
     public byte[] getBytes() {
-        close();
-        return baos.toByteArray();
+        if (content == null) {
+            close();
+            content = baos.toByteArray();
+            // The content has been copied out, so the buffer can be reused to serialize another request.
+            baos.release();
+            return content;
+        }
+        return content.clone();
     }
 
     @Override
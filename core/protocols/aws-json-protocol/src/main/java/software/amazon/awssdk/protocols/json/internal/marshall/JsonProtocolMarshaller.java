@@ -21,7 +21,6 @@ import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
 import static software.amazon.awssdk.http.Header.CONTENT_TYPE;
 import static software.amazon.awssdk.http.Header.TRANSFER_ENCODING;
 
-import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
@@ -37,6 +36,7 @@ import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.http.ByteBufferContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.InstantToString;
 import software.amazon.awssdk.protocols.core.OperationInfo;
@@ -46,6 +46,8 @@ import software.amazon.awssdk.protocols.core.ValueToStringConverter.ValueToStrin
 import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocolMetadata;
 import software.amazon.awssdk.protocols.json.BaseAwsJsonProtocolFactory;
+import software.amazon.awssdk.protocols.json.JsonShapeCodec;
+import software.amazon.awssdk.protocols.json.JsonShapeCodecRegistry;
 import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
 import software.amazon.awssdk.protocols.json.internal.ProtocolFact;
 
@@ -73,13 +75,15 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
     private final boolean hasEventStreamingInput;
     private final boolean hasEvent;
     private final boolean hasAwsQueryCompatible;
+    private final JsonShapeCodecRegistry shapeCodecs;
 
     JsonProtocolMarshaller(URI endpoint,
                            StructuredJsonGenerator jsonGenerator,
                            String contentType,
                            OperationInfo operationInfo,
                            AwsJsonProtocolMetadata protocolMetadata,
-                           boolean hasAwsQueryCompatible) {
+                           boolean hasAwsQueryCompatible,
+                           JsonShapeCodecRegistry shapeCodecs) {
         this.endpoint = endpoint;
         this.jsonGenerator = jsonGenerator;
         this.contentType = contentType;
@@ -91,6 +95,7 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
         this.hasEvent = operationInfo.hasEvent();
         this.request = fillBasicRequestParams(operationInfo);
         this.hasAwsQueryCompatible = hasAwsQueryCompatible;
+        this.shapeCodecs = shapeCodecs;
         this.marshallerContext = JsonMarshallerContext.builder()
                                                       .jsonGenerator(jsonGenerator)
                                                       .marshallerRegistry(MARSHALLER_REGISTRY)
@@ -195,6 +200,13 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
     }
 
     void doMarshall(SdkPojo pojo) {
+        if (!shapeCodecs.isEmpty()) {
+            JsonShapeCodec<SdkPojo, SdkPojo> codec = shapeCodecs.codecForShape(pojo.getClass());
+            if (codec != null) {
+                codec.marshall(pojo, jsonGenerator);
+                return;
+            }
+        }
         for (SdkField<?> field : pojo.sdkFields()) {
             Object val = field.getValueOrDefault(pojo);
             if (isExplicitBinaryPayload(field)) {
@@ -206,7 +218,7 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
             } else if (isExplicitStringPayload(field)) {
                 if (val != null) {
                     byte[] content = ((String) val).getBytes(StandardCharsets.UTF_8);
-                    request.contentStreamProvider(() -> new ByteArrayInputStream(content));
+                    request.contentStreamProvider(ByteBufferContentStreamProvider.fromByteArrayUnsafe(content));
                     updateContentLengthHeader(content.length);
 
                 }
@@ -266,7 +278,7 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
             byte[] content = jsonGenerator.getBytes();
 
             if (content != null) {
-                request.contentStreamProvider(() -> new ByteArrayInputStream(content));
+                request.contentStreamProvider(ByteBufferContentStreamProvider.fromByteArrayUnsafe(content));
                 if (content.length > 0) {
                     request.putHeader(CONTENT_LENGTH, Integer.toString(content.length));
                 }
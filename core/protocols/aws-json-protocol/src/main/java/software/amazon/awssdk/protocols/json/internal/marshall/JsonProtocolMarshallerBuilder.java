@@ -21,6 +21,7 @@ import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocolMetadata;
+import software.amazon.awssdk.protocols.json.JsonShapeCodecRegistry;
 import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
 
 /**
@@ -36,6 +37,7 @@ public final class JsonProtocolMarshallerBuilder {
     private boolean sendExplicitNullForPayload;
     private AwsJsonProtocolMetadata protocolMetadata;
     private boolean hasAwsQueryCompatible = false;
+    private JsonShapeCodecRegistry shapeCodecs = JsonShapeCodecRegistry.empty();
 
     private JsonProtocolMarshallerBuilder() {
     }
@@ -111,6 +113,15 @@ public final class JsonProtocolMarshallerBuilder {
         return this;
     }
 
+    /**
+     * @param shapeCodecs The generated codecs used to marshall the shapes that have one, instead of the marshaller registry.
+     * Defaults to {@link JsonShapeCodecRegistry#empty()}.
+     */
+    public JsonProtocolMarshallerBuilder shapeCodecs(JsonShapeCodecRegistry shapeCodecs) {
+        this.shapeCodecs = shapeCodecs;
+        return this;
+    }
+
     /**
      * @return New instance of {@link ProtocolMarshaller}. If {@link #sendExplicitNullForPayload} is true then the marshaller
      * will be wrapped with {@link NullAsEmptyBodyProtocolRequestMarshaller}.
@@ -121,7 +132,8 @@ public final class JsonProtocolMarshallerBuilder {
                                                                                                contentType,
                                                                                                operationInfo,
                                                                                                protocolMetadata,
-                                                                                               hasAwsQueryCompatible);
+                                                                                               hasAwsQueryCompatible,
+                                                                                               shapeCodecs);
         return sendExplicitNullForPayload ? protocolMarshaller
                                           : new NullAsEmptyBodyProtocolRequestMarshaller(protocolMarshaller);
     }
@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.marshall;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A {@link ByteArrayOutputStream} that borrows its buffer from a small pool shared by all streams, so that serializing a
+ * request body doesn't allocate a new buffer, and grow it, for every request. {@link #release()} returns the buffer to the
+ * pool once the content has been copied out of it.
+ * <p>
+ * The buffer of a stream that is never released is simply left to the garbage collector.
+ */
+@SdkInternalApi
+public final class PooledByteArrayOutputStream extends ByteArrayOutputStream {
+    /**
+     * Size of the buffers created when the pool is empty. Chosen somewhat arbitrarily. Should be large enough to prevent
+     * frequent resizings but small enough to avoid wasted allocations for small requests.
+     */
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    /**
+     * Buffers that grew beyond this size while serializing a large body are dropped instead of being kept in the pool.
+     */
+    private static final int MAX_POOLED_BUFFER_SIZE = 64 * 1024;
+
+    private static final int POOL_SIZE = 16;
+    private static final AtomicReferenceArray<byte[]> POOL = new AtomicReferenceArray<>(POOL_SIZE);
+    private static final byte[] EMPTY = new byte[0];
+
+    public PooledByteArrayOutputStream() {
+        super(0);
+        this.buf = acquire();
+    }
+
+    /**
+     * Return the buffer of this stream to the pool. The content of the stream must have been copied out before, and the
+     * stream is empty afterwards.
+     */
+    public synchronized void release() {
+        byte[] released = buf;
+        buf = EMPTY;
+        count = 0;
+        if (released.length == 0 || released.length > MAX_POOLED_BUFFER_SIZE) {
+            return;
+        }
+        int start = firstSlot();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            int slot = (start + i) & (POOL_SIZE - 1);
+            if (POOL.get(slot) == null && POOL.compareAndSet(slot, null, released)) {
+                return;
+            }
+        }
+    }
+
+    private static byte[] acquire() {
+        int start = firstSlot();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            int slot = (start + i) & (POOL_SIZE - 1);
+            byte[] pooled = POOL.get(slot);
+            if (pooled != null && POOL.compareAndSet(slot, pooled, null)) {
+                return pooled;
+            }
+        }
+        return new byte[INITIAL_BUFFER_SIZE];
+    }
+
+    /**
+     * Threads start looking for a buffer at different slots, so that concurrent requests rarely contend for the same one.
+     */
+    private static int firstSlot() {
+        return (int) Thread.currentThread().getId() & (POOL_SIZE - 1);
+    }
+}
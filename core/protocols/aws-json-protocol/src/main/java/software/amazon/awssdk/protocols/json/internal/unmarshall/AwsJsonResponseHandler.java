@@ -17,12 +17,15 @@ package software.amazon.awssdk.protocols.json.internal.unmarshall;
 
 import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.AwsResponseMetadata;
 import software.amazon.awssdk.awscore.DefaultAwsResponseMetadata;
+import software.amazon.awssdk.core.http.HttpResponseBodyParser;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -38,10 +41,28 @@ public final class AwsJsonResponseHandler<T> implements HttpResponseHandler<T> {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public T handle(SdkHttpFullResponse response, ExecutionAttributes executionAttributes) throws Exception {
-        T result = responseHandler.handle(response, executionAttributes);
+        return withResponseMetadata(responseHandler.handle(response, executionAttributes), response);
+    }
+
+    @Override
+    public Optional<HttpResponseBodyParser<T>> bodyParser(SdkHttpFullResponse response,
+                                                          ExecutionAttributes executionAttributes) {
+        return responseHandler.bodyParser(response, executionAttributes).map(parser -> new HttpResponseBodyParser<T>() {
+            @Override
+            public void feed(ByteBuffer part) throws Exception {
+                parser.feed(part);
+            }
 
+            @Override
+            public T complete() throws Exception {
+                return withResponseMetadata(parser.complete(), response);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private T withResponseMetadata(T result, SdkHttpResponse response) {
         // As T is not bounded to AwsResponse, we need to do explicitly cast here.
         if (result instanceof AwsResponse) {
             AwsResponseMetadata responseMetadata = generateResponseMetadata(response);
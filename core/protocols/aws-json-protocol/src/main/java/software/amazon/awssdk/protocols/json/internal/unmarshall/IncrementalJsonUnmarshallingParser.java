@@ -0,0 +1,437 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.protocol.MarshallingKnownType;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.core.util.SdkOwnedList;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParseException;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
+import software.amazon.awssdk.thirdparty.jackson.core.async.ByteBufferFeeder;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls a JSON document into an {@link SdkPojo} as its bytes are fed to it, using a non-blocking parser. Produces the
+ * same result as {@link JsonUnmarshallingParser#parse}, but instead of pulling the tokens from a stream recursively, it keeps
+ * a stack with one frame per JSON object or array that is open, and processes each token as soon as it is available.
+ * <p>
+ * Created via {@link JsonUnmarshallingParser#incrementalParser(SdkPojo)}.
+ */
+@SdkInternalApi
+@NotThreadSafe
+@SuppressWarnings("unchecked")
+final class IncrementalJsonUnmarshallingParser {
+    private final JsonUnmarshallingParser unmarshallingParser;
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+    private final SdkPojo pojo;
+    private final JsonUnmarshallerContext context = JsonUnmarshallerContext.builder().build();
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private boolean inputReceived;
+    private boolean tokenReceived;
+    private boolean done;
+    private int skipDepth;
+    private SdkPojo result;
+
+    IncrementalJsonUnmarshallingParser(JsonUnmarshallingParser unmarshallingParser, JsonParser parser, SdkPojo pojo) {
+        this.unmarshallingParser = unmarshallingParser;
+        this.parser = parser;
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+        this.pojo = pojo;
+    }
+
+    /**
+     * Parses the next part of the document, unmarshalling every value that it completes. Once the root value of the document
+     * is complete, the rest of the input is ignored.
+     */
+    public void feed(ByteBuffer part) {
+        if (done || !part.hasRemaining()) {
+            return;
+        }
+        inputReceived = true;
+        invokeSafely(() -> {
+            feeder.feedInput(part);
+            parseAvailableTokens();
+        });
+    }
+
+    /**
+     * Returns true if any input was fed to this parser.
+     */
+    public boolean inputReceived() {
+        return inputReceived;
+    }
+
+    /**
+     * Signals the end of the document and returns the deserialized {@link SdkPojo}.
+     */
+    public SdkPojo complete() {
+        return invokeSafely(() -> {
+            try {
+                if (!done) {
+                    feeder.endOfInput();
+                    parseAvailableTokens();
+                }
+                if (done) {
+                    return result;
+                }
+                if (!tokenReceived) {
+                    return (SdkPojo) ((Buildable) pojo).build();
+                }
+                throw new JsonParseException("unexpected end of input, " + frames.size() + " values are not closed");
+            } finally {
+                parser.close();
+            }
+        });
+    }
+
+    private void parseAvailableTokens() throws IOException {
+        JsonToken token = parser.nextToken();
+        while (token != JsonToken.NOT_AVAILABLE && token != null) {
+            tokenReceived = true;
+            onToken(token);
+            if (done) {
+                return;
+            }
+            token = parser.nextToken();
+        }
+    }
+
+    private void onToken(JsonToken token) throws IOException {
+        if (skipDepth > 0) {
+            skip(token);
+            return;
+        }
+        Frame frame = frames.peek();
+        if (frame == null) {
+            onRootToken(token);
+            return;
+        }
+        frame.onToken(token);
+    }
+
+    private void onRootToken(JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            finish(null);
+            return;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException("expecting start object, got instead: " + token);
+        }
+        frames.push(new PojoFrame(null, pojo));
+    }
+
+    /**
+     * Consumes the tokens of a value that is ignored, keeping track of the objects and arrays that it opens.
+     */
+    private void skip(JsonToken token) {
+        switch (token) {
+            case START_OBJECT:
+            case START_ARRAY:
+                skipDepth++;
+                return;
+            case END_OBJECT:
+            case END_ARRAY:
+                skipDepth--;
+                return;
+            default:
+                return;
+        }
+    }
+
+    /**
+     * Starts skipping a value, given its first token.
+     */
+    private void startSkipping(JsonToken token) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+            case VALUE_FALSE:
+            case VALUE_TRUE:
+            case VALUE_NULL:
+            case VALUE_NUMBER_FLOAT:
+            case VALUE_NUMBER_INT:
+            case VALUE_EMBEDDED_OBJECT:
+                return;
+            case START_OBJECT:
+            case START_ARRAY:
+                skipDepth = 1;
+                return;
+            default:
+                throw new JsonParseException("unexpected JSON token - " + token);
+        }
+    }
+
+    /**
+     * Starts unmarshalling the value for the given field, given its first token. Scalar values are added to the parent frame
+     * right away; lists, maps, pojos and composite documents push a new frame that adds the value once it is closed.
+     */
+    private void startValue(Frame parent, SdkField<?> field, MarshallingType<?> type, JsonToken token) throws IOException {
+        MarshallingKnownType marshallingKnownType = type.getKnownType();
+        if (marshallingKnownType == MarshallingKnownType.DOCUMENT) {
+            startDocumentValue(parent, token);
+            return;
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            parent.add(null);
+            return;
+        }
+        switch (marshallingKnownType) {
+            case SDK_POJO:
+                unmarshallingParser.expect(token, JsonToken.START_OBJECT);
+                frames.push(new PojoFrame(parent, field.constructor().get()));
+                return;
+            case LIST:
+                unmarshallingParser.expect(token, JsonToken.START_ARRAY);
+                frames.push(new ListFrame(parent, field));
+                return;
+            case MAP:
+                unmarshallingParser.expect(token, JsonToken.START_OBJECT);
+                frames.push(new MapFrame(parent, field));
+                return;
+            default:
+                parent.add(unmarshallingParser.scalarValueFor(field, context, type, parser, token));
+        }
+    }
+
+    private void startDocumentValue(Frame parent, JsonToken token) throws IOException {
+        switch (token) {
+            case START_ARRAY:
+                frames.push(new DocumentListFrame(parent));
+                return;
+            case START_OBJECT:
+                frames.push(new DocumentMapFrame(parent));
+                return;
+            default:
+                parent.add(unmarshallingParser.parseDocumentValue(context, parser, token));
+        }
+    }
+
+    /**
+     * Closes the current frame, adding its value to the parent frame, or completing the document if it is the root frame.
+     */
+    private void close(Object value) {
+        Frame frame = frames.pop();
+        if (frame.parent == null) {
+            finish((SdkPojo) value);
+        } else {
+            frame.parent.add(value);
+        }
+    }
+
+    private void finish(SdkPojo value) {
+        result = value;
+        done = true;
+    }
+
+    private abstract static class Frame {
+        private final Frame parent;
+
+        Frame(Frame parent) {
+            this.parent = parent;
+        }
+
+        /**
+         * Handles a token of this object or array, including its closing token.
+         */
+        abstract void onToken(JsonToken token) throws IOException;
+
+        /**
+         * Adds an unmarshalled value to this object or array.
+         */
+        abstract void add(Object value);
+    }
+
+    private final class PojoFrame extends Frame {
+        private final SdkPojo pojo;
+        private final Map<String, SdkField<?>> pojoFields;
+        private SdkField<?> field;
+
+        PojoFrame(Frame parent, SdkPojo pojo) {
+            super(parent);
+            this.pojo = pojo;
+            this.pojoFields = pojo.sdkFieldNameToField();
+        }
+
+        @Override
+        void onToken(JsonToken token) throws IOException {
+            if (token == JsonToken.END_OBJECT) {
+                close(((Buildable) pojo).build());
+                return;
+            }
+            if (token == JsonToken.FIELD_NAME) {
+                field = pojoFields.get(parser.getText());
+                return;
+            }
+            // if the name of the field is unknown or the field is expected in a non-payload location (e.g., header), we ignore
+            // its value here.
+            if (field == null || !unmarshallingParser.isPayloadUnmarshalling(field.location())) {
+                startSkipping(token);
+                return;
+            }
+            startValue(this, field, field.marshallingType(), token);
+        }
+
+        @Override
+        void add(Object value) {
+            ((SdkField<Object>) field).set(pojo, value);
+        }
+    }
+
+    private final class ListFrame extends Frame {
+        private final SdkField<?> field;
+        private final SdkField<Object> memberInfo;
+        private final MarshallingType<?> marshallingType;
+        private final boolean scalar;
+        private final List<Object> list = new ArrayList<>();
+
+        ListFrame(Frame parent, SdkField<?> field) {
+            super(parent);
+            this.field = field;
+            this.memberInfo = (SdkField<Object>) field.getTrait(ListTrait.class).memberFieldInfo();
+            this.marshallingType = memberInfo.marshallingType();
+            this.scalar = unmarshallingParser.isScalarType(marshallingType);
+        }
+
+        @Override
+        void onToken(JsonToken token) throws IOException {
+            if (token == JsonToken.END_ARRAY) {
+                close(SdkOwnedList.wrap(list));
+                return;
+            }
+            // For lists of scalar types we use directly the unmarshaller here, as JsonUnmarshallingParser does.
+            if (scalar) {
+                list.add(unmarshallingParser.simpleValueFor(field, marshallingType.getKnownType(), context, parser, token));
+                return;
+            }
+            startValue(this, memberInfo, marshallingType, token);
+        }
+
+        @Override
+        void add(Object value) {
+            list.add(value);
+        }
+    }
+
+    private final class MapFrame extends Frame {
+        private final SdkField<?> field;
+        private final SdkField<Object> valueInfo;
+        private final MarshallingType<?> valueMarshallingType;
+        private final boolean scalar;
+        private final Map<String, Object> map = new LinkedHashMap<>();
+        private String key;
+
+        MapFrame(Frame parent, SdkField<?> field) {
+            super(parent);
+            this.field = field;
+            this.valueInfo = field.getTrait(MapTrait.class, TraitType.MAP_TRAIT).valueFieldInfo();
+            this.valueMarshallingType = valueInfo.marshallingType();
+            this.scalar = unmarshallingParser.isScalarType(valueMarshallingType);
+        }
+
+        @Override
+        void onToken(JsonToken token) throws IOException {
+            if (token == JsonToken.END_OBJECT) {
+                close(SdkOwnedMap.wrap(map));
+                return;
+            }
+            if (token == JsonToken.FIELD_NAME) {
+                key = parser.getText();
+                return;
+            }
+            // For maps of string to scalar types we use directly the unmarshaller here, as JsonUnmarshallingParser does.
+            if (scalar) {
+                map.put(key, unmarshallingParser.simpleValueFor(field, valueMarshallingType.getKnownType(), context, parser,
+                                                                token));
+                return;
+            }
+            startValue(this, valueInfo, valueMarshallingType, token);
+        }
+
+        @Override
+        void add(Object value) {
+            map.put(key, value);
+        }
+    }
+
+    private final class DocumentListFrame extends Frame {
+        private final Document.ListBuilder builder = Document.listBuilder();
+
+        DocumentListFrame(Frame parent) {
+            super(parent);
+        }
+
+        @Override
+        void onToken(JsonToken token) throws IOException {
+            if (token == JsonToken.END_ARRAY) {
+                close(builder.build());
+                return;
+            }
+            startDocumentValue(this, token);
+        }
+
+        @Override
+        void add(Object value) {
+            builder.addDocument((Document) value);
+        }
+    }
+
+    private final class DocumentMapFrame extends Frame {
+        private final Document.MapBuilder builder = Document.mapBuilder();
+        private String key;
+
+        DocumentMapFrame(Frame parent) {
+            super(parent);
+        }
+
+        @Override
+        void onToken(JsonToken token) throws IOException {
+            if (token == JsonToken.END_OBJECT) {
+                close(builder.build());
+                return;
+            }
+            if (token == JsonToken.FIELD_NAME) {
+                key = parser.getText();
+                return;
+            }
+            startDocumentValue(this, token);
+        }
+
+        @Override
+        void add(Object value) {
+            builder.putDocument(key, (Document) value);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.core.util.SdkOwnedList;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
+import software.amazon.awssdk.protocols.json.JsonShapeCodec;
+import software.amazon.awssdk.protocols.json.JsonShapeReader;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
+
+/**
+ * {@link JsonShapeReader} over the {@link JsonParser} of a {@link JsonUnmarshallingParser}. Scalar values are converted by the
+ * {@link JsonUnmarshallingParser}, using fields without traits other than the timestamp format, which is what members without
+ * a {@link JsonShapeCodec} get when they don't have other traits either.
+ */
+@SdkInternalApi
+final class JsonParserShapeReader implements JsonShapeReader {
+    private static final SdkField<String> STRING = payloadField(MarshallingType.STRING);
+    private static final SdkField<Integer> INTEGER = payloadField(MarshallingType.INTEGER);
+    private static final SdkField<Long> LONG = payloadField(MarshallingType.LONG);
+    private static final SdkField<Short> SHORT = payloadField(MarshallingType.SHORT);
+    private static final SdkField<Byte> BYTE = payloadField(MarshallingType.BYTE);
+    private static final SdkField<Float> FLOAT = payloadField(MarshallingType.FLOAT);
+    private static final SdkField<Double> DOUBLE = payloadField(MarshallingType.DOUBLE);
+    private static final SdkField<BigDecimal> BIG_DECIMAL = payloadField(MarshallingType.BIG_DECIMAL);
+    private static final SdkField<Boolean> BOOLEAN = payloadField(MarshallingType.BOOLEAN);
+    private static final SdkField<Instant> INSTANT = payloadField(MarshallingType.INSTANT);
+    private static final SdkField<SdkBytes> SDK_BYTES = payloadField(MarshallingType.SDK_BYTES);
+    private static final Map<TimestampFormatTrait.Format, SdkField<Instant>> FORMATTED_INSTANTS = formattedInstantFields();
+
+    private final JsonUnmarshallingParser unmarshallingParser;
+    private final JsonUnmarshallerContext context;
+    private final JsonParser parser;
+
+    /**
+     * The token of the value to read next.
+     */
+    private JsonToken token;
+
+    JsonParserShapeReader(JsonUnmarshallingParser unmarshallingParser, JsonUnmarshallerContext context, JsonParser parser) {
+        this.unmarshallingParser = unmarshallingParser;
+        this.context = context;
+        this.parser = parser;
+    }
+
+    /**
+     * Reads the fields of an object into the given builder. This method expects that the START_OBJECT token has been already
+     * consumed, and returns after consuming the END_OBJECT token.
+     */
+    <B extends SdkPojo> void readMembers(JsonShapeCodec<?, B> codec, B builder) throws IOException {
+        JsonToken currentToken = parser.nextToken();
+        while (currentToken != JsonToken.END_OBJECT) {
+            String fieldName = parser.getText();
+            token = parser.nextToken();
+            if (!codec.unmarshallMember(builder, fieldName, this)) {
+                unmarshallingParser.skipValue(parser, token);
+            }
+            currentToken = parser.nextToken();
+        }
+    }
+
+    @Override
+    public String readString() throws IOException {
+        return readScalar(STRING);
+    }
+
+    @Override
+    public Integer readInteger() throws IOException {
+        return readScalar(INTEGER);
+    }
+
+    @Override
+    public Long readLong() throws IOException {
+        return readScalar(LONG);
+    }
+
+    @Override
+    public Short readShort() throws IOException {
+        return readScalar(SHORT);
+    }
+
+    @Override
+    public Byte readByte() throws IOException {
+        return readScalar(BYTE);
+    }
+
+    @Override
+    public Float readFloat() throws IOException {
+        return readScalar(FLOAT);
+    }
+
+    @Override
+    public Double readDouble() throws IOException {
+        return readScalar(DOUBLE);
+    }
+
+    @Override
+    public BigDecimal readBigDecimal() throws IOException {
+        return readScalar(BIG_DECIMAL);
+    }
+
+    @Override
+    public Boolean readBoolean() throws IOException {
+        return readScalar(BOOLEAN);
+    }
+
+    @Override
+    public Instant readInstant() throws IOException {
+        return readScalar(INSTANT);
+    }
+
+    @Override
+    public Instant readInstant(TimestampFormatTrait.Format format) throws IOException {
+        return readScalar(FORMATTED_INSTANTS.get(format));
+    }
+
+    @Override
+    public SdkBytes readSdkBytes() throws IOException {
+        return readScalar(SDK_BYTES);
+    }
+
+    @Override
+    public <T extends SdkPojo, B extends SdkPojo> T readStructure(JsonShapeCodec<T, B> codec) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        unmarshallingParser.expect(token, JsonToken.START_OBJECT);
+        B builder = codec.newBuilder();
+        readMembers(codec, builder);
+        return codec.build(builder);
+    }
+
+    @Override
+    public <T> List<T> readList(ValueReader<T> elementReader) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        unmarshallingParser.expect(token, JsonToken.START_ARRAY);
+        List<T> result = new ArrayList<>();
+        token = parser.nextToken();
+        while (token != JsonToken.END_ARRAY) {
+            result.add(elementReader.read(this));
+            token = parser.nextToken();
+        }
+        return SdkOwnedList.wrap(result);
+    }
+
+    @Override
+    public <T> Map<String, T> readMap(ValueReader<T> valueReader) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        unmarshallingParser.expect(token, JsonToken.START_OBJECT);
+        Map<String, T> result = new LinkedHashMap<>();
+        JsonToken currentToken = parser.nextToken();
+        while (currentToken != JsonToken.END_OBJECT) {
+            String key = parser.getText();
+            token = parser.nextToken();
+            result.put(key, valueReader.read(this));
+            currentToken = parser.nextToken();
+        }
+        return SdkOwnedMap.wrap(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T readScalar(SdkField<T> field) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return (T) unmarshallingParser.scalarValueFor(field, context, field.marshallingType(), parser, token);
+    }
+
+    private static <T> SdkField<T> payloadField(MarshallingType<T> marshallingType, Trait... traits) {
+        Trait[] fieldTraits = Arrays.copyOf(traits, traits.length + 1);
+        fieldTraits[traits.length] = LocationTrait.builder()
+                                                  .location(MarshallLocation.PAYLOAD)
+                                                  .build();
+        return SdkField.<T>builder(marshallingType)
+                       .traits(fieldTraits)
+                       .build();
+    }
+
+    private static Map<TimestampFormatTrait.Format, SdkField<Instant>> formattedInstantFields() {
+        Map<TimestampFormatTrait.Format, SdkField<Instant>> fields = new EnumMap<>(TimestampFormatTrait.Format.class);
+        for (TimestampFormatTrait.Format format : TimestampFormatTrait.Format.values()) {
+            fields.put(format, payloadField(MarshallingType.INSTANT, TimestampFormatTrait.create(format)));
+        }
+        return fields;
+    }
+}
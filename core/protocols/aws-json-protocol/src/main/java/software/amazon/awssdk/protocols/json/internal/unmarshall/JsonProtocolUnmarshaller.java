@@ -19,6 +19,7 @@ import static software.amazon.awssdk.protocols.core.StringToValueConverter.TO_SD
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -33,6 +34,7 @@ import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.http.HttpResponseBodyParser;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.ListTrait;
@@ -40,10 +42,13 @@ import software.amazon.awssdk.core.traits.MapTrait;
 import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.core.util.SdkOwnedList;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.json.JsonShapeCodecRegistry;
 import software.amazon.awssdk.protocols.json.internal.AwsStructuredPlainJsonFactory;
 import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.document.DocumentUnmarshaller;
@@ -77,7 +82,7 @@ public class JsonProtocolUnmarshaller {
                                                               .unmarshallerRegistry(dependencies.jsonUnmarshallerRegistry())
                                                               .defaultTimestampFormat(dependencies.timestampFormats()
                                                                                                   .get(MarshallLocation.PAYLOAD))
-
+                                                              .shapeCodecs(builder.shapeCodecs)
                                                               .build();
             this.parser = null;
         } else {
@@ -202,7 +207,7 @@ public class JsonProtocolUnmarshaller {
         for (Map.Entry<String, JsonNode> kvp : asObject.entrySet()) {
             map.put(kvp.getKey(), unmarshaller.unmarshall(context, kvp.getValue(), valueInfo));
         }
-        return map;
+        return SdkOwnedMap.wrap(map);
     }
 
     private static List<?> unmarshallList(JsonUnmarshallerContext context, JsonNode jsonContent, SdkField<List<?>> field) {
@@ -218,7 +223,7 @@ public class JsonProtocolUnmarshaller {
                                                                             memberInfo.marshallingType());
             result.add(unmarshaller.unmarshall(context, node, memberInfo));
         }
-        return result;
+        return SdkOwnedList.wrap(result);
     }
 
     private static class SimpleTypeJsonUnmarshaller<T> implements JsonUnmarshaller<T> {
@@ -261,6 +266,41 @@ public class JsonProtocolUnmarshaller {
         return unmarshallFromJson(sdkPojo, response.content().get());
     }
 
+    /**
+     * Returns a parser that unmarshalls the JSON payload of the response as it is received, or empty if the payload has to be
+     * buffered. The payload can only be parsed incrementally when the fast unmarshaller is enabled, the protocol supports
+     * non-blocking parsing, and the payload is the JSON document of the given pojo.
+     */
+    public <TypeT extends SdkPojo> Optional<HttpResponseBodyParser<TypeT>> bodyParser(SdkPojo sdkPojo,
+                                                                                      SdkHttpFullResponse response) {
+        if (unmarshallingParser == null
+            || !unmarshallingParser.canParseIncrementally()
+            || !hasJsonPayloadMembers(sdkPojo)
+            || hasExplicitJsonPayloadMember(sdkPojo)) {
+            return Optional.empty();
+        }
+
+        IncrementalJsonUnmarshallingParser incrementalParser = unmarshallingParser.incrementalParser(sdkPojo);
+        return Optional.of(new HttpResponseBodyParser<TypeT>() {
+            @Override
+            public void feed(ByteBuffer part) {
+                incrementalParser.feed(part);
+            }
+
+            @Override
+            public TypeT complete() throws IOException {
+                if (!incrementalParser.inputReceived()) {
+                    return unmarshallResponse(sdkPojo, response);
+                }
+                TypeT result = (TypeT) incrementalParser.complete();
+                if (hasMixedLocations(sdkPojo)) {
+                    return unmarshallResponse(sdkPojo, response);
+                }
+                return result;
+            }
+        });
+    }
+
     @SuppressWarnings("unchecked")
     private <T extends SdkPojo> T unmarshallFromJson(SdkPojo sdkPojo, InputStream inputStream) {
         return (T) unmarshallingParser.parse(sdkPojo, inputStream);
@@ -303,9 +343,10 @@ public class JsonProtocolUnmarshaller {
     }
 
     private boolean hasJsonPayload(SdkPojo sdkPojo, SdkHttpFullResponse response) {
-        if (!response.content().isPresent()) {
-            return false;
-        }
+        return response.content().isPresent() && hasJsonPayloadMembers(sdkPojo);
+    }
+
+    private boolean hasJsonPayloadMembers(SdkPojo sdkPojo) {
         for (SdkField<?> field : sdkPojo.sdkFields()) {
             if (isPayloadMemberOnUnmarshall(field)
                 && !(isExplicitBlobPayloadMember(field) || isExplicitStringPayloadMember(field))) {
@@ -457,6 +498,7 @@ public class JsonProtocolUnmarshaller {
         private JsonNodeParser parser;
         private ProtocolUnmarshallDependencies protocolUnmarshallDependencies;
         private boolean enableFastUnmarshalling = false;
+        private JsonShapeCodecRegistry shapeCodecs = JsonShapeCodecRegistry.empty();
 
         private Builder() {
         }
@@ -500,6 +542,16 @@ public class JsonProtocolUnmarshaller {
             return this;
         }
 
+        /**
+         * @param shapeCodecs The generated codecs used to unmarshall the shapes that have one, instead of the unmarshaller
+         * registry. They are only used by the fast unmarshalling codepath. Defaults to {@link JsonShapeCodecRegistry#empty()}.
+         * @return This builder for method chaining.
+         */
+        public Builder shapeCodecs(JsonShapeCodecRegistry shapeCodecs) {
+            this.shapeCodecs = shapeCodecs;
+            return this;
+        }
+
         /**
          * @return New instance of {@link JsonProtocolUnmarshaller}.
          */
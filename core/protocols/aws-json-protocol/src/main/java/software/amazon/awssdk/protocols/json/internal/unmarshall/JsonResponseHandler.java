@@ -17,10 +17,13 @@ package software.amazon.awssdk.protocols.json.internal.unmarshall;
 
 import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
+import java.nio.ByteBuffer;
+import java.util.Optional;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.SdkStandardLogger;
+import software.amazon.awssdk.core.http.HttpResponseBodyParser;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -89,6 +92,36 @@ public final class JsonResponseHandler<T extends SdkPojo> implements HttpRespons
         }
     }
 
+    /**
+     * Unmarshalls the response as it is received if its payload is parsed as JSON.
+     *
+     * @see HttpResponseHandler#bodyParser(SdkHttpFullResponse, ExecutionAttributes)
+     */
+    @Override
+    public Optional<HttpResponseBodyParser<T>> bodyParser(SdkHttpFullResponse response,
+                                                          ExecutionAttributes executionAttributes) {
+        if (!shouldParsePayloadAsJson()) {
+            return Optional.empty();
+        }
+
+        return unmarshaller.<T>bodyParser(pojoSupplier.apply(response), response).map(parser -> {
+            SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Parsing service response JSON.");
+            return new HttpResponseBodyParser<T>() {
+                @Override
+                public void feed(ByteBuffer part) throws Exception {
+                    parser.feed(part);
+                }
+
+                @Override
+                public T complete() throws Exception {
+                    T result = parser.complete();
+                    SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Done parsing service response.");
+                    return result;
+                }
+            };
+        });
+    }
+
     @Override
     public boolean needsConnectionLeftOpen() {
         return needsConnectionLeftOpen;
@@ -37,6 +37,10 @@ import software.amazon.awssdk.core.traits.ListTrait;
 import software.amazon.awssdk.core.traits.MapTrait;
 import software.amazon.awssdk.core.traits.TimestampFormatTrait;
 import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.core.util.SdkOwnedList;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
+import software.amazon.awssdk.protocols.json.JsonShapeCodec;
+import software.amazon.awssdk.protocols.json.JsonShapeCodecRegistry;
 import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
 import software.amazon.awssdk.protocols.jsoncore.JsonValueNodeFactory;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
@@ -57,12 +61,14 @@ final class JsonUnmarshallingParser {
     private final JsonValueNodeFactory jsonValueNodeFactory;
     private final JsonUnmarshallerRegistry unmarshallerRegistry;
     private final TimestampFormatTrait.Format defaultFormat;
+    private final JsonShapeCodecRegistry shapeCodecs;
 
     private JsonUnmarshallingParser(Builder builder) {
         this.jsonFactory = builder.jsonFactory;
         this.jsonValueNodeFactory = builder.jsonValueNodeFactory;
         this.unmarshallerRegistry = builder.unmarshallerRegistry;
         this.defaultFormat = builder.defaultFormat;
+        this.shapeCodecs = builder.shapeCodecs;
     }
 
     /**
@@ -96,12 +102,37 @@ final class JsonUnmarshallingParser {
         });
     }
 
+    /**
+     * Returns true if this parser can unmarshall a document incrementally, as its bytes are received, using
+     * {@link #incrementalParser(SdkPojo)}. This depends on the {@link JsonFactory} supporting non-blocking parsing, which is
+     * the case for JSON but not for CBOR.
+     */
+    public boolean canParseIncrementally() {
+        return jsonFactory.canParseAsync();
+    }
+
+    /**
+     * Create a parser that unmarshalls the document fed to it into the given {@link SdkPojo}, producing the same result as
+     * {@link #parse(SdkPojo, InputStream)}.
+     */
+    public IncrementalJsonUnmarshallingParser incrementalParser(SdkPojo pojo) {
+        return invokeSafely(() -> new IncrementalJsonUnmarshallingParser(this, jsonFactory.createNonBlockingByteBufferParser(),
+                                                                        pojo));
+    }
+
     /**
      * Parses an sdk pojo and fills its fields. The given SdkPojo instance is expected to be a {@link Buildable} instance. This
      * method expects that the START_OBJECT token has been already consumed, so the next token should be either a field name or an
      * END_OBJECT.
      */
     private SdkPojo parseSdkPojo(JsonUnmarshallerContext c, SdkPojo pojo, JsonParser parser) throws IOException {
+        if (!shapeCodecs.isEmpty()) {
+            JsonShapeCodec<SdkPojo, SdkPojo> codec = shapeCodecs.codecForBuilder(pojo.getClass());
+            if (codec != null) {
+                new JsonParserShapeReader(this, c, parser).readMembers(codec, pojo);
+                return codec.build(pojo);
+            }
+        }
         Map<String, SdkField<?>> pojoFields = pojo.sdkFieldNameToField();
         JsonToken currentToken = parser.nextToken();
         while (currentToken != JsonToken.END_OBJECT) {
@@ -132,7 +163,7 @@ final class JsonUnmarshallingParser {
      *     <li>{@link MarshallLocation#GREEDY_PATH}</li>
      * </ul>
      */
-    private boolean isPayloadUnmarshalling(MarshallLocation location) {
+    boolean isPayloadUnmarshalling(MarshallLocation location) {
         switch (location) {
             case PAYLOAD:
             case PATH:
@@ -162,7 +193,7 @@ final class JsonUnmarshallingParser {
                 result.add(simpleValueFor(field, marshallingKnownType, c, parser, currentToken));
                 currentToken = parser.nextToken();
             }
-            return result;
+            return SdkOwnedList.wrap(result);
         }
 
 
@@ -170,7 +201,7 @@ final class JsonUnmarshallingParser {
             result.add(valueFor(memberInfo, c, marshallingType, parser, currentToken));
             currentToken = parser.nextToken();
         }
-        return result;
+        return SdkOwnedList.wrap(result);
     }
 
     /**
@@ -194,7 +225,7 @@ final class JsonUnmarshallingParser {
                 result.put(fieldName, valueFor);
                 currentToken = parser.nextToken();
             }
-            return result;
+            return SdkOwnedMap.wrap(result);
         }
 
         while (currentToken != JsonToken.END_OBJECT) {
@@ -204,7 +235,7 @@ final class JsonUnmarshallingParser {
             result.put(fieldName, valueFor);
             currentToken = parser.nextToken();
         }
-        return result;
+        return SdkOwnedMap.wrap(result);
     }
 
     /**
@@ -244,6 +275,24 @@ final class JsonUnmarshallingParser {
             case MAP:
                 expect(lookAhead, JsonToken.START_OBJECT);
                 return parseMap(context, field, parser);
+            default:
+                return scalarValueFor(field, context, type, parser, lookAhead);
+        }
+    }
+
+    /**
+     * Parses and returns the value for the given scalar field. This method is expected to be called with a valid lookAhead
+     * token that is not {@link JsonToken#VALUE_NULL}.
+     */
+    Object scalarValueFor(
+        SdkField<?> field,
+        JsonUnmarshallerContext context,
+        MarshallingType<?> type,
+        JsonParser parser,
+        JsonToken lookAhead
+    ) throws IOException {
+        MarshallingKnownType marshallingKnownType = type.getKnownType();
+        switch (marshallingKnownType) {
             case INSTANT:
                 return instantValueFor(field, parser, context, lookAhead);
             default:
@@ -262,7 +311,7 @@ final class JsonUnmarshallingParser {
     /**
      * Returns a parsed simple value for the given SdkField.
      */
-    private Object simpleValueFor(
+    Object simpleValueFor(
         SdkField<?> field,
         MarshallingKnownType knownType,
         JsonUnmarshallerContext context,
@@ -319,7 +368,7 @@ final class JsonUnmarshallingParser {
      * Consumes all the needed tokens that represent a single value, the value can be scalar or composite. If lookAhead is null a
      * new token is consumed.
      */
-    private void skipValue(JsonParser parser, JsonToken lookAhead) throws IOException {
+    void skipValue(JsonParser parser, JsonToken lookAhead) throws IOException {
         JsonToken current = lookAhead != null ? lookAhead : parser.nextToken();
         switch (current) {
             case VALUE_STRING:
@@ -357,7 +406,7 @@ final class JsonUnmarshallingParser {
     /**
      * Validates that the lookAhead token is of the given type, throws a JsonParseException otherwise.
      */
-    private void expect(JsonToken lookAhead, JsonToken expected) throws IOException {
+    void expect(JsonToken lookAhead, JsonToken expected) throws IOException {
         if (lookAhead != expected) {
             throw new JsonParseException("unexpected token, expecting token: " + expected + ", got: " + lookAhead);
         }
@@ -421,14 +470,14 @@ final class JsonUnmarshallingParser {
     /**
      * Returns true if the marshallingType is scalar, i.e., non-composite.
      */
-    private boolean isScalarType(MarshallingType<?> marshallingType) {
+    boolean isScalarType(MarshallingType<?> marshallingType) {
         return !isCompositeType(marshallingType);
     }
 
     /**
      * Parses a {@link Document} value, either composite or scalar.
      */
-    private Document parseDocumentValue(JsonUnmarshallerContext c, JsonParser parser, JsonToken lookAhead) throws IOException {
+    Document parseDocumentValue(JsonUnmarshallerContext c, JsonParser parser, JsonToken lookAhead) throws IOException {
         JsonToken token = lookAhead != null ? lookAhead : parser.nextToken();
         switch (token) {
             case VALUE_STRING:
@@ -487,6 +536,7 @@ final class JsonUnmarshallingParser {
         private JsonValueNodeFactory jsonValueNodeFactory = JsonValueNodeFactory.DEFAULT;
         private JsonUnmarshallerRegistry unmarshallerRegistry;
         private TimestampFormatTrait.Format defaultFormat;
+        private JsonShapeCodecRegistry shapeCodecs = JsonShapeCodecRegistry.empty();
 
         private Builder() {
         }
@@ -530,6 +580,15 @@ final class JsonUnmarshallingParser {
             return this;
         }
 
+        /**
+         * Generated codecs used to unmarshall the shapes that have one, instead of the unmarshaller registry. By default, this
+         * is {@link JsonShapeCodecRegistry#empty()}.
+         */
+        public Builder shapeCodecs(JsonShapeCodecRegistry shapeCodecs) {
+            this.shapeCodecs = shapeCodecs;
+            return this;
+        }
+
         /**
          * Build a {@link JsonNodeParser} based on the current configuration of this builder.
          */
@@ -17,6 +17,7 @@ package software.amazon.awssdk.protocols.json.internal.unmarshall;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.client.config.ClientOption;
+import software.amazon.awssdk.protocols.json.JsonShapeCodecRegistry;
 
 @SdkInternalApi
 public class SdkClientJsonProtocolAdvancedOption<T> extends ClientOption<T> {
@@ -26,6 +27,13 @@ public class SdkClientJsonProtocolAdvancedOption<T> extends ClientOption<T> {
     public static final SdkClientJsonProtocolAdvancedOption<Boolean> ENABLE_FAST_UNMARSHALLER =
         new SdkClientJsonProtocolAdvancedOption<>(Boolean.class);
 
+    /**
+     * The codecs generated for the shapes of the service, used instead of the marshaller and unmarshaller registries for the
+     * shapes that have one. This option is internal and subject to removal in future releases of the SDK.
+     */
+    public static final SdkClientJsonProtocolAdvancedOption<JsonShapeCodecRegistry> SHAPE_CODECS =
+        new SdkClientJsonProtocolAdvancedOption<>(JsonShapeCodecRegistry.class);
+
     protected SdkClientJsonProtocolAdvancedOption(Class<T> valueClass) {
         super(valueClass);
     }
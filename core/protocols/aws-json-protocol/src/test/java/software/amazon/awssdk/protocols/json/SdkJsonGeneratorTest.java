@@ -15,14 +15,17 @@
 
 package software.amazon.awssdk.protocols.json;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -171,6 +174,28 @@ public class SdkJsonGeneratorTest {
         assertTrue(j == 3);
     }
 
+    @Test
+    public void getBytes_CalledTwice_ReturnsSameContent() {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("stringProp").writeValue("stringVal");
+        jsonGenerator.writeEndObject();
+        byte[] first = jsonGenerator.getBytes();
+        byte[] second = jsonGenerator.getBytes();
+        assertArrayEquals(first, second);
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void getBytes_GeneratorsReusingPooledBuffers_DoNotShareContent() {
+        for (int i = 0; i < 100; i++) {
+            StructuredJsonGenerator generator = new SdkJsonGenerator(JsonFactory.builder().build(), "application/json");
+            generator.writeStartArray();
+            generator.writeValue(i);
+            generator.writeEndArray();
+            assertEquals("[" + i + "]", new String(generator.getBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
     private JsonNode toJsonNode() throws IOException {
         return JsonNode.parser().parse(new ByteArrayInputStream(jsonGenerator.getBytes()));
     }
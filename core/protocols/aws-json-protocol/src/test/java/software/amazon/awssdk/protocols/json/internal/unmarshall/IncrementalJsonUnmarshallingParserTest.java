@@ -0,0 +1,200 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.http.HttpResponseBodyParser;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParseException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static software.amazon.awssdk.protocols.json.internal.unmarshall.JsonUnmarshallingParserTest.from;
+import static software.amazon.awssdk.protocols.json.internal.unmarshall.JsonUnmarshallingParserTest.parser;
+
+class IncrementalJsonUnmarshallingParserTest {
+    private static final String DOCUMENT =
+        "{\"booleanMember\": true, \"stringMember\": \"caf\\u00e9 été ☃\", \"integerMember\": 42,"
+        + " \"unknownMember\": {\"a\": [1, {\"b\": null}, [\"c\"]], \"d\": \"}]\"},"
+        + " \"longMember\": 9007199254740993, \"floatMember\": 1.5, \"doubleMember\": -2.25e10,"
+        + " \"timestampMember\": 1398796238.123, \"blobMember\": \"aGVsbG8gd29ybGQ=\","
+        + " \"listOfStringsMember\": [\"a\", null, \"\", \"d\"],"
+        + " \"mapOfStringToStringMember\": {\"k1\": \"v1\", \"k2\": null, \"k3\": \"v3\"},"
+        + " \"complexStructMember\": {\"stringMember\": \"nested\", \"unknownList\": [[], {}],"
+        + "   \"complexStructMember\": {\"integerMember\": -1, \"listOfStringsMember\": []},"
+        + "   \"mapOfStringToStringMember\": {}},"
+        + " \"documentMember\": {\"list\": [1, 2.5, \"three\", true, null, {\"nested\": [false]}], \"empty\": {}},"
+        + " \"unknownScalar\": 12}";
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 64, Integer.MAX_VALUE})
+    public void parsingInPartsProducesSameResultAsParse(int partSize) {
+        SdkPojo expected = parser().parse(TestRequest.builder(), from(DOCUMENT));
+
+        assertSameFields(expected, parseInParts(DOCUMENT, partSize));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, Integer.MAX_VALUE})
+    public void parsingDocumentRootInPartsProducesSameResultAsParse(int partSize) {
+        String json = "{\"documentMember\": [\"a\", {\"b\": {\"c\": [1, [2, [3]]]}}, -0.5]}";
+        SdkPojo expected = parser().parse(TestRequest.builder(), from(json));
+
+        assertSameFields(expected, parseInParts(json, partSize));
+    }
+
+    @Test
+    public void parsingPojoFieldThrowsOnNumberFoundInstead() {
+        assertParseException("{\"complexStructMember\": 123}");
+    }
+
+    @Test
+    public void parsingAMapFieldThrowsOnNumberFoundInstead() {
+        assertParseException("{\"mapOfStringToStringMember\": 123}");
+    }
+
+    @Test
+    public void parsingAListFieldThrowsOnNumberFoundInstead() {
+        assertParseException("{\"listOfStringsMember\": 123}");
+    }
+
+    @Test
+    public void parseOnJsonUnexpectedNonObjectStartThrows() {
+        assertParseException("123.456");
+    }
+
+    @Test
+    public void parseOnTruncatedInputThrows() {
+        assertParseException("{\"complexStructMember\": {\"stringMember\": \"a\"");
+    }
+
+    @Test
+    public void parseOnEmptyInputReturnsAValidPojo() {
+        IncrementalJsonUnmarshallingParser parser = parser().incrementalParser(TestRequest.builder());
+        assertNotNull(parser.complete());
+        assertFalse(parser.inputReceived());
+    }
+
+    @Test
+    public void parseOnWhitespaceInputReturnsAValidPojo() {
+        assertNotNull(parseInParts("  \n ", 1));
+    }
+
+    @Test
+    public void parseOnJsonNullLiteralReturnsNull() {
+        assertNull(parseInParts("null", 1));
+    }
+
+    @Test
+    public void inputAfterTheRootObjectIsIgnored() {
+        SdkPojo result = parseInParts("{\"integerMember\": 1} {\"integerMember\": 2} ]", 1);
+        assertEquals(1, ((TestRequest) result).integerMember());
+    }
+
+    @Test
+    public void feedingDoesNotChangeThePositionOfTheBuffer() {
+        IncrementalJsonUnmarshallingParser parser = parser().incrementalParser(TestRequest.builder());
+        ByteBuffer part = ByteBuffer.wrap("{\"integerMember\": 1}".getBytes(StandardCharsets.UTF_8));
+        parser.feed(part);
+        assertEquals(0, part.position());
+        assertTrue(parser.inputReceived());
+    }
+
+    @Test
+    public void protocolUnmarshaller_fastUnmarshallingDisabled_hasNoBodyParser() {
+        JsonProtocolUnmarshaller unmarshaller = protocolUnmarshaller(false);
+        assertFalse(unmarshaller.bodyParser(TestRequest.builder(), response()).isPresent());
+    }
+
+    @Test
+    public void protocolUnmarshaller_bodyParser_producesSameResultAsUnmarshall() throws Exception {
+        JsonProtocolUnmarshaller unmarshaller = protocolUnmarshaller(true);
+        SdkHttpFullResponse response = response();
+        SdkPojo expected = unmarshaller.unmarshall(TestRequest.builder(),
+                                                   response.toBuilder()
+                                                           .content(AbortableInputStream.create(from(DOCUMENT)))
+                                                           .build());
+
+        Optional<HttpResponseBodyParser<SdkPojo>> bodyParser = unmarshaller.bodyParser(TestRequest.builder(), response);
+        assertTrue(bodyParser.isPresent());
+        bodyParser.get().feed(ByteBuffer.wrap(DOCUMENT.getBytes(StandardCharsets.UTF_8)));
+        assertSameFields(expected, bodyParser.get().complete());
+    }
+
+    @Test
+    public void protocolUnmarshaller_bodyParserWithoutInput_producesSameResultAsUnmarshall() throws Exception {
+        JsonProtocolUnmarshaller unmarshaller = protocolUnmarshaller(true);
+        SdkHttpFullResponse response = response();
+        SdkPojo expected = unmarshaller.unmarshall(TestRequest.builder(), response);
+
+        assertSameFields(expected, unmarshaller.bodyParser(TestRequest.builder(), response).get().complete());
+    }
+
+    private static SdkPojo parseInParts(String json, int partSize) {
+        IncrementalJsonUnmarshallingParser parser = parser().incrementalParser(TestRequest.builder());
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        for (int offset = 0; offset < bytes.length; offset += partSize) {
+            int length = Math.min(partSize, bytes.length - offset);
+            parser.feed(ByteBuffer.wrap(bytes, offset, length).slice());
+        }
+        return parser.complete();
+    }
+
+    private static void assertSameFields(SdkPojo expected, SdkPojo actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        for (SdkField<?> field : expected.sdkFields()) {
+            Object expectedValue = field.getValueOrDefault(expected);
+            Object actualValue = field.getValueOrDefault(actual);
+            if (expectedValue instanceof SdkPojo && actualValue != null) {
+                assertSameFields((SdkPojo) expectedValue, (SdkPojo) actualValue);
+            } else {
+                assertEquals(expectedValue, actualValue, field.memberName());
+            }
+        }
+    }
+
+    private static void assertParseException(String json) {
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> parseInParts(json, 1));
+        assertNotNull(e.getCause());
+        assertInstanceOf(JsonParseException.class, e.getCause());
+    }
+
+    private static JsonProtocolUnmarshaller protocolUnmarshaller(boolean enableFastUnmarshalling) {
+        return JsonProtocolUnmarshaller.builder()
+                                       .protocolUnmarshallDependencies(
+                                           JsonProtocolUnmarshaller.defaultProtocolUnmarshallDependencies())
+                                       .enableFastUnmarshalling(enableFastUnmarshalling)
+                                       .build();
+    }
+
+    private static SdkHttpFullResponse response() {
+        return SdkHttpFullResponse.builder().statusCode(200).build();
+    }
+}
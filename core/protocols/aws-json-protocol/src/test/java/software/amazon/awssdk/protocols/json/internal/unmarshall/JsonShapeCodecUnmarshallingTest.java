@@ -0,0 +1,188 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.protocols.json.JsonShapeCodec;
+import software.amazon.awssdk.protocols.json.JsonShapeCodecRegistry;
+import software.amazon.awssdk.protocols.json.JsonShapeReader;
+import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static software.amazon.awssdk.protocols.json.internal.unmarshall.JsonUnmarshallingParserTest.from;
+import static software.amazon.awssdk.protocols.json.internal.unmarshall.JsonUnmarshallingParserTest.parser;
+
+class JsonShapeCodecUnmarshallingTest {
+    private static final String DOCUMENT =
+        "{\"stringMember\": \"top\", \"unknownMember\": {\"a\": [1, {\"b\": null}]},"
+        + " \"complexStructMember\": {\"booleanMember\": true, \"stringMember\": \"nested\", \"integerMember\": 42,"
+        + "   \"longMember\": 9007199254740993, \"floatMember\": 1.5, \"doubleMember\": -2.25e10,"
+        + "   \"timestampMember\": 1398796238.123, \"blobMember\": \"aGVsbG8gd29ybGQ=\", \"unknownList\": [[], {}],"
+        + "   \"listOfStringsMember\": [\"a\", null, \"\", \"d\"],"
+        + "   \"mapOfStringToStringMember\": {\"k1\": \"v1\", \"k2\": null},"
+        + "   \"complexStructMember\": {\"integerMember\": -1, \"listOfStringsMember\": [], \"unknownScalar\": 12}},"
+        + " \"listOfStringsMember\": [\"x\"]}";
+
+    @Test
+    public void parsingWithCodec_producesSameResultAsParse() {
+        CountingCodec codec = new CountingCodec();
+        SdkPojo expected = parser().parse(TestRequest.builder(), from(DOCUMENT));
+
+        SdkPojo actual = codecParser(codec).parse(TestRequest.builder(), from(DOCUMENT));
+
+        assertSameFields(expected, actual);
+        assertEquals(2, codec.structures.get());
+    }
+
+    @Test
+    public void parsingWithCodec_nullStructure_returnsNull() {
+        TestRequest request = (TestRequest) codecParser(new CountingCodec()).parse(TestRequest.builder(),
+                                                                              from("{\"complexStructMember\": null}"));
+
+        assertNull(request.complexStructMember());
+    }
+
+    @Test
+    public void parsingWithCodec_emptyStructure_returnsEmptyStructure() {
+        TestRequest request = (TestRequest) codecParser(new CountingCodec()).parse(TestRequest.builder(),
+                                                                              from("{\"complexStructMember\": {}}"));
+
+        assertEquals(ComplexStructure.builder().build(), request.complexStructMember());
+        assertFalse(request.complexStructMember().hasListOfStringsMember());
+    }
+
+    @Test
+    public void parsingWithCodec_timestampWithFormat_usesFormat() {
+        CountingCodec codec = new CountingCodec(TimestampFormatTrait.Format.ISO_8601);
+        String json = "{\"complexStructMember\": {\"timestampMember\": \"2014-04-29T18:30:38.123Z\"}}";
+
+        TestRequest request = (TestRequest) codecParser(codec).parse(TestRequest.builder(), from(json));
+
+        assertEquals(Instant.parse("2014-04-29T18:30:38.123Z"), request.complexStructMember().timestampMember());
+    }
+
+    private static JsonUnmarshallingParser codecParser(CountingCodec codec) {
+        ProtocolUnmarshallDependencies dependencies = JsonProtocolUnmarshaller.defaultProtocolUnmarshallDependencies();
+        return JsonUnmarshallingParser.builder()
+                                      .jsonFactory(dependencies.jsonFactory())
+                                      .unmarshallerRegistry(dependencies.jsonUnmarshallerRegistry())
+                                      .defaultTimestampFormat(dependencies.timestampFormats().get(MarshallLocation.PAYLOAD))
+                                      .shapeCodecs(JsonShapeCodecRegistry.builder()
+                                                                         .codec(ComplexStructure.class,
+                                                                                ComplexStructure.serializableBuilderClass(),
+                                                                                codec)
+                                                                         .build())
+                                      .build();
+    }
+
+    private static void assertSameFields(SdkPojo expected, SdkPojo actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        for (SdkField<?> field : expected.sdkFields()) {
+            Object expectedValue = field.getValueOrDefault(expected);
+            Object actualValue = field.getValueOrDefault(actual);
+            if (expectedValue instanceof SdkPojo && actualValue != null) {
+                assertSameFields((SdkPojo) expectedValue, (SdkPojo) actualValue);
+            } else {
+                assertEquals(expectedValue, actualValue, field.memberName());
+            }
+        }
+    }
+
+    /**
+     * A hand-written codec for {@link ComplexStructure}, like the ones generated for the service shapes, that counts the
+     * structures it builds. Timestamps are read in the given format, or in the default format of the protocol if null.
+     */
+    private static final class CountingCodec implements JsonShapeCodec<ComplexStructure, ComplexStructure.Builder> {
+        private final AtomicInteger structures = new AtomicInteger();
+        private final TimestampFormatTrait.Format timestampFormat;
+
+        CountingCodec() {
+            this(null);
+        }
+
+        CountingCodec(TimestampFormatTrait.Format timestampFormat) {
+            this.timestampFormat = timestampFormat;
+        }
+
+        @Override
+        public void marshall(ComplexStructure pojo, StructuredJsonGenerator generator) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ComplexStructure.Builder newBuilder() {
+            return ComplexStructure.builder();
+        }
+
+        @Override
+        public boolean unmarshallMember(ComplexStructure.Builder builder, String fieldName, JsonShapeReader reader)
+            throws IOException {
+            switch (fieldName) {
+                case "booleanMember":
+                    builder.booleanMember(reader.readBoolean());
+                    return true;
+                case "stringMember":
+                    builder.stringMember(reader.readString());
+                    return true;
+                case "integerMember":
+                    builder.integerMember(reader.readInteger());
+                    return true;
+                case "longMember":
+                    builder.longMember(reader.readLong());
+                    return true;
+                case "floatMember":
+                    builder.floatMember(reader.readFloat());
+                    return true;
+                case "doubleMember":
+                    builder.doubleMember(reader.readDouble());
+                    return true;
+                case "timestampMember":
+                    builder.timestampMember(timestampFormat == null ? reader.readInstant()
+                                                                    : reader.readInstant(timestampFormat));
+                    return true;
+                case "blobMember":
+                    builder.blobMember(reader.readSdkBytes());
+                    return true;
+                case "listOfStringsMember":
+                    builder.listOfStringsMember(reader.readList(JsonShapeReader::readString));
+                    return true;
+                case "mapOfStringToStringMember":
+                    builder.mapOfStringToStringMember(reader.readMap(JsonShapeReader::readString));
+                    return true;
+                case "complexStructMember":
+                    builder.complexStructMember(reader.readStructure(this));
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        public ComplexStructure build(ComplexStructure.Builder builder) {
+            structures.incrementAndGet();
+            return builder.build();
+        }
+    }
+}
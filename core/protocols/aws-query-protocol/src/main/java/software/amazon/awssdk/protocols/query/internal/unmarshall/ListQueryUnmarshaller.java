@@ -23,6 +23,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.traits.ListTrait;
 import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.core.util.SdkOwnedList;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 
 @SdkInternalApi
@@ -37,7 +38,7 @@ public final class ListQueryUnmarshaller implements QueryUnmarshaller<List<?>> {
                                                                      listTrait.memberFieldInfo().marshallingType());
             list.add(unmarshaller.unmarshall(context, singletonList(member), listTrait.memberFieldInfo()));
         });
-        return list;
+        return SdkOwnedList.wrap(list);
     }
 
     private List<XmlElement> getMembers(List<XmlElement> content, ListTrait listTrait) {
@@ -24,6 +24,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.traits.MapTrait;
 import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 
 @SdkInternalApi
@@ -43,7 +44,7 @@ public final class MapQueryUnmarshaller implements QueryUnmarshaller<Map<String,
             map.put(key.textContent(),
                     unmarshaller.unmarshall(context, singletonList(value), mapValueSdkField));
         });
-        return map;
+        return SdkOwnedMap.wrap(map);
     }
 
     private List<XmlElement> getEntries(List<XmlElement> content, MapTrait mapTrait) {
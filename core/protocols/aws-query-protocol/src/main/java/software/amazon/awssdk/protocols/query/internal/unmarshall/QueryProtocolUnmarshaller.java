@@ -19,22 +19,27 @@ import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
 import static software.amazon.awssdk.protocols.query.internal.marshall.SimpleTypeQueryMarshaller.defaultTimestampFormats;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.core.traits.TraitType;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
-import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlUnmarshallingParser;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Pair;
@@ -66,6 +71,25 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             context.protocolUnmarshaller().unmarshall(context, field.constructor().get(), content.get(0)))
         .build();
 
+    private static final XmlUnmarshallingParser PARSER = XmlUnmarshallingParser
+        .builder()
+        .simpleTypeConverter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+        .simpleTypeConverter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+        .simpleTypeConverter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+        .simpleTypeConverter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+        .simpleTypeConverter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+        .simpleTypeConverter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+        .simpleTypeConverter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+        .simpleTypeConverter(MarshallingType.INSTANT, StringToInstant.create(defaultTimestampFormats()))
+        .simpleTypeConverter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+        // There have been cases in EC2 where the member name is not modeled correctly so we just grab all
+        // direct children instead and don't care about member name. See ListQueryUnmarshaller.
+        .matchListMembersByName(false)
+        .build();
+
+    private static final String RESPONSE_METADATA_ELEMENT = "ResponseMetadata";
+    private static final String REQUEST_ID_ELEMENT = "requestId";
+
     private final boolean hasResultWrapper;
 
     private QueryProtocolUnmarshaller(Builder builder) {
@@ -83,9 +107,71 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return Pair.of(unmarshall(sdkPojo, document, response), new HashMap<>());
         }
 
-        XmlElement document = response.content().map(XmlDomParser::parse).orElseGet(XmlElement::empty);
-        XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
-        return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
+        return response.content()
+                       .map(content -> this.<TypeT>unmarshallStreaming(sdkPojo, content))
+                       .orElseGet(() -> Pair.of((TypeT) ((Buildable) sdkPojo).build(), new HashMap<>()));
+    }
+
+    /**
+     * Unmarshalls the response straight from the XML stream, without building an {@link XmlElement} tree. The response
+     * metadata is collected from the elements that are siblings of the result.
+     */
+    private <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshallStreaming(SdkPojo sdkPojo, InputStream content) {
+        Map<String, String> metadata = new HashMap<>();
+        XMLStreamReader reader = XmlUnmarshallingParser.createReaderAtRootElement(content);
+        if (reader == null) {
+            return Pair.of((TypeT) ((Buildable) sdkPojo).build(), metadata);
+        }
+        try {
+            SdkPojo result = hasResultWrapper ?
+                             unmarshallWrappedResult(sdkPojo, reader, metadata) :
+                             PARSER.unmarshall(sdkPojo, reader, element -> parseMetadataElement(element, metadata));
+            return Pair.of((TypeT) result, metadata);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        } finally {
+            invokeSafely(reader::close);
+        }
+    }
+
+    private SdkPojo unmarshallWrappedResult(SdkPojo sdkPojo, XMLStreamReader reader, Map<String, String> metadata)
+            throws XMLStreamException {
+        SdkPojo result = null;
+        int event;
+        while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT) {
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            if (result == null && !isMetadataElement(reader.getLocalName())) {
+                result = PARSER.unmarshall(sdkPojo, reader);
+            } else {
+                parseMetadataElement(reader, metadata);
+            }
+        }
+        return result != null ? result : (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    private static boolean isMetadataElement(String elementName) {
+        return RESPONSE_METADATA_ELEMENT.equals(elementName) || REQUEST_ID_ELEMENT.equals(elementName);
+    }
+
+    private void parseMetadataElement(XMLStreamReader reader, Map<String, String> metadata) throws XMLStreamException {
+        String elementName = reader.getLocalName();
+        if (REQUEST_ID_ELEMENT.equals(elementName)) {
+            metadata.put(AWS_REQUEST_ID, XmlUnmarshallingParser.readText(reader));
+            return;
+        }
+        if (!RESPONSE_METADATA_ELEMENT.equals(elementName)) {
+            XmlUnmarshallingParser.skipElement(reader);
+            return;
+        }
+        int event;
+        while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String key = metadataKeyName(reader.getLocalName());
+                metadata.put(key, XmlUnmarshallingParser.readText(reader));
+            }
+        }
     }
 
     private boolean responsePayloadIsBlob(SdkPojo sdkPojo) {
@@ -109,21 +195,8 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
     }
 
-    private Map<String, String> parseMetadata(XmlElement document) {
-        XmlElement responseMetadata = document.getElementByName("ResponseMetadata");
-        Map<String, String> metadata = new HashMap<>();
-        if (responseMetadata != null) {
-            responseMetadata.children().forEach(c -> metadata.put(metadataKeyName(c), c.textContent()));
-        }
-        XmlElement requestId = document.getElementByName("requestId");
-        if (requestId != null) {
-            metadata.put(AWS_REQUEST_ID, requestId.textContent());
-        }
-        return metadata;
-    }
-
-    private String metadataKeyName(XmlElement c) {
-        return c.elementName().equals("RequestId") ? AWS_REQUEST_ID : c.elementName();
+    private String metadataKeyName(String elementName) {
+        return elementName.equals("RequestId") ? AWS_REQUEST_ID : elementName;
     }
 
     private SdkPojo unmarshall(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
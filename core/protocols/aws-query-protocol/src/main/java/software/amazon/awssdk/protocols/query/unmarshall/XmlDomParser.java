@@ -22,7 +22,9 @@ import java.util.Iterator;
 import java.util.Map;
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.events.Attribute;
 import javax.xml.stream.events.StartElement;
 import javax.xml.stream.events.XMLEvent;
@@ -60,6 +62,64 @@ public final class XmlDomParser {
         }
     }
 
+    /**
+     * Parse the element an {@link XMLStreamReader} is positioned on, and any nested elements. This allows switching to the DOM
+     * representation in the middle of a document being read by an {@link XmlUnmarshallingParser}, for example when the root of
+     * a successful response turns out to be an error. The reader is left on the END_ELEMENT event of the parsed element.
+     *
+     * @param reader A reader positioned on the START_ELEMENT event of the element to parse.
+     * @return Parsed {@link XmlElement}.
+     */
+    public static XmlElement parseElement(XMLStreamReader reader) {
+        try {
+            return parseStreamElement(reader);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    private static XmlElement parseStreamElement(XMLStreamReader reader) throws XMLStreamException {
+        XmlElement.Builder elementBuilder = XmlElement.builder()
+                                                      .elementName(reader.getLocalName());
+
+        if (reader.getAttributeCount() > 0) {
+            Map<String, String> attributes = new HashMap<>();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String prefix = reader.getAttributePrefix(i);
+                attributes.put((prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(i),
+                               reader.getAttributeValue(i));
+            }
+            elementBuilder.attributes(attributes);
+        }
+
+        StringBuilder text = null;
+        int event;
+        while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT) {
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if (text != null) {
+                    elementBuilder.textContent(text.toString());
+                    text = null;
+                }
+                elementBuilder.addChildElement(parseStreamElement(reader));
+            } else if (isCharacters(event)) {
+                if (text == null) {
+                    text = new StringBuilder();
+                }
+                text.append(reader.getText());
+            }
+        }
+        if (text != null) {
+            elementBuilder.textContent(text.toString());
+        }
+        return elementBuilder.build();
+    }
+
+    private static boolean isCharacters(int event) {
+        return event == XMLStreamConstants.CHARACTERS
+               || event == XMLStreamConstants.CDATA
+               || event == XMLStreamConstants.SPACE;
+    }
+
     /**
      * Parse an XML elemnt and any nested elements by recursively calling this method.
      *
@@ -127,7 +187,7 @@ public final class XmlDomParser {
      *
      * See <a href="https://www.owasp.org/index.php/XML_External_Entity_(XXE)_Prevention_Cheat_Sheet">OWASP XXE Cheat Sheet</a>
      */
-    private static XMLInputFactory createXmlInputFactory() {
+    static XMLInputFactory createXmlInputFactory() {
         XMLInputFactory factory = XMLInputFactory.newInstance();
         factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
         factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
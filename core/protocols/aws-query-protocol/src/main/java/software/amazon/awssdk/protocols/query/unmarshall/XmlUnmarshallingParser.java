@@ -0,0 +1,402 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.core.util.SdkOwnedList;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.utils.LookaheadInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Parses and unmarshalls an XML document straight from an {@link XMLStreamReader} cursor into an {@link SdkPojo}, without
+ * building the intermediate {@link XmlElement} tree produced by {@link XmlDomParser}. Only fields located in the payload are
+ * unmarshalled, callers are responsible for the fields bound to other locations, such as headers.
+ * <p>
+ * Shapes that need to look at the document as a whole, such as error responses or explicit payload members, should keep
+ * using {@link XmlDomParser}. {@link XmlDomParser#parseElement(XMLStreamReader)} can be used to switch to the DOM from the
+ * current position of the cursor.
+ */
+@SdkProtectedApi
+@ThreadSafe
+@SuppressWarnings("unchecked")
+public final class XmlUnmarshallingParser {
+
+    private static final ThreadLocal<XMLInputFactory> FACTORY =
+        ThreadLocal.withInitial(XmlDomParser::createXmlInputFactory);
+
+    private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypeConverters;
+    private final boolean matchListMembersByName;
+    private final Map<Class<?>, PojoFields> pojoFieldsCache = new ConcurrentHashMap<>();
+
+    private XmlUnmarshallingParser(Builder builder) {
+        this.simpleTypeConverters = Collections.unmodifiableMap(new HashMap<>(builder.simpleTypeConverters));
+        this.matchListMembersByName = builder.matchListMembersByName;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates an {@link XMLStreamReader} over the given content and moves it to the start of the root element.
+     *
+     * @param content The XML document.
+     * @return The reader, positioned on the root element, or null if the content is empty.
+     */
+    public static XMLStreamReader createReaderAtRootElement(InputStream content) {
+        LookaheadInputStream stream = new LookaheadInputStream(content);
+        try {
+            if (stream.peek() == -1) {
+                return null;
+            }
+            XMLStreamReader reader = FACTORY.get().createXMLStreamReader(stream);
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    return reader;
+                }
+            }
+            return null;
+        } catch (IOException | XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Unmarshalls the element the reader is positioned on into the given {@link SdkPojo}, and returns the built pojo. The
+     * reader is left on the END_ELEMENT event of that element.
+     *
+     * @param sdkPojo The pojo to fill. Must implement {@link Buildable}.
+     * @param reader A reader positioned on the START_ELEMENT event of the element to unmarshall.
+     * @return The built pojo.
+     */
+    public SdkPojo unmarshall(SdkPojo sdkPojo, XMLStreamReader reader) {
+        return unmarshall(sdkPojo, reader, XmlUnmarshallingParser::skipElement);
+    }
+
+    /**
+     * Unmarshalls the element the reader is positioned on into the given {@link SdkPojo}, and returns the built pojo. Child
+     * elements that don't match any field of the pojo are given to {@code unknownElementHandler}, which must consume them up to
+     * and including their END_ELEMENT event.
+     *
+     * @param sdkPojo The pojo to fill. Must implement {@link Buildable}.
+     * @param reader A reader positioned on the START_ELEMENT event of the element to unmarshall.
+     * @param unknownElementHandler Handler for the child elements that are not fields of the pojo.
+     * @return The built pojo.
+     */
+    public SdkPojo unmarshall(SdkPojo sdkPojo, XMLStreamReader reader, ElementHandler unknownElementHandler) {
+        try {
+            return parseSdkPojo(sdkPojo, reader, unknownElementHandler);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Reads all the text of the element the reader is positioned on. Nested elements are skipped, and like
+     * {@link XmlDomParser}, only the text following the last nested element is kept. The reader is left on the END_ELEMENT event
+     * of that element.
+     */
+    public static String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder text = new StringBuilder();
+        while (true) {
+            switch (reader.next()) {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    text.append(reader.getText());
+                    break;
+                case XMLStreamConstants.START_ELEMENT:
+                    skipElement(reader);
+                    text.setLength(0);
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    return text.toString();
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Skips the element the reader is positioned on, including all of its children. The reader is left on the END_ELEMENT
+     * event of that element.
+     */
+    public static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private SdkPojo parseSdkPojo(SdkPojo sdkPojo, XMLStreamReader reader, ElementHandler unknownElementHandler)
+            throws XMLStreamException {
+        PojoFields fields = pojoFieldsCache.computeIfAbsent(sdkPojo.getClass(), c -> new PojoFields(sdkPojo.sdkFields()));
+
+        if (!fields.attributes.isEmpty()) {
+            parseAttributes(sdkPojo, fields, reader);
+        }
+
+        Set<SdkField<?>> unmarshalledFields = null;
+        Map<SdkField<?>, Object> flattenedValues = null;
+        int event;
+        while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT) {
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            SdkField<?> field = fields.elements.get(reader.getLocalName());
+            if (field == null) {
+                unknownElementHandler.handle(reader);
+                continue;
+            }
+            if (isFlattened(field)) {
+                if (flattenedValues == null) {
+                    flattenedValues = new LinkedHashMap<>();
+                }
+                addFlattenedValue(field, flattenedValues, reader);
+                continue;
+            }
+            if (unmarshalledFields == null) {
+                unmarshalledFields = new HashSet<>();
+            }
+            // Like the DOM based unmarshaller, only the first element for a non-flattened field is considered.
+            if (unmarshalledFields.add(field)) {
+                field.set(sdkPojo, parseValue(field, reader));
+            } else {
+                skipElement(reader);
+            }
+        }
+
+        if (flattenedValues != null) {
+            flattenedValues.forEach((field, value) -> field.set(sdkPojo, value));
+        }
+
+        if (!(sdkPojo instanceof Buildable)) {
+            throw new RuntimeException("The sdkPojo passed to the unmarshaller is not buildable (must implement "
+                                       + "Buildable)");
+        }
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    private void parseAttributes(SdkPojo sdkPojo, PojoFields fields, XMLStreamReader reader) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String key = (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(i);
+            SdkField<?> field = fields.attributes.get(key);
+            if (field != null) {
+                field.set(sdkPojo, reader.getAttributeValue(i));
+            }
+        }
+    }
+
+    private Object parseValue(SdkField<?> field, XMLStreamReader reader) throws XMLStreamException {
+        MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            return parseSdkPojo(field.constructor().get(), reader, XmlUnmarshallingParser::skipElement);
+        }
+        if (type == MarshallingType.LIST) {
+            return parseList(field, reader);
+        }
+        if (type == MarshallingType.MAP) {
+            Map<String, Object> map = new HashMap<>();
+            MapTrait mapTrait = field.getTrait(MapTrait.class, TraitType.MAP_TRAIT);
+            int event;
+            while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT) {
+                if (event != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                if ("entry".equals(reader.getLocalName())) {
+                    parseMapEntry(mapTrait, map, reader);
+                } else {
+                    skipElement(reader);
+                }
+            }
+            return SdkOwnedMap.wrap(map);
+        }
+        if (type == MarshallingType.NULL) {
+            skipElement(reader);
+            return null;
+        }
+
+        StringToValueConverter.StringToValue<Object> converter =
+            (StringToValueConverter.StringToValue<Object>) simpleTypeConverters.get(type);
+        if (converter == null) {
+            throw SdkClientException.create("No unmarshaller registered for marshalling type " + type);
+        }
+        return converter.convert(readText(reader), (SdkField<Object>) field);
+    }
+
+    private List<Object> parseList(SdkField<?> field, XMLStreamReader reader) throws XMLStreamException {
+        ListTrait listTrait = field.getTrait(ListTrait.class, TraitType.LIST_TRAIT);
+        SdkField<?> memberField = listTrait.memberFieldInfo();
+        String memberName = listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                                   : memberField.locationName();
+        List<Object> list = new ArrayList<>();
+        int event;
+        while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT) {
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            if (matchListMembersByName && !reader.getLocalName().equals(memberName)) {
+                skipElement(reader);
+                continue;
+            }
+            list.add(parseValue(memberField, reader));
+        }
+        return SdkOwnedList.wrap(list);
+    }
+
+    private void addFlattenedValue(SdkField<?> field, Map<SdkField<?>, Object> flattenedValues, XMLStreamReader reader)
+            throws XMLStreamException {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            ListTrait listTrait = field.getTrait(ListTrait.class, TraitType.LIST_TRAIT);
+            List<Object> list = (List<Object>) flattenedValues.computeIfAbsent(field, f -> new ArrayList<>());
+            list.add(parseValue(listTrait.memberFieldInfo(), reader));
+        } else {
+            MapTrait mapTrait = field.getTrait(MapTrait.class, TraitType.MAP_TRAIT);
+            Map<String, Object> map = (Map<String, Object>) flattenedValues.computeIfAbsent(field, f -> new HashMap<>());
+            parseMapEntry(mapTrait, map, reader);
+        }
+    }
+
+    private void parseMapEntry(MapTrait mapTrait, Map<String, Object> map, XMLStreamReader reader)
+            throws XMLStreamException {
+        String key = null;
+        Object value = null;
+        int event;
+        while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT) {
+            if (event != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            String name = reader.getLocalName();
+            if (name.equals(mapTrait.keyLocationName())) {
+                key = readText(reader);
+            } else if (name.equals(mapTrait.valueLocationName())) {
+                value = parseValue(mapTrait.valueFieldInfo(), reader);
+            } else {
+                skipElement(reader);
+            }
+        }
+        map.put(key, value);
+    }
+
+    private static boolean isFlattened(SdkField<?> field) {
+        MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.LIST) {
+            return field.getTrait(ListTrait.class, TraitType.LIST_TRAIT).isFlattened();
+        }
+        if (type == MarshallingType.MAP) {
+            return field.getTrait(MapTrait.class, TraitType.MAP_TRAIT).isFlattened();
+        }
+        return false;
+    }
+
+    /**
+     * Handles an element the reader is positioned on. Implementations must consume the element up to and including its
+     * END_ELEMENT event.
+     */
+    @FunctionalInterface
+    public interface ElementHandler {
+        void handle(XMLStreamReader reader) throws XMLStreamException;
+    }
+
+    /**
+     * The payload fields of a pojo class, indexed by the name of the element or attribute they are unmarshalled from.
+     */
+    private static final class PojoFields {
+        private final Map<String, SdkField<?>> elements = new HashMap<>();
+        private final Map<String, SdkField<?>> attributes = new HashMap<>();
+
+        private PojoFields(List<SdkField<?>> sdkFields) {
+            for (SdkField<?> field : sdkFields) {
+                if (field.location() != MarshallLocation.PAYLOAD) {
+                    continue;
+                }
+                if (field.containsTrait(XmlAttributeTrait.class, TraitType.XML_ATTRIBUTE_TRAIT)) {
+                    attributes.put(field.unmarshallLocationName(), field);
+                } else {
+                    elements.putIfAbsent(field.unmarshallLocationName(), field);
+                }
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link XmlUnmarshallingParser}.
+     */
+    public static final class Builder {
+        private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypeConverters = new HashMap<>();
+        private boolean matchListMembersByName = true;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers the converter used for the text content of elements of the given simple type.
+         */
+        public <T> Builder simpleTypeConverter(MarshallingType<T> marshallingType,
+                                               StringToValueConverter.StringToValue<T> converter) {
+            simpleTypeConverters.put(marshallingType, converter);
+            return this;
+        }
+
+        /**
+         * Whether the members of non-flattened lists are only the child elements named after the list member location name
+         * (the default), or all child elements of the list. The latter is needed for services that do not always model the
+         * member name correctly.
+         */
+        public Builder matchListMembersByName(boolean matchListMembersByName) {
+            this.matchListMembersByName = matchListMembersByName;
+            return this;
+        }
+
+        public XmlUnmarshallingParser build() {
+            return new XmlUnmarshallingParser(this);
+        }
+    }
+}
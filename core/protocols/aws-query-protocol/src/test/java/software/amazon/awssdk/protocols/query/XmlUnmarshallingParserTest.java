@@ -0,0 +1,235 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlUnmarshallingParser;
+import software.amazon.awssdk.utils.StringInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class XmlUnmarshallingParserTest {
+
+    private static final XmlUnmarshallingParser PARSER =
+        XmlUnmarshallingParser.builder()
+                              .simpleTypeConverter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+                              .simpleTypeConverter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+                              .build();
+
+    @Test
+    public void simpleXmlDocument_UnmarshalledCorrectly() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                     + "<Struct>"
+                     + " <stringMember>stringVal</stringMember>"
+                     + " <integerMember>42</integerMember>"
+                     + "</Struct>";
+        TestPojo pojo = unmarshall(PARSER, xml);
+        assertThat(pojo.stringMember).isEqualTo("stringVal");
+        assertThat(pojo.integerMember).isEqualTo(42);
+    }
+
+    @Test
+    public void unknownAndNestedElements_AreSkipped() {
+        String xml = "<Struct>"
+                     + " <unknown><stringMember>ignored</stringMember></unknown>"
+                     + " <stringMember>stringVal</stringMember>"
+                     + " <nested><integerMember>1</integerMember></nested>"
+                     + "</Struct>";
+        TestPojo pojo = unmarshall(PARSER, xml);
+        assertThat(pojo.stringMember).isEqualTo("stringVal");
+        assertThat(pojo.integerMember).isNull();
+    }
+
+    @Test
+    public void repeatedNonFlattenedElement_FirstElementWins() {
+        String xml = "<Struct>"
+                     + " <stringMember>valOne</stringMember>"
+                     + " <stringMember>valTwo</stringMember>"
+                     + "</Struct>";
+        assertThat(unmarshall(PARSER, xml).stringMember).isEqualTo("valOne");
+    }
+
+    @Test
+    public void nestedPojo_UnmarshalledCorrectly() {
+        String xml = "<Struct>"
+                     + " <nestedMember><stringMember>nestedVal</stringMember></nestedMember>"
+                     + " <stringMember>stringVal</stringMember>"
+                     + "</Struct>";
+        TestPojo pojo = unmarshall(PARSER, xml);
+        assertThat(pojo.stringMember).isEqualTo("stringVal");
+        assertThat(pojo.nestedMember.stringMember).isEqualTo("nestedVal");
+    }
+
+    @Test
+    public void list_OnlyMembersMatchingTheMemberNameAreKept() {
+        String xml = "<Struct>"
+                     + " <listMember><member>valOne</member><other>ignored</other><member>valTwo</member></listMember>"
+                     + "</Struct>";
+        assertThat(unmarshall(PARSER, xml).listMember).containsExactly("valOne", "valTwo");
+    }
+
+    @Test
+    public void list_MatchListMembersByNameDisabled_AllChildrenAreKept() {
+        XmlUnmarshallingParser parser =
+            XmlUnmarshallingParser.builder()
+                                  .simpleTypeConverter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+                                  .matchListMembersByName(false)
+                                  .build();
+        String xml = "<Struct>"
+                     + " <listMember><item>valOne</item><other>valTwo</other></listMember>"
+                     + "</Struct>";
+        assertThat(unmarshall(parser, xml).listMember).containsExactly("valOne", "valTwo");
+    }
+
+    @Test
+    public void flattenedList_AccumulatesAllElements() {
+        String xml = "<Struct>"
+                     + " <flattenedMember>valOne</flattenedMember>"
+                     + " <stringMember>stringVal</stringMember>"
+                     + " <flattenedMember>valTwo</flattenedMember>"
+                     + "</Struct>";
+        TestPojo pojo = unmarshall(PARSER, xml);
+        assertThat(pojo.flattenedMember).containsExactly("valOne", "valTwo");
+        assertThat(pojo.stringMember).isEqualTo("stringVal");
+    }
+
+    @Test
+    public void unknownElementHandler_ReceivesUnknownElements() {
+        String xml = "<Struct>"
+                     + " <stringMember>stringVal</stringMember>"
+                     + " <requestId>1234</requestId>"
+                     + "</Struct>";
+        List<String> unknown = new ArrayList<>();
+        XMLStreamReader reader = XmlUnmarshallingParser.createReaderAtRootElement(new StringInputStream(xml));
+        TestPojo pojo = (TestPojo) PARSER.unmarshall(new TestPojo(), reader, r -> {
+            unknown.add(r.getLocalName() + "=" + XmlUnmarshallingParser.readText(r));
+        });
+        assertThat(pojo.stringMember).isEqualTo("stringVal");
+        assertThat(unknown).containsExactly("requestId=1234");
+    }
+
+    @Test
+    public void emptyContent_ReturnsNullReader() {
+        assertThat(XmlUnmarshallingParser.createReaderAtRootElement(new StringInputStream(""))).isNull();
+    }
+
+    @Test
+    public void invalidXml_ThrowsException() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                     + "<Struct>"
+                     + " <stringMember>valOne"
+                     + " <integerMember>1</stringMember>"
+                     + "</Struct>";
+        assertThatThrownBy(() -> unmarshall(PARSER, xml))
+            .isInstanceOf(SdkClientException.class)
+            .hasCauseInstanceOf(XMLStreamException.class);
+    }
+
+    private static TestPojo unmarshall(XmlUnmarshallingParser parser, String xml) {
+        XMLStreamReader reader = XmlUnmarshallingParser.createReaderAtRootElement(new StringInputStream(xml));
+        return (TestPojo) parser.unmarshall(new TestPojo(), reader);
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, String name,
+                                         Function<TestPojo, T> getter, BiConsumer<TestPojo, T> setter) {
+        return SdkField.<T>builder(type)
+                       .memberName(name)
+                       .getter(o -> getter.apply((TestPojo) o))
+                       .setter((o, v) -> setter.accept((TestPojo) o, v))
+                       .traits(LocationTrait.builder()
+                                            .location(MarshallLocation.PAYLOAD)
+                                            .locationName(name)
+                                            .unmarshallLocationName(name)
+                                            .build())
+                       .build();
+    }
+
+    private static SdkField<List<String>> listField(String name, boolean flattened,
+                                                    Function<TestPojo, List<String>> getter,
+                                                    BiConsumer<TestPojo, List<String>> setter) {
+        return SdkField.<List<String>>builder(MarshallingType.LIST)
+                       .memberName(name)
+                       .getter(o -> getter.apply((TestPojo) o))
+                       .setter((o, v) -> setter.accept((TestPojo) o, v))
+                       .traits(LocationTrait.builder()
+                                            .location(MarshallLocation.PAYLOAD)
+                                            .locationName(name)
+                                            .unmarshallLocationName(name)
+                                            .build(),
+                               ListTrait.builder()
+                                        .memberLocationName(flattened ? name : "member")
+                                        .memberFieldInfo(field(MarshallingType.STRING, "member", p -> null, (p, v) -> { }))
+                                        .isFlattened(flattened)
+                                        .build())
+                       .build();
+    }
+
+    private static final class TestPojo implements SdkPojo, Buildable {
+        private static final SdkField<String> STRING_MEMBER =
+            field(MarshallingType.STRING, "stringMember", p -> p.stringMember, (p, v) -> p.stringMember = v);
+        private static final SdkField<Integer> INTEGER_MEMBER =
+            field(MarshallingType.INTEGER, "integerMember", p -> p.integerMember, (p, v) -> p.integerMember = v);
+        private static final SdkField<TestPojo> NESTED_MEMBER =
+            SdkField.<TestPojo>builder(MarshallingType.SDK_POJO)
+                    .memberName("nestedMember")
+                    .getter(o -> ((TestPojo) o).nestedMember)
+                    .setter((o, v) -> ((TestPojo) o).nestedMember = v)
+                    .constructor(TestPojo::new)
+                    .traits(LocationTrait.builder()
+                                         .location(MarshallLocation.PAYLOAD)
+                                         .locationName("nestedMember")
+                                         .unmarshallLocationName("nestedMember")
+                                         .build())
+                    .build();
+        private static final SdkField<List<String>> LIST_MEMBER =
+            listField("listMember", false, p -> p.listMember, (p, v) -> p.listMember = v);
+        private static final SdkField<List<String>> FLATTENED_MEMBER =
+            listField("flattenedMember", true, p -> p.flattenedMember, (p, v) -> p.flattenedMember = v);
+
+        private String stringMember;
+        private Integer integerMember;
+        private TestPojo nestedMember;
+        private List<String> listMember;
+        private List<String> flattenedMember;
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return Arrays.asList(STRING_MEMBER, INTEGER_MEMBER, NESTED_MEMBER, LIST_MEMBER, FLATTENED_MEMBER);
+        }
+
+        @Override
+        public Object build() {
+            return this;
+        }
+    }
+}
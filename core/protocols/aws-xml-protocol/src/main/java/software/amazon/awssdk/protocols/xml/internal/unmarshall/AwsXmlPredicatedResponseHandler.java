@@ -16,9 +16,11 @@
 package software.amazon.awssdk.protocols.xml.internal.unmarshall;
 
 import static software.amazon.awssdk.core.SdkStandardLogger.logRequestId;
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.util.Optional;
 import java.util.function.Function;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.SdkPojo;
@@ -28,7 +30,9 @@ import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlUnmarshallingParser;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
 
@@ -93,32 +97,55 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
                                              ExecutionAttributes executionAttributes) {
 
         AwsXmlUnmarshallingContext parsedResponse = parseResponse(httpResponse, executionAttributes);
-        parsedResponse = decorateContextWithError.apply(parsedResponse);
-        logRequestId(httpResponse);
-
-        if (parsedResponse.isResponseSuccess()) {
-            OutputT response = handleSuccessResponse(parsedResponse);
-            return Response.<OutputT>builder().httpResponse(httpResponse)
-                                              .response(response)
-                                              .isSuccess(true)
-                                              .build();
-        } else {
-            return Response.<OutputT>builder().httpResponse(httpResponse)
-                                              .exception(handleErrorResponse(parsedResponse))
-                                              .isSuccess(false)
-                                              .build();
+        try {
+            parsedResponse = decorateContextWithError.apply(parsedResponse);
+            logRequestId(httpResponse);
+
+            if (parsedResponse.isResponseSuccess()) {
+                OutputT response = handleSuccessResponse(parsedResponse);
+                return Response.<OutputT>builder().httpResponse(httpResponse)
+                                                  .response(response)
+                                                  .isSuccess(true)
+                                                  .build();
+            } else {
+                return Response.<OutputT>builder().httpResponse(httpResponse)
+                                                  .exception(handleErrorResponse(parsedResponse))
+                                                  .isSuccess(false)
+                                                  .build();
+            }
+        } finally {
+            XMLStreamReader payloadReader = parsedResponse.payloadReader();
+            if (payloadReader != null) {
+                invokeSafely(payloadReader::close);
+            }
         }
     }
 
     private AwsXmlUnmarshallingContext parseResponse(SdkHttpFullResponse httpFullResponse,
                                                      ExecutionAttributes executionAttributes) {
-        XmlElement document = XmlResponseParserUtils.parse(pojoSupplier.apply(httpFullResponse), httpFullResponse);
+        SdkPojo sdkPojo = pojoSupplier.apply(httpFullResponse);
+        AwsXmlUnmarshallingContext.Builder context = AwsXmlUnmarshallingContext.builder()
+                                                                               .executionAttributes(executionAttributes)
+                                                                               .sdkHttpFullResponse(httpFullResponse);
 
-        return AwsXmlUnmarshallingContext.builder()
-                                         .parsedXml(document)
-                                         .executionAttributes(executionAttributes)
-                                         .sdkHttpFullResponse(httpFullResponse)
-                                         .build();
+        if (!XmlProtocolUnmarshaller.canUnmarshallStreaming(sdkPojo, httpFullResponse)) {
+            return context.parsedXml(XmlResponseParserUtils.parse(sdkPojo, httpFullResponse)).build();
+        }
+
+        // The body of a successful response is unmarshalled straight from the XML stream, unless its root turns out to be an
+        // error, which is then parsed into its DOM so that it can be handled like any other error.
+        XMLStreamReader reader = XmlUnmarshallingParser.createReaderAtRootElement(httpFullResponse.content().get());
+        if (reader == null) {
+            return context.parsedXml(XmlElement.empty()).build();
+        }
+        if (DecorateErrorFromResponseBodyUnmarshaller.ERROR_IN_SUCCESS_BODY_ELEMENT_NAME.equals(reader.getLocalName())) {
+            try {
+                return context.parsedXml(XmlDomParser.parseElement(reader)).build();
+            } finally {
+                invokeSafely(reader::close);
+            }
+        }
+        return context.payloadReader(reader).build();
     }
 
     /**
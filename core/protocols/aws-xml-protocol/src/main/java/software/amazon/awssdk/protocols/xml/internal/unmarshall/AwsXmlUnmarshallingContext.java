@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.protocols.xml.internal.unmarshall;
 
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -31,6 +32,7 @@ public class AwsXmlUnmarshallingContext {
     private final ExecutionAttributes executionAttributes;
     private final Boolean isResponseSuccess;
     private final XmlElement parsedErrorXml;
+    private final XMLStreamReader payloadReader;
 
     private AwsXmlUnmarshallingContext(Builder builder) {
         this.sdkHttpFullResponse = builder.sdkHttpFullResponse;
@@ -38,6 +40,7 @@ public class AwsXmlUnmarshallingContext {
         this.executionAttributes = builder.executionAttributes;
         this.isResponseSuccess = builder.isResponseSuccess;
         this.parsedErrorXml = builder.parsedErrorXml;
+        this.payloadReader = builder.payloadReader;
     }
 
     public static Builder builder() {
@@ -79,12 +82,22 @@ public class AwsXmlUnmarshallingContext {
         return parsedErrorXml;
     }
 
+    /**
+     * The reader positioned on the root element of a successful response body, when that body is unmarshalled without
+     * building its DOM. null if the body was parsed into {@link #parsedRootXml()} instead. The reader is a cursor over the
+     * response stream rather than a value, so it is not part of {@link #equals(Object)} and {@link #hashCode()}.
+     */
+    public XMLStreamReader payloadReader() {
+        return payloadReader;
+    }
+
     public Builder toBuilder() {
         return builder().sdkHttpFullResponse(this.sdkHttpFullResponse)
                         .parsedXml(this.parsedXml)
                         .executionAttributes(this.executionAttributes)
                         .isResponseSuccess(this.isResponseSuccess)
-                        .parsedErrorXml(this.parsedErrorXml);
+                        .parsedErrorXml(this.parsedErrorXml)
+                        .payloadReader(this.payloadReader);
     }
 
     @Override
@@ -132,6 +145,7 @@ public class AwsXmlUnmarshallingContext {
         private ExecutionAttributes executionAttributes;
         private Boolean isResponseSuccess;
         private XmlElement parsedErrorXml;
+        private XMLStreamReader payloadReader;
 
         private Builder() {
         }
@@ -161,6 +175,11 @@ public class AwsXmlUnmarshallingContext {
             return this;
         }
 
+        public Builder payloadReader(XMLStreamReader payloadReader) {
+            this.payloadReader = payloadReader;
+            return this;
+        }
+
         public AwsXmlUnmarshallingContext build() {
             return new AwsXmlUnmarshallingContext(this);
         }
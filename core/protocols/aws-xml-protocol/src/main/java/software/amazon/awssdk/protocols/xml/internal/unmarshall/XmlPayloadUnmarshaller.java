@@ -30,6 +30,8 @@ import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.traits.ListTrait;
 import software.amazon.awssdk.core.traits.MapTrait;
 import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.core.util.SdkOwnedList;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 
@@ -66,7 +68,7 @@ public final class XmlPayloadUnmarshaller {
                                                                    listTrait.memberFieldInfo().marshallingType());
             list.add(unmarshaller.unmarshall(context, singletonList(member), listTrait.memberFieldInfo()));
         });
-        return list;
+        return SdkOwnedList.wrap(list);
     }
 
     private static List<XmlElement> getMembers(List<XmlElement> content, ListTrait listTrait) {
@@ -92,7 +94,7 @@ public final class XmlPayloadUnmarshaller {
             map.put(key.textContent(),
                     unmarshaller.unmarshall(context, singletonList(value), mapValueSdkField));
         });
-        return map;
+        return SdkOwnedMap.wrap(map);
     }
 
     private static List<XmlElement> getEntries(List<XmlElement> content, MapTrait mapTrait) {
@@ -24,6 +24,8 @@ import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
@@ -40,6 +42,7 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlUnmarshallingParser;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.builder.Buildable;
 
@@ -49,6 +52,7 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final StringToValueConverter.StringToValue<Instant> INSTANT_STRING_TO_VALUE
         = StringToInstant.create(getDefaultTimestampFormats());
     private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
+    private static final XmlUnmarshallingParser PARSER = createUnmarshallingParser();
 
     private XmlProtocolUnmarshaller() {
     }
@@ -58,10 +62,62 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
     }
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        if (canUnmarshallStreaming(sdkPojo, response)) {
+            XMLStreamReader reader = XmlUnmarshallingParser.createReaderAtRootElement(response.content().get());
+            try {
+                return unmarshall(sdkPojo, reader, response);
+            } finally {
+                closeQuietly(reader);
+            }
+        }
         XmlElement document = hasXmlPayload(sdkPojo, response) ? XmlResponseParserUtils.parse(sdkPojo, response) : null;
         return unmarshall(sdkPojo, document, response);
     }
 
+    /**
+     * Unmarshalls a response whose payload is read straight from an {@link XMLStreamReader}, without building its DOM. Only
+     * valid for responses accepted by {@link #canUnmarshallStreaming(SdkPojo, SdkHttpFullResponse)}.
+     *
+     * @param reader A reader positioned on the root element of the payload, or null if the payload is empty.
+     */
+    public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
+                                                    XMLStreamReader reader,
+                                                    SdkHttpFullResponse response) {
+        XmlUnmarshallerContext unmarshallerContext = XmlUnmarshallerContext.builder()
+                                                                           .response(response)
+                                                                           .registry(REGISTRY)
+                                                                           .protocolUnmarshaller(this)
+                                                                           .build();
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                unmarshallNonPayloadField(unmarshallerContext, sdkPojo, field);
+            }
+        }
+        if (reader == null) {
+            return (TypeT) build(sdkPojo);
+        }
+        return (TypeT) PARSER.unmarshall(sdkPojo, reader);
+    }
+
+    /**
+     * Returns true if the payload of the response can be unmarshalled without building its DOM. This is the case for
+     * successful responses that have an XML payload and no explicit payload member, as those are unmarshalled from the
+     * document as a whole.
+     */
+    public static boolean canUnmarshallStreaming(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        if (!response.isSuccessful() || !response.content().isPresent()) {
+            return false;
+        }
+        boolean hasPayloadMembers = false;
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (isExplicitPayloadMember(field)) {
+                return false;
+            }
+            hasPayloadMembers |= field.location() == MarshallLocation.PAYLOAD;
+        }
+        return hasPayloadMembers;
+    }
+
     /**
      * This method is also used to unmarshall exceptions. We use this since we've already parsed the XML
      * and the result root is in a different location depending on the protocol/service.
@@ -83,8 +139,7 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
             XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
 
             if (field.location() != MarshallLocation.PAYLOAD) {
-                Object unmarshalled = unmarshaller.unmarshall(context, null, (SdkField<Object>) field);
-                field.set(sdkPojo, unmarshalled);
+                unmarshallNonPayloadField(context, sdkPojo, field);
                 continue;
             }
 
@@ -130,6 +185,10 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
             }
         }
 
+        return build(sdkPojo);
+    }
+
+    private static SdkPojo build(SdkPojo sdkPojo) {
         if (!(sdkPojo instanceof Buildable)) {
             throw new RuntimeException("The sdkPojo passed to the unmarshaller is not buildable (must implement "
                                        + "Buildable)");
@@ -137,6 +196,12 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return (SdkPojo) ((Buildable) sdkPojo).build();
     }
 
+    private void unmarshallNonPayloadField(XmlUnmarshallerContext context, SdkPojo sdkPojo, SdkField<?> field) {
+        XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
+        Object unmarshalled = unmarshaller.unmarshall(context, null, (SdkField<Object>) field);
+        field.set(sdkPojo, unmarshalled);
+    }
+
     private void setExplicitStringPayload(XmlUnmarshaller<Object> unmarshaller, XmlUnmarshallerContext context,
                                              SdkPojo sdkPojo, XmlElement element, SdkField<?> field) {
         SdkBytes sdkBytes = SdkBytes.fromInputStream(context.response().content().get());
@@ -172,7 +237,7 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return field.containsTrait(XmlAttributeTrait.class, TraitType.XML_ATTRIBUTE_TRAIT);
     }
 
-    private boolean isExplicitPayloadMember(SdkField<?> field) {
+    private static boolean isExplicitPayloadMember(SdkField<?> field) {
         return field.containsTrait(PayloadTrait.class, TraitType.PAYLOAD_TRAIT);
     }
 
@@ -213,6 +278,33 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return Collections.unmodifiableMap(formats);
     }
 
+    private static void closeQuietly(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // Closing the reader does not close the underlying stream, there is nothing left to release.
+        }
+    }
+
+    private static XmlUnmarshallingParser createUnmarshallingParser() {
+        return XmlUnmarshallingParser
+            .builder()
+            .simpleTypeConverter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+            .simpleTypeConverter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+            .simpleTypeConverter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+            .simpleTypeConverter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+            .simpleTypeConverter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+            .simpleTypeConverter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+            .simpleTypeConverter(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL)
+            .simpleTypeConverter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+            .simpleTypeConverter(MarshallingType.INSTANT, INSTANT_STRING_TO_VALUE)
+            .simpleTypeConverter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+            .build();
+    }
+
     private static XmlUnmarshallerRegistry createUnmarshallerRegistry() {
         return XmlUnmarshallerRegistry
             .builder()
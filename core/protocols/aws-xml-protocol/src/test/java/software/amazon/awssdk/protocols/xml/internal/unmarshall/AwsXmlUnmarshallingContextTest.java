@@ -18,6 +18,7 @@ package software.amazon.awssdk.protocols.xml.internal.unmarshall;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
+import javax.xml.stream.XMLStreamReader;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -107,6 +108,14 @@ public class AwsXmlUnmarshallingContextTest {
         assertThat(maximal().toBuilder().executionAttributes(EXECUTION_ATTRIBUTES_2).build()).isNotEqualTo(maximal());
     }
 
+    @Test
+    public void equals_ignoresPayloadReader() {
+        AwsXmlUnmarshallingContext withReader = maximal().toBuilder().payloadReader(mock(XMLStreamReader.class)).build();
+
+        assertThat(withReader).isEqualTo(maximal());
+        assertThat(withReader.hashCode()).isEqualTo(maximal().hashCode());
+    }
+
     @Test
     public void hashcode_maximal_positive() {
         assertThat(maximal().hashCode()).isEqualTo(maximal().hashCode());
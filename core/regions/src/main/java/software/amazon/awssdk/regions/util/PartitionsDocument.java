@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.regions.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Objects;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.utils.ClassLoaderHelper;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * The partition metadata that overrides the partitions that are compiled into the endpoint rules of the service clients,
+ * shared by all of the clients in the JVM.
+ * <p>
+ * The metadata is read from the file configured with {@link SdkSystemSetting#AWS_PARTITIONS_FILE} or, if it is not set, from
+ * {@code software/amazon/awssdk/global/partitions.json} on the classpath. It is parsed once, the first time that a client
+ * needs it, instead of once per service. The file is read again if the setting changes, or if it is requested for a client
+ * that is loaded by a different class loader.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class PartitionsDocument {
+    private static final String PARTITIONS_FILE_CLASSPATH_LOCATION = "software/amazon/awssdk/global/partitions.json";
+    private static final JsonNodeParser PARSER = JsonNode.parser();
+
+    private static volatile LoadedDocument loadedDocument;
+
+    private PartitionsDocument() {
+    }
+
+    /**
+     * Returns the overriding partition metadata, or an empty optional if the partitions compiled into the client should be
+     * used.
+     *
+     * @param clientClass A class of the client, used to find the class loader of the classpath override.
+     * @throws UncheckedIOException If the file configured with {@link SdkSystemSetting#AWS_PARTITIONS_FILE} cannot be read.
+     */
+    public static Optional<JsonNode> overrideDocument(Class<?> clientClass) {
+        String partitionsFile = SdkSystemSetting.AWS_PARTITIONS_FILE.getStringValue().orElse(null);
+        ClassLoader classLoader = ClassLoaderHelper.classLoader(clientClass);
+        LoadedDocument document = loadedDocument;
+        if (document == null || !document.isFor(partitionsFile, classLoader)) {
+            synchronized (PartitionsDocument.class) {
+                document = loadedDocument;
+                if (document == null || !document.isFor(partitionsFile, classLoader)) {
+                    document = new LoadedDocument(partitionsFile, classLoader, load(partitionsFile, classLoader));
+                    loadedDocument = document;
+                }
+            }
+        }
+        return Optional.ofNullable(document.document);
+    }
+
+    @SdkTestInternalApi
+    static void reset() {
+        loadedDocument = null;
+    }
+
+    private static JsonNode load(String partitionsFile, ClassLoader classLoader) {
+        if (partitionsFile != null) {
+            try {
+                return parse(Files.newInputStream(Paths.get(partitionsFile)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        InputStream classpathFile = classLoader.getResourceAsStream(PARTITIONS_FILE_CLASSPATH_LOCATION);
+        return classpathFile == null ? null : parse(classpathFile);
+    }
+
+    private static JsonNode parse(InputStream partitionsFile) {
+        try {
+            return PARSER.parse(partitionsFile);
+        } finally {
+            IoUtils.closeQuietly(partitionsFile, null);
+        }
+    }
+
+    private static final class LoadedDocument {
+        private final String partitionsFile;
+        private final WeakReference<ClassLoader> classLoader;
+        private final JsonNode document;
+
+        private LoadedDocument(String partitionsFile, ClassLoader classLoader, JsonNode document) {
+            this.partitionsFile = partitionsFile;
+            this.classLoader = new WeakReference<>(classLoader);
+            this.document = document;
+        }
+
+        private boolean isFor(String partitionsFile, ClassLoader classLoader) {
+            return Objects.equals(this.partitionsFile, partitionsFile) && this.classLoader.get() == classLoader;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.regions.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+
+public class PartitionsDocumentTest {
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    public void tearDown() {
+        System.clearProperty(SdkSystemSetting.AWS_PARTITIONS_FILE.property());
+        PartitionsDocument.reset();
+    }
+
+    @Test
+    public void noOverride_returnsEmpty() {
+        assertThat(PartitionsDocument.overrideDocument(getClass())).isEmpty();
+    }
+
+    @Test
+    public void partitionsFile_isParsedOnceAndShared() throws IOException {
+        setPartitionsFile(write("partitions-1.json", "{\"version\": \"1.1\"}"));
+
+        JsonNode document = PartitionsDocument.overrideDocument(getClass()).get();
+        assertThat(document.field("version").get().asString()).isEqualTo("1.1");
+        assertThat(PartitionsDocument.overrideDocument(getClass())).containsSame(document);
+    }
+
+    @Test
+    public void partitionsFileChanges_isParsedAgain() throws IOException {
+        setPartitionsFile(write("partitions-1.json", "{\"version\": \"1.1\"}"));
+        assertThat(PartitionsDocument.overrideDocument(getClass()).get().field("version").get().asString()).isEqualTo("1.1");
+
+        setPartitionsFile(write("partitions-2.json", "{\"version\": \"1.2\"}"));
+        assertThat(PartitionsDocument.overrideDocument(getClass()).get().field("version").get().asString()).isEqualTo("1.2");
+    }
+
+    @Test
+    public void missingPartitionsFile_throwsException() {
+        setPartitionsFile(tempDir.resolve("does-not-exist.json"));
+
+        assertThatThrownBy(() -> PartitionsDocument.overrideDocument(getClass())).isInstanceOf(UncheckedIOException.class);
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.write(tempDir.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void setPartitionsFile(Path path) {
+        System.setProperty(SdkSystemSetting.AWS_PARTITIONS_FILE.property(), path.toString());
+    }
+}
@@ -36,12 +36,14 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
     private final Long position;
     private final Long numBytesToRead;
     private final Path path;
+    private final Boolean memoryMapped;
 
     private FileRequestBodyConfiguration(DefaultBuilder builder) {
         this.path = Validate.notNull(builder.path, "path");
         this.chunkSizeInBytes = Validate.isPositiveOrNull(builder.chunkSizeInBytes, "chunkSizeInBytes");
         this.position = Validate.isNotNegativeOrNull(builder.position, "position");
         this.numBytesToRead = Validate.isNotNegativeOrNull(builder.numBytesToRead, "numBytesToRead");
+        this.memoryMapped = builder.memoryMapped;
     }
 
     /**
@@ -79,6 +81,13 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         return path;
     }
 
+    /**
+     * @return whether the file is published as slices of a memory-mapped region instead of being read into new buffers
+     */
+    public Boolean memoryMapped() {
+        return memoryMapped;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -99,6 +108,9 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         if (!Objects.equals(numBytesToRead, that.numBytesToRead)) {
             return false;
         }
+        if (!Objects.equals(memoryMapped, that.memoryMapped)) {
+            return false;
+        }
         return Objects.equals(path, that.path);
     }
 
@@ -108,6 +120,7 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         result = 31 * result + (position != null ? position.hashCode() : 0);
         result = 31 * result + (numBytesToRead != null ? numBytesToRead.hashCode() : 0);
         result = 31 * result + (path != null ? path.hashCode() : 0);
+        result = 31 * result + (memoryMapped != null ? memoryMapped.hashCode() : 0);
         return result;
     }
 
@@ -157,6 +170,26 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
          * @return The builder for method chaining.
          */
         Builder numBytesToRead(Long numBytesToRead);
+
+        /**
+         * Sets whether the file should be memory-mapped. When enabled, the SDK maps the requested region of the file and
+         * publishes read-only slices of {@link #chunkSizeInBytes(Integer)} bytes from the mapping instead of copying the file
+         * into newly allocated buffers, so the file body itself does not copy the data on the heap. This is mostly useful for
+         * large uploads.
+         *
+         * <p>Wrappers of the request body may still copy the data. In particular, when a flexible checksum is sent as a
+         * trailer of an aws-chunked request body, each slice is copied into a new buffer that also holds the chunk
+         * encoding.
+         *
+         * <p>The mapping is released once all slices become unreachable. The file must not be truncated while it is being
+         * uploaded: on most platforms, accessing a mapped region past the end of the file fails with an {@link InternalError}.
+         *
+         * <p>By default, it's false.
+         *
+         * @param memoryMapped whether to memory-map the file
+         * @return The builder for method chaining.
+         */
+        Builder memoryMapped(Boolean memoryMapped);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -164,12 +197,14 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
         private Path path;
         private Integer chunkSizeInBytes;
         private Long numBytesToRead;
+        private Boolean memoryMapped;
 
         private DefaultBuilder(FileRequestBodyConfiguration configuration) {
             this.position = configuration.position;
             this.path = configuration.path;
             this.chunkSizeInBytes = configuration.chunkSizeInBytes;
             this.numBytesToRead = configuration.numBytesToRead;
+            this.memoryMapped = configuration.memoryMapped;
         }
 
         private DefaultBuilder() {
@@ -200,6 +235,12 @@ public final class FileRequestBodyConfiguration implements ToCopyableBuilder<Fil
             return this;
         }
 
+        @Override
+        public Builder memoryMapped(Boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
         @Override
         public FileRequestBodyConfiguration build() {
             return new FileRequestBodyConfiguration(this);
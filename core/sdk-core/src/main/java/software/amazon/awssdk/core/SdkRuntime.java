@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
+import software.amazon.awssdk.core.internal.runtime.DefaultSdkRuntime;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.builder.SdkBuilder;
+
+/**
+ * The threads that SDK clients use for work that does not happen on the thread of the caller, shared between all of the
+ * clients that are configured with it via {@link SdkClientBuilder#sdkRuntime(SdkRuntime)}.
+ * <p>
+ * By default, every async client creates its own executor to complete the futures returned by the client, and every client
+ * creates its own scheduled executor for retries and timeouts. Applications that create many clients can share one runtime
+ * between them instead, so that the number of SDK threads does not grow with the number of clients. Executors configured
+ * explicitly on a client (e.g. with {@code SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR}) take precedence over the
+ * runtime.
+ * <p>
+ * The runtime is reference counted: closing it prevents new clients from using it, and its threads are shut down once it is
+ * closed and all of the clients that use it have been closed.
+ * <p>
+ * Clients that use a runtime report {@link software.amazon.awssdk.core.metrics.CoreMetric#FUTURE_COMPLETION_QUEUE_DEPTH}.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface SdkRuntime extends SdkAutoCloseable {
+    /**
+     * Create a runtime with the default configuration.
+     */
+    static SdkRuntime create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a builder for a runtime.
+     */
+    static Builder builder() {
+        return DefaultSdkRuntime.builder();
+    }
+
+    /**
+     * Close this runtime. Clients that already use the runtime can still be used, but new clients can no longer be created with
+     * it. The threads of the runtime are shut down once all of its clients are closed.
+     */
+    @Override
+    void close();
+
+    interface Builder extends SdkBuilder<Builder, SdkRuntime> {
+        /**
+         * The maximum number of threads that complete the futures returned by async clients. This defaults to 64 or twice the
+         * number of available processors, whichever is higher.
+         */
+        Builder futureCompletionMaxThreads(Integer futureCompletionMaxThreads);
+
+        /**
+         * The number of completions that can be waiting for a thread before they are completed on the thread of the HTTP
+         * client instead. This defaults to 1,000.
+         */
+        Builder futureCompletionQueueCapacity(Integer futureCompletionQueueCapacity);
+
+        /**
+         * The number of threads that schedule retries and timeouts. This defaults to 5.
+         */
+        Builder scheduledExecutorThreads(Integer scheduledExecutorThreads);
+    }
+}
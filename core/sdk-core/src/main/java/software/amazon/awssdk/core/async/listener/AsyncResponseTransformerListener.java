@@ -22,6 +22,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.internal.async.PooledByteBufferConsumer;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
 
@@ -64,7 +65,8 @@ public interface AsyncResponseTransformerListener<ResponseT> extends PublisherLi
     }
 
     @SdkInternalApi
-    final class NotifyingAsyncResponseTransformer<ResponseT, ResultT> implements AsyncResponseTransformer<ResponseT, ResultT> {
+    final class NotifyingAsyncResponseTransformer<ResponseT, ResultT> implements AsyncResponseTransformer<ResponseT, ResultT>,
+                                                                                  PooledByteBufferConsumer {
         private static final Logger log = Logger.loggerFor(NotifyingAsyncResponseTransformer.class);
 
         private final AsyncResponseTransformer<ResponseT, ResultT> delegate;
@@ -99,6 +101,12 @@ public interface AsyncResponseTransformerListener<ResponseT> extends PublisherLi
             delegate.exceptionOccurred(error);
         }
 
+        @Override
+        public boolean supportsPooledByteBuffers() {
+            // The listener's subscriber passes every buffer on to the delegate's subscriber within its own onNext
+            return PooledByteBufferConsumer.supportsPooledByteBuffers(delegate);
+        }
+
         static void invoke(Runnable runnable, String callbackName) {
             try {
                 runnable.run();
@@ -21,6 +21,7 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPreviewApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.SdkPlugin;
+import software.amazon.awssdk.core.SdkRuntime;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.endpoints.EndpointProvider;
 import software.amazon.awssdk.http.auth.spi.scheme.AuthScheme;
@@ -79,6 +80,15 @@ public interface SdkClientBuilder<B extends SdkClientBuilder<B, C>, C> extends S
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Configure the client to use the threads of a shared {@link SdkRuntime} to complete async futures, schedule retries and
+     * enforce timeouts, instead of creating threads of its own. The client holds a reference on the runtime until the client is
+     * closed.
+     */
+    default B sdkRuntime(SdkRuntime sdkRuntime) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Adds a plugin to the client builder. The plugins will be invoked when building the client to allow them to change the
      * configuration of the built client.
@@ -46,7 +46,9 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_NAME;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_STRATEGY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.SDK_RUNTIME_REFERENCE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SYNC_HTTP_CLIENT;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.TIMEOUT_SCHEDULER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.USER_AGENT_APP_ID;
 import static software.amazon.awssdk.core.internal.useragent.UserAgentConstant.APP_ID;
 import static software.amazon.awssdk.core.internal.useragent.UserAgentConstant.HTTP;
@@ -78,6 +80,7 @@ import software.amazon.awssdk.core.ClientEndpointProvider;
 import software.amazon.awssdk.core.ClientType;
 import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.SdkPlugin;
+import software.amazon.awssdk.core.SdkRuntime;
 import software.amazon.awssdk.core.SdkSystemSetting;
 import software.amazon.awssdk.core.client.config.ClientAsyncConfiguration;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
@@ -88,8 +91,12 @@ import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkAsyncHttpClientBuilder;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkHttpClientBuilder;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.CompressRequestStage;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimeoutScheduler;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutScheduler;
 import software.amazon.awssdk.core.internal.interceptor.HttpChecksumValidationInterceptor;
 import software.amazon.awssdk.core.internal.retry.SdkDefaultRetryStrategy;
+import software.amazon.awssdk.core.internal.runtime.DefaultSdkRuntime;
 import software.amazon.awssdk.core.internal.useragent.AppIdResolver;
 import software.amazon.awssdk.core.internal.useragent.SdkClientUserAgentProperties;
 import software.amazon.awssdk.core.internal.useragent.SdkUserAgentBuilder;
@@ -111,6 +118,7 @@ import software.amazon.awssdk.utils.AttributeMap.LazyValueSource;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Lazy;
 import software.amazon.awssdk.utils.OptionalUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.StringUtils;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
@@ -146,6 +154,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
     private final SdkHttpClient.Builder defaultHttpClientBuilder;
     private final SdkAsyncHttpClient.Builder defaultAsyncHttpClientBuilder;
     private final List<SdkPlugin> plugins = new ArrayList<>();
+    private DefaultSdkRuntime sdkRuntime;
 
 
     protected SdkDefaultClientBuilder() {
@@ -206,7 +215,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         // Invoke the plugins
         configuration = invokePlugins(configuration);
 
-        return configuration;
+        return acquireSdkRuntime(configuration);
     }
 
     /**
@@ -237,7 +246,7 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         // Invoke the plugins
         configuration = invokePlugins(configuration);
 
-        return configuration;
+        return acquireSdkRuntime(configuration);
     }
 
     /**
@@ -328,14 +337,34 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      * Finalize global configuration from the default-applied configuration.
      */
     private SdkClientConfiguration finalizeConfiguration(SdkClientConfiguration config) {
-        return config.toBuilder()
-                     .lazyOption(SCHEDULED_EXECUTOR_SERVICE, this::resolveScheduledExecutorService)
-                     .lazyOptionIfAbsent(RETRY_STRATEGY, this::resolveRetryStrategy)
-                     .option(EXECUTION_INTERCEPTORS, resolveExecutionInterceptors(config))
-                     .lazyOption(CLIENT_USER_AGENT, this::resolveClientUserAgent)
-                     .lazyOption(COMPRESSION_CONFIGURATION, this::resolveCompressionConfiguration)
-                     .lazyOptionIfAbsent(IDENTITY_PROVIDERS, c -> IdentityProviders.builder().build())
-                     .build();
+        SdkClientConfiguration.Builder builder = config.toBuilder();
+        return builder.lazyOption(SCHEDULED_EXECUTOR_SERVICE, this::resolveScheduledExecutorService)
+                      .lazyOption(TIMEOUT_SCHEDULER, this::resolveTimeoutScheduler)
+                      .lazyOptionIfAbsent(RETRY_STRATEGY, this::resolveRetryStrategy)
+                      .option(EXECUTION_INTERCEPTORS, resolveExecutionInterceptors(config))
+                      .lazyOption(CLIENT_USER_AGENT, this::resolveClientUserAgent)
+                      .lazyOption(COMPRESSION_CONFIGURATION, this::resolveCompressionConfiguration)
+                      .lazyOptionIfAbsent(IDENTITY_PROVIDERS, c -> IdentityProviders.builder().build())
+                      .build();
+    }
+
+    /**
+     * Acquire a reference on the configured {@link SdkRuntime}. This is done after every other step of the configuration, so
+     * that a step that fails cannot leak the reference. If acquiring fails, the resources that were already created for the
+     * client are closed.
+     */
+    private SdkClientConfiguration acquireSdkRuntime(SdkClientConfiguration configuration) {
+        if (sdkRuntime == null) {
+            return configuration;
+        }
+        SdkAutoCloseable reference;
+        try {
+            reference = sdkRuntime.acquire();
+        } catch (RuntimeException e) {
+            configuration.close();
+            throw e;
+        }
+        return configuration.toBuilder().option(SDK_RUNTIME_REFERENCE, reference).build();
     }
 
     private CompressionConfiguration resolveCompressionConfiguration(LazyValueSource config) {
@@ -498,9 +527,12 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
     /**
      * Finalize which async executor service will be used for the created client. The default async executor
      * service has at least 8 core threads and can scale up to at least 64 threads when needed depending
-     * on the number of processors available.
+     * on the number of processors available. If an {@link SdkRuntime} is configured, its executor is shared instead.
      */
     private Executor resolveAsyncFutureCompletionExecutor(LazyValueSource config) {
+        if (sdkRuntime != null) {
+            return sdkRuntime.futureCompletionExecutor();
+        }
         int processors = Runtime.getRuntime().availableProcessors();
         int corePoolSize = Math.max(8, processors);
         int maxPoolSize = Math.max(64, processors * 2);
@@ -524,9 +556,21 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
             return executor;
         }
 
+        if (sdkRuntime != null) {
+            return sdkRuntime.scheduledExecutor();
+        }
+
         return Executors.newScheduledThreadPool(5, new ThreadFactoryBuilder().threadNamePrefix("sdk-ScheduledExecutor").build());
     }
 
+    /**
+     * Finalize the scheduler of the API call and API call attempt timeouts. Timeouts are scheduled on the timer that is shared
+     * by all clients, and run on the scheduled executor service of the client when they fire.
+     */
+    private TimeoutScheduler resolveTimeoutScheduler(LazyValueSource c) {
+        return new HashedWheelTimeoutScheduler(HashedWheelTimer.shared(), c.get(SCHEDULED_EXECUTOR_SERVICE));
+    }
+
     /**
      * Finalize which execution interceptors will be used for the created client.
      */
@@ -581,6 +625,18 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         overrideConfiguration(overrideConfiguration);
     }
 
+    @Override
+    public final B sdkRuntime(SdkRuntime sdkRuntime) {
+        this.sdkRuntime = sdkRuntime == null ? null : Validate.isInstanceOf(DefaultSdkRuntime.class, sdkRuntime,
+                                                                              "Unsupported SdkRuntime implementation: %s",
+                                                                              sdkRuntime.getClass().getName());
+        return thisBuilder();
+    }
+
+    public final void setSdkRuntime(SdkRuntime sdkRuntime) {
+        sdkRuntime(sdkRuntime);
+    }
+
     @Override
     public final ClientOverrideConfiguration overrideConfiguration() {
         if (overrideConfig == null) {
@@ -32,6 +32,7 @@ import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
 import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutScheduler;
 import software.amazon.awssdk.core.internal.useragent.SdkClientUserAgentProperties;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
@@ -46,6 +47,7 @@ import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.profiles.ProfileFile;
 import software.amazon.awssdk.retries.api.RetryStrategy;
 import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
  * A set of internal options required by the SDK via {@link SdkClientConfiguration}.
@@ -149,6 +151,19 @@ public final class SdkClientOption<T> extends ClientOption<T> {
     public static final SdkClientOption<ScheduledExecutorService> SCHEDULED_EXECUTOR_SERVICE =
             new SdkClientOption<>(ScheduledExecutorService.class);
 
+    /**
+     * The scheduler of the API call and API call attempt timeouts of the client.
+     */
+    public static final SdkClientOption<TimeoutScheduler> TIMEOUT_SCHEDULER =
+            new SdkClientOption<>(TimeoutScheduler.class);
+
+    /**
+     * The reference that the client holds on the {@link software.amazon.awssdk.core.SdkRuntime} configured on the client
+     * builder, if any. It is released when the client is closed.
+     */
+    public static final SdkClientOption<SdkAutoCloseable> SDK_RUNTIME_REFERENCE =
+            new SdkClientOption<>(SdkAutoCloseable.class);
+
     /**
      * The internal SDK scheduled executor service that is set by the customer. This is likely only useful within configuration
      * classes, and will be converted into a {@link #SCHEDULED_EXECUTOR_SERVICE} for the SDK's runtime.
@@ -0,0 +1,50 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.http;
+
+import java.nio.ByteBuffer;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Parses the body of an HTTP response incrementally, as it is received, into an object of type T.
+ * <p>
+ * Returned by {@link HttpResponseHandler#bodyParser} for responses that the handler can process without first buffering the
+ * whole body. The parts of the body are passed to {@link #feed(ByteBuffer)} in order, from a single thread at a time, and
+ * {@link #complete()} is called once after the last part.
+ *
+ * @param <T> The output of this parser.
+ */
+@SdkProtectedApi
+public interface HttpResponseBodyParser<T> {
+
+    /**
+     * Parses the next part of the response body. The parser must not keep a reference to the buffer after this method
+     * returns.
+     *
+     * @param part The next part of the response body.
+     * @throws Exception If the part cannot be parsed.
+     */
+    void feed(ByteBuffer part) throws Exception;
+
+    /**
+     * Signals that the whole body has been fed to this parser, and returns the same object as
+     * {@link HttpResponseHandler#handle} would have returned for the response.
+     *
+     * @return The parsed object.
+     * @throws Exception If the body is incomplete or cannot be parsed.
+     */
+    T complete() throws Exception;
+}
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.http;
 
 import java.util.Collections;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -78,4 +79,21 @@ public interface HttpResponseHandler<T> {
     default boolean needsConnectionLeftOpen() {
         return false;
     }
+
+    /**
+     * Returns a parser that produces the same result as {@link #handle(SdkHttpFullResponse, ExecutionAttributes)} for the
+     * given response, while its body is received, instead of from the fully buffered body.
+     * <p>
+     * Asynchronous clients use the parser, if one is returned, for non-streaming responses. The response passed to this method
+     * has no content; {@link #handle(SdkHttpFullResponse, ExecutionAttributes)} is not invoked for the response when a parser
+     * is returned. By default, no parser is returned and the body is buffered.
+     *
+     * @param response The HTTP response, without its content.
+     * @param executionAttributes The attributes attached to this particular execution.
+     * @return The parser for the body of the response, or empty if the body must be buffered.
+     */
+    default Optional<HttpResponseBodyParser<T>> bodyParser(SdkHttpFullResponse response,
+                                                          ExecutionAttributes executionAttributes) {
+        return Optional.empty();
+    }
 }
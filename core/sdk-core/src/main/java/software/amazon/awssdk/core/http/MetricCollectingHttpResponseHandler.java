@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.core.http;
 
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
@@ -56,6 +57,13 @@ public final class MetricCollectingHttpResponseHandler<T> implements HttpRespons
         return result.left();
     }
 
+    @Override
+    public Optional<HttpResponseBodyParser<T>> bodyParser(SdkHttpFullResponse response,
+                                                          ExecutionAttributes executionAttributes) {
+        return delegateToTime.bodyParser(response, executionAttributes)
+                             .map(parser -> new TimedBodyParser(parser, executionAttributes));
+    }
+
     private Optional<MetricCollector> collector(ExecutionAttributes attributes) {
         if (attributes == null) {
             return Optional.empty();
@@ -68,4 +76,38 @@ public final class MetricCollectingHttpResponseHandler<T> implements HttpRespons
     public boolean needsConnectionLeftOpen() {
         return delegateToTime.needsConnectionLeftOpen();
     }
+
+    /**
+     * Publishes the total time spent parsing the parts of the body, excluding the time spent waiting for them.
+     */
+    private final class TimedBodyParser implements HttpResponseBodyParser<T> {
+        private final HttpResponseBodyParser<T> delegate;
+        private final ExecutionAttributes executionAttributes;
+        private long parseNanos;
+
+        private TimedBodyParser(HttpResponseBodyParser<T> delegate, ExecutionAttributes executionAttributes) {
+            this.delegate = delegate;
+            this.executionAttributes = executionAttributes;
+        }
+
+        @Override
+        public void feed(ByteBuffer part) throws Exception {
+            long start = System.nanoTime();
+            try {
+                delegate.feed(part);
+            } finally {
+                parseNanos += System.nanoTime() - start;
+            }
+        }
+
+        @Override
+        public T complete() throws Exception {
+            Pair<T, Duration> result = MetricUtils.measureDurationUnsafe(delegate::complete);
+            Duration total = result.right().plusNanos(parseNanos);
+
+            collector(executionAttributes).ifPresent(c -> c.reportMetric(metric, total));
+
+            return result.left();
+        }
+    }
 }
@@ -36,6 +36,13 @@ public final class InternalCoreExecutionAttribute extends SdkExecutionAttribute
     public static final ExecutionAttribute<RetryToken> RETRY_TOKEN =
         new ExecutionAttribute<>("SdkInternalRetryToken");
 
+    /**
+     * Whether the response body of a streaming operation is consumed by a transformer that supports pooled buffers, see
+     * {@link software.amazon.awssdk.core.internal.async.PooledByteBufferConsumer}.
+     */
+    public static final ExecutionAttribute<Boolean> POOLED_RESPONSE_BODY_SUPPORTED =
+        new ExecutionAttribute<>("SdkInternalPooledResponseBodySupported");
+
     private InternalCoreExecutionAttribute() {
     }
 }
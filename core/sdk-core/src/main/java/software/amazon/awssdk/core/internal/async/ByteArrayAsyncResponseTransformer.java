@@ -15,10 +15,8 @@
 
 package software.amazon.awssdk.core.internal.async;
 
-import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
-
-import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -26,7 +24,6 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
-import software.amazon.awssdk.utils.BinaryUtils;
 
 /**
  * Implementation of {@link AsyncResponseTransformer} that dumps content into a byte array and supports further
@@ -39,7 +36,7 @@ import software.amazon.awssdk.utils.BinaryUtils;
  */
 @SdkInternalApi
 public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
-        AsyncResponseTransformer<ResponseT, ResponseBytes<ResponseT>> {
+        AsyncResponseTransformer<ResponseT, ResponseBytes<ResponseT>>, PooledByteBufferConsumer {
 
     private volatile CompletableFuture<byte[]> cf;
     private volatile ResponseT response;
@@ -47,7 +44,8 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
     @Override
     public CompletableFuture<ResponseBytes<ResponseT>> prepare() {
         cf = new CompletableFuture<>();
-        return cf.thenApply(arr -> ResponseBytes.fromByteArray(response, arr));
+        // The array is created by the BaosSubscriber for this response only, so it does not need to be copied again
+        return cf.thenApply(arr -> ResponseBytes.fromByteArrayUnsafe(response, arr));
     }
 
     @Override
@@ -65,10 +63,19 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
         cf.completeExceptionally(throwable);
     }
 
+    @Override
+    public boolean supportsPooledByteBuffers() {
+        // The BaosSubscriber copies each buffer within onNext
+        return true;
+    }
+
     static class BaosSubscriber implements Subscriber<ByteBuffer> {
+        private static final int INITIAL_CAPACITY = 256;
+
         private final CompletableFuture<byte[]> resultFuture;
 
-        private ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        private byte[] bytes = new byte[INITIAL_CAPACITY];
+        private int size;
 
         private Subscription subscription;
 
@@ -88,19 +95,34 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            invokeSafely(() -> baos.write(BinaryUtils.copyBytesFrom(byteBuffer)));
+            // Copy straight from the buffer, which may be a pooled direct buffer of the HTTP client, into the result array
+            int length = byteBuffer.remaining();
+            ensureCapacity(length);
+            byteBuffer.duplicate().get(bytes, size, length);
+            size += length;
             subscription.request(1);
         }
 
         @Override
         public void onError(Throwable throwable) {
-            baos = null;
+            bytes = null;
             resultFuture.completeExceptionally(throwable);
         }
 
         @Override
         public void onComplete() {
-            resultFuture.complete(baos.toByteArray());
+            resultFuture.complete(size == bytes.length ? bytes : Arrays.copyOf(bytes, size));
+        }
+
+        private void ensureCapacity(int length) {
+            int required = size + length;
+            if (required < 0) {
+                throw new OutOfMemoryError("Response body is too large to be stored in a byte array");
+            }
+            if (required > bytes.length) {
+                int newCapacity = Math.max(required, bytes.length * 2);
+                bytes = Arrays.copyOf(bytes, newCapacity);
+            }
         }
     }
 }
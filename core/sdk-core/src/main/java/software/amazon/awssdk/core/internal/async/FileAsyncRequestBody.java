@@ -22,12 +22,16 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileTime;
+import java.util.ArrayDeque;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -70,6 +74,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
     private final int chunkSizeInBytes;
     private final long position;
     private final long numBytesToRead;
+    private final boolean memoryMapped;
 
     private FileAsyncRequestBody(DefaultBuilder builder) {
         this.path = builder.path;
@@ -78,6 +83,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         this.position = builder.position == null ? 0 : Validate.isNotNegative(builder.position, "position");
         this.numBytesToRead = builder.numBytesToRead == null ? fileLength - this.position :
                               Validate.isNotNegative(builder.numBytesToRead, "numBytesToRead");
+        this.memoryMapped = Boolean.TRUE.equals(builder.memoryMapped);
     }
 
     @Override
@@ -106,6 +112,10 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         return numBytesToRead;
     }
 
+    public boolean memoryMapped() {
+        return memoryMapped;
+    }
+
     @Override
     public Optional<Long> contentLength() {
         return Optional.of(numBytesToRead);
@@ -118,6 +128,11 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
 
     @Override
     public void subscribe(Subscriber<? super ByteBuffer> s) {
+        if (memoryMapped) {
+            subscribeMapped(s);
+            return;
+        }
+
         AsynchronousFileChannel channel = null;
         try {
             channel = openInputChannel(this.path);
@@ -141,6 +156,18 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         }
     }
 
+    private void subscribeMapped(Subscriber<? super ByteBuffer> s) {
+        Subscription subscription;
+        try {
+            subscription = new MappedFileSubscription(s);
+        } catch (IOException | RuntimeException e) {
+            s.onSubscribe(new NoopSubscription(s));
+            s.onError(e);
+            return;
+        }
+        s.onSubscribe(subscription);
+    }
+
     /**
      * @return Builder instance to construct a {@link FileAsyncRequestBody}.
      */
@@ -192,6 +219,17 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
          * @return The builder for method chaining.
          */
         Builder numBytesToRead(Long numBytesToRead);
+
+        /**
+         * Sets whether to publish read-only slices of a memory mapping of the file instead of reading the file into newly
+         * allocated buffers.
+         *
+         * <p>By default, it's false.
+         *
+         * @param memoryMapped whether to memory-map the file
+         * @return The builder for method chaining.
+         */
+        Builder memoryMapped(Boolean memoryMapped);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -200,6 +238,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         private Path path;
         private Integer chunkSizeInBytes;
         private Long numBytesToRead;
+        private Boolean memoryMapped;
 
         @Override
         public Builder path(Path path) {
@@ -229,6 +268,12 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             return this;
         }
 
+        @Override
+        public Builder memoryMapped(Boolean memoryMapped) {
+            this.memoryMapped = memoryMapped;
+            return this;
+        }
+
         public void setChunkSizeInBytes(Integer chunkSizeInBytes) {
             chunkSizeInBytes(chunkSizeInBytes);
         }
@@ -380,33 +425,9 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         }
 
         private void signalOnComplete() {
-            try {
-                long sizeAtEnd = Files.size(path);
-                if (sizeAtStart != sizeAtEnd) {
-                    signalOnError(new IOException("File size changed after reading started. Initial size: " + sizeAtStart + ". "
-                                                  + "Current size: " + sizeAtEnd));
-                    return;
-                }
-
-                if (remainingBytes.get() > 0) {
-                    signalOnError(new IOException("Fewer bytes were read than were expected, was the file modified after "
-                                                  + "reading started?"));
-                    return;
-                }
-
-                FileTime modifiedTimeAtEnd = Files.getLastModifiedTime(path);
-                if (modifiedTimeAtStart.compareTo(modifiedTimeAtEnd) != 0) {
-                    signalOnError(new IOException("File last-modified time changed after reading started. Initial modification "
-                                                  + "time: " + modifiedTimeAtStart + ". Current modification time: " +
-                                                  modifiedTimeAtEnd));
-                    return;
-                }
-            } catch (NoSuchFileException e) {
-                signalOnError(new IOException("Unable to check file status after read. Was the file deleted or were its "
-                                              + "permissions changed?", e));
-                return;
-            } catch (IOException e) {
-                signalOnError(new IOException("Unable to check file status after read.", e));
+            Optional<IOException> fileChanged = fileChangedError(sizeAtStart, modifiedTimeAtStart, remainingBytes.get());
+            if (fileChanged.isPresent()) {
+                signalOnError(fileChanged.get());
                 return;
             }
 
@@ -428,6 +449,182 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         }
     }
 
+    /**
+     * Publishes read-only slices of a memory mapping of the file for one subscriber. The slices are views of the mapping, so
+     * the file data is never copied by this publisher. The mapping is released when it and all of its slices are garbage
+     * collected: the subscriber (e.g. the HTTP client) may still hold slices after this subscription completes, so it is not
+     * safe to unmap it explicitly.
+     */
+    private final class MappedFileSubscription implements Subscription {
+        private final Subscriber<? super ByteBuffer> subscriber;
+        private final long sizeAtStart;
+        private final FileTime modifiedTimeAtStart;
+        private final Queue<ByteBuffer> regions;
+        private final AtomicLong outstandingDemand = new AtomicLong();
+        /**
+         * The number of signals (requests, cancellation) that the thread that is emitting still has to process. Only the thread
+         * that increments it from zero emits, so that slices are never emitted concurrently, and a subscriber that requests
+         * more from within onNext does not make the stack grow with every slice.
+         */
+        private final AtomicInteger workInProgress = new AtomicInteger();
+        private long remainingBytes;
+        private volatile Throwable invalidRequest;
+        private volatile boolean done = false;
+
+        private MappedFileSubscription(Subscriber<? super ByteBuffer> subscriber) throws IOException {
+            this.subscriber = subscriber;
+            this.remainingBytes = numBytesToRead;
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                this.sizeAtStart = channel.size();
+                this.modifiedTimeAtStart = Files.getLastModifiedTime(path);
+                // The mappings stay valid after the channel is closed.
+                this.regions = mapRegions(channel);
+            }
+        }
+
+        /**
+         * Maps the part of the file to read in regions of at most 2 GiB, the largest region a single buffer can address. The
+         * region size is a multiple of the chunk size, so that only the last slice of the body can be shorter than a chunk.
+         */
+        private Queue<ByteBuffer> mapRegions(FileChannel channel) throws IOException {
+            long regionSize = (long) (Integer.MAX_VALUE / chunkSizeInBytes) * chunkSizeInBytes;
+            long end = Math.min(position + numBytesToRead, sizeAtStart);
+            Queue<ByteBuffer> mappedRegions = new ArrayDeque<>();
+            for (long offset = position; offset < end; offset += regionSize) {
+                mappedRegions.add(channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(regionSize, end - offset)));
+            }
+            return mappedRegions;
+        }
+
+        @Override
+        public void request(long n) {
+            if (done) {
+                return;
+            }
+
+            if (n < 1) {
+                invalidRequest =
+                    new IllegalArgumentException(subscriber + " violated the Reactive Streams rule 3.9 by requesting a "
+                                                 + "non-positive number of elements.");
+            } else {
+                // As governed by rule 3.17, when demand overflows `Long.MAX_VALUE` we treat the signalled demand as
+                // "effectively unbounded"
+                outstandingDemand.accumulateAndGet(n, (current, added) -> Long.MAX_VALUE - current < added
+                                                                          ? Long.MAX_VALUE
+                                                                          : current + added);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            // Setting the flag stops a thread that is emitting after its current onNext, without waiting for it.
+            done = true;
+            drain();
+        }
+
+        private void drain() {
+            if (workInProgress.getAndIncrement() != 0) {
+                return;
+            }
+
+            int missed = 1;
+            do {
+                try {
+                    emitSlices();
+                } catch (RuntimeException e) {
+                    signalOnError(e);
+                }
+                missed = workInProgress.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emitSlices() {
+            if (invalidRequest != null) {
+                signalOnError(invalidRequest);
+            }
+
+            while (!done && outstandingDemand.get() > 0 && !regions.isEmpty()) {
+                outstandingDemand.decrementAndGet();
+                subscriber.onNext(nextSlice());
+            }
+
+            if (done) {
+                // Drop our references, so that the regions can be unmapped once the subscriber releases its slices.
+                regions.clear();
+            } else if (regions.isEmpty()) {
+                signalOnComplete();
+            }
+        }
+
+        private ByteBuffer nextSlice() {
+            ByteBuffer region = regions.peek();
+            int length = Math.min(chunkSizeInBytes, region.remaining());
+            ByteBuffer view = region.duplicate();
+            view.limit(view.position() + length);
+            region.position(region.position() + length);
+            remainingBytes -= length;
+
+            if (!region.hasRemaining()) {
+                // Drop our reference, so that the region can be unmapped once the subscriber releases its slices.
+                regions.remove();
+            }
+            return view.slice();
+        }
+
+        private void signalOnComplete() {
+            Optional<IOException> fileChanged = fileChangedError(sizeAtStart, modifiedTimeAtStart, remainingBytes);
+            if (fileChanged.isPresent()) {
+                signalOnError(fileChanged.get());
+                return;
+            }
+
+            if (!done) {
+                done = true;
+                subscriber.onComplete();
+            }
+        }
+
+        private void signalOnError(Throwable t) {
+            if (!done) {
+                done = true;
+                regions.clear();
+                subscriber.onError(t);
+            }
+        }
+    }
+
+    /**
+     * Checks that the file was not modified while it was read, returning the error to signal to the subscriber if it was.
+     */
+    private Optional<IOException> fileChangedError(long sizeAtStart, FileTime modifiedTimeAtStart, long remainingBytes) {
+        try {
+            long sizeAtEnd = Files.size(path);
+            if (sizeAtStart != sizeAtEnd) {
+                return Optional.of(new IOException("File size changed after reading started. Initial size: " + sizeAtStart + ". "
+                                                   + "Current size: " + sizeAtEnd));
+            }
+
+            if (remainingBytes > 0) {
+                return Optional.of(new IOException("Fewer bytes were read than were expected, was the file modified after "
+                                                   + "reading started?"));
+            }
+
+            FileTime modifiedTimeAtEnd = Files.getLastModifiedTime(path);
+            if (modifiedTimeAtStart.compareTo(modifiedTimeAtEnd) != 0) {
+                return Optional.of(new IOException("File last-modified time changed after reading started. Initial "
+                                                   + "modification time: " + modifiedTimeAtStart + ". Current modification "
+                                                   + "time: " + modifiedTimeAtEnd));
+            }
+        } catch (NoSuchFileException e) {
+            return Optional.of(new IOException("Unable to check file status after read. Was the file deleted or were its "
+                                               + "permissions changed?", e));
+        } catch (IOException e) {
+            return Optional.of(new IOException("Unable to check file status after read.", e));
+        }
+        return Optional.empty();
+    }
+
     private static AsynchronousFileChannel openInputChannel(Path path) throws IOException {
         return AsynchronousFileChannel.open(path, StandardOpenOption.READ);
     }
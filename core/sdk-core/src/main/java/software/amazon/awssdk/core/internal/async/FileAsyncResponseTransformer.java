@@ -44,6 +44,7 @@ import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.async.PooledByteBuffers;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
 
@@ -53,7 +54,8 @@ import software.amazon.awssdk.utils.Validate;
  * @param <ResponseT> Response POJO type.
  */
 @SdkInternalApi
-public final class FileAsyncResponseTransformer<ResponseT> implements AsyncResponseTransformer<ResponseT, ResponseT> {
+public final class FileAsyncResponseTransformer<ResponseT> implements AsyncResponseTransformer<ResponseT, ResponseT>,
+                                                                          PooledByteBufferConsumer {
     private static final Logger log = Logger.loggerFor(FileAsyncResponseTransformer.class);
     private final Path path;
     private volatile AsynchronousFileChannel fileChannel;
@@ -169,10 +171,19 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         }
     }
 
+    @Override
+    public boolean supportsPooledByteBuffers() {
+        // The FileSubscriber retains each buffer until its asynchronous write completes
+        return true;
+    }
+
     /**
      * {@link Subscriber} implementation that writes chunks to a file.
      */
     static class FileSubscriber implements Subscriber<ByteBuffer> {
+        private static final Runnable NO_OP = () -> {
+        };
+
         private final AtomicLong position;
         private final AsynchronousFileChannel fileChannel;
         private final Path path;
@@ -209,10 +220,17 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                 throw new NullPointerException("Element must not be null");
             }
 
-            performWrite(byteBuffer);
+            // The write completes after onNext returns, so keep a pooled buffer from being released until then.
+            Runnable releaseBuffer = PooledByteBuffers.retainCurrent().orElse(NO_OP);
+            try {
+                performWrite(byteBuffer, releaseBuffer);
+            } catch (RuntimeException e) {
+                releaseBuffer.run();
+                throw e;
+            }
         }
 
-        private void performWrite(ByteBuffer byteBuffer) {
+        private void performWrite(ByteBuffer byteBuffer, Runnable releaseBuffer) {
             writeInProgress = true;
 
             fileChannel.write(byteBuffer, position.get(), byteBuffer, new CompletionHandler<Integer, ByteBuffer>() {
@@ -221,8 +239,9 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                     position.addAndGet(result);
 
                     if (byteBuffer.hasRemaining()) {
-                        performWrite(byteBuffer);
+                        performWrite(byteBuffer, releaseBuffer);
                     } else {
+                        releaseBuffer.run();
                         synchronized (FileSubscriber.this) {
                             writeInProgress = false;
                             if (closeOnLastWrite) {
@@ -236,6 +255,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
                 @Override
                 public void failed(Throwable exc, ByteBuffer attachment) {
+                    releaseBuffer.run();
                     subscription.cancel();
                     future.completeExceptionally(exc);
                 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.http.async.PooledByteBuffers;
+
+/**
+ * Implemented by {@link AsyncResponseTransformer}s whose response body subscribers follow the {@link PooledByteBuffers}
+ * contract: they consume every buffer within {@code onNext}, or retain it until they are done with it. The SDK only lets the
+ * HTTP client publish pooled buffers for the responses of such transformers.
+ * <p>
+ * Transformers that wrap another transformer may implement this too, if they deliver every buffer to the wrapped
+ * transformer's subscriber within their own {@code onNext}.
+ */
+@SdkInternalApi
+public interface PooledByteBufferConsumer {
+
+    /**
+     * @return True if the response body subscribers of this transformer support pooled buffers.
+     */
+    boolean supportsPooledByteBuffers();
+
+    /**
+     * @return True if the given transformer declares that its response body subscribers support pooled buffers.
+     */
+    static boolean supportsPooledByteBuffers(AsyncResponseTransformer<?, ?> transformer) {
+        return transformer instanceof PooledByteBufferConsumer
+               && ((PooledByteBufferConsumer) transformer).supportsPooledByteBuffers();
+    }
+}
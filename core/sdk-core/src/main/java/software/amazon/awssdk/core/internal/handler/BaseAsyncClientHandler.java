@@ -37,6 +37,7 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
+import software.amazon.awssdk.core.internal.async.PooledByteBufferConsumer;
 import software.amazon.awssdk.core.internal.http.AmazonAsyncHttpClient;
 import software.amazon.awssdk.core.internal.http.IdempotentAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
@@ -97,6 +98,9 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
 
             ExecutionAttributes executionAttributes = executionParams.executionAttributes();
             executionAttributes.putAttribute(InternalCoreExecutionAttribute.EXECUTION_ATTEMPT, 1);
+            if (PooledByteBufferConsumer.supportsPooledByteBuffers(asyncResponseTransformer)) {
+                executionAttributes.putAttribute(InternalCoreExecutionAttribute.POOLED_RESPONSE_BODY_SUPPORTED, true);
+            }
 
             AsyncStreamingResponseHandler<OutputT, ReturnT> asyncStreamingResponseHandler =
                 new AsyncStreamingResponseHandler<>(asyncResponseTransformer);
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.internal.handler;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -30,6 +31,7 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.HttpResponseBodyParser;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
@@ -292,10 +294,7 @@ public abstract class BaseClientHandler {
         HttpResponseHandler<OutputT> responseHandler,
         BiFunction<OutputT, SdkHttpFullResponse, OutputT> successTransformer) {
 
-        return (response, executionAttributes) -> {
-            OutputT delegateResponse = responseHandler.handle(response, executionAttributes);
-            return successTransformer.apply(delegateResponse, response);
-        };
+        return new ResultTransformationResponseHandler<>(responseHandler, successTransformer);
     }
 
     static void validateCombinedResponseHandler(ClientExecutionParams<?, ?> executionParams) {
@@ -344,4 +343,42 @@ public abstract class BaseClientHandler {
         }
         return metricCollector;
     }
+
+    /**
+     * Applies a transformation to the result of a response handler, whether it comes from
+     * {@link HttpResponseHandler#handle} or from the {@link HttpResponseHandler#bodyParser} of the handler.
+     */
+    private static final class ResultTransformationResponseHandler<OutputT> implements HttpResponseHandler<OutputT> {
+        private final HttpResponseHandler<OutputT> responseHandler;
+        private final BiFunction<OutputT, SdkHttpFullResponse, OutputT> successTransformer;
+
+        private ResultTransformationResponseHandler(HttpResponseHandler<OutputT> responseHandler,
+                                                    BiFunction<OutputT, SdkHttpFullResponse, OutputT> successTransformer) {
+            this.responseHandler = responseHandler;
+            this.successTransformer = successTransformer;
+        }
+
+        @Override
+        public OutputT handle(SdkHttpFullResponse response, ExecutionAttributes executionAttributes) throws Exception {
+            OutputT delegateResponse = responseHandler.handle(response, executionAttributes);
+            return successTransformer.apply(delegateResponse, response);
+        }
+
+        @Override
+        public Optional<HttpResponseBodyParser<OutputT>> bodyParser(SdkHttpFullResponse response,
+                                                                    ExecutionAttributes executionAttributes) {
+            return responseHandler.bodyParser(response, executionAttributes)
+                                  .map(parser -> new HttpResponseBodyParser<OutputT>() {
+                                      @Override
+                                      public void feed(ByteBuffer part) throws Exception {
+                                          parser.feed(part);
+                                      }
+
+                                      @Override
+                                      public OutputT complete() throws Exception {
+                                          return successTransformer.apply(parser.complete(), response);
+                                      }
+                                  });
+        }
+    }
 }
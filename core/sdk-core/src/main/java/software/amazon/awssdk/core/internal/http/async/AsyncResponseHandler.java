@@ -17,37 +17,45 @@ package software.amazon.awssdk.core.internal.http.async;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
+import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.zip.CRC32;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.Crc32MismatchException;
+import software.amazon.awssdk.core.http.HttpResponseBodyParser;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
-import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.FunctionalUtils.UnsafeFunction;
 
 /**
  *
  * Response handler for asynchronous non-streaming operations.
  *
  * <p>
- * Adapts an {@link HttpResponseHandler} to the asynchronous {@link TransformingAsyncResponseHandler}. Buffers
- * all content into a {@link ByteArrayInputStream} then invokes the {@link HttpResponseHandler#handle}
- * method.
+ * Adapts an {@link HttpResponseHandler} to the asynchronous {@link TransformingAsyncResponseHandler}. If the handler provides
+ * a {@link HttpResponseHandler#bodyParser}, the content is fed to the parser as it is received, validating the
+ * {@code x-amz-crc32} header of the response on the way. Otherwise, buffers all content into a {@link ByteArrayInputStream}
+ * then invokes the {@link HttpResponseHandler#handle} method.
  *
  * @param <T> Type that the response handler produces.
  */
 @SdkInternalApi
 public final class AsyncResponseHandler<T> implements TransformingAsyncResponseHandler<T> {
-    private volatile CompletableFuture<ByteArrayOutputStream> streamFuture;
+    private static final String CRC32_HEADER = "x-amz-crc32";
+
+    private volatile CompletableFuture<Callable<T>> streamFuture;
     private final HttpResponseHandler<T> responseHandler;
     private final ExecutionAttributes executionAttributes;
     private final Function<SdkHttpFullResponse, SdkHttpFullResponse> crc32Validator;
@@ -68,7 +76,12 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
 
     @Override
     public void onStream(Publisher<ByteBuffer> publisher) {
-        publisher.subscribe(new BaosSubscriber(streamFuture));
+        Optional<HttpResponseBodyParser<T>> bodyParser = bodyParser();
+        if (bodyParser.isPresent()) {
+            publisher.subscribe(new ParsingSubscriber<>(bodyParser.get(), expectedCrc32(), streamFuture));
+        } else {
+            publisher.subscribe(new BaosSubscriber<>(this::handle, streamFuture));
+        }
     }
 
     @Override
@@ -82,28 +95,54 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
     @Override
     public CompletableFuture<T> prepare() {
         streamFuture = new CompletableFuture<>();
-        return streamFuture.thenCompose(baos -> {
-            if (baos != null) {
-                // Ignore aborts - we already have all of the content.
-                httpResponse.content(AbortableInputStream.create(new ByteArrayInputStream(baos.toByteArray())));
-            }
-
+        return streamFuture.thenCompose(result -> {
             try {
-                return CompletableFuture.completedFuture(responseHandler.handle(crc32Validator.apply(httpResponse.build()),
-                                                                                executionAttributes));
+                return CompletableFuture.completedFuture(result.call());
             } catch (Exception e) {
                 return CompletableFutureUtils.failedFuture(e);
             }
         });
     }
 
-    private static class BaosSubscriber implements Subscriber<ByteBuffer> {
-        private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        private final CompletableFuture<ByteArrayOutputStream> streamFuture;
+    private T handle(InputStream content) throws Exception {
+        if (content != null) {
+            // Ignore aborts - we already have all of the content.
+            httpResponse.content(AbortableInputStream.create(content));
+        }
+
+        return responseHandler.handle(crc32Validator.apply(httpResponse.build()), executionAttributes);
+    }
+
+    /**
+     * Compressed responses are always buffered, since they have to be decompressed before they can be parsed.
+     */
+    private Optional<HttpResponseBodyParser<T>> bodyParser() {
+        SdkHttpFullResponse response = httpResponse.build();
+        boolean compressed = response.firstMatchingHeader("Content-Encoding").filter("gzip"::equals).isPresent();
+        if (compressed) {
+            return Optional.empty();
+        }
+        return responseHandler.bodyParser(response, executionAttributes);
+    }
+
+    private Long expectedCrc32() {
+        return httpResponse.firstMatchingHeader(CRC32_HEADER).map(Long::valueOf).orElse(null);
+    }
+
+    private static final class ParsingSubscriber<T> implements Subscriber<ByteBuffer> {
+        private final HttpResponseBodyParser<T> bodyParser;
+        private final Long expectedCrc32;
+        private final CRC32 crc32;
+        private final CompletableFuture<Callable<T>> streamFuture;
         private Subscription subscription;
-        private boolean dataWritten = false;
+        private boolean failed;
 
-        private BaosSubscriber(CompletableFuture<ByteArrayOutputStream> streamFuture) {
+        private ParsingSubscriber(HttpResponseBodyParser<T> bodyParser,
+                                  Long expectedCrc32,
+                                  CompletableFuture<Callable<T>> streamFuture) {
+            this.bodyParser = bodyParser;
+            this.expectedCrc32 = expectedCrc32;
+            this.crc32 = expectedCrc32 != null ? new CRC32() : null;
             this.streamFuture = streamFuture;
         }
 
@@ -115,12 +154,18 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            dataWritten = true;
+            if (failed) {
+                return;
+            }
+
             try {
-                baos.write(BinaryUtils.copyBytesFrom(byteBuffer));
-                this.subscription.request(1);
-            } catch (IOException e) {
-                // Should never happen
+                if (crc32 != null) {
+                    crc32.update(byteBuffer.duplicate());
+                }
+                bodyParser.feed(byteBuffer);
+            } catch (Exception e) {
+                failed = true;
+                subscription.cancel();
                 streamFuture.completeExceptionally(e);
             }
         }
@@ -132,7 +177,76 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
 
         @Override
         public void onComplete() {
-            streamFuture.complete(dataWritten ? baos : null);
+            if (!failed) {
+                streamFuture.complete(this::complete);
+            }
+        }
+
+        private T complete() throws Exception {
+            if (crc32 != null && crc32.getValue() != expectedCrc32) {
+                throw Crc32MismatchException.builder()
+                                            .message(String.format("Expected %d as the Crc32 checksum but the actual " +
+                                                                   "calculated checksum was %d",
+                                                                   expectedCrc32, crc32.getValue()))
+                                            .build();
+            }
+            return bodyParser.complete();
+        }
+    }
+
+    private static final class BaosSubscriber<T> implements Subscriber<ByteBuffer> {
+        private final ContentOutputStream baos = new ContentOutputStream();
+        private final UnsafeFunction<InputStream, T> handler;
+        private final CompletableFuture<Callable<T>> streamFuture;
+        private boolean dataWritten = false;
+
+        private BaosSubscriber(UnsafeFunction<InputStream, T> handler,
+                               CompletableFuture<Callable<T>> streamFuture) {
+            this.handler = handler;
+            this.streamFuture = streamFuture;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            dataWritten = true;
+            baos.write(byteBuffer);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            streamFuture.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            InputStream content = dataWritten ? baos.toInputStream() : null;
+            streamFuture.complete(() -> handler.apply(content));
+        }
+    }
+
+    /**
+     * Collects the content and reads it back without copying it into a new array.
+     */
+    private static final class ContentOutputStream extends ByteArrayOutputStream {
+        private synchronized void write(ByteBuffer byteBuffer) {
+            ByteBuffer source = byteBuffer.duplicate();
+            int length = source.remaining();
+            if (source.hasArray()) {
+                write(source.array(), source.arrayOffset() + source.position(), length);
+            } else {
+                byte[] bytes = new byte[length];
+                source.get(bytes);
+                write(bytes, 0, length);
+            }
+        }
+
+        private synchronized InputStream toInputStream() {
+            return new ByteArrayInputStream(buf, 0, count);
         }
     }
 }
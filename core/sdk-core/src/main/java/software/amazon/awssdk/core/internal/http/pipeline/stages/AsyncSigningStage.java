@@ -114,6 +114,7 @@ public class AsyncSigningStage implements RequestPipeline<SdkHttpFullRequest,
             SignRequest.Builder<T> signRequestBuilder = SignRequest
                 .builder(identity)
                 .putProperty(HttpSigner.SIGNING_CLOCK, signingClock())
+                .putProperty(HttpSigner.METRIC_COLLECTOR, context.attemptMetricCollector())
                 .request(request)
                 .payload(request.contentStreamProvider().orElse(null));
             authSchemeOption.forEachSignerProperty(signRequestBuilder::putProperty);
@@ -125,6 +126,7 @@ public class AsyncSigningStage implements RequestPipeline<SdkHttpFullRequest,
         AsyncSignRequest.Builder<T> signRequestBuilder = AsyncSignRequest
             .builder(identity)
             .putProperty(HttpSigner.SIGNING_CLOCK, signingClock())
+            .putProperty(HttpSigner.METRIC_COLLECTOR, context.attemptMetricCollector())
             .request(request)
             .payload(context.requestProvider());
         authSchemeOption.forEachSignerProperty(signRequestBuilder::putProperty);
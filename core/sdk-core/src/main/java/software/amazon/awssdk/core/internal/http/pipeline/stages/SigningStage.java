@@ -90,7 +90,7 @@ public class SigningStage implements RequestToRequestPipeline {
         T identity = CompletableFutureUtils.joinLikeSync(identityFuture);
 
         Pair<SdkHttpFullRequest, Duration> measuredSign = MetricUtils.measureDuration(
-            () -> doSraSign(request, selectedAuthScheme, identity));
+            () -> doSraSign(request, context, selectedAuthScheme, identity));
         context.attemptMetricCollector().reportMetric(CoreMetric.SIGNING_DURATION, measuredSign.right());
 
         SdkHttpFullRequest signedRequest = measuredSign.left();
@@ -99,11 +99,13 @@ public class SigningStage implements RequestToRequestPipeline {
     }
 
     private <T extends Identity> SdkHttpFullRequest doSraSign(SdkHttpFullRequest request,
+                                                              RequestExecutionContext context,
                                                               SelectedAuthScheme<T> selectedAuthScheme,
                                                               T identity) {
         SignRequest.Builder<T> signRequestBuilder = SignRequest
             .builder(identity)
             .putProperty(HttpSigner.SIGNING_CLOCK, signingClock())
+            .putProperty(HttpSigner.METRIC_COLLECTOR, context.attemptMetricCollector())
             .request(request)
             .payload(request.contentStreamProvider().orElse(null));
         AuthSchemeOption authSchemeOption = selectedAuthScheme.authSchemeOption();
@@ -21,18 +21,22 @@ import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.utils.Validate;
 
 /**
- * Api Call Timeout Tracker to track the {@link TimeoutTask} and the {@link ScheduledFuture}.
+ * Api Call Timeout Tracker to track the {@link TimeoutTask} and the {@link TimeoutScheduler.ScheduledTimeout} that schedules it.
  */
 @SdkInternalApi
 public final class ApiCallTimeoutTracker implements TimeoutTracker {
 
     private final TimeoutTask timeoutTask;
 
-    private final ScheduledFuture<?> future;
+    private final TimeoutScheduler.ScheduledTimeout scheduledTimeout;
 
-    public ApiCallTimeoutTracker(TimeoutTask timeout, ScheduledFuture<?> future) {
+    public ApiCallTimeoutTracker(TimeoutTask timeout, TimeoutScheduler.ScheduledTimeout scheduledTimeout) {
         this.timeoutTask = Validate.paramNotNull(timeout, "timeoutTask");
-        this.future = Validate.paramNotNull(future, "scheduledFuture");
+        this.scheduledTimeout = Validate.paramNotNull(scheduledTimeout, "scheduledTimeout");
+    }
+
+    public ApiCallTimeoutTracker(TimeoutTask timeout, ScheduledFuture<?> future) {
+        this(timeout, cancelFuture(Validate.paramNotNull(future, "scheduledFuture")));
     }
 
     @Override
@@ -48,7 +52,7 @@ public final class ApiCallTimeoutTracker implements TimeoutTracker {
     @Override
     public void cancel() {
         // Best-effort attempt to ensure that if the future hasn't started running already, don't run it.
-        future.cancel(false);
+        scheduledTimeout.cancel();
         // Ensure that if the future hasn't executed its timeout logic already, it won't do so.
         timeoutTask.cancel();
     }
@@ -57,4 +61,8 @@ public final class ApiCallTimeoutTracker implements TimeoutTracker {
     public void abortable(Abortable abortable) {
         timeoutTask.abortable(abortable);
     }
+
+    private static TimeoutScheduler.ScheduledTimeout cancelFuture(ScheduledFuture<?> future) {
+        return () -> future.cancel(false);
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link TimeoutScheduler} that schedules timeouts on a {@link HashedWheelTimer}, so that scheduling and cancelling a
+ * timeout takes constant time.
+ * <p>
+ * The timer is usually shared between many clients, so a timeout that fires is handed off to the executor of the client
+ * instead of running on the thread of the timer: aborting a request or completing its future can take a while, and must not
+ * delay the other timeouts.
+ */
+@SdkInternalApi
+public final class HashedWheelTimeoutScheduler implements TimeoutScheduler {
+    private static final Logger log = Logger.loggerFor(HashedWheelTimeoutScheduler.class);
+
+    private final HashedWheelTimer timer;
+    private final Executor expiryExecutor;
+
+    public HashedWheelTimeoutScheduler(HashedWheelTimer timer, Executor expiryExecutor) {
+        this.timer = Validate.paramNotNull(timer, "timer");
+        this.expiryExecutor = Validate.paramNotNull(expiryExecutor, "expiryExecutor");
+    }
+
+    @Override
+    public ScheduledTimeout schedule(Runnable task, long delayMillis) {
+        return timer.newTimeout(() -> expire(task), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void expire(Runnable task) {
+        try {
+            expiryExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.debug(() -> "The executor rejected an expired timeout, so it will run on the timer thread.", e);
+            task.run();
+        }
+    }
+}
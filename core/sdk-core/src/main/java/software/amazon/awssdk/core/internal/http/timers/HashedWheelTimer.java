@@ -0,0 +1,337 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A timer that schedules and cancels tasks in constant time, by trading precision for speed.
+ * <p>
+ * Timeouts are kept in a wheel of buckets, each covering one tick. A single worker thread advances the wheel once per tick and
+ * runs the timeouts of the bucket it reaches whose deadline has passed. Scheduling a timeout only adds it to a lock-free queue,
+ * and cancelling it only marks it as cancelled; the worker thread moves new timeouts to their bucket and unlinks cancelled ones.
+ * A timeout fires up to one tick late.
+ * <p>
+ * When there are no pending timeouts, the worker thread parks until the next timeout is scheduled, so an idle timer does not
+ * wake up every tick. Tasks run on the worker thread, and must be short.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class HashedWheelTimer {
+    private static final Logger log = Logger.loggerFor(HashedWheelTimer.class);
+
+    private static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+    private static final long MAX_DELAY_NANOS = Long.MAX_VALUE / 4;
+
+    private static final int WORKER_INIT = 0;
+    private static final int WORKER_STARTED = 1;
+    private static final int WORKER_STOPPED = 2;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Thread workerThread;
+    private final AtomicInteger workerState = new AtomicInteger(WORKER_INIT);
+    private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    private volatile boolean idle;
+
+    // Only accessed by the worker thread
+    private long startTime;
+    private long tick;
+
+    @SdkTestInternalApi
+    HashedWheelTimer(long tickDuration, TimeUnit unit, int wheelSize, ThreadFactory threadFactory) {
+        Validate.isTrue(tickDuration > 0, "The tick duration must be positive.");
+        Validate.isTrue(wheelSize > 0 && (wheelSize & (wheelSize - 1)) == 0, "The wheel size must be a power of two.");
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = wheelSize - 1;
+        this.workerThread = threadFactory.newThread(this::runWorker);
+    }
+
+    /**
+     * The timer shared by all clients in the JVM. Its worker thread is a daemon thread, that is started by the first timeout
+     * and parks whenever there are no pending timeouts.
+     */
+    public static HashedWheelTimer shared() {
+        return SharedTimerHolder.INSTANCE;
+    }
+
+    /**
+     * Schedule the task to run on the worker thread once the given delay has passed.
+     *
+     * @throws IllegalStateException If the timer has been stopped.
+     */
+    public Timeout newTimeout(Runnable task, long delay, TimeUnit unit) {
+        Validate.paramNotNull(task, "task");
+        start();
+
+        long delayNanos = Math.min(Math.max(unit.toNanos(delay), 0), MAX_DELAY_NANOS);
+        Timeout timeout = new Timeout(this, task, System.nanoTime() + delayNanos);
+        pendingTimeouts.incrementAndGet();
+        newTimeouts.add(timeout);
+        if (idle) {
+            LockSupport.unpark(workerThread);
+        }
+        return timeout;
+    }
+
+    /**
+     * The number of timeouts that were scheduled and have not yet fired or been removed after being cancelled.
+     */
+    public long pendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    /**
+     * Stop the worker thread. Pending timeouts will not fire.
+     */
+    @SdkTestInternalApi
+    void stop() {
+        if (workerState.getAndSet(WORKER_STOPPED) == WORKER_STARTED) {
+            workerThread.interrupt();
+            LockSupport.unpark(workerThread);
+        }
+    }
+
+    private void start() {
+        int state = workerState.get();
+        if (state == WORKER_STARTED) {
+            return;
+        }
+        if (state == WORKER_INIT && workerState.compareAndSet(WORKER_INIT, WORKER_STARTED)) {
+            workerThread.start();
+            return;
+        }
+        if (workerState.get() == WORKER_STOPPED) {
+            throw new IllegalStateException("The timer has been stopped.");
+        }
+    }
+
+    private void runWorker() {
+        startTime = System.nanoTime();
+        while (workerState.get() == WORKER_STARTED) {
+            if (pendingTimeouts.get() == 0) {
+                awaitTimeouts();
+                continue;
+            }
+            waitForNextTick();
+            processCancelledTimeouts();
+            transferTimeoutsToBuckets();
+            expireTimeouts(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    /**
+     * Park until a timeout is scheduled. All buckets are empty at this point, so the wheel restarts from the first tick
+     * afterwards, instead of catching up with the ticks that passed while the worker was parked.
+     */
+    private void awaitTimeouts() {
+        idle = true;
+        try {
+            while (pendingTimeouts.get() == 0 && workerState.get() == WORKER_STARTED) {
+                LockSupport.park(this);
+                // An interrupt would make every following park return right away.
+                Thread.interrupted();
+            }
+        } finally {
+            idle = false;
+        }
+        startTime = System.nanoTime();
+        tick = 0;
+    }
+
+    private void waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long sleepNanos = deadline - (System.nanoTime() - startTime);
+            if (sleepNanos <= 0) {
+                return;
+            }
+            try {
+                Thread.sleep(TimeUnit.NANOSECONDS.toMillis(sleepNanos + 999_999));
+            } catch (InterruptedException e) {
+                if (workerState.get() == WORKER_STOPPED) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void processCancelledTimeouts() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            remove(timeout);
+        }
+    }
+
+    private void transferTimeoutsToBuckets() {
+        Timeout timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                pendingTimeouts.decrementAndGet();
+                continue;
+            }
+            long calculatedTicks = Math.floorDiv(timeout.deadline - startTime, tickNanos);
+            timeout.remainingRounds = (calculatedTicks - tick) / wheel.length;
+            long ticks = Math.max(calculatedTicks, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void expireTimeouts(Bucket bucket) {
+        Timeout timeout = bucket.head;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.remainingRounds <= 0) {
+                remove(timeout);
+                timeout.expire();
+            } else if (timeout.isCancelled()) {
+                remove(timeout);
+            } else {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+    }
+
+    private void remove(Timeout timeout) {
+        if (timeout.bucket != null) {
+            timeout.bucket.remove(timeout);
+            pendingTimeouts.decrementAndGet();
+        }
+    }
+
+    /**
+     * A task scheduled on a {@link HashedWheelTimer}.
+     */
+    public static final class Timeout implements TimeoutScheduler.ScheduledTimeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<Timeout> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(Timeout.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final long deadline;
+        private volatile Runnable task;
+        private volatile int state = ST_INIT;
+
+        // Only accessed by the worker thread
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(HashedWheelTimer timer, Runnable task, long deadline) {
+            this.timer = timer;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public void cancel() {
+            if (STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                // Release the task right away, instead of when the worker thread gets to the timeout.
+                task = null;
+                timer.cancelledTimeouts.add(this);
+            }
+        }
+
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state == ST_EXPIRED;
+        }
+
+        private void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            Runnable toRun = task;
+            task = null;
+            try {
+                toRun.run();
+            } catch (Throwable t) {
+                log.warn(() -> "A task scheduled on the timer failed.", t);
+            }
+        }
+    }
+
+    /**
+     * A doubly linked list of timeouts, only accessed by the worker thread.
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+                tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+
+    private static final class SharedTimerHolder {
+        private static final HashedWheelTimer INSTANCE =
+            new HashedWheelTimer(DEFAULT_TICK_NANOS, TimeUnit.NANOSECONDS, DEFAULT_WHEEL_SIZE,
+                                 new ThreadFactoryBuilder().threadNamePrefix("sdk-timeout-timer").build());
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link TimeoutScheduler} that schedules timeouts on a {@link ScheduledExecutorService}. Scheduling and cancelling a
+ * timeout takes {@code O(log n)} time and the lock of the executor's delay queue, so this is only used when a client does not
+ * have a {@link HashedWheelTimeoutScheduler}.
+ */
+@SdkInternalApi
+public final class ScheduledExecutorTimeoutScheduler implements TimeoutScheduler {
+    private final ScheduledExecutorService executor;
+
+    public ScheduledExecutorTimeoutScheduler(ScheduledExecutorService executor) {
+        this.executor = Validate.paramNotNull(executor, "executor");
+    }
+
+    @Override
+    public ScheduledTimeout schedule(Runnable task, long delayMillis) {
+        ScheduledFuture<?> future = executor.schedule(task, delayMillis, TimeUnit.MILLISECONDS);
+        return () -> future.cancel(false);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Schedules the {@link TimeoutTask}s that enforce API call and API call attempt timeouts.
+ * <p>
+ * Almost every timeout is cancelled before it fires, because the call completes first, so implementations should make
+ * scheduling and cancelling cheap.
+ *
+ * @see HashedWheelTimeoutScheduler
+ * @see ScheduledExecutorTimeoutScheduler
+ */
+@SdkInternalApi
+@ThreadSafe
+public interface TimeoutScheduler {
+    /**
+     * Schedule the task to run once the given delay has passed.
+     *
+     * @param task the task to run
+     * @param delayMillis the delay in milliseconds
+     * @return a handle to cancel the task
+     */
+    ScheduledTimeout schedule(Runnable task, long delayMillis);
+
+    /**
+     * A task scheduled by a {@link TimeoutScheduler}.
+     */
+    @FunctionalInterface
+    interface ScheduledTimeout {
+        /**
+         * Best-effort attempt to prevent the task from running, if it has not started already.
+         */
+        void cancel();
+    }
+}
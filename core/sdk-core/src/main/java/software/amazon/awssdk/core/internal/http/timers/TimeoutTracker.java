@@ -15,12 +15,11 @@
 
 package software.amazon.awssdk.core.internal.http.timers;
 
-import java.util.concurrent.ScheduledFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Abortable;
 
 /**
- * Tracker task to track the {@link TimeoutTask} and the {@link ScheduledFuture} that
+ * Tracker task to track the {@link TimeoutTask} and the {@link TimeoutScheduler.ScheduledTimeout} that
  * schedules the timeout task.
  */
 @SdkInternalApi
@@ -38,7 +37,7 @@ public interface TimeoutTracker {
     boolean isEnabled();
 
     /**
-     * cancel the {@link ScheduledFuture}
+     * cancel the {@link TimeoutScheduler.ScheduledTimeout}
      */
     void cancel();
 
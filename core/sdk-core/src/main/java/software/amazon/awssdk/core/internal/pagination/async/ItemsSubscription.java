@@ -78,18 +78,17 @@ public final class ItemsSubscription<ResponseT, ItemT> extends PaginationSubscri
     }
 
     private void fetchNextPage() {
-        nextPageFetcher.nextPage(currentPage)
-                       .whenComplete(((response, error) -> {
-                           if (response != null) {
-                               currentPage = response;
-                               singlePageItemsIterator = getIteratorFunction.apply(response);
-                               sendNextElement();
-                           }
-                           if (error != null) {
-                               subscriber.onError(error);
-                               cleanup();
-                           }
-                       }));
+        nextPage().whenComplete((response, error) -> {
+            if (response != null) {
+                currentPage = response;
+                singlePageItemsIterator = getIteratorFunction.apply(response);
+                sendNextElement();
+            }
+            if (error != null) {
+                subscriber.onError(error);
+                cleanup();
+            }
+        });
     }
 
     /**
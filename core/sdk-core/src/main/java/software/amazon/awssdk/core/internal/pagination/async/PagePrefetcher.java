@@ -0,0 +1,164 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.pagination.async;
+
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.pagination.async.AsyncPageFetcher;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Fetches the pages of a paginated operation ahead of the consumer, so that the request for the next page is made while the
+ * consumer is still processing the current one.
+ * <p>
+ * Each page request needs the token of the previous page, so pages are still requested one at a time. The prefetcher keeps
+ * fetching until {@code prefetchPages} pages are buffered, and hands them out in order with {@link #nextPage()}. Nothing is
+ * fetched before the first call to {@link #nextPage()}.
+ * <p>
+ * Whether a page is followed by another one is decided with {@link AsyncPageFetcher#hasNextPage} as soon as the page is fetched,
+ * because page fetchers may keep state about the last page they requested.
+ *
+ * @param <ResponseT> The type of a single response page
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class PagePrefetcher<ResponseT> {
+    private final AsyncPageFetcher<ResponseT> pageFetcher;
+    private final int prefetchPages;
+
+    // LinkedList rather than ArrayDeque, because a page fetcher may return a null page
+    private final Queue<ResponseT> pages = new LinkedList<>();
+    private ResponseT lastFetchedPage;
+    private boolean lastPageFetched;
+    private boolean fetching;
+    private Throwable failure;
+    private CompletableFuture<ResponseT> pendingPage;
+    private boolean closed;
+
+    public PagePrefetcher(AsyncPageFetcher<ResponseT> pageFetcher, int prefetchPages) {
+        this.pageFetcher = Validate.paramNotNull(pageFetcher, "pageFetcher");
+        this.prefetchPages = Validate.isPositive(prefetchPages, "prefetchPages");
+    }
+
+    /**
+     * Returns the next page. The future is already completed if the page was fetched ahead of time. Callers must check
+     * {@link #hasNextPage()} first and must not call this again before the returned future has completed.
+     */
+    public CompletableFuture<ResponseT> nextPage() {
+        CompletableFuture<ResponseT> result;
+        synchronized (this) {
+            if (!pages.isEmpty()) {
+                result = CompletableFuture.completedFuture(pages.poll());
+            } else if (failure != null) {
+                result = CompletableFutureUtils.failedFuture(failure);
+            } else {
+                pendingPage = new CompletableFuture<>();
+                result = pendingPage;
+            }
+        }
+        fetchAheadIfNeeded();
+        return result;
+    }
+
+    /**
+     * Returns true if there are pages that have not been returned by {@link #nextPage()} yet.
+     */
+    public synchronized boolean hasNextPage() {
+        return !pages.isEmpty() || !lastPageFetched;
+    }
+
+    /**
+     * Stops fetching pages and drops the pages that were fetched ahead of time. A page request that is in flight is not
+     * cancelled, but its result is ignored.
+     */
+    public synchronized void close() {
+        closed = true;
+        pendingPage = null;
+        pages.clear();
+    }
+
+    /**
+     * Returns the number of pages that were fetched but not returned by {@link #nextPage()} yet.
+     */
+    synchronized int bufferedPages() {
+        return pages.size();
+    }
+
+    private void fetchAheadIfNeeded() {
+        ResponseT previousPage;
+        synchronized (this) {
+            if (closed || fetching || lastPageFetched || failure != null || pages.size() >= prefetchPages) {
+                return;
+            }
+            fetching = true;
+            previousPage = lastFetchedPage;
+        }
+
+        CompletableFuture<ResponseT> page;
+        try {
+            page = pageFetcher.nextPage(previousPage);
+        } catch (Throwable t) {
+            page = CompletableFutureUtils.failedFuture(t);
+        }
+        page.whenComplete(this::onPageFetched);
+    }
+
+    private void onPageFetched(ResponseT page, Throwable error) {
+        boolean hasNextPage = false;
+        if (error == null && page != null) {
+            try {
+                hasNextPage = pageFetcher.hasNextPage(page);
+            } catch (Throwable t) {
+                error = t;
+            }
+        }
+
+        CompletableFuture<ResponseT> pending;
+        synchronized (this) {
+            fetching = false;
+            if (closed) {
+                return;
+            }
+            pending = pendingPage;
+            pendingPage = null;
+            if (error != null) {
+                failure = error;
+            } else {
+                lastFetchedPage = page;
+                lastPageFetched = !hasNextPage;
+                if (pending == null) {
+                    pages.add(page);
+                }
+            }
+        }
+
+        // Start fetching the following page before handing this one over, so that the request is in flight while the consumer
+        // processes the page.
+        fetchAheadIfNeeded();
+
+        if (pending != null) {
+            if (error != null) {
+                pending.completeExceptionally(error);
+            } else {
+                pending.complete(page);
+            }
+        }
+    }
+}
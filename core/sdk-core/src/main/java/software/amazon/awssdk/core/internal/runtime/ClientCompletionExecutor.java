@@ -0,0 +1,62 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.runtime;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * The view of one client on the future completion executor of a {@link DefaultSdkRuntime}. It counts the tasks of the client
+ * that were submitted to the shared executor but have not started yet, so that a client that is starved by the other clients
+ * of the runtime can be told apart from one that is slow itself.
+ * <p>
+ * This is deliberately not an {@link java.util.concurrent.ExecutorService}, so that closing the client does not shut down the
+ * shared executor.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ClientCompletionExecutor implements Executor {
+    private final Executor delegate;
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    ClientCompletionExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        queueDepth.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                queueDepth.decrementAndGet();
+                command.run();
+            });
+        } catch (RejectedExecutionException e) {
+            queueDepth.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * The number of tasks of this client that are waiting for a thread of the shared executor.
+     */
+    public int queueDepth() {
+        return queueDepth.get();
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.runtime;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkRuntime;
+import software.amazon.awssdk.utils.ScheduledExecutorUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The default {@link SdkRuntime}. Every client that uses the runtime holds a reference on it, which it releases when it is
+ * closed. The runtime itself holds a reference until it is closed, and the executors are shut down when the last reference is
+ * released.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultSdkRuntime implements SdkRuntime {
+    private static final int DEFAULT_QUEUE_CAPACITY = 1_000;
+    private static final int DEFAULT_SCHEDULED_EXECUTOR_THREADS = 5;
+
+    private final ThreadPoolExecutor futureCompletionExecutor;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final AtomicInteger references = new AtomicInteger(1);
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private DefaultSdkRuntime(BuilderImpl builder) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int maxThreads = builder.futureCompletionMaxThreads != null ? builder.futureCompletionMaxThreads
+                                                                    : Math.max(64, processors * 2);
+        int corePoolSize = Math.min(Math.max(8, processors), maxThreads);
+        int queueCapacity = builder.futureCompletionQueueCapacity != null ? builder.futureCompletionQueueCapacity
+                                                                          : DEFAULT_QUEUE_CAPACITY;
+        int scheduledThreads = builder.scheduledExecutorThreads != null ? builder.scheduledExecutorThreads
+                                                                        : DEFAULT_SCHEDULED_EXECUTOR_THREADS;
+
+        this.futureCompletionExecutor = new ThreadPoolExecutor(corePoolSize, maxThreads,
+                                                               10, TimeUnit.SECONDS,
+                                                               new LinkedBlockingQueue<>(queueCapacity),
+                                                               new ThreadFactoryBuilder()
+                                                                   .threadNamePrefix("sdk-runtime-async-response").build(),
+                                                               DefaultSdkRuntime::completeOnCallerThread);
+        // Allow idle core threads to time out
+        this.futureCompletionExecutor.allowCoreThreadTimeOut(true);
+        this.scheduledExecutor = Executors.newScheduledThreadPool(scheduledThreads,
+                                                                  new ThreadFactoryBuilder()
+                                                                      .threadNamePrefix("sdk-runtime-ScheduledExecutor")
+                                                                      .build());
+    }
+
+    public static SdkRuntime.Builder builder() {
+        return new BuilderImpl();
+    }
+
+    /**
+     * Acquire a reference on this runtime for a new client. The returned object must be closed when the client is closed.
+     *
+     * @throws IllegalStateException If this runtime has already been closed.
+     */
+    public SdkAutoCloseable acquire() {
+        while (true) {
+            int current = references.get();
+            if (current == 0 || closed.get()) {
+                throw new IllegalStateException("The SdkRuntime has been closed, and can no longer be used to create clients.");
+            }
+            if (references.compareAndSet(current, current + 1)) {
+                AtomicBoolean released = new AtomicBoolean();
+                return () -> {
+                    if (released.compareAndSet(false, true)) {
+                        release();
+                    }
+                };
+            }
+        }
+    }
+
+    /**
+     * Create a view of the shared future completion executor for one client, which tracks the completions of that client that
+     * are waiting for a thread.
+     */
+    public ClientCompletionExecutor futureCompletionExecutor() {
+        return new ClientCompletionExecutor(futureCompletionExecutor);
+    }
+
+    /**
+     * The shared scheduled executor, wrapped so that it is not shut down when a client is closed.
+     */
+    public ScheduledExecutorService scheduledExecutor() {
+        return ScheduledExecutorUtils.unmanagedScheduledExecutor(scheduledExecutor);
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            release();
+        }
+    }
+
+    @SdkTestInternalApi
+    boolean isShutdown() {
+        return futureCompletionExecutor.isShutdown() && scheduledExecutor.isShutdown();
+    }
+
+    /**
+     * Complete the futures that overflow the queue on the thread of the HTTP client, as documented on
+     * {@link SdkRuntime.Builder#futureCompletionQueueCapacity(Integer)}. Unlike {@link ThreadPoolExecutor.CallerRunsPolicy},
+     * this still rejects completions once the runtime is shut down, instead of silently dropping them.
+     */
+    private static void completeOnCallerThread(Runnable completion, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("The SdkRuntime has been closed.");
+        }
+        completion.run();
+    }
+
+    private void release() {
+        if (references.decrementAndGet() == 0) {
+            futureCompletionExecutor.shutdown();
+            scheduledExecutor.shutdown();
+        }
+    }
+
+    private static final class BuilderImpl implements SdkRuntime.Builder {
+        private Integer futureCompletionMaxThreads;
+        private Integer futureCompletionQueueCapacity;
+        private Integer scheduledExecutorThreads;
+
+        @Override
+        public SdkRuntime.Builder futureCompletionMaxThreads(Integer futureCompletionMaxThreads) {
+            this.futureCompletionMaxThreads = Validate.isPositiveOrNull(futureCompletionMaxThreads,
+                                                                        "futureCompletionMaxThreads");
+            return this;
+        }
+
+        @Override
+        public SdkRuntime.Builder futureCompletionQueueCapacity(Integer futureCompletionQueueCapacity) {
+            this.futureCompletionQueueCapacity = Validate.isPositiveOrNull(futureCompletionQueueCapacity,
+                                                                           "futureCompletionQueueCapacity");
+            return this;
+        }
+
+        @Override
+        public SdkRuntime.Builder scheduledExecutorThreads(Integer scheduledExecutorThreads) {
+            this.scheduledExecutorThreads = Validate.isPositiveOrNull(scheduledExecutorThreads, "scheduledExecutorThreads");
+            return this;
+        }
+
+        @Override
+        public SdkRuntime build() {
+            return new DefaultSdkRuntime(this);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.waiters;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.waiters.WaiterAcceptor;
+import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.core.waiters.WaiterState;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Either;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Executes the waits of a batching async waiter.
+ * <p>
+ * The waits are kept in a queue ordered by the time of their next attempt, and a single task on the scheduled executor runs
+ * when the first of them is due. That task takes every wait that is due within the batch window, groups them by resource and
+ * polls the resources in batches of at most {@code maxBatchSize}. Each wait then matches its acceptors against its own part of
+ * the response and is either completed or put back into the queue with the delay of its backoff strategy.
+ *
+ * @param <IdT> the type of the identifier of a resource
+ * @param <T> the type of the response
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class BatchingAsyncWaiterExecutor<IdT, T> {
+    private final ScheduledExecutorService executorService;
+    private final Function<List<IdT>, CompletableFuture<T>> batchPollingFunction;
+    private final BiFunction<? super T, ? super IdT, ? extends T> resourceResponseFunction;
+    private final int maxBatchSize;
+    private final long batchWindowNanos;
+
+    private final Object lock = new Object();
+    private final PriorityQueue<PendingWait> waits =
+        new PriorityQueue<>((a, b) -> Long.signum(a.nextAttemptNanos() - b.nextAttemptNanos()));
+    private ScheduledFuture<?> nextTick;
+    private long nextTickNanos;
+    private long tickGeneration;
+
+    public BatchingAsyncWaiterExecutor(ScheduledExecutorService executorService,
+                                       Function<List<IdT>, CompletableFuture<T>> batchPollingFunction,
+                                       BiFunction<? super T, ? super IdT, ? extends T> resourceResponseFunction,
+                                       int maxBatchSize,
+                                       long batchWindowNanos) {
+        this.executorService = Validate.paramNotNull(executorService, "executorService");
+        this.batchPollingFunction = Validate.paramNotNull(batchPollingFunction, "batchPollingFunction");
+        this.resourceResponseFunction = Validate.paramNotNull(resourceResponseFunction, "resourceResponseFunction");
+        this.maxBatchSize = Validate.isPositive(maxBatchSize, "maxBatchSize");
+        this.batchWindowNanos = Validate.isNotNegative(batchWindowNanos, "batchWindowNanos");
+    }
+
+    /**
+     * Wait for the given resource, matching the responses with the acceptors of the given helper.
+     */
+    CompletableFuture<WaiterResponse<T>> execute(IdT resourceId, WaiterExecutorHelper<T> executorHelper) {
+        PendingWait wait = new PendingWait(resourceId, executorHelper, System.currentTimeMillis());
+        schedule(wait, batchWindowNanos);
+        return wait.future;
+    }
+
+    /**
+     * The number of waits that are waiting for their next attempt.
+     */
+    @SdkTestInternalApi
+    int queuedWaits() {
+        synchronized (lock) {
+            return waits.size();
+        }
+    }
+
+    private void schedule(PendingWait wait, long delayNanos) {
+        wait.nextAttemptNanos = System.nanoTime() + delayNanos;
+        synchronized (lock) {
+            waits.add(wait);
+            scheduleTick();
+        }
+    }
+
+    private void scheduleTick() {
+        PendingWait first = waits.peek();
+        if (first == null) {
+            return;
+        }
+
+        long due = first.nextAttemptNanos;
+        if (nextTick != null) {
+            if (nextTickNanos - due <= 0) {
+                return;
+            }
+            nextTick.cancel(false);
+        }
+
+        long generation = ++tickGeneration;
+        try {
+            nextTick = executorService.schedule(() -> tick(generation),
+                                                Math.max(0, due - System.nanoTime()),
+                                                TimeUnit.NANOSECONDS);
+            nextTickNanos = due;
+        } catch (RejectedExecutionException e) {
+            nextTick = null;
+            SdkClientException exception = SdkClientException.create("Unable to schedule the next waiter attempt.", e);
+            PendingWait wait;
+            while ((wait = waits.poll()) != null) {
+                wait.future.completeExceptionally(exception);
+            }
+        }
+    }
+
+    private void tick(long generation) {
+        Map<IdT, List<PendingWait>> dueWaits = new LinkedHashMap<>();
+        synchronized (lock) {
+            if (generation == tickGeneration) {
+                nextTick = null;
+            }
+
+            long horizon = System.nanoTime() + batchWindowNanos;
+            while (!waits.isEmpty() && waits.peek().nextAttemptNanos - horizon <= 0) {
+                PendingWait wait = waits.poll();
+                if (!wait.future.isDone()) {
+                    dueWaits.computeIfAbsent(wait.resourceId, id -> new ArrayList<>()).add(wait);
+                }
+            }
+            scheduleTick();
+        }
+
+        Map<IdT, List<PendingWait>> batch = new LinkedHashMap<>();
+        for (Map.Entry<IdT, List<PendingWait>> entry : dueWaits.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() == maxBatchSize) {
+                poll(batch);
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            poll(batch);
+        }
+    }
+
+    private void poll(Map<IdT, List<PendingWait>> batch) {
+        CompletableFuture<T> pollFuture;
+        try {
+            pollFuture = batchPollingFunction.apply(new ArrayList<>(batch.keySet()));
+        } catch (Throwable t) {
+            pollFuture = CompletableFutureUtils.failedFuture(t);
+        }
+
+        pollFuture.whenComplete((response, exception) -> batch.forEach((resourceId, resourceWaits) -> {
+            Either<T, Throwable> responseOrException;
+            try {
+                responseOrException = exception == null
+                                      ? Either.left(resourceResponseFunction.apply(response, resourceId))
+                                      : Either.right(unwrap(exception));
+            } catch (Throwable t) {
+                resourceWaits.forEach(wait -> completeWithUnexpectedException(wait, t));
+                return;
+            }
+            resourceWaits.forEach(wait -> handleResponse(wait, responseOrException));
+        }));
+    }
+
+    private void handleResponse(PendingWait wait, Either<T, Throwable> responseOrException) {
+        int attemptNumber = ++wait.attemptNumber;
+        WaiterExecutorHelper<T> executorHelper = wait.executorHelper;
+        CompletableFuture<WaiterResponse<T>> future = wait.future;
+        try {
+            Optional<WaiterAcceptor<? super T>> optionalWaiterAcceptor =
+                executorHelper.firstWaiterAcceptorIfMatched(responseOrException);
+
+            if (optionalWaiterAcceptor.isPresent()) {
+                WaiterAcceptor<? super T> acceptor = optionalWaiterAcceptor.get();
+                WaiterState state = acceptor.waiterState();
+                switch (state) {
+                    case SUCCESS:
+                        future.complete(executorHelper.createWaiterResponse(responseOrException, attemptNumber));
+                        break;
+                    case RETRY:
+                        maybeRetry(wait, attemptNumber);
+                        break;
+                    case FAILURE:
+                        future.completeExceptionally(executorHelper.waiterFailureException(acceptor));
+                        break;
+                    default:
+                        future.completeExceptionally(new UnsupportedOperationException());
+                }
+            } else {
+                Optional<Throwable> t = responseOrException.right();
+                if (t.isPresent() && t.get() instanceof Error) {
+                    future.completeExceptionally(t.get());
+                } else {
+                    future.completeExceptionally(executorHelper.noneMatchException(responseOrException));
+                }
+            }
+        } catch (Throwable t) {
+            completeWithUnexpectedException(wait, t);
+        }
+    }
+
+    private void maybeRetry(PendingWait wait, int attemptNumber) {
+        Either<Long, SdkClientException> nextDelayOrUnretryableException =
+            wait.executorHelper.nextDelayOrUnretryableException(attemptNumber, wait.startTime);
+
+        nextDelayOrUnretryableException.apply(nextDelay -> schedule(wait, TimeUnit.MILLISECONDS.toNanos(nextDelay)),
+                                              wait.future::completeExceptionally);
+    }
+
+    private void completeWithUnexpectedException(PendingWait wait, Throwable t) {
+        Throwable cause = unwrap(t);
+        if (cause instanceof Error) {
+            wait.future.completeExceptionally(cause);
+        } else {
+            wait.future.completeExceptionally(SdkClientException.create("Encountered unexpected exception.", cause));
+        }
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
+    /**
+     * A call of {@code runAsync} that has not completed yet.
+     */
+    private final class PendingWait {
+        private final IdT resourceId;
+        private final WaiterExecutorHelper<T> executorHelper;
+        private final long startTime;
+        private final CompletableFuture<WaiterResponse<T>> future = new CompletableFuture<>();
+        private int attemptNumber;
+        private long nextAttemptNanos;
+
+        private PendingWait(IdT resourceId, WaiterExecutorHelper<T> executorHelper, long startTime) {
+            this.resourceId = resourceId;
+            this.executorHelper = executorHelper;
+            this.startTime = startTime;
+        }
+
+        private long nextAttemptNanos() {
+            return nextAttemptNanos;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.waiters;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.waiters.BatchingAsyncWaiter;
+import software.amazon.awssdk.core.waiters.WaiterAcceptor;
+import software.amazon.awssdk.core.waiters.WaiterOverrideConfiguration;
+import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Default implementation of the generic {@link BatchingAsyncWaiter}.
+ *
+ * @param <IdT> the type of the identifier of a resource
+ * @param <T> the type of the response expected to return from the polling function
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultBatchingAsyncWaiter<IdT, T> implements BatchingAsyncWaiter<IdT, T> {
+    private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    private static final Duration DEFAULT_BATCH_WINDOW = Duration.ofMillis(100);
+
+    private final List<WaiterAcceptor<? super T>> waiterAcceptors;
+    private final WaiterExecutorHelper<T> executorHelper;
+    private final BatchingAsyncWaiterExecutor<IdT, T> executor;
+
+    private DefaultBatchingAsyncWaiter(DefaultBuilder<IdT, T> builder) {
+        this.waiterAcceptors = Collections.unmodifiableList(builder.waiterAcceptors);
+        this.executorHelper = new WaiterExecutorHelper<>(waiterAcceptors,
+                                                         new WaiterConfiguration(builder.overrideConfiguration));
+        int maxBatchSize = builder.maxBatchSize == null ? DEFAULT_MAX_BATCH_SIZE : builder.maxBatchSize;
+        Duration batchWindow = builder.batchWindow == null ? DEFAULT_BATCH_WINDOW : builder.batchWindow;
+        this.executor = new BatchingAsyncWaiterExecutor<>(builder.scheduledExecutorService,
+                                                          builder.batchPollingFunction,
+                                                          builder.resourceResponseFunction,
+                                                          maxBatchSize,
+                                                          Validate.isNotNegative(batchWindow, "batchWindow").toNanos());
+    }
+
+    @Override
+    public CompletableFuture<WaiterResponse<T>> runAsync(IdT resourceId) {
+        Validate.paramNotNull(resourceId, "resourceId");
+        return executor.execute(resourceId, executorHelper);
+    }
+
+    @Override
+    public CompletableFuture<WaiterResponse<T>> runAsync(IdT resourceId, WaiterOverrideConfiguration overrideConfig) {
+        Validate.paramNotNull(resourceId, "resourceId");
+        return executor.execute(resourceId,
+                                new WaiterExecutorHelper<>(waiterAcceptors, new WaiterConfiguration(overrideConfig)));
+    }
+
+    public static <IdT, T> Builder<IdT, T> builder() {
+        return new DefaultBuilder<>();
+    }
+
+    public static final class DefaultBuilder<IdT, T> implements Builder<IdT, T> {
+        private List<WaiterAcceptor<? super T>> waiterAcceptors = new ArrayList<>();
+        private ScheduledExecutorService scheduledExecutorService;
+        private WaiterOverrideConfiguration overrideConfiguration;
+        private Function<List<IdT>, CompletableFuture<T>> batchPollingFunction;
+        private BiFunction<? super T, ? super IdT, ? extends T> resourceResponseFunction;
+        private Integer maxBatchSize;
+        private Duration batchWindow;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder<IdT, T> scheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        @Override
+        public Builder<IdT, T> batchPollingFunction(Function<List<IdT>, CompletableFuture<T>> batchPollingFunction) {
+            this.batchPollingFunction = batchPollingFunction;
+            return this;
+        }
+
+        @Override
+        public Builder<IdT, T> resourceResponseFunction(
+            BiFunction<? super T, ? super IdT, ? extends T> resourceResponseFunction) {
+            this.resourceResponseFunction = resourceResponseFunction;
+            return this;
+        }
+
+        @Override
+        public Builder<IdT, T> maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        @Override
+        public Builder<IdT, T> batchWindow(Duration batchWindow) {
+            this.batchWindow = batchWindow;
+            return this;
+        }
+
+        @Override
+        public Builder<IdT, T> acceptors(List<WaiterAcceptor<? super T>> waiterAcceptors) {
+            this.waiterAcceptors = new ArrayList<>(waiterAcceptors);
+            return this;
+        }
+
+        @Override
+        public Builder<IdT, T> overrideConfiguration(WaiterOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public Builder<IdT, T> addAcceptor(WaiterAcceptor<? super T> waiterAcceptor) {
+            waiterAcceptors.add(waiterAcceptor);
+            return this;
+        }
+
+        @Override
+        public DefaultBatchingAsyncWaiter<IdT, T> build() {
+            return new DefaultBatchingAsyncWaiter<>(this);
+        }
+    }
+}
@@ -162,6 +162,25 @@ public final class CoreMetric {
     public static final SdkMetric<Duration> ENDPOINT_RESOLVE_DURATION =
         metric("EndpointResolveDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * True if the endpoint used for the API call was found in the endpoint cache of the client, false if the endpoint rules had
+     * to be evaluated. Counting the true and false values gives the hit rate of the cache.
+     * <p>
+     * This is only reported for calls that are eligible for caching: calls that use the default endpoint provider of the
+     * service, to operations whose endpoint parameters do not depend on the request (e.g. an S3 bucket name).
+     */
+    public static final SdkMetric<Boolean> ENDPOINT_RESOLVE_CACHE_HIT =
+        metric("EndpointResolveCacheHit", Boolean.class, MetricLevel.TRACE);
+
+    /**
+     * The number of response completions of the client that were waiting for a thread of the shared
+     * {@link software.amazon.awssdk.core.SdkRuntime} when the call attempt started. A value that stays high means that the
+     * completion threads of the runtime are too busy, either with this client or with the other clients that share the runtime.
+     * <p>
+     * This is only reported for async clients that use an {@code SdkRuntime} to complete their futures.
+     */
+    public static final SdkMetric<Integer> FUTURE_COMPLETION_QUEUE_DEPTH =
+        metric("FutureCompletionQueueDepth", Integer.class, MetricLevel.INFO);
 
     /**
      * The type of error that occurred for a call attempt.
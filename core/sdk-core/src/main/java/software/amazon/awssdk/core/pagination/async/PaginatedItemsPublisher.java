@@ -38,10 +38,13 @@ public final class PaginatedItemsPublisher<ResponseT, ItemT> implements SdkPubli
 
     private final boolean isLastPage;
 
+    private final int prefetchPages;
+
     private PaginatedItemsPublisher(BuilderImpl builder) {
         this.nextPageFetcher = builder.nextPageFetcher;
         this.getIteratorFunction = builder.iteratorFunction;
         this.isLastPage = builder.isLastPage;
+        this.prefetchPages = builder.prefetchPages;
     }
 
     public static Builder builder() {
@@ -55,6 +58,7 @@ public final class PaginatedItemsPublisher<ResponseT, ItemT> implements SdkPubli
                                                              .subscriber(subscriber)
                                                              .nextPageFetcher(nextPageFetcher)
                                                              .iteratorFunction(getIteratorFunction)
+                                                             .prefetchPages(prefetchPages)
                                                              .build());
     }
 
@@ -65,6 +69,14 @@ public final class PaginatedItemsPublisher<ResponseT, ItemT> implements SdkPubli
 
         Builder isLastPage(boolean isLastPage);
 
+        /**
+         * The number of pages to fetch ahead of the demand of the subscriber, so that the next pages are requested while the
+         * items of the current page are processed. Items are still delivered in order and only as requested by the subscriber.
+         * <p>
+         * Default: 0, which fetches a page only when its items are needed.
+         */
+        Builder prefetchPages(int prefetchPages);
+
         PaginatedItemsPublisher build();
     }
 
@@ -72,6 +84,7 @@ public final class PaginatedItemsPublisher<ResponseT, ItemT> implements SdkPubli
         private AsyncPageFetcher nextPageFetcher;
         private Function iteratorFunction;
         private boolean isLastPage;
+        private int prefetchPages;
 
         @Override
         public Builder nextPageFetcher(AsyncPageFetcher nextPageFetcher) {
@@ -91,6 +104,12 @@ public final class PaginatedItemsPublisher<ResponseT, ItemT> implements SdkPubli
             return this;
         }
 
+        @Override
+        public Builder prefetchPages(int prefetchPages) {
+            this.prefetchPages = prefetchPages;
+            return this;
+        }
+
         @Override
         public PaginatedItemsPublisher build() {
             return new PaginatedItemsPublisher(this);
@@ -15,11 +15,14 @@
 
 package software.amazon.awssdk.core.pagination.async;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.internal.pagination.async.PagePrefetcher;
+import software.amazon.awssdk.utils.Validate;
 
 @SdkProtectedApi
 public abstract class PaginationSubscription<ResponseT> implements Subscription {
@@ -29,6 +32,9 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
     protected final AsyncPageFetcher<ResponseT> nextPageFetcher;
     protected volatile ResponseT currentPage;
 
+    // fetches pages ahead of demand, null if prefetching is disabled
+    private final PagePrefetcher<ResponseT> pagePrefetcher;
+
     // boolean indicating whether subscription is terminated
     private AtomicBoolean isTerminated = new AtomicBoolean(false);
 
@@ -38,6 +44,8 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
     protected PaginationSubscription(BuilderImpl builder) {
         this.subscriber = builder.subscriber;
         this.nextPageFetcher = builder.nextPageFetcher;
+        int prefetchPages = Validate.isNotNegative(builder.prefetchPages, "prefetchPages");
+        this.pagePrefetcher = prefetchPages > 0 ? new PagePrefetcher<>(nextPageFetcher, prefetchPages) : null;
     }
 
     @Override
@@ -73,9 +81,22 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
     }
 
     protected boolean hasNextPage() {
+        if (pagePrefetcher != null) {
+            return pagePrefetcher.hasNextPage();
+        }
         return currentPage == null || nextPageFetcher.hasNextPage(currentPage);
     }
 
+    /**
+     * Returns the page after {@link #currentPage}. If prefetching is enabled, the page may already have been fetched.
+     */
+    protected CompletableFuture<ResponseT> nextPage() {
+        if (pagePrefetcher != null) {
+            return pagePrefetcher.nextPage();
+        }
+        return nextPageFetcher.nextPage(currentPage);
+    }
+
     protected void completeSubscription() {
         if (!isTerminated()) {
             subscriber.onComplete();
@@ -102,6 +123,9 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
     protected synchronized void cleanup() {
         terminate();
         stopTask();
+        if (pagePrefetcher != null) {
+            pagePrefetcher.close();
+        }
     }
 
     public interface Builder<TypeToBuildT extends PaginationSubscription, BuilderT extends Builder> {
@@ -109,6 +133,14 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
 
         BuilderT nextPageFetcher(AsyncPageFetcher nextPageFetcher);
 
+        /**
+         * The number of pages to fetch ahead of the demand of the subscriber, so that the next pages are requested while the
+         * subscriber processes the current one. Pages are still delivered in order and only as requested by the subscriber.
+         * <p>
+         * Default: 0, which fetches a page only when it is needed.
+         */
+        BuilderT prefetchPages(int prefetchPages);
+
         TypeToBuildT build();
     }
 
@@ -116,6 +148,7 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
         implements Builder<TypeToBuildT, BuilderT> {
         private Subscriber subscriber;
         private AsyncPageFetcher nextPageFetcher;
+        private int prefetchPages;
 
         @Override
         public BuilderT subscriber(Subscriber subscriber) {
@@ -128,6 +161,12 @@ public abstract class PaginationSubscription<ResponseT> implements Subscription
             this.nextPageFetcher = nextPageFetcher;
             return (BuilderT) this;
         }
+
+        @Override
+        public BuilderT prefetchPages(int prefetchPages) {
+            this.prefetchPages = prefetchPages;
+            return (BuilderT) this;
+        }
     }
 
 }
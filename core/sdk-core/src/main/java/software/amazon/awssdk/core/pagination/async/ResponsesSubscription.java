@@ -54,7 +54,7 @@ public final class ResponsesSubscription<ResponseT> extends PaginationSubscripti
 
         if (!isTerminated()) {
             outstandingRequests.getAndDecrement();
-            nextPageFetcher.nextPage(currentPage)
+            nextPage()
                            .whenComplete(((response, error) -> {
                                if (response != null) {
                                    currentPage = response;
@@ -0,0 +1,147 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.util;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An unmodifiable list whose ownership has been handed over to the SDK: nothing outside of it holds a modifiable reference to
+ * its contents, and every list or map among its elements is unmodifiable and owned by the SDK as well.
+ * <p>
+ * Generated model copiers return these lists and reuse them instead of copying them again when they are passed to another
+ * builder. Unmarshallers and other SDK components that build a list for a model can {@link #wrap(List)} it so that the model
+ * builder keeps it as-is.
+ *
+ * @param <T> The element type.
+ */
+@SdkProtectedApi
+public final class SdkOwnedList<T> extends AbstractList<T> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final List<T> impl;
+
+    private SdkOwnedList(List<T> list) {
+        this.impl = Collections.unmodifiableList(list);
+    }
+
+    /**
+     * Wrap the given list without copying it. The caller hands over the list and must not modify it afterwards. Lists and
+     * maps among its elements must already be owned by the SDK.
+     */
+    public static <T> SdkOwnedList<T> wrap(List<T> list) {
+        return new SdkOwnedList<>(list);
+    }
+
+    /**
+     * Return the given {@link SdkOwnedList} as a list of {@code T}, without copying it. This is safe for any {@code T} that the
+     * elements are instances of, because the list can't be modified.
+     *
+     * @throws IllegalArgumentException if the given list is not an {@link SdkOwnedList}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> reuse(Collection<?> ownedList) {
+        return Validate.isInstanceOf(SdkOwnedList.class, ownedList, "The list is not owned by the SDK.");
+    }
+
+    @Override
+    public T get(int index) {
+        return impl.get(index);
+    }
+
+    @Override
+    public int size() {
+        return impl.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return impl.isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return impl.contains(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return impl.indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return impl.lastIndexOf(o);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return impl.iterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return impl.listIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        return impl.listIterator(index);
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        return impl.subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        impl.forEach(action);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return impl.toArray();
+    }
+
+    @Override
+    public <T1> T1[] toArray(T1[] a) {
+        return impl.toArray(a);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || impl.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return impl.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return impl.toString();
+    }
+}
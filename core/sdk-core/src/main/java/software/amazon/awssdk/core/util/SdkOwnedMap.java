@@ -0,0 +1,132 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.util;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An unmodifiable map whose ownership has been handed over to the SDK: nothing outside of it holds a modifiable reference to
+ * its contents, and every list or map among its values is unmodifiable and owned by the SDK as well.
+ * <p>
+ * Generated model copiers return these maps and reuse them instead of copying them again when they are passed to another
+ * builder. Unmarshallers and other SDK components that build a map for a model can {@link #wrap(Map)} it so that the model
+ * builder keeps it as-is.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+@SdkProtectedApi
+public final class SdkOwnedMap<K, V> extends AbstractMap<K, V> implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Map<K, V> impl;
+
+    private SdkOwnedMap(Map<K, V> map) {
+        this.impl = Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Wrap the given map without copying it. The caller hands over the map and must not modify it afterwards. Lists and
+     * maps among its values must already be owned by the SDK.
+     */
+    public static <K, V> SdkOwnedMap<K, V> wrap(Map<K, V> map) {
+        return new SdkOwnedMap<>(map);
+    }
+
+    /**
+     * Return the given {@link SdkOwnedMap} as a map of {@code K} to {@code V}, without copying it. This is safe for any
+     * {@code K} and {@code V} that the keys and values are instances of, because the map can't be modified.
+     *
+     * @throws IllegalArgumentException if the given map is not an {@link SdkOwnedMap}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> Map<K, V> reuse(Map<?, ?> ownedMap) {
+        return Validate.isInstanceOf(SdkOwnedMap.class, ownedMap, "The map is not owned by the SDK.");
+    }
+
+    @Override
+    public int size() {
+        return impl.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return impl.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return impl.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return impl.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return impl.get(key);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return impl.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return impl.keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return impl.values();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return impl.entrySet();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        impl.forEach(action);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || impl.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return impl.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return impl.toString();
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.waiters;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.internal.waiters.DefaultBatchingAsyncWaiter;
+
+/**
+ * Waiter utility class that waits for many resources of the same kind to transition to the desired state asynchronously,
+ * polling them together.
+ * <p>
+ * Where an {@link AsyncWaiter} calls its polling function once per attempt of every wait, this waiter coalesces the attempts
+ * of all of its waits that are due at about the same time into a single call of the batch polling function, e.g. one
+ * {@code DescribeInstances} call with the IDs of all of the instances that are waited on. The response of that call is split
+ * into one response per resource, and each wait completes when the acceptors match its own response.
+ * <p>
+ * All waits of a waiter are scheduled by a single task on the {@link ScheduledExecutorService} of the waiter, no matter how
+ * many waits are in progress.
+ *
+ * <pre>{@code
+ * BatchingAsyncWaiter<String, DescribeInstancesResponse> waiter =
+ *     BatchingAsyncWaiter.builder(String.class, DescribeInstancesResponse.class)
+ *                        .batchPollingFunction(ids -> ec2.describeInstances(r -> r.instanceIds(ids)))
+ *                        .resourceResponseFunction((response, id) -> onlyInstance(response, id))
+ *                        .addAcceptor(WaiterAcceptor.successOnResponseAcceptor(r -> allRunning(r)))
+ *                        .addAcceptor(WaiterAcceptor.retryOnResponseAcceptor(r -> true))
+ *                        .scheduledExecutorService(scheduler)
+ *                        .build();
+ *
+ * CompletableFuture<WaiterResponse<DescribeInstancesResponse>> future = waiter.runAsync("i-1234567890abcdef0");
+ * }</pre>
+ *
+ * @param <IdT> the type of the identifier of a resource
+ * @param <T> the type of the response returned from the polling function
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface BatchingAsyncWaiter<IdT, T> {
+
+    /**
+     * Waits for the given resource. The returned future completes successfully when the resource enters into a desired state
+     * or exceptionally when it is determined that the resource will never enter into the desired state.
+     *
+     * @param resourceId the identifier of the resource to wait for
+     * @return A {@link CompletableFuture} containing the {@link WaiterResponse}
+     */
+    CompletableFuture<WaiterResponse<T>> runAsync(IdT resourceId);
+
+    /**
+     * Waits for the given resource. The returned future completes successfully when the resource enters into a desired state
+     * or exceptionally when it is determined that the resource will never enter into the desired state.
+     * <p>
+     * Waits with different override configurations are still polled together.
+     *
+     * @param resourceId the identifier of the resource to wait for
+     * @param overrideConfig per request override configuration
+     * @return A {@link CompletableFuture} containing the {@link WaiterResponse}
+     */
+    CompletableFuture<WaiterResponse<T>> runAsync(IdT resourceId, WaiterOverrideConfiguration overrideConfig);
+
+    /**
+     * Waits for the given resource. The returned future completes successfully when the resource enters into a desired state
+     * or exceptionally when it is determined that the resource will never enter into the desired state.
+     *
+     * @param resourceId the identifier of the resource to wait for
+     * @param overrideConfig The consumer that will configure the per request override configuration for waiters
+     * @return A {@link CompletableFuture} containing the {@link WaiterResponse}
+     */
+    default CompletableFuture<WaiterResponse<T>> runAsync(IdT resourceId,
+                                                          Consumer<WaiterOverrideConfiguration.Builder> overrideConfig) {
+        return runAsync(resourceId, WaiterOverrideConfiguration.builder().applyMutation(overrideConfig).build());
+    }
+
+    /**
+     * Creates a newly initialized builder for the waiter object.
+     *
+     * @param resourceIdClass the class of the identifier of a resource
+     * @param responseClass the response class
+     * @param <IdT> the type of the identifier of a resource
+     * @param <T> the type of the response
+     * @return a Waiter builder
+     */
+    static <IdT, T> Builder<IdT, T> builder(Class<? extends IdT> resourceIdClass, Class<? extends T> responseClass) {
+        return DefaultBatchingAsyncWaiter.builder();
+    }
+
+    /**
+     * The Waiter Builder
+     *
+     * @param <IdT> the type of the identifier of a resource
+     * @param <T> the type of the resource
+     */
+    interface Builder<IdT, T> extends WaiterBuilder<T, Builder<IdT, T>> {
+
+        /**
+         * Defines the {@link ScheduledExecutorService} used to schedule the polling attempts. It can be shared with other
+         * waiters.
+         *
+         * @param scheduledExecutorService the schedule executor service
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder<IdT, T> scheduledExecutorService(ScheduledExecutorService scheduledExecutorService);
+
+        /**
+         * Defines the function that polls a batch of resources with a single call. It is given the distinct identifiers of at
+         * most {@link #maxBatchSize(Integer)} resources.
+         *
+         * @param batchPollingFunction the batch polling function
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder<IdT, T> batchPollingFunction(Function<List<IdT>, CompletableFuture<T>> batchPollingFunction);
+
+        /**
+         * Defines the function that extracts the response of a single resource from the response of the batch polling
+         * function, e.g. a {@code DescribeInstancesResponse} that only contains the given instance. The acceptors are matched
+         * against the response that this function returns.
+         *
+         * @param resourceResponseFunction the function that extracts the response of a resource
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder<IdT, T> resourceResponseFunction(BiFunction<? super T, ? super IdT, ? extends T> resourceResponseFunction);
+
+        /**
+         * The maximum number of resources polled by a single call of the batch polling function. This defaults to 100.
+         *
+         * @param maxBatchSize the maximum number of resources in a batch
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder<IdT, T> maxBatchSize(Integer maxBatchSize);
+
+        /**
+         * How long a polling attempt may be delayed or brought forward so that it can be made together with the attempts of
+         * other waits. The first attempt of a wait is made after this window. This defaults to 100 milliseconds.
+         *
+         * @param batchWindow the batch window
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder<IdT, T> batchWindow(Duration batchWindow);
+
+        /**
+         * An immutable object that is created from the properties that have been set on the builder.
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        BatchingAsyncWaiter<IdT, T> build();
+    }
+}
@@ -23,6 +23,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.DISABLE_HOST_PREFIX_INJECTION;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SIGNER;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
@@ -39,6 +40,7 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_
 import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
 import static software.amazon.awssdk.core.internal.SdkInternalTestAdvancedClientOption.ENDPOINT_OVERRIDDEN_OVERRIDE;
+import static software.amazon.awssdk.utils.ScheduledExecutorUtils.unwrapUnmanagedScheduledExecutor;
 
 import com.google.common.collect.ImmutableSet;
 import java.beans.BeanInfo;
@@ -65,6 +67,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import software.amazon.awssdk.core.ClientEndpointProvider;
+import software.amazon.awssdk.core.SdkRuntime;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
@@ -72,6 +75,9 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimeoutScheduler;
+import software.amazon.awssdk.core.internal.runtime.ClientCompletionExecutor;
+import software.amazon.awssdk.core.internal.runtime.DefaultSdkRuntime;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.signer.NoOpSigner;
 import software.amazon.awssdk.core.signer.Signer;
@@ -419,6 +425,78 @@ public class DefaultClientBuilderTest {
         assertThat(secondGet).isSameAs(firstGet);
     }
 
+    @Test
+    public void clientsWithSameSdkRuntime_shareExecutors() {
+        try (SdkRuntime runtime = SdkRuntime.create()) {
+            SdkClientConfiguration first = testAsyncClientBuilder().sdkRuntime(runtime).build().clientConfiguration;
+            SdkClientConfiguration second = testAsyncClientBuilder().sdkRuntime(runtime).build().clientConfiguration;
+
+            assertThat(first.option(FUTURE_COMPLETION_EXECUTOR)).isInstanceOf(ClientCompletionExecutor.class)
+                                                                 .isNotSameAs(second.option(FUTURE_COMPLETION_EXECUTOR));
+            assertThat(unwrapUnmanagedScheduledExecutor(first.option(SCHEDULED_EXECUTOR_SERVICE)))
+                .isSameAs(unwrapUnmanagedScheduledExecutor(second.option(SCHEDULED_EXECUTOR_SERVICE)));
+
+            first.close();
+            assertThat(second.option(SCHEDULED_EXECUTOR_SERVICE).isShutdown()).isFalse();
+            second.close();
+        }
+    }
+
+    @Test
+    public void timeoutsAreScheduledOnSharedTimer() {
+        TestClient client = testClientBuilder().build();
+
+        assertThat(client.clientConfiguration.option(SdkClientOption.TIMEOUT_SCHEDULER))
+            .isInstanceOf(HashedWheelTimeoutScheduler.class);
+    }
+
+    @Test
+    public void sdkRuntime_explicitExecutorsTakePrecedence() {
+        ScheduledExecutorService scheduledExecutor = mock(ScheduledExecutorService.class);
+        try (SdkRuntime runtime = SdkRuntime.create()) {
+            TestClient client = testClientBuilder().sdkRuntime(runtime)
+                                                   .overrideConfiguration(o -> o.scheduledExecutorService(scheduledExecutor))
+                                                   .build();
+
+            assertThat(unwrapUnmanagedScheduledExecutor(client.clientConfiguration.option(SCHEDULED_EXECUTOR_SERVICE)))
+                .isSameAs(scheduledExecutor);
+            client.clientConfiguration.close();
+        }
+    }
+
+    @Test
+    public void sdkRuntime_isShutDownWhenRuntimeAndAllClientsAreClosed() {
+        SdkRuntime runtime = SdkRuntime.create();
+        TestClient client = testClientBuilder().sdkRuntime(runtime).build();
+        ScheduledExecutorService sharedScheduler =
+            unwrapUnmanagedScheduledExecutor(client.clientConfiguration.option(SCHEDULED_EXECUTOR_SERVICE));
+
+        runtime.close();
+        assertThat(sharedScheduler.isShutdown()).isFalse();
+        assertThatThrownBy(() -> testClientBuilder().sdkRuntime(runtime).build()).isInstanceOf(IllegalStateException.class);
+
+        client.clientConfiguration.close();
+        assertThat(sharedScheduler.isShutdown()).isTrue();
+    }
+
+    @Test
+    public void sdkRuntime_failedBuild_doesNotKeepAReference() {
+        SdkRuntime runtime = SdkRuntime.create();
+        ScheduledExecutorService sharedScheduler =
+            unwrapUnmanagedScheduledExecutor(((DefaultSdkRuntime) runtime).scheduledExecutor());
+        TestClientBuilder failingBuilder = new TestClientBuilder() {
+            @Override
+            protected SdkClientConfiguration invokePlugins(SdkClientConfiguration config) {
+                throw new IllegalStateException("Plugin failed");
+            }
+        };
+
+        assertThatThrownBy(() -> failingBuilder.sdkRuntime(runtime).build()).hasMessage("Plugin failed");
+
+        runtime.close();
+        assertThat(sharedScheduler.isShutdown()).isTrue();
+    }
+
     private SdkDefaultClientBuilder<TestClientBuilder, TestClient> testClientBuilder() {
         ClientOverrideConfiguration overrideConfig =
                 ClientOverrideConfiguration.builder()
@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.SdkPublisher;
+
+/**
+ * Tests for {@link ByteArrayAsyncResponseTransformer}.
+ */
+class ByteArrayAsyncResponseTransformerTest {
+
+    @Test
+    void directAndHeapBuffers_contentIsConcatenatedWithoutConsumingBuffers() {
+        String content = RandomStringUtils.randomAlphanumeric(10000);
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        List<ByteBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += 1000) {
+            ByteBuffer buffer = offset % 2000 == 0 ? ByteBuffer.allocateDirect(1000) : ByteBuffer.allocate(1000);
+            buffer.put(bytes, offset, 1000).flip();
+            buffers.add(buffer.asReadOnlyBuffer());
+        }
+
+        ResponseBytes<String> responseBytes = transform(SdkPublisher.adapt(Flowable.fromIterable(buffers)));
+
+        assertThat(responseBytes.asUtf8String()).isEqualTo(content);
+        assertThat(responseBytes.response()).isEqualTo("response");
+        assertThat(buffers).allSatisfy(b -> assertThat(b.remaining()).isEqualTo(1000));
+    }
+
+    @Test
+    void emptyBody_returnsEmptyBytes() {
+        ResponseBytes<String> responseBytes = transform(SdkPublisher.adapt(Flowable.empty()));
+
+        assertThat(responseBytes.asByteArrayUnsafe()).isEmpty();
+    }
+
+    private static ResponseBytes<String> transform(SdkPublisher<ByteBuffer> publisher) {
+        ByteArrayAsyncResponseTransformer<String> transformer = new ByteArrayAsyncResponseTransformer<>();
+        CompletableFuture<ResponseBytes<String>> future = transformer.prepare();
+        transformer.onResponse("response");
+        transformer.onStream(publisher);
+        return future.join();
+    }
+}
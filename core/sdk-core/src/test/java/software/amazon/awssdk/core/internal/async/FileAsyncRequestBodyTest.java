@@ -29,10 +29,14 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.FileTime;
 import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Semaphore;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
@@ -312,10 +316,172 @@ public class FileAsyncRequestBodyTest {
         assertThat(bytes).isEqualTo(expected);
     }
 
+    @Test
+    public void memoryMapped_readsFile_publishesReadOnlySlicesOfChunkSize() throws Exception {
+        int chunkSize = 1024 * 1024 - 1;
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .chunkSizeInBytes(chunkSize)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(Long.MAX_VALUE);
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+
+        assertThat(subscriber.output.toByteArray()).isEqualTo(Files.readAllBytes(testFile));
+        assertThat(subscriber.buffers).allSatisfy(buffer -> {
+            assertThat(buffer.isReadOnly()).isTrue();
+            assertThat(buffer.isDirect()).isTrue();
+        });
+        assertThat(subscriber.buffers).hasSize((int) (TEST_FILE_SIZE / chunkSize) + 1);
+        assertThat(subscriber.buffers.get(0).capacity()).isEqualTo(chunkSize);
+    }
+
+    @Test
+    public void memoryMapped_requestsOneAtATime_receivesCompleteAfterLastSlice() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(smallFile)
+                                                                .chunkSizeInBytes(10)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        for (int i = 0; i < 10; i++) {
+            assertThat(subscriber.completed).isNotDone();
+            subscriber.sub.request(1);
+        }
+
+        subscriber.completed.get(5, TimeUnit.SECONDS);
+        assertThat(subscriber.output.toByteArray()).isEqualTo(Files.readAllBytes(smallFile));
+    }
+
+    @Test
+    public void memoryMapped_bothPositionAndNumBytesToReadConfigured_shouldHonor() throws Exception {
+        CompletableFuture<byte[]> future = new CompletableFuture<>();
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(smallFile)
+                                                                .position(20L)
+                                                                .numBytesToRead(25L)
+                                                                .chunkSizeInBytes(10)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        asyncRequestBody.subscribe(new ByteArrayAsyncResponseTransformer.BaosSubscriber(future));
+
+        byte[] expected = new byte[25];
+        System.arraycopy(Files.readAllBytes(smallFile), 20, expected, 0, 25);
+        assertThat(future.get(1, TimeUnit.SECONDS)).isEqualTo(expected);
+    }
+
+    @Test
+    public void memoryMapped_numBytesToReadPastEndOfFile_failsBecauseTooShort() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(smallFile)
+                                                                .numBytesToRead(200L)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> subscriber.completed.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void memoryMapped_fileGetsLongerThanExistingLength_failsBecauseTooLong() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(1);
+        assertTrue(subscriber.onNextSemaphore.tryAcquire(5, TimeUnit.SECONDS));
+
+        Files.write(testFile, "Hello".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        subscriber.sub.request(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> subscriber.completed.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void memoryMapped_cancelled_stopsPublishing() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(smallFile)
+                                                                .chunkSizeInBytes(10)
+                                                                .memoryMapped(true)
+                                                                .build();
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+        subscriber.sub.request(1);
+        subscriber.sub.cancel();
+        subscriber.sub.request(Long.MAX_VALUE);
+
+        assertThat(subscriber.buffers).hasSize(1);
+        assertThat(subscriber.completed).isNotDone();
+    }
+
+    @Test
+    public void memoryMapped_cancelledFromAnotherThreadDuringOnNext_doesNotWaitForOnNext() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(smallFile)
+                                                                .chunkSizeInBytes(10)
+                                                                .memoryMapped(true)
+                                                                .build();
+        CountDownLatch inOnNext = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        ControllableSubscriber subscriber = new ControllableSubscriber() {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                super.onNext(byteBuffer);
+                inOnNext.countDown();
+                invokeSafely(() -> {
+                    cancelled.await(5, TimeUnit.SECONDS);
+                });
+            }
+        };
+        asyncRequestBody.subscribe(subscriber);
+
+        CompletableFuture<Void> emission = CompletableFuture.runAsync(() -> subscriber.sub.request(Long.MAX_VALUE));
+        assertTrue(inOnNext.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture.runAsync(() -> subscriber.sub.cancel()).get(1, TimeUnit.SECONDS);
+        cancelled.countDown();
+        emission.get(5, TimeUnit.SECONDS);
+
+        assertThat(subscriber.buffers).hasSize(1);
+        assertThat(subscriber.completed).isNotDone();
+    }
+
+    @Test
+    public void memoryMapped_missingFile_signalsError() throws Exception {
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .memoryMapped(true)
+                                                                .build();
+        Files.delete(testFile);
+
+        ControllableSubscriber subscriber = new ControllableSubscriber();
+        asyncRequestBody.subscribe(subscriber);
+
+        assertThatThrownBy(() -> subscriber.completed.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(NoSuchFileException.class);
+    }
+
     private static class ControllableSubscriber implements Subscriber<ByteBuffer> {
         private final ByteArrayOutputStream output = new ByteArrayOutputStream();
         private final CompletableFuture<Void> completed = new CompletableFuture<>();
         private final Semaphore onNextSemaphore = new Semaphore(0);
+        private final List<ByteBuffer> buffers = new CopyOnWriteArrayList<>();
         private Subscription sub;
 
         @Override
@@ -325,6 +491,7 @@ public class FileAsyncRequestBodyTest {
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
+            buffers.add(byteBuffer);
             invokeSafely(() -> output.write(BinaryUtils.copyBytesFrom(byteBuffer)));
             onNextSemaphore.release();
         }
@@ -31,6 +31,7 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Callable;
@@ -41,6 +42,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -55,6 +57,7 @@ import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
 import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.internal.util.NoopSubscription;
+import software.amazon.awssdk.http.async.PooledByteBuffers;
 
 /**
  * Tests for {@link FileAsyncResponseTransformer}.
@@ -318,6 +321,22 @@ class FileAsyncResponseTransformerTest {
         assertThat(future).isCompletedExceptionally();
     }
 
+    @Test
+    void pooledBuffers_releasedOnlyAfterTheyAreWritten() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        String content = RandomStringUtils.randomAlphanumeric(30000);
+        FileAsyncResponseTransformer<String> transformer = new FileAsyncResponseTransformer<>(testPath);
+        AtomicInteger releases = new AtomicInteger();
+
+        CompletableFuture<String> future = transformer.prepare();
+        transformer.onResponse("foobar");
+        transformer.onStream(pooledPublisher(content, 1000, releases));
+        future.get(10, TimeUnit.SECONDS);
+
+        assertThat(testPath).hasContent(content);
+        assertThat(releases).hasValue(30);
+    }
+
     private static void stubSuccessfulStreaming(String newContent, FileAsyncResponseTransformer<String> transformer) throws Exception {
         CompletableFuture<String> future = transformer.prepare();
         transformer.onResponse("foobar");
@@ -341,6 +360,37 @@ class FileAsyncResponseTransformerTest {
                           .withCause(runtimeException);
     }
 
+    /**
+     * Publishes the content in chunks through {@link PooledByteBuffers}, and overwrites each chunk when it is released, like a
+     * buffer pool reusing the memory would.
+     */
+    private static SdkPublisher<ByteBuffer> pooledPublisher(String content, int chunkSize, AtomicInteger releases) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        return subscriber -> subscriber.onSubscribe(new Subscription() {
+            private int offset;
+
+            @Override
+            public synchronized void request(long n) {
+                for (long i = 0; i < n; i++) {
+                    if (offset >= bytes.length) {
+                        subscriber.onComplete();
+                        return;
+                    }
+                    byte[] chunk = Arrays.copyOfRange(bytes, offset, Math.min(offset + chunkSize, bytes.length));
+                    offset += chunk.length;
+                    PooledByteBuffers.publish(subscriber, ByteBuffer.wrap(chunk).asReadOnlyBuffer(), () -> {
+                        Arrays.fill(chunk, (byte) 0);
+                        releases.incrementAndGet();
+                    });
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+    }
+
     private static SdkPublisher<ByteBuffer> testPublisher(String content) {
         return SdkPublisher.adapt(Flowable.just(ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8))));
     }
@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer.SplitResult;
+import software.amazon.awssdk.core.async.AsyncResponseTransformerUtils;
+
+class PooledByteBufferConsumerTest {
+
+    @Test
+    void byteArrayAndFileTransformers_supportPooledBuffers() {
+        assertThat(PooledByteBufferConsumer.supportsPooledByteBuffers(AsyncResponseTransformer.toBytes())).isTrue();
+        assertThat(PooledByteBufferConsumer.supportsPooledByteBuffers(AsyncResponseTransformer.toFile(Paths.get("file"))))
+            .isTrue();
+    }
+
+    @Test
+    void transformerWrappedWithEndOfStreamFuture_supportsPooledBuffersOfDelegate() {
+        assertThat(PooledByteBufferConsumer.supportsPooledByteBuffers(
+            AsyncResponseTransformerUtils.wrapWithEndOfStreamFuture(AsyncResponseTransformer.toBytes()).left())).isTrue();
+        assertThat(PooledByteBufferConsumer.supportsPooledByteBuffers(
+            AsyncResponseTransformerUtils.wrapWithEndOfStreamFuture(AsyncResponseTransformer.toPublisher()).left())).isFalse();
+    }
+
+    @Test
+    void transformersThatHoldOnToBuffers_doNotSupportPooledBuffers() {
+        assertThat(PooledByteBufferConsumer.supportsPooledByteBuffers(AsyncResponseTransformer.toPublisher())).isFalse();
+        assertThat(PooledByteBufferConsumer.supportsPooledByteBuffers(AsyncResponseTransformer.toBlockingInputStream()))
+            .isFalse();
+    }
+
+    @Test
+    void partTransformersOfSplitTransformer_doNotSupportPooledBuffers() {
+        SplitResult<Object, ResponseBytes<Object>> split =
+            AsyncResponseTransformer.toBytes().split(c -> c.bufferSizeInBytes(1024L));
+        CompletableFuture<AsyncResponseTransformer<Object, Object>> part = new CompletableFuture<>();
+        split.publisher().subscribe(new Subscriber<AsyncResponseTransformer<Object, Object>>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(AsyncResponseTransformer<Object, Object> transformer) {
+                part.complete(transformer);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                part.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertThat(PooledByteBufferConsumer.supportsPooledByteBuffers(part.join())).isFalse();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.reactivex.Flowable;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.Crc32MismatchException;
+import software.amazon.awssdk.core.http.Crc32Validation;
+import software.amazon.awssdk.core.http.HttpResponseBodyParser;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.IoUtils;
+
+class AsyncResponseHandlerTest {
+    private static final String CONTENT = "{\"key\": \"value\"}";
+
+    @Test
+    void noBodyParser_buffersContentAndInvokesHandle() {
+        StringHandler handler = new StringHandler(false);
+
+        String result = execute(handler, response(), publisher("{\"key\"", ": \"va", "lue\"}"));
+
+        assertThat(result).isEqualTo("handled:" + CONTENT);
+    }
+
+    @Test
+    void noBodyParser_directBuffers_buffersContentAndInvokesHandle() {
+        StringHandler handler = new StringHandler(false);
+        Flowable<ByteBuffer> publisher = publisher("{\"key\"", ": \"value\"}").map(AsyncResponseHandlerTest::direct);
+
+        String result = execute(handler, response(), publisher);
+
+        assertThat(result).isEqualTo("handled:" + CONTENT);
+    }
+
+    @Test
+    void noBodyParser_noContent_invokesHandleWithoutContent() {
+        StringHandler handler = new StringHandler(false);
+
+        String result = execute(handler, response(), Flowable.empty());
+
+        assertThat(result).isEqualTo("handled:none");
+    }
+
+    @Test
+    void bodyParser_feedsEveryPartAndDoesNotInvokeHandle() {
+        StringHandler handler = new StringHandler(true);
+
+        String result = execute(handler, response(), publisher("{\"key\"", ": \"va", "lue\"}"));
+
+        assertThat(result).isEqualTo("parsed:" + CONTENT);
+        assertThat(handler.parts).containsExactly("{\"key\"", ": \"va", "lue\"}");
+    }
+
+    @Test
+    void bodyParser_matchingCrc32_succeeds() {
+        StringHandler handler = new StringHandler(true);
+        SdkHttpFullResponse response = response().toBuilder().putHeader("x-amz-crc32", crc32(CONTENT)).build();
+
+        String result = execute(handler, response, publisher("{\"key\"", ": \"value\"}"));
+
+        assertThat(result).isEqualTo("parsed:" + CONTENT);
+    }
+
+    @Test
+    void bodyParser_mismatchingCrc32_fails() {
+        StringHandler handler = new StringHandler(true);
+        SdkHttpFullResponse response = response().toBuilder().putHeader("x-amz-crc32", "12345").build();
+
+        assertThatThrownBy(() -> execute(handler, response, publisher("{\"key\"", ": \"value\"}")))
+            .hasCauseInstanceOf(Crc32MismatchException.class)
+            .hasMessageContaining("Expected 12345 as the Crc32 checksum");
+    }
+
+    @Test
+    void bodyParser_feedFails_failsAndCancelsTheStream() {
+        StringHandler handler = new StringHandler(true);
+        handler.failOnFeed = true;
+        AtomicBoolean cancelled = new AtomicBoolean();
+        Flowable<ByteBuffer> publisher = publisher("{\"key\"", ": \"value\"}").doOnCancel(() -> cancelled.set(true));
+
+        assertThatThrownBy(() -> execute(handler, response(), publisher))
+            .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(cancelled).isTrue();
+        assertThat(handler.parts).hasSize(1);
+    }
+
+    @Test
+    void bodyParser_gzipEncodedContent_buffersContentAndInvokesHandle() throws Exception {
+        StringHandler handler = new StringHandler(true);
+        SdkHttpFullResponse response = response().toBuilder().putHeader("Content-Encoding", "gzip").build();
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+        }
+
+        String result = execute(handler, response, Flowable.just(ByteBuffer.wrap(compressed.toByteArray())));
+
+        assertThat(result).isEqualTo("handled:" + CONTENT);
+        assertThat(handler.parts).isEmpty();
+    }
+
+    private static String execute(StringHandler handler, SdkHttpFullResponse response, Flowable<ByteBuffer> publisher) {
+        AsyncResponseHandler<String> asyncHandler =
+            new AsyncResponseHandler<>(handler, r -> Crc32Validation.validate(false, r), new ExecutionAttributes());
+        CompletableFuture<String> future = asyncHandler.prepare();
+        asyncHandler.onHeaders(response);
+        asyncHandler.onStream(publisher);
+        return future.join();
+    }
+
+    private static SdkHttpFullResponse response() {
+        return SdkHttpFullResponse.builder().statusCode(200).build();
+    }
+
+    private static Flowable<ByteBuffer> publisher(String... parts) {
+        return Flowable.fromArray(parts).map(p -> ByteBuffer.wrap(p.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static ByteBuffer direct(ByteBuffer buffer) {
+        ByteBuffer direct = ByteBuffer.allocateDirect(buffer.remaining());
+        direct.put(buffer).flip();
+        return direct;
+    }
+
+    private static String crc32(String content) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(content.getBytes(StandardCharsets.UTF_8));
+        return String.valueOf(crc32.getValue());
+    }
+
+    private static final class StringHandler implements HttpResponseHandler<String> {
+        private final boolean incremental;
+        private final List<String> parts = new ArrayList<>();
+        private boolean failOnFeed;
+
+        private StringHandler(boolean incremental) {
+            this.incremental = incremental;
+        }
+
+        @Override
+        public String handle(SdkHttpFullResponse response, ExecutionAttributes executionAttributes) throws Exception {
+            if (!response.content().isPresent()) {
+                return "handled:none";
+            }
+            return "handled:" + IoUtils.toUtf8String(response.content().get());
+        }
+
+        @Override
+        public Optional<HttpResponseBodyParser<String>> bodyParser(SdkHttpFullResponse response,
+                                                                   ExecutionAttributes executionAttributes) {
+            if (!incremental) {
+                return Optional.empty();
+            }
+            StringBuilder content = new StringBuilder();
+            return Optional.of(new HttpResponseBodyParser<String>() {
+                @Override
+                public void feed(ByteBuffer part) {
+                    String text = StandardCharsets.UTF_8.decode(part).toString();
+                    parts.add(text);
+                    if (failOnFeed) {
+                        throw new IllegalStateException("Unable to parse " + text);
+                    }
+                    content.append(text);
+                }
+
+                @Override
+                public String complete() {
+                    return "parsed:" + content;
+                }
+            });
+        }
+    }
+}
@@ -55,7 +55,9 @@ import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.internal.runtime.DefaultSdkRuntime;
 import software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils;
+import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
@@ -237,6 +239,34 @@ public class MakeAsyncHttpRequestStageTest {
         }
     }
 
+    @Test
+    public void execute_sdkRuntimeCompletionExecutor_reportsQueueDepth() {
+        DefaultSdkRuntime runtime = (DefaultSdkRuntime) DefaultSdkRuntime.builder().build();
+        try {
+            SdkClientConfiguration config =
+                SdkClientConfiguration.builder()
+                                      .option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR,
+                                              runtime.futureCompletionExecutor())
+                                      .option(ASYNC_HTTP_CLIENT, sdkAsyncHttpClient)
+                                      .build();
+            HttpClientDependencies dependencies = HttpClientDependencies.builder().clientConfiguration(config).build();
+            stage = new MakeAsyncHttpRequestStage<>(
+                combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                             AsyncResponseHandlerTestUtils.noOpResponseHandler()),
+                dependencies);
+
+            RequestExecutionContext context = requestContext();
+            MetricCollector attemptMetricCollector = MetricCollector.create("ApiCallAttempt");
+            context.attemptMetricCollector(attemptMetricCollector);
+            stage.execute(CompletableFuture.completedFuture(ValidSdkObjects.sdkHttpFullRequest().build()), context);
+
+            assertThat(attemptMetricCollector.collect().metricValues(CoreMetric.FUTURE_COMPLETION_QUEUE_DEPTH))
+                .containsExactly(0);
+        } finally {
+            runtime.close();
+        }
+    }
+
     private HttpClientDependencies clientDependencies(Duration timeout) {
         SdkClientConfiguration configuration = SdkClientConfiguration.builder()
                                                                      .option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, Runnable::run)
@@ -133,6 +133,7 @@ public class SigningStageTest {
         assertThat(signRequest.property(HttpSigner.SIGNING_CLOCK)).isNotNull();
         assertThat(signRequest.property(HttpSigner.SIGNING_CLOCK).instant())
             .isCloseTo(Instant.now(), within(10, ChronoUnit.MILLIS));
+        assertThat(signRequest.property(HttpSigner.METRIC_COLLECTOR)).isSameAs(metricCollector);
 
         // assert that metrics are collected
         verify(metricCollector).reportMetric(eq(SIGNING_DURATION), any());
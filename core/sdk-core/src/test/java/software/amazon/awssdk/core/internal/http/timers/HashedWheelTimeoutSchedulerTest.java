@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+public class HashedWheelTimeoutSchedulerTest {
+    private HashedWheelTimer timer;
+    private ExecutorService expiryExecutor;
+
+    @BeforeEach
+    public void setup() {
+        timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 8, new ThreadFactoryBuilder().threadNamePrefix("timer").build());
+        expiryExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().threadNamePrefix("expiry").build());
+    }
+
+    @AfterEach
+    public void teardown() {
+        timer.stop();
+        expiryExecutor.shutdown();
+    }
+
+    @Test
+    public void schedule_expiredTaskRunsOnExpiryExecutor() throws InterruptedException {
+        AtomicReference<String> threadName = new AtomicReference<>();
+        CountDownLatch fired = new CountDownLatch(1);
+
+        new HashedWheelTimeoutScheduler(timer, expiryExecutor).schedule(() -> {
+            threadName.set(Thread.currentThread().getName());
+            fired.countDown();
+        }, 5);
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName.get()).startsWith("expiry");
+    }
+
+    @Test
+    public void schedule_expiryExecutorRejects_taskRunsOnTimerThread() throws InterruptedException {
+        AtomicReference<String> threadName = new AtomicReference<>();
+        CountDownLatch fired = new CountDownLatch(1);
+
+        new HashedWheelTimeoutScheduler(timer, r -> {
+            throw new RejectedExecutionException();
+        }).schedule(() -> {
+            threadName.set(Thread.currentThread().getName());
+            fired.countDown();
+        }, 5);
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threadName.get()).startsWith("timer");
+    }
+
+    @Test
+    public void schedule_cancelledTaskDoesNotRun() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        HashedWheelTimeoutScheduler scheduler = new HashedWheelTimeoutScheduler(timer, expiryExecutor);
+
+        scheduler.schedule(fired::countDown, 5).cancel();
+
+        assertThat(fired.await(100, TimeUnit.MILLISECONDS)).isFalse();
+    }
+}
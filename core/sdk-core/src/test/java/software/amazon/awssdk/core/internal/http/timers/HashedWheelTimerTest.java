@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+public class HashedWheelTimerTest {
+    private HashedWheelTimer timer;
+
+    @BeforeEach
+    public void setup() {
+        timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 8,
+                                     new ThreadFactoryBuilder().threadNamePrefix("hashed-wheel-timer-test").build());
+    }
+
+    @AfterEach
+    public void teardown() {
+        timer.stop();
+    }
+
+    @Test
+    public void newTimeout_firesAfterDelay() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        AtomicReference<String> threadName = new AtomicReference<>();
+        long start = System.nanoTime();
+
+        HashedWheelTimer.Timeout timeout = timer.newTimeout(() -> {
+            threadName.set(Thread.currentThread().getName());
+            fired.countDown();
+        }, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+        assertThat(threadName.get()).startsWith("hashed-wheel-timer-test");
+        assertThat(timeout.isExpired()).isTrue();
+        assertThat(timer.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    public void newTimeout_delaysLongerThanOneRound_neverFireEarly() throws InterruptedException {
+        int count = 40;
+        CountDownLatch fired = new CountDownLatch(count);
+        AtomicInteger early = new AtomicInteger();
+        for (int i = 0; i < count; i++) {
+            long delayMillis = i * 3;
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+            timer.newTimeout(() -> {
+                if (System.nanoTime() < deadline) {
+                    early.incrementAndGet();
+                }
+                fired.countDown();
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(early).hasValue(0);
+    }
+
+    @Test
+    public void cancel_timeoutDoesNotFireAndIsRemoved() throws InterruptedException {
+        AtomicBoolean cancelledFired = new AtomicBoolean();
+        List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            timeouts.add(timer.newTimeout(() -> cancelledFired.set(true), 20, TimeUnit.MILLISECONDS));
+        }
+        timeouts.forEach(HashedWheelTimer.Timeout::cancel);
+
+        CountDownLatch fired = new CountDownLatch(1);
+        timer.newTimeout(fired::countDown, 40, TimeUnit.MILLISECONDS);
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(cancelledFired).isFalse();
+        assertThat(timeouts).allMatch(HashedWheelTimer.Timeout::isCancelled);
+        assertThat(timer.pendingTimeouts()).isZero();
+    }
+
+    @Test
+    public void newTimeout_afterTimerWasIdle_fires() throws InterruptedException {
+        CountDownLatch first = new CountDownLatch(1);
+        timer.newTimeout(first::countDown, 1, TimeUnit.MILLISECONDS);
+        assertThat(first.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Thread.sleep(50);
+
+        CountDownLatch second = new CountDownLatch(1);
+        timer.newTimeout(second::countDown, 1, TimeUnit.MILLISECONDS);
+        assertThat(second.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void newTimeout_failingTask_doesNotStopTimer() throws InterruptedException {
+        timer.newTimeout(() -> {
+            throw new RuntimeException("boom");
+        }, 1, TimeUnit.MILLISECONDS);
+        CountDownLatch fired = new CountDownLatch(1);
+        timer.newTimeout(fired::countDown, 10, TimeUnit.MILLISECONDS);
+
+        assertThat(fired.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void newTimeout_stoppedTimer_throws() {
+        timer.newTimeout(() -> { }, 1, TimeUnit.MILLISECONDS);
+        timer.stop();
+
+        assertThatThrownBy(() -> timer.newTimeout(() -> { }, 1, TimeUnit.MILLISECONDS))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.pagination.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.pagination.async.AsyncPageFetcher;
+
+public class PagePrefetcherTest {
+    @Test
+    public void nothingIsFetchedBeforeTheFirstPageIsRequested() {
+        ManualPageFetcher fetcher = new ManualPageFetcher(5);
+        PagePrefetcher<Integer> prefetcher = new PagePrefetcher<>(fetcher, 2);
+
+        assertThat(prefetcher.hasNextPage()).isTrue();
+        assertThat(fetcher.requests).isEmpty();
+    }
+
+    @Test
+    public void nextPage_fetchesAheadUpToPrefetchPages() {
+        ManualPageFetcher fetcher = new ManualPageFetcher(5);
+        PagePrefetcher<Integer> prefetcher = new PagePrefetcher<>(fetcher, 2);
+
+        CompletableFuture<Integer> first = prefetcher.nextPage();
+        assertThat(fetcher.requests).hasSize(1);
+        fetcher.completeRequest(0);
+        assertThat(first).isCompletedWithValue(1);
+
+        // Page 2 is requested before page 1 is handed over, then page 3
+        fetcher.completeRequest(1);
+        fetcher.completeRequest(2);
+        assertThat(fetcher.requests).hasSize(3);
+        assertThat(prefetcher.bufferedPages()).isEqualTo(2);
+
+        assertThat(prefetcher.nextPage()).isCompletedWithValue(2);
+        assertThat(fetcher.requests).hasSize(4);
+        assertThat(prefetcher.nextPage()).isCompletedWithValue(3);
+        assertThat(fetcher.requests).hasSize(4);
+    }
+
+    @Test
+    public void hasNextPage_falseOnceTheLastPageIsReturned() {
+        ManualPageFetcher fetcher = new ManualPageFetcher(2);
+        PagePrefetcher<Integer> prefetcher = new PagePrefetcher<>(fetcher, 3);
+
+        prefetcher.nextPage();
+        fetcher.completeRequest(0);
+        fetcher.completeRequest(1);
+        assertThat(fetcher.requests).hasSize(2);
+        assertThat(prefetcher.hasNextPage()).isTrue();
+
+        assertThat(prefetcher.nextPage()).isCompletedWithValue(2);
+        assertThat(prefetcher.hasNextPage()).isFalse();
+    }
+
+    @Test
+    public void hasNextPage_isDecidedWhenThePageIsFetched() {
+        // Like the fetchers of APIs that return the same token on the last page, this fetcher remembers the last token it sent
+        StatefulPageFetcher fetcher = new StatefulPageFetcher();
+        PagePrefetcher<String> prefetcher = new PagePrefetcher<>(fetcher, 3);
+
+        List<String> pages = new ArrayList<>();
+        while (prefetcher.hasNextPage()) {
+            pages.add(prefetcher.nextPage().join());
+        }
+
+        assertThat(pages).containsExactly("a", "b", "b");
+    }
+
+    @Test
+    public void failure_isReturnedAfterTheFetchedPages() {
+        ManualPageFetcher fetcher = new ManualPageFetcher(5);
+        PagePrefetcher<Integer> prefetcher = new PagePrefetcher<>(fetcher, 2);
+        RuntimeException failure = new RuntimeException("boom");
+
+        prefetcher.nextPage();
+        fetcher.completeRequest(0);
+        fetcher.completeRequest(1);
+        fetcher.requests.get(2).completeExceptionally(failure);
+
+        assertThat(prefetcher.nextPage()).isCompletedWithValue(2);
+        assertThat(prefetcher.hasNextPage()).isTrue();
+        CompletableFuture<Integer> failed = prefetcher.nextPage();
+        assertThat(failed).isCompletedExceptionally();
+        assertThat(failed.handle((r, t) -> t instanceof CompletionException ? t.getCause() : t).join()).isSameAs(failure);
+    }
+
+    @Test
+    public void close_dropsFetchedPagesAndStopsFetching() {
+        ManualPageFetcher fetcher = new ManualPageFetcher(5);
+        PagePrefetcher<Integer> prefetcher = new PagePrefetcher<>(fetcher, 2);
+
+        prefetcher.nextPage();
+        fetcher.completeRequest(0);
+        fetcher.completeRequest(1);
+        prefetcher.close();
+        fetcher.completeRequest(2);
+
+        assertThat(prefetcher.bufferedPages()).isZero();
+        assertThat(fetcher.requests).hasSize(3);
+    }
+
+    /**
+     * Returns the pages 1 to {@code lastPage}, each one when the test completes its request.
+     */
+    private static final class ManualPageFetcher implements AsyncPageFetcher<Integer> {
+        private final int lastPage;
+        private final List<CompletableFuture<Integer>> requests = new ArrayList<>();
+
+        private ManualPageFetcher(int lastPage) {
+            this.lastPage = lastPage;
+        }
+
+        @Override
+        public boolean hasNextPage(Integer oldPage) {
+            return oldPage < lastPage;
+        }
+
+        @Override
+        public CompletableFuture<Integer> nextPage(Integer oldPage) {
+            CompletableFuture<Integer> request = new CompletableFuture<>();
+            requests.add(request);
+            return request;
+        }
+
+        private void completeRequest(int index) {
+            requests.get(index).complete(index + 1);
+        }
+    }
+
+    private static final class StatefulPageFetcher implements AsyncPageFetcher<String> {
+        private String lastToken;
+
+        @Override
+        public boolean hasNextPage(String oldPage) {
+            return !oldPage.equals(lastToken);
+        }
+
+        @Override
+        public CompletableFuture<String> nextPage(String oldPage) {
+            lastToken = oldPage;
+            return CompletableFuture.completedFuture(oldPage == null ? "a" : "b");
+        }
+    }
+}
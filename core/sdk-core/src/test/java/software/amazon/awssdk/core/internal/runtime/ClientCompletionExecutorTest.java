@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ClientCompletionExecutorTest {
+    @Test
+    public void queueDepth_countsTasksThatHaveNotStarted() {
+        List<Runnable> queue = new ArrayList<>();
+        ClientCompletionExecutor executor = new ClientCompletionExecutor(queue::add);
+        AtomicInteger ran = new AtomicInteger();
+
+        executor.execute(ran::incrementAndGet);
+        executor.execute(ran::incrementAndGet);
+        assertThat(executor.queueDepth()).isEqualTo(2);
+
+        queue.remove(0).run();
+        assertThat(executor.queueDepth()).isEqualTo(1);
+        queue.remove(0).run();
+        assertThat(executor.queueDepth()).isZero();
+        assertThat(ran).hasValue(2);
+    }
+
+    @Test
+    public void queueDepth_rejectedTasksAreNotCounted() {
+        ClientCompletionExecutor executor = new ClientCompletionExecutor(r -> {
+            throw new RejectedExecutionException();
+        });
+
+        assertThatThrownBy(() -> executor.execute(() -> { })).isInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.queueDepth()).isZero();
+    }
+
+    @Test
+    public void clientViews_shareOneExecutor() {
+        DefaultSdkRuntime runtime = (DefaultSdkRuntime) DefaultSdkRuntime.builder().futureCompletionMaxThreads(1).build();
+        try {
+            assertThat(runtime.futureCompletionExecutor()).isNotSameAs(runtime.futureCompletionExecutor());
+            assertThat(runtime.scheduledExecutor().isShutdown()).isFalse();
+        } finally {
+            runtime.close();
+        }
+        assertThat(runtime.isShutdown()).isTrue();
+    }
+
+    @Test
+    public void saturatedExecutor_completesOverflowOnTheCallerThread() throws InterruptedException {
+        DefaultSdkRuntime runtime = (DefaultSdkRuntime) DefaultSdkRuntime.builder()
+                                                                         .futureCompletionMaxThreads(1)
+                                                                         .futureCompletionQueueCapacity(1)
+                                                                         .build();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        try {
+            ClientCompletionExecutor executor = runtime.futureCompletionExecutor();
+            executor.execute(() -> {
+                started.countDown();
+                awaitUninterruptibly(blocked);
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            executor.execute(() -> { });
+
+            AtomicReference<Thread> overflowThread = new AtomicReference<>();
+            executor.execute(() -> overflowThread.set(Thread.currentThread()));
+
+            assertThat(overflowThread).hasValue(Thread.currentThread());
+            assertThat(executor.queueDepth()).isEqualTo(1);
+        } finally {
+            blocked.countDown();
+            runtime.close();
+        }
+    }
+
+    @Test
+    public void closedRuntime_rejectsCompletions() {
+        DefaultSdkRuntime runtime = (DefaultSdkRuntime) DefaultSdkRuntime.builder().build();
+        ClientCompletionExecutor executor = runtime.futureCompletionExecutor();
+        runtime.close();
+
+        assertThatThrownBy(() -> executor.execute(() -> { })).isInstanceOf(RejectedExecutionException.class);
+        assertThat(executor.queueDepth()).isZero();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
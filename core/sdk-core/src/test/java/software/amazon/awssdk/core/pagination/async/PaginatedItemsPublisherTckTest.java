@@ -60,11 +60,11 @@ public class PaginatedItemsPublisherTckTest extends PublisherVerification<Long>
     /**
      * Simple {@link AsyncPageFetcher} that returns lists of longs as pages.
      */
-    private static class PageFetcher implements AsyncPageFetcher<List<Long>> {
+    static class PageFetcher implements AsyncPageFetcher<List<Long>> {
         private final long maxVal;
         private final long step;
 
-        private PageFetcher(long maxVal, long step) {
+        PageFetcher(long maxVal, long step) {
             this.maxVal = maxVal;
             this.step = step;
         }
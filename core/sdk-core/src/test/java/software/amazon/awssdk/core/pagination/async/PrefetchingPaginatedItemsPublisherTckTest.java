@@ -0,0 +1,52 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.pagination.async;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.tck.PublisherVerification;
+import org.reactivestreams.tck.TestEnvironment;
+
+/**
+ * TCK verification test for {@link PaginatedItemsPublisher} with pages fetched ahead of demand.
+ */
+public class PrefetchingPaginatedItemsPublisherTckTest extends PublisherVerification<Long> {
+
+    public PrefetchingPaginatedItemsPublisherTckTest() {
+        super(new TestEnvironment());
+    }
+
+    @Override
+    public Publisher<Long> createPublisher(long l) {
+        Function<List<Long>, Iterator<Long>> getIterator = response -> response != null ? response.iterator()
+                                                                                        : Collections.emptyIterator();
+
+        return PaginatedItemsPublisher.builder()
+                                      .nextPageFetcher(new PaginatedItemsPublisherTckTest.PageFetcher(l, 5))
+                                      .iteratorFunction(getIterator)
+                                      .isLastPage(false)
+                                      .prefetchPages(3)
+                                      .build();
+    }
+
+    @Override
+    public Publisher<Long> createFailedPublisher() {
+        return null;
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class SdkOwnedCollectionsTest {
+    @Test
+    public void wrapList_doesNotCopy() {
+        List<String> list = new ArrayList<>(Arrays.asList("a", "b"));
+        SdkOwnedList<String> owned = SdkOwnedList.wrap(list);
+
+        list.add("c");
+
+        assertThat(owned).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void wrapList_isUnmodifiable() {
+        SdkOwnedList<String> owned = SdkOwnedList.wrap(new ArrayList<>(Arrays.asList("a", "b")));
+
+        assertThatThrownBy(() -> owned.add("c")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> owned.set(0, "c")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> owned.remove(0)).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(owned::clear).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> owned.iterator().remove()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> owned.subList(0, 1).clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void wrapList_equalsAndHashCodeMatchList() {
+        List<String> other = Arrays.asList("a", "b");
+        SdkOwnedList<String> owned = SdkOwnedList.wrap(new ArrayList<>(other));
+
+        assertThat(owned).isEqualTo(other);
+        assertThat(other).isEqualTo(owned);
+        assertThat(owned.hashCode()).isEqualTo(other.hashCode());
+        assertThat(owned.toString()).isEqualTo(other.toString());
+    }
+
+    @Test
+    public void reuseList_returnsSameInstance() {
+        Collection<? extends Collection<String>> owned =
+            SdkOwnedList.wrap(new ArrayList<>(Collections.singletonList(SdkOwnedList.wrap(new ArrayList<>()))));
+
+        List<List<String>> reused = SdkOwnedList.reuse(owned);
+
+        assertThat(reused).isSameAs(owned);
+    }
+
+    @Test
+    public void reuseList_notOwned_throws() {
+        assertThatThrownBy(() -> SdkOwnedList.reuse(new ArrayList<>())).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void wrapMap_doesNotCopy() {
+        Map<String, String> map = new LinkedHashMap<>();
+        SdkOwnedMap<String, String> owned = SdkOwnedMap.wrap(map);
+
+        map.put("a", "b");
+
+        assertThat(owned).containsExactly(entry("a", "b"));
+    }
+
+    @Test
+    public void wrapMap_isUnmodifiable() {
+        Map<String, String> map = new HashMap<>();
+        map.put("a", "b");
+        SdkOwnedMap<String, String> owned = SdkOwnedMap.wrap(map);
+
+        assertThatThrownBy(() -> owned.put("c", "d")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> owned.remove("a")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(owned::clear).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> owned.entrySet().iterator().next().setValue("c"))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> owned.keySet().remove("a")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> owned.values().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void wrapMap_equalsAndHashCodeMatchMap() {
+        Map<String, String> other = new HashMap<>();
+        other.put("a", "b");
+        SdkOwnedMap<String, String> owned = SdkOwnedMap.wrap(new HashMap<>(other));
+
+        assertThat(owned).isEqualTo(other);
+        assertThat(other).isEqualTo(owned);
+        assertThat(owned.hashCode()).isEqualTo(other.hashCode());
+        assertThat(owned.toString()).isEqualTo(other.toString());
+    }
+
+    @Test
+    public void reuseMap_returnsSameInstance() {
+        Map<String, ? extends Collection<String>> owned =
+            SdkOwnedMap.wrap(new HashMap<>(Collections.singletonMap("a", SdkOwnedList.wrap(new ArrayList<>()))));
+
+        Map<String, List<String>> reused = SdkOwnedMap.reuse(owned);
+
+        assertThat(reused).isSameAs(owned);
+    }
+
+    @Test
+    public void serialization_roundTrips() throws Exception {
+        Map<String, List<String>> map = new LinkedHashMap<>();
+        map.put("a", SdkOwnedList.wrap(new ArrayList<>(Arrays.asList("b", "c"))));
+        SdkOwnedMap<String, List<String>> owned = SdkOwnedMap.wrap(map);
+
+        ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(byteOut)) {
+            objectOut.writeObject(owned);
+        }
+
+        Object deserialized;
+        try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(byteOut.toByteArray()))) {
+            deserialized = objectIn.readObject();
+        }
+
+        assertThat(deserialized).isInstanceOf(SdkOwnedMap.class).isEqualTo(owned);
+        assertThat(((Map<?, ?>) deserialized).get("a")).isInstanceOf(SdkOwnedList.class);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.waiters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+public class BatchingAsyncWaiterTest {
+    private static final String READY = "ready";
+    private static final String PENDING = "pending";
+    private static final String FAILED = "failed";
+    @SuppressWarnings("unchecked")
+    private static final Class<Map<String, String>> RESPONSE_CLASS = (Class<Map<String, String>>) (Class<?>) Map.class;
+
+    private ScheduledExecutorService executorService;
+    private List<List<String>> calls;
+    private Map<String, AtomicInteger> pollsUntilReady;
+
+    @BeforeEach
+    public void setUp() {
+        // A single thread makes the batches of an attempt deterministic: the next tick cannot start before the responses of
+        // the previous one have been handled.
+        executorService = Executors.newSingleThreadScheduledExecutor();
+        calls = new CopyOnWriteArrayList<>();
+        pollsUntilReady = new ConcurrentHashMap<>();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void manyWaits_areCoalescedIntoBatchedCalls() {
+        BatchingAsyncWaiter<String, Map<String, String>> waiter = waiterBuilder().maxBatchSize(100).build();
+
+        List<CompletableFuture<WaiterResponse<Map<String, String>>>> futures = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            String id = "resource-" + i;
+            pollsUntilReady.put(id, new AtomicInteger(3));
+            futures.add(waiter.runAsync(id));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            WaiterResponse<Map<String, String>> response = futures.get(i).join();
+            assertThat(response.attemptsExecuted()).isEqualTo(3);
+            assertThat(response.matched().response()).contains(Collections.singletonMap("resource-" + i, READY));
+        }
+
+        assertThat(calls).hasSize(9);
+        assertThat(calls).allSatisfy(ids -> assertThat(ids).hasSizeLessThanOrEqualTo(100).doesNotHaveDuplicates());
+    }
+
+    @Test
+    public void waitsOnTheSameResource_shareAPoll() {
+        BatchingAsyncWaiter<String, Map<String, String>> waiter = waiterBuilder().build();
+        pollsUntilReady.put("resource", new AtomicInteger(1));
+
+        CompletableFuture<WaiterResponse<Map<String, String>>> first = waiter.runAsync("resource");
+        CompletableFuture<WaiterResponse<Map<String, String>>> second = waiter.runAsync("resource");
+
+        assertThat(first.join().attemptsExecuted()).isEqualTo(1);
+        assertThat(second.join().attemptsExecuted()).isEqualTo(1);
+        assertThat(calls).containsExactly(Collections.singletonList("resource"));
+    }
+
+    @Test
+    public void failureAcceptor_onlyFailsTheMatchingWait() {
+        BatchingAsyncWaiter<String, Map<String, String>> waiter = waiterBuilder().build();
+        pollsUntilReady.put("good", new AtomicInteger(2));
+        pollsUntilReady.put("bad", new AtomicInteger(-1));
+
+        CompletableFuture<WaiterResponse<Map<String, String>>> good = waiter.runAsync("good");
+        CompletableFuture<WaiterResponse<Map<String, String>>> bad = waiter.runAsync("bad");
+
+        assertThat(good.join().attemptsExecuted()).isEqualTo(2);
+        assertThatThrownBy(bad::join).hasMessageContaining("resource failed");
+        assertThat(calls.get(0)).containsExactly("good", "bad");
+    }
+
+    @Test
+    public void overrideConfiguration_appliesPerWait() {
+        BatchingAsyncWaiter<String, Map<String, String>> waiter = waiterBuilder().build();
+        pollsUntilReady.put("patient", new AtomicInteger(3));
+        pollsUntilReady.put("impatient", new AtomicInteger(3));
+
+        CompletableFuture<WaiterResponse<Map<String, String>>> patient = waiter.runAsync("patient");
+        CompletableFuture<WaiterResponse<Map<String, String>>> impatient =
+            waiter.runAsync("impatient", o -> o.maxAttempts(1));
+
+        assertThat(patient.join().attemptsExecuted()).isEqualTo(3);
+        assertThatThrownBy(impatient::join).hasMessageContaining("max retry attempts");
+        assertThat(calls.get(0)).containsExactly("patient", "impatient");
+    }
+
+    @Test
+    public void pollingFailure_isMatchedByEveryWaitOfTheBatch() {
+        AtomicInteger failures = new AtomicInteger(1);
+        BatchingAsyncWaiter<String, Map<String, String>> waiter =
+            waiterBuilder().batchPollingFunction(ids -> {
+                               calls.add(ids);
+                               if (failures.getAndDecrement() > 0) {
+                                   return CompletableFutureUtils.failedFuture(new IllegalStateException("throttled"));
+                               }
+                               return CompletableFuture.completedFuture(ids.stream()
+                                                                           .collect(Collectors.toMap(id -> id, id -> READY)));
+                           })
+                           .addAcceptor(WaiterAcceptor.retryOnExceptionAcceptor(e -> e instanceof IllegalStateException))
+                           .build();
+
+        CompletableFuture<WaiterResponse<Map<String, String>>> first = waiter.runAsync("first");
+        CompletableFuture<WaiterResponse<Map<String, String>>> second = waiter.runAsync("second");
+
+        assertThat(first.join().attemptsExecuted()).isEqualTo(2);
+        assertThat(second.join().attemptsExecuted()).isEqualTo(2);
+        assertThat(calls).hasSize(2);
+    }
+
+    @Test
+    public void resourceResponseFunctionThrows_failsTheWait() {
+        BatchingAsyncWaiter<String, Map<String, String>> waiter =
+            waiterBuilder().resourceResponseFunction((response, id) -> {
+                throw new IllegalArgumentException("bad response");
+            }).build();
+        pollsUntilReady.put("resource", new AtomicInteger(1));
+
+        assertThatThrownBy(() -> waiter.runAsync("resource").join()).hasMessageContaining("Encountered unexpected exception")
+                                                                   .hasRootCauseMessage("bad response");
+    }
+
+    @Test
+    public void cancelledWait_isNotPolledAgain() throws InterruptedException {
+        BatchingAsyncWaiter<String, Map<String, String>> waiter =
+            waiterBuilder().overrideConfiguration(o -> o.maxAttempts(100)
+                                                        .backoffStrategy(BackoffStrategy.none()))
+                           .batchWindow(Duration.ofMillis(200))
+                           .build();
+        pollsUntilReady.put("resource", new AtomicInteger(100));
+
+        waiter.runAsync("resource").cancel(false);
+        Thread.sleep(400);
+
+        assertThat(calls).isEmpty();
+    }
+
+    @Test
+    public void missingScheduledExecutor_shouldThrowException() {
+        assertThatThrownBy(() -> BatchingAsyncWaiter.builder(String.class, String.class)
+                                                    .batchPollingFunction(ids -> CompletableFuture.completedFuture("response"))
+                                                    .resourceResponseFunction((response, id) -> response)
+                                                    .build())
+            .hasMessageContaining("executorService");
+    }
+
+    private BatchingAsyncWaiter.Builder<String, Map<String, String>> waiterBuilder() {
+        return BatchingAsyncWaiter.builder(String.class, RESPONSE_CLASS)
+                                  .scheduledExecutorService(executorService)
+                                  .batchPollingFunction(this::describe)
+                                  .resourceResponseFunction((response, id) -> Collections.singletonMap(id, response.get(id)))
+                                  .batchWindow(Duration.ofMillis(50))
+                                  .overrideConfiguration(o -> o.maxAttempts(5).backoffStrategy(BackoffStrategy.none()))
+                                  .addAcceptor(WaiterAcceptor.successOnResponseAcceptor(r -> r.containsValue(READY)))
+                                  .addAcceptor(WaiterAcceptor.errorOnResponseAcceptor(r -> r.containsValue(FAILED), "resource failed"))
+                                  .addAcceptor(WaiterAcceptor.retryOnResponseAcceptor(r -> r.containsValue(PENDING)));
+    }
+
+    private CompletableFuture<Map<String, String>> describe(List<String> ids) {
+        calls.add(ids);
+        assertThat(new HashSet<>(ids)).hasSameSizeAs(ids);
+        return CompletableFuture.completedFuture(ids.stream().collect(Collectors.toMap(id -> id, this::state)));
+    }
+
+    private String state(String id) {
+        int remaining = pollsUntilReady.get(id).decrementAndGet();
+        if (remaining < 0) {
+            return FAILED;
+        }
+        return remaining == 0 ? READY : PENDING;
+    }
+}
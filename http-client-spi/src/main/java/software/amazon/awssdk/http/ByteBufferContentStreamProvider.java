@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link ContentStreamProvider} for content that is already in memory, such as a marshalled request body.
+ * <p>
+ * Besides streams, it gives consumers that can work with buffers, such as signers and async content publishers, read-only
+ * access to the content itself, so that they don't need to read it into another array.
+ */
+@SdkProtectedApi
+public final class ByteBufferContentStreamProvider implements ContentStreamProvider {
+    private final byte[] content;
+
+    private ByteBufferContentStreamProvider(byte[] content) {
+        this.content = content;
+    }
+
+    /**
+     * Create a {@link ByteBufferContentStreamProvider} from a byte array <b>without</b> copying it. The caller must not
+     * modify the array afterwards.
+     */
+    public static ByteBufferContentStreamProvider fromByteArrayUnsafe(byte[] content) {
+        Validate.paramNotNull(content, "content");
+        return new ByteBufferContentStreamProvider(content);
+    }
+
+    @Override
+    public InputStream newStream() {
+        return new ByteArrayInputStream(content);
+    }
+
+    /**
+     * Return a new read-only buffer over the content, positioned at its beginning.
+     */
+    public ByteBuffer byteBuffer() {
+        return ByteBuffer.wrap(content).asReadOnlyBuffer();
+    }
+
+    /**
+     * Return the length of the content, in bytes.
+     */
+    public int contentLength() {
+        return content.length;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.http.SdkHttpExecutionAttribute;
+
+/**
+ * {@link SdkHttpExecutionAttribute}s that control whether an HTTP client may publish a response body as pooled buffers, see
+ * {@link PooledByteBuffers}.
+ */
+@SdkProtectedApi
+public final class PooledByteBufferAttribute<T> extends SdkHttpExecutionAttribute<T> {
+
+    /**
+     * Set on a request when its response body is consumed by a subscriber that supports pooled buffers, and is delivered
+     * to it without being queued or handed to another thread.
+     */
+    public static final PooledByteBufferAttribute<Boolean> RESPONSE_SUBSCRIBER_SUPPORTED =
+        new PooledByteBufferAttribute<>(Boolean.class);
+
+    private PooledByteBufferAttribute(Class<T> valueClass) {
+        super(valueClass);
+    }
+}
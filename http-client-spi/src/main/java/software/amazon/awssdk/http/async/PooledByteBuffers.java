@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Lets HTTP clients publish response body buffers that they borrowed from a buffer pool, without copying them first.
+ * <p>
+ * A pooled buffer is only valid while the {@link Subscriber#onNext(Object)} call that delivers it is running. When it
+ * returns, the HTTP client gives the memory back to the pool and it may be overwritten. Subscribers that consume a buffer
+ * after {@code onNext} returns, for example with an asynchronous write, take over releasing it by calling
+ * {@link #retainCurrent()} from within {@code onNext}, and running the returned release action once they are done with it.
+ * <p>
+ * Buffers that were not published through {@link #publish} are owned by the subscriber, as usual.
+ * <p>
+ * This only works if every buffer reaches the subscriber that consumes it within the {@code onNext} call of the HTTP client,
+ * so a publisher in between must not queue buffers or hand them to another thread. An HTTP client must therefore only
+ * publish pooled buffers for requests whose response body subscriber declared that it supports them, see
+ * {@link #isSupported(AsyncExecuteRequest)}, and copy the buffers of all other requests.
+ */
+@SdkProtectedApi
+public final class PooledByteBuffers {
+    private static final ThreadLocal<Delivery> CURRENT_DELIVERY = new ThreadLocal<>();
+
+    private PooledByteBuffers() {
+    }
+
+    /**
+     * @return True if the response body of the request may be published with {@link #publish}.
+     */
+    public static boolean isSupported(AsyncExecuteRequest request) {
+        Boolean supported = request.httpExecutionAttributes()
+                                   .getAttribute(PooledByteBufferAttribute.RESPONSE_SUBSCRIBER_SUPPORTED);
+        return Boolean.TRUE.equals(supported);
+    }
+
+    /**
+     * Delivers a pooled buffer to the subscriber, and runs {@code release} once {@code onNext} has returned and every
+     * subscriber that retained the buffer has released it.
+     *
+     * @param subscriber The subscriber to deliver the buffer to.
+     * @param buffer A read-only view of the pooled memory.
+     * @param release Gives the pooled memory back. It is run exactly once, on whichever thread releases the buffer last.
+     */
+    public static void publish(Subscriber<? super ByteBuffer> subscriber, ByteBuffer buffer, Runnable release) {
+        Delivery previous = CURRENT_DELIVERY.get();
+        Delivery delivery = new Delivery(release);
+        CURRENT_DELIVERY.set(delivery);
+        try {
+            subscriber.onNext(buffer);
+        } finally {
+            CURRENT_DELIVERY.set(previous);
+            delivery.release();
+        }
+    }
+
+    /**
+     * Keeps the pooled buffer that is currently being delivered on this thread valid after {@code onNext} returns.
+     *
+     * @return The action that must be run once the buffer is no longer used, or empty if the buffer being delivered is not
+     * pooled and is owned by the subscriber.
+     */
+    public static Optional<Runnable> retainCurrent() {
+        Delivery delivery = CURRENT_DELIVERY.get();
+        if (delivery == null) {
+            return Optional.empty();
+        }
+        delivery.retain();
+        AtomicBoolean released = new AtomicBoolean();
+        return Optional.of(() -> {
+            if (released.compareAndSet(false, true)) {
+                delivery.release();
+            }
+        });
+    }
+
+    private static final class Delivery {
+        private final AtomicInteger references = new AtomicInteger(1);
+        private final Runnable release;
+
+        private Delivery(Runnable release) {
+            this.release = release;
+        }
+
+        private void retain() {
+            references.incrementAndGet();
+        }
+
+        private void release() {
+            if (references.decrementAndGet() == 0) {
+                release.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.IoUtils;
+
+class ByteBufferContentStreamProviderTest {
+    private static final byte[] CONTENT = "foo".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void fromByteArrayUnsafe_failsOnNull() {
+        assertThatThrownBy(() -> ByteBufferContentStreamProvider.fromByteArrayUnsafe(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void newStream_containsContent() throws IOException {
+        ByteBufferContentStreamProvider provider = ByteBufferContentStreamProvider.fromByteArrayUnsafe(CONTENT);
+
+        assertThat(IoUtils.toByteArray(provider.newStream())).isEqualTo(CONTENT);
+        assertThat(IoUtils.toByteArray(provider.newStream())).isEqualTo(CONTENT);
+        assertThat(provider.contentLength()).isEqualTo(CONTENT.length);
+    }
+
+    @Test
+    void byteBuffer_isIndependentAndReadOnly() {
+        ByteBufferContentStreamProvider provider = ByteBufferContentStreamProvider.fromByteArrayUnsafe(CONTENT);
+
+        ByteBuffer first = provider.byteBuffer();
+        first.get();
+        ByteBuffer second = provider.byteBuffer();
+
+        assertThat(second.remaining()).isEqualTo(CONTENT.length);
+        assertThat(second).isEqualTo(ByteBuffer.wrap(CONTENT));
+        assertThat(second.isReadOnly()).isTrue();
+        assertThatThrownBy(() -> second.put(0, (byte) 'b')).isInstanceOf(ReadOnlyBufferException.class);
+    }
+}
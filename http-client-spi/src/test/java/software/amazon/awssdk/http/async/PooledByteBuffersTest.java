@@ -0,0 +1,149 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+
+public class PooledByteBuffersTest {
+    private final AtomicInteger releases = new AtomicInteger();
+    private final ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, 3}).asReadOnlyBuffer();
+
+    @Test
+    public void publish_notRetained_releasesWhenOnNextReturns() {
+        List<ByteBuffer> received = new ArrayList<>();
+
+        PooledByteBuffers.publish(subscriber(b -> {
+            received.add(b);
+            assertThat(releases).hasValue(0);
+        }), buffer, releases::incrementAndGet);
+
+        assertThat(received).containsExactly(buffer);
+        assertThat(releases).hasValue(1);
+    }
+
+    @Test
+    public void publish_retained_releasesWhenRetainerReleases() {
+        List<Runnable> retained = new ArrayList<>();
+
+        PooledByteBuffers.publish(subscriber(b -> retained.add(PooledByteBuffers.retainCurrent().get())),
+                                  buffer, releases::incrementAndGet);
+
+        assertThat(releases).hasValue(0);
+        retained.get(0).run();
+        assertThat(releases).hasValue(1);
+        retained.get(0).run();
+        assertThat(releases).hasValue(1);
+    }
+
+    @Test
+    public void publish_retainedTwice_releasesWhenBothRetainersRelease() {
+        List<Runnable> retained = new ArrayList<>();
+
+        PooledByteBuffers.publish(subscriber(b -> {
+            retained.add(PooledByteBuffers.retainCurrent().get());
+            retained.add(PooledByteBuffers.retainCurrent().get());
+        }), buffer, releases::incrementAndGet);
+
+        retained.get(1).run();
+        assertThat(releases).hasValue(0);
+        retained.get(0).run();
+        assertThat(releases).hasValue(1);
+    }
+
+    @Test
+    public void publish_onNextThrows_releasesAndRethrows() {
+        assertThatThrownBy(() -> PooledByteBuffers.publish(subscriber(b -> {
+            throw new IllegalStateException("boom");
+        }), buffer, releases::incrementAndGet)).hasMessage("boom");
+
+        assertThat(releases).hasValue(1);
+    }
+
+    @Test
+    public void retainCurrent_outsidePublish_isEmpty() {
+        assertThat(PooledByteBuffers.retainCurrent()).isEmpty();
+
+        PooledByteBuffers.publish(subscriber(b -> { }), buffer, releases::incrementAndGet);
+
+        assertThat(PooledByteBuffers.retainCurrent()).isEmpty();
+    }
+
+    @Test
+    public void retainCurrent_nestedPublish_retainsInnermostBuffer() {
+        AtomicInteger innerReleases = new AtomicInteger();
+        List<Optional<Runnable>> retained = new ArrayList<>();
+
+        PooledByteBuffers.publish(subscriber(outer -> {
+            PooledByteBuffers.publish(subscriber(inner -> retained.add(PooledByteBuffers.retainCurrent())),
+                                      buffer, innerReleases::incrementAndGet);
+        }), buffer, releases::incrementAndGet);
+
+        assertThat(releases).hasValue(1);
+        assertThat(innerReleases).hasValue(0);
+        retained.get(0).get().run();
+        assertThat(innerReleases).hasValue(1);
+    }
+
+    @Test
+    public void isSupported_onlyWhenRequestDeclaresIt() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .method(SdkHttpMethod.GET)
+                                               .uri(URI.create("http://localhost"))
+                                               .build();
+        AsyncExecuteRequest.Builder executeRequest = AsyncExecuteRequest.builder().request(request);
+
+        assertThat(PooledByteBuffers.isSupported(executeRequest.build())).isFalse();
+        executeRequest.putHttpExecutionAttribute(PooledByteBufferAttribute.RESPONSE_SUBSCRIBER_SUPPORTED, false);
+        assertThat(PooledByteBuffers.isSupported(executeRequest.build())).isFalse();
+        executeRequest.putHttpExecutionAttribute(PooledByteBufferAttribute.RESPONSE_SUBSCRIBER_SUPPORTED, true);
+        assertThat(PooledByteBuffers.isSupported(executeRequest.build())).isTrue();
+    }
+
+    private static Subscriber<ByteBuffer> subscriber(Consumer<ByteBuffer> onNext) {
+        return new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                onNext.accept(byteBuffer);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        };
+    }
+}
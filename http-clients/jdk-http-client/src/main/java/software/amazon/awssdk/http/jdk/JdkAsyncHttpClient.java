@@ -0,0 +1,270 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import org.reactivestreams.FlowAdapters;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpClientFactory;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpRequests;
+import software.amazon.awssdk.http.jdk.internal.ResponseBodyPublisher;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that uses the {@link HttpClient} of the JDK to communicate with the service.
+ * It requires Java 11 or later.
+ *
+ * <p>The request and response bodies are streamed through the {@link Flow} interfaces of the JDK's client, without any
+ * intermediate buffering. With {@link Protocol#HTTP2}, the requests to a host are multiplexed over a single connection.
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JdkAsyncHttpClient implements SdkAsyncHttpClient {
+    private static final String CLIENT_NAME = "JdkHttp";
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+
+    private JdkAsyncHttpClient(AttributeMap options, DefaultBuilder builder) {
+        this.httpClient = JdkHttpClientFactory.create(options, builder.executor);
+        this.requestTimeout = builder.requestTimeout;
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JdkAsyncHttpClient} with the default properties
+     *
+     * @return a {@link JdkAsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest asyncRequest) {
+        SdkAsyncHttpResponseHandler responseHandler = asyncRequest.responseHandler();
+        CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+
+        HttpRequest jdkRequest;
+        try {
+            jdkRequest = JdkHttpRequests.toJdkRequest(asyncRequest.request(), bodyPublisher(asyncRequest), requestTimeout);
+        } catch (RuntimeException e) {
+            responseHandler.onError(e);
+            executeFuture.completeExceptionally(e);
+            return executeFuture;
+        }
+
+        BodyHandler<Flow.Publisher<List<ByteBuffer>>> bodyHandler = responseInfo -> {
+            responseHandler.onHeaders(JdkHttpRequests.toSdkResponse(responseInfo.statusCode(), responseInfo.headers()));
+            return BodySubscribers.ofPublisher();
+        };
+
+        CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> responseFuture =
+            httpClient.sendAsync(jdkRequest, bodyHandler);
+
+        responseFuture.whenComplete((response, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                responseHandler.onError(cause);
+                executeFuture.completeExceptionally(cause);
+                return;
+            }
+            responseHandler.onStream(new ResponseBodyPublisher(response.body(), executeFuture));
+        });
+
+        // Cancelling the response future aborts the exchange, starting with Java 16.
+        executeFuture.whenComplete((r, t) -> {
+            if (executeFuture.isCancelled()) {
+                responseFuture.cancel(true);
+            }
+        });
+
+        return executeFuture;
+    }
+
+    private static BodyPublisher bodyPublisher(AsyncExecuteRequest asyncRequest) {
+        SdkHttpContentPublisher content = asyncRequest.requestContentPublisher();
+        if (content == null) {
+            return JdkHttpRequests.bodyPublisher(asyncRequest.request(), null, Optional.empty());
+        }
+
+        BodyPublisher body = BodyPublishers.fromPublisher(FlowAdapters.toFlowPublisher(content));
+        return JdkHttpRequests.bodyPublisher(asyncRequest.request(), body, content.contentLength());
+    }
+
+    @Override
+    public void close() {
+        JdkHttpClientFactory.close(httpClient);
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    /**
+     * A builder for an instance of {@link SdkAsyncHttpClient} that uses the {@link HttpClient} of the JDK. A builder can be
+     * created via {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkAsyncHttpClient httpClient = JdkAsyncHttpClient.builder()
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .protocol(Protocol.HTTP2)
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<JdkAsyncHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * The amount of time to wait for the response headers of a request, including the time to send the request body.
+         * By default a request waits indefinitely, and is only bounded by the API call timeouts of the SDK client.
+         */
+        Builder requestTimeout(Duration requestTimeout);
+
+        /**
+         * The HTTP protocol to use. {@link Protocol#HTTP2} multiplexes the requests over a single connection per host.
+         * Defaults to {@link Protocol#HTTP1_1}, unless the service defaults to HTTP/2.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * The executor that the JDK's client uses for its asynchronous tasks, including invoking the response handlers of the
+         * SDK. By default the JDK's client creates a cached thread pool.
+         */
+        Builder executor(Executor executor);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Duration requestTimeout;
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        public void setRequestTimeout(Duration requestTimeout) {
+            requestTimeout(requestTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkAsyncHttpClient(standardOptions.build()
+                                                         .merge(serviceDefaults)
+                                                         .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS),
+                                          this);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.net.http.HttpResponse.ResponseInfo;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpClientFactory;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpRequests;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * An implementation of {@link SdkHttpClient} that uses the {@link HttpClient} of the JDK to communicate with the service. It
+ * requires Java 11 or later.
+ *
+ * <p>Unlike the other synchronous clients, the calling thread does not do any I/O: it parks until the JDK's client has
+ * received the response headers, and then reads the response body from a stream that is filled by the JDK's client. This
+ * client does not hold any monitor while it waits, so it can be called from virtual threads without pinning their carrier
+ * thread, and a single connection is multiplexed between the calling threads when {@link Protocol#HTTP2} is used.
+ *
+ * <p>See software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient for an alternative implementation with no
+ * dependency on Java 11.</p>
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JdkHttpClient implements SdkHttpClient {
+    private static final String CLIENT_NAME = "JdkHttp";
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+
+    private JdkHttpClient(AttributeMap options, DefaultBuilder builder) {
+        this.httpClient = JdkHttpClientFactory.create(options, builder.executor);
+        this.requestTimeout = builder.requestTimeout;
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JdkHttpClient} with the default properties
+     *
+     * @return a {@link JdkHttpClient}
+     */
+    public static SdkHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        return new RequestCallable(httpClient, request, requestTimeout);
+    }
+
+    @Override
+    public void close() {
+        JdkHttpClientFactory.close(httpClient);
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    private static final class RequestCallable implements ExecutableHttpRequest {
+        private final HttpClient httpClient;
+        private final HttpExecuteRequest request;
+        private final Duration requestTimeout;
+
+        private volatile CompletableFuture<HttpResponse<InputStream>> responseFuture;
+        private volatile InputStream responseBody;
+        private volatile boolean aborted;
+
+        private RequestCallable(HttpClient httpClient, HttpExecuteRequest request, Duration requestTimeout) {
+            this.httpClient = httpClient;
+            this.request = request;
+            this.requestTimeout = requestTimeout;
+        }
+
+        @Override
+        public HttpExecuteResponse call() throws IOException {
+            SdkHttpRequest sdkRequest = request.httpRequest();
+            HttpRequest jdkRequest = JdkHttpRequests.toJdkRequest(sdkRequest, bodyPublisher(), requestTimeout);
+
+            CompletableFuture<HttpResponse<InputStream>> future = httpClient.sendAsync(jdkRequest, this::bodySubscriber);
+            responseFuture = future;
+            if (aborted) {
+                future.cancel(true);
+            }
+
+            HttpResponse<InputStream> response = awaitResponse(future);
+            InputStream body = response.body();
+
+            AbortableInputStream responseBody = null;
+            if (JdkHttpRequests.responseNeverHasPayload(sdkRequest, response.statusCode())) {
+                invokeSafely(body::close);
+            } else {
+                responseBody = AbortableInputStream.create(body, () -> invokeSafely(body::close));
+            }
+
+            SdkHttpResponse sdkResponse = JdkHttpRequests.toSdkResponse(response.statusCode(), response.headers());
+            return HttpExecuteResponse.builder()
+                                      .response(sdkResponse)
+                                      .responseBody(responseBody)
+                                      .build();
+        }
+
+        /**
+         * Keeps a reference to the response body as soon as the response headers are received, so that {@link #abort()} can
+         * close it. Closing the body cancels the exchange, whether or not the response future was already returned to
+         * {@link #call()}.
+         */
+        private BodySubscriber<InputStream> bodySubscriber(ResponseInfo responseInfo) {
+            BodySubscriber<InputStream> subscriber = BodySubscribers.ofInputStream();
+            subscriber.getBody().thenAccept(this::responseBodyReceived);
+            return subscriber;
+        }
+
+        private void responseBodyReceived(InputStream body) {
+            responseBody = body;
+            if (aborted) {
+                invokeSafely(body::close);
+            }
+        }
+
+        private BodyPublisher bodyPublisher() {
+            Optional<ContentStreamProvider> content = request.contentStreamProvider();
+            BodyPublisher body = content.map(provider -> BodyPublishers.ofInputStream(provider::newStream)).orElse(null);
+            return JdkHttpRequests.bodyPublisher(request.httpRequest(), body, Optional.empty());
+        }
+
+        /**
+         * Wait for the response headers. {@link CompletableFuture#get()} parks the calling thread without holding a monitor,
+         * which unmounts a virtual thread from its carrier instead of pinning it.
+         */
+        private static HttpResponse<InputStream> awaitResponse(CompletableFuture<HttpResponse<InputStream>> future)
+                throws IOException {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+                InterruptedIOException exception = new InterruptedIOException("Interrupted while waiting for the response.");
+                exception.initCause(e);
+                throw exception;
+            } catch (CancellationException e) {
+                throw new IOException("The request was aborted.", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                // From Java 16 on, the JDK's client fails the exchange with a CancellationException when it is cancelled.
+                if (cause instanceof CancellationException) {
+                    throw new IOException("The request was aborted.", cause);
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+
+        /**
+         * Aborts the request. Before the response headers are received, this fails the pending {@link #call()}; the JDK's client
+         * only cancels the exchange itself from Java 16 on, and on older versions the response body is closed as soon as the
+         * headers arrive instead. Once the headers are received, this closes the response body, which cancels the exchange.
+         */
+        @Override
+        public void abort() {
+            aborted = true;
+            CompletableFuture<HttpResponse<InputStream>> future = responseFuture;
+            if (future != null) {
+                future.cancel(true);
+            }
+            InputStream body = responseBody;
+            if (body != null) {
+                invokeSafely(body::close);
+            }
+        }
+    }
+
+    /**
+     * A builder for an instance of {@link SdkHttpClient} that uses the {@link HttpClient} of the JDK. A builder can be created
+     * via {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkHttpClient httpClient = JdkHttpClient.builder()
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .protocol(Protocol.HTTP2)
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkHttpClient.Builder<JdkHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * The amount of time to wait for the response headers of a request, including the time to send the request body.
+         * By default a request waits indefinitely, and is only bounded by the API call timeouts of the SDK client.
+         */
+        Builder requestTimeout(Duration requestTimeout);
+
+        /**
+         * The HTTP protocol to use. {@link Protocol#HTTP2} multiplexes the requests over a single connection per host.
+         * Defaults to {@link Protocol#HTTP1_1}, unless the service defaults to HTTP/2.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * The executor that the JDK's client uses for its asynchronous tasks, like filling the response streams. By default
+         * the JDK's client creates a cached thread pool.
+         */
+        Builder executor(Executor executor);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Duration requestTimeout;
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        public void setRequestTimeout(Duration requestTimeout) {
+            requestTimeout(requestTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkHttpClient(standardOptions.build()
+                                                    .merge(serviceDefaults)
+                                                    .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS),
+                                     this);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
+
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.utils.StringUtils;
+
+/**
+ * Converts between the SDK's HTTP types and the ones of {@code java.net.http}.
+ */
+@SdkInternalApi
+public final class JdkHttpRequests {
+    /**
+     * Headers that {@link HttpRequest.Builder} refuses because the JDK sets them itself: the host comes from the URI, the
+     * content length and transfer encoding from the {@link BodyPublisher}, and the connection headers from the protocol.
+     */
+    private static final Set<String> JDK_MANAGED_HEADERS = Set.of("connection", "content-length", "expect", "host",
+                                                                  "transfer-encoding", "upgrade");
+
+    private JdkHttpRequests() {
+    }
+
+    /**
+     * Create the {@link HttpRequest} for the given SDK request.
+     *
+     * @param request The SDK request.
+     * @param body The body of the request, see {@link #bodyPublisher}.
+     * @param timeout The time to wait for the response headers, or null to wait indefinitely.
+     */
+    public static HttpRequest toJdkRequest(SdkHttpRequest request, BodyPublisher body, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri())
+                                                 .method(request.method().name(), body);
+
+        request.forEachHeader((name, values) -> {
+            String lowerCaseName = StringUtils.lowerCase(name);
+            if ("expect".equals(lowerCaseName)) {
+                builder.expectContinue(values.stream().anyMatch("100-continue"::equalsIgnoreCase));
+            } else if (!JDK_MANAGED_HEADERS.contains(lowerCaseName)) {
+                values.forEach(value -> builder.header(name, value));
+            }
+        });
+
+        if (timeout != null) {
+            builder.timeout(timeout);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Wrap the given body so that it is sent with the content length of the request when there is one, and with chunked
+     * encoding otherwise.
+     *
+     * @param request The SDK request.
+     * @param body The body of the request, or null if the request has no body.
+     * @param bodyContentLength The length of the body when the request has no content length header, if known.
+     */
+    public static BodyPublisher bodyPublisher(SdkHttpRequest request, BodyPublisher body, Optional<Long> bodyContentLength) {
+        if (body == null || request.method() == SdkHttpMethod.HEAD) {
+            return BodyPublishers.noBody();
+        }
+
+        Optional<Long> contentLength = request.firstMatchingHeader(CONTENT_LENGTH).map(Long::parseLong);
+        if (!contentLength.isPresent()) {
+            contentLength = bodyContentLength;
+        }
+
+        if (!contentLength.isPresent()) {
+            return body;
+        }
+
+        long length = contentLength.get();
+        return length == 0 ? BodyPublishers.noBody() : BodyPublishers.fromPublisher(body, length);
+    }
+
+    /**
+     * Create the SDK response for the given status code and headers.
+     */
+    public static SdkHttpResponse toSdkResponse(int statusCode, HttpHeaders headers) {
+        SdkHttpResponse.Builder response = SdkHttpResponse.builder().statusCode(statusCode);
+        headers.map().forEach((name, values) -> {
+            // HTTP/2 pseudo-headers like :status are already represented by the status code.
+            if (!name.startsWith(":")) {
+                response.putHeader(name, values);
+            }
+        });
+        return response.build();
+    }
+
+    /**
+     * Whether a response to the given request never has a payload, no matter what its headers say.
+     */
+    public static boolean responseNeverHasPayload(SdkHttpRequest request, int statusCode) {
+        return request.method() == SdkHttpMethod.HEAD ||
+               statusCode == 204 ||
+               statusCode == 304 ||
+               (statusCode >= 100 && statusCode < 200);
+    }
+}
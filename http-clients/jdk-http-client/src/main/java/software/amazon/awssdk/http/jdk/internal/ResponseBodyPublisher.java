@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import org.reactivestreams.FlowAdapters;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkCancellationException;
+import software.amazon.awssdk.utils.async.DelegatingSubscriber;
+import software.amazon.awssdk.utils.async.DelegatingSubscription;
+import software.amazon.awssdk.utils.async.FlatteningSubscriber;
+
+/**
+ * Adapts the {@link Flow.Publisher} of a response body of the JDK's client, which publishes lists of buffers, to the
+ * {@link Publisher} of buffers that the SDK expects. Completes a future when the body has been fully read, failed, or
+ * cancelled by the subscriber.
+ */
+@SdkInternalApi
+public final class ResponseBodyPublisher implements Publisher<ByteBuffer> {
+    private final Publisher<List<ByteBuffer>> body;
+    private final CompletableFuture<Void> bodyFuture;
+
+    public ResponseBodyPublisher(Flow.Publisher<List<ByteBuffer>> body, CompletableFuture<Void> bodyFuture) {
+        this.body = FlowAdapters.toPublisher(body);
+        this.bodyFuture = bodyFuture;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        body.subscribe(new FlatteningSubscriber<>(new CompletingSubscriber(subscriber)));
+    }
+
+    private final class CompletingSubscriber extends DelegatingSubscriber<ByteBuffer, ByteBuffer> {
+        private CompletingSubscriber(Subscriber<? super ByteBuffer> subscriber) {
+            super(subscriber);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            super.onSubscribe(new DelegatingSubscription(subscription) {
+                @Override
+                public void cancel() {
+                    bodyFuture.completeExceptionally(
+                        new SdkCancellationException("Subscriber cancelled before all events were published"));
+                    super.cancel();
+                }
+            });
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            subscriber.onNext(byteBuffer);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            super.onError(throwable);
+            bodyFuture.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            super.onComplete();
+            bodyFuture.complete(null);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static software.amazon.awssdk.http.HttpTestUtils.sendGetRequest;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.ServerSocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http2.DefaultHttp2DataFrame;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.DefaultHttp2HeadersFrame;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2HeadersFrame;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2ResetFrame;
+import io.netty.handler.codec.http2.Http2SecurityUtil;
+import io.netty.handler.codec.http2.Http2StreamFrame;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolConfig.SelectedListenerFailureBehavior;
+import io.netty.handler.ssl.ApplicationProtocolConfig.SelectorFailureBehavior;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.RecordingResponseHandler;
+import software.amazon.awssdk.http.SdkCancellationException;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Tests the {@link JdkAsyncHttpClient} against an HTTP/2 server that only negotiates h2, including the cancellation of
+ * requests that are waiting for their response or streaming their response body.
+ */
+public class JdkAsyncHttpClientH2Test {
+    private SdkAsyncHttpClient client;
+    private Server server;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        server = new Server();
+        server.init();
+
+        client = JdkAsyncHttpClient.builder()
+                                   .protocol(Protocol.HTTP2)
+                                   .buildWithDefaults(AttributeMap.builder().put(TRUST_ALL_CERTIFICATES, true).build());
+    }
+
+    @AfterEach
+    public void teardown() throws InterruptedException {
+        if (client != null) {
+            client.close();
+        }
+        client = null;
+
+        if (server != null) {
+            server.shutdown();
+        }
+        server = null;
+    }
+
+    @Test
+    public void request_isServedOverHttp2() {
+        byte[] body = sendGetRequest(server.port(), client).join();
+
+        assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo("hello");
+        assertThat(server.streamCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void concurrentRequests_areMultiplexedOverOneConnection() {
+        sendGetRequest(server.port(), client).join();
+
+        CompletableFuture<?>[] requests = IntStream.range(0, 5)
+                                                   .mapToObj(i -> sendGetRequest(server.port(), client))
+                                                   .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(requests).join();
+
+        assertThat(server.streamCount.get()).isEqualTo(6);
+        assertThat(server.connectionCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void cancelExecuteFuture_whileWaitingForResponse_failsResponseHandler() throws Exception {
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        CompletableFuture<Void> executeFuture = client.execute(asyncRequest("/hang", handler));
+        assertThat(server.requestReceived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        executeFuture.cancel(true);
+
+        assertThatThrownBy(() -> handler.completeFuture().get(5, TimeUnit.SECONDS))
+            .isInstanceOf(CancellationException.class);
+        assertThat(handler.responses()).isEmpty();
+    }
+
+    @Test
+    public void cancelExecuteFuture_whileWaitingForResponse_resetsStream() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 16, "The JDK's client aborts a cancelled exchange starting with Java 16");
+
+        CompletableFuture<Void> executeFuture = client.execute(asyncRequest("/hang", new RecordingResponseHandler()));
+        assertThat(server.requestReceived.await(5, TimeUnit.SECONDS)).isTrue();
+
+        executeFuture.cancel(true);
+
+        assertThat(server.streamReset.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void cancelResponseBody_failsExecuteFutureAndResetsStream() throws Exception {
+        CompletableFuture<SdkHttpResponse> headers = new CompletableFuture<>();
+        CompletableFuture<Void> executeFuture = client.execute(asyncRequest("/stream", new SdkAsyncHttpResponseHandler() {
+            @Override
+            public void onHeaders(SdkHttpResponse response) {
+                headers.complete(response);
+            }
+
+            @Override
+            public void onStream(Publisher<ByteBuffer> stream) {
+                stream.subscribe(new CancelOnFirstPartSubscriber());
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                headers.completeExceptionally(error);
+            }
+        }));
+
+        assertThatThrownBy(() -> executeFuture.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(SdkCancellationException.class);
+        assertThat(headers.join().statusCode()).isEqualTo(200);
+        assertThat(server.streamReset.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private AsyncExecuteRequest asyncRequest(String path, SdkAsyncHttpResponseHandler handler) {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.GET)
+                                                       .protocol("https")
+                                                       .host("127.0.0.1")
+                                                       .port(server.port())
+                                                       .encodedPath(path)
+                                                       .build();
+        return AsyncExecuteRequest.builder()
+                                  .request(request)
+                                  .responseHandler(handler)
+                                  .build();
+    }
+
+    private static final class CancelOnFirstPartSubscriber implements Subscriber<ByteBuffer> {
+        private Subscription subscription;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    /**
+     * An HTTP/2 server that answers "/" with a body, never answers "/hang", and never finishes the body of "/stream".
+     */
+    private static class Server extends ChannelInitializer<Channel> {
+        private final NioEventLoopGroup group = new NioEventLoopGroup();
+        private final AtomicInteger connectionCount = new AtomicInteger();
+        private final AtomicInteger streamCount = new AtomicInteger();
+        private final CountDownLatch requestReceived = new CountDownLatch(1);
+        private final CountDownLatch streamReset = new CountDownLatch(1);
+        private ServerSocketChannel serverSock;
+        private SslContext sslCtx;
+
+        void init() throws Exception {
+            SelfSignedCertificate ssc = new SelfSignedCertificate();
+            sslCtx = SslContextBuilder.forServer(ssc.certificate(), ssc.privateKey())
+                                      .ciphers(Http2SecurityUtil.CIPHERS, SupportedCipherSuiteFilter.INSTANCE)
+                                      .applicationProtocolConfig(
+                                          new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                                                                        SelectorFailureBehavior.NO_ADVERTISE,
+                                                                        SelectedListenerFailureBehavior.ACCEPT,
+                                                                        ApplicationProtocolNames.HTTP_2))
+                                      .build();
+
+            ServerBootstrap bootstrap = new ServerBootstrap().channel(NioServerSocketChannel.class)
+                                                             .group(group)
+                                                             .childHandler(this);
+
+            serverSock = (ServerSocketChannel) bootstrap.bind(0).sync().channel();
+        }
+
+        @Override
+        protected void initChannel(Channel ch) {
+            connectionCount.incrementAndGet();
+            ch.pipeline().addLast(sslCtx.newHandler(ch.alloc()));
+            ch.pipeline().addLast(Http2FrameCodecBuilder.forServer().autoAckPingFrame(true).build());
+            ch.pipeline().addLast(new Http2MultiplexHandler(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel stream) {
+                    streamCount.incrementAndGet();
+                    stream.pipeline().addLast(new StreamFrameHandler());
+                }
+            }));
+        }
+
+        void shutdown() throws InterruptedException {
+            group.shutdownGracefully().await();
+            serverSock.close();
+        }
+
+        int port() {
+            return serverSock.localAddress().getPort();
+        }
+
+        private class StreamFrameHandler extends SimpleChannelInboundHandler<Http2StreamFrame> {
+            @Override
+            protected void channelRead0(ChannelHandlerContext ctx, Http2StreamFrame frame) {
+                if (!(frame instanceof Http2HeadersFrame)) {
+                    return;
+                }
+
+                String path = ((Http2HeadersFrame) frame).headers().path().toString();
+                requestReceived.countDown();
+                if ("/hang".equals(path)) {
+                    return;
+                }
+
+                boolean endOfBody = !"/stream".equals(path);
+                ctx.write(new DefaultHttp2HeadersFrame(new DefaultHttp2Headers().status(OK.codeAsText()), false));
+                ctx.writeAndFlush(new DefaultHttp2DataFrame(Unpooled.copiedBuffer("hello", StandardCharsets.UTF_8), endOfBody));
+            }
+
+            @Override
+            public void userEventTriggered(ChannelHandlerContext ctx, Object event) throws Exception {
+                if (event instanceof Http2ResetFrame) {
+                    streamReset.countDown();
+                }
+                super.userEventTriggered(ctx, event);
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpClientTestSuite;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
+
+public final class JdkHttpClientWireMockTest extends SdkHttpClientTestSuite {
+
+    @Override
+    protected SdkHttpClient createSdkHttpClient(SdkHttpClientOptions options) {
+        JdkHttpClient.Builder builder = JdkHttpClient.builder();
+        AttributeMap.Builder attributeMap = AttributeMap.builder();
+
+        if (options.tlsTrustManagersProvider() != null) {
+            builder.tlsTrustManagersProvider(options.tlsTrustManagersProvider());
+        }
+
+        if (options.trustAll()) {
+            attributeMap.put(TRUST_ALL_CERTIFICATES, options.trustAll());
+        }
+
+        return builder.buildWithDefaults(attributeMap.build());
+    }
+
+    @Test
+    public void chunkedRequest_sendsBodyWithoutContentLength() throws IOException {
+        try (SdkHttpClient client = createSdkHttpClient()) {
+            stubForMockRequest(200);
+
+            SdkHttpFullRequest req = mockSdkRequest("http://localhost:" + mockServer.port(), SdkHttpMethod.POST, true);
+            HttpExecuteResponse rsp = client.prepareRequest(HttpExecuteRequest.builder()
+                                                                              .request(req)
+                                                                              .contentStreamProvider(req.contentStreamProvider()
+                                                                                                        .orElse(null))
+                                                                              .build())
+                                            .call();
+
+            assertThat(IoUtils.toUtf8String(rsp.responseBody().get())).isEqualTo("hello");
+            mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withHeader("Transfer-Encoding", equalTo("chunked"))
+                                                                   .withHeader("Content-Length", absent())
+                                                                   .withRequestBody(equalTo("Body")));
+        }
+    }
+
+    @Test
+    public void abortBeforeCall_failsRequest() {
+        try (SdkHttpClient client = createSdkHttpClient()) {
+            stubForMockRequest(200);
+
+            SdkHttpFullRequest req = mockSdkRequest("http://localhost:" + mockServer.port(), SdkHttpMethod.POST);
+            ExecutableHttpRequest request = client.prepareRequest(HttpExecuteRequest.builder()
+                                                                                   .request(req)
+                                                                                   .contentStreamProvider(
+                                                                                       req.contentStreamProvider().orElse(null))
+                                                                                   .build());
+            request.abort();
+
+            assertThatThrownBy(request::call).isInstanceOf(IOException.class);
+        }
+    }
+
+    @Test
+    public void abortWhileWaitingForResponse_failsRequest() throws Exception {
+        try (SdkHttpClient client = createSdkHttpClient()) {
+            mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)
+                                                                             .withBody("hello")
+                                                                             .withFixedDelay(10_000)));
+
+            SdkHttpFullRequest req = mockSdkRequest("http://localhost:" + mockServer.port(), SdkHttpMethod.GET);
+            ExecutableHttpRequest request = client.prepareRequest(HttpExecuteRequest.builder().request(req).build());
+            CompletableFuture<HttpExecuteResponse> response = CompletableFuture.supplyAsync(() -> invokeSafely(request::call));
+            Thread.sleep(500);
+
+            request.abort();
+
+            assertThatThrownBy(() -> response.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(UncheckedIOException.class);
+        }
+    }
+
+    @Test
+    public void abortAfterResponse_closesResponseBody() throws IOException {
+        try (SdkHttpClient client = createSdkHttpClient()) {
+            stubForMockRequest(200);
+
+            SdkHttpFullRequest req = mockSdkRequest("http://localhost:" + mockServer.port(), SdkHttpMethod.GET);
+            ExecutableHttpRequest request = client.prepareRequest(HttpExecuteRequest.builder().request(req).build());
+            HttpExecuteResponse response = request.call();
+
+            request.abort();
+
+            assertThatThrownBy(() -> response.responseBody().get().read()).isInstanceOf(IOException.class);
+        }
+    }
+}
@@ -86,6 +86,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private final SdkChannelPoolMap<URI, ? extends SdkChannelPool> pools;
     private final NettyConfiguration configuration;
     private final ProtocolNegotiation protocolNegotiation;
+    private final boolean zeroCopyResponseBody;
     private boolean isAlpnUserConfigured;
 
     private NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
@@ -95,6 +96,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         this.protocolNegotiation = resolveProtocolNegotiation(builder.protocolNegotiation, serviceDefaultsMap,
                                                               protocol, sslProvider);
         this.sdkEventLoopGroup = eventLoopGroup(builder);
+        this.zeroCopyResponseBody = Boolean.TRUE.equals(builder.zeroCopyResponseBody);
 
         Http2Configuration http2Configuration = builder.http2Configuration;
 
@@ -125,6 +127,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         this.pools = pools;
         this.configuration = configuration;
         this.protocolNegotiation = protocolNegotiation;
+        this.zeroCopyResponseBody = false;
     }
 
     @Override
@@ -157,7 +160,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
 
     private RequestContext createRequestContext(AsyncExecuteRequest request) {
         SdkChannelPool pool = pools.get(poolKey(request.request()));
-        return new RequestContext(pool, sdkEventLoopGroup.eventLoopGroup(), request, configuration);
+        return new RequestContext(pool, sdkEventLoopGroup.eventLoopGroup(), request, configuration, zeroCopyResponseBody);
     }
 
     private SdkEventLoopGroup eventLoopGroup(DefaultBuilder builder) {
@@ -554,6 +557,24 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * See https://netty.io/news/2016/05/26/4-1-0-Final.html
          */
         Builder useNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver);
+
+        /**
+         * Configure whether streamed response bodies are published without copying them out of Netty's buffers. False by
+         * default.
+         * <p>
+         * By default, every chunk of a response body is copied into a new heap {@link java.nio.ByteBuffer} before it is
+         * published. When enabled, the published buffers are read-only views of Netty's pooled, usually direct, buffers
+         * instead, which saves a copy and the garbage of the copied buffer for every chunk of large downloads.
+         * <p>
+         * A pooled buffer is only valid until the {@code onNext} call that delivers it returns, unless the subscriber retains
+         * it with {@link software.amazon.awssdk.http.async.PooledByteBuffers#retainCurrent()}. Pooled buffers are therefore only
+         * published for requests whose response body subscriber declared that it supports them, see
+         * {@link software.amazon.awssdk.http.async.PooledByteBufferAttribute#RESPONSE_SUBSCRIBER_SUPPORTED}. The SDK declares
+         * this when the response is streamed straight into {@code AsyncResponseTransformer.toFile} or
+         * {@code AsyncResponseTransformer.toBytes}. The body chunks of all other responses, for example ones read as an
+         * {@code InputStream} or split into parts, are still copied.
+         */
+        Builder zeroCopyResponseBody(Boolean zeroCopyResponseBody);
     }
 
     /**
@@ -572,6 +593,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration = ProxyConfiguration.builder().build();
         private Boolean useNonBlockingDnsResolver;
+        private Boolean zeroCopyResponseBody;
         private ProtocolNegotiation protocolNegotiation;
 
         private DefaultBuilder() {
@@ -813,6 +835,16 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             useNonBlockingDnsResolver(useNonBlockingDnsResolver);
         }
 
+        @Override
+        public Builder zeroCopyResponseBody(Boolean zeroCopyResponseBody) {
+            this.zeroCopyResponseBody = zeroCopyResponseBody;
+            return this;
+        }
+
+        public void setZeroCopyResponseBody(Boolean zeroCopyResponseBody) {
+            zeroCopyResponseBody(zeroCopyResponseBody);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             if (standardOptions.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT) == null) {
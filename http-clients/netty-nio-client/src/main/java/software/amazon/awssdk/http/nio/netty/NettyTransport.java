@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The Netty transport used by the event loop group and channels of an {@link SdkEventLoopGroup}.
+ *
+ * @see SdkEventLoopGroup.Builder#transport(NettyTransport)
+ */
+@SdkPublicApi
+public enum NettyTransport {
+    /**
+     * The Java NIO transport, which is available on every platform. This is the default.
+     */
+    NIO,
+
+    /**
+     * The native epoll transport of Netty for Linux. It requires {@code io.netty:netty-transport-native-epoll} with the
+     * classifier of the platform on the classpath.
+     * <p>
+     * <b>Note:</b> the epoll transport has been seen raising channel inactive after successful responses, which can cause
+     * problems with retries.
+     */
+    EPOLL,
+
+    /**
+     * The native io_uring transport of Netty for Linux 5.9 and later. It requires
+     * {@code io.netty.incubator:netty-incubator-transport-native-io_uring} with the classifier of the platform on the
+     * classpath.
+     * <p>
+     * <b>Note:</b> like {@link #EPOLL}, this native transport is less widely used with the SDK than {@link #NIO}, and has not
+     * been verified against the channel inactive problem seen with epoll after successful responses.
+     */
+    IO_URING,
+
+    /**
+     * The first transport that is available, in the order {@link #IO_URING}, {@link #EPOLL} and {@link #NIO}.
+     * <p>
+     * <b>Note:</b> this selects a native transport whenever its library is on the classpath, with the caveats of
+     * {@link #EPOLL} and {@link #IO_URING}. Use {@link #NIO} to keep the default behavior regardless of the classpath.
+     */
+    AUTO
+}
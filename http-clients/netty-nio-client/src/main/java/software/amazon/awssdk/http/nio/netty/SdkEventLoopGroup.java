@@ -18,14 +18,12 @@ package software.amazon.awssdk.http.nio.netty;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.DatagramChannel;
-import io.netty.channel.socket.nio.NioDatagramChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.http.nio.netty.internal.utils.ChannelResolver;
+import software.amazon.awssdk.http.nio.netty.internal.utils.TransportResolver;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
 
@@ -36,7 +34,8 @@ import software.amazon.awssdk.utils.Validate;
  *
  * <ul>
  * <li>using {@link #builder()} to provide custom configuration of {@link EventLoopGroup}.
- * This is the preferred configuration method when you just want to customize the {@link EventLoopGroup}</li>
+ * This is the preferred configuration method when you just want to customize the {@link EventLoopGroup}, or to use a native
+ * {@link NettyTransport} such as epoll</li>
  *
  *
  * <li>Using {@link #create(EventLoopGroup)} to provide a custom {@link EventLoopGroup}. {@link ChannelFactory} will
@@ -80,9 +79,10 @@ public final class SdkEventLoopGroup {
      * Create an instance of {@link SdkEventLoopGroup} from the builder
      */
     private SdkEventLoopGroup(DefaultBuilder builder) {
-        this.eventLoopGroup = resolveEventLoopGroup(builder);
-        this.channelFactory = resolveSocketChannelFactory(builder);
-        this.datagramChannelFactory = resolveDatagramChannelFactory(builder);
+        NettyTransport transport = TransportResolver.resolve(Optional.ofNullable(builder.transport).orElse(NettyTransport.NIO));
+        this.eventLoopGroup = resolveEventLoopGroup(builder, transport);
+        this.channelFactory = resolveSocketChannelFactory(builder, transport);
+        this.datagramChannelFactory = resolveDatagramChannelFactory(builder, transport);
     }
 
     /**
@@ -136,38 +136,29 @@ public final class SdkEventLoopGroup {
         return new DefaultBuilder();
     }
 
-    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder) {
+    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder, NettyTransport transport) {
         int numThreads = Optional.ofNullable(builder.numberOfThreads).orElse(0);
         ThreadFactory threadFactory = Optional.ofNullable(builder.threadFactory)
                                               .orElseGet(() -> new ThreadFactoryBuilder()
                                                   .threadNamePrefix("aws-java-sdk-NettyEventLoop")
                                                   .build());
-        return new NioEventLoopGroup(numThreads, threadFactory);
         /*
         Need to investigate why epoll is raising channel inactive after successful response that causes
-        problems with retries.
-
-        if (Epoll.isAvailable() && isNotAwsLambda()) {
-            return new EpollEventLoopGroup(numThreads, resolveThreadFactory());
-        } else {
-
-        }*/
-    }
-
-    private ChannelFactory<? extends Channel> resolveSocketChannelFactory(DefaultBuilder builder) {
-        return builder.channelFactory;
-    }
-
-    private ChannelFactory<? extends DatagramChannel> resolveDatagramChannelFactory(DefaultBuilder builder) {
-        return builder.datagramChannelFactory;
+        problems with retries. Until then, native transports are only used when they are requested with
+        Builder#transport, and NIO stays the default.
+        */
+        return TransportResolver.newEventLoopGroup(transport, numThreads, threadFactory);
     }
 
-    private static ChannelFactory<? extends Channel> defaultSocketChannelFactory() {
-        return NioSocketChannel::new;
+    private ChannelFactory<? extends Channel> resolveSocketChannelFactory(DefaultBuilder builder, NettyTransport transport) {
+        return Optional.<ChannelFactory<? extends Channel>>ofNullable(builder.channelFactory)
+                       .orElseGet(() -> TransportResolver.socketChannelFactory(transport));
     }
 
-    private static ChannelFactory<? extends DatagramChannel> defaultDatagramChannelFactory() {
-        return NioDatagramChannel::new;
+    private ChannelFactory<? extends DatagramChannel> resolveDatagramChannelFactory(DefaultBuilder builder,
+                                                                                   NettyTransport transport) {
+        return Optional.<ChannelFactory<? extends DatagramChannel>>ofNullable(builder.datagramChannelFactory)
+                       .orElseGet(() -> TransportResolver.datagramChannelFactory(transport));
     }
 
     /**
@@ -198,7 +189,7 @@ public final class SdkEventLoopGroup {
 
         /**
          * {@link ChannelFactory} to create socket channels used by the {@link EventLoopGroup}. If not set,
-         * NioSocketChannel is used.
+         * the socket channel of the {@link #transport(NettyTransport) transport} is used.
          *
          * @param channelFactory ChannelFactory to use.
          * @return This builder for method chaining.
@@ -207,13 +198,30 @@ public final class SdkEventLoopGroup {
 
         /**
          * {@link ChannelFactory} to create datagram channels used by the {@link EventLoopGroup}. If not set,
-         * NioDatagramChannel is used.
+         * the datagram channel of the {@link #transport(NettyTransport) transport} is used.
          *
          * @param datagramChannelFactory ChannelFactory to use.
          * @return This builder for method chaining.
          */
         Builder datagramChannelFactory(ChannelFactory<? extends DatagramChannel> datagramChannelFactory);
 
+        /**
+         * The {@link NettyTransport} of the {@link EventLoopGroup} and of its channels. If not set, {@link NettyTransport#NIO}
+         * is used.
+         *
+         * <p>{@link NettyTransport#AUTO} selects io_uring or epoll when their native libraries are on the classpath and
+         * supported by the platform, and falls back to NIO otherwise. Requesting a native transport explicitly fails with an
+         * {@link IllegalStateException} when building the group if the transport is not available.
+         *
+         * <p><b>Note:</b> the epoll transport has been seen raising channel inactive after successful responses, which can
+         * cause problems with retries. This has not been investigated yet, which is why the native transports, including the
+         * ones selected by {@link NettyTransport#AUTO}, are not used by default.
+         *
+         * @param transport The transport to use.
+         * @return This builder for method chaining.
+         */
+        Builder transport(NettyTransport transport);
+
         SdkEventLoopGroup build();
     }
 
@@ -221,8 +229,9 @@ public final class SdkEventLoopGroup {
 
         private Integer numberOfThreads;
         private ThreadFactory threadFactory;
-        private ChannelFactory<? extends Channel> channelFactory = defaultSocketChannelFactory();
-        private ChannelFactory<? extends DatagramChannel> datagramChannelFactory = defaultDatagramChannelFactory();
+        private ChannelFactory<? extends Channel> channelFactory;
+        private ChannelFactory<? extends DatagramChannel> datagramChannelFactory;
+        private NettyTransport transport;
 
         private DefaultBuilder() {
         }
@@ -267,6 +276,16 @@ public final class SdkEventLoopGroup {
             datagramChannelFactory(datagramChannelFactory);
         }
 
+        @Override
+        public Builder transport(NettyTransport transport) {
+            this.transport = transport;
+            return this;
+        }
+
+        public void setTransport(NettyTransport transport) {
+            transport(transport);
+        }
+
         @Override
         public SdkEventLoopGroup build() {
             return new SdkEventLoopGroup(this);
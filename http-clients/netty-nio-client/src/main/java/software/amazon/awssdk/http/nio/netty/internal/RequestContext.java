@@ -18,6 +18,7 @@ package software.amazon.awssdk.http.nio.netty.internal;
 import io.netty.channel.EventLoopGroup;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.PooledByteBuffers;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
@@ -29,6 +30,7 @@ public final class RequestContext {
     private final EventLoopGroup eventLoopGroup;
     private final AsyncExecuteRequest executeRequest;
     private final NettyConfiguration configuration;
+    private final boolean zeroCopyResponseBody;
 
     private final MetricCollector metricCollector;
 
@@ -36,10 +38,20 @@ public final class RequestContext {
                           EventLoopGroup eventLoopGroup,
                           AsyncExecuteRequest executeRequest,
                           NettyConfiguration configuration) {
+        this(channelPool, eventLoopGroup, executeRequest, configuration, false);
+    }
+
+    public RequestContext(SdkChannelPool channelPool,
+                          EventLoopGroup eventLoopGroup,
+                          AsyncExecuteRequest executeRequest,
+                          NettyConfiguration configuration,
+                          boolean zeroCopyResponseBody) {
         this.channelPool = channelPool;
         this.eventLoopGroup = eventLoopGroup;
         this.executeRequest = executeRequest;
         this.configuration = configuration;
+        // Only publish pooled buffers to response subscribers that declared they support them
+        this.zeroCopyResponseBody = zeroCopyResponseBody && PooledByteBuffers.isSupported(executeRequest);
         this.metricCollector = executeRequest.metricCollector().orElseGet(NoOpMetricCollector::create);
     }
 
@@ -69,6 +81,13 @@ public final class RequestContext {
         return configuration;
     }
 
+    /**
+     * Whether streamed response body buffers are published without copying them, see {@link PooledByteBuffers}.
+     */
+    public boolean zeroCopyResponseBody() {
+        return zeroCopyResponseBody;
+    }
+
     public MetricCollector metricCollector() {
         return metricCollector;
     }
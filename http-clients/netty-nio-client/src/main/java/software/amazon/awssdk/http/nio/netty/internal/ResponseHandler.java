@@ -61,6 +61,7 @@ import software.amazon.awssdk.http.SdkCancellationException;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.PooledByteBuffers;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ResetSendingSubscription;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.HttpStreamsClientHandler;
@@ -322,6 +323,11 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         return;
                     }
 
+                    if (requestContext.zeroCopyResponseBody()) {
+                        publishPooled(httpContent);
+                        return;
+                    }
+
                     // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
                     ByteBuffer byteBuffer =
                         tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
@@ -337,6 +343,26 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     }
                 }
 
+                /**
+                 * Publishes a read-only view of the content instead of a copy. The content is released once the subscriber's
+                 * onNext returns, or later if the subscriber retains it, see {@link PooledByteBuffers}.
+                 */
+                private void publishPooled(HttpContent httpContent) {
+                    ByteBuffer byteBuffer;
+                    try {
+                        byteBuffer = httpContent.content().nioBuffer().asReadOnlyBuffer();
+                    } catch (Throwable t) {
+                        httpContent.release();
+                        onError(t);
+                        return;
+                    }
+
+                    //As per reactive-streams rule 2.13, we should not call subscriber#onError when
+                    //exception is thrown from subscriber#onNext
+                    tryCatch(() -> PooledByteBuffers.publish(subscriber, byteBuffer, httpContent::release),
+                             this::notifyError);
+                }
+
                 @Override
                 public void onError(Throwable t) {
                     if (!isDone.compareAndSet(false, true)) {
@@ -0,0 +1,173 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ReflectiveChannelFactory;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.NettyTransport;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Creates the event loop groups and channel factories of a {@link NettyTransport}.
+ * <p>
+ * The io_uring transport is still an incubator module of Netty that the SDK does not depend on, so its classes are loaded
+ * reflectively.
+ */
+@SdkInternalApi
+public final class TransportResolver {
+    static final String IO_URING_EVENT_LOOP_GROUP = "io.netty.incubator.channel.uring.IOUringEventLoopGroup";
+    static final String IO_URING_SOCKET_CHANNEL = "io.netty.incubator.channel.uring.IOUringSocketChannel";
+    static final String IO_URING_DATAGRAM_CHANNEL = "io.netty.incubator.channel.uring.IOUringDatagramChannel";
+
+    private static final Logger log = Logger.loggerFor(TransportResolver.class);
+    private static final String IO_URING = "io.netty.incubator.channel.uring.IOUring";
+
+    private TransportResolver() {
+    }
+
+    /**
+     * Resolves {@link NettyTransport#AUTO} to the first transport that is available, and checks that any other transport is
+     * available.
+     *
+     * @throws IllegalStateException If a native transport is requested that is not available.
+     */
+    public static NettyTransport resolve(NettyTransport transport) {
+        switch (transport) {
+            case NIO:
+                return NettyTransport.NIO;
+            case EPOLL:
+                if (!isEpollAvailable()) {
+                    throw new IllegalStateException("The epoll transport was requested, but it is not available.",
+                                                    epollUnavailabilityCause());
+                }
+                return NettyTransport.EPOLL;
+            case IO_URING:
+                if (!isIoUringAvailable()) {
+                    throw new IllegalStateException("The io_uring transport was requested, but it is not available. Make "
+                                                    + "sure that netty-incubator-transport-native-io_uring is on the "
+                                                    + "classpath and that the kernel supports io_uring.");
+                }
+                return NettyTransport.IO_URING;
+            case AUTO:
+                // Epoll has been seen raising channel inactive after successful responses, which causes problems with
+                // retries. AUTO is opt-in for that reason: SdkEventLoopGroup defaults to NIO.
+                if (isIoUringAvailable()) {
+                    return NettyTransport.IO_URING;
+                }
+                if (isEpollAvailable()) {
+                    return NettyTransport.EPOLL;
+                }
+                return NettyTransport.NIO;
+            default:
+                throw new IllegalArgumentException("Unknown transport: " + transport);
+        }
+    }
+
+    /**
+     * Creates an event loop group of the given transport, which must have been {@link #resolve resolved}.
+     */
+    public static EventLoopGroup newEventLoopGroup(NettyTransport transport, int numberOfThreads, ThreadFactory threadFactory) {
+        switch (transport) {
+            case NIO:
+                return new NioEventLoopGroup(numberOfThreads, threadFactory);
+            case EPOLL:
+                return new EpollEventLoopGroup(numberOfThreads, threadFactory);
+            case IO_URING:
+                return invokeSafely(() -> (EventLoopGroup) Class.forName(IO_URING_EVENT_LOOP_GROUP)
+                                                                .getConstructor(int.class, ThreadFactory.class)
+                                                                .newInstance(numberOfThreads, threadFactory));
+            default:
+                throw new IllegalArgumentException("Unresolved transport: " + transport);
+        }
+    }
+
+    /**
+     * Returns the factory of the socket channels of the given transport, which must have been {@link #resolve resolved}.
+     */
+    @SuppressWarnings("unchecked")
+    public static ChannelFactory<? extends Channel> socketChannelFactory(NettyTransport transport) {
+        switch (transport) {
+            case NIO:
+                return NioSocketChannel::new;
+            case EPOLL:
+                return EpollSocketChannel::new;
+            case IO_URING:
+                return invokeSafely(() -> new ReflectiveChannelFactory(Class.forName(IO_URING_SOCKET_CHANNEL)));
+            default:
+                throw new IllegalArgumentException("Unresolved transport: " + transport);
+        }
+    }
+
+    /**
+     * Returns the factory of the datagram channels of the given transport, which must have been {@link #resolve resolved}.
+     * They are used by the DNS resolver.
+     */
+    @SuppressWarnings("unchecked")
+    public static ChannelFactory<? extends DatagramChannel> datagramChannelFactory(NettyTransport transport) {
+        switch (transport) {
+            case NIO:
+                return NioDatagramChannel::new;
+            case EPOLL:
+                return EpollDatagramChannel::new;
+            case IO_URING:
+                return invokeSafely(() -> new ReflectiveChannelFactory(Class.forName(IO_URING_DATAGRAM_CHANNEL)));
+            default:
+                throw new IllegalArgumentException("Unresolved transport: " + transport);
+        }
+    }
+
+    private static boolean isEpollAvailable() {
+        try {
+            return Epoll.isAvailable();
+        } catch (LinkageError e) {
+            log.debug(() -> "The epoll transport is not available.", e);
+            return false;
+        }
+    }
+
+    private static Throwable epollUnavailabilityCause() {
+        try {
+            return Epoll.unavailabilityCause();
+        } catch (LinkageError e) {
+            return e;
+        }
+    }
+
+    private static boolean isIoUringAvailable() {
+        try {
+            return (Boolean) Class.forName(IO_URING).getMethod("isAvailable").invoke(null);
+        } catch (ClassNotFoundException e) {
+            return false;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.debug(() -> "The io_uring transport is not available.", e);
+            return false;
+        }
+    }
+}
@@ -88,6 +88,7 @@ import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.SimpleHttpContentPublisher;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.PooledByteBufferAttribute;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
@@ -524,6 +525,30 @@ public class NettyNioAsyncHttpClientWireMockTest {
         assertThat(wiremockTrafficListener.requests().toString()).endsWith(content);
     }
 
+    @Test
+    public void zeroCopyResponseBody_largeBody_receivedIntact() throws Exception {
+        String body = randomAlphabetic(1024 * 1024);
+        stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withBody(body)));
+        URI uri = URI.create("https://localhost:" + mockServer.httpsPort());
+        SdkHttpFullRequest request = createRequest(uri, "/", "", SdkHttpMethod.GET, Collections.emptyMap());
+        RecordingResponseHandler recorder = new RecordingResponseHandler();
+
+        try (SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                      .zeroCopyResponseBody(true)
+                                                                      .buildWithDefaults(mapWithTrustAllCerts())) {
+            customClient.execute(AsyncExecuteRequest.builder()
+                                                    .request(request)
+                                                    .requestContentPublisher(createProvider(""))
+                                                    .responseHandler(recorder)
+                                                    .putHttpExecutionAttribute(PooledByteBufferAttribute.RESPONSE_SUBSCRIBER_SUPPORTED, true)
+                                                    .build())
+                        .join();
+            recorder.completeFuture.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(recorder.fullResponseAsString()).isEqualTo(body);
+    }
+
     @Test
     public void closeMethodClosesOpenedChannels() throws InterruptedException, TimeoutException, ExecutionException {
         String body = randomAlphabetic(10);
@@ -16,8 +16,10 @@
 package software.amazon.awssdk.http.nio.netty;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollSocketChannel;
@@ -68,4 +70,73 @@ public class SdkEventLoopGroupTest {
     public void notProvidingChannelFactory_unknownEventLoopGroup() {
         SdkEventLoopGroup.create(new DefaultEventLoopGroup());
     }
+
+    @Test
+    public void builder_defaultTransport_usesNio() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).build();
+        try {
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+            assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+            assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel()).isInstanceOf(NioDatagramChannel.class);
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void builder_autoTransport_channelsMatchEventLoopGroup() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder()
+                                                               .numberOfThreads(1)
+                                                               .transport(NettyTransport.AUTO)
+                                                               .build();
+        try {
+            if (Epoll.isAvailable()) {
+                assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(EpollEventLoopGroup.class);
+                assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(EpollSocketChannel.class);
+                assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel()).isInstanceOf(EpollDatagramChannel.class);
+            } else {
+                assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+                assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+                assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel()).isInstanceOf(NioDatagramChannel.class);
+            }
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void builder_epollTransport_failsIfUnavailable() {
+        if (Epoll.isAvailable()) {
+            SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().transport(NettyTransport.EPOLL).build();
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(EpollEventLoopGroup.class);
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        } else {
+            assertThatThrownBy(() -> SdkEventLoopGroup.builder().transport(NettyTransport.EPOLL).build())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("epoll");
+        }
+    }
+
+    @Test
+    public void builder_ioUringTransportNotOnClasspath_fails() {
+        assertThatThrownBy(() -> SdkEventLoopGroup.builder().transport(NettyTransport.IO_URING).build())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("io_uring");
+    }
+
+    @Test
+    public void builder_channelFactorySet_takesPrecedenceOverTransport() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder()
+                                                               .numberOfThreads(1)
+                                                               .transport(NettyTransport.NIO)
+                                                               .channelFactory(OioSocketChannel::new)
+                                                               .datagramChannelFactory(OioDatagramChannel::new)
+                                                               .build();
+        try {
+            assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(OioSocketChannel.class);
+            assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel()).isInstanceOf(OioDatagramChannel.class);
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
 }
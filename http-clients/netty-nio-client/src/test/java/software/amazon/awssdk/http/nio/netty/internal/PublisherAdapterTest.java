@@ -26,6 +26,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.EmptyByteBuf;
 import io.netty.buffer.Unpooled;
@@ -40,7 +41,11 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.reactivex.Flowable;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -53,6 +58,8 @@ import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.PooledByteBufferAttribute;
+import software.amazon.awssdk.http.async.PooledByteBuffers;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.DefaultStreamedHttpResponse;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.StreamedHttpResponse;
@@ -285,7 +292,81 @@ public class PublisherAdapterTest {
         verify(channelPool).release(channel);
     }
 
-    static final class TestSubscriber implements Subscriber<ByteBuffer> {
+    @Test
+    public void zeroCopyResponseBody_publishesReadOnlyViewAndReleasesContentAfterOnNext() {
+        ByteBuf content = Unpooled.directBuffer().writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        List<String> received = new ArrayList<>();
+
+        subscribeZeroCopy(content, byteBuffer -> {
+            assertThat(byteBuffer.isReadOnly()).isTrue();
+            assertThat(byteBuffer.isDirect()).isTrue();
+            assertThat(content.refCnt()).isEqualTo(1);
+            received.add(StandardCharsets.UTF_8.decode(byteBuffer).toString());
+        });
+
+        assertThat(received).containsExactly("hello");
+        assertThat(content.refCnt()).isZero();
+        assertThat(executeFuture).isCompleted();
+    }
+
+    @Test
+    public void zeroCopyResponseBody_contentRetainedBySubscriber_releasedBySubscriber() {
+        ByteBuf content = Unpooled.directBuffer().writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        List<Runnable> retained = new ArrayList<>();
+
+        subscribeZeroCopy(content, byteBuffer -> retained.add(PooledByteBuffers.retainCurrent().get()));
+
+        assertThat(content.refCnt()).isEqualTo(1);
+        retained.get(0).run();
+        assertThat(content.refCnt()).isZero();
+    }
+
+    @Test
+    public void zeroCopyResponseBody_subscriberDoesNotSupportPooledBuffers_publishesCopy() {
+        ByteBuf content = Unpooled.directBuffer().writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        List<String> received = new ArrayList<>();
+
+        subscribeZeroCopy(content, false, byteBuffer -> {
+            assertThat(byteBuffer.isDirect()).isFalse();
+            assertThat(PooledByteBuffers.retainCurrent()).isEmpty();
+            assertThat(content.refCnt()).isZero();
+            received.add(StandardCharsets.UTF_8.decode(byteBuffer).toString());
+        });
+
+        assertThat(received).containsExactly("hello");
+    }
+
+    private void subscribeZeroCopy(ByteBuf content, Consumer<ByteBuffer> onNext) {
+        subscribeZeroCopy(content, true, onNext);
+    }
+
+    private void subscribeZeroCopy(ByteBuf content, boolean subscriberSupportsPooledBuffers, Consumer<ByteBuffer> onNext) {
+        AsyncExecuteRequest executeRequest =
+            AsyncExecuteRequest.builder()
+                               .request(requestContext.executeRequest().request())
+                               .responseHandler(responseHandler)
+                               .putHttpExecutionAttribute(PooledByteBufferAttribute.RESPONSE_SUBSCRIBER_SUPPORTED,
+                                                          subscriberSupportsPooledBuffers)
+                               .build();
+        RequestContext zeroCopyContext = new RequestContext(channelPool, eventLoopGroup, executeRequest, null, true);
+        channel.attr(REQUEST_CONTEXT_KEY).set(zeroCopyContext);
+        StreamedHttpResponse streamedHttpResponse =
+            new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                            Flowable.just(new DefaultHttpContent(content)));
+
+        ResponseHandler.PublisherAdapter publisherAdapter =
+            new ResponseHandler.PublisherAdapter(streamedHttpResponse, ctx, zeroCopyContext, executeFuture);
+
+        publisherAdapter.subscribe(new TestSubscriber() {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                onNext.accept(byteBuffer);
+                super.onNext(byteBuffer);
+            }
+        });
+    }
+
+    static class TestSubscriber implements Subscriber<ByteBuffer> {
 
         private Subscription subscription;
         private boolean isCompleted = false;
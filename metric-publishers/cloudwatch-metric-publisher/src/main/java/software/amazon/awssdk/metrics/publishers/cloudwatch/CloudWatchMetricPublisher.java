@@ -54,12 +54,14 @@ import software.amazon.awssdk.metrics.publishers.cloudwatch.internal.MetricUploa
 import software.amazon.awssdk.metrics.publishers.cloudwatch.internal.task.AggregateMetricsTask;
 import software.amazon.awssdk.metrics.publishers.cloudwatch.internal.task.UploadMetricsTasks;
 import software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform.MetricCollectionAggregator;
+import software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform.MetricHistogram;
 import software.amazon.awssdk.services.cloudwatch.CloudWatchAsyncClient;
 import software.amazon.awssdk.services.cloudwatch.model.Dimension;
 import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
 import software.amazon.awssdk.services.cloudwatch.model.PutMetricDataRequest;
 import software.amazon.awssdk.services.cloudwatch.model.StatisticSet;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * An implementation of {@link MetricPublisher} that aggregates and uploads metrics to Amazon CloudWatch on a periodic basis.
@@ -232,7 +234,8 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
                                                                resolveDimensions(builder),
                                                                resolveMetricCategories(builder),
                                                                resolveMetricLevel(builder),
-                                                               resolveDetailedMetrics(builder));
+                                                               resolveDetailedMetrics(builder),
+                                                               resolveDetailedMetricsPrecision(builder));
         this.metricUploader = new MetricUploader(resolveClient(builder));
         this.maximumCallsPerUpload = resolveMaximumCallsPerUpload(builder);
 
@@ -261,6 +264,16 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
         return builder.detailedMetrics == null ? DEFAULT_DETAILED_METRICS : new HashSet<>(builder.detailedMetrics);
     }
 
+    private int resolveDetailedMetricsPrecision(Builder builder) {
+        if (builder.detailedMetricsPrecision == null) {
+            return MetricHistogram.DEFAULT_PRECISION;
+        }
+        Validate.inclusiveBetween(MetricHistogram.MIN_PRECISION, MetricHistogram.MAX_PRECISION, builder.detailedMetricsPrecision,
+                                  "detailedMetricsPrecision must be between %s and %s.",
+                                  MetricHistogram.MIN_PRECISION, MetricHistogram.MAX_PRECISION);
+        return builder.detailedMetricsPrecision;
+    }
+
     private Set<SdkMetric<String>> resolveDimensions(Builder builder) {
         return builder.dimensions == null ? DEFAULT_DIMENSIONS : new HashSet<>(builder.dimensions);
     }
@@ -395,6 +408,7 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
         private Collection<MetricCategory> metricCategories;
         private MetricLevel metricLevel;
         private Collection<SdkMetric<?>> detailedMetrics;
+        private Integer detailedMetricsPrecision;
 
         private Builder() {
         }
@@ -436,12 +450,12 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
          * {@code detailedMetrics} are enabled), (2) increase the time it takes for metric data to appear in
          * CloudWatch, (3) reduce the number of CloudWatch calls (and therefore decrease CloudWatch usage cost).
          *
-         * <p><b>Warning:</b> When {@code detailedMetrics} are enabled, all unique metric values are stored in memory until they
-         * can be published to CloudWatch. A high {@code uploadFrequency} with multiple {@code detailedMetrics} enabled can
-         * quickly consume heap memory while the values wait to be published to CloudWatch. In memory constrained environments, it
-         * is recommended to minimize the number of {@code detailedMetrics} configured on the publisher, or to upload metric data
-         * more frequently. As with all performance and resource concerns, profiling in a production-like environment is
-         * encouraged.
+         * <p><b>Warning:</b> When {@code detailedMetrics} are enabled, a histogram of the metric values is stored in memory for
+         * each metric, dimension and minute until it can be published to CloudWatch. A high {@code uploadFrequency} with multiple
+         * {@code detailedMetrics} enabled increases the number of histograms waiting to be published to CloudWatch. In memory
+         * constrained environments, it is recommended to minimize the number of {@code detailedMetrics} configured on the
+         * publisher, or to upload metric data more frequently. As with all performance and resource concerns, profiling in a
+         * production-like environment is encouraged.
          */
         public Builder uploadFrequency(Duration uploadFrequency) {
             this.uploadFrequency = uploadFrequency;
@@ -552,16 +566,17 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
          * <p>By default, all metrics published to this publisher are summarized using {@link StatisticSet}s. This saves memory,
          * because it allows the publisher to store a fixed amount of information in memory, no matter how many different metric
          * values are published. The drawback is that metrics other than count, sum, average, maximum and minimum are not made
-         * available in CloudWatch. The {@code detailedMetrics} setting instructs the publisher to store and publish itemized
-         * {@link MetricDatum#values()} and {@link MetricDatum#counts()}, which enables other metrics like p90 and p99 to be
-         * queried in CloudWatch.
+         * available in CloudWatch. The {@code detailedMetrics} setting instructs the publisher to store a histogram of the
+         * values and publish it as {@link MetricDatum#values()} and {@link MetricDatum#counts()}, which enables other metrics
+         * like p90 and p99 to be queried in CloudWatch. The accuracy of the histogram is configured with
+         * {@link #detailedMetricsPrecision(Integer)}.
          *
-         * <p><b>Warning:</b> When {@code detailedMetrics} are enabled, all unique metric values are stored in memory until they
-         * can be published to CloudWatch. A high {@code uploadFrequency} with multiple {@code detailedMetrics} enabled can
-         * quickly consume heap memory while the values wait to be published to CloudWatch. In memory constrained environments, it
-         * is recommended to minimize the number of {@code detailedMetrics} configured on the publisher, or to upload metric data
-         * more frequently. As with all performance and resource concerns, profiling in a production-like environment is
-         * encouraged.
+         * <p><b>Warning:</b> When {@code detailedMetrics} are enabled, a histogram of the metric values is stored in memory for
+         * each metric, dimension and minute until it can be published to CloudWatch. A high {@code uploadFrequency} with multiple
+         * {@code detailedMetrics} enabled increases the number of histograms waiting to be published to CloudWatch. In memory
+         * constrained environments, it is recommended to minimize the number of {@code detailedMetrics} configured on the
+         * publisher, or to upload metric data more frequently. As with all performance and resource concerns, profiling in a
+         * production-like environment is encouraged.
          *
          * <p>In addition to additional heap memory usage, detailed metrics can result in more requests being sent to CloudWatch,
          * which can also introduce additional usage cost. The {@link #maximumCallsPerUpload(Integer)} acts as a safeguard against
@@ -580,6 +595,23 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
             return detailedMetrics(Arrays.asList(detailedMetrics));
         }
 
+        /**
+         * Configure the precision of the histograms used for {@link #detailedMetrics(Collection)}.
+         *
+         * <p>Each power of two of the metric values is split into {@code 2^detailedMetricsPrecision} buckets, and each bucket
+         * is uploaded as one value (the mean of the values in the bucket) and its count. The values in a bucket differ by at
+         * most {@code 2^-detailedMetricsPrecision} of their magnitude, so percentiles queried in CloudWatch have at most that
+         * relative error.
+         *
+         * <p>If this is not specified, a precision of 5 is used, which bounds the relative error to about 3%. Valid values are
+         * from 1 to 10. Higher values increase the accuracy of percentiles, but also the memory used for each histogram and the
+         * number of values uploaded to CloudWatch.
+         */
+        public Builder detailedMetricsPrecision(Integer detailedMetricsPrecision) {
+            this.detailedMetricsPrecision = detailedMetricsPrecision;
+            return this;
+        }
+
         /**
          * Build a {@link CloudWatchMetricPublisher} using the configuration currently configured on this publisher.
          */
@@ -15,11 +15,8 @@
 
 package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
 
-import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.services.cloudwatch.model.Dimension;
@@ -27,8 +24,8 @@ import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
 import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
 
 /**
- * An implementation of {@link MetricAggregator} that stores all values and counts for a given metric/dimension pair
- * until they can be added to a {@link MetricDatum}.
+ * An implementation of {@link MetricAggregator} that stores a {@link MetricHistogram} of the values for a given
+ * metric/dimension pair until they can be added to a {@link MetricDatum}.
  */
 @SdkInternalApi
 class DetailedMetricAggregator implements MetricAggregator {
@@ -36,12 +33,13 @@ class DetailedMetricAggregator implements MetricAggregator {
     private final List<Dimension> dimensions;
     private final StandardUnit unit;
 
-    private final Map<Double, DetailedMetrics> metricDetails = new HashMap<>();
+    private final MetricHistogram histogram;
 
-    DetailedMetricAggregator(MetricAggregatorKey key, StandardUnit unit) {
+    DetailedMetricAggregator(MetricAggregatorKey key, StandardUnit unit, int precision) {
         this.metric = key.metric();
         this.dimensions = key.dimensions();
         this.unit = unit;
+        this.histogram = new MetricHistogram(precision);
     }
 
     @Override
@@ -56,7 +54,7 @@ class DetailedMetricAggregator implements MetricAggregator {
 
     @Override
     public void addMetricValue(double value) {
-        metricDetails.computeIfAbsent(value, v -> new DetailedMetrics(value)).metricCount++;
+        histogram.add(value);
     }
 
     @Override
@@ -64,23 +62,29 @@ class DetailedMetricAggregator implements MetricAggregator {
         return unit;
     }
 
-    public Collection<DetailedMetrics> detailedMetrics() {
-        return Collections.unmodifiableCollection(metricDetails.values());
+    /**
+     * The values and counts of the non-empty buckets of the histogram, in ascending order of value.
+     */
+    public List<DetailedMetrics> detailedMetrics() {
+        List<DetailedMetrics> result = new ArrayList<>(histogram.bucketCount());
+        histogram.forEachBucket((value, count) -> result.add(new DetailedMetrics(value, count)));
+        return result;
     }
 
     public static class DetailedMetrics {
         private final double metricValue;
-        private int metricCount = 0;
+        private final long metricCount;
 
-        private DetailedMetrics(double metricValue) {
+        private DetailedMetrics(double metricValue, long metricCount) {
             this.metricValue = metricValue;
+            this.metricCount = metricCount;
         }
 
         public double metricValue() {
             return metricValue;
         }
 
-        public int metricCount() {
+        public long metricCount() {
             return metricCount;
         }
     }
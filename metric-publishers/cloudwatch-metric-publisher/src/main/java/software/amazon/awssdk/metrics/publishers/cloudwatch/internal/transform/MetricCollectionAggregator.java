@@ -21,7 +21,6 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.ApiName;
@@ -82,8 +81,18 @@ public class MetricCollectionAggregator {
                                       Set<MetricCategory> metricCategories,
                                       MetricLevel metricLevel,
                                       Set<SdkMetric<?>> detailedMetrics) {
+        this(namespace, dimensions, metricCategories, metricLevel, detailedMetrics, MetricHistogram.DEFAULT_PRECISION);
+    }
+
+    public MetricCollectionAggregator(String namespace,
+                                      Set<SdkMetric<String>> dimensions,
+                                      Set<MetricCategory> metricCategories,
+                                      MetricLevel metricLevel,
+                                      Set<SdkMetric<?>> detailedMetrics,
+                                      int detailedMetricsPrecision) {
         this.namespace = namespace;
-        this.timeBucketedMetrics = new TimeBucketedMetrics(dimensions, metricCategories, metricLevel, detailedMetrics);
+        this.timeBucketedMetrics = new TimeBucketedMetrics(dimensions, metricCategories, metricLevel, detailedMetrics,
+                                                           detailedMetricsPrecision);
     }
 
     /**
@@ -117,7 +126,7 @@ public class MetricCollectionAggregator {
 
                 metric.ifDetailed(detailedAggregator -> {
                     int startIndex = 0;
-                    Collection<DetailedMetrics> detailedMetrics = detailedAggregator.detailedMetrics();
+                    List<DetailedMetrics> detailedMetrics = detailedAggregator.detailedMetrics();
 
                     while (startIndex < detailedMetrics.size()) {
                         if (valuesInRequestCounter.get() >= MAX_VALUES_PER_REQUEST) {
@@ -126,7 +135,7 @@ public class MetricCollectionAggregator {
                             valuesInRequestCounter.reset();
                         }
 
-                        MetricDatum data = detailedMetricDatum(timeBucket, detailedAggregator,
+                        MetricDatum data = detailedMetricDatum(timeBucket, detailedAggregator, detailedMetrics,
                                                                startIndex, MAX_VALUES_PER_REQUEST - valuesInRequestCounter.get());
                         int valuesAdded = data.values().size();
                         startIndex += valuesAdded;
@@ -148,19 +157,17 @@ public class MetricCollectionAggregator {
 
     private MetricDatum detailedMetricDatum(Instant timeBucket,
                                             DetailedMetricAggregator metric,
+                                            List<DetailedMetrics> detailedMetrics,
                                             int metricStartIndex,
                                             int maxElements) {
-        List<Double> values = new ArrayList<>();
-        List<Double> counts = new ArrayList<>();
-
-        Stream<DetailedMetrics> boundedMetrics = metric.detailedMetrics()
-                                                       .stream()
-                                                       .skip(metricStartIndex)
-                                                       .limit(maxElements);
-
-        boundedMetrics.forEach(detailedMetrics -> {
-            values.add(MetricValueNormalizer.normalize(detailedMetrics.metricValue()));
-            counts.add((double) detailedMetrics.metricCount());
+        List<DetailedMetrics> boundedMetrics =
+            detailedMetrics.subList(metricStartIndex, Math.min(detailedMetrics.size(), metricStartIndex + maxElements));
+
+        List<Double> values = new ArrayList<>(boundedMetrics.size());
+        List<Double> counts = new ArrayList<>(boundedMetrics.size());
+        boundedMetrics.forEach(details -> {
+            values.add(MetricValueNormalizer.normalize(details.metricValue()));
+            counts.add((double) details.metricCount());
         });
 
         return MetricDatum.builder()
@@ -0,0 +1,161 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
+
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A log-linear histogram of metric values, used by {@link DetailedMetricAggregator} so that the memory used for a
+ * metric/dimension pair does not grow with the number of distinct values.
+ *
+ * <p>Each power of two is split into {@code 2^precision} equally sized buckets, so all values in a bucket are within a
+ * relative distance of {@code 2^-precision} of each other. The bucket of a value is read directly from the exponent and the
+ * highest mantissa bits of the double. Each bucket stores the number of values and their sum in primitive arrays, and is
+ * reported as the mean of its values, which is exact when all values in the bucket are equal.
+ *
+ * <p>The bucket arrays grow to cover the range of values that was added, so their size is bounded by the dynamic range of the
+ * values and the precision, not by their number.
+ */
+@SdkInternalApi
+@NotThreadSafe
+public final class MetricHistogram {
+    /**
+     * The default precision, which keeps values in a bucket within about 3% of each other.
+     */
+    public static final int DEFAULT_PRECISION = 5;
+
+    public static final int MIN_PRECISION = 1;
+
+    public static final int MAX_PRECISION = 10;
+
+    private static final int MANTISSA_BITS = 52;
+
+    private final int precision;
+    private final Buckets positive;
+    private final Buckets negative;
+    private long zeroCount;
+
+    MetricHistogram(int precision) {
+        this.precision = precision;
+        this.positive = new Buckets(1 << precision);
+        this.negative = new Buckets(1 << precision);
+    }
+
+    /**
+     * Add a value to this histogram. Values that are not finite are ignored, because CloudWatch rejects them.
+     */
+    void add(double value) {
+        if (value == 0) {
+            zeroCount++;
+        } else if (value > 0 && value != Double.POSITIVE_INFINITY) {
+            positive.add(bucketIndex(value), value);
+        } else if (value < 0 && value != Double.NEGATIVE_INFINITY) {
+            negative.add(bucketIndex(-value), value);
+        }
+    }
+
+    /**
+     * The number of buckets with at least one value.
+     */
+    int bucketCount() {
+        return negative.nonEmptyBuckets + (zeroCount > 0 ? 1 : 0) + positive.nonEmptyBuckets;
+    }
+
+    /**
+     * Pass the mean and count of each bucket with at least one value to the provided consumer, in ascending order of value.
+     */
+    void forEachBucket(BucketConsumer consumer) {
+        negative.forEachDescending(consumer);
+        if (zeroCount > 0) {
+            consumer.accept(0, zeroCount);
+        }
+        positive.forEachAscending(consumer);
+    }
+
+    private int bucketIndex(double absoluteValue) {
+        return (int) (Double.doubleToRawLongBits(absoluteValue) >>> (MANTISSA_BITS - precision));
+    }
+
+    @FunctionalInterface
+    interface BucketConsumer {
+        void accept(double mean, long count);
+    }
+
+    /**
+     * The buckets of values of one sign, covering the bucket indexes {@code [offset, offset + counts.length)}.
+     */
+    private static final class Buckets {
+        private final int growth;
+        private int offset;
+        private long[] counts = new long[0];
+        private double[] sums = new double[0];
+        private int nonEmptyBuckets;
+
+        private Buckets(int growth) {
+            this.growth = growth;
+        }
+
+        private void add(int index, double value) {
+            if (counts.length == 0) {
+                offset = index;
+                counts = new long[growth];
+                sums = new double[growth];
+            } else if (index < offset || index >= offset + counts.length) {
+                grow(index);
+            }
+
+            int slot = index - offset;
+            if (counts[slot]++ == 0) {
+                nonEmptyBuckets++;
+            }
+            sums[slot] += value;
+        }
+
+        private void grow(int index) {
+            int newOffset = index < offset ? Math.max(0, index - growth) : offset;
+            int end = offset + counts.length;
+            int newEnd = index >= end ? index + growth : end;
+
+            long[] newCounts = new long[newEnd - newOffset];
+            double[] newSums = new double[newEnd - newOffset];
+            System.arraycopy(counts, 0, newCounts, offset - newOffset, counts.length);
+            System.arraycopy(sums, 0, newSums, offset - newOffset, sums.length);
+            offset = newOffset;
+            counts = newCounts;
+            sums = newSums;
+        }
+
+        private void forEachAscending(BucketConsumer consumer) {
+            for (int i = 0; i < counts.length; i++) {
+                accept(i, consumer);
+            }
+        }
+
+        private void forEachDescending(BucketConsumer consumer) {
+            for (int i = counts.length - 1; i >= 0; i--) {
+                accept(i, consumer);
+            }
+        }
+
+        private void accept(int slot, BucketConsumer consumer) {
+            long count = counts[slot];
+            if (count > 0) {
+                consumer.accept(sums[slot] / count, count);
+            }
+        }
+    }
+}
@@ -80,14 +80,19 @@ class TimeBucketedMetrics {
      */
     private final boolean metricCategoriesContainsAll;
 
-
+    /**
+     * The precision of the {@link MetricHistogram}s of the {@link DetailedMetricAggregator}s.
+     */
+    private final int detailedMetricsPrecision;
 
     TimeBucketedMetrics(Set<SdkMetric<String>> dimensions,
                         Set<MetricCategory> metricCategories,
                         MetricLevel metricLevel,
-                        Set<SdkMetric<?>> detailedMetrics) {
+                        Set<SdkMetric<?>> detailedMetrics,
+                        int detailedMetricsPrecision) {
         this.dimensions = dimensions;
         this.detailedMetrics = detailedMetrics;
+        this.detailedMetricsPrecision = detailedMetricsPrecision;
         this.metricCategories = metricCategories;
         this.metricLevel = metricLevel;
         this.metricCategoriesContainsAll = metricCategories.contains(MetricCategory.ALL);
@@ -171,7 +176,7 @@ class TimeBucketedMetrics {
         SdkMetric<?> metric = aggregatorKey.metric();
         StandardUnit metricUnit = unitFor(metric);
         if (detailedMetrics.contains(metric)) {
-            return new DetailedMetricAggregator(aggregatorKey, metricUnit);
+            return new DetailedMetricAggregator(aggregatorKey, metricUnit, detailedMetricsPrecision);
         } else {
             return new SummaryMetricAggregator(aggregatorKey, metricUnit);
         }
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.metrics.publishers.cloudwatch;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 
@@ -268,6 +269,32 @@ public class CloudWatchMetricPublisherTest {
         assertThat(availableConcurrency.statisticValues()).isNull();
     }
 
+    @Test
+    public void detailedMetricsPrecisionSettingIsHonored() {
+        try (CloudWatchMetricPublisher publisher = publisherBuilder.detailedMetrics(HttpMetric.AVAILABLE_CONCURRENCY)
+                                                                   .detailedMetricsPrecision(1)
+                                                                   .build()) {
+            for (int i = 1; i <= 16; ++i) {
+                MetricCollector collector = newCollector();
+                collector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, i);
+                publisher.publish(new FixedTimeMetricCollection(collector.collect()));
+            }
+        }
+
+        MetricDatum availableConcurrency = getDatum(getPutMetricCall(), HttpMetric.AVAILABLE_CONCURRENCY);
+
+        // Two buckets per power of two: {1}, {2}, {3}, {4, 5}, {6, 7}, {8..11}, {12..15}, {16}
+        assertThat(availableConcurrency.values()).containsExactly(1.0, 2.0, 3.0, 4.5, 6.5, 9.5, 13.5, 16.0);
+        assertThat(availableConcurrency.counts()).containsExactly(1.0, 1.0, 1.0, 2.0, 2.0, 4.0, 4.0, 1.0);
+    }
+
+    @Test
+    public void detailedMetricsPrecisionOutOfRangeIsRejected() {
+        assertThatThrownBy(() -> publisherBuilder.detailedMetricsPrecision(11).build())
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("detailedMetricsPrecision");
+    }
+
     private MetricDatum getDatum(PutMetricDataRequest call, SdkMetric<?> metric) {
         return call.metricData().stream().filter(m -> m.metricName().equals(metric.name())).findAny().get();
     }
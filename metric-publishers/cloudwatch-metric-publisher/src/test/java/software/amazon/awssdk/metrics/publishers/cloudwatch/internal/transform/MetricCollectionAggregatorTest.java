@@ -336,6 +336,27 @@ public class MetricCollectionAggregatorTest {
         });
     }
 
+    @Test
+    public void detailedMetricsWithManyDistinctValuesAreBucketed() {
+        SdkMetric<Duration> metric = someMetric(Duration.class);
+        MetricCollectionAggregator aggregator = aggregatorWithCustomDetailedMetrics(metric);
+        MetricCollector collector = collector();
+        for (int i = 1; i <= 10_000; i++) {
+            collector.reportMetric(metric, Duration.ofMillis(i));
+        }
+        aggregator.addCollection(collectToFixedTime(collector));
+
+        List<PutMetricDataRequest> requests = aggregator.getRequests();
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).metricData()).hasOnlyOneElementSatisfying(metricData -> {
+            // 32 buckets per power of two, and 10,000 is below 2^14.
+            assertThat(metricData.values()).hasSizeLessThanOrEqualTo(14 * 32);
+            assertThat(metricData.values()).isSorted();
+            assertThat(metricData.counts().stream().mapToDouble(Double::doubleValue).sum()).isEqualTo(10_000.0);
+            assertThat(metricData.values().get(0)).isEqualTo(1.0);
+        });
+    }
+
     @Test
     public void metricsFromOtherCategoriesAreIgnored() {
         MetricCollectionAggregator aggregator = defaultAggregator();
@@ -392,7 +413,13 @@ public class MetricCollectionAggregatorTest {
     }
 
     private MetricCollectionAggregator aggregatorWithUniqueValuesAdded(SdkMetric<Integer> metric, int numValues) {
-        MetricCollectionAggregator aggregator = aggregatorWithCustomDetailedMetrics(metric);
+        // Use the highest precision, so that each of the values is in its own histogram bucket.
+        MetricCollectionAggregator aggregator = new MetricCollectionAggregator(DEFAULT_NAMESPACE,
+                                                                               DEFAULT_DIMENSIONS,
+                                                                               DEFAULT_CATEGORIES,
+                                                                               DEFAULT_METRIC_LEVEL,
+                                                                               Collections.singleton(metric),
+                                                                               MetricHistogram.MAX_PRECISION);
         for (int i = 0; i < numValues; i++) {
             MetricCollector collector = collector();
             collector.reportMetric(metric, i);
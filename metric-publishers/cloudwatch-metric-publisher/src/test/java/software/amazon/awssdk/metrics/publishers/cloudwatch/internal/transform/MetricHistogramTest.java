@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class MetricHistogramTest {
+    @Test
+    public void equalValuesAreReportedExactly() {
+        MetricHistogram histogram = new MetricHistogram(MetricHistogram.DEFAULT_PRECISION);
+        histogram.add(1000.5);
+        histogram.add(1000.5);
+        histogram.add(-3);
+
+        List<double[]> buckets = buckets(histogram);
+
+        assertThat(buckets).hasSize(2);
+        assertThat(buckets.get(0)).containsExactly(-3, 1);
+        assertThat(buckets.get(1)).containsExactly(1000.5, 2);
+    }
+
+    @Test
+    public void bucketsAreInAscendingOrderOfValue() {
+        MetricHistogram histogram = new MetricHistogram(MetricHistogram.DEFAULT_PRECISION);
+        double[] values = {5000, -0.5, 0, 3, -7000, 1E-3, 1E9, -2};
+        for (double value : values) {
+            histogram.add(value);
+        }
+
+        List<double[]> buckets = buckets(histogram);
+
+        assertThat(buckets).extracting(b -> b[0]).containsExactly(-7000.0, -2.0, -0.5, 0.0, 1E-3, 3.0, 5000.0, 1E9);
+        assertThat(histogram.bucketCount()).isEqualTo(values.length);
+    }
+
+    @Test
+    public void valuesInABucketAreWithinThePrecision() {
+        int precision = 4;
+        MetricHistogram histogram = new MetricHistogram(precision);
+        Random random = new Random(0);
+        List<Double> added = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            double value = Math.exp(random.nextDouble() * 20);
+            added.add(value);
+            histogram.add(value);
+        }
+
+        List<double[]> buckets = buckets(histogram);
+
+        // 20 / ln(2) is about 29 powers of two, with 16 buckets each.
+        assertThat(buckets.size()).isLessThanOrEqualTo(30 * 16);
+        assertThat(buckets.stream().mapToDouble(b -> b[1]).sum()).isEqualTo(100_000.0);
+        double maxRelativeError = Math.pow(2, -precision);
+        for (double value : added) {
+            double closest = buckets.stream()
+                                    .mapToDouble(b -> b[0])
+                                    .reduce((a, b) -> Math.abs(a - value) < Math.abs(b - value) ? a : b)
+                                    .getAsDouble();
+            assertThat(closest).isCloseTo(value, within(value * maxRelativeError));
+        }
+    }
+
+    @Test
+    public void nonFiniteValuesAreIgnored() {
+        MetricHistogram histogram = new MetricHistogram(MetricHistogram.DEFAULT_PRECISION);
+        histogram.add(Double.NaN);
+        histogram.add(Double.POSITIVE_INFINITY);
+        histogram.add(Double.NEGATIVE_INFINITY);
+
+        assertThat(histogram.bucketCount()).isZero();
+        assertThat(buckets(histogram)).isEmpty();
+    }
+
+    private static List<double[]> buckets(MetricHistogram histogram) {
+        List<double[]> buckets = new ArrayList<>();
+        histogram.forEachBucket((mean, count) -> buckets.add(new double[] {mean, count}));
+        return buckets;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ItemSchema;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ItemSchemaIntrospector;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.TableSchemaWriter;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.UnsupportedItemException;
+
+/**
+ * An annotation processor that generates the {@code TableSchema} of every class annotated with {@code DynamoDbBean} or
+ * {@code DynamoDbImmutable} at compile time.
+ * <p>
+ * The generated table schema of a class {@code Customer} is a class named {@code Customer_TableSchema} in the same package
+ * ({@code Outer_Customer_TableSchema} if {@code Customer} is nested in {@code Outer}). It maps the same attributes as the
+ * table schema that {@code TableSchema.fromClass} creates by introspecting the class at runtime, but calls the getters and
+ * setters through method references, so creating it needs no reflection and no {@code LambdaMetafactory} bridges.
+ * {@code TableSchema.fromClass} returns the generated table schema when it is on the classpath. To use it, add this module
+ * to the annotation processor path of the compiler.
+ * <p>
+ * Classes that the generated code cannot map in the same way as the runtime, such as classes that reference themselves or
+ * that use types that are not accessible from their package, are skipped with a note, and are introspected at runtime as
+ * before.
+ */
+@SdkPublicApi
+public final class TableSchemaProcessor extends AbstractProcessor {
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(ItemSchemaIntrospector.DYNAMO_DB_BEAN, ItemSchemaIntrospector.DYNAMO_DB_IMMUTABLE));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        ItemSchemaIntrospector introspector = new ItemSchemaIntrospector(processingEnv);
+        Set<TypeElement> itemTypes = new HashSet<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement && itemTypes.add((TypeElement) element)) {
+                    generateTableSchema(introspector, (TypeElement) element);
+                }
+            }
+        }
+        return false;
+    }
+
+    private void generateTableSchema(ItemSchemaIntrospector introspector, TypeElement itemType) {
+        ItemSchema schema;
+        try {
+            schema = introspector.introspect(itemType);
+        } catch (UnsupportedItemException e) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.NOTE,
+                "Not generating a TableSchema for " + itemType.getQualifiedName() + ", because " + e.getMessage()
+                + ". TableSchema.fromClass will introspect it at runtime.",
+                itemType);
+            return;
+        }
+
+        String schemaClass = schema.packageName().isEmpty()
+                             ? schema.schemaClassName()
+                             : schema.packageName() + "." + schema.schemaClassName();
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(schemaClass, itemType);
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(TableSchemaWriter.write(schema));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     "Could not write " + schemaClass + ": " + e.getMessage(), itemType);
+        }
+    }
+}
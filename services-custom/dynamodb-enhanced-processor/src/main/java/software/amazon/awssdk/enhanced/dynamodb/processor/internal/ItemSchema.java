@@ -0,0 +1,268 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Everything needed to write the source of the table schema of one item class. Types are fully qualified source names, and
+ * getters, setters and values are source expressions that are valid in the package of the item class.
+ */
+@SdkInternalApi
+public final class ItemSchema {
+    private final String packageName;
+    private final String schemaClassName;
+    private final String itemType;
+    private final String builderType;
+    private final String newItem;
+    private final String buildItem;
+    private final List<String> attributeConverterProviders;
+    private final List<Attribute> attributes;
+    private final List<FlattenedItem> flattenedItems;
+    private final boolean usesPropertyAnnotations;
+
+    private ItemSchema(Builder builder) {
+        this.packageName = builder.packageName;
+        this.schemaClassName = builder.schemaClassName;
+        this.itemType = builder.itemType;
+        this.builderType = builder.builderType;
+        this.newItem = builder.newItem;
+        this.buildItem = builder.buildItem;
+        this.attributeConverterProviders = Collections.unmodifiableList(builder.attributeConverterProviders);
+        this.attributes = Collections.unmodifiableList(builder.attributes);
+        this.flattenedItems = Collections.unmodifiableList(builder.flattenedItems);
+        this.usesPropertyAnnotations = builder.usesPropertyAnnotations;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The package of the item class and the generated table schema, or an empty string for the unnamed package.
+     */
+    public String packageName() {
+        return packageName;
+    }
+
+    /**
+     * The simple name of the generated table schema class.
+     */
+    public String schemaClassName() {
+        return schemaClassName;
+    }
+
+    public String itemType() {
+        return itemType;
+    }
+
+    /**
+     * The builder class of an immutable item, or null for a bean item.
+     */
+    public String builderType() {
+        return builderType;
+    }
+
+    /**
+     * A supplier of new items for a bean, or of new builders for an immutable item.
+     */
+    public String newItem() {
+        return newItem;
+    }
+
+    /**
+     * A function that builds an immutable item from its builder, or null for a bean item.
+     */
+    public String buildItem() {
+        return buildItem;
+    }
+
+    public List<String> attributeConverterProviders() {
+        return attributeConverterProviders;
+    }
+
+    public List<Attribute> attributes() {
+        return attributes;
+    }
+
+    public List<FlattenedItem> flattenedItems() {
+        return flattenedItems;
+    }
+
+    /**
+     * Whether any tag expression reads an annotation of a getter or setter at runtime, see
+     * {@link TableSchemaWriter#PROPERTY_ANNOTATION_METHOD}.
+     */
+    public boolean usesPropertyAnnotations() {
+        return usesPropertyAnnotations;
+    }
+
+    public static final class Builder {
+        private String packageName;
+        private String schemaClassName;
+        private String itemType;
+        private String builderType;
+        private String newItem;
+        private String buildItem;
+        private List<String> attributeConverterProviders;
+        private List<Attribute> attributes;
+        private List<FlattenedItem> flattenedItems;
+        private boolean usesPropertyAnnotations;
+
+        private Builder() {
+        }
+
+        public Builder packageName(String packageName) {
+            this.packageName = packageName;
+            return this;
+        }
+
+        public Builder schemaClassName(String schemaClassName) {
+            this.schemaClassName = schemaClassName;
+            return this;
+        }
+
+        public Builder itemType(String itemType) {
+            this.itemType = itemType;
+            return this;
+        }
+
+        public Builder builderType(String builderType) {
+            this.builderType = builderType;
+            return this;
+        }
+
+        public Builder newItem(String newItem) {
+            this.newItem = newItem;
+            return this;
+        }
+
+        public Builder buildItem(String buildItem) {
+            this.buildItem = buildItem;
+            return this;
+        }
+
+        public Builder attributeConverterProviders(List<String> attributeConverterProviders) {
+            this.attributeConverterProviders = attributeConverterProviders;
+            return this;
+        }
+
+        public Builder attributes(List<Attribute> attributes) {
+            this.attributes = attributes;
+            return this;
+        }
+
+        public Builder flattenedItems(List<FlattenedItem> flattenedItems) {
+            this.flattenedItems = flattenedItems;
+            return this;
+        }
+
+        public Builder usesPropertyAnnotations(boolean usesPropertyAnnotations) {
+            this.usesPropertyAnnotations = usesPropertyAnnotations;
+            return this;
+        }
+
+        public ItemSchema build() {
+            return new ItemSchema(this);
+        }
+    }
+
+    /**
+     * An attribute that is mapped by the item schema itself.
+     */
+    public static final class Attribute {
+        private final String name;
+        private final String type;
+        private final String getter;
+        private final String setter;
+        private final String attributeConverter;
+        private final List<String> tags;
+
+        Attribute(String name, String type, String getter, String setter, String attributeConverter, List<String> tags) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+            this.attributeConverter = attributeConverter;
+            this.tags = Collections.unmodifiableList(tags);
+        }
+
+        /**
+         * The name of the attribute, as a string literal.
+         */
+        public String name() {
+            return name;
+        }
+
+        /**
+         * An {@code EnhancedType} expression.
+         */
+        public String type() {
+            return type;
+        }
+
+        public String getter() {
+            return getter;
+        }
+
+        public String setter() {
+            return setter;
+        }
+
+        /**
+         * An {@code AttributeConverter} expression, or null if the converter providers of the item pick the converter.
+         */
+        public String attributeConverter() {
+            return attributeConverter;
+        }
+
+        /**
+         * {@code StaticAttributeTag} expressions.
+         */
+        public List<String> tags() {
+            return tags;
+        }
+    }
+
+    /**
+     * A property annotated with {@code DynamoDbFlatten}, whose own table schema is flattened into the item schema.
+     */
+    public static final class FlattenedItem {
+        private final String type;
+        private final String getter;
+        private final String setter;
+
+        FlattenedItem(String type, String getter, String setter) {
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        public String type() {
+            return type;
+        }
+
+        public String getter() {
+            return getter;
+        }
+
+        public String setter() {
+            return setter;
+        }
+    }
+}
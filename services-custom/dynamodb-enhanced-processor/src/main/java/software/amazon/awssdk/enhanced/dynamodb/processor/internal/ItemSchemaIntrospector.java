@@ -0,0 +1,793 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ItemSchema.Attribute;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ItemSchema.FlattenedItem;
+
+/**
+ * Reads the annotations of a {@code DynamoDbBean} or {@code DynamoDbImmutable} class at compile time and describes its table
+ * schema as an {@link ItemSchema}.
+ * <p>
+ * The rules mirror the ones of {@code BeanTableSchema} and {@code ImmutableTableSchema}, which introspect the class at
+ * runtime. Whenever the generated table schema could behave differently from the runtime one, for example because the class
+ * is not valid for the runtime either, because a type is not accessible from generated code, or because the item references
+ * itself, this class throws an {@link UnsupportedItemException} and the class is left to the runtime.
+ */
+@SdkInternalApi
+public final class ItemSchemaIntrospector {
+    public static final String DYNAMO_DB_BEAN = "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean";
+    public static final String DYNAMO_DB_IMMUTABLE =
+        "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable";
+
+    static final String ENHANCED_TYPE = "software.amazon.awssdk.enhanced.dynamodb.EnhancedType";
+    static final String TABLE_SCHEMA = "software.amazon.awssdk.enhanced.dynamodb.TableSchema";
+
+    private static final String MAPPER_ANNOTATIONS = "software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.";
+    private static final String DYNAMO_DB_ATTRIBUTE = MAPPER_ANNOTATIONS + "DynamoDbAttribute";
+    private static final String DYNAMO_DB_CONVERTED_BY = MAPPER_ANNOTATIONS + "DynamoDbConvertedBy";
+    private static final String DYNAMO_DB_FLATTEN = MAPPER_ANNOTATIONS + "DynamoDbFlatten";
+    private static final String DYNAMO_DB_IGNORE = MAPPER_ANNOTATIONS + "DynamoDbIgnore";
+    private static final String DYNAMO_DB_IGNORE_NULLS = MAPPER_ANNOTATIONS + "DynamoDbIgnoreNulls";
+    private static final String DYNAMO_DB_PRESERVE_EMPTY_OBJECT = MAPPER_ANNOTATIONS + "DynamoDbPreserveEmptyObject";
+    private static final String DYNAMO_DB_PARTITION_KEY = MAPPER_ANNOTATIONS + "DynamoDbPartitionKey";
+    private static final String DYNAMO_DB_SORT_KEY = MAPPER_ANNOTATIONS + "DynamoDbSortKey";
+    private static final String DYNAMO_DB_SECONDARY_PARTITION_KEY = MAPPER_ANNOTATIONS + "DynamoDbSecondaryPartitionKey";
+    private static final String DYNAMO_DB_SECONDARY_SORT_KEY = MAPPER_ANNOTATIONS + "DynamoDbSecondarySortKey";
+    private static final String DYNAMO_DB_UPDATE_BEHAVIOR = MAPPER_ANNOTATIONS + "DynamoDbUpdateBehavior";
+    private static final String BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG = MAPPER_ANNOTATIONS + "BeanTableSchemaAttributeTag";
+    private static final String DYNAMO_DB_ATOMIC_COUNTER =
+        "software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.DynamoDbAtomicCounter";
+    private static final String TRANSIENT = "java.beans.Transient";
+
+    private static final String STATIC_ATTRIBUTE_TAG = "software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTag";
+    private static final String STATIC_ATTRIBUTE_TAGS = "software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags";
+    private static final String UPDATE_BEHAVIOR = "software.amazon.awssdk.enhanced.dynamodb.mapper.UpdateBehavior";
+    private static final String DEFAULT_ATTRIBUTE_CONVERTER_PROVIDER =
+        "software.amazon.awssdk.enhanced.dynamodb.DefaultAttributeConverterProvider";
+    private static final String ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME = "attributeTagFor";
+
+    // The same methods that ImmutableIntrospector ignores: the public methods of Object and toBuilder().
+    private static final Set<String> IMMUTABLE_METHOD_NAMES_TO_IGNORE = new HashSet<>(Arrays.asList(
+        "equals", "getClass", "hashCode", "notify", "notifyAll", "toString", "wait", "toBuilder"));
+
+    private final Elements elements;
+    private final Types types;
+    private final Map<TypeElement, Set<TypeElement>> referencedItemTypes = new HashMap<>();
+
+    public ItemSchemaIntrospector(ProcessingEnvironment processingEnvironment) {
+        this.elements = processingEnvironment.getElementUtils();
+        this.types = processingEnvironment.getTypeUtils();
+    }
+
+    /**
+     * Returns the name of the table schema class that is generated for the given item class: the simple names of the class
+     * and the classes it is nested in, joined by underscores, followed by {@code _TableSchema}. The runtime looks the class
+     * up by the same name.
+     */
+    public static String schemaClassName(TypeElement itemType) {
+        StringBuilder name = new StringBuilder(itemType.getSimpleName());
+        for (Element e = itemType.getEnclosingElement(); isType(e); e = e.getEnclosingElement()) {
+            name.insert(0, '_').insert(0, e.getSimpleName());
+        }
+        return name.append("_TableSchema").toString();
+    }
+
+    /**
+     * Describes the table schema of the given item class.
+     *
+     * @throws UnsupportedItemException if the table schema of the class must be created at runtime.
+     */
+    public ItemSchema introspect(TypeElement itemType) {
+        return new ItemIntrospection(itemType).introspect();
+    }
+
+    private static boolean isType(Element element) {
+        return element.getKind().isClass() || element.getKind().isInterface();
+    }
+
+    private static boolean isInnerClass(TypeElement type) {
+        return type.getNestingKind() == NestingKind.MEMBER
+               && type.getEnclosingElement().getKind().isClass()
+               && !type.getModifiers().contains(Modifier.STATIC);
+    }
+
+    private static UnsupportedItemException unsupported(String message, Object... args) {
+        return new UnsupportedItemException(String.format(message, args));
+    }
+
+    private static AnnotationMirror annotationMirror(Element element, String annotationType) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            if (qualifiedName(annotation).equals(annotationType)) {
+                return annotation;
+            }
+        }
+        return null;
+    }
+
+    private static String qualifiedName(AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static boolean isItemType(Element element) {
+        return annotationMirror(element, DYNAMO_DB_BEAN) != null || annotationMirror(element, DYNAMO_DB_IMMUTABLE) != null;
+    }
+
+    private static String stringLiteral(String value) {
+        StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    private static String decapitalize(String name) {
+        // Same as java.beans.Introspector#decapitalize, which is not in java.base.
+        if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private List<ExecutableElement> publicInstanceMethods(TypeElement type) {
+        return ElementFilter.methodsIn(elements.getAllMembers(type))
+                            .stream()
+                            .filter(m -> m.getModifiers().contains(Modifier.PUBLIC)
+                                         && !m.getModifiers().contains(Modifier.STATIC))
+                            .collect(toList());
+    }
+
+    private Object annotationValue(AnnotationMirror annotation, String name) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> e :
+            elements.getElementValuesWithDefaults(annotation).entrySet()) {
+            if (e.getKey().getSimpleName().contentEquals(name)) {
+                return e.getValue().getValue();
+            }
+        }
+        throw unsupported("the value '%s' of %s could not be read", name, annotation);
+    }
+
+    private boolean sameErasure(TypeMirror first, TypeMirror second) {
+        return types.isSameType(types.erasure(first), types.erasure(second));
+    }
+
+    /**
+     * Whether the given item class references itself through the return types of its getters, directly or through other item
+     * classes. The generated table schemas create the table schemas of nested items when they are created, so they cannot
+     * describe recursive items. This errs on the side of reporting recursion, as it looks at the return types of all public
+     * methods without parameters, and not only at the ones that are mapped.
+     */
+    private boolean referencesItself(TypeElement itemType) {
+        Set<TypeElement> visited = new HashSet<>();
+        Deque<TypeElement> pending = new ArrayDeque<>(referencedItemTypes(itemType));
+        while (!pending.isEmpty()) {
+            TypeElement next = pending.pop();
+            if (next.equals(itemType)) {
+                return true;
+            }
+            if (visited.add(next)) {
+                pending.addAll(referencedItemTypes(next));
+            }
+        }
+        return false;
+    }
+
+    private Set<TypeElement> referencedItemTypes(TypeElement type) {
+        Set<TypeElement> result = referencedItemTypes.get(type);
+        if (result == null) {
+            result = new LinkedHashSet<>();
+            for (ExecutableElement method : publicInstanceMethods(type)) {
+                if (method.getParameters().isEmpty()) {
+                    collectItemTypes(method.getReturnType(), result);
+                }
+            }
+            referencedItemTypes.put(type, result);
+        }
+        return result;
+    }
+
+    private void collectItemTypes(TypeMirror type, Set<TypeElement> result) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            collectItemTypes(((ArrayType) type).getComponentType(), result);
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declaredType = (DeclaredType) type;
+            if (isItemType(declaredType.asElement())) {
+                result.add((TypeElement) declaredType.asElement());
+            }
+            declaredType.getTypeArguments().forEach(t -> collectItemTypes(t, result));
+        }
+    }
+
+    /**
+     * The introspection of one item class.
+     */
+    private final class ItemIntrospection {
+        private final TypeElement itemType;
+        private final String packageName;
+        private final String itemTypeName;
+        private boolean usesPropertyAnnotations;
+
+        private ItemIntrospection(TypeElement itemType) {
+            this.itemType = itemType;
+            this.packageName = elements.getPackageOf(itemType).getQualifiedName().toString();
+            this.itemTypeName = itemType.getQualifiedName().toString();
+        }
+
+        private ItemSchema introspect() {
+            validateItemType();
+
+            if (referencesItself(itemType)) {
+                throw unsupported("it references itself, directly or through other items");
+            }
+
+            // Like TableSchema.fromClass, prefer DynamoDbImmutable if a class has both annotations.
+            AnnotationMirror immutable = annotationMirror(itemType, DYNAMO_DB_IMMUTABLE);
+            ItemSchema.Builder schema = immutable != null ? introspectImmutable(immutable) : introspectBean();
+            return schema.packageName(packageName)
+                         .schemaClassName(schemaClassName(itemType))
+                         .itemType(itemTypeName)
+                         .usesPropertyAnnotations(usesPropertyAnnotations)
+                         .build();
+        }
+
+        private void validateItemType() {
+            if (itemType.getNestingKind() != NestingKind.TOP_LEVEL && itemType.getNestingKind() != NestingKind.MEMBER) {
+                throw unsupported("it is a local or anonymous class");
+            }
+            for (Element e = itemType; isType(e); e = e.getEnclosingElement()) {
+                if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                    throw unsupported("it is private or nested in a private class");
+                }
+            }
+            if (isInnerClass(itemType)) {
+                throw unsupported("it is an inner class");
+            }
+            if (!itemType.getTypeParameters().isEmpty()) {
+                throw unsupported("it has type parameters");
+            }
+        }
+
+        private ItemSchema.Builder introspectBean() {
+            if (itemType.getKind() != ElementKind.CLASS || itemType.getModifiers().contains(Modifier.ABSTRACT)) {
+                throw unsupported("a DynamoDbBean must be a concrete class");
+            }
+            requirePublicNoArgConstructor(itemType);
+
+            List<Attribute> attributes = new ArrayList<>();
+            List<FlattenedItem> flattenedItems = new ArrayList<>();
+            beanProperties().forEach((name, accessors) -> {
+                if (!isIgnored(accessors[0], accessors[1])) {
+                    addProperty(name, accessors[0], accessors[1], itemType, attributes, flattenedItems);
+                }
+            });
+
+            AnnotationMirror bean = annotationMirror(itemType, DYNAMO_DB_BEAN);
+            return ItemSchema.builder()
+                             .newItem(itemTypeName + "::new")
+                             .attributeConverterProviders(attributeConverterProviders(bean))
+                             .attributes(attributes)
+                             .flattenedItems(flattenedItems);
+        }
+
+        /**
+         * Returns the getter and setter of each property, sorted by the property name, the way java.beans.Introspector finds
+         * them and BeanTableSchema adds fluent setters to them.
+         */
+        private Map<String, ExecutableElement[]> beanProperties() {
+            Map<String, ExecutableElement> getters = new TreeMap<>();
+            Map<String, List<ExecutableElement>> setters = new HashMap<>();
+            List<ExecutableElement> methods = publicInstanceMethods(itemType);
+
+            for (ExecutableElement method : methods) {
+                String name = method.getSimpleName().toString();
+                TypeKind returnKind = method.getReturnType().getKind();
+                if (method.getParameters().isEmpty()) {
+                    if (name.length() > 2 && name.startsWith("is") && returnKind == TypeKind.BOOLEAN) {
+                        getters.put(decapitalize(name.substring(2)), method);
+                    } else if (name.length() > 3 && name.startsWith("get") && returnKind != TypeKind.VOID) {
+                        getters.putIfAbsent(decapitalize(name.substring(3)), method);
+                    }
+                } else if (method.getParameters().size() == 1 && name.length() > 3 && name.startsWith("set")
+                           && returnKind == TypeKind.VOID) {
+                    setters.computeIfAbsent(decapitalize(name.substring(3)), n -> new ArrayList<>()).add(method);
+                }
+            }
+
+            Map<String, ExecutableElement[]> properties = new LinkedHashMap<>();
+            getters.forEach((name, getter) -> {
+                ExecutableElement setter = setter(name, getter, setters.get(name), methods);
+                if (setter != null) {
+                    if (isDefaultMethod(getter) || isDefaultMethod(setter)) {
+                        throw unsupported("the property '%s' is implemented by a default method", name);
+                    }
+                    properties.put(name, new ExecutableElement[] {getter, setter});
+                }
+            });
+            return properties;
+        }
+
+        private ExecutableElement setter(String name,
+                                         ExecutableElement getter,
+                                         List<ExecutableElement> setters,
+                                         List<ExecutableElement> methods) {
+            TypeMirror type = getter.getReturnType();
+            if (setters != null) {
+                return setters.stream()
+                              .filter(s -> sameErasure(s.getParameters().get(0).asType(), type))
+                              .findFirst()
+                              .orElseThrow(() -> unsupported("the setter of property '%s' does not take the type that "
+                                                             + "its getter returns", name));
+            }
+
+            String fluentSetterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            for (ExecutableElement method : methods) {
+                if (method.getSimpleName().contentEquals(fluentSetterName)
+                    && method.getParameters().size() == 1
+                    && sameErasure(method.getReturnType(), itemType.asType())) {
+                    if (!sameErasure(method.getParameters().get(0).asType(), type)) {
+                        throw unsupported("the fluent setter of property '%s' does not take the type that its getter "
+                                          + "returns", name);
+                    }
+                    return method;
+                }
+            }
+            return null;
+        }
+
+        private boolean isDefaultMethod(ExecutableElement method) {
+            return method.getEnclosingElement().getKind().isInterface();
+        }
+
+        private ItemSchema.Builder introspectImmutable(AnnotationMirror immutable) {
+            TypeMirror builderMirror = (TypeMirror) annotationValue(immutable, "builder");
+            if (builderMirror.getKind() != TypeKind.DECLARED) {
+                throw unsupported("its builder %s is not a class", builderMirror);
+            }
+            TypeElement builderType = (TypeElement) ((DeclaredType) builderMirror).asElement();
+            if (!builderType.getTypeParameters().isEmpty()) {
+                throw unsupported("its builder %s has type parameters", builderType);
+            }
+            String builderTypeName = typeName(builderMirror);
+
+            Map<String, ExecutableElement> setters = new LinkedHashMap<>();
+            for (ExecutableElement method : publicInstanceMethods(builderType)) {
+                if (isMappableImmutableMethod(method) && setters.put(normalizeSetterName(method), method) != null) {
+                    throw unsupported("its builder has more than one method for the property '%s'",
+                                      normalizeSetterName(method));
+                }
+            }
+
+            ExecutableElement buildMethod = setters.remove("build");
+            if (buildMethod == null
+                || !buildMethod.getParameters().isEmpty()
+                || !types.isSameType(buildMethod.getReturnType(), types.erasure(itemType.asType()))) {
+                throw unsupported("its builder has no build() method that returns it");
+            }
+
+            List<Attribute> attributes = new ArrayList<>();
+            List<FlattenedItem> flattenedItems = new ArrayList<>();
+            for (ExecutableElement getter : publicInstanceMethods(itemType)) {
+                if (!isMappableImmutableMethod(getter)) {
+                    continue;
+                }
+                if (getter.getReturnType().getKind() == TypeKind.VOID || !getter.getParameters().isEmpty()) {
+                    throw unsupported("the method %s is not a getter", getter);
+                }
+                String name = normalizeGetterName(getter);
+                ExecutableElement setter = setters.remove(name);
+                if (setter == null || !isValidImmutableSetter(setter, getter.getReturnType(), builderType)) {
+                    throw unsupported("the getter %s has no matching setter on the builder", getter);
+                }
+                addProperty(name, getter, setter, builderType, attributes, flattenedItems);
+            }
+            if (!setters.isEmpty()) {
+                throw unsupported("the builder method %s has no matching getter", setters.values().iterator().next());
+            }
+
+            return ItemSchema.builder()
+                             .builderType(builderTypeName)
+                             .newItem(newBuilder(builderType, builderTypeName))
+                             .buildItem(builderTypeName + "::build")
+                             .attributeConverterProviders(attributeConverterProviders(immutable))
+                             .attributes(attributes)
+                             .flattenedItems(flattenedItems);
+        }
+
+        private boolean isMappableImmutableMethod(ExecutableElement method) {
+            return !((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals("java.lang.Object")
+                   && !IMMUTABLE_METHOD_NAMES_TO_IGNORE.contains(method.getSimpleName().toString())
+                   && annotationMirror(method, DYNAMO_DB_IGNORE) == null
+                   && annotationMirror(method, TRANSIENT) == null;
+        }
+
+        private String normalizeGetterName(ExecutableElement getter) {
+            String name = getter.getSimpleName().toString();
+            TypeMirror type = getter.getReturnType();
+            boolean isBoolean = type.getKind() == TypeKind.BOOLEAN
+                                || types.isSameType(type, elements.getTypeElement("java.lang.Boolean").asType());
+            if (name.length() > 2 && Character.isUpperCase(name.charAt(2)) && name.startsWith("is") && isBoolean) {
+                return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+            }
+            if (name.length() > 3 && Character.isUpperCase(name.charAt(3)) && name.startsWith("get")) {
+                return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+            }
+            return name;
+        }
+
+        private String normalizeSetterName(ExecutableElement setter) {
+            String name = setter.getSimpleName().toString();
+            if (name.length() > 3 && Character.isUpperCase(name.charAt(3)) && name.startsWith("set")) {
+                return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+            }
+            return name;
+        }
+
+        private boolean isValidImmutableSetter(ExecutableElement setter, TypeMirror type, TypeElement builderType) {
+            if (setter.getParameters().size() != 1 || !sameErasure(setter.getParameters().get(0).asType(), type)) {
+                return false;
+            }
+            TypeMirror returnType = setter.getReturnType();
+            return returnType.getKind() == TypeKind.VOID
+                   || types.isSameType(returnType, elements.getTypeElement("java.lang.Void").asType())
+                   || types.isAssignable(types.erasure(builderType.asType()), types.erasure(returnType));
+        }
+
+        private String newBuilder(TypeElement builderType, String builderTypeName) {
+            for (ExecutableElement method : ElementFilter.methodsIn(elements.getAllMembers(itemType))) {
+                if (method.getSimpleName().contentEquals("builder")
+                    && method.getParameters().isEmpty()
+                    && method.getModifiers().contains(Modifier.PUBLIC)) {
+                    if (!method.getModifiers().contains(Modifier.STATIC)
+                        || !types.isAssignable(types.erasure(builderType.asType()), types.erasure(method.getReturnType()))) {
+                        break;
+                    }
+                    if (types.isSameType(method.getReturnType(), builderType.asType())) {
+                        return itemTypeName + "::builder";
+                    }
+                    return "() -> (" + builderTypeName + ") " + itemTypeName + ".builder()";
+                }
+            }
+
+            if (builderType.getModifiers().contains(Modifier.ABSTRACT)) {
+                throw unsupported("it has no static builder() method and its builder is abstract");
+            }
+            requireInstantiable(builderType);
+            return builderTypeName + "::new";
+        }
+
+        private List<String> attributeConverterProviders(AnnotationMirror itemAnnotation) {
+            List<String> providers = new ArrayList<>();
+            for (AnnotationValue provider : annotationValues(itemAnnotation, "converterProviders")) {
+                providers.add(newInstance((TypeMirror) provider.getValue()));
+            }
+            return providers;
+        }
+
+        @SuppressWarnings("unchecked")
+        private List<? extends AnnotationValue> annotationValues(AnnotationMirror annotation, String name) {
+            return (List<? extends AnnotationValue>) annotationValue(annotation, name);
+        }
+
+        private boolean isIgnored(ExecutableElement getter, ExecutableElement setter) {
+            return propertyAnnotation(getter, setter, DYNAMO_DB_IGNORE) != null
+                   || propertyAnnotation(getter, setter, TRANSIENT) != null;
+        }
+
+        private AnnotationMirror propertyAnnotation(ExecutableElement getter, ExecutableElement setter, String annotation) {
+            AnnotationMirror getterAnnotation = annotationMirror(getter, annotation);
+            return getterAnnotation != null ? getterAnnotation : annotationMirror(setter, annotation);
+        }
+
+        private void addProperty(String propertyName,
+                                 ExecutableElement getter,
+                                 ExecutableElement setter,
+                                 TypeElement setterType,
+                                 List<Attribute> attributes,
+                                 List<FlattenedItem> flattenedItems) {
+            String getterReference = itemTypeName + "::" + getter.getSimpleName();
+            String setterReference = setterType.getQualifiedName() + "::" + setter.getSimpleName();
+            TypeMirror type = getter.getReturnType();
+
+            if (propertyAnnotation(getter, setter, DYNAMO_DB_FLATTEN) != null) {
+                if (type.getKind() != TypeKind.DECLARED
+                    || !isItemType(((DeclaredType) type).asElement())
+                    || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+                    throw unsupported("the flattened property '%s' is not a DynamoDbBean or DynamoDbImmutable", propertyName);
+                }
+                flattenedItems.add(new FlattenedItem(typeName(type), getterReference, setterReference));
+                return;
+            }
+
+            AnnotationMirror attribute = propertyAnnotation(getter, setter, DYNAMO_DB_ATTRIBUTE);
+            String name = attribute != null ? (String) annotationValue(attribute, "value") : propertyName;
+            boolean preserveEmptyObject = propertyAnnotation(getter, setter, DYNAMO_DB_PRESERVE_EMPTY_OBJECT) != null;
+            boolean ignoreNulls = propertyAnnotation(getter, setter, DYNAMO_DB_IGNORE_NULLS) != null;
+
+            AnnotationMirror convertedBy = propertyAnnotation(getter, setter, DYNAMO_DB_CONVERTED_BY);
+            String attributeConverter = convertedBy != null
+                                        ? newInstance((TypeMirror) annotationValue(convertedBy, "value"))
+                                        : null;
+
+            List<String> tags = new ArrayList<>();
+            addTags(getter, itemType, tags);
+            addTags(setter, setterType, tags);
+
+            attributes.add(new Attribute(stringLiteral(name),
+                                         enhancedType(type, preserveEmptyObject, ignoreNulls),
+                                         getterReference,
+                                         setterReference,
+                                         attributeConverter,
+                                         tags));
+        }
+
+        private void addTags(ExecutableElement method, TypeElement methodType, List<String> tags) {
+            for (AnnotationMirror annotation : method.getAnnotationMirrors()) {
+                TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+                AnnotationMirror attributeTag = annotationMirror(annotationType, BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG);
+                // The runtime only sees annotations that are retained at runtime.
+                if (attributeTag != null && isRetainedAtRuntime(annotationType)) {
+                    tags.add(tag(annotation, attributeTag, method, methodType));
+                }
+            }
+        }
+
+        private boolean isRetainedAtRuntime(TypeElement annotationType) {
+            AnnotationMirror retention = annotationMirror(annotationType, "java.lang.annotation.Retention");
+            return retention != null
+                   && ((VariableElement) annotationValue(retention, "value")).getSimpleName().contentEquals("RUNTIME");
+        }
+
+        private String tag(AnnotationMirror annotation,
+                           AnnotationMirror attributeTag,
+                           ExecutableElement method,
+                           TypeElement methodType) {
+            switch (qualifiedName(annotation)) {
+                case DYNAMO_DB_PARTITION_KEY:
+                    return STATIC_ATTRIBUTE_TAGS + ".primaryPartitionKey()";
+                case DYNAMO_DB_SORT_KEY:
+                    return STATIC_ATTRIBUTE_TAGS + ".primarySortKey()";
+                case DYNAMO_DB_SECONDARY_PARTITION_KEY:
+                    return STATIC_ATTRIBUTE_TAGS + ".secondaryPartitionKey(" + indexNames(annotation) + ")";
+                case DYNAMO_DB_SECONDARY_SORT_KEY:
+                    return STATIC_ATTRIBUTE_TAGS + ".secondarySortKey(" + indexNames(annotation) + ")";
+                case DYNAMO_DB_UPDATE_BEHAVIOR:
+                    VariableElement updateBehavior = (VariableElement) annotationValue(annotation, "value");
+                    return STATIC_ATTRIBUTE_TAGS + ".updateBehavior(" + UPDATE_BEHAVIOR + "." + updateBehavior.getSimpleName()
+                           + ")";
+                case DYNAMO_DB_ATOMIC_COUNTER:
+                    return STATIC_ATTRIBUTE_TAGS + ".atomicCounter(" + annotationValue(annotation, "delta") + "L, "
+                           + annotationValue(annotation, "startValue") + "L)";
+                default:
+                    return customTag(annotation, attributeTag, method, methodType);
+            }
+        }
+
+        private String indexNames(AnnotationMirror annotation) {
+            return annotationValues(annotation, "indexNames").stream()
+                                                             .map(v -> stringLiteral((String) v.getValue()))
+                                                             .collect(joining(", ", "java.util.Arrays.asList(", ")"));
+        }
+
+        /**
+         * A tag of an annotation that the enhanced client does not know, which is created by the static
+         * {@code attributeTagFor} method of the tag class from the annotation instance, read from the getter or setter at
+         * runtime.
+         */
+        private String customTag(AnnotationMirror annotation,
+                                 AnnotationMirror attributeTag,
+                                 ExecutableElement method,
+                                 TypeElement methodType) {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            TypeElement tagType = (TypeElement) ((DeclaredType) annotationValue(attributeTag, "value")).asElement();
+            TypeElement staticAttributeTag = elements.getTypeElement(STATIC_ATTRIBUTE_TAG);
+
+            boolean hasTagMethod =
+                staticAttributeTag != null
+                && ElementFilter.methodsIn(tagType.getEnclosedElements())
+                                .stream()
+                                .anyMatch(m -> m.getSimpleName().contentEquals(ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME)
+                                               && m.getModifiers().contains(Modifier.PUBLIC)
+                                               && m.getModifiers().contains(Modifier.STATIC)
+                                               && m.getParameters().size() == 1
+                                               && types.isSameType(m.getParameters().get(0).asType(), annotationType.asType())
+                                               && types.isAssignable(m.getReturnType(), staticAttributeTag.asType()));
+            if (!hasTagMethod) {
+                throw unsupported("the tag class %s of %s has no public static %s(%s) method", tagType, annotationType,
+                                  ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME, annotationType.getSimpleName());
+            }
+
+            StringBuilder tag = new StringBuilder();
+            tag.append(typeName(tagType.asType())).append('.').append(ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME).append('(')
+               .append(TableSchemaWriter.PROPERTY_ANNOTATION_METHOD).append('(')
+               .append(typeName(methodType.asType())).append(".class, ")
+               .append(stringLiteral(method.getSimpleName().toString())).append(", ")
+               .append(typeName(annotationType.asType())).append(".class");
+            for (VariableElement parameter : method.getParameters()) {
+                tag.append(", ").append(typeName(types.erasure(parameter.asType()))).append(".class");
+            }
+            usesPropertyAnnotations = true;
+            return tag.append("))").toString();
+        }
+
+        private String enhancedType(TypeMirror type, boolean preserveEmptyObject, boolean ignoreNulls) {
+            if (type.getKind() == TypeKind.DECLARED) {
+                DeclaredType declaredType = (DeclaredType) type;
+                TypeElement element = (TypeElement) declaredType.asElement();
+                List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+                String name = element.getQualifiedName().toString();
+
+                if ("java.util.List".equals(name) && typeArguments.size() == 1) {
+                    return ENHANCED_TYPE + ".listOf(" + enhancedType(typeArguments.get(0), preserveEmptyObject, ignoreNulls)
+                           + ")";
+                }
+                if ("java.util.Map".equals(name) && typeArguments.size() == 2) {
+                    return ENHANCED_TYPE + ".mapOf(" + plainEnhancedType(typeArguments.get(0)) + ", "
+                           + enhancedType(typeArguments.get(1), preserveEmptyObject, ignoreNulls) + ")";
+                }
+                if (isItemType(element)) {
+                    if (!typeArguments.isEmpty()) {
+                        throw unsupported("the document type %s has type arguments", type);
+                    }
+                    String documentType = typeName(type);
+                    return ENHANCED_TYPE + ".documentOf(" + documentType + ".class, " + TABLE_SCHEMA + ".fromClass("
+                           + documentType + ".class), b -> b.preserveEmptyObject(" + preserveEmptyObject + ").ignoreNulls("
+                           + ignoreNulls + "))";
+                }
+            }
+            return plainEnhancedType(type);
+        }
+
+        private String plainEnhancedType(TypeMirror type) {
+            if (type.getKind() == TypeKind.DECLARED && !((DeclaredType) type).getTypeArguments().isEmpty()) {
+                return "new " + ENHANCED_TYPE + "<" + typeName(type) + ">() { }";
+            }
+            TypeMirror component = type;
+            while (component.getKind() == TypeKind.ARRAY) {
+                component = ((ArrayType) component).getComponentType();
+            }
+            if (component.getKind() == TypeKind.DECLARED && !((DeclaredType) component).getTypeArguments().isEmpty()) {
+                throw unsupported("the generic array type %s is not supported", type);
+            }
+            return ENHANCED_TYPE + ".of(" + typeName(type) + ".class)";
+        }
+
+        /**
+         * Returns the source name of a type that is used by the generated table schema.
+         *
+         * @throws UnsupportedItemException if the type cannot be named in the package of the item class.
+         */
+        private String typeName(TypeMirror type) {
+            if (type.getKind().isPrimitive()) {
+                return type.getKind().name().toLowerCase(Locale.ROOT);
+            }
+            switch (type.getKind()) {
+                case ARRAY:
+                    return typeName(((ArrayType) type).getComponentType()) + "[]";
+                case DECLARED:
+                    DeclaredType declaredType = (DeclaredType) type;
+                    TypeElement element = (TypeElement) declaredType.asElement();
+                    requireAccessible(element);
+                    TypeMirror enclosingType = declaredType.getEnclosingType();
+                    if (enclosingType.getKind() == TypeKind.DECLARED
+                        && !((DeclaredType) enclosingType).getTypeArguments().isEmpty()) {
+                        throw unsupported("the type %s is an inner class of a generic class", type);
+                    }
+                    String name = element.getQualifiedName().toString();
+                    if (declaredType.getTypeArguments().isEmpty()) {
+                        return name;
+                    }
+                    return declaredType.getTypeArguments()
+                                       .stream()
+                                       .map(this::typeName)
+                                       .collect(joining(", ", name + "<", ">"));
+                case ERROR:
+                    throw unsupported("the type %s could not be resolved", type);
+                default:
+                    throw unsupported("the type %s is not a class, array or primitive type", type);
+            }
+        }
+
+        private String newInstance(TypeMirror type) {
+            TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+            if (element.getQualifiedName().contentEquals(DEFAULT_ATTRIBUTE_CONVERTER_PROVIDER)) {
+                return DEFAULT_ATTRIBUTE_CONVERTER_PROVIDER + ".create()";
+            }
+            if (element.getModifiers().contains(Modifier.ABSTRACT) || !element.getTypeParameters().isEmpty()) {
+                throw unsupported("%s is abstract or generic", element);
+            }
+            requireInstantiable(element);
+            return "new " + typeName(element.asType()) + "()";
+        }
+
+        private void requireInstantiable(TypeElement type) {
+            if (isInnerClass(type)) {
+                throw unsupported("%s is an inner class", type);
+            }
+            requireAccessible(type);
+            requirePublicNoArgConstructor(type);
+        }
+
+        private void requirePublicNoArgConstructor(TypeElement type) {
+            boolean hasConstructor =
+                ElementFilter.constructorsIn(type.getEnclosedElements())
+                             .stream()
+                             .anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+            if (!hasConstructor) {
+                throw unsupported("%s has no public constructor without arguments", type);
+            }
+        }
+
+        private void requireAccessible(TypeElement type) {
+            for (Element e = type; isType(e); e = e.getEnclosingElement()) {
+                Set<Modifier> modifiers = e.getModifiers();
+                boolean accessible = modifiers.contains(Modifier.PUBLIC)
+                                     || !modifiers.contains(Modifier.PRIVATE)
+                                        && elements.getPackageOf(e).getQualifiedName().contentEquals(packageName);
+                if (!accessible) {
+                    throw unsupported("%s is not accessible from the package of the item", type);
+                }
+            }
+        }
+    }
+}
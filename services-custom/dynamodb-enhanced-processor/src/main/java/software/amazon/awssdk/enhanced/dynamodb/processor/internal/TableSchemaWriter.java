@@ -0,0 +1,166 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.internal;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.internal.ItemSchemaIntrospector.TABLE_SCHEMA;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ItemSchema.Attribute;
+import software.amazon.awssdk.enhanced.dynamodb.processor.internal.ItemSchema.FlattenedItem;
+
+/**
+ * Writes the source of the table schema class of an {@link ItemSchema}. The class wraps a {@code StaticTableSchema} for a bean
+ * and a {@code StaticImmutableTableSchema} for an immutable item, and has a public constructor without arguments, which is
+ * what {@code TableSchema.fromClass} looks for. All types are written with their fully qualified names, so that the
+ * generated source cannot clash with the names of the package it is generated in.
+ */
+@SdkInternalApi
+public final class TableSchemaWriter {
+    /**
+     * The name of the generated method that reads an annotation of a getter or setter, for tags of annotations that the
+     * processor does not know.
+     */
+    static final String PROPERTY_ANNOTATION_METHOD = "propertyAnnotation";
+
+    private static final String GENERATOR = "software.amazon.awssdk.enhanced.dynamodb.processor.TableSchemaProcessor";
+    private static final String MAPPER = "software.amazon.awssdk.enhanced.dynamodb.mapper.";
+    private static final String WRAPPED_TABLE_SCHEMA = MAPPER + "WrappedTableSchema";
+    private static final String STATIC_TABLE_SCHEMA = MAPPER + "StaticTableSchema";
+    private static final String STATIC_IMMUTABLE_TABLE_SCHEMA = MAPPER + "StaticImmutableTableSchema";
+    private static final String ATTRIBUTE_CONVERTER = "software.amazon.awssdk.enhanced.dynamodb.AttributeConverter";
+    private static final String ATTRIBUTE_CONVERTER_METHOD = "attributeConverter";
+
+    private final ItemSchema schema;
+    private final StringBuilder source = new StringBuilder();
+
+    private TableSchemaWriter(ItemSchema schema) {
+        this.schema = schema;
+    }
+
+    public static String write(ItemSchema schema) {
+        return new TableSchemaWriter(schema).write();
+    }
+
+    private String write() {
+        String itemType = schema.itemType();
+        String simpleName = itemType.substring(itemType.lastIndexOf('.') + 1);
+        String delegateType = schema.builderType() == null
+                              ? STATIC_TABLE_SCHEMA + "<" + itemType + ">"
+                              : STATIC_IMMUTABLE_TABLE_SCHEMA + "<" + itemType + ", " + schema.builderType() + ">";
+
+        if (!schema.packageName().isEmpty()) {
+            line(0, "package " + schema.packageName() + ";");
+            line(0, "");
+        }
+        line(0, "/**");
+        line(0, " * The {@code TableSchema} of {@link " + itemType + "}, generated at compile time from its");
+        line(0, " * DynamoDb enhanced client annotations. {@code TableSchema.fromClass(" + simpleName + ".class)}");
+        line(0, " * returns an instance of this class instead of introspecting {@code " + simpleName + "} at runtime.");
+        line(0, " */");
+        line(0, "@software.amazon.awssdk.annotations.Generated(\"" + GENERATOR + "\")");
+        line(0, "public final class " + schema.schemaClassName());
+        line(1, "extends " + WRAPPED_TABLE_SCHEMA + "<" + itemType + ", " + delegateType + "> {");
+        line(0, "");
+        line(1, "public " + schema.schemaClassName() + "() {");
+        line(2, "super(createTableSchema());");
+        line(1, "}");
+        line(0, "");
+        line(1, "private static " + delegateType + " createTableSchema() {");
+        writeTableSchema();
+        line(1, "}");
+
+        if (schema.attributes().stream().anyMatch(a -> a.attributeConverter() != null)) {
+            writeAttributeConverterMethod();
+        }
+        if (schema.usesPropertyAnnotations()) {
+            writePropertyAnnotationMethod();
+        }
+        line(0, "}");
+        return source.toString();
+    }
+
+    private void writeTableSchema() {
+        if (schema.builderType() == null) {
+            line(2, "return " + STATIC_TABLE_SCHEMA + ".builder(" + schema.itemType() + ".class)");
+            line(3, ".newItemSupplier(" + schema.newItem() + ")");
+        } else {
+            line(2, "return " + STATIC_IMMUTABLE_TABLE_SCHEMA + ".builder(" + schema.itemType() + ".class, "
+                    + schema.builderType() + ".class)");
+            line(3, ".newItemBuilder(" + schema.newItem() + ", " + schema.buildItem() + ")");
+        }
+        line(3, ".attributeConverterProviders(" + String.join(", ", schema.attributeConverterProviders()) + ")");
+
+        for (FlattenedItem flattenedItem : schema.flattenedItems()) {
+            line(3, ".flatten(" + TABLE_SCHEMA + ".fromClass(" + flattenedItem.type() + ".class),");
+            line(5, flattenedItem.getter() + ",");
+            line(5, flattenedItem.setter() + ")");
+        }
+
+        for (Attribute attribute : schema.attributes()) {
+            line(3, ".addAttribute(" + attribute.type() + ",");
+            line(5, "a -> a.name(" + attribute.name() + ")");
+            line(7, ".getter(" + attribute.getter() + ")");
+            line(7, ".setter(" + attribute.setter() + ")");
+            if (attribute.attributeConverter() != null) {
+                line(7, "." + ATTRIBUTE_CONVERTER_METHOD + "(" + ATTRIBUTE_CONVERTER_METHOD + "("
+                        + attribute.attributeConverter() + "))");
+            }
+            for (String tag : attribute.tags()) {
+                line(7, ".addTag(" + tag + ")");
+            }
+            appendToLastLine(")");
+        }
+        line(3, ".build();");
+    }
+
+    private void writeAttributeConverterMethod() {
+        // Like the runtime table schemas, use the converter of DynamoDbConvertedBy whatever type it declares.
+        line(0, "");
+        line(1, "@SuppressWarnings(\"unchecked\")");
+        line(1, "private static <R> " + ATTRIBUTE_CONVERTER + "<R> " + ATTRIBUTE_CONVERTER_METHOD + "("
+                + ATTRIBUTE_CONVERTER + "<?> attributeConverter) {");
+        line(2, "return (" + ATTRIBUTE_CONVERTER + "<R>) attributeConverter;");
+        line(1, "}");
+    }
+
+    private void writePropertyAnnotationMethod() {
+        line(0, "");
+        line(1, "private static <A extends java.lang.annotation.Annotation> A " + PROPERTY_ANNOTATION_METHOD
+                + "(Class<?> type, String methodName,");
+        line(5, "Class<A> annotationType, Class<?>... parameterTypes) {");
+        line(2, "try {");
+        line(3, "return type.getMethod(methodName, parameterTypes).getAnnotation(annotationType);");
+        line(2, "} catch (NoSuchMethodException e) {");
+        line(3, "throw new IllegalStateException(\"The class \" + type + \" changed after \" + "
+                + schema.schemaClassName() + ".class + \" was generated.\", e);");
+        line(2, "}");
+        line(1, "}");
+    }
+
+    private void line(int indent, String line) {
+        if (!line.isEmpty()) {
+            for (int i = 0; i < indent; i++) {
+                source.append("    ");
+            }
+            source.append(line);
+        }
+        source.append('\n');
+    }
+
+    private void appendToLastLine(String suffix) {
+        source.insert(source.length() - 1, suffix);
+    }
+}
@@ -0,0 +1,464 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
+import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchemaParams;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchemaParams;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Compiles item classes with the processor and checks that the generated table schemas map items exactly like the table
+ * schemas that the enhanced client creates at runtime.
+ */
+public class TableSchemaProcessorTest {
+    private static final String UPPER_CASE_CONVERTER = UpperCaseConverter.class.getCanonicalName();
+
+    private static final String IMPORTS =
+        "package test;\n"
+        + "import java.util.*;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.*;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.extensions.annotations.*;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.UpdateBehavior;\n"
+        + "import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.*;\n"
+        + "import software.amazon.awssdk.services.dynamodb.model.AttributeValue;\n";
+
+    private static final String CUSTOMER =
+        IMPORTS
+        + "@DynamoDbBean\n"
+        + "public class Customer {\n"
+        + "    private String id, sort, email, nickname, name, ignored;\n"
+        + "    private int age;\n"
+        + "    private boolean active;\n"
+        + "    private Long version, counter;\n"
+        + "    private java.time.Instant createdAt;\n"
+        + "    private List<String> tags;\n"
+        + "    private Map<String, Integer> scores;\n"
+        + "    private Set<String> labels;\n"
+        + "    private Address address;\n"
+        + "    private List<Address> previousAddresses;\n"
+        + "    private Details details;\n"
+        + "    @DynamoDbPartitionKey public String getId() { return id; }\n"
+        + "    public void setId(String id) { this.id = id; }\n"
+        + "    @DynamoDbSortKey @DynamoDbSecondaryPartitionKey(indexNames = \"bySort\")\n"
+        + "    public String getSort() { return sort; }\n"
+        + "    public void setSort(String sort) { this.sort = sort; }\n"
+        + "    @DynamoDbAttribute(\"email_address\") @DynamoDbSecondarySortKey(indexNames = {\"bySort\", \"byEmail\"})\n"
+        + "    public String getEmail() { return email; }\n"
+        + "    @DynamoDbSecondaryPartitionKey(indexNames = \"byEmail\")\n"
+        + "    public void setEmail(String email) { this.email = email; }\n"
+        + "    @DynamoDbConvertedBy(" + UPPER_CASE_CONVERTER + ".class) public String getNickname() { return nickname; }\n"
+        + "    public void setNickname(String nickname) { this.nickname = nickname; }\n"
+        + "    public String getName() { return name; }\n"
+        + "    public Customer setName(String name) { this.name = name; return this; }\n"
+        + "    @DynamoDbIgnore public String getIgnored() { return ignored; }\n"
+        + "    public void setIgnored(String ignored) { this.ignored = ignored; }\n"
+        + "    public int getAge() { return age; }\n"
+        + "    public void setAge(int age) { this.age = age; }\n"
+        + "    public boolean isActive() { return active; }\n"
+        + "    public void setActive(boolean active) { this.active = active; }\n"
+        + "    @DynamoDbVersionAttribute public Long getVersion() { return version; }\n"
+        + "    public void setVersion(Long version) { this.version = version; }\n"
+        + "    @DynamoDbAtomicCounter(delta = 5, startValue = 10) public Long getCounter() { return counter; }\n"
+        + "    public void setCounter(Long counter) { this.counter = counter; }\n"
+        + "    @DynamoDbUpdateBehavior(UpdateBehavior.WRITE_IF_NOT_EXISTS)\n"
+        + "    public java.time.Instant getCreatedAt() { return createdAt; }\n"
+        + "    public void setCreatedAt(java.time.Instant createdAt) { this.createdAt = createdAt; }\n"
+        + "    public List<String> getTags() { return tags; }\n"
+        + "    public void setTags(List<String> tags) { this.tags = tags; }\n"
+        + "    public Map<String, Integer> getScores() { return scores; }\n"
+        + "    public void setScores(Map<String, Integer> scores) { this.scores = scores; }\n"
+        + "    public Set<String> getLabels() { return labels; }\n"
+        + "    public void setLabels(Set<String> labels) { this.labels = labels; }\n"
+        + "    @DynamoDbIgnoreNulls public Address getAddress() { return address; }\n"
+        + "    public void setAddress(Address address) { this.address = address; }\n"
+        + "    public List<Address> getPreviousAddresses() { return previousAddresses; }\n"
+        + "    public void setPreviousAddresses(List<Address> previousAddresses) { this.previousAddresses = previousAddresses; }\n"
+        + "    @DynamoDbFlatten public Details getDetails() { return details; }\n"
+        + "    public void setDetails(Details details) { this.details = details; }\n"
+        + "}\n";
+
+    private static final String ADDRESS =
+        IMPORTS
+        + "@DynamoDbBean\n"
+        + "public class Address {\n"
+        + "    private String street, city;\n"
+        + "    public String getStreet() { return street; }\n"
+        + "    public void setStreet(String street) { this.street = street; }\n"
+        + "    public String getCity() { return city; }\n"
+        + "    public void setCity(String city) { this.city = city; }\n"
+        + "}\n";
+
+    private static final String DETAILS =
+        IMPORTS
+        + "@DynamoDbBean\n"
+        + "public class Details {\n"
+        + "    private String phone;\n"
+        + "    public String getPhone() { return phone; }\n"
+        + "    public void setPhone(String phone) { this.phone = phone; }\n"
+        + "}\n";
+
+    /**
+     * The runtime table schemas need a lookup that can see the compiled item classes, because they are loaded by a different
+     * class loader than the SDK.
+     */
+    private static final String LOOKUPS =
+        "package test;\n"
+        + "public final class Lookups {\n"
+        + "    public static java.lang.invoke.MethodHandles.Lookup lookup() {\n"
+        + "        return java.lang.invoke.MethodHandles.lookup();\n"
+        + "    }\n"
+        + "}\n";
+
+    private static final String ORDER =
+        IMPORTS
+        + "@DynamoDbImmutable(builder = Order.Builder.class)\n"
+        + "public final class Order {\n"
+        + "    private final String id;\n"
+        + "    private final boolean paid;\n"
+        + "    private final List<LineItem> lineItems;\n"
+        + "    private Order(Builder b) { id = b.id; paid = b.paid; lineItems = b.lineItems; }\n"
+        + "    public static Builder builder() { return new Builder(); }\n"
+        + "    public Builder toBuilder() { return builder().id(id).paid(paid).setLineItems(lineItems); }\n"
+        + "    @DynamoDbPartitionKey public String id() { return id; }\n"
+        + "    public boolean isPaid() { return paid; }\n"
+        + "    public List<LineItem> getLineItems() { return lineItems; }\n"
+        + "    public static final class Builder {\n"
+        + "        private String id;\n"
+        + "        private boolean paid;\n"
+        + "        private List<LineItem> lineItems;\n"
+        + "        private Builder() { }\n"
+        + "        public Builder id(String id) { this.id = id; return this; }\n"
+        + "        public Builder paid(boolean paid) { this.paid = paid; return this; }\n"
+        + "        public Builder setLineItems(List<LineItem> lineItems) { this.lineItems = lineItems; return this; }\n"
+        + "        public Order build() { return new Order(this); }\n"
+        + "    }\n"
+        + "}\n";
+
+    private static final String LINE_ITEM =
+        IMPORTS
+        + "@DynamoDbImmutable(builder = LineItem.Builder.class)\n"
+        + "public final class LineItem {\n"
+        + "    private final String sku;\n"
+        + "    private final int quantity;\n"
+        + "    private LineItem(Builder b) { sku = b.sku; quantity = b.quantity; }\n"
+        + "    public String sku() { return sku; }\n"
+        + "    public int quantity() { return quantity; }\n"
+        + "    public static final class Builder {\n"
+        + "        private String sku;\n"
+        + "        private int quantity;\n"
+        + "        public void sku(String sku) { this.sku = sku; }\n"
+        + "        public void quantity(int quantity) { this.quantity = quantity; }\n"
+        + "        public LineItem build() { return new LineItem(this); }\n"
+        + "    }\n"
+        + "}\n";
+
+    @TempDir
+    Path outputDirectory;
+
+    @Test
+    public void bean_generatedTableSchemaMapsLikeBeanTableSchema() throws Exception {
+        Compilation compilation = compile("Customer", CUSTOMER, "Address", ADDRESS, "Details", DETAILS, "Lookups", LOOKUPS);
+        assertThat(compilation.generatedSources()).containsExactlyInAnyOrder("Address_TableSchema.java",
+                                                                            "Customer_TableSchema.java",
+                                                                            "Details_TableSchema.java");
+
+        Class<?> customerClass = compilation.loadClass("test.Customer");
+        TableSchema<Object> generated = fromClass(customerClass);
+        TableSchema<Object> runtime =
+            BeanTableSchema.create(BeanTableSchemaParams.builder(asObjectClass(customerClass))
+                                                        .lookup(compilation.lookup())
+                                                        .build());
+        assertThat(generated.getClass().getName()).isEqualTo("test.Customer_TableSchema");
+
+        Map<String, AttributeValue> address = new HashMap<>();
+        address.put("street", AttributeValue.fromS("Main St"));
+        address.put("city", AttributeValue.fromS("Seattle"));
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("id", AttributeValue.fromS("id-1"));
+        item.put("sort", AttributeValue.fromS("sort-1"));
+        item.put("email_address", AttributeValue.fromS("jane@example.com"));
+        item.put("nickname", AttributeValue.fromS("JANE"));
+        item.put("name", AttributeValue.fromS("Jane"));
+        item.put("age", AttributeValue.fromN("42"));
+        item.put("active", AttributeValue.fromBool(true));
+        item.put("version", AttributeValue.fromN("3"));
+        item.put("counter", AttributeValue.fromN("7"));
+        item.put("createdAt", AttributeValue.fromS("2024-01-01T00:00:00Z"));
+        item.put("tags", AttributeValue.fromL(Arrays.asList(AttributeValue.fromS("a"), AttributeValue.fromS("b"))));
+        item.put("scores", AttributeValue.fromM(singletonMap("math", AttributeValue.fromN("1"))));
+        item.put("labels", AttributeValue.fromSs(singletonList("label")));
+        item.put("address", AttributeValue.fromM(address));
+        item.put("previousAddresses", AttributeValue.fromL(singletonList(AttributeValue.fromM(address))));
+        item.put("phone", AttributeValue.fromS("555-0100"));
+
+        assertMapsLike(generated, runtime, item);
+        assertThat(generated.itemToMap(generated.mapToItem(item), false)).isEqualTo(item);
+
+        Map<String, AttributeValue> withoutCity = new HashMap<>(item);
+        withoutCity.put("address", AttributeValue.fromM(singletonMap("street", AttributeValue.fromS("Main St"))));
+        assertMapsLike(generated, runtime, withoutCity);
+    }
+
+    @Test
+    public void immutable_generatedTableSchemaMapsLikeImmutableTableSchema() throws Exception {
+        Compilation compilation = compile("Order", ORDER, "LineItem", LINE_ITEM, "Lookups", LOOKUPS);
+        assertThat(compilation.generatedSources()).containsExactlyInAnyOrder("LineItem_TableSchema.java",
+                                                                            "Order_TableSchema.java");
+
+        Class<?> orderClass = compilation.loadClass("test.Order");
+        TableSchema<Object> generated = fromClass(orderClass);
+        TableSchema<Object> runtime =
+            ImmutableTableSchema.create(ImmutableTableSchemaParams.builder(asObjectClass(orderClass))
+                                                                  .lookup(compilation.lookup())
+                                                                  .build());
+        assertThat(generated.getClass().getName()).isEqualTo("test.Order_TableSchema");
+
+        Map<String, AttributeValue> lineItem = new HashMap<>();
+        lineItem.put("sku", AttributeValue.fromS("sku-1"));
+        lineItem.put("quantity", AttributeValue.fromN("2"));
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("id", AttributeValue.fromS("order-1"));
+        item.put("paid", AttributeValue.fromBool(true));
+        item.put("lineItems", AttributeValue.fromL(singletonList(AttributeValue.fromM(lineItem))));
+
+        assertMapsLike(generated, runtime, item);
+        assertThat(generated.itemToMap(generated.mapToItem(item), false)).isEqualTo(item);
+    }
+
+    @Test
+    public void nestedClass_generatedTableSchemaIsNamedAfterEnclosingClasses() throws Exception {
+        String outer = IMPORTS
+                       + "public class Outer {\n"
+                       + "    @DynamoDbBean\n"
+                       + "    public static class Inner {\n"
+                       + "        private String id;\n"
+                       + "        @DynamoDbPartitionKey public String getId() { return id; }\n"
+                       + "        public void setId(String id) { this.id = id; }\n"
+                       + "    }\n"
+                       + "}\n";
+        Compilation compilation = compile("Outer", outer);
+
+        assertThat(compilation.generatedSources()).containsExactly("Outer_Inner_TableSchema.java");
+        TableSchema<Object> tableSchema = fromClass(compilation.loadClass("test.Outer$Inner"));
+        assertThat(tableSchema.getClass().getName()).isEqualTo("test.Outer_Inner_TableSchema");
+        assertThat(tableSchema.tableMetadata().primaryPartitionKey()).isEqualTo("id");
+    }
+
+    @Test
+    public void recursiveItem_isLeftToTheRuntime() throws Exception {
+        String node = IMPORTS
+                      + "@DynamoDbBean\n"
+                      + "public class Node {\n"
+                      + "    private String id;\n"
+                      + "    private List<Node> children;\n"
+                      + "    @DynamoDbPartitionKey public String getId() { return id; }\n"
+                      + "    public void setId(String id) { this.id = id; }\n"
+                      + "    public List<Node> getChildren() { return children; }\n"
+                      + "    public void setChildren(List<Node> children) { this.children = children; }\n"
+                      + "}\n";
+        Compilation compilation = compile("Node", node);
+
+        assertThat(compilation.generatedSources()).isEmpty();
+        assertThat(compilation.notes()).anySatisfy(n -> assertThat(n).contains("test.Node", "references itself"));
+        assertThat(fromClass(compilation.loadClass("test.Node"))).isInstanceOf(BeanTableSchema.class);
+    }
+
+    @Test
+    public void invalidBean_isLeftToTheRuntime() throws Exception {
+        String invalid = IMPORTS
+                         + "@DynamoDbBean\n"
+                         + "public class Invalid {\n"
+                         + "    private String id;\n"
+                         + "    public Invalid(String id) { this.id = id; }\n"
+                         + "    public String getId() { return id; }\n"
+                         + "    public void setId(String id) { this.id = id; }\n"
+                         + "}\n";
+        Compilation compilation = compile("Invalid", invalid);
+
+        assertThat(compilation.generatedSources()).isEmpty();
+        assertThat(compilation.notes()).anySatisfy(n -> assertThat(n).contains("test.Invalid",
+                                                                               "no public constructor without arguments"));
+    }
+
+    private static void assertMapsLike(TableSchema<Object> generated,
+                                       TableSchema<Object> runtime,
+                                       Map<String, AttributeValue> item) {
+        assertThat(generated.attributeNames()).containsExactlyInAnyOrderElementsOf(runtime.attributeNames());
+        assertThat(generated.itemToMap(generated.mapToItem(item), false))
+            .isEqualTo(runtime.itemToMap(runtime.mapToItem(item), false));
+        assertThat(generated.itemToMap(generated.mapToItem(item), true))
+            .isEqualTo(runtime.itemToMap(runtime.mapToItem(item), true));
+        assertThat(runtime.itemToMap(generated.mapToItem(item), false))
+            .isEqualTo(generated.itemToMap(runtime.mapToItem(item), false));
+
+        TableMetadata generatedMetadata = generated.tableMetadata();
+        TableMetadata runtimeMetadata = runtime.tableMetadata();
+        assertThat(generatedMetadata.primaryKeys()).containsExactlyElementsOf(runtimeMetadata.primaryKeys());
+        assertThat(generatedMetadata.customMetadata()).isEqualTo(runtimeMetadata.customMetadata());
+        assertThat(generatedMetadata.keyAttributes()).hasSameSizeAs(runtimeMetadata.keyAttributes());
+        runtimeMetadata.indices().forEach(index -> {
+            assertThat(generatedMetadata.indexKeys(index.name()))
+                .containsExactlyInAnyOrderElementsOf(runtimeMetadata.indexKeys(index.name()));
+        });
+    }
+
+    private static Map<String, AttributeValue> singletonMap(String key, AttributeValue value) {
+        Map<String, AttributeValue> map = new HashMap<>();
+        map.put(key, value);
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Class<Object> asObjectClass(Class<?> itemClass) {
+        return (Class<Object>) itemClass;
+    }
+
+    private static TableSchema<Object> fromClass(Class<?> itemClass) {
+        return TableSchema.fromClass(asObjectClass(itemClass));
+    }
+
+    private Compilation compile(String... namesAndSources) throws IOException {
+        List<JavaFileObject> sources = new ArrayList<>();
+        for (int i = 0; i < namesAndSources.length; i += 2) {
+            sources.add(new SourceFile("test/" + namesAndSources[i] + ".java", namesAndSources[i + 1]));
+        }
+
+        Path classes = Files.createDirectories(outputDirectory.resolve("classes"));
+        Path generatedSources = Files.createDirectories(outputDirectory.resolve("generated-sources"));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, null)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, singletonList(classes.toFile()));
+            fileManager.setLocation(StandardLocation.SOURCE_OUTPUT, singletonList(generatedSources.toFile()));
+            JavaCompiler.CompilationTask task = compiler.getTask(
+                null, fileManager, diagnostics,
+                Arrays.asList("-classpath", System.getProperty("java.class.path"), "-Xlint:-options"), null, sources);
+            task.setProcessors(singletonList(new TableSchemaProcessor()));
+
+            boolean success = task.call();
+            assertThat(success).as("compilation succeeds: %s", diagnostics.getDiagnostics()).isTrue();
+        }
+        return new Compilation(classes, generatedSources.resolve("test"), diagnostics.getDiagnostics());
+    }
+
+    public static final class UpperCaseConverter implements AttributeConverter<String> {
+        @Override
+        public AttributeValue transformFrom(String input) {
+            return AttributeValue.fromS(input.toUpperCase(Locale.ROOT));
+        }
+
+        @Override
+        public String transformTo(AttributeValue input) {
+            return input.s();
+        }
+
+        @Override
+        public EnhancedType<String> type() {
+            return EnhancedType.of(String.class);
+        }
+
+        @Override
+        public AttributeValueType attributeValueType() {
+            return AttributeValueType.S;
+        }
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+        private final String source;
+
+        private SourceFile(String path, String source) {
+            super(URI.create("string:///" + path), Kind.SOURCE);
+            this.source = source;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return source;
+        }
+    }
+
+    private static final class Compilation {
+        private final Path generatedSources;
+        private final List<Diagnostic<? extends JavaFileObject>> diagnostics;
+        private final URLClassLoader classLoader;
+
+        private Compilation(Path classes, Path generatedSources, List<Diagnostic<? extends JavaFileObject>> diagnostics)
+            throws IOException {
+            this.classLoader = new URLClassLoader(new URL[] {classes.toUri().toURL()},
+                                                  TableSchemaProcessorTest.class.getClassLoader());
+            this.generatedSources = generatedSources;
+            this.diagnostics = diagnostics;
+        }
+
+        private List<String> generatedSources() throws IOException {
+            if (!Files.exists(generatedSources)) {
+                return new ArrayList<>();
+            }
+            try (java.util.stream.Stream<Path> files = Files.list(generatedSources)) {
+                return files.map(f -> f.getFileName().toString()).collect(Collectors.toList());
+            }
+        }
+
+        private List<String> notes() {
+            return diagnostics.stream()
+                              .filter(d -> d.getKind() == Diagnostic.Kind.NOTE)
+                              .map(d -> d.getMessage(Locale.ROOT))
+                              .collect(Collectors.toList());
+        }
+
+        private Class<?> loadClass(String name) throws Exception {
+            return classLoader.loadClass(name);
+        }
+
+        private MethodHandles.Lookup lookup() throws Exception {
+            return (MethodHandles.Lookup) loadClass("test.Lookups").getMethod("lookup").invoke(null);
+        }
+    }
+}
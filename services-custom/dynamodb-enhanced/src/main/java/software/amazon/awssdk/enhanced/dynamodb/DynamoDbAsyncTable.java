@@ -27,6 +27,8 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -785,6 +787,53 @@ public interface DynamoDbAsyncTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table with a parallel scan: the table is divided into {@link ParallelScanEnhancedRequest#totalSegments()}
+     * segments, which are scanned at the same time, and the items of all segments are delivered by a single publisher, as they
+     * are requested. Each segment is scanned with the parameters of {@link ParallelScanEnhancedRequest#scanRequest()}, as with
+     * {@link #scan(ScanEnhancedRequest)}.
+     * <p>
+     * Each subscription scans the table again. If a subscription fails or is cancelled,
+     * {@link ParallelScanPublisher#resumeToken()} can be passed to a new request to continue the scan where it stopped.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanPublisher<MyItem> publisher =
+     *     mappedTable.scanParallel(r -> r.totalSegments(8).scanRequest(s -> s.consistentRead(true)));
+     * publisher.subscribe(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see DynamoDbAsyncClient#scanPaginator
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and the scan of each segment.
+     * @return a publisher {@link ParallelScanPublisher} of the items of all segments.
+     */
+    default ParallelScanPublisher<T> scanParallel(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table with a parallel scan.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanPublisher<MyItem> publisher = mappedTable.scanParallel(r -> r.totalSegments(8));
+     * }
+     * </pre>
+     *
+     * @see #scanParallel(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest} defining the segments and the scan of
+     * each segment.
+     * @return a publisher {@link ParallelScanPublisher} of the items of all segments.
+     */
+    default ParallelScanPublisher<T> scanParallel(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
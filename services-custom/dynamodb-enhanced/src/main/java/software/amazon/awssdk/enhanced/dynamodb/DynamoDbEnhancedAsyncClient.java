@@ -29,6 +29,8 @@ import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPagePublisher;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
 import software.amazon.awssdk.enhanced.dynamodb.model.ConditionCheck;
 import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
@@ -37,6 +39,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.TransactGetItemsEnhancedRe
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
 import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
 
 /**
@@ -263,6 +266,72 @@ public interface DynamoDbEnhancedAsyncClient extends DynamoDbEnhancedResource {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Puts and/or deletes any number of items in one or more tables, with as many BatchWriteItem calls as needed. The request
+     * contains a {@link org.reactivestreams.Publisher} (or an {@link Iterable}) of {@link WriteBatch} objects, each holding put
+     * and delete actions for one table.
+     * <p>
+     * The actions are repacked into BatchWriteItem requests that stay within the limits of 25 actions and 16 MB per request,
+     * mixing tables, and a configurable number of requests are sent concurrently. Write batches are only requested from the
+     * publisher as fast as they are written. Actions that DynamoDB returns as unprocessed are written again after a jittered,
+     * exponential backoff; the ones that are still unprocessed after the maximum number of retries are reported in the
+     * {@link BulkWriteResult}, together with the number of items written per second and the capacity consumed per table.
+     * <p>
+     * The additional configuration parameters that the enhanced client supports are defined in the
+     * {@link BulkWriteItemsEnhancedRequest}.
+     * <p>
+     * <b>Note: </b> The actions are written in parallel and in no particular order, so the same item should not be written more
+     * than once in the same operation. DynamoDB rejects a BatchWriteItem request that refers to the same item twice, which fails
+     * the whole operation. If a BatchWriteItem call fails after the retries of the SDK, the operation fails and stops requesting
+     * write batches, but the actions that were written until then are not undone.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * BulkWriteResult result = enhancedClient.bulkWriteItems(
+     *     BulkWriteItemsEnhancedRequest.builder()
+     *                                  .writeBatches(Flux.fromIterable(customers)
+     *                                                    .map(customer -> WriteBatch.builder(Customer.class)
+     *                                                                               .mappedTableResource(customerTable)
+     *                                                                               .addPutItem(customer)
+     *                                                                               .build()))
+     *                                  .maxConcurrentBatches(8)
+     *                                  .build()).join();
+     * }
+     * </pre>
+     *
+     * @param request A {@link BulkWriteItemsEnhancedRequest} containing the write batches to write.
+     * @return a {@link CompletableFuture} of {@link BulkWriteResult}, containing the statistics of the operation and any
+     * unprocessed requests.
+     */
+    default CompletableFuture<BulkWriteResult> bulkWriteItems(BulkWriteItemsEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Puts and/or deletes any number of items in one or more tables, with as many BatchWriteItem calls as needed.
+     * <p>
+     * <b>Note:</b> This is a convenience method that creates an instance of the request builder avoiding the need to create one
+     * manually via {@link BulkWriteItemsEnhancedRequest#builder()}.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * BulkWriteResult result = enhancedClient.bulkWriteItems(r -> r.writeBatches(customerWriteBatches)).join();
+     * }
+     * </pre>
+     *
+     * @param requestConsumer a {@link Consumer} of {@link BulkWriteItemsEnhancedRequest} containing the write batches to write.
+     * @return a {@link CompletableFuture} of {@link BulkWriteResult}, containing the statistics of the operation and any
+     * unprocessed requests.
+     * @see #bulkWriteItems(BulkWriteItemsEnhancedRequest)
+     */
+    default CompletableFuture<BulkWriteResult> bulkWriteItems(Consumer<BulkWriteItemsEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Retrieves multiple items from one or more tables in a single atomic transaction. TransactGetItem is a composite operation
      * where the request contains a set of get requests, each containing a table reference and a {@link GetItemEnhancedRequest}.
@@ -27,6 +27,8 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -766,6 +768,53 @@ public interface DynamoDbTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table with a parallel scan: the table is divided into {@link ParallelScanEnhancedRequest#totalSegments()}
+     * segments, which are scanned at the same time on a bounded number of threads, and the items of all segments are returned
+     * by a single iterable. Each segment is scanned with the parameters of {@link ParallelScanEnhancedRequest#scanRequest()},
+     * as with {@link #scan(ScanEnhancedRequest)}.
+     * <p>
+     * Each iterator scans the table again. If an iterator throws, {@link ParallelScanIterable#resumeToken()} can be passed to
+     * a new request to continue the scan where it stopped.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanIterable<MyItem> items =
+     *     mappedTable.scanParallel(r -> r.totalSegments(8).maxConcurrentSegments(4).scanRequest(s -> s.consistentRead(true)));
+     * items.forEach(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see DynamoDbClient#scanPaginator
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and the scan of each segment.
+     * @return an iterable {@link ParallelScanIterable} of the items of all segments.
+     */
+    default ParallelScanIterable<T> scanParallel(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table with a parallel scan.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * ParallelScanIterable<MyItem> items = mappedTable.scanParallel(r -> r.totalSegments(8));
+     * }
+     * </pre>
+     *
+     * @see #scanParallel(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest} defining the segments and the scan of
+     * each segment.
+     * @return an iterable {@link ParallelScanIterable} of the items of all segments.
+     */
+    default ParallelScanIterable<T> scanParallel(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
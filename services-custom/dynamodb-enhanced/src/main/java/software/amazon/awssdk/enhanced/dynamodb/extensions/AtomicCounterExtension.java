@@ -20,12 +20,12 @@ import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUt
 import static software.amazon.awssdk.enhanced.dynamodb.internal.update.UpdateExpressionUtils.ifNotExists;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbExtensionContext;
@@ -143,7 +143,7 @@ public final class AtomicCounterExtension implements DynamoDbEnhancedClientExten
     private Map<String, AttributeValue> addToItem(Map<String, AtomicCounter> counters, Map<String, AttributeValue> items) {
         Map<String, AttributeValue> itemToTransform = new HashMap<>(items);
         counters.forEach((attribute, counter) -> itemToTransform.put(attribute, attributeValue(counter.startValue().value())));
-        return Collections.unmodifiableMap(itemToTransform);
+        return SdkOwnedMap.wrap(itemToTransform);
     }
 
     private Map<String, AttributeValue> filterFromItem(Map<String, AtomicCounter> counters, Map<String, AttributeValue> items) {
@@ -159,7 +159,7 @@ public final class AtomicCounterExtension implements DynamoDbEnhancedClientExten
             log.debug(() -> String.format("Filtered atomic counter attributes from existing update item to avoid collisions: %s",
                                           String.join(",", removedAttributes)));
         }
-        return Collections.unmodifiableMap(itemToTransform);
+        return SdkOwnedMap.wrap(itemToTransform);
     }
 
     private SetAction counterAction(Map.Entry<String, AtomicCounter> e) {
@@ -25,6 +25,7 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
@@ -138,7 +139,7 @@ public final class AutoGeneratedTimestampRecordExtension implements DynamoDbEnha
             key -> insertTimestampInItemToTransform(itemToTransform, key,
                                                     context.tableSchema().converterForAttribute(key)));
         return WriteModification.builder()
-                                .transformedItem(Collections.unmodifiableMap(itemToTransform))
+                                .transformedItem(SdkOwnedMap.wrap(itemToTransform))
                                 .build();
     }
 
@@ -23,6 +23,7 @@ import java.util.UUID;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbExtensionContext;
@@ -112,7 +113,7 @@ public final class AutoGeneratedUuidExtension implements DynamoDbEnhancedClientE
         Map<String, AttributeValue> itemToTransform = new HashMap<>(context.items());
         customMetadataObject.forEach(key -> insertUuidInItemToTransform(itemToTransform, key));
         return WriteModification.builder()
-                                .transformedItem(Collections.unmodifiableMap(itemToTransform))
+                                .transformedItem(SdkOwnedMap.wrap(itemToTransform))
                                 .build();
     }
 
@@ -27,6 +27,7 @@ import java.util.function.Function;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbExtensionContext;
@@ -137,7 +138,7 @@ public final class VersionedRecordExtension implements DynamoDbEnhancedClientExt
         itemToTransform.put(versionAttributeKey.get(), newVersionValue);
 
         return WriteModification.builder()
-                                .transformedItem(Collections.unmodifiableMap(itemToTransform))
+                                .transformedItem(SdkOwnedMap.wrap(itemToTransform))
                                 .additionalConditionalExpression(condition)
                                 .build();
     }
@@ -26,6 +26,8 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.core.util.SdkOwnedList;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
 import software.amazon.awssdk.enhanced.dynamodb.internal.converter.TypeConvertingVisitor;
@@ -77,8 +79,8 @@ public final class EnhancedAttributeValue {
         this.numberValue = builder.numberValue;
         this.bytesValue = builder.bytesValue;
         this.booleanValue = builder.booleanValue;
-        this.mapValue = builder.mapValue == null ? null
-                                                 : Collections.unmodifiableMap(builder.mapValue);
+        this.mapValue = builder.mapValue == null || builder.mapValue instanceof SdkOwnedMap
+                        ? builder.mapValue : Collections.unmodifiableMap(builder.mapValue);
         this.setOfStringsValue = builder.setOfStringsValue == null
                                  ? null : Collections.unmodifiableList(builder.setOfStringsValue);
         this.setOfNumbersValue = builder.setOfNumbersValue == null
@@ -86,7 +88,9 @@ public final class EnhancedAttributeValue {
         this.setOfBytesValue = builder.setOfBytesValue == null
                                ? null : Collections.unmodifiableList(builder.setOfBytesValue);
         this.listOfAttributeValuesValue = builder.listOfAttributeValuesValue == null
-                                          ? null : Collections.unmodifiableList(builder.listOfAttributeValuesValue);
+                                          || builder.listOfAttributeValuesValue instanceof SdkOwnedList
+                                          ? builder.listOfAttributeValuesValue
+                                          : Collections.unmodifiableList(builder.listOfAttributeValuesValue);
     }
 
     /**
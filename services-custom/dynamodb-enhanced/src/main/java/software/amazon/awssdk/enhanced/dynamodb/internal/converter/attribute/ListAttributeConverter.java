@@ -15,8 +15,6 @@
 
 package software.amazon.awssdk.enhanced.dynamodb.internal.converter.attribute;
 
-import static java.util.stream.Collectors.toList;
-
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -27,6 +25,7 @@ import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.util.SdkOwnedList;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
 import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
@@ -144,9 +143,9 @@ public class ListAttributeConverter<T extends Collection<?>> implements Attribut
 
         @Override
         public AttributeValue transformFrom(T input) {
-            return EnhancedAttributeValue.fromListOfAttributeValues(input.stream()
-                                                                         .map(elementConverter::transformFrom)
-                                                                         .collect(toList()))
+            List<AttributeValue> result = new ArrayList<>(input.size());
+            input.forEach(element -> result.add(elementConverter.transformFrom(element)));
+            return EnhancedAttributeValue.fromListOfAttributeValues(SdkOwnedList.wrap(result))
                                          .toAttributeValue();
         }
 
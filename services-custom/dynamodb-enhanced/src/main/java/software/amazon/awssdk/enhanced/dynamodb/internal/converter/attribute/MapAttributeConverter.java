@@ -27,6 +27,7 @@ import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeValueType;
 import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
@@ -164,7 +165,7 @@ public class MapAttributeConverter<T extends Map<?, ?>> implements AttributeConv
         public EnhancedAttributeValue toAttributeValue(T input) {
             Map<String, AttributeValue> result = new LinkedHashMap<>();
             input.forEach((k, v) -> result.put(keyConverter.toString(k), valueConverter.transformFrom(v)));
-            return EnhancedAttributeValue.fromMap(result);
+            return EnhancedAttributeValue.fromMap(SdkOwnedMap.wrap(result));
         }
 
         public T fromAttributeValue(AttributeValue input) {
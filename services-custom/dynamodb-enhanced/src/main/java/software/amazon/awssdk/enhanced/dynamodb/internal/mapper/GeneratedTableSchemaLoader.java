@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Finds the table schemas that the dynamodb-enhanced-processor annotation processor generates at compile time.
+ * <p>
+ * The table schema of an item class {@code com.example.Outer$Customer} is generated as
+ * {@code com.example.Outer_Customer_TableSchema}, next to the item class, and has a public constructor without arguments.
+ * The result of the lookup, including that there is no generated table schema, is cached per item class. The cache is a
+ * {@link ClassValue}, which stores the table schema with its item class, so that it does not keep the class loader of the
+ * item class from being unloaded.
+ */
+@SdkInternalApi
+public final class GeneratedTableSchemaLoader {
+    private static final Logger log = Logger.loggerFor(GeneratedTableSchemaLoader.class);
+    private static final String SCHEMA_CLASS_SUFFIX = "_TableSchema";
+    private static final ClassValue<Optional<TableSchema<?>>> GENERATED_TABLE_SCHEMA_CACHE =
+        new ClassValue<Optional<TableSchema<?>>>() {
+            @Override
+            protected Optional<TableSchema<?>> computeValue(Class<?> itemClass) {
+                return createTableSchema(itemClass);
+            }
+        };
+
+    private GeneratedTableSchemaLoader() {
+    }
+
+    /**
+     * Returns the generated table schema of the given item class, or an empty optional if none was generated.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<TableSchema<T>> load(Class<T> itemClass) {
+        Optional<TableSchema<?>> tableSchema = GENERATED_TABLE_SCHEMA_CACHE.get(itemClass);
+        return tableSchema.map(t -> (TableSchema<T>) t);
+    }
+
+    static String schemaClassName(Class<?> itemClass) {
+        String name = itemClass.getName();
+        int simpleNameStart = name.lastIndexOf('.') + 1;
+        return name.substring(0, simpleNameStart) + name.substring(simpleNameStart).replace('$', '_') + SCHEMA_CLASS_SUFFIX;
+    }
+
+    private static Optional<TableSchema<?>> createTableSchema(Class<?> itemClass) {
+        ClassLoader classLoader = itemClass.getClassLoader();
+        if (classLoader == null) {
+            return Optional.empty();
+        }
+
+        String schemaClassName = schemaClassName(itemClass);
+        Class<?> schemaClass;
+        try {
+            schemaClass = Class.forName(schemaClassName, true, classLoader);
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        }
+
+        if (!TableSchema.class.isAssignableFrom(schemaClass)) {
+            return Optional.empty();
+        }
+
+        TableSchema<?> tableSchema;
+        try {
+            tableSchema = (TableSchema<?>) schemaClass.getConstructor().newInstance();
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException("Failed to create the generated table schema " + schemaClassName, cause);
+        } catch (ReflectiveOperationException e) {
+            // For example, the package of the item class is not open to the SDK. The runtime table schemas then need a
+            // custom MethodHandles.Lookup anyway, which only they support.
+            log.debug(() -> "Not using the generated table schema " + schemaClassName + " of " + itemClass, e);
+            return Optional.empty();
+        }
+
+        if (!itemClass.equals(tableSchema.itemType().rawClass())) {
+            return Optional.empty();
+        }
+
+        log.debug(() -> "Using the generated table schema " + schemaClassName + " of " + itemClass);
+        return Optional.of(tableSchema);
+    }
+}
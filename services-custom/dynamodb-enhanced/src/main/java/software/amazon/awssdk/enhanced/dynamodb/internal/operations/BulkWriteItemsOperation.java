@@ -0,0 +1,604 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbServiceClientConfiguration;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.Capacity;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Writes a stream of {@link WriteBatch} objects with as many BatchWriteItem calls as needed.
+ * <p>
+ * The put and delete actions of the write batches are repacked into BatchWriteItem requests of at most
+ * {@value #MAX_ITEMS_PER_REQUEST} actions and {@value #MAX_REQUEST_SIZE} bytes, across tables, and up to
+ * {@link BulkWriteItemsEnhancedRequest#maxConcurrentBatches()} requests are in flight at the same time. New write batches are
+ * only requested from the publisher when there is room for their actions, so the publisher is never read far ahead of the
+ * writes. Actions are held until they fill a request or until the publisher completes.
+ * <p>
+ * Actions that DynamoDB returns as unprocessed are written again after a delay computed by the backoff strategy of the request,
+ * which by default has full jitter so that the retries of concurrent requests do not line up. Actions that are still unprocessed
+ * after {@link BulkWriteItemsEnhancedRequest#maxUnprocessedItemRetries()} retries are reported in the result. A failed
+ * BatchWriteItem call fails the whole operation, after the SDK's own retries.
+ * <p>
+ * The delayed retries are scheduled on the scheduled executor of the DynamoDB client, which may be the one of a shared
+ * {@link software.amazon.awssdk.core.SdkRuntime}. An executor is only created for the operation if the client does not
+ * expose its configuration.
+ */
+@SdkInternalApi
+public final class BulkWriteItemsOperation {
+    static final int MAX_ITEMS_PER_REQUEST = 25;
+    static final long MAX_REQUEST_SIZE = 16L * 1024 * 1024;
+
+    private static final int DEFAULT_MAX_CONCURRENT_BATCHES = 4;
+    private static final int DEFAULT_MAX_UNPROCESSED_ITEM_RETRIES = 10;
+    private static final BackoffStrategy DEFAULT_BACKOFF_STRATEGY =
+        BackoffStrategy.exponentialDelay(Duration.ofMillis(50), Duration.ofSeconds(10));
+
+    /**
+     * The size of the JSON around the request items: {"RequestItems":{},"ReturnConsumedCapacity":"INDEXES"}.
+     */
+    private static final int REQUEST_OVERHEAD = 64;
+
+    /**
+     * The size of the JSON around the actions of one table: "table-name":[],
+     */
+    private static final int TABLE_OVERHEAD = 8;
+
+    /**
+     * The size of the JSON around one action: {"DeleteRequest":{"Key":{}}},
+     */
+    private static final int WRITE_REQUEST_OVERHEAD = 32;
+
+    private final BulkWriteItemsEnhancedRequest request;
+
+    private BulkWriteItemsOperation(BulkWriteItemsEnhancedRequest request) {
+        this.request = request;
+    }
+
+    public static BulkWriteItemsOperation create(BulkWriteItemsEnhancedRequest request) {
+        return new BulkWriteItemsOperation(request);
+    }
+
+    public CompletableFuture<BulkWriteResult> executeAsync(DynamoDbAsyncClient dynamoDbAsyncClient) {
+        Validate.paramNotNull(request.writeBatches(), "writeBatches");
+        int maxConcurrentBatches = request.maxConcurrentBatches() == null ? DEFAULT_MAX_CONCURRENT_BATCHES
+                                                                          : request.maxConcurrentBatches();
+        int maxRetries = request.maxUnprocessedItemRetries() == null ? DEFAULT_MAX_UNPROCESSED_ITEM_RETRIES
+                                                                     : request.maxUnprocessedItemRetries();
+        Validate.isPositive(maxConcurrentBatches, "maxConcurrentBatches");
+        Validate.isNotNegative(maxRetries, "maxUnprocessedItemRetries");
+
+        BulkWriter bulkWriter = new BulkWriter(dynamoDbAsyncClient, maxConcurrentBatches, maxRetries);
+        return bulkWriter.start();
+    }
+
+    /**
+     * Estimates the size of the given action in the JSON body of a BatchWriteItem request, erring on the large side.
+     */
+    static long estimatedSize(WriteRequest writeRequest) {
+        Map<String, AttributeValue> attributes = writeRequest.putRequest() != null ? writeRequest.putRequest().item()
+                                                                                   : writeRequest.deleteRequest().key();
+        return WRITE_REQUEST_OVERHEAD + estimatedSize(attributes);
+    }
+
+    private static long estimatedSize(Map<String, AttributeValue> attributes) {
+        long size = 2;
+        for (Map.Entry<String, AttributeValue> attribute : attributes.entrySet()) {
+            size += estimatedSize(attribute.getKey()) + 1 + estimatedSize(attribute.getValue()) + 1;
+        }
+        return size;
+    }
+
+    /**
+     * The size of an attribute value, including its type descriptor: {"S":""}.
+     */
+    private static long estimatedSize(AttributeValue value) {
+        long size = 8;
+        switch (value.type()) {
+            case S:
+                return size + estimatedSize(value.s());
+            case N:
+                return size + value.n().length();
+            case B:
+                return size + estimatedSize(value.b());
+            case BOOL:
+                return size + 5;
+            case NUL:
+                return size + 4;
+            case SS:
+                for (String s : value.ss()) {
+                    size += estimatedSize(s) + 1;
+                }
+                return size + 2;
+            case NS:
+                for (String n : value.ns()) {
+                    size += n.length() + 3;
+                }
+                return size + 2;
+            case BS:
+                for (SdkBytes b : value.bs()) {
+                    size += estimatedSize(b) + 1;
+                }
+                return size + 2;
+            case M:
+                return size + estimatedSize(value.m());
+            case L:
+                for (AttributeValue element : value.l()) {
+                    size += estimatedSize(element) + 1;
+                }
+                return size + 2;
+            default:
+                return size + value.toString().length();
+        }
+    }
+
+    /**
+     * The size of a JSON string, including its quotes. Characters that JSON has to escape are counted as \\u escapes.
+     */
+    private static long estimatedSize(String string) {
+        long size = 2;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c < 0x20 || c == '"' || c == '\\') {
+                size += 6;
+            } else if (c < 0x80) {
+                size += 1;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                // A surrogate pair is 4 bytes in UTF-8, 2 for each of its chars.
+                size += 2;
+            } else {
+                size += 3;
+            }
+        }
+        return size;
+    }
+
+    private static long estimatedSize(SdkBytes bytes) {
+        return 2 + 4 * ((bytes.asByteBuffer().remaining() + 2) / 3L);
+    }
+
+    private static long estimatedTableSize(String tableName) {
+        return TABLE_OVERHEAD + tableName.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Sums up two consumed capacities of the same table.
+     */
+    static ConsumedCapacity add(ConsumedCapacity first, ConsumedCapacity second) {
+        return ConsumedCapacity.builder()
+                               .tableName(first.tableName())
+                               .capacityUnits(add(first.capacityUnits(), second.capacityUnits()))
+                               .readCapacityUnits(add(first.readCapacityUnits(), second.readCapacityUnits()))
+                               .writeCapacityUnits(add(first.writeCapacityUnits(), second.writeCapacityUnits()))
+                               .table(add(first.table(), second.table()))
+                               .localSecondaryIndexes(add(first.localSecondaryIndexes(), second.localSecondaryIndexes()))
+                               .globalSecondaryIndexes(add(first.globalSecondaryIndexes(), second.globalSecondaryIndexes()))
+                               .build();
+    }
+
+    private static Map<String, Capacity> add(Map<String, Capacity> first, Map<String, Capacity> second) {
+        if (first.isEmpty() && second.isEmpty()) {
+            return null;
+        }
+        Map<String, Capacity> result = new HashMap<>(first);
+        second.forEach((index, capacity) -> result.merge(index, capacity, BulkWriteItemsOperation::add));
+        return result;
+    }
+
+    private static Capacity add(Capacity first, Capacity second) {
+        if (first == null || second == null) {
+            return first == null ? second : first;
+        }
+        return Capacity.builder()
+                       .capacityUnits(add(first.capacityUnits(), second.capacityUnits()))
+                       .readCapacityUnits(add(first.readCapacityUnits(), second.readCapacityUnits()))
+                       .writeCapacityUnits(add(first.writeCapacityUnits(), second.writeCapacityUnits()))
+                       .build();
+    }
+
+    private static Double add(Double first, Double second) {
+        if (first == null || second == null) {
+            return first == null ? second : first;
+        }
+        return first + second;
+    }
+
+    /**
+     * Returns the scheduled executor of the client, or null if the client does not expose its configuration, like mocks and
+     * custom implementations of the client interface.
+     */
+    private static ScheduledExecutorService clientScheduledExecutor(DynamoDbAsyncClient dynamoDbAsyncClient) {
+        DynamoDbServiceClientConfiguration configuration;
+        try {
+            configuration = dynamoDbAsyncClient.serviceClientConfiguration();
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+        if (configuration == null) {
+            return null;
+        }
+        ClientOverrideConfiguration overrideConfiguration = configuration.overrideConfiguration();
+        return overrideConfiguration == null ? null : overrideConfiguration.scheduledExecutorService().orElse(null);
+    }
+
+    /**
+     * A put or delete action that is waiting to be written, and how many times it was written before.
+     */
+    private static final class PendingWrite {
+        private final String tableName;
+        private final WriteRequest writeRequest;
+        private final long size;
+        private final int retries;
+
+        private PendingWrite(String tableName, WriteRequest writeRequest, long size, int retries) {
+            this.tableName = tableName;
+            this.writeRequest = writeRequest;
+            this.size = size;
+            this.retries = retries;
+        }
+
+        private PendingWrite retry() {
+            return new PendingWrite(tableName, writeRequest, size, retries + 1);
+        }
+    }
+
+    /**
+     * The subscriber to the write batches of one operation, which sends the BatchWriteItem calls and collects the result.
+     */
+    @ThreadSafe
+    private final class BulkWriter implements Subscriber<WriteBatch> {
+        private final DynamoDbAsyncClient dynamoDbAsyncClient;
+        private final int maxConcurrentBatches;
+        private final int maxRetries;
+        private final BackoffStrategy backoffStrategy;
+        private final String returnConsumedCapacity;
+        private final CompletableFuture<BulkWriteResult> result = new CompletableFuture<>();
+        private final long startNanos = System.nanoTime();
+
+        // All fields below are guarded by this.
+        private final Deque<PendingWrite> pending = new ArrayDeque<>();
+        private final Map<String, ConsumedCapacity> consumedCapacity = new LinkedHashMap<>();
+        private final Map<String, List<WriteRequest>> unprocessedRequests = new HashMap<>();
+        private Subscription subscription;
+        private ScheduledExecutorService retryScheduler;
+        private boolean ownsRetryScheduler;
+        private boolean requested;
+        private boolean publisherDone;
+        private boolean done;
+        private int inFlight;
+        private int scheduledRetries;
+        private long writtenItems;
+        private long batchWriteItemCalls;
+        private long retriedItems;
+
+        private BulkWriter(DynamoDbAsyncClient dynamoDbAsyncClient, int maxConcurrentBatches, int maxRetries) {
+            this.dynamoDbAsyncClient = dynamoDbAsyncClient;
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            this.maxRetries = maxRetries;
+            this.backoffStrategy = request.unprocessedItemsBackoffStrategy() == null ? DEFAULT_BACKOFF_STRATEGY
+                                                                                     : request.unprocessedItemsBackoffStrategy();
+            this.returnConsumedCapacity = request.returnConsumedCapacityAsString() == null
+                                          ? ReturnConsumedCapacity.TOTAL.toString()
+                                          : request.returnConsumedCapacityAsString();
+        }
+
+        private CompletableFuture<BulkWriteResult> start() {
+            result.whenComplete((r, t) -> {
+                if (t instanceof CancellationException) {
+                    fail(t);
+                }
+            });
+            request.writeBatches().subscribe(this);
+            return result;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            synchronized (this) {
+                if (this.subscription != null || done) {
+                    subscription.cancel();
+                    return;
+                }
+                this.subscription = subscription;
+            }
+            drain();
+        }
+
+        @Override
+        public void onNext(WriteBatch writeBatch) {
+            if (writeBatch.tableName() == null) {
+                fail(new IllegalArgumentException("A write batch has no mappedTableResource (table)."));
+                return;
+            }
+            synchronized (this) {
+                requested = false;
+                if (done) {
+                    return;
+                }
+                for (WriteRequest writeRequest : writeBatch.writeRequests()) {
+                    pending.addLast(new PendingWrite(writeBatch.tableName(), writeRequest, estimatedSize(writeRequest), 0));
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            fail(t);
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (this) {
+                publisherDone = true;
+            }
+            drain();
+        }
+
+        /**
+         * Sends as many BatchWriteItem calls as allowed, requests more write batches if there is room for them, and completes
+         * the result when everything was written.
+         */
+        private void drain() {
+            List<List<PendingWrite>> batches = new ArrayList<>();
+            Subscription toRequest = null;
+            BulkWriteResult completed = null;
+
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                while (inFlight < maxConcurrentBatches && canSendBatch()) {
+                    batches.add(nextBatch());
+                    inFlight++;
+                    batchWriteItemCalls++;
+                }
+                if (!publisherDone && !requested && subscription != null
+                    && pending.size() < MAX_ITEMS_PER_REQUEST * maxConcurrentBatches) {
+                    requested = true;
+                    toRequest = subscription;
+                }
+                if (publisherDone && pending.isEmpty() && inFlight == 0 && scheduledRetries == 0) {
+                    done = true;
+                    shutdownRetryScheduler();
+                    completed = buildResult();
+                }
+            }
+
+            batches.forEach(this::send);
+            if (toRequest != null) {
+                toRequest.request(1);
+            }
+            if (completed != null) {
+                result.complete(completed);
+            }
+        }
+
+        private boolean canSendBatch() {
+            return pending.size() >= MAX_ITEMS_PER_REQUEST || publisherDone && !pending.isEmpty();
+        }
+
+        private List<PendingWrite> nextBatch() {
+            List<PendingWrite> batch = new ArrayList<>(MAX_ITEMS_PER_REQUEST);
+            Map<String, Boolean> tables = new HashMap<>();
+            long size = REQUEST_OVERHEAD;
+            while (batch.size() < MAX_ITEMS_PER_REQUEST && !pending.isEmpty()) {
+                PendingWrite next = pending.peekFirst();
+                long nextSize = next.size + (tables.containsKey(next.tableName) ? 0 : estimatedTableSize(next.tableName));
+                if (!batch.isEmpty() && size + nextSize > MAX_REQUEST_SIZE) {
+                    break;
+                }
+                pending.removeFirst();
+                tables.put(next.tableName, Boolean.TRUE);
+                batch.add(next);
+                size += nextSize;
+            }
+            return batch;
+        }
+
+        private void send(List<PendingWrite> batch) {
+            Map<String, List<WriteRequest>> requestItems = new LinkedHashMap<>();
+            batch.forEach(w -> requestItems.computeIfAbsent(w.tableName, t -> new ArrayList<>()).add(w.writeRequest));
+            BatchWriteItemRequest batchWriteItemRequest = BatchWriteItemRequest.builder()
+                                                                               .requestItems(requestItems)
+                                                                               .returnConsumedCapacity(returnConsumedCapacity)
+                                                                               .build();
+            CompletableFuture<BatchWriteItemResponse> response;
+            try {
+                response = dynamoDbAsyncClient.batchWriteItem(batchWriteItemRequest);
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            response.whenComplete((r, t) -> {
+                if (t != null) {
+                    fail(t);
+                } else {
+                    batchCompleted(batch, r);
+                }
+            });
+        }
+
+        private void batchCompleted(List<PendingWrite> batch, BatchWriteItemResponse response) {
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                inFlight--;
+                response.consumedCapacity().forEach(c -> consumedCapacity.merge(String.valueOf(c.tableName()), c,
+                                                                                BulkWriteItemsOperation::add));
+
+                int batchRetries = batch.stream().mapToInt(w -> w.retries).max().orElse(0);
+                int sentItems = batch.size();
+                int unprocessedCount = 0;
+                List<PendingWrite> retries = new ArrayList<>();
+                for (Map.Entry<String, List<WriteRequest>> entry : response.unprocessedItems().entrySet()) {
+                    for (WriteRequest writeRequest : entry.getValue()) {
+                        unprocessedCount++;
+                        PendingWrite pendingWrite = removeFromBatch(batch, entry.getKey(), writeRequest,
+                                                                    batchRetries);
+                        if (pendingWrite.retries < maxRetries) {
+                            retries.add(pendingWrite.retry());
+                        } else {
+                            unprocessedRequests.computeIfAbsent(entry.getKey(), t -> new ArrayList<>()).add(writeRequest);
+                        }
+                    }
+                }
+                // Unprocessed items that match no sent action stay in the batch, so the batch can not be counted as written.
+                writtenItems += Math.max(0, sentItems - unprocessedCount);
+                if (!retries.isEmpty()) {
+                    retriedItems += retries.size();
+                    scheduleRetries(retries);
+                }
+            }
+            drain();
+        }
+
+        /**
+         * Removes the unprocessed action from the batch that it was sent in, which leaves the processed actions in the batch.
+         * <p>
+         * An action that does not match any action of the batch is given the highest retry count of the batch, so that it can
+         * not be retried more than {@link #maxRetries} times even if it never matches.
+         */
+        private PendingWrite removeFromBatch(List<PendingWrite> batch, String tableName, WriteRequest writeRequest,
+                                             int batchRetries) {
+            Iterator<PendingWrite> iterator = batch.iterator();
+            while (iterator.hasNext()) {
+                PendingWrite pendingWrite = iterator.next();
+                if (pendingWrite.tableName.equals(tableName) && pendingWrite.writeRequest.equals(writeRequest)) {
+                    iterator.remove();
+                    return pendingWrite;
+                }
+            }
+            return new PendingWrite(tableName, writeRequest, estimatedSize(writeRequest), batchRetries);
+        }
+
+        private void scheduleRetries(List<PendingWrite> retries) {
+            int attempt = retries.stream().mapToInt(w -> w.retries).max().getAsInt();
+            Duration delay = backoffStrategy.computeDelay(attempt);
+            if (delay.isZero() || delay.isNegative()) {
+                addFirst(retries);
+                return;
+            }
+            try {
+                retryScheduler().schedule(() -> retryReady(retries), delay.toNanos(), TimeUnit.NANOSECONDS);
+                scheduledRetries++;
+            } catch (RejectedExecutionException e) {
+                // The client's executor is shut down: write them now, and let the call fail if the client is closed too.
+                addFirst(retries);
+            }
+        }
+
+        private void retryReady(List<PendingWrite> retries) {
+            synchronized (this) {
+                scheduledRetries--;
+                if (done) {
+                    return;
+                }
+                addFirst(retries);
+            }
+            drain();
+        }
+
+        /**
+         * Puts retried actions in front of the new ones, so that they are not held back by the publisher.
+         */
+        private void addFirst(List<PendingWrite> retries) {
+            for (int i = retries.size() - 1; i >= 0; i--) {
+                pending.addFirst(retries.get(i));
+            }
+        }
+
+        private ScheduledExecutorService retryScheduler() {
+            if (retryScheduler == null) {
+                retryScheduler = clientScheduledExecutor(dynamoDbAsyncClient);
+            }
+            if (retryScheduler == null) {
+                retryScheduler = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().threadNamePrefix("dynamodb-enhanced-bulk-write").daemonThreads(true).build());
+                ownsRetryScheduler = true;
+            }
+            return retryScheduler;
+        }
+
+        private void shutdownRetryScheduler() {
+            if (ownsRetryScheduler) {
+                retryScheduler.shutdownNow();
+            }
+        }
+
+        private void fail(Throwable t) {
+            Subscription toCancel;
+            synchronized (this) {
+                if (done) {
+                    return;
+                }
+                done = true;
+                shutdownRetryScheduler();
+                toCancel = subscription;
+            }
+            if (toCancel != null) {
+                toCancel.cancel();
+            }
+            result.completeExceptionally(t);
+        }
+
+        private BulkWriteResult buildResult() {
+            return BulkWriteResult.builder()
+                                  .writtenItems(writtenItems)
+                                  .batchWriteItemCalls(batchWriteItemCalls)
+                                  .retriedItems(retriedItems)
+                                  .duration(Duration.ofNanos(System.nanoTime() - startNanos))
+                                  .consumedCapacity(new ArrayList<>(consumedCapacity.values()))
+                                  .unprocessedRequests(unprocessedRequests)
+                                  .build();
+        }
+    }
+}
@@ -0,0 +1,576 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanResumeToken;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Scans the segments of a table at the same time and merges their items.
+ * <p>
+ * Each segment is scanned with the scan operation of the table, with at most
+ * {@link ParallelScanEnhancedRequest#maxConcurrentSegments()} segments in progress at the same time. A segment is only asked
+ * for its next page when all the items of its previous page were delivered, so at most one page per segment is held in memory.
+ * The progress of the scan is kept per segment, as the last evaluated key of the last page whose items were all delivered,
+ * and can be read at any time as a {@link ParallelScanResumeToken}.
+ * <p>
+ * The first failure of a segment cancels the other segments and fails the scan.
+ */
+@SdkInternalApi
+public final class ParallelScanOperation<T> {
+    private static final long OFFER_TIMEOUT_SECONDS = 1;
+
+    /**
+     * The default number of segments scanned at the same time per available processor. Scanning a segment mostly waits for
+     * DynamoDb, so this is more than one, but it is bounded so that a scan of many segments does not start a thread or a
+     * request per segment.
+     */
+    private static final int DEFAULT_CONCURRENT_SEGMENTS_PER_PROCESSOR = 4;
+
+    private final ParallelScanEnhancedRequest request;
+    private final int totalSegments;
+    private final int maxConcurrentSegments;
+    private final ParallelScanResumeToken initialToken;
+
+    private ParallelScanOperation(ParallelScanEnhancedRequest request) {
+        this.request = request;
+        this.totalSegments = Validate.paramNotNull(request.totalSegments(), "totalSegments");
+        Validate.isTrue(totalSegments >= 1 && totalSegments <= 1_000_000,
+                        "totalSegments must be between 1 and 1,000,000, but was %s.", totalSegments);
+        this.maxConcurrentSegments = request.maxConcurrentSegments() == null
+                                     ? defaultMaxConcurrentSegments(totalSegments)
+                                     : Validate.isPositive(request.maxConcurrentSegments(), "maxConcurrentSegments");
+
+        ScanEnhancedRequest scanRequest = request.scanRequest();
+        if (scanRequest != null) {
+            Validate.isTrue(scanRequest.segment() == null && scanRequest.totalSegments() == null
+                            && scanRequest.exclusiveStartKey() == null,
+                            "The segment, totalSegments and exclusiveStartKey of the scan request are set by the parallel "
+                            + "scan; use a resume token to continue a scan.");
+        }
+
+        ParallelScanResumeToken resumeToken = request.resumeToken();
+        if (resumeToken != null) {
+            Validate.isTrue(resumeToken.totalSegments() == totalSegments,
+                            "The resume token has %s segments, but the request has %s.", resumeToken.totalSegments(),
+                            totalSegments);
+            this.initialToken = resumeToken;
+        } else {
+            this.initialToken = ParallelScanResumeToken.builder().totalSegments(totalSegments).build();
+        }
+    }
+
+    static int defaultMaxConcurrentSegments(int totalSegments) {
+        int processors = Runtime.getRuntime().availableProcessors();
+        return Math.min(totalSegments, processors * DEFAULT_CONCURRENT_SEGMENTS_PER_PROCESSOR);
+    }
+
+    public static <T> ParallelScanOperation<T> create(ParallelScanEnhancedRequest request) {
+        return new ParallelScanOperation<>(request);
+    }
+
+    /**
+     * Returns a publisher of the items of all segments, scanning each segment with the given function.
+     */
+    public ParallelScanPublisher<T> executeAsync(Function<ScanEnhancedRequest, ? extends SdkPublisher<Page<T>>> segmentScanner) {
+        return new MergingPublisher(segmentScanner);
+    }
+
+    /**
+     * Returns an iterable of the items of all segments, scanning each segment with the given function on its own thread.
+     */
+    public ParallelScanIterable<T> execute(Function<ScanEnhancedRequest, ? extends SdkIterable<Page<T>>> segmentScanner) {
+        return new MergingIterable(segmentScanner);
+    }
+
+    private ScanEnhancedRequest segmentRequest(int segment) {
+        ScanEnhancedRequest.Builder builder = request.scanRequest() == null ? ScanEnhancedRequest.builder()
+                                                                            : request.scanRequest().toBuilder();
+        return builder.segment(segment)
+                      .totalSegments(totalSegments)
+                      .exclusiveStartKey(initialToken.lastEvaluatedKey(segment).orElse(null))
+                      .build();
+    }
+
+    private Deque<Integer> remainingSegments() {
+        Deque<Integer> segments = new ArrayDeque<>();
+        for (int segment = 0; segment < totalSegments; segment++) {
+            if (!initialToken.isSegmentComplete(segment)) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * The progress of one run of the scan.
+     */
+    @ThreadSafe
+    private final class Progress {
+        private final ParallelScanResumeToken.Builder token = initialToken.toBuilder();
+
+        private synchronized void pageDelivered(int segment, Map<String, AttributeValue> lastEvaluatedKey) {
+            token.putLastEvaluatedKey(segment, lastEvaluatedKey);
+        }
+
+        private synchronized void segmentCompleted(int segment) {
+            token.addCompletedSegment(segment);
+        }
+
+        private synchronized ParallelScanResumeToken resumeToken() {
+            return token.build();
+        }
+    }
+
+    private final class MergingPublisher implements ParallelScanPublisher<T> {
+        private final Function<ScanEnhancedRequest, ? extends SdkPublisher<Page<T>>> segmentScanner;
+        private volatile Progress latestProgress;
+
+        private MergingPublisher(Function<ScanEnhancedRequest, ? extends SdkPublisher<Page<T>>> segmentScanner) {
+            this.segmentScanner = segmentScanner;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super T> subscriber) {
+            Progress progress = new Progress();
+            latestProgress = progress;
+            subscriber.onSubscribe(new MergingSubscription(subscriber, segmentScanner, progress));
+        }
+
+        @Override
+        public ParallelScanResumeToken resumeToken() {
+            Progress progress = latestProgress;
+            return progress == null ? initialToken : progress.resumeToken();
+        }
+    }
+
+    /**
+     * Delivers the items of the segments as they are requested. All the state is guarded by the lock of the subscription, and
+     * signals to the subscriber and the segments are sent by the thread that drains the state, outside the lock.
+     */
+    private final class MergingSubscription implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        private final Function<ScanEnhancedRequest, ? extends SdkPublisher<Page<T>>> segmentScanner;
+        private final Progress progress;
+        private final Deque<Integer> pendingSegments = remainingSegments();
+        private final List<SegmentSubscriber> startedSegments = new ArrayList<>();
+        private final Deque<SegmentSubscriber> readySegments = new ArrayDeque<>();
+        private int activeSegments;
+        private long demand;
+        private boolean draining;
+        private boolean terminated;
+        private Throwable failure;
+
+        private MergingSubscription(Subscriber<? super T> subscriber,
+                                    Function<ScanEnhancedRequest, ? extends SdkPublisher<Page<T>>> segmentScanner,
+                                    Progress progress) {
+            this.subscriber = subscriber;
+            this.segmentScanner = segmentScanner;
+            this.progress = progress;
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                if (n <= 0) {
+                    fail(new IllegalArgumentException("Non-positive request signals are illegal"));
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                terminated = true;
+            }
+            cancelSegments();
+        }
+
+        private synchronized void fail(Throwable t) {
+            if (failure == null) {
+                failure = t;
+            }
+        }
+
+        private void drain() {
+            synchronized (this) {
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            Runnable step;
+            while ((step = nextStep()) != null) {
+                step.run();
+            }
+        }
+
+        /**
+         * Returns the next signal to send, or null if there is nothing to do until more items are requested or a segment
+         * signals. Clearing {@link #draining} in the same block that finds nothing to do guarantees that a concurrent change of
+         * the state is either seen here or drained by the thread that made it.
+         */
+        private synchronized Runnable nextStep() {
+            if (terminated) {
+                draining = false;
+                return null;
+            }
+            if (failure != null) {
+                terminated = true;
+                Throwable error = failure;
+                return () -> {
+                    cancelSegments();
+                    subscriber.onError(error);
+                };
+            }
+            if (!pendingSegments.isEmpty() && activeSegments < maxConcurrentSegments) {
+                activeSegments++;
+                SegmentSubscriber segment = new SegmentSubscriber(pendingSegments.poll());
+                startedSegments.add(segment);
+                return () -> startSegment(segment);
+            }
+
+            SegmentSubscriber ready = readySegments.peek();
+            if (ready != null && !ready.items.hasNext()) {
+                readySegments.poll();
+                progress.pageDelivered(ready.segment, ready.page.lastEvaluatedKey());
+                ready.page = null;
+                ready.items = null;
+                if (ready.completed) {
+                    segmentFinished(ready);
+                    return () -> { };
+                }
+                return ready::requestPage;
+            }
+            if (ready != null && demand > 0) {
+                demand--;
+                T item = ready.items.next();
+                return () -> subscriber.onNext(item);
+            }
+            if (activeSegments == 0 && pendingSegments.isEmpty()) {
+                terminated = true;
+                return subscriber::onComplete;
+            }
+
+            draining = false;
+            return null;
+        }
+
+        private void segmentFinished(SegmentSubscriber segment) {
+            activeSegments--;
+            progress.segmentCompleted(segment.segment);
+        }
+
+        private void startSegment(SegmentSubscriber segment) {
+            try {
+                segmentScanner.apply(segmentRequest(segment.segment)).subscribe(segment);
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        private void cancelSegments() {
+            List<SegmentSubscriber> segments;
+            synchronized (this) {
+                segments = new ArrayList<>(startedSegments);
+            }
+            segments.forEach(SegmentSubscriber::cancel);
+        }
+
+        private final class SegmentSubscriber implements Subscriber<Page<T>> {
+            private final int segment;
+            private volatile Subscription subscription;
+            private boolean cancelled;
+
+            // Guarded by the lock of the merging subscription
+            private Page<T> page;
+            private Iterator<T> items;
+            private boolean completed;
+
+            private SegmentSubscriber(int segment) {
+                this.segment = segment;
+            }
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                boolean cancel;
+                synchronized (MergingSubscription.this) {
+                    subscription = s;
+                    cancel = cancelled || terminated;
+                }
+                if (cancel) {
+                    s.cancel();
+                } else {
+                    s.request(1);
+                }
+            }
+
+            @Override
+            public void onNext(Page<T> nextPage) {
+                synchronized (MergingSubscription.this) {
+                    page = nextPage;
+                    items = nextPage.items() == null ? Collections.emptyIterator() : nextPage.items().iterator();
+                    readySegments.add(this);
+                }
+                drain();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                fail(t);
+                drain();
+            }
+
+            @Override
+            public void onComplete() {
+                synchronized (MergingSubscription.this) {
+                    completed = true;
+                    if (page == null) {
+                        segmentFinished(this);
+                    }
+                }
+                drain();
+            }
+
+            private void requestPage() {
+                subscription.request(1);
+            }
+
+            private void cancel() {
+                Subscription s;
+                synchronized (MergingSubscription.this) {
+                    cancelled = true;
+                    s = subscription;
+                }
+                if (s != null) {
+                    s.cancel();
+                }
+            }
+        }
+    }
+
+    private final class MergingIterable implements ParallelScanIterable<T> {
+        private final Function<ScanEnhancedRequest, ? extends SdkIterable<Page<T>>> segmentScanner;
+        private volatile Progress latestProgress;
+
+        private MergingIterable(Function<ScanEnhancedRequest, ? extends SdkIterable<Page<T>>> segmentScanner) {
+            this.segmentScanner = segmentScanner;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Progress progress = new Progress();
+            latestProgress = progress;
+            return new MergingIterator(segmentScanner, progress);
+        }
+
+        @Override
+        public ParallelScanResumeToken resumeToken() {
+            Progress progress = latestProgress;
+            return progress == null ? initialToken : progress.resumeToken();
+        }
+    }
+
+    /**
+     * Returns the items of the pages that the segment threads put in a queue. The threads only hold a weak reference to the
+     * iterator, so that they stop when the iterator is no longer used.
+     */
+    private final class MergingIterator implements Iterator<T> {
+        private final Progress progress;
+        private final BlockingQueue<SegmentSignal<T>> signals;
+        private final AtomicBoolean stopped = new AtomicBoolean();
+        private final ExecutorService executor;
+        private int remainingSegments;
+        private SegmentSignal<T> current;
+        private Iterator<T> items = Collections.emptyIterator();
+
+        private MergingIterator(Function<ScanEnhancedRequest, ? extends SdkIterable<Page<T>>> segmentScanner,
+                                Progress progress) {
+            this.progress = progress;
+            Deque<Integer> segments = remainingSegments();
+            this.remainingSegments = segments.size();
+            int threads = Math.max(1, Math.min(maxConcurrentSegments, segments.size()));
+            this.signals = new LinkedBlockingQueue<>(threads);
+            this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                                                   new ThreadFactoryBuilder().threadNamePrefix("dynamodb-enhanced-parallel-scan")
+                                                                             .daemonThreads(true)
+                                                                             .build());
+            WeakReference<MergingIterator> self = new WeakReference<>(this);
+            for (Integer segment : segments) {
+                // Build the request here, so that the task does not reference this iterator
+                ScanEnhancedRequest segmentRequest = segmentRequest(segment);
+                executor.execute(new SegmentScan<>(segment, () -> segmentScanner.apply(segmentRequest), signals, stopped, self));
+            }
+            executor.shutdown();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!items.hasNext()) {
+                if (current != null) {
+                    progress.pageDelivered(current.segment, current.page.lastEvaluatedKey());
+                    current = null;
+                }
+                if (remainingSegments == 0) {
+                    return false;
+                }
+                SegmentSignal<T> signal = takeSignal();
+                if (signal.failure != null) {
+                    stop();
+                    throw signal.failure;
+                }
+                if (signal.page == null) {
+                    remainingSegments--;
+                    progress.segmentCompleted(signal.segment);
+                } else {
+                    current = signal;
+                    items = signal.page.items() == null ? Collections.emptyIterator() : signal.page.items().iterator();
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return items.next();
+        }
+
+        private SegmentSignal<T> takeSignal() {
+            try {
+                return signals.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stop();
+                throw SdkClientException.create("Interrupted while waiting for the next page of the parallel scan.", e);
+            }
+        }
+
+        private void stop() {
+            remainingSegments = 0;
+            stopped.set(true);
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * A page of a segment, the end of a segment (no page and no failure), or the failure of a segment.
+     */
+    private static final class SegmentSignal<T> {
+        private final int segment;
+        private final Page<T> page;
+        private final RuntimeException failure;
+
+        private SegmentSignal(int segment, Page<T> page, RuntimeException failure) {
+            this.segment = segment;
+            this.page = page;
+            this.failure = failure;
+        }
+    }
+
+    /**
+     * Scans one segment on a thread of the iterator. This is a static class so that it does not reference the iterator.
+     */
+    private static final class SegmentScan<T> implements Runnable {
+        private final int segment;
+        private final Supplier<? extends SdkIterable<Page<T>>> pages;
+        private final BlockingQueue<SegmentSignal<T>> signals;
+        private final AtomicBoolean stopped;
+        private final WeakReference<?> iterator;
+
+        private SegmentScan(int segment,
+                            Supplier<? extends SdkIterable<Page<T>>> pages,
+                            BlockingQueue<SegmentSignal<T>> signals,
+                            AtomicBoolean stopped,
+                            WeakReference<?> iterator) {
+            this.segment = segment;
+            this.pages = pages;
+            this.signals = signals;
+            this.stopped = stopped;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public void run() {
+            try {
+                for (Page<T> page : pages.get()) {
+                    if (!offer(new SegmentSignal<>(segment, page, null))) {
+                        return;
+                    }
+                }
+                offer(new SegmentSignal<>(segment, null, null));
+            } catch (RuntimeException e) {
+                offer(new SegmentSignal<>(segment, null, e));
+            }
+        }
+
+        /**
+         * Waits for room in the queue, and returns false if the iterator was stopped or is no longer referenced.
+         */
+        private boolean offer(SegmentSignal<T> signal) {
+            try {
+                while (!stopped.get() && iterator.get() != null) {
+                    if (signals.offer(signal, OFFER_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                        return true;
+                    }
+                }
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
@@ -15,7 +15,6 @@
 
 package software.amazon.awssdk.enhanced.dynamodb.mapper;
 
-import static java.util.Collections.unmodifiableMap;
 import static software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils.isNullAttributeValue;
 
 import java.util.ArrayList;
@@ -36,6 +35,7 @@ import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.util.SdkOwnedMap;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverter;
 import software.amazon.awssdk.enhanced.dynamodb.AttributeConverterProvider;
 import software.amazon.awssdk.enhanced.dynamodb.DefaultAttributeConverterProvider;
@@ -528,7 +528,7 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
             attributeValueMap.putAll(flattenedMapper.itemToMap(item, ignoreNulls));
         });
 
-        return unmodifiableMap(attributeValueMap);
+        return SdkOwnedMap.wrap(attributeValueMap);
     }
 
     @Override
@@ -543,7 +543,7 @@ public final class StaticImmutableTableSchema<T, B> implements TableSchema<T> {
             }
         });
 
-        return unmodifiableMap(attributeValueMap);
+        return SdkOwnedMap.wrap(attributeValueMap);
     }
 
     @Override
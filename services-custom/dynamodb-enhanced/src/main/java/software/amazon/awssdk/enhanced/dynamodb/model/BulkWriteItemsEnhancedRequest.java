@@ -0,0 +1,256 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.utils.async.IterablePublisher;
+
+/**
+ * Defines parameters used for the bulkWriteItems() operation (such as
+ * {@link DynamoDbEnhancedAsyncClient#bulkWriteItems(BulkWriteItemsEnhancedRequest)}).
+ * <p>
+ * A request contains a stream of {@link WriteBatch} objects, each of them holding put and delete actions for one table. The
+ * write batches can be of any size and can target any number of tables; the bulk writer repacks their actions into
+ * BatchWriteItem calls.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteItemsEnhancedRequest {
+
+    private final Publisher<WriteBatch> writeBatches;
+    private final Integer maxConcurrentBatches;
+    private final Integer maxUnprocessedItemRetries;
+    private final BackoffStrategy unprocessedItemsBackoffStrategy;
+    private final String returnConsumedCapacity;
+
+    private BulkWriteItemsEnhancedRequest(Builder builder) {
+        this.writeBatches = builder.writeBatches;
+        this.maxConcurrentBatches = builder.maxConcurrentBatches;
+        this.maxUnprocessedItemRetries = builder.maxUnprocessedItemRetries;
+        this.unprocessedItemsBackoffStrategy = builder.unprocessedItemsBackoffStrategy;
+        this.returnConsumedCapacity = builder.returnConsumedCapacity;
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return a builder with all existing values set
+     */
+    public Builder toBuilder() {
+        return builder().writeBatches(writeBatches)
+                        .maxConcurrentBatches(maxConcurrentBatches)
+                        .maxUnprocessedItemRetries(maxUnprocessedItemRetries)
+                        .unprocessedItemsBackoffStrategy(unprocessedItemsBackoffStrategy)
+                        .returnConsumedCapacity(returnConsumedCapacity);
+    }
+
+    /**
+     * Returns the publisher of the {@link WriteBatch} objects to write.
+     */
+    public Publisher<WriteBatch> writeBatches() {
+        return writeBatches;
+    }
+
+    /**
+     * Returns the maximum number of BatchWriteItem calls that are in flight at the same time.
+     */
+    public Integer maxConcurrentBatches() {
+        return maxConcurrentBatches;
+    }
+
+    /**
+     * Returns how many times an item that DynamoDB returned as unprocessed is written again, before it is reported as
+     * unprocessed in the result.
+     */
+    public Integer maxUnprocessedItemRetries() {
+        return maxUnprocessedItemRetries;
+    }
+
+    /**
+     * Returns the strategy that computes how long to wait before writing unprocessed items again.
+     */
+    public BackoffStrategy unprocessedItemsBackoffStrategy() {
+        return unprocessedItemsBackoffStrategy;
+    }
+
+    /**
+     * Whether to return the capacity consumed by this operation.
+     *
+     * @see BatchWriteItemEnhancedRequest#returnConsumedCapacity()
+     */
+    public ReturnConsumedCapacity returnConsumedCapacity() {
+        return ReturnConsumedCapacity.fromValue(returnConsumedCapacity);
+    }
+
+    /**
+     * Whether to return the capacity consumed by this operation.
+     * <p>
+     * Similar to {@link #returnConsumedCapacity()} but return the value as a string. This is useful in situations where the value
+     * is not defined in {@link ReturnConsumedCapacity}.
+     */
+    public String returnConsumedCapacityAsString() {
+        return returnConsumedCapacity;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BulkWriteItemsEnhancedRequest that = (BulkWriteItemsEnhancedRequest) o;
+        return Objects.equals(writeBatches, that.writeBatches) &&
+               Objects.equals(maxConcurrentBatches, that.maxConcurrentBatches) &&
+               Objects.equals(maxUnprocessedItemRetries, that.maxUnprocessedItemRetries) &&
+               Objects.equals(unprocessedItemsBackoffStrategy, that.unprocessedItemsBackoffStrategy) &&
+               Objects.equals(returnConsumedCapacity, that.returnConsumedCapacity);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = writeBatches != null ? writeBatches.hashCode() : 0;
+        result = 31 * result + (maxConcurrentBatches != null ? maxConcurrentBatches.hashCode() : 0);
+        result = 31 * result + (maxUnprocessedItemRetries != null ? maxUnprocessedItemRetries.hashCode() : 0);
+        result = 31 * result + (unprocessedItemsBackoffStrategy != null ? unprocessedItemsBackoffStrategy.hashCode() : 0);
+        result = 31 * result + (returnConsumedCapacity != null ? returnConsumedCapacity.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Publisher<WriteBatch> writeBatches;
+        private Integer maxConcurrentBatches;
+        private Integer maxUnprocessedItemRetries;
+        private BackoffStrategy unprocessedItemsBackoffStrategy;
+        private String returnConsumedCapacity;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the publisher of the write batches to write. The publisher is subscribed to once, when the operation starts, and
+         * is only asked for more write batches when the bulk writer has room for more items.
+         *
+         * @param writeBatches the publisher of write batches
+         * @return a builder of this type
+         */
+        public Builder writeBatches(Publisher<WriteBatch> writeBatches) {
+            this.writeBatches = writeBatches;
+            return this;
+        }
+
+        /**
+         * Sets the write batches to write. The iterable is iterated once, when the operation starts, and only as far as the bulk
+         * writer has room for more items, so it can be lazy.
+         *
+         * @param writeBatches the iterable of write batches
+         * @return a builder of this type
+         */
+        public Builder writeBatches(Iterable<WriteBatch> writeBatches) {
+            this.writeBatches = writeBatches != null ? new IterablePublisher<>(writeBatches) : null;
+            return this;
+        }
+
+        /**
+         * Sets one or more write batches to write.
+         *
+         * @param writeBatches one or more {@link WriteBatch}, separated by comma.
+         * @return a builder of this type
+         */
+        public Builder writeBatches(WriteBatch... writeBatches) {
+            return writeBatches(Arrays.asList(writeBatches));
+        }
+
+        /**
+         * Sets the maximum number of BatchWriteItem calls that are in flight at the same time. Defaults to 4.
+         *
+         * @param maxConcurrentBatches the maximum number of concurrent calls
+         * @return a builder of this type
+         */
+        public Builder maxConcurrentBatches(Integer maxConcurrentBatches) {
+            this.maxConcurrentBatches = maxConcurrentBatches;
+            return this;
+        }
+
+        /**
+         * Sets how many times an item that DynamoDB returned as unprocessed is written again, before it is reported as
+         * unprocessed in the {@link BulkWriteResult}. Defaults to 10.
+         *
+         * @param maxUnprocessedItemRetries the maximum number of retries of an unprocessed item
+         * @return a builder of this type
+         */
+        public Builder maxUnprocessedItemRetries(Integer maxUnprocessedItemRetries) {
+            this.maxUnprocessedItemRetries = maxUnprocessedItemRetries;
+            return this;
+        }
+
+        /**
+         * Sets the strategy that computes how long to wait before writing unprocessed items again, given the number of times
+         * they were written before. Defaults to an exponential delay with full jitter, starting at 50 milliseconds and capped at
+         * 10 seconds, so that the retries of concurrent batches are spread out.
+         *
+         * @param unprocessedItemsBackoffStrategy the backoff strategy for unprocessed items
+         * @return a builder of this type
+         */
+        public Builder unprocessedItemsBackoffStrategy(BackoffStrategy unprocessedItemsBackoffStrategy) {
+            this.unprocessedItemsBackoffStrategy = unprocessedItemsBackoffStrategy;
+            return this;
+        }
+
+        /**
+         * Sets the ConsumedCapacity via ReturnConsumedCapacity object. Defaults to {@link ReturnConsumedCapacity#TOTAL}, so that
+         * the {@link BulkWriteResult} reports the capacity consumed per table.
+         *
+         * @see BatchWriteItemEnhancedRequest.Builder#returnConsumedCapacity(ReturnConsumedCapacity)
+         */
+        public Builder returnConsumedCapacity(ReturnConsumedCapacity returnConsumedCapacity) {
+            this.returnConsumedCapacity = returnConsumedCapacity == null ? null : returnConsumedCapacity.toString();
+            return this;
+        }
+
+        /**
+         * Sets the ConsumedCapacity via String.
+         *
+         * @see Builder#returnConsumedCapacity(ReturnConsumedCapacity)
+         */
+        public Builder returnConsumedCapacity(String returnConsumedCapacity) {
+            this.returnConsumedCapacity = returnConsumedCapacity;
+            return this;
+        }
+
+        public BulkWriteItemsEnhancedRequest build() {
+            return new BulkWriteItemsEnhancedRequest(this);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Defines the result of the bulkWriteItems() operation, such as
+ * {@link DynamoDbEnhancedAsyncClient#bulkWriteItems(BulkWriteItemsEnhancedRequest)}. The result reports how many items were
+ * written and how fast, the capacity consumed per table, and the items that were still unprocessed after all retries.
+ * <ul>
+ *     <li>Use the {@link #unprocessedPutItemsForTable(MappedTableResource)} method once for each table present in the request
+ *  to get any unprocessed items from a put action on that table.</li>
+ *     <li>Use the {@link #unprocessedDeleteItemsForTable(MappedTableResource)} method once for each table present in the request
+ *  to get any unprocessed items from a delete action on that table.</li>
+ * </ul>
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class BulkWriteResult {
+    private final long writtenItems;
+    private final long batchWriteItemCalls;
+    private final long retriedItems;
+    private final Duration duration;
+    private final List<ConsumedCapacity> consumedCapacity;
+    private final BatchWriteResult unprocessedItems;
+
+    private BulkWriteResult(Builder builder) {
+        this.writtenItems = builder.writtenItems;
+        this.batchWriteItemCalls = builder.batchWriteItemCalls;
+        this.retriedItems = builder.retriedItems;
+        this.duration = builder.duration == null ? Duration.ZERO : builder.duration;
+        this.consumedCapacity = builder.consumedCapacity == null ? Collections.unmodifiableList(new ArrayList<>()) :
+                                Collections.unmodifiableList(builder.consumedCapacity);
+        Map<String, List<WriteRequest>> unprocessedRequests =
+            builder.unprocessedRequests == null ? new HashMap<>() : builder.unprocessedRequests;
+        this.unprocessedItems = BatchWriteResult.builder().unprocessedRequests(unprocessedRequests).build();
+    }
+
+    /**
+     * Creates a newly initialized builder for a result object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the number of put and delete actions that DynamoDB processed.
+     */
+    public long writtenItems() {
+        return writtenItems;
+    }
+
+    /**
+     * Returns the number of BatchWriteItem calls that were made, including the calls that wrote unprocessed items again.
+     */
+    public long batchWriteItemCalls() {
+        return batchWriteItemCalls;
+    }
+
+    /**
+     * Returns the number of times that an unprocessed put or delete action was written again.
+     */
+    public long retriedItems() {
+        return retriedItems;
+    }
+
+    /**
+     * Returns the time between the start and the end of the operation.
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * Returns the number of put and delete actions that DynamoDB processed per second, over the whole operation.
+     */
+    public double writtenItemsPerSecond() {
+        long nanos = duration.toNanos();
+        return nanos == 0 ? 0 : writtenItems * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * Returns the capacity units consumed by the operation, summed up into one {@link ConsumedCapacity} per table. The list is
+     * empty if the request did not ask DynamoDB to return the consumed capacity.
+     */
+    public List<ConsumedCapacity> consumedCapacity() {
+        return consumedCapacity;
+    }
+
+    /**
+     * Retrieve any put action items belonging to the supplied table that were still unprocessed after all retries. Call this
+     * method once for each table present in the request.
+     *
+     * @param mappedTable the table to retrieve unprocessed items for
+     * @param <T>         the type of the table items
+     * @return a list of items
+     */
+    public <T> List<T> unprocessedPutItemsForTable(MappedTableResource<T> mappedTable) {
+        return unprocessedItems.unprocessedPutItemsForTable(mappedTable);
+    }
+
+    /**
+     * Retrieve any delete action keys belonging to the supplied table that were still unprocessed after all retries. Call this
+     * method once for each table present in the request.
+     *
+     * @param mappedTable the table to retrieve unprocessed items for.
+     * @return a list of keys that were not processed.
+     */
+    public List<Key> unprocessedDeleteItemsForTable(MappedTableResource<?> mappedTable) {
+        return unprocessedItems.unprocessedDeleteItemsForTable(mappedTable);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BulkWriteResult result = (BulkWriteResult) o;
+        return writtenItems == result.writtenItems &&
+               batchWriteItemCalls == result.batchWriteItemCalls &&
+               retriedItems == result.retriedItems &&
+               Objects.equals(duration, result.duration) &&
+               Objects.equals(consumedCapacity, result.consumedCapacity) &&
+               Objects.equals(unprocessedItems, result.unprocessedItems);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(writtenItems);
+        result = 31 * result + Long.hashCode(batchWriteItemCalls);
+        result = 31 * result + Long.hashCode(retriedItems);
+        result = 31 * result + duration.hashCode();
+        result = 31 * result + consumedCapacity.hashCode();
+        result = 31 * result + unprocessedItems.hashCode();
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a result with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private long writtenItems;
+        private long batchWriteItemCalls;
+        private long retriedItems;
+        private Duration duration;
+        private List<ConsumedCapacity> consumedCapacity;
+        private Map<String, List<WriteRequest>> unprocessedRequests;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the number of put and delete actions that DynamoDB processed.
+         *
+         * @param writtenItems the number of written items
+         * @return a builder of this type
+         */
+        public Builder writtenItems(long writtenItems) {
+            this.writtenItems = writtenItems;
+            return this;
+        }
+
+        /**
+         * Set the number of BatchWriteItem calls that were made.
+         *
+         * @param batchWriteItemCalls the number of calls
+         * @return a builder of this type
+         */
+        public Builder batchWriteItemCalls(long batchWriteItemCalls) {
+            this.batchWriteItemCalls = batchWriteItemCalls;
+            return this;
+        }
+
+        /**
+         * Set the number of times that an unprocessed put or delete action was written again.
+         *
+         * @param retriedItems the number of retried items
+         * @return a builder of this type
+         */
+        public Builder retriedItems(long retriedItems) {
+            this.retriedItems = retriedItems;
+            return this;
+        }
+
+        /**
+         * Set the time between the start and the end of the operation.
+         *
+         * @param duration the duration of the operation
+         * @return a builder of this type
+         */
+        public Builder duration(Duration duration) {
+            this.duration = duration;
+            return this;
+        }
+
+        /**
+         * Set the capacity units consumed by the operation, one {@link ConsumedCapacity} per table.
+         *
+         * @param consumedCapacity the consumed capacity per table
+         * @return a builder of this type
+         */
+        public Builder consumedCapacity(List<ConsumedCapacity> consumedCapacity) {
+            this.consumedCapacity = consumedCapacity;
+            return this;
+        }
+
+        /**
+         * Add a map of the requests that were still unprocessed after all retries to this result object.
+         *
+         * @param unprocessedRequests the map of table to write request representing the unprocessed requests
+         * @return a builder of this type
+         */
+        public Builder unprocessedRequests(Map<String, List<WriteRequest>> unprocessedRequests) {
+            this.unprocessedRequests = unprocessedRequests;
+            return this;
+        }
+
+        public BulkWriteResult build() {
+            return new BulkWriteResult(this);
+        }
+    }
+}
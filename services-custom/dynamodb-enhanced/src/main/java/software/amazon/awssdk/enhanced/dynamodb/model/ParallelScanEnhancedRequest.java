@@ -0,0 +1,203 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+
+/**
+ * Defines parameters used for the scanParallel() operation (such as
+ * {@link DynamoDbAsyncTable#scanParallel(ParallelScanEnhancedRequest)}).
+ * <p>
+ * The table is divided into {@link #totalSegments()} segments that are scanned at the same time, each with the parameters of
+ * {@link #scanRequest()}. A scan that was interrupted can be continued with the {@link ParallelScanResumeToken} of the previous
+ * scan.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanEnhancedRequest {
+
+    private final ScanEnhancedRequest scanRequest;
+    private final Integer totalSegments;
+    private final Integer maxConcurrentSegments;
+    private final ParallelScanResumeToken resumeToken;
+
+    private ParallelScanEnhancedRequest(Builder builder) {
+        this.scanRequest = builder.scanRequest;
+        this.totalSegments = builder.totalSegments;
+        this.maxConcurrentSegments = builder.maxConcurrentSegments;
+        this.resumeToken = builder.resumeToken;
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return a builder with all existing values set
+     */
+    public Builder toBuilder() {
+        return builder().scanRequest(scanRequest)
+                        .totalSegments(totalSegments)
+                        .maxConcurrentSegments(maxConcurrentSegments)
+                        .resumeToken(resumeToken);
+    }
+
+    /**
+     * Returns the parameters of the scan of each segment.
+     */
+    public ScanEnhancedRequest scanRequest() {
+        return scanRequest;
+    }
+
+    /**
+     * Returns the number of segments the table is divided into.
+     */
+    public Integer totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the maximum number of segments that are scanned at the same time.
+     */
+    public Integer maxConcurrentSegments() {
+        return maxConcurrentSegments;
+    }
+
+    /**
+     * Returns the progress of a previous scan to continue from.
+     */
+    public ParallelScanResumeToken resumeToken() {
+        return resumeToken;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ParallelScanEnhancedRequest that = (ParallelScanEnhancedRequest) o;
+        return Objects.equals(scanRequest, that.scanRequest) &&
+               Objects.equals(totalSegments, that.totalSegments) &&
+               Objects.equals(maxConcurrentSegments, that.maxConcurrentSegments) &&
+               Objects.equals(resumeToken, that.resumeToken);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = scanRequest != null ? scanRequest.hashCode() : 0;
+        result = 31 * result + (totalSegments != null ? totalSegments.hashCode() : 0);
+        result = 31 * result + (maxConcurrentSegments != null ? maxConcurrentSegments.hashCode() : 0);
+        result = 31 * result + (resumeToken != null ? resumeToken.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private ScanEnhancedRequest scanRequest;
+        private Integer totalSegments;
+        private Integer maxConcurrentSegments;
+        private ParallelScanResumeToken resumeToken;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the parameters of the scan of each segment, such as the filter expression, the attributes to project or the page
+         * size. The segment, the total number of segments and the exclusive start key are set by the parallel scan and must not
+         * be set in this request.
+         *
+         * @param scanRequest the parameters of the scan of each segment
+         * @return a builder of this type
+         */
+        public Builder scanRequest(ScanEnhancedRequest scanRequest) {
+            this.scanRequest = scanRequest;
+            return this;
+        }
+
+        /**
+         * Sets the parameters of the scan of each segment.
+         *
+         * @see #scanRequest(ScanEnhancedRequest)
+         * @param scanRequest a {@link Consumer} of {@link ScanEnhancedRequest.Builder}
+         * @return a builder of this type
+         */
+        public Builder scanRequest(Consumer<ScanEnhancedRequest.Builder> scanRequest) {
+            ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+            scanRequest.accept(builder);
+            return scanRequest(builder.build());
+        }
+
+        /**
+         * Sets the number of segments the table is divided into. This is required, and must match the total number of segments
+         * of the resume token, if one is set.
+         *
+         * @param totalSegments the number of segments, between 1 and 1,000,000
+         * @return a builder of this type
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of segments that are scanned at the same time. The other segments are scanned when a segment
+         * is done. Defaults to the total number of segments, but at most four times the number of processors available to the
+         * JVM, see {@link Runtime#availableProcessors()}.
+         * <p>
+         * For {@link DynamoDbTable#scanParallel(ParallelScanEnhancedRequest)}, this is also the number of threads that scan the
+         * segments.
+         *
+         * @param maxConcurrentSegments the maximum number of segments scanned at the same time
+         * @return a builder of this type
+         */
+        public Builder maxConcurrentSegments(Integer maxConcurrentSegments) {
+            this.maxConcurrentSegments = maxConcurrentSegments;
+            return this;
+        }
+
+        /**
+         * Sets the progress of a previous scan to continue from, as returned by
+         * {@link ParallelScanPublisher#resumeToken()} or {@link ParallelScanIterable#resumeToken()}. Segments that were done
+         * are skipped, and the other segments start after the last item of theirs that was delivered.
+         *
+         * @param resumeToken the progress of a previous scan
+         * @return a builder of this type
+         */
+        public Builder resumeToken(ParallelScanResumeToken resumeToken) {
+            this.resumeToken = resumeToken;
+            return this;
+        }
+
+        public ParallelScanEnhancedRequest build() {
+            return new ParallelScanEnhancedRequest(this);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+
+/**
+ * The items of a parallel scan, such as {@link DynamoDbTable#scanParallel(ParallelScanEnhancedRequest)}, across all segments and
+ * pages.
+ * <p>
+ * Each iterator scans the table again, with one thread per segment scanned at the same time. At most one page of each segment is
+ * fetched ahead of the iterator. Items of the same segment are returned in the order of the segment, but items of different
+ * segments are interleaved. The threads stop when the iterator is exhausted, when it throws, or after it is no longer
+ * referenced.
+ *
+ * @param <T> The modelled type of the items.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface ParallelScanIterable<T> extends SdkIterable<T> {
+
+    /**
+     * Returns the progress of the latest iterator, which can be used to continue the scan after a failure. Before the first
+     * iterator, this is the resume token of the request, if any.
+     */
+    ParallelScanResumeToken resumeToken();
+}
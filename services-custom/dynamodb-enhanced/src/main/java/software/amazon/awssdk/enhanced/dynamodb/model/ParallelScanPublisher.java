@@ -0,0 +1,55 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+
+/**
+ * The items of a parallel scan, such as {@link DynamoDbAsyncTable#scanParallel(ParallelScanEnhancedRequest)}, across all
+ * segments and pages.
+ * <p>
+ * The segments are scanned when items are requested, with at most one page of each segment fetched ahead of the subscriber.
+ * Items of the same segment are delivered in the order of the segment, but items of different segments are interleaved. Each
+ * subscription scans the table again.
+ * <p>
+ * Example:
+ * <pre>
+ * {@code
+ *
+ * ParallelScanPublisher<MyItem> publisher = mappedTable.scanParallel(r -> r.totalSegments(8));
+ * publisher.subscribe(item -> export(item))
+ *          .exceptionally(failure -> {
+ *              store(publisher.resumeToken());
+ *              return null;
+ *          });
+ * }
+ * </pre>
+ *
+ * @param <T> The modelled type of the items.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface ParallelScanPublisher<T> extends SdkPublisher<T> {
+
+    /**
+     * Returns the progress of the latest subscription, which can be used to continue the scan after a failure or a
+     * cancellation. Before the first subscription, this is the resume token of the request, if any.
+     */
+    ParallelScanResumeToken resumeToken();
+}
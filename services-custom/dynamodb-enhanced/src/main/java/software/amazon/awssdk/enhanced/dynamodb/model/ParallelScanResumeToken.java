@@ -0,0 +1,200 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The progress of a parallel scan: for each segment, whether it is done and otherwise the last evaluated key of the last page of
+ * the segment whose items were all delivered. Pass it to {@link ParallelScanEnhancedRequest.Builder#resumeToken} to continue
+ * the scan where it stopped.
+ * <p>
+ * Items of a page that was only partly delivered when the scan stopped are delivered again when the scan is resumed.
+ * <p>
+ * To store a token, store its total number of segments, its completed segments and its last evaluated keys, and recreate it
+ * with {@link #builder()}.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanResumeToken {
+    private final int totalSegments;
+    private final Set<Integer> completedSegments;
+    private final Map<Integer, Map<String, AttributeValue>> lastEvaluatedKeys;
+
+    private ParallelScanResumeToken(Builder builder) {
+        this.totalSegments = Validate.isPositive(Validate.paramNotNull(builder.totalSegments, "totalSegments"),
+                                                 "totalSegments");
+        this.completedSegments = Collections.unmodifiableSet(new TreeSet<>(builder.completedSegments));
+        Map<Integer, Map<String, AttributeValue>> keys = new HashMap<>(builder.lastEvaluatedKeys);
+        keys.keySet().removeAll(completedSegments);
+        this.lastEvaluatedKeys = Collections.unmodifiableMap(keys);
+        completedSegments.forEach(this::validateSegment);
+        lastEvaluatedKeys.keySet().forEach(this::validateSegment);
+    }
+
+    /**
+     * Creates a newly initialized builder for a resume token.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return a builder with all existing values set
+     */
+    public Builder toBuilder() {
+        Builder builder = builder().totalSegments(totalSegments);
+        completedSegments.forEach(builder::addCompletedSegment);
+        lastEvaluatedKeys.forEach(builder::putLastEvaluatedKey);
+        return builder;
+    }
+
+    /**
+     * Returns the number of segments of the scan.
+     */
+    public int totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the segments whose items were all delivered.
+     */
+    public Set<Integer> completedSegments() {
+        return completedSegments;
+    }
+
+    /**
+     * Returns the last evaluated keys of the segments that were started but are not done, by segment.
+     */
+    public Map<Integer, Map<String, AttributeValue>> lastEvaluatedKeys() {
+        return lastEvaluatedKeys;
+    }
+
+    /**
+     * Returns the key to start the scan of the given segment after, or empty if the segment is to be scanned from the start.
+     */
+    public Optional<Map<String, AttributeValue>> lastEvaluatedKey(int segment) {
+        return Optional.ofNullable(lastEvaluatedKeys.get(segment));
+    }
+
+    /**
+     * Returns true if the items of the given segment were all delivered.
+     */
+    public boolean isSegmentComplete(int segment) {
+        return completedSegments.contains(segment);
+    }
+
+    /**
+     * Returns true if the items of all segments were delivered.
+     */
+    public boolean isComplete() {
+        return completedSegments.size() == totalSegments;
+    }
+
+    private void validateSegment(int segment) {
+        Validate.isTrue(segment >= 0 && segment < totalSegments, "Segment %s is not between 0 and %s.", segment,
+                        totalSegments - 1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ParallelScanResumeToken that = (ParallelScanResumeToken) o;
+        return totalSegments == that.totalSegments &&
+               completedSegments.equals(that.completedSegments) &&
+               lastEvaluatedKeys.equals(that.lastEvaluatedKeys);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = totalSegments;
+        result = 31 * result + completedSegments.hashCode();
+        result = 31 * result + lastEvaluatedKeys.hashCode();
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ParallelScanResumeToken")
+                       .add("totalSegments", totalSegments)
+                       .add("completedSegments", completedSegments)
+                       .add("lastEvaluatedKeys", lastEvaluatedKeys)
+                       .build();
+    }
+
+    /**
+     * A builder that is used to create a resume token.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private Integer totalSegments;
+        private final Set<Integer> completedSegments = new TreeSet<>();
+        private final Map<Integer, Map<String, AttributeValue>> lastEvaluatedKeys = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the number of segments of the scan. This is required.
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * Marks a segment as done, so that it is not scanned again.
+         */
+        public Builder addCompletedSegment(int segment) {
+            completedSegments.add(segment);
+            return this;
+        }
+
+        /**
+         * Sets the key to start the scan of a segment after. An empty key marks the segment as done, like the last page of a
+         * segment does.
+         */
+        public Builder putLastEvaluatedKey(int segment, Map<String, AttributeValue> lastEvaluatedKey) {
+            if (lastEvaluatedKey == null || lastEvaluatedKey.isEmpty()) {
+                lastEvaluatedKeys.remove(segment);
+                completedSegments.add(segment);
+            } else {
+                lastEvaluatedKeys.put(segment, Collections.unmodifiableMap(new HashMap<>(lastEvaluatedKey)));
+            }
+            return this;
+        }
+
+        public ParallelScanResumeToken build() {
+            return new ParallelScanResumeToken(this);
+        }
+    }
+}
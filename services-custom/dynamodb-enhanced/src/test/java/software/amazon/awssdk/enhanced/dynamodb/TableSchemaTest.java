@@ -25,6 +25,8 @@ import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.ImmutableTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticImmutableTableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.GeneratedSchemaBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.GeneratedSchemaBean_TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.InvalidBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.SimpleBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.SimpleImmutable;
@@ -85,6 +87,19 @@ public class TableSchemaTest {
         assertThat(tableSchema).isInstanceOf(ImmutableTableSchema.class);
     }
 
+    @Test
+    public void fromClass_returnsGeneratedTableSchema() {
+        TableSchema<GeneratedSchemaBean> tableSchema = TableSchema.fromClass(GeneratedSchemaBean.class);
+        assertThat(tableSchema).isInstanceOf(GeneratedSchemaBean_TableSchema.class);
+        assertThat(TableSchema.fromClass(GeneratedSchemaBean.class)).isSameAs(tableSchema);
+        assertThat(tableSchema.tableMetadata().primaryPartitionKey()).isEqualTo("id");
+    }
+
+    @Test
+    public void fromBean_ignoresGeneratedTableSchema() {
+        assertThat(TableSchema.fromBean(GeneratedSchemaBean.class)).isInstanceOf(BeanTableSchema.class);
+    }
+
     @Test
     public void fromClass_invalidClassThrowsException() {
         exception.expect(IllegalArgumentException.class);
@@ -0,0 +1,59 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.GeneratedSchemaBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.GeneratedSchemaBean_TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.SimpleBean;
+
+public class GeneratedTableSchemaLoaderTest {
+    @Test
+    public void schemaClassName_topLevelClass() {
+        assertThat(GeneratedTableSchemaLoader.schemaClassName(SimpleBean.class))
+            .isEqualTo("software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans.SimpleBean_TableSchema");
+    }
+
+    @Test
+    public void schemaClassName_nestedClass() {
+        assertThat(GeneratedTableSchemaLoader.schemaClassName(NestedItem.class))
+            .isEqualTo("software.amazon.awssdk.enhanced.dynamodb.internal.mapper."
+                       + "GeneratedTableSchemaLoaderTest_NestedItem_TableSchema");
+    }
+
+    @Test
+    public void load_generatedTableSchema() {
+        assertThat(GeneratedTableSchemaLoader.load(GeneratedSchemaBean.class))
+            .hasValueSatisfying(t -> assertThat(t).isInstanceOf(GeneratedSchemaBean_TableSchema.class));
+    }
+
+    @Test
+    public void load_generatedTableSchema_isCachedPerItemClass() {
+        assertThat(GeneratedTableSchemaLoader.load(GeneratedSchemaBean.class).get())
+            .isSameAs(GeneratedTableSchemaLoader.load(GeneratedSchemaBean.class).get());
+    }
+
+    @Test
+    public void load_noGeneratedTableSchema_isEmpty() {
+        assertThat(GeneratedTableSchemaLoader.load(SimpleBean.class)).isEmpty();
+        assertThat(GeneratedTableSchemaLoader.load(String.class)).isEmpty();
+    }
+
+    private static final class NestedItem {
+    }
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItemWithSort;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BulkWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbServiceClientConfiguration;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.Capacity;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+public class BulkWriteItemsOperationTest {
+    private static final String TABLE_NAME = "table-name";
+    private static final String TABLE_NAME_2 = "table-name-2";
+
+    private final List<BatchWriteItemRequest> requests = new CopyOnWriteArrayList<>();
+    private DynamoDbAsyncClient mockDynamoDbAsyncClient;
+    private DynamoDbEnhancedAsyncClient enhancedClient;
+    private DynamoDbAsyncTable<FakeItem> fakeItemTable;
+    private DynamoDbAsyncTable<FakeItemWithSort> fakeItemWithSortTable;
+
+    @BeforeEach
+    public void setupMappedTables() {
+        mockDynamoDbAsyncClient = mock(DynamoDbAsyncClient.class);
+        enhancedClient = DynamoDbEnhancedAsyncClient.builder().dynamoDbClient(mockDynamoDbAsyncClient).extensions().build();
+        fakeItemTable = enhancedClient.table(TABLE_NAME, FakeItem.getTableSchema());
+        fakeItemWithSortTable = enhancedClient.table(TABLE_NAME_2, FakeItemWithSort.getTableSchema());
+    }
+
+    @Test
+    public void bulkWrite_packsActionsOfAllTablesIntoFullRequests() {
+        respondWith(request -> BatchWriteItemResponse.builder().build());
+        List<FakeItem> items = fakeItems(40);
+        List<FakeItemWithSort> itemsWithSort = IntStream.range(0, 20)
+                                                        .mapToObj(i -> FakeItemWithSort.createUniqueFakeItemWithSort())
+                                                        .collect(toList());
+        List<WriteBatch> writeBatches = new ArrayList<>();
+        items.forEach(item -> writeBatches.add(putBatch(item)));
+        writeBatches.add(WriteBatch.builder(FakeItemWithSort.class)
+                                   .mappedTableResource(fakeItemWithSortTable)
+                                   .addDeleteItem(itemsWithSort.get(0))
+                                   .build());
+        itemsWithSort.subList(1, 20).forEach(item -> writeBatches.add(WriteBatch.builder(FakeItemWithSort.class)
+                                                                                .mappedTableResource(fakeItemWithSortTable)
+                                                                                .addPutItem(item)
+                                                                                .build()));
+
+        BulkWriteResult result = enhancedClient.bulkWriteItems(r -> r.writeBatches(writeBatches)).join();
+
+        assertThat(requests).hasSize(3);
+        assertThat(requests).allSatisfy(r -> assertThat(actionCount(r)).isLessThanOrEqualTo(25));
+        assertThat(requests.get(0).requestItems()).containsOnlyKeys(TABLE_NAME);
+        assertThat(requests.get(1).requestItems()).containsOnlyKeys(TABLE_NAME, TABLE_NAME_2);
+        assertThat(requests.stream().mapToInt(BulkWriteItemsOperationTest::actionCount).sum()).isEqualTo(60);
+        assertThat(requests).allSatisfy(r -> assertThat(r.returnConsumedCapacity()).isEqualTo(ReturnConsumedCapacity.TOTAL));
+        assertThat(result.writtenItems()).isEqualTo(60);
+        assertThat(result.batchWriteItemCalls()).isEqualTo(3);
+        assertThat(result.retriedItems()).isZero();
+        assertThat(result.writtenItemsPerSecond()).isPositive();
+        assertThat(result.unprocessedPutItemsForTable(fakeItemTable)).isEmpty();
+    }
+
+    @Test
+    public void bulkWrite_splitsRequestsAtTheRequestSizeLimit() {
+        respondWith(request -> BatchWriteItemResponse.builder().build());
+        String largeId = String.join("", Collections.nCopies(5 * 1024 * 1024, "x"));
+        List<WriteBatch> writeBatches = IntStream.range(0, 7)
+                                                 .mapToObj(i -> putBatch(FakeItem.builder().id(largeId + i).build()))
+                                                 .collect(toList());
+
+        BulkWriteResult result = enhancedClient.bulkWriteItems(r -> r.writeBatches(writeBatches)).join();
+
+        assertThat(requests.stream().map(BulkWriteItemsOperationTest::actionCount)).containsExactly(3, 3, 1);
+        assertThat(result.writtenItems()).isEqualTo(7);
+    }
+
+    @Test
+    public void bulkWrite_retriesUnprocessedItems() {
+        List<FakeItem> items = fakeItems(10);
+        WriteRequest unprocessed = putBatch(items.get(3)).writeRequests().iterator().next();
+        respondWith(request -> requests.size() <= 2 ? unprocessedResponse(TABLE_NAME, unprocessed)
+                                                    : BatchWriteItemResponse.builder().build());
+
+        BulkWriteResult result = enhancedClient.bulkWriteItems(r -> r.writeBatches(putBatch(items))
+                                                                     .unprocessedItemsBackoffStrategy(
+                                                                         BackoffStrategy.retryImmediately()))
+                                               .join();
+
+        assertThat(requests).hasSize(3);
+        assertThat(actionCount(requests.get(0))).isEqualTo(10);
+        assertThat(requests.get(1).requestItems().get(TABLE_NAME)).containsExactly(unprocessed);
+        assertThat(requests.get(2).requestItems().get(TABLE_NAME)).containsExactly(unprocessed);
+        assertThat(result.writtenItems()).isEqualTo(10);
+        assertThat(result.retriedItems()).isEqualTo(2);
+        assertThat(result.batchWriteItemCalls()).isEqualTo(3);
+    }
+
+    @Test
+    public void bulkWrite_retriesWithBackoffDelay() {
+        List<FakeItem> items = fakeItems(2);
+        WriteRequest unprocessed = putBatch(items.get(0)).writeRequests().iterator().next();
+        respondWith(request -> requests.size() == 1 ? unprocessedResponse(TABLE_NAME, unprocessed)
+                                                    : BatchWriteItemResponse.builder().build());
+
+        BulkWriteResult result = enhancedClient.bulkWriteItems(r -> r.writeBatches(putBatch(items))
+                                                                     .unprocessedItemsBackoffStrategy(
+                                                                         BackoffStrategy.fixedDelayWithoutJitter(
+                                                                             Duration.ofMillis(50))))
+                                               .join();
+
+        assertThat(requests).hasSize(2);
+        assertThat(result.writtenItems()).isEqualTo(2);
+        assertThat(result.duration()).isGreaterThanOrEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    public void bulkWrite_retriesExhausted_reportsUnprocessedItems() {
+        List<FakeItem> items = fakeItems(3);
+        WriteRequest unprocessed = putBatch(items.get(1)).writeRequests().iterator().next();
+        WriteRequest unprocessedDelete = WriteBatch.builder(FakeItem.class)
+                                                   .mappedTableResource(fakeItemTable)
+                                                   .addDeleteItem(items.get(2))
+                                                   .build()
+                                                   .writeRequests().iterator().next();
+        respondWith(request -> {
+            Map<String, List<WriteRequest>> unprocessedItems = new HashMap<>();
+            unprocessedItems.put(TABLE_NAME, new ArrayList<>(request.requestItems().get(TABLE_NAME)));
+            unprocessedItems.get(TABLE_NAME).removeIf(w -> !w.equals(unprocessed) && !w.equals(unprocessedDelete));
+            return BatchWriteItemResponse.builder().unprocessedItems(unprocessedItems).build();
+        });
+        WriteBatch writeBatch = WriteBatch.builder(FakeItem.class)
+                                          .mappedTableResource(fakeItemTable)
+                                          .addPutItem(items.get(0))
+                                          .addPutItem(items.get(1))
+                                          .addDeleteItem(items.get(2))
+                                          .build();
+
+        BulkWriteResult result = enhancedClient.bulkWriteItems(r -> r.writeBatches(writeBatch)
+                                                                     .maxUnprocessedItemRetries(2)
+                                                                     .unprocessedItemsBackoffStrategy(
+                                                                         BackoffStrategy.retryImmediately()))
+                                               .join();
+
+        assertThat(requests).hasSize(3);
+        assertThat(result.writtenItems()).isEqualTo(1);
+        assertThat(result.retriedItems()).isEqualTo(4);
+        assertThat(result.unprocessedPutItemsForTable(fakeItemTable)).containsExactly(items.get(1));
+        assertThat(result.unprocessedDeleteItemsForTable(fakeItemTable))
+            .containsExactly(Key.builder().partitionValue(items.get(2).getId()).build());
+    }
+
+    @Test
+    public void bulkWrite_unprocessedItemsThatDoNotMatchTheRequest_areRetriedAtMostMaxTimes() {
+        List<FakeItem> items = fakeItems(1);
+        respondWith(request -> {
+            FakeItem sent = FakeItem.builder().id(request.requestItems().get(TABLE_NAME).get(0).putRequest().item()
+                                                         .get("id").s() + "x").build();
+            return unprocessedResponse(TABLE_NAME, putBatch(sent).writeRequests().iterator().next());
+        });
+
+        BulkWriteResult result = enhancedClient.bulkWriteItems(r -> r.writeBatches(putBatch(items))
+                                                                     .maxUnprocessedItemRetries(2)
+                                                                     .unprocessedItemsBackoffStrategy(
+                                                                         BackoffStrategy.retryImmediately()))
+                                               .join();
+
+        assertThat(requests).hasSize(3);
+        assertThat(result.writtenItems()).isZero();
+        assertThat(result.retriedItems()).isEqualTo(2);
+        assertThat(result.unprocessedPutItemsForTable(fakeItemTable)).hasSize(1);
+    }
+
+    @Test
+    public void bulkWrite_retriesWithBackoffDelay_useTheClientScheduledExecutor() {
+        AtomicInteger scheduled = new AtomicInteger();
+        ScheduledExecutorService clientExecutor = new ScheduledThreadPoolExecutor(1) {
+            @Override
+            public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+                scheduled.incrementAndGet();
+                return super.schedule(command, delay, unit);
+            }
+        };
+        try {
+            when(mockDynamoDbAsyncClient.serviceClientConfiguration())
+                .thenReturn(DynamoDbServiceClientConfiguration.builder()
+                                                              .overrideConfiguration(ClientOverrideConfiguration.builder()
+                                                                                         .scheduledExecutorService(clientExecutor)
+                                                                                         .build())
+                                                              .build());
+            List<FakeItem> items = fakeItems(2);
+            WriteRequest unprocessed = putBatch(items.get(0)).writeRequests().iterator().next();
+            respondWith(request -> requests.size() == 1 ? unprocessedResponse(TABLE_NAME, unprocessed)
+                                                        : BatchWriteItemResponse.builder().build());
+
+            BulkWriteResult result = enhancedClient.bulkWriteItems(r -> r.writeBatches(putBatch(items))
+                                                                         .unprocessedItemsBackoffStrategy(
+                                                                             BackoffStrategy.fixedDelayWithoutJitter(
+                                                                                 Duration.ofMillis(10))))
+                                                   .join();
+
+            assertThat(result.writtenItems()).isEqualTo(2);
+            assertThat(scheduled).hasValue(1);
+            assertThat(clientExecutor.isShutdown()).isFalse();
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void bulkWrite_limitsConcurrentRequests() {
+        List<CompletableFuture<BatchWriteItemResponse>> responses = new CopyOnWriteArrayList<>();
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+
+        CompletableFuture<BulkWriteResult> result =
+            enhancedClient.bulkWriteItems(r -> r.writeBatches(putBatch(fakeItems(250))).maxConcurrentBatches(3));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(requests).hasSize(Math.min(10, i + 3));
+            assertThat(result).isNotDone();
+            responses.get(i).complete(BatchWriteItemResponse.builder().build());
+        }
+        assertThat(result.join().writtenItems()).isEqualTo(250);
+        assertThat(requests).hasSize(10);
+    }
+
+    @Test
+    public void bulkWrite_requestsWriteBatchesOnlyWhenThereIsRoomForThem() {
+        List<CompletableFuture<BatchWriteItemResponse>> responses = new CopyOnWriteArrayList<>();
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+        List<Integer> iterated = new CopyOnWriteArrayList<>();
+        List<FakeItem> items = fakeItems(1000);
+        Iterable<WriteBatch> writeBatches = () -> IntStream.range(0, items.size()).mapToObj(i -> {
+            iterated.add(i);
+            return putBatch(items.get(i));
+        }).iterator();
+
+        CompletableFuture<BulkWriteResult> result =
+            enhancedClient.bulkWriteItems(r -> r.writeBatches(writeBatches).maxConcurrentBatches(2));
+
+        assertThat(responses).hasSize(2);
+        // Two requests in flight, two requests worth of pending actions, and the one write batch the publisher reads ahead.
+        assertThat(iterated).hasSize(101);
+        while (!result.isDone()) {
+            responses.stream().filter(r -> !r.isDone()).forEach(r -> r.complete(BatchWriteItemResponse.builder().build()));
+        }
+        assertThat(iterated).hasSize(1000);
+        assertThat(result.join().writtenItems()).isEqualTo(1000);
+    }
+
+    @Test
+    public void bulkWrite_failedCall_failsOperation() {
+        ProvisionedThroughputExceededException exception = ProvisionedThroughputExceededException.builder().build();
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            CompletableFuture<BatchWriteItemResponse> response = new CompletableFuture<>();
+            response.completeExceptionally(exception);
+            return response;
+        });
+
+        CompletableFuture<BulkWriteResult> result = enhancedClient.bulkWriteItems(r -> r.writeBatches(putBatch(fakeItems(60))));
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class).hasCause(exception);
+    }
+
+    @Test
+    public void bulkWrite_sumsConsumedCapacityPerTable() {
+        respondWith(request -> BatchWriteItemResponse.builder()
+                                                     .consumedCapacity(
+                                                         ConsumedCapacity.builder()
+                                                                         .tableName(TABLE_NAME)
+                                                                         .capacityUnits(2.0)
+                                                                         .table(Capacity.builder().capacityUnits(2.0).build())
+                                                                         .build(),
+                                                         ConsumedCapacity.builder()
+                                                                         .tableName(TABLE_NAME_2)
+                                                                         .capacityUnits(1.0)
+                                                                         .build())
+                                                     .build());
+
+        BulkWriteResult result = enhancedClient.bulkWriteItems(r -> r.writeBatches(putBatch(fakeItems(60)))).join();
+
+        assertThat(result.consumedCapacity()).containsExactly(
+            ConsumedCapacity.builder().tableName(TABLE_NAME).capacityUnits(6.0)
+                            .table(Capacity.builder().capacityUnits(6.0).build()).build(),
+            ConsumedCapacity.builder().tableName(TABLE_NAME_2).capacityUnits(3.0).build());
+    }
+
+    @Test
+    public void bulkWrite_invalidConfiguration_throws() {
+        assertThatThrownBy(() -> enhancedClient.bulkWriteItems(BulkWriteItemsEnhancedRequest.builder().build()))
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("writeBatches");
+        assertThatThrownBy(() -> enhancedClient.bulkWriteItems(r -> r.writeBatches(putBatch(fakeItems(1)))
+                                                                     .maxConcurrentBatches(0)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxConcurrentBatches");
+    }
+
+    @Test
+    public void estimatedSize_coversTheJsonEncodingOfTheItem() {
+        WriteRequest writeRequest = putBatch(FakeItem.builder().id("\"quoted\"é").build()).writeRequests().iterator().next();
+
+        long jsonSize = ("{\"PutRequest\":{\"Item\":{\"id\":{\"S\":\"\\\"quoted\\\"é\"}}}}")
+            .getBytes(StandardCharsets.UTF_8).length;
+        assertThat(BulkWriteItemsOperation.estimatedSize(writeRequest)).isGreaterThanOrEqualTo(jsonSize);
+    }
+
+    private void respondWith(Function<BatchWriteItemRequest, BatchWriteItemResponse> responder) {
+        when(mockDynamoDbAsyncClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            requests.add(request);
+            return CompletableFuture.completedFuture(responder.apply(request));
+        });
+    }
+
+    private static BatchWriteItemResponse unprocessedResponse(String tableName, WriteRequest writeRequest) {
+        Map<String, List<WriteRequest>> unprocessedItems = new HashMap<>();
+        unprocessedItems.put(tableName, Collections.singletonList(writeRequest));
+        return BatchWriteItemResponse.builder().unprocessedItems(unprocessedItems).build();
+    }
+
+    private static int actionCount(BatchWriteItemRequest request) {
+        return request.requestItems().values().stream().mapToInt(List::size).sum();
+    }
+
+    private static List<FakeItem> fakeItems(int count) {
+        return IntStream.range(0, count).mapToObj(i -> FakeItem.createUniqueFakeItem()).collect(toList());
+    }
+
+    private WriteBatch putBatch(FakeItem item) {
+        return putBatch(Collections.singletonList(item));
+    }
+
+    private WriteBatch putBatch(List<FakeItem> items) {
+        WriteBatch.Builder<FakeItem> builder = WriteBatch.builder(FakeItem.class).mappedTableResource(fakeItemTable);
+        items.forEach(builder::addPutItem);
+        return builder.build();
+    }
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.operations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.functionaltests.models.FakeItem;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanResumeToken;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanIterable;
+
+public class ParallelScanOperationTest {
+    private static final int PAGES_PER_SEGMENT = 3;
+    private static final int ITEMS_PER_PAGE = 2;
+
+    private final List<ScanEnhancedRequest> segmentRequests = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void scanParallel_async_deliversTheItemsOfAllSegments() throws Exception {
+        ParallelScanPublisher<String> publisher = operation(request(4)).executeAsync(this::asyncSegment);
+
+        List<String> items = new CopyOnWriteArrayList<>();
+        publisher.subscribe(items::add).get(5, TimeUnit.SECONDS);
+
+        assertThat(items).hasSize(4 * PAGES_PER_SEGMENT * ITEMS_PER_PAGE);
+        for (int segment = 0; segment < 4; segment++) {
+            String prefix = segment + "-";
+            assertThat(items.stream().filter(i -> i.startsWith(prefix)).collect(Collectors.toList()))
+                .isEqualTo(segmentItems(segment));
+        }
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::totalSegments).containsOnly(4);
+        assertThat(segmentRequests).extracting(ScanEnhancedRequest::segment).containsExactlyInAnyOrder(0, 1, 2, 3);
+        assertThat(publisher.resumeToken().isComplete()).isTrue();
+    }
+
+    @Test
+    public void scanParallel_async_onlyFetchesPagesWhenItemsAreRequested() {
+        List<Integer> pageRequests = new CopyOnWriteArrayList<>();
+        ParallelScanPublisher<String> publisher =
+            operation(request(2)).executeAsync(r -> countingPages(asyncSegment(r), r.segment(), pageRequests));
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        assertThat(pageRequests).isEmpty();
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.items).hasSize(1);
+        // The first page of each segment
+        assertThat(pageRequests).containsExactlyInAnyOrder(0, 1);
+
+        subscriber.subscription.request(ITEMS_PER_PAGE);
+        assertThat(subscriber.items).hasSize(1 + ITEMS_PER_PAGE);
+        assertThat(pageRequests).hasSize(3);
+        assertThat(subscriber.completed).isFalse();
+    }
+
+    @Test
+    public void scanParallel_async_limitsTheSegmentsInProgress() throws Exception {
+        List<Integer> startedSegments = new CopyOnWriteArrayList<>();
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        operation(request(4).toBuilder().maxConcurrentSegments(1).build())
+            .executeAsync(r -> {
+                startedSegments.add(r.segment());
+                return asyncSegment(r);
+            })
+            .subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+        assertThat(startedSegments).containsExactly(0);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(startedSegments).containsExactly(0, 1, 2, 3);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    public void scanParallel_async_failureOfASegmentFailsTheScanAndCanBeResumed() throws Exception {
+        RuntimeException failure = new RuntimeException("boom");
+        ParallelScanPublisher<String> publisher =
+            operation(request(2)).executeAsync(r -> r.segment() == 1 ? failingAfterFirstPage(asyncSegment(r), failure)
+                                                                      : asyncSegment(r));
+
+        List<String> items = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> result = publisher.subscribe(items::add);
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        ParallelScanResumeToken resumeToken = publisher.resumeToken();
+        assertThat(resumeToken.isComplete()).isFalse();
+        assertThat(resumeToken.lastEvaluatedKey(1)).contains(lastEvaluatedKey(1, 0));
+
+        segmentRequests.clear();
+        List<String> resumedItems = new CopyOnWriteArrayList<>();
+        ParallelScanPublisher<String> resumed =
+            operation(request(2).toBuilder().resumeToken(resumeToken).build()).executeAsync(this::asyncSegment);
+        resumed.subscribe(resumedItems::add).get(5, TimeUnit.SECONDS);
+
+        Map<Integer, ScanEnhancedRequest> requestsBySegment =
+            segmentRequests.stream().collect(Collectors.toMap(ScanEnhancedRequest::segment, Function.identity()));
+        assertThat(requestsBySegment.get(1).exclusiveStartKey()).isEqualTo(lastEvaluatedKey(1, 0));
+        assertThat(resumedItems).containsAll(segmentItems(1).subList(ITEMS_PER_PAGE, PAGES_PER_SEGMENT * ITEMS_PER_PAGE));
+        assertThat(resumed.resumeToken().isComplete()).isTrue();
+    }
+
+    @Test
+    public void scanParallel_sync_returnsTheItemsOfAllSegments() {
+        ParallelScanIterable<String> iterable =
+            operation(request(3).toBuilder().maxConcurrentSegments(2).build()).execute(this::syncSegment);
+
+        List<String> items = new ArrayList<>();
+        iterable.forEach(items::add);
+
+        assertThat(items).hasSize(3 * PAGES_PER_SEGMENT * ITEMS_PER_PAGE);
+        for (int segment = 0; segment < 3; segment++) {
+            String prefix = segment + "-";
+            assertThat(items.stream().filter(i -> i.startsWith(prefix)).collect(Collectors.toList()))
+                .isEqualTo(segmentItems(segment));
+        }
+        assertThat(iterable.resumeToken().isComplete()).isTrue();
+    }
+
+    @Test
+    public void scanParallel_sync_failureOfASegmentIsThrown() {
+        RuntimeException failure = new RuntimeException("boom");
+        ParallelScanIterable<String> iterable =
+            operation(request(2)).execute(r -> {
+                if (r.segment() == 1) {
+                    throw failure;
+                }
+                return syncSegment(r);
+            });
+
+        assertThatThrownBy(() -> iterable.forEach(i -> { })).isSameAs(failure);
+        assertThat(iterable.resumeToken().isSegmentComplete(1)).isFalse();
+    }
+
+    @Test
+    public void scanParallel_sync_manySegments_defaultLimitsTheThreads() {
+        int defaultLimit = ParallelScanOperation.defaultMaxConcurrentSegments(Integer.MAX_VALUE);
+        int totalSegments = defaultLimit + 8;
+        Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        List<String> items = new ArrayList<>();
+        operation(request(totalSegments)).execute(r -> {
+            threads.add(Thread.currentThread());
+            return syncSegment(r);
+        }).forEach(items::add);
+
+        assertThat(defaultLimit).isEqualTo(4 * Runtime.getRuntime().availableProcessors());
+        assertThat(ParallelScanOperation.defaultMaxConcurrentSegments(3)).isEqualTo(3);
+        assertThat(items).hasSize(totalSegments * PAGES_PER_SEGMENT * ITEMS_PER_PAGE);
+        assertThat(threads).hasSizeLessThanOrEqualTo(defaultLimit);
+    }
+
+    @Test
+    public void scanParallel_table_scansEachSegment() {
+        DynamoDbClient client = mock(DynamoDbClient.class);
+        List<ScanRequest> requests = new CopyOnWriteArrayList<>();
+        when(client.scanPaginator(any(ScanRequest.class))).thenAnswer(i -> new ScanIterable(client, i.getArgument(0)));
+        when(client.scan(any(ScanRequest.class))).thenAnswer(i -> {
+            ScanRequest scanRequest = i.getArgument(0);
+            requests.add(scanRequest);
+            return ScanResponse.builder()
+                               .items(Collections.singletonMap("id", AttributeValue.fromS("id-" + scanRequest.segment())))
+                               .build();
+        });
+        DynamoDbTable<FakeItem> table =
+            DynamoDbEnhancedClient.builder().dynamoDbClient(client).extensions().build()
+                                  .table("table-name", FakeItem.getTableSchema());
+
+        List<String> ids = new ArrayList<>();
+        table.scanParallel(r -> r.totalSegments(3).scanRequest(s -> s.consistentRead(true)))
+             .forEach(item -> ids.add(item.getId()));
+
+        assertThat(ids).containsExactlyInAnyOrder("id-0", "id-1", "id-2");
+        assertThat(requests).extracting(ScanRequest::segment).containsExactlyInAnyOrder(0, 1, 2);
+        assertThat(requests).extracting(ScanRequest::totalSegments).containsOnly(3);
+        assertThat(requests).extracting(ScanRequest::consistentRead).containsOnly(true);
+    }
+
+    @Test
+    public void scanParallel_segmentSetInScanRequest_throws() {
+        ParallelScanEnhancedRequest request = request(2).toBuilder().scanRequest(s -> s.segment(1)).build();
+        assertThatThrownBy(() -> operation(request)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void scanParallel_resumeTokenOfAnotherSegmentCount_throws() {
+        ParallelScanEnhancedRequest request =
+            request(2).toBuilder().resumeToken(ParallelScanResumeToken.builder().totalSegments(3).build()).build();
+        assertThatThrownBy(() -> operation(request)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ParallelScanEnhancedRequest request(int totalSegments) {
+        return ParallelScanEnhancedRequest.builder().totalSegments(totalSegments).build();
+    }
+
+    private static ParallelScanOperation<String> operation(ParallelScanEnhancedRequest request) {
+        return ParallelScanOperation.create(request);
+    }
+
+    private SdkPublisher<Page<String>> asyncSegment(ScanEnhancedRequest request) {
+        return SdkPublisher.fromIterable(segmentPages(request));
+    }
+
+    private SdkIterable<Page<String>> syncSegment(ScanEnhancedRequest request) {
+        List<Page<String>> pages = segmentPages(request);
+        return pages::iterator;
+    }
+
+    /**
+     * Returns the pages of the segment of the request, after its exclusive start key.
+     */
+    private List<Page<String>> segmentPages(ScanEnhancedRequest request) {
+        segmentRequests.add(request);
+        int segment = request.segment();
+        List<Page<String>> pages = new ArrayList<>();
+        boolean started = request.exclusiveStartKey() == null;
+        for (int page = 0; page < PAGES_PER_SEGMENT; page++) {
+            if (started) {
+                List<String> items = segmentItems(segment).subList(page * ITEMS_PER_PAGE, (page + 1) * ITEMS_PER_PAGE);
+                pages.add(Page.create(items, page == PAGES_PER_SEGMENT - 1 ? null : lastEvaluatedKey(segment, page)));
+            }
+            started |= lastEvaluatedKey(segment, page).equals(request.exclusiveStartKey());
+        }
+        return pages;
+    }
+
+    private static List<String> segmentItems(int segment) {
+        List<String> items = new ArrayList<>();
+        for (int i = 0; i < PAGES_PER_SEGMENT * ITEMS_PER_PAGE; i++) {
+            items.add(segment + "-" + i);
+        }
+        return items;
+    }
+
+    private static Map<String, AttributeValue> lastEvaluatedKey(int segment, int page) {
+        return Collections.singletonMap("id", AttributeValue.fromS(segment + "-" + page));
+    }
+
+    private static SdkPublisher<Page<String>> countingPages(SdkPublisher<Page<String>> pages, int segment,
+                                                            List<Integer> pageRequests) {
+        return subscriber -> pages.subscribe(new DelegatingSubscriber(subscriber) {
+            @Override
+            public void onSubscribe(Subscription s) {
+                super.onSubscribe(new Subscription() {
+                    @Override
+                    public void request(long n) {
+                        for (long i = 0; i < n; i++) {
+                            pageRequests.add(segment);
+                        }
+                        s.request(n);
+                    }
+
+                    @Override
+                    public void cancel() {
+                        s.cancel();
+                    }
+                });
+            }
+        });
+    }
+
+    private static SdkPublisher<Page<String>> failingAfterFirstPage(SdkPublisher<Page<String>> pages, RuntimeException failure) {
+        return subscriber -> pages.subscribe(new DelegatingSubscriber(subscriber) {
+            private int delivered;
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription s) {
+                subscription = s;
+                super.onSubscribe(s);
+            }
+
+            @Override
+            public void onNext(Page<String> page) {
+                if (delivered++ == 1) {
+                    subscription.cancel();
+                    super.onError(failure);
+                } else {
+                    super.onNext(page);
+                }
+            }
+        });
+    }
+
+    private static class DelegatingSubscriber implements Subscriber<Page<String>> {
+        private final Subscriber<? super Page<String>> delegate;
+
+        private DelegatingSubscriber(Subscriber<? super Page<String>> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            delegate.onSubscribe(s);
+        }
+
+        @Override
+        public void onNext(Page<String> page) {
+            delegate.onNext(page);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            delegate.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            delegate.onComplete();
+        }
+    }
+
+    private static final class RecordingSubscriber implements Subscriber<String> {
+        private final List<String> items = new CopyOnWriteArrayList<>();
+        private volatile Subscription subscription;
+        private volatile boolean completed;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onNext(String item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
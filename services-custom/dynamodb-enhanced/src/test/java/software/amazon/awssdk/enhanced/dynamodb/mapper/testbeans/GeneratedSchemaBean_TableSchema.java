@@ -0,0 +1,36 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper.testbeans;
+
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.WrappedTableSchema;
+
+// CHECKSTYLE:OFF - Named like the table schemas that the dynamodb-enhanced-processor generates.
+public final class GeneratedSchemaBean_TableSchema
+    extends WrappedTableSchema<GeneratedSchemaBean, StaticTableSchema<GeneratedSchemaBean>> {
+    // CHECKSTYLE:ON
+
+    public GeneratedSchemaBean_TableSchema() {
+        super(StaticTableSchema.builder(GeneratedSchemaBean.class)
+                               .newItemSupplier(GeneratedSchemaBean::new)
+                               .addAttribute(String.class, a -> a.name("id")
+                                                                 .getter(GeneratedSchemaBean::getId)
+                                                                 .setter(GeneratedSchemaBean::setId)
+                                                                 .addTag(StaticAttributeTags.primaryPartitionKey()))
+                               .build());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
+import java.util.Map;
+import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+public class ParallelScanResumeTokenTest {
+    private static final Map<String, AttributeValue> KEY = Collections.singletonMap("id", AttributeValue.fromS("id-1"));
+
+    @Test
+    public void builder_tracksSegmentProgress() {
+        ParallelScanResumeToken token = ParallelScanResumeToken.builder()
+                                                               .totalSegments(3)
+                                                               .putLastEvaluatedKey(0, KEY)
+                                                               .putLastEvaluatedKey(1, null)
+                                                               .addCompletedSegment(2)
+                                                               .build();
+
+        assertThat(token.lastEvaluatedKey(0)).contains(KEY);
+        assertThat(token.isSegmentComplete(0)).isFalse();
+        assertThat(token.lastEvaluatedKey(1)).isEmpty();
+        assertThat(token.completedSegments()).containsExactly(1, 2);
+        assertThat(token.isComplete()).isFalse();
+        assertThat(token.toBuilder().addCompletedSegment(0).build().isComplete()).isTrue();
+    }
+
+    @Test
+    public void toBuilder_keepsAllValues() {
+        ParallelScanResumeToken token = ParallelScanResumeToken.builder()
+                                                               .totalSegments(2)
+                                                               .putLastEvaluatedKey(0, KEY)
+                                                               .addCompletedSegment(1)
+                                                               .build();
+
+        assertThat(token.toBuilder().build()).isEqualTo(token);
+    }
+
+    @Test
+    public void segmentOutOfRange_throws() {
+        assertThatThrownBy(() -> ParallelScanResumeToken.builder().totalSegments(2).addCompletedSegment(2).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelScanResumeToken.builder().build()).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    public void equalsHashcode() {
+        EqualsVerifier.forClass(ParallelScanResumeToken.class)
+                      .withPrefabValues(AttributeValue.class,
+                                        AttributeValue.builder().s("1").build(),
+                                        AttributeValue.builder().s("2").build())
+                      .withNonnullFields("completedSegments", "lastEvaluatedKeys")
+                      .verify();
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.ec2.internal.waiters;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.internal.waiters.WaiterAttribute;
+import software.amazon.awssdk.core.waiters.BatchingAsyncWaiter;
+import software.amazon.awssdk.core.waiters.WaiterAcceptor;
+import software.amazon.awssdk.core.waiters.WaiterOverrideConfiguration;
+import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.ec2.Ec2AsyncClient;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
+import software.amazon.awssdk.services.ec2.model.Filter;
+import software.amazon.awssdk.services.ec2.model.Instance;
+import software.amazon.awssdk.services.ec2.model.Reservation;
+import software.amazon.awssdk.services.ec2.waiters.Ec2BatchingAsyncWaiter;
+import software.amazon.awssdk.services.ec2.waiters.internal.WaitersRuntime;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Default implementation of {@link Ec2BatchingAsyncWaiter}. The acceptors, delays and attempts mirror the InstanceRunning,
+ * InstanceStopped and InstanceTerminated waiters of the EC2 waiter model.
+ * <p>
+ * Instances are polled with an {@code instance-id} filter rather than with {@code InstanceIds}: {@code DescribeInstances}
+ * fails the whole call if one of the given {@code InstanceIds} is unknown, while a filter simply leaves that instance out of
+ * the response, which only retries the wait on that instance.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class DefaultEc2BatchingAsyncWaiter implements Ec2BatchingAsyncWaiter {
+    private static final WaiterAttribute<SdkAutoCloseable> CLIENT_ATTRIBUTE = new WaiterAttribute<>(SdkAutoCloseable.class);
+    private static final WaiterAttribute<ScheduledExecutorService> SCHEDULED_EXECUTOR_SERVICE_ATTRIBUTE =
+        new WaiterAttribute<>(ScheduledExecutorService.class);
+
+    private static final String INSTANCE_ID_FILTER = "instance-id";
+    private static final int MAX_ATTEMPTS = 40;
+    private static final Duration DELAY = Duration.ofSeconds(15);
+
+    private final Ec2AsyncClient client;
+    private final AttributeMap managedResources;
+    private final BatchingAsyncWaiter<String, DescribeInstancesResponse> instanceRunningWaiter;
+    private final BatchingAsyncWaiter<String, DescribeInstancesResponse> instanceStoppedWaiter;
+    private final BatchingAsyncWaiter<String, DescribeInstancesResponse> instanceTerminatedWaiter;
+
+    private DefaultEc2BatchingAsyncWaiter(DefaultBuilder builder) {
+        AttributeMap.Builder attributeMapBuilder = AttributeMap.builder();
+        if (builder.client == null) {
+            this.client = Ec2AsyncClient.builder().build();
+            attributeMapBuilder.put(CLIENT_ATTRIBUTE, this.client);
+        } else {
+            this.client = builder.client;
+        }
+        ScheduledExecutorService executorService = builder.executorService;
+        if (executorService == null) {
+            executorService = Executors.newScheduledThreadPool(1, new ThreadFactoryBuilder()
+                .threadNamePrefix("waiters-ScheduledExecutor").build());
+            attributeMapBuilder.put(SCHEDULED_EXECUTOR_SERVICE_ATTRIBUTE, executorService);
+        }
+        this.managedResources = attributeMapBuilder.build();
+
+        WaiterOverrideConfiguration config = waiterConfig(builder.overrideConfiguration);
+        this.instanceRunningWaiter = instanceWaiter(executorService, config, instanceRunningWaiterAcceptors());
+        this.instanceStoppedWaiter = instanceWaiter(executorService, config, instanceStoppedWaiterAcceptors());
+        this.instanceTerminatedWaiter = instanceWaiter(executorService, config, instanceTerminatedWaiterAcceptors());
+    }
+
+    public static Ec2BatchingAsyncWaiter.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public CompletableFuture<WaiterResponse<DescribeInstancesResponse>> waitUntilInstanceRunning(String instanceId) {
+        return instanceRunningWaiter.runAsync(instanceId);
+    }
+
+    @Override
+    public CompletableFuture<WaiterResponse<DescribeInstancesResponse>> waitUntilInstanceRunning(
+        String instanceId, WaiterOverrideConfiguration overrideConfig) {
+        return instanceRunningWaiter.runAsync(instanceId, waiterConfig(overrideConfig));
+    }
+
+    @Override
+    public CompletableFuture<WaiterResponse<DescribeInstancesResponse>> waitUntilInstanceStopped(String instanceId) {
+        return instanceStoppedWaiter.runAsync(instanceId);
+    }
+
+    @Override
+    public CompletableFuture<WaiterResponse<DescribeInstancesResponse>> waitUntilInstanceStopped(
+        String instanceId, WaiterOverrideConfiguration overrideConfig) {
+        return instanceStoppedWaiter.runAsync(instanceId, waiterConfig(overrideConfig));
+    }
+
+    @Override
+    public CompletableFuture<WaiterResponse<DescribeInstancesResponse>> waitUntilInstanceTerminated(String instanceId) {
+        return instanceTerminatedWaiter.runAsync(instanceId);
+    }
+
+    @Override
+    public CompletableFuture<WaiterResponse<DescribeInstancesResponse>> waitUntilInstanceTerminated(
+        String instanceId, WaiterOverrideConfiguration overrideConfig) {
+        return instanceTerminatedWaiter.runAsync(instanceId, waiterConfig(overrideConfig));
+    }
+
+    @Override
+    public void close() {
+        managedResources.close();
+    }
+
+    private BatchingAsyncWaiter<String, DescribeInstancesResponse> instanceWaiter(
+        ScheduledExecutorService executorService,
+        WaiterOverrideConfiguration config,
+        List<WaiterAcceptor<? super DescribeInstancesResponse>> acceptors) {
+
+        return BatchingAsyncWaiter.builder(String.class, DescribeInstancesResponse.class)
+                                  .batchPollingFunction(this::describeInstances)
+                                  .resourceResponseFunction(DefaultEc2BatchingAsyncWaiter::onlyInstance)
+                                  .acceptors(acceptors)
+                                  .overrideConfiguration(config)
+                                  .scheduledExecutorService(executorService)
+                                  .build();
+    }
+
+    private CompletableFuture<DescribeInstancesResponse> describeInstances(List<String> instanceIds) {
+        Filter instanceIdFilter = Filter.builder().name(INSTANCE_ID_FILTER).values(instanceIds).build();
+        AwsRequestOverrideConfiguration overrideConfiguration =
+            AwsRequestOverrideConfiguration.builder()
+                                           .addApiName(ApiName.builder().name("sdk-metrics").version("B").build())
+                                           .build();
+        return client.describeInstances(DescribeInstancesRequest.builder()
+                                                                .filters(instanceIdFilter)
+                                                                .overrideConfiguration(overrideConfiguration)
+                                                                .build());
+    }
+
+    /**
+     * Narrows the response of a batched call to the reservation and the instance with the given ID.
+     */
+    private static DescribeInstancesResponse onlyInstance(DescribeInstancesResponse response, String instanceId) {
+        List<Reservation> reservations = new ArrayList<>();
+        for (Reservation reservation : response.reservations()) {
+            List<Instance> instances = reservation.instances().stream()
+                                                  .filter(i -> instanceId.equals(i.instanceId()))
+                                                  .collect(Collectors.toList());
+            if (!instances.isEmpty()) {
+                reservations.add(reservation.toBuilder().instances(instances).build());
+            }
+        }
+        return response.toBuilder().reservations(reservations).build();
+    }
+
+    private static List<WaiterAcceptor<? super DescribeInstancesResponse>> instanceRunningWaiterAcceptors() {
+        List<WaiterAcceptor<? super DescribeInstancesResponse>> result = new ArrayList<>();
+        result.add(WaiterAcceptor.successOnResponseAcceptor(response -> allStatesAre(response, "running")));
+        result.add(WaiterAcceptor.errorOnResponseAcceptor(
+            response -> anyStateIn(response, "shutting-down", "terminated", "stopping"),
+            "A waiter acceptor was matched and transitioned the waiter to failure state"));
+        result.add(WaiterAcceptor.retryOnExceptionAcceptor(
+            error -> Objects.equals(errorCode(error), "InvalidInstanceID.NotFound")));
+        result.addAll(WaitersRuntime.DEFAULT_ACCEPTORS);
+        return result;
+    }
+
+    private static List<WaiterAcceptor<? super DescribeInstancesResponse>> instanceStoppedWaiterAcceptors() {
+        List<WaiterAcceptor<? super DescribeInstancesResponse>> result = new ArrayList<>();
+        result.add(WaiterAcceptor.successOnResponseAcceptor(response -> allStatesAre(response, "stopped")));
+        result.add(WaiterAcceptor.errorOnResponseAcceptor(
+            response -> anyStateIn(response, "pending", "terminated"),
+            "A waiter acceptor was matched and transitioned the waiter to failure state"));
+        result.addAll(WaitersRuntime.DEFAULT_ACCEPTORS);
+        return result;
+    }
+
+    private static List<WaiterAcceptor<? super DescribeInstancesResponse>> instanceTerminatedWaiterAcceptors() {
+        List<WaiterAcceptor<? super DescribeInstancesResponse>> result = new ArrayList<>();
+        result.add(WaiterAcceptor.successOnResponseAcceptor(response -> allStatesAre(response, "terminated")));
+        result.add(WaiterAcceptor.errorOnResponseAcceptor(
+            response -> anyStateIn(response, "pending", "stopping"),
+            "A waiter acceptor was matched and transitioned the waiter to failure state"));
+        result.addAll(WaitersRuntime.DEFAULT_ACCEPTORS);
+        return result;
+    }
+
+    /**
+     * The {@code pathAll} matcher on {@code Reservations[].Instances[].State.Name}: false if there are no instances.
+     */
+    private static boolean allStatesAre(DescribeInstancesResponse response, String state) {
+        List<String> states = states(response).collect(Collectors.toList());
+        return !states.isEmpty() && states.stream().allMatch(state::equals);
+    }
+
+    /**
+     * The {@code pathAny} matcher on {@code Reservations[].Instances[].State.Name}.
+     */
+    private static boolean anyStateIn(DescribeInstancesResponse response, String... states) {
+        Set<String> expected = Stream.of(states).collect(Collectors.toSet());
+        return states(response).anyMatch(expected::contains);
+    }
+
+    private static Stream<String> states(DescribeInstancesResponse response) {
+        return response.reservations().stream()
+                       .flatMap(r -> r.instances().stream())
+                       .map(i -> i.state() == null ? null : i.state().nameAsString());
+    }
+
+    private static String errorCode(Throwable error) {
+        if (error instanceof AwsServiceException) {
+            return ((AwsServiceException) error).awsErrorDetails().errorCode();
+        }
+        return null;
+    }
+
+    private static WaiterOverrideConfiguration waiterConfig(WaiterOverrideConfiguration overrideConfig) {
+        Optional<WaiterOverrideConfiguration> optionalOverrideConfig = Optional.ofNullable(overrideConfig);
+        int maxAttempts = optionalOverrideConfig.flatMap(WaiterOverrideConfiguration::maxAttempts).orElse(MAX_ATTEMPTS);
+        BackoffStrategy backoffStrategy = optionalOverrideConfig.flatMap(WaiterOverrideConfiguration::backoffStrategyV2)
+                                                                .orElse(BackoffStrategy.fixedDelayWithoutJitter(DELAY));
+        Duration waitTimeout = optionalOverrideConfig.flatMap(WaiterOverrideConfiguration::waitTimeout).orElse(null);
+        return WaiterOverrideConfiguration.builder()
+                                          .maxAttempts(maxAttempts)
+                                          .backoffStrategyV2(backoffStrategy)
+                                          .waitTimeout(waitTimeout)
+                                          .build();
+    }
+
+    private static final class DefaultBuilder implements Ec2BatchingAsyncWaiter.Builder {
+        private Ec2AsyncClient client;
+        private WaiterOverrideConfiguration overrideConfiguration;
+        private ScheduledExecutorService executorService;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Ec2BatchingAsyncWaiter.Builder scheduledExecutorService(ScheduledExecutorService executorService) {
+            this.executorService = executorService;
+            return this;
+        }
+
+        @Override
+        public Ec2BatchingAsyncWaiter.Builder overrideConfiguration(WaiterOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public Ec2BatchingAsyncWaiter.Builder client(Ec2AsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public Ec2BatchingAsyncWaiter build() {
+            return new DefaultEc2BatchingAsyncWaiter(this);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.ec2.waiters;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.waiters.BatchingAsyncWaiter;
+import software.amazon.awssdk.core.waiters.WaiterOverrideConfiguration;
+import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.services.ec2.Ec2AsyncClient;
+import software.amazon.awssdk.services.ec2.internal.waiters.DefaultEc2BatchingAsyncWaiter;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Waits for many EC2 instances at once, with the same acceptors as the instance waiters of {@link Ec2AsyncWaiter}.
+ * <p>
+ * Where {@link Ec2AsyncWaiter} calls {@code DescribeInstances} once per attempt of every wait, this waiter polls all of the
+ * instances whose attempts are due at about the same time with a single {@code DescribeInstances} call, filtered on their
+ * instance IDs, see {@link BatchingAsyncWaiter}. Each returned future completes when the acceptors match the state of its own
+ * instance. The {@link WaiterResponse} of a wait only contains the reservation and the instance that it waited on.
+ *
+ * <pre>{@code
+ * try (Ec2BatchingAsyncWaiter waiter = Ec2BatchingAsyncWaiter.builder().client(ec2AsyncClient).build()) {
+ *     List<CompletableFuture<WaiterResponse<DescribeInstancesResponse>>> waits =
+ *         instanceIds.stream().map(waiter::waitUntilInstanceRunning).collect(Collectors.toList());
+ *     CompletableFuture.allOf(waits.toArray(new CompletableFuture[0])).join();
+ * }
+ * }</pre>
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface Ec2BatchingAsyncWaiter extends SdkAutoCloseable {
+
+    /**
+     * Polls {@code DescribeInstances} until the given instance is running, like
+     * {@link Ec2AsyncWaiter#waitUntilInstanceRunning(software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest)}.
+     *
+     * @param instanceId the ID of the instance to wait for
+     * @return CompletableFuture containing the WaiterResponse. It completes successfully when the instance is running, or
+     * exceptionally when it can never be, or when the wait times out.
+     */
+    CompletableFuture<WaiterResponse<DescribeInstancesResponse>> waitUntilInstanceRunning(String instanceId);
+
+    /**
+     * Polls {@code DescribeInstances} until the given instance is running, with the given override configuration.
+     *
+     * @param instanceId the ID of the instance to wait for
+     * @param overrideConfig the per request override configuration
+     * @return CompletableFuture containing the WaiterResponse
+     */
+    CompletableFuture<WaiterResponse<DescribeInstancesResponse>> waitUntilInstanceRunning(
+        String instanceId, WaiterOverrideConfiguration overrideConfig);
+
+    /**
+     * Polls {@code DescribeInstances} until the given instance is running, with the given override configuration.
+     *
+     * @param instanceId the ID of the instance to wait for
+     * @param overrideConfig the consumer that configures the per request override configuration
+     * @return CompletableFuture containing the WaiterResponse
+     */
+    default CompletableFuture<WaiterResponse<DescribeInstancesResponse>> waitUntilInstanceRunning(
+        String instanceId, Consumer<WaiterOverrideConfiguration.Builder> overrideConfig) {
+        return waitUntilInstanceRunning(instanceId, WaiterOverrideConfiguration.builder().applyMutation(overrideConfig).build());
+    }
+
+    /**
+     * Polls {@code DescribeInstances} until the given instance is stopped, like
+     * {@link Ec2AsyncWaiter#waitUntilInstanceStopped(software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest)}.
+     *
+     * @param instanceId the ID of the instance to wait for
+     * @return CompletableFuture containing the WaiterResponse. It completes successfully when the instance is stopped, or
+     * exceptionally when it can never be, or when the wait times out.
+     */
+    CompletableFuture<WaiterResponse<DescribeInstancesResponse>> waitUntilInstanceStopped(String instanceId);
+
+    /**
+     * Polls {@code DescribeInstances} until the given instance is stopped, with the given override configuration.
+     *
+     * @param instanceId the ID of the instance to wait for
+     * @param overrideConfig the per request override configuration
+     * @return CompletableFuture containing the WaiterResponse
+     */
+    CompletableFuture<WaiterResponse<DescribeInstancesResponse>> waitUntilInstanceStopped(
+        String instanceId, WaiterOverrideConfiguration overrideConfig);
+
+    /**
+     * Polls {@code DescribeInstances} until the given instance is stopped, with the given override configuration.
+     *
+     * @param instanceId the ID of the instance to wait for
+     * @param overrideConfig the consumer that configures the per request override configuration
+     * @return CompletableFuture containing the WaiterResponse
+     */
+    default CompletableFuture<WaiterResponse<DescribeInstancesResponse>> waitUntilInstanceStopped(
+        String instanceId, Consumer<WaiterOverrideConfiguration.Builder> overrideConfig) {
+        return waitUntilInstanceStopped(instanceId, WaiterOverrideConfiguration.builder().applyMutation(overrideConfig).build());
+    }
+
+    /**
+     * Polls {@code DescribeInstances} until the given instance is terminated, like
+     * {@link Ec2AsyncWaiter#waitUntilInstanceTerminated(software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest)}.
+     *
+     * @param instanceId the ID of the instance to wait for
+     * @return CompletableFuture containing the WaiterResponse. It completes successfully when the instance is terminated, or
+     * exceptionally when it can never be, or when the wait times out.
+     */
+    CompletableFuture<WaiterResponse<DescribeInstancesResponse>> waitUntilInstanceTerminated(String instanceId);
+
+    /**
+     * Polls {@code DescribeInstances} until the given instance is terminated, with the given override configuration.
+     *
+     * @param instanceId the ID of the instance to wait for
+     * @param overrideConfig the per request override configuration
+     * @return CompletableFuture containing the WaiterResponse
+     */
+    CompletableFuture<WaiterResponse<DescribeInstancesResponse>> waitUntilInstanceTerminated(
+        String instanceId, WaiterOverrideConfiguration overrideConfig);
+
+    /**
+     * Polls {@code DescribeInstances} until the given instance is terminated, with the given override configuration.
+     *
+     * @param instanceId the ID of the instance to wait for
+     * @param overrideConfig the consumer that configures the per request override configuration
+     * @return CompletableFuture containing the WaiterResponse
+     */
+    default CompletableFuture<WaiterResponse<DescribeInstancesResponse>> waitUntilInstanceTerminated(
+        String instanceId, Consumer<WaiterOverrideConfiguration.Builder> overrideConfig) {
+        return waitUntilInstanceTerminated(instanceId,
+                                           WaiterOverrideConfiguration.builder().applyMutation(overrideConfig).build());
+    }
+
+    /**
+     * Create a builder that can be used to configure and create a {@link Ec2BatchingAsyncWaiter}.
+     *
+     * @return a builder
+     */
+    static Builder builder() {
+        return DefaultEc2BatchingAsyncWaiter.builder();
+    }
+
+    interface Builder {
+        /**
+         * Defines the {@link ScheduledExecutorService} used to schedule the polling attempts. By default, the waiter creates
+         * one with a single thread, which is shut down when the waiter is closed.
+         *
+         * @param executorService the executor service
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder scheduledExecutorService(ScheduledExecutorService executorService);
+
+        /**
+         * Defines overrides to the default waiter configuration.
+         *
+         * @param overrideConfiguration the override configuration to set
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder overrideConfiguration(WaiterOverrideConfiguration overrideConfiguration);
+
+        /**
+         * Defines overrides to the default waiter configuration.
+         *
+         * @param overrideConfiguration the consumer that configures the override configuration
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        default Builder overrideConfiguration(Consumer<WaiterOverrideConfiguration.Builder> overrideConfiguration) {
+            return overrideConfiguration(WaiterOverrideConfiguration.builder().applyMutation(overrideConfiguration).build());
+        }
+
+        /**
+         * Sets a custom {@link Ec2AsyncClient} that will be used to poll the resources. By default, the waiter creates a
+         * client, which is closed when the waiter is closed.
+         *
+         * @param client the client to send the requests
+         * @return a reference to this object so that method calls can be chained together.
+         */
+        Builder client(Ec2AsyncClient client);
+
+        /**
+         * Builds an instance of {@link Ec2BatchingAsyncWaiter} based on the configurations supplied to this builder.
+         *
+         * @return An initialized {@link Ec2BatchingAsyncWaiter}
+         */
+        Ec2BatchingAsyncWaiter build();
+    }
+}
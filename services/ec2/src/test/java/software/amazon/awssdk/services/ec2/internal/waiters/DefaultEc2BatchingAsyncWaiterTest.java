@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.ec2.internal.waiters;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.waiters.WaiterResponse;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.ec2.Ec2AsyncClient;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesRequest;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
+import software.amazon.awssdk.services.ec2.model.Filter;
+import software.amazon.awssdk.services.ec2.model.Instance;
+import software.amazon.awssdk.services.ec2.model.InstanceState;
+import software.amazon.awssdk.services.ec2.model.Reservation;
+import software.amazon.awssdk.services.ec2.waiters.Ec2BatchingAsyncWaiter;
+
+public class DefaultEc2BatchingAsyncWaiterTest {
+    private ScheduledExecutorService executorService;
+    private Ec2AsyncClient client;
+    private List<DescribeInstancesRequest> requests;
+    private Map<String, Deque<String>> states;
+    private Ec2BatchingAsyncWaiter waiter;
+
+    @BeforeEach
+    public void setUp() {
+        executorService = Executors.newSingleThreadScheduledExecutor();
+        client = mock(Ec2AsyncClient.class);
+        requests = new CopyOnWriteArrayList<>();
+        states = new ConcurrentHashMap<>();
+        when(client.describeInstances(any(DescribeInstancesRequest.class))).thenAnswer(invocation -> {
+            DescribeInstancesRequest request = invocation.getArgument(0);
+            requests.add(request);
+            // Both instances are in the same reservation, as when they are launched by the same RunInstances call.
+            List<Instance> instances = request.filters().get(0).values().stream()
+                                              .filter(states::containsKey)
+                                              .map(this::nextState)
+                                              .collect(Collectors.toList());
+            Reservation reservation = Reservation.builder().reservationId("r-1").instances(instances).build();
+            return CompletableFuture.completedFuture(DescribeInstancesResponse.builder().reservations(reservation).build());
+        });
+        waiter = Ec2BatchingAsyncWaiter.builder()
+                                       .client(client)
+                                       .scheduledExecutorService(executorService)
+                                       .overrideConfiguration(c -> c.maxAttempts(3)
+                                                                    .backoffStrategyV2(BackoffStrategy.fixedDelayWithoutJitter(
+                                                                        Duration.ofMillis(10))))
+                                       .build();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        waiter.close();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void waitUntilInstanceRunning_pollsInstancesWithOneFilteredCall() {
+        states.put("i-1", new ArrayDeque<>(Arrays.asList("running")));
+        states.put("i-2", new ArrayDeque<>(Arrays.asList("pending", "running")));
+
+        CompletableFuture<WaiterResponse<DescribeInstancesResponse>> first = waiter.waitUntilInstanceRunning("i-1");
+        CompletableFuture<WaiterResponse<DescribeInstancesResponse>> second = waiter.waitUntilInstanceRunning("i-2");
+
+        WaiterResponse<DescribeInstancesResponse> firstResponse = first.join();
+        WaiterResponse<DescribeInstancesResponse> secondResponse = second.join();
+        assertThat(instanceIds(firstResponse)).containsExactly("i-1");
+        assertThat(instanceIds(secondResponse)).containsExactly("i-2");
+        assertThat(secondResponse.attemptsExecuted()).isEqualTo(2);
+
+        Filter firstFilter = requests.get(0).filters().get(0);
+        assertThat(firstFilter.name()).isEqualTo("instance-id");
+        assertThat(firstFilter.values()).containsExactlyInAnyOrder("i-1", "i-2");
+        assertThat(requests.get(0).instanceIds()).isEmpty();
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).filters().get(0).values()).containsExactly("i-2");
+    }
+
+    @Test
+    public void waitUntilInstanceRunning_terminatedInstance_failsOnlyThatWait() {
+        states.put("i-1", new ArrayDeque<>(Arrays.asList("pending", "running")));
+        states.put("i-2", new ArrayDeque<>(Arrays.asList("terminated")));
+
+        CompletableFuture<WaiterResponse<DescribeInstancesResponse>> first = waiter.waitUntilInstanceRunning("i-1");
+        CompletableFuture<WaiterResponse<DescribeInstancesResponse>> second = waiter.waitUntilInstanceRunning("i-2");
+
+        assertThat(instanceIds(first.join())).containsExactly("i-1");
+        assertThatThrownBy(second::join).hasCauseInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    public void waitUntilInstanceStopped_unknownInstance_retriesUntilMaxAttempts() {
+        states.put("i-1", new ArrayDeque<>(Arrays.asList("stopping", "stopped")));
+
+        CompletableFuture<WaiterResponse<DescribeInstancesResponse>> known = waiter.waitUntilInstanceStopped("i-1");
+        CompletableFuture<WaiterResponse<DescribeInstancesResponse>> unknown = waiter.waitUntilInstanceStopped("i-unknown");
+
+        assertThat(instanceIds(known.join())).containsExactly("i-1");
+        assertThatThrownBy(unknown::join).hasCauseInstanceOf(SdkClientException.class)
+                                         .hasMessageContaining("3");
+    }
+
+    private Instance nextState(String instanceId) {
+        Deque<String> instanceStates = states.get(instanceId);
+        String state = instanceStates.size() > 1 ? instanceStates.poll() : instanceStates.peek();
+        return Instance.builder().instanceId(instanceId).state(InstanceState.builder().name(state).build()).build();
+    }
+
+    private static List<String> instanceIds(WaiterResponse<DescribeInstancesResponse> response) {
+        return response.matched().response().get().reservations().stream()
+                       .flatMap(r -> r.instances().stream())
+                       .map(Instance::instanceId)
+                       .collect(Collectors.toList());
+    }
+}
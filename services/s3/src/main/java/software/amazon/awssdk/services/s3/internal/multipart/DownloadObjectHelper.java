@@ -17,6 +17,7 @@ package software.amazon.awssdk.services.s3.internal.multipart;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SplittingTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
@@ -31,10 +32,16 @@ public class DownloadObjectHelper {
 
     private final S3AsyncClient s3AsyncClient;
     private final long bufferSizeInBytes;
+    private final int maxInFlightPartDownloads;
 
     public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes) {
+        this(s3AsyncClient, bufferSizeInBytes, 1);
+    }
+
+    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes, int maxInFlightPartDownloads) {
         this.s3AsyncClient = s3AsyncClient;
         this.bufferSizeInBytes = bufferSizeInBytes;
+        this.maxInFlightPartDownloads = maxInFlightPartDownloads;
     }
 
     public <T> CompletableFuture<T> downloadObject(
@@ -47,17 +54,22 @@ public class DownloadObjectHelper {
             asyncResponseTransformer.split(SplittingTransformerConfiguration.builder()
                                                                             .bufferSizeInBytes(bufferSizeInBytes)
                                                                             .build());
-        MultipartDownloaderSubscriber subscriber = subscriber(getObjectRequest);
-        split.publisher().subscribe(subscriber);
+        split.publisher().subscribe(subscriber(getObjectRequest));
         return split.resultFuture();
     }
 
-    private MultipartDownloaderSubscriber subscriber(GetObjectRequest getObjectRequest) {
+    private Subscriber<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> subscriber(
+        GetObjectRequest getObjectRequest) {
         Optional<MultipartDownloadResumeContext> multipartDownloadContext =
             MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest);
-        return multipartDownloadContext
-            .map(ctx -> new MultipartDownloaderSubscriber(s3AsyncClient, getObjectRequest, ctx.highestSequentialCompletedPart()))
-            .orElseGet(() -> new MultipartDownloaderSubscriber(s3AsyncClient, getObjectRequest));
+        int completedParts = multipartDownloadContext.map(MultipartDownloadResumeContext::highestSequentialCompletedPart)
+                                                     .orElse(0);
+        if (maxInFlightPartDownloads > 1) {
+            log.debug(() -> "Using parallel multipart download with maxInFlightPartDownloads=" + maxInFlightPartDownloads);
+            return new ParallelMultipartDownloaderSubscriber(s3AsyncClient, getObjectRequest, completedParts,
+                                                             maxInFlightPartDownloads, bufferSizeInBytes);
+        }
+        return new MultipartDownloaderSubscriber(s3AsyncClient, getObjectRequest, completedParts);
     }
 
     private void logSinglePartMessage(GetObjectRequest getObjectRequest) {
@@ -0,0 +1,462 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A subscriber implementation that will download all individual parts for a multipart get-object request, keeping up to
+ * {@code maxInFlightParts} part requests in flight at the same time. Like {@link MultipartDownloaderSubscriber}, it receives the
+ * individual {@link AsyncResponseTransformer} which will be used to write each part, in order.
+ * <p>
+ * The first part is streamed directly to its transformer. As soon as its response is received, the total number of parts and
+ * the part size are known, and the following parts are requested concurrently. Those parts are buffered in memory until every
+ * preceding part has been written, and are then replayed to the transformer for their part number. The parts requested ahead
+ * are bounded both by {@code maxInFlightParts} and by {@code bufferSizeInBytes}: a part that is not requested ahead, for
+ * example because a single part is larger than the buffer or the response has no content length, is streamed directly to its
+ * transformer once it is its turn.
+ * <p>
+ * If any part fails, every outstanding part request is cancelled, and the error of that part is reported to the transformer of
+ * the part currently being written.
+ * <p>
+ * This is a 'one-shot' class, it should <em>NOT</em> be reused for more than one multipart download.
+ */
+@SdkInternalApi
+public class ParallelMultipartDownloaderSubscriber
+    implements Subscriber<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> {
+    private static final Logger log = Logger.loggerFor(ParallelMultipartDownloaderSubscriber.class);
+
+    /**
+     * The largest part that can be buffered, since a buffered part is held in a single byte array.
+     */
+    private static final long MAX_BUFFERED_PART_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * The s3 client used to make the individual part requests
+     */
+    private final S3AsyncClient s3;
+
+    /**
+     * The GetObjectRequest that was provided when calling s3.getObject(...). It is copied for each individual request, with the
+     * partNumber field updated for each part.
+     */
+    private final GetObjectRequest getObjectRequest;
+
+    /**
+     * The maximum number of part requests that can be in flight at the same time, including the part currently being written.
+     */
+    private final int maxInFlightParts;
+
+    /**
+     * The maximum amount of memory, in bytes, used by the parts that are buffered.
+     */
+    private final long bufferSizeInBytes;
+
+    /**
+     * The parts that were requested ahead and have not been written yet, keyed by part number. A part stays here until it has
+     * been written, so that it can be cancelled while it is waiting for the parts before it.
+     */
+    private final Map<Integer, CompletableFuture<ResponseBytes<GetObjectResponse>>> inFlightParts = new HashMap<>();
+
+    /**
+     * This future will be completed once this subscriber reaches a terminal state, failed or successfully, and will be completed
+     * accordingly.
+     */
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    /**
+     * Lock guarding {@link #completedParts}, {@link #nextPartToRequest}, {@link #inFlightParts}, {@link #streamedPart} and
+     * {@link #isDone}.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The total number of parts of the object to get. Null until the response of the first part is received.
+     */
+    private volatile Integer totalParts;
+
+    /**
+     * The size of the largest part seen so far. Null until the response of the first part is received.
+     */
+    private volatile Long partSizeInBytes;
+
+    /**
+     * The etag of the object being downloaded.
+     */
+    private volatile String eTag;
+
+    /**
+     * The error of the first part that failed, reported instead of the cancellations it causes.
+     */
+    private volatile Throwable failure;
+
+    /**
+     * The total number of parts written, in order, to their transformer.
+     */
+    private int completedParts;
+
+    /**
+     * The part number of the next part to request ahead of the part currently being written.
+     */
+    private int nextPartToRequest;
+
+    /**
+     * The request of the last part that was streamed directly to its transformer.
+     */
+    private CompletableFuture<GetObjectResponse> streamedPart;
+
+    /**
+     * Set once this subscriber failed or completed, no more parts are requested after this is set.
+     */
+    private boolean isDone;
+
+    /**
+     * The subscription received from the publisher this subscriber subscribes to.
+     */
+    private volatile Subscription subscription;
+
+    public ParallelMultipartDownloaderSubscriber(S3AsyncClient s3, GetObjectRequest getObjectRequest, int maxInFlightParts,
+                                                 long bufferSizeInBytes) {
+        this(s3, getObjectRequest, 0, maxInFlightParts, bufferSizeInBytes);
+    }
+
+    public ParallelMultipartDownloaderSubscriber(S3AsyncClient s3, GetObjectRequest getObjectRequest, int completedParts,
+                                                 int maxInFlightParts, long bufferSizeInBytes) {
+        this.s3 = s3;
+        this.getObjectRequest = getObjectRequest;
+        this.completedParts = completedParts;
+        this.nextPartToRequest = completedParts + 2;
+        this.maxInFlightParts = Validate.isPositive(maxInFlightParts, "maxInFlightParts");
+        this.bufferSizeInBytes = Validate.isPositive(bufferSizeInBytes, "bufferSizeInBytes");
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (this.subscription != null) {
+            s.cancel();
+            return;
+        }
+        this.subscription = s;
+        this.subscription.request(1);
+    }
+
+    @Override
+    public void onNext(AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> asyncResponseTransformer) {
+        if (asyncResponseTransformer == null) {
+            subscription.cancel();
+            throw new NullPointerException("onNext must not be called with null asyncResponseTransformer");
+        }
+
+        int partNumber;
+        boolean done;
+        CompletableFuture<ResponseBytes<GetObjectResponse>> bufferedPart;
+        synchronized (lock) {
+            partNumber = completedParts + 1;
+            done = isDone;
+            bufferedPart = inFlightParts.get(partNumber);
+            if (bufferedPart == null) {
+                nextPartToRequest = Math.max(nextPartToRequest, partNumber + 1);
+            }
+        }
+
+        if (totalParts != null && partNumber > totalParts) {
+            log.debug(() -> String.format("Completing multipart download after a total of %d parts downloaded.", totalParts));
+            subscription.cancel();
+            return;
+        }
+
+        if (done && failure != null) {
+            asyncResponseTransformer.prepare();
+            asyncResponseTransformer.exceptionOccurred(failure);
+            return;
+        }
+
+        if (bufferedPart == null) {
+            streamPart(partNumber, asyncResponseTransformer);
+            return;
+        }
+
+        bufferedPart.whenComplete((bytes, error) -> {
+            if (error != null) {
+                log.debug(() -> "Error encountered during GetObjectRequest with partNumber=" + partNumber);
+                Throwable cause = failureOr(error);
+                asyncResponseTransformer.prepare();
+                asyncResponseTransformer.exceptionOccurred(cause);
+                onError(cause);
+                return;
+            }
+            writeBufferedPart(partNumber, asyncResponseTransformer, bytes);
+        });
+    }
+
+    /**
+     * Streams a part directly to its transformer. This is always the case for the first part, since the number of parts is only
+     * known once its response is received, at which point the following parts are requested.
+     */
+    private void streamPart(int partNumber, AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> transformer) {
+        GetObjectRequest actualRequest = nextRequest(partNumber);
+        log.debug(() -> "Sending GetObjectRequest for streamed part with partNumber=" + partNumber);
+        StreamedPartTransformer partTransformer = new StreamedPartTransformer(transformer);
+        CompletableFuture<GetObjectResponse> getObjectFuture = s3.getObject(actualRequest, partTransformer);
+        boolean done;
+        synchronized (lock) {
+            streamedPart = getObjectFuture;
+            done = isDone;
+        }
+        if (done) {
+            getObjectFuture.cancel(true);
+        }
+        getObjectFuture.whenComplete((response, error) -> {
+            if (error != null) {
+                log.debug(() -> "Error encountered during GetObjectRequest with partNumber=" + partNumber);
+                Throwable cause = failureOr(error);
+                partTransformer.fail(cause);
+                onError(cause);
+                return;
+            }
+            partCompleted(response);
+        });
+    }
+
+    private void writeBufferedPart(int partNumber, AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> transformer,
+                                   ResponseBytes<GetObjectResponse> bytes) {
+        log.debug(() -> "Writing buffered part with partNumber=" + partNumber);
+        CompletableFuture<GetObjectResponse> writeFuture = transformer.prepare();
+        transformer.onResponse(bytes.response());
+        transformer.onStream(SdkPublisher.fromIterable(Collections.singletonList(bytes.asByteBuffer())));
+        writeFuture.whenComplete((response, error) -> {
+            if (error != null) {
+                log.debug(() -> "Error encountered while writing part with partNumber=" + partNumber);
+                onError(error);
+                return;
+            }
+            partCompleted(bytes.response());
+        });
+    }
+
+    private void partCompleted(GetObjectResponse response) {
+        int totalComplete;
+        synchronized (lock) {
+            totalComplete = ++completedParts;
+            inFlightParts.remove(totalComplete);
+        }
+        MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest)
+                              .ifPresent(ctx -> {
+                                  ctx.addCompletedPart(totalComplete);
+                                  ctx.addToBytesToLastCompletedParts(response.contentLength());
+                                  if (ctx.response() == null) {
+                                      ctx.response(response);
+                                  }
+                              });
+        log.debug(() -> String.format("Completed part %d", totalComplete));
+        updateObjectMetadata(response);
+
+        // The subscription is signalled outside of the lock: the publisher may deliver the next transformer on this thread, and
+        // onNext takes the lock again.
+        if (totalParts != null && totalParts > 1 && totalComplete < totalParts) {
+            requestInFlightParts();
+            subscription.request(1);
+        } else {
+            log.debug(() -> String.format("Completing multipart download after a total of %d parts downloaded.", totalParts));
+            subscription.cancel();
+        }
+    }
+
+    private void updateObjectMetadata(GetObjectResponse response) {
+        if (eTag == null) {
+            this.eTag = response.eTag();
+            log.debug(() -> String.format("Multipart object ETag: %s", this.eTag));
+        }
+
+        Long contentLength = response.contentLength();
+        if (contentLength != null && (partSizeInBytes == null || contentLength > partSizeInBytes)) {
+            partSizeInBytes = contentLength;
+        }
+
+        Integer partCount = response.partsCount();
+        if (partCount != null && totalParts == null) {
+            log.debug(() -> String.format("Total amount of parts of the object to download: %d", partCount));
+            MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest)
+                                  .ifPresent(ctx -> ctx.totalParts(partCount));
+            totalParts = partCount;
+        }
+    }
+
+    /**
+     * Requests the parts following the one currently being written, until {@code maxInFlightParts} parts are either being
+     * written or in flight, or until the parts that are buffered would exceed {@code bufferSizeInBytes}.
+     */
+    private void requestInFlightParts() {
+        Integer total = totalParts;
+        if (total == null) {
+            return;
+        }
+        int maxBufferedParts = maxBufferedParts();
+        List<Integer> partsToRequest = new ArrayList<>();
+        Map<Integer, CompletableFuture<ResponseBytes<GetObjectResponse>>> placeholders = new HashMap<>();
+        synchronized (lock) {
+            if (isDone) {
+                return;
+            }
+            while (nextPartToRequest <= total
+                   && nextPartToRequest <= completedParts + maxInFlightParts
+                   && inFlightParts.size() < maxBufferedParts) {
+                int partNumber = nextPartToRequest++;
+                CompletableFuture<ResponseBytes<GetObjectResponse>> placeholder = new CompletableFuture<>();
+                inFlightParts.put(partNumber, placeholder);
+                placeholders.put(partNumber, placeholder);
+                partsToRequest.add(partNumber);
+            }
+        }
+
+        for (Integer partNumber : partsToRequest) {
+            log.debug(() -> "Sending GetObjectRequest for next part with partNumber=" + partNumber);
+            CompletableFuture<ResponseBytes<GetObjectResponse>> placeholder = placeholders.get(partNumber);
+            CompletableFuture<ResponseBytes<GetObjectResponse>> getObjectFuture =
+                s3.getObject(nextRequest(partNumber), AsyncResponseTransformer.toBytes());
+            CompletableFutureUtils.forwardExceptionTo(placeholder, getObjectFuture);
+            CompletableFutureUtils.forwardResultTo(getObjectFuture, placeholder);
+            // Fail fast: the error would otherwise only be noticed once every part before this one has been written.
+            getObjectFuture.whenComplete((response, error) -> {
+                if (error != null) {
+                    log.debug(() -> "Error encountered during GetObjectRequest with partNumber=" + partNumber);
+                    onError(error);
+                }
+            });
+        }
+    }
+
+    /**
+     * The number of parts that can be buffered at the same time, based on the size of the largest part seen so far. This
+     * includes the part currently being written when it was buffered, since its bytes are held until it has been written.
+     */
+    private int maxBufferedParts() {
+        Long partSize = partSizeInBytes;
+        if (partSize == null || partSize > MAX_BUFFERED_PART_SIZE) {
+            return 0;
+        }
+        return (int) Math.min(maxInFlightParts, bufferSizeInBytes / Math.max(1, partSize));
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        synchronized (lock) {
+            if (failure == null) {
+                failure = t;
+            }
+        }
+        cancelInFlightParts();
+        future.completeExceptionally(t);
+    }
+
+    @Override
+    public void onComplete() {
+        cancelInFlightParts();
+        future.complete(null);
+    }
+
+    public CompletableFuture<Void> future() {
+        return this.future;
+    }
+
+    private void cancelInFlightParts() {
+        List<CompletableFuture<?>> toCancel;
+        synchronized (lock) {
+            isDone = true;
+            toCancel = new ArrayList<>(inFlightParts.values());
+            inFlightParts.clear();
+            if (streamedPart != null) {
+                toCancel.add(streamedPart);
+            }
+        }
+        toCancel.forEach(f -> f.cancel(true));
+    }
+
+    private Throwable failureOr(Throwable error) {
+        Throwable firstFailure = failure;
+        return firstFailure != null ? firstFailure : error;
+    }
+
+    private GetObjectRequest nextRequest(int nextPartToGet) {
+        return getObjectRequest.copy(req -> {
+            req.partNumber(nextPartToGet);
+            if (eTag != null) {
+                req.ifMatch(eTag);
+            }
+        });
+    }
+
+    /**
+     * Delegates to the transformer of a streamed part, and starts requesting the following parts as soon as the response of the
+     * part is received, while its body is still being streamed. The transformer is failed at most once, whether the failure is
+     * reported by the client or by the cancellation of the part.
+     */
+    private final class StreamedPartTransformer implements AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> {
+        private final AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> delegate;
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        private StreamedPartTransformer(AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public CompletableFuture<GetObjectResponse> prepare() {
+            return delegate.prepare();
+        }
+
+        @Override
+        public void onResponse(GetObjectResponse response) {
+            updateObjectMetadata(response);
+            delegate.onResponse(response);
+            requestInFlightParts();
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            delegate.onStream(publisher);
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            fail(error);
+        }
+
+        private void fail(Throwable error) {
+            if (failed.compareAndSet(false, true)) {
+                delegate.exceptionOccurred(failureOr(error));
+            }
+        }
+    }
+}
@@ -44,11 +44,13 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
     private final Long thresholdInBytes;
     private final Long minimumPartSizeInBytes;
     private final Long apiCallBufferSizeInBytes;
+    private final Integer maxInFlightPartDownloads;
 
     private MultipartConfiguration(DefaultMultipartConfigBuilder builder) {
         this.thresholdInBytes = builder.thresholdInBytes;
         this.minimumPartSizeInBytes = builder.minimumPartSizeInBytes;
         this.apiCallBufferSizeInBytes = builder.apiCallBufferSizeInBytes;
+        this.maxInFlightPartDownloads = builder.maxInFlightPartDownloads;
     }
 
     public static Builder builder() {
@@ -60,7 +62,8 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return builder()
             .apiCallBufferSizeInBytes(apiCallBufferSizeInBytes)
             .minimumPartSizeInBytes(minimumPartSizeInBytes)
-            .thresholdInBytes(thresholdInBytes);
+            .thresholdInBytes(thresholdInBytes)
+            .maxInFlightPartDownloads(maxInFlightPartDownloads);
     }
 
     /**
@@ -89,6 +92,14 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return this.apiCallBufferSizeInBytes;
     }
 
+    /**
+     * The maximum number of part requests a multipart download keeps in flight at the same time.
+     * @return the value of the configured maximum number of in-flight part downloads.
+     */
+    public Integer maxInFlightPartDownloads() {
+        return this.maxInFlightPartDownloads;
+    }
+
     /**
      * Builder for a {@link MultipartConfiguration}.
      */
@@ -163,12 +174,33 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * @return the value of the maximum memory usage.
          */
         Long apiCallBufferSizeInBytes();
+
+        /**
+         * Configures the maximum number of part requests that a multipart download keeps in flight at the same time. When
+         * set to a value greater than 1, the parts following the first one are requested concurrently and reassembled in
+         * order before being sent to the {@link AsyncResponseTransformer}. Parts that complete ahead of the one currently
+         * being written are held in memory, up to {@link #apiCallBufferSizeInBytes(Long)} per download. A part that does not
+         * fit in that buffer is not requested ahead, but streamed once the parts before it have been written.
+         * <p>
+         * Default value: 1, meaning that parts are downloaded one after the other.
+         *
+         * @param maxInFlightPartDownloads the maximum number of concurrent part requests for a download.
+         * @return an instance of this builder.
+         */
+        Builder maxInFlightPartDownloads(Integer maxInFlightPartDownloads);
+
+        /**
+         * Indicates the value of the maximum number of concurrent part requests for a download.
+         * @return the value of the maximum number of in-flight part downloads.
+         */
+        Integer maxInFlightPartDownloads();
     }
 
     private static class DefaultMultipartConfigBuilder implements Builder {
         private Long thresholdInBytes;
         private Long minimumPartSizeInBytes;
         private Long apiCallBufferSizeInBytes;
+        private Integer maxInFlightPartDownloads;
 
         public Builder thresholdInBytes(Long thresholdInBytes) {
             this.thresholdInBytes = thresholdInBytes;
@@ -199,6 +231,17 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
             return apiCallBufferSizeInBytes;
         }
 
+        @Override
+        public Builder maxInFlightPartDownloads(Integer maxInFlightPartDownloads) {
+            this.maxInFlightPartDownloads = maxInFlightPartDownloads;
+            return this;
+        }
+
+        @Override
+        public Integer maxInFlightPartDownloads() {
+            return maxInFlightPartDownloads;
+        }
+
         @Override
         public MultipartConfiguration build() {
             return new MultipartConfiguration(this);
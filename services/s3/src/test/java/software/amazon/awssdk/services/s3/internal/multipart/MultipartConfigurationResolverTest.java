@@ -16,6 +16,7 @@
 package software.amazon.awssdk.services.s3.internal.multipart;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
@@ -79,5 +80,25 @@ public class MultipartConfigurationResolverTest {
         assertThat(resolver.minimalPartSizeInBytes()).isEqualTo(8L * 1024 * 1024);
         assertThat(resolver.thresholdInBytes()).isEqualTo(8L * 1024 * 1024);
         assertThat(resolver.apiCallBufferSize()).isEqualTo(8L * 1024 * 1024 * 4);
+        assertThat(resolver.maxInFlightPartDownloads()).isEqualTo(1);
+    }
+
+    @Test
+    void resolveMaxInFlightPartDownloads_valueProvided_shouldHonor() {
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .maxInFlightPartDownloads(8)
+                                                                     .build();
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(configuration);
+        assertThat(resolver.maxInFlightPartDownloads()).isEqualTo(8);
+    }
+
+    @Test
+    void resolveMaxInFlightPartDownloads_nonPositiveValue_shouldThrow() {
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .maxInFlightPartDownloads(0)
+                                                                     .build();
+        assertThatThrownBy(() -> new MultipartConfigurationResolver(configuration))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("maxInFlightPartDownloads");
     }
 }
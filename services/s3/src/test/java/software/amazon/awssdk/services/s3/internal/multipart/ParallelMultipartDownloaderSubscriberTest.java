@@ -0,0 +1,171 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.SplittingTransformerConfiguration;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+class ParallelMultipartDownloaderSubscriberTest {
+    private static final int PART_SIZE = 1024;
+
+    private S3AsyncClient s3;
+    private List<Integer> requestedParts;
+    private Map<Integer, PendingPart> pendingParts;
+
+    @BeforeEach
+    public void setUp() {
+        s3 = mock(S3AsyncClient.class);
+        requestedParts = new CopyOnWriteArrayList<>();
+        pendingParts = new ConcurrentHashMap<>();
+        when(s3.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class))).thenAnswer(invocation -> {
+            GetObjectRequest request = invocation.getArgument(0);
+            PendingPart part = new PendingPart(invocation.getArgument(1));
+            requestedParts.add(request.partNumber());
+            pendingParts.put(request.partNumber(), part);
+            return part.future;
+        });
+    }
+
+    @Test
+    void partsLargerThanTheBuffer_areStreamedOneAfterTheOther() throws Exception {
+        int totalParts = 3;
+        CompletableFuture<ResponseBytes<GetObjectResponse>> result = download(4, PART_SIZE - 1);
+        ByteArrayOutputStream expectedBody = new ByteArrayOutputStream();
+
+        for (int part = 1; part <= totalParts; part++) {
+            assertThat(requestedParts).hasSize(part);
+            expectedBody.write(pendingParts.get(part).complete(totalParts));
+        }
+
+        assertThat(result.get(5, TimeUnit.SECONDS).asByteArray()).isEqualTo(expectedBody.toByteArray());
+    }
+
+    @Test
+    void partsRequestedAhead_areBoundedByTheBufferSize() throws Exception {
+        int totalParts = 6;
+        CompletableFuture<ResponseBytes<GetObjectResponse>> result = download(4, 2 * PART_SIZE);
+        byte[][] bodies = new byte[totalParts + 1][];
+
+        bodies[1] = pendingParts.get(1).complete(totalParts);
+        assertThat(requestedParts).containsExactly(1, 2, 3);
+
+        // Part 3 cannot be written before part 2, so it keeps its share of the buffer.
+        bodies[3] = pendingParts.get(3).complete(totalParts);
+        assertThat(requestedParts).containsExactly(1, 2, 3);
+
+        bodies[2] = pendingParts.get(2).complete(totalParts);
+        assertThat(requestedParts).containsExactly(1, 2, 3, 4, 5);
+
+        for (int part = 4; part <= totalParts; part++) {
+            bodies[part] = pendingParts.get(part).complete(totalParts);
+        }
+
+        ByteArrayOutputStream expectedBody = new ByteArrayOutputStream();
+        for (int part = 1; part <= totalParts; part++) {
+            expectedBody.write(bodies[part]);
+        }
+        assertThat(result.get(5, TimeUnit.SECONDS).asByteArray()).isEqualTo(expectedBody.toByteArray());
+    }
+
+    @Test
+    void failedPart_cancelsPartsWaitingToBeWritten() {
+        int totalParts = 3;
+        CompletableFuture<ResponseBytes<GetObjectResponse>> result = download(3, 8 * PART_SIZE);
+
+        pendingParts.get(1).complete(totalParts);
+        assertThat(requestedParts).containsExactly(1, 2, 3);
+
+        // Part 2 is the next one to be written, so it is no longer only waiting in flight.
+        pendingParts.get(3).fail(SdkClientException.create("Part 3 failed"));
+
+        assertThat(pendingParts.get(2).future).isCancelled();
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasMessageContaining("Part 3 failed");
+    }
+
+    private CompletableFuture<ResponseBytes<GetObjectResponse>> download(int maxInFlightParts, long bufferSizeInBytes) {
+        AsyncResponseTransformer.SplitResult<GetObjectResponse, ResponseBytes<GetObjectResponse>> split =
+            AsyncResponseTransformer.<GetObjectResponse>toBytes().split(
+                SplittingTransformerConfiguration.builder()
+                                                 .bufferSizeInBytes(1024 * 32L)
+                                                 .build());
+        GetObjectRequest request = GetObjectRequest.builder().bucket("bucket").key("key").build();
+        split.publisher().subscribe(new ParallelMultipartDownloaderSubscriber(s3, request, maxInFlightParts,
+                                                                              bufferSizeInBytes));
+        return split.resultFuture();
+    }
+
+    /**
+     * A part request that is answered when the test decides to, by driving its transformer like the client would.
+     */
+    private static final class PendingPart {
+        private final AsyncResponseTransformer<GetObjectResponse, Object> transformer;
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+        private PendingPart(AsyncResponseTransformer<GetObjectResponse, Object> transformer) {
+            this.transformer = transformer;
+        }
+
+        private byte[] complete(int totalParts) {
+            byte[] body = new byte[PART_SIZE];
+            ThreadLocalRandom.current().nextBytes(body);
+            GetObjectResponse response = GetObjectResponse.builder()
+                                                          .eTag("etag")
+                                                          .partsCount(totalParts)
+                                                          .contentLength((long) PART_SIZE)
+                                                          .build();
+            CompletableFuture<Object> transformerFuture = transformer.prepare();
+            transformer.onResponse(response);
+            transformer.onStream(SdkPublisher.fromIterable(Collections.singletonList(ByteBuffer.wrap(body))));
+            transformerFuture.whenComplete((result, error) -> {
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(result);
+                }
+            });
+            return body;
+        }
+
+        private void fail(Throwable error) {
+            transformer.prepare();
+            transformer.exceptionOccurred(error);
+            future.completeExceptionally(error);
+        }
+    }
+}
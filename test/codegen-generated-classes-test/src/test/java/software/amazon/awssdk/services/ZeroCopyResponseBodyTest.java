@@ -0,0 +1,186 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer.SplitResult;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
+import software.amazon.awssdk.services.protocolrestjson.model.StreamingOutputOperationRequest;
+import software.amazon.awssdk.services.protocolrestjson.model.StreamingOutputOperationResponse;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+/**
+ * Verifies that response bodies received with {@link NettyNioAsyncHttpClient.Builder#zeroCopyResponseBody(Boolean)} enabled
+ * arrive intact, whether or not the response transformer supports pooled buffers.
+ */
+@Timeout(30)
+public class ZeroCopyResponseBodyTest {
+    private static final int BODY_SIZE = 4 * 1024 * 1024;
+
+    private final WireMockServer wireMock = new WireMockServer(0);
+    private ProtocolRestJsonAsyncClient client;
+    private byte[] body;
+
+    @BeforeEach
+    void setUp() {
+        wireMock.start();
+        body = new byte[BODY_SIZE];
+        new Random(42).nextBytes(body);
+        wireMock.stubFor(any(anyUrl()).willReturn(aResponse().withStatus(200).withBody(body)));
+
+        client = ProtocolRestJsonAsyncClient.builder()
+                                            .region(Region.US_WEST_2)
+                                            .credentialsProvider(AnonymousCredentialsProvider.create())
+                                            .endpointOverride(URI.create("http://localhost:" + wireMock.port()))
+                                            .httpClientBuilder(NettyNioAsyncHttpClient.builder().zeroCopyResponseBody(true))
+                                            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        wireMock.stop();
+    }
+
+    @Test
+    void toBytes_receivesPooledBuffers_bodyIntact() {
+        ResponseBytes<StreamingOutputOperationResponse> response =
+            client.streamingOutputOperation(StreamingOutputOperationRequest.builder().build(),
+                                            AsyncResponseTransformer.toBytes())
+                  .join();
+
+        assertThat(response.asByteArrayUnsafe()).isEqualTo(body);
+    }
+
+    @Test
+    void splittingTransformer_queuesBuffers_bodyIntact() {
+        SplitResult<StreamingOutputOperationResponse, byte[]> split =
+            new SlowConsumingTransformer().split(c -> c.bufferSizeInBytes(64 * 1024L));
+
+        split.publisher().subscribe(new SinglePartSubscriber());
+
+        assertThat(split.resultFuture().join()).isEqualTo(body);
+    }
+
+    /**
+     * Consumes one buffer at a time on another thread, so the splitting transformer has to queue the buffers it receives.
+     */
+    private static final class SlowConsumingTransformer implements AsyncResponseTransformer<StreamingOutputOperationResponse,
+        byte[]> {
+        private final ExecutorService executor = Executors.newSingleThreadExecutor();
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+
+        @Override
+        public CompletableFuture<byte[]> prepare() {
+            return result.whenComplete((r, t) -> executor.shutdown());
+        }
+
+        @Override
+        public void onResponse(StreamingOutputOperationResponse response) {
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            publisher.subscribe(new Subscriber<ByteBuffer>() {
+                private Subscription subscription;
+
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    this.subscription = subscription;
+                    subscription.request(1);
+                }
+
+                @Override
+                public void onNext(ByteBuffer byteBuffer) {
+                    executor.execute(() -> {
+                        byte[] bytes = BinaryUtils.copyBytesFrom(byteBuffer);
+                        received.write(bytes, 0, bytes.length);
+                        subscription.request(1);
+                    });
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    executor.execute(() -> result.complete(received.toByteArray()));
+                }
+            });
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            result.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * Downloads the whole body as a single part, like the multipart download of an object that fits in one part.
+     */
+    private final class SinglePartSubscriber
+        implements Subscriber<AsyncResponseTransformer<StreamingOutputOperationResponse, StreamingOutputOperationResponse>> {
+        private Subscription subscription;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(AsyncResponseTransformer<StreamingOutputOperationResponse, StreamingOutputOperationResponse> part) {
+            CompletableFuture<StreamingOutputOperationResponse> partFuture =
+                client.streamingOutputOperation(StreamingOutputOperationRequest.builder().build(), part);
+            partFuture.whenComplete((r, t) -> subscription.cancel());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.endpointproviders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.endpointproviders.EndpointInterceptorTests.CapturingInterceptor;
+import software.amazon.awssdk.services.restjsonendpointproviders.RestJsonEndpointProvidersClient;
+import software.amazon.awssdk.services.restjsonendpointproviders.RestJsonEndpointProvidersClientBuilder;
+import software.amazon.awssdk.services.restjsonendpointproviders.endpoints.RestJsonEndpointProvidersEndpointProvider;
+
+public class EndpointResolutionCacheTest {
+    private CapturingInterceptor interceptor;
+    private CapturingMetricPublisher metricPublisher;
+
+    @Before
+    public void setup() {
+        interceptor = new CapturingInterceptor();
+        metricPublisher = new CapturingMetricPublisher();
+    }
+
+    @Test
+    public void defaultProvider_sameParams_secondCallHitsCache() {
+        RestJsonEndpointProvidersClient client = clientBuilder().build();
+
+        call(client, c -> c.operationWithNoInputOrOutput(r -> {}));
+        Endpoint first = resolvedEndpoint();
+        call(client, c -> c.operationWithNoInputOrOutput(r -> {}));
+        Endpoint second = resolvedEndpoint();
+
+        assertThat(cacheHits()).containsExactly(false, true);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void defaultProvider_differentStaticContextParams_cachedSeparately() {
+        RestJsonEndpointProvidersClient client = clientBuilder().build();
+
+        call(client, c -> c.operationWithStaticContextParamA(r -> {}));
+        call(client, c -> c.operationWithStaticContextParamB(r -> {}));
+        call(client, c -> c.operationWithStaticContextParamA(r -> {}));
+        call(client, c -> c.operationWithStaticContextParamB(r -> {}));
+
+        assertThat(cacheHits()).containsExactly(false, false, true, true);
+    }
+
+    @Test
+    public void defaultProvider_operationWithContextParam_notCached() {
+        RestJsonEndpointProvidersClient client = clientBuilder().build();
+
+        call(client, c -> c.operationWithContextParam(r -> r.stringMember("foo")));
+        call(client, c -> c.operationWithContextParam(r -> r.stringMember("foo")));
+
+        assertThat(cacheHits()).isEmpty();
+        assertThat(metricPublisher.collections).allSatisfy(
+            m -> assertThat(m.metricValues(CoreMetric.ENDPOINT_RESOLVE_DURATION)).isNotEmpty());
+    }
+
+    @Test
+    public void customProvider_notCached() {
+        AtomicInteger resolveCount = new AtomicInteger();
+        RestJsonEndpointProvidersEndpointProvider defaultProvider = RestJsonEndpointProvidersEndpointProvider.defaultProvider();
+        RestJsonEndpointProvidersClient client = clientBuilder()
+            .endpointProvider(params -> {
+                resolveCount.incrementAndGet();
+                return defaultProvider.resolveEndpoint(params);
+            })
+            .build();
+
+        call(client, c -> c.operationWithNoInputOrOutput(r -> {}));
+        call(client, c -> c.operationWithNoInputOrOutput(r -> {}));
+
+        assertThat(resolveCount.get()).isEqualTo(2);
+        assertThat(cacheHits()).isEmpty();
+    }
+
+    private void call(RestJsonEndpointProvidersClient client, Consumer<RestJsonEndpointProvidersClient> operation) {
+        assertThatThrownBy(() -> operation.accept(client)).hasMessageContaining("stop");
+    }
+
+    private Endpoint resolvedEndpoint() {
+        return interceptor.executionAttributes().getAttribute(SdkInternalExecutionAttribute.RESOLVED_ENDPOINT);
+    }
+
+    private List<Boolean> cacheHits() {
+        List<Boolean> hits = new ArrayList<>();
+        metricPublisher.collections.forEach(m -> hits.addAll(m.metricValues(CoreMetric.ENDPOINT_RESOLVE_CACHE_HIT)));
+        return hits;
+    }
+
+    private RestJsonEndpointProvidersClientBuilder clientBuilder() {
+        return RestJsonEndpointProvidersClient.builder()
+                                              .region(Region.US_WEST_2)
+                                              .credentialsProvider(
+                                                  StaticCredentialsProvider.create(
+                                                      AwsBasicCredentials.create("akid", "skid")))
+                                              .overrideConfiguration(o -> o.addExecutionInterceptor(interceptor)
+                                                                           .addMetricPublisher(metricPublisher));
+    }
+
+    private static class CapturingMetricPublisher implements MetricPublisher {
+        private final List<MetricCollection> collections = new ArrayList<>();
+
+        @Override
+        public void publish(MetricCollection metricCollection) {
+            collections.add(metricCollection);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
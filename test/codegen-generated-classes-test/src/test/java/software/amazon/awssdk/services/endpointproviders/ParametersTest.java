@@ -93,6 +93,19 @@ public class ParametersTest {
         assertThat(params.useFips()).isEqualTo(false);
     }
 
+    @Test
+    public void parametersObject_sameValues_areEqual() {
+        RestJsonEndpointProvidersEndpointParams params = RestJsonEndpointProvidersEndpointParams.builder()
+                                                                                                .region(REGION)
+                                                                                                .useFips(true)
+                                                                                                .build();
+        RestJsonEndpointProvidersEndpointParams sameParams = params.toBuilder().build();
+        RestJsonEndpointProvidersEndpointParams otherParams = params.toBuilder().useFips(false).build();
+
+        assertThat(params).isEqualTo(sameParams).hasSameHashCodeAs(sameParams);
+        assertThat(params).isNotEqualTo(otherParams);
+    }
+
     @Test
     public void regionBuiltIn_resolvedCorrectly() {
         RestJsonEndpointProvidersClient client = RestJsonEndpointProvidersClient.builder()
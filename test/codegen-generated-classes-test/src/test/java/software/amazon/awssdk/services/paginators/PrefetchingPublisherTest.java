@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.paginators;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
+import software.amazon.awssdk.services.protocolrestjson.model.PaginatedOperationWithResultKeyRequest;
+import software.amazon.awssdk.services.protocolrestjson.model.PaginatedOperationWithResultKeyResponse;
+import software.amazon.awssdk.services.protocolrestjson.model.SimpleStruct;
+import software.amazon.awssdk.services.protocolrestjson.paginators.PaginatedOperationWithResultKeyPublisher;
+
+@ExtendWith(MockitoExtension.class)
+public class PrefetchingPublisherTest {
+    private static final int PAGES = 4;
+
+    @Mock
+    private ProtocolRestJsonAsyncClient client;
+
+    @Test
+    public void prefetchPages_requestsPagesAheadOfDemand() {
+        stubPages();
+        PaginatedOperationWithResultKeyPublisher publisher =
+            new PaginatedOperationWithResultKeyPublisher(client, PaginatedOperationWithResultKeyRequest.builder().build())
+                .prefetchPages(2);
+
+        List<PaginatedOperationWithResultKeyResponse> received = new ArrayList<>();
+        publisher.subscribe(new Subscriber<PaginatedOperationWithResultKeyResponse>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(PaginatedOperationWithResultKeyResponse response) {
+                received.add(response);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        // One page was requested by the subscriber, two more are fetched ahead of time
+        assertThat(received).hasSize(1);
+        verify(client, times(3)).paginatedOperationWithResultKey(any(PaginatedOperationWithResultKeyRequest.class));
+    }
+
+    @Test
+    public void prefetchPages_itemsAreDeliveredInOrder() throws Exception {
+        stubPages();
+        PaginatedOperationWithResultKeyPublisher publisher =
+            new PaginatedOperationWithResultKeyPublisher(client, PaginatedOperationWithResultKeyRequest.builder().build())
+                .prefetchPages(2);
+
+        List<String> items = new ArrayList<>();
+        publisher.items().subscribe(item -> items.add(item.stringMember())).get(5, TimeUnit.SECONDS);
+
+        assertThat(items).containsExactly("0-a", "0-b", "1-a", "1-b", "2-a", "2-b", "3-a", "3-b");
+    }
+
+    private void stubPages() {
+        when(client.paginatedOperationWithResultKey(any(PaginatedOperationWithResultKeyRequest.class))).thenAnswer(i -> {
+            PaginatedOperationWithResultKeyRequest request = i.getArgument(0);
+            int page = request.nextToken() == null ? 0 : Integer.parseInt(request.nextToken());
+            String nextToken = page + 1 < PAGES ? String.valueOf(page + 1) : null;
+            return CompletableFuture.completedFuture(
+                PaginatedOperationWithResultKeyResponse.builder()
+                                                       .items(item(page + "-a"), item(page + "-b"))
+                                                       .nextToken(nextToken)
+                                                       .build());
+        });
+    }
+
+    private static SimpleStruct item(String value) {
+        return SimpleStruct.builder().stringMember(value).build();
+    }
+}
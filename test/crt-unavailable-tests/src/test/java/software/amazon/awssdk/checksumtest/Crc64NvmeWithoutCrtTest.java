@@ -25,8 +25,10 @@ import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.checksums.ChecksumValidation;
@@ -36,6 +38,7 @@ import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -51,7 +54,10 @@ import software.amazon.awssdk.services.protocolrestjson.model.ChecksumMode;
 import software.amazon.awssdk.services.protocolrestjson.model.OperationWithCustomRequestChecksumRequest;
 import software.amazon.awssdk.services.protocolrestjson.model.PutOperationWithChecksumRequest;
 
-public class Crc64NvmeNotAvailableTest {
+public class Crc64NvmeWithoutCrtTest {
+    private static final String CRC64NVME_HEADER = "x-amz-checksum-crc64nvme";
+    private static final String EMPTY_BODY_CRC64NVME = "AAAAAAAAAAA=";
+
     private SdkHttpClient httpClient;
     private SdkAsyncHttpClient httpAsyncClient;
     private ProtocolRestJsonAsyncClient asyncClient;
@@ -110,51 +116,62 @@ public class Crc64NvmeNotAvailableTest {
     }
 
     @Test
-    public void asyncChecksumCalculation_crc64NvmeNotAvailable_shouldThrowException() throws IOException {
+    public void asyncChecksumCalculation_crtNotAvailable_shouldUseSdkImplementation() throws IOException {
         stubResponse(SdkHttpFullResponse.builder());
-        assertThatThrownBy(() -> asyncClient.operationWithCustomRequestChecksum(
+        asyncClient.operationWithCustomRequestChecksum(
             OperationWithCustomRequestChecksumRequest.builder()
                                                      .checksumAlgorithm(ChecksumAlgorithm.CRC64_NVME)
-                                                     .build()).join()).hasMessageContaining("Add dependency on "
-                                                                                            + "'software.amazon.awssdk"
-                                                                                            + ".crt:aws-crt' module to "
-                                                                                            + "enable CRC64NVME feature");
+                                                     .build()).join();
+
+        ArgumentCaptor<AsyncExecuteRequest> captor = ArgumentCaptor.forClass(AsyncExecuteRequest.class);
+        Mockito.verify(httpAsyncClient).execute(captor.capture());
+        assertThat(captor.getValue().request().firstMatchingHeader(CRC64NVME_HEADER)).isPresent();
     }
 
     @Test
-    public void syncChecksumCalculation_crc64NvmeNotAvailable_shouldThrowException() throws IOException {
+    public void syncChecksumCalculation_crtNotAvailable_shouldUseSdkImplementation() throws IOException {
         stubResponse(SdkHttpFullResponse.builder());
-        assertThatThrownBy(() -> client.operationWithCustomRequestChecksum(
+        client.operationWithCustomRequestChecksum(
             OperationWithCustomRequestChecksumRequest.builder()
                                                      .checksumAlgorithm(ChecksumAlgorithm.CRC64_NVME)
-                                                     .build())).hasMessageContaining("Add dependency on "
-                                                                                     + "'software.amazon.awssdk"
-                                                                                     + ".crt:aws-crt' module to "
-                                                                                     + "enable CRC64NVME feature");
+                                                     .build());
+
+        ArgumentCaptor<HttpExecuteRequest> captor = ArgumentCaptor.forClass(HttpExecuteRequest.class);
+        Mockito.verify(httpClient).prepareRequest(captor.capture());
+        assertThat(captor.getValue().httpRequest().firstMatchingHeader(CRC64NVME_HEADER)).isPresent();
     }
 
     @Test
-    public void syncChecksumValidation_onlyHasCrc64Nvme_shouldSkipValidation() throws IOException {
-        stubResponse(SdkHttpFullResponse.builder().putHeader("x-amz-checksum-crc64nvme", "foobar"));
+    public void syncChecksumValidation_onlyHasCrc64Nvme_shouldValidate() throws IOException {
+        stubResponse(SdkHttpFullResponse.builder().putHeader(CRC64NVME_HEADER, EMPTY_BODY_CRC64NVME));
 
         client.getOperationWithChecksum(
             r -> r.checksumMode(ChecksumMode.ENABLED),
             ResponseTransformer.toBytes());
 
-        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.CHECKSUM_ALGORITHM_NOT_FOUND);
-        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isNull();
+        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.VALIDATED);
+        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isEqualTo(DefaultChecksumAlgorithm.CRC64NVME);
     }
 
     @Test
-    public void asyncChecksumValidation_onlyHasCrc64Nvme_shouldSkipValidation() throws IOException {
-        stubResponse(SdkHttpFullResponse.builder().putHeader("x-amz-checksum-crc64nvme", "foobar"));
+    public void asyncChecksumValidation_onlyHasCrc64Nvme_shouldValidate() throws IOException {
+        stubResponse(SdkHttpFullResponse.builder().putHeader(CRC64NVME_HEADER, EMPTY_BODY_CRC64NVME));
 
         asyncClient.getOperationWithChecksum(
             r -> r.checksumMode(ChecksumMode.ENABLED),
             AsyncResponseTransformer.toBytes()).join();
 
-        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.CHECKSUM_ALGORITHM_NOT_FOUND);
-        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isNull();
+        assertThat(CaptureChecksumValidationInterceptor.checksumValidation).isEqualTo(ChecksumValidation.VALIDATED);
+        assertThat(CaptureChecksumValidationInterceptor.expectedAlgorithm).isEqualTo(DefaultChecksumAlgorithm.CRC64NVME);
+    }
+
+    @Test
+    public void asyncChecksumValidation_crc64NvmeMismatch_shouldThrowException() throws IOException {
+        stubResponse(SdkHttpFullResponse.builder().putHeader(CRC64NVME_HEADER, "foobar"));
+
+        assertThatThrownBy(() -> asyncClient.getOperationWithChecksum(
+            r -> r.checksumMode(ChecksumMode.ENABLED),
+            AsyncResponseTransformer.toBytes()).join()).hasMessageContaining("Data read has a different checksum than expected");
     }
 
 
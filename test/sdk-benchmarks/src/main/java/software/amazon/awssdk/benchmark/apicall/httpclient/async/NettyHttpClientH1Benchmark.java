@@ -42,10 +42,14 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockServer;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyTransport;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
 
 /**
  * Using netty client to test against local mock https server.
+ * <p>
+ * The EPOLL transport needs Linux; on other platforms, exclude it with {@code -p transport=NIO}.
  */
 @State(Scope.Benchmark)
 @Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
@@ -60,6 +64,9 @@ public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
     @Param({DEFAULT_JDK_SSL_PROVIDER, OPEN_SSL_PROVIDER})
     private String sslProviderValue;
 
+    @Param({"NIO", "EPOLL"})
+    private String transport;
+
     @Setup(Level.Trial)
     public void setup() throws Exception {
         mockServer = new MockServer();
@@ -67,8 +74,10 @@ public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
 
         SslProvider sslProvider = getSslProvider(sslProviderValue);
 
+        SdkEventLoopGroup.Builder eventLoopGroup = SdkEventLoopGroup.builder().transport(NettyTransport.valueOf(transport));
         sdkHttpClient = NettyNioAsyncHttpClient.builder()
                                                .sslProvider(sslProvider)
+                                               .eventLoopGroupBuilder(eventLoopGroup)
                                                .buildWithDefaults(trustAllTlsAttributeMapBuilder().build());
         client = ProtocolRestJsonAsyncClient.builder()
                                             .endpointOverride(mockServer.getHttpsUri())
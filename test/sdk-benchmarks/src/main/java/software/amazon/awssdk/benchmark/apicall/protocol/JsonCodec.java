@@ -38,6 +38,7 @@ import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocolFactory;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocolMetadata;
 import software.amazon.awssdk.protocols.json.BaseAwsJsonProtocolFactory;
+import software.amazon.awssdk.protocols.json.JsonShapeCodecRegistry;
 import software.amazon.awssdk.protocols.json.StructuredJsonFactory;
 import software.amazon.awssdk.protocols.json.internal.marshall.JsonProtocolMarshallerBuilder;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.JsonProtocolUnmarshaller;
@@ -57,6 +58,19 @@ public final class JsonCodec {
                                                                            .hasImplicitPayloadMembers(true)
                                                                            .build();
 
+    private final JsonShapeCodecRegistry shapeCodecs;
+
+    public JsonCodec() {
+        this(JsonShapeCodecRegistry.empty());
+    }
+
+    /**
+     * Creates a codec that uses the given generated shape codecs instead of the marshaller and unmarshaller registries for
+     * the shapes they cover.
+     */
+    public JsonCodec(JsonShapeCodecRegistry shapeCodecs) {
+        this.shapeCodecs = shapeCodecs;
+    }
 
     /**
      * Returns the bytes as a SdkPojo instance.
@@ -68,6 +82,7 @@ public final class JsonCodec {
                 JsonProtocolUnmarshaller
                     .builder()
                     .enableFastUnmarshalling(true)
+                    .shapeCodecs(shapeCodecs)
                     .protocolUnmarshallDependencies(behavior.protocolUnmarshallDependencies())
                     .build();
             SdkHttpFullResponse response = SdkHttpFullResponse
@@ -96,6 +111,7 @@ public final class JsonCodec {
                                              .operationInfo(behavior.operationInfo())
                                              .sendExplicitNullForPayload(false)
                                              .protocolMetadata(behavior.protocolMetadata())
+                                             .shapeCodecs(shapeCodecs)
                                              .build();
             SdkHttpFullRequest req = marshaller.marshall(pojo);
             if (req.contentStreamProvider().isPresent()) {
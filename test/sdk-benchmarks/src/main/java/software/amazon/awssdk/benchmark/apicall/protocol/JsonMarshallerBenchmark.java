@@ -37,6 +37,7 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.BenchmarkConstantGetMetricData;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
 import software.amazon.awssdk.services.protocolsmithyrpcv2.model.GetMetricDataResponse;
+import software.amazon.awssdk.services.protocolsmithyrpcv2.transform.JsonShapeCodecs;
 
 /**
  * Benchmarking for running with different protocols.
@@ -57,6 +58,9 @@ public class JsonMarshallerBenchmark {
         @Param({"smithy-rpc-v2", "aws-json"})
         public String protocol;
 
+        @Param({"registry", "generated"})
+        public String codecs;
+
         GetMetricDataResponse data;
         AwsJsonProtocol jsonProtocol;
         private JsonCodec codec;
@@ -96,7 +100,7 @@ public class JsonMarshallerBenchmark {
                 default:
                     throw new IllegalArgumentException("size: " + size);
             }
-            codec = new JsonCodec();
+            codec = "generated".equals(codecs) ? new JsonCodec(JsonShapeCodecs.registry()) : new JsonCodec();
             data = (GetMetricDataResponse) codec.unmarshall(AwsJsonProtocol.AWS_JSON,
                                                             GetMetricDataResponse.builder(),
                                                             payload);
@@ -40,6 +40,9 @@ import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
 
 /**
  * Benchmarking for running with different protocols.
+ * <p>
+ * The rest-json test service does not enable the generated JSON codecs, so this benchmark measures the marshaller and
+ * unmarshaller registries. {@link JsonMarshallerBenchmark} compares the registries with the generated codecs.
  */
 @State(Scope.Benchmark)
 @Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
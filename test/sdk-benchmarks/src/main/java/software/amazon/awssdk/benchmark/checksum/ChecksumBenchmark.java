@@ -34,6 +34,8 @@ import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 import software.amazon.awssdk.checksums.DefaultChecksumAlgorithm;
 import software.amazon.awssdk.checksums.SdkChecksum;
+import software.amazon.awssdk.checksums.internal.CrcCombineOnMarkChecksum;
+import software.amazon.awssdk.checksums.internal.SdkCrc64NvmeChecksum;
 
 @State(Scope.Benchmark)
 @Warmup(iterations = 3, time = 15, timeUnit = TimeUnit.SECONDS)
@@ -48,7 +50,11 @@ public class ChecksumBenchmark {
         @Param({"128B", "4KB", "128KB", "1MB"})
         public String size;
 
-        @Param({"MD5", "CRC32", "CRC32C", "SHA1", "SHA256", "CRC64NVME"})
+        /**
+         * CRC64NVME uses the CRT implementation, which is on the classpath of the benchmarks, and CRC64NVME_SDK the pure
+         * Java implementation used when CRT is not available.
+         */
+        @Param({"MD5", "CRC32", "CRC32C", "SHA1", "SHA256", "CRC64NVME", "CRC64NVME_SDK"})
         public String checksumProvider;
 
         private byte[] payload;
@@ -76,6 +82,9 @@ public class ChecksumBenchmark {
                 case "CRC64NVME":
                     sdkChecksum = SdkChecksum.forAlgorithm(DefaultChecksumAlgorithm.CRC64NVME);
                     break;
+                case "CRC64NVME_SDK":
+                    sdkChecksum = new CrcCombineOnMarkChecksum(SdkCrc64NvmeChecksum.create(), SdkCrc64NvmeChecksum::combine);
+                    break;
 
                 default:
                     throw new IllegalArgumentException("Invalid checksumProvider: " + checksumProvider);
@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.coldstart;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.BeanTableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Benchmark for creating the table schema of an item and mapping a first item with it in a new JVM, like an application does on
+ * a cold start. {@link #beanTableSchema} introspects the item class at runtime, while {@link #generatedTableSchema} uses the
+ * table schema that the dynamodb-enhanced-processor generated when the benchmarks were compiled.
+ * <p>
+ * Each fork measures a single invocation, so increase the forks rather than the iterations to get more samples.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class TableSchemaCreationBenchmark {
+
+    @Benchmark
+    public void beanTableSchema(Blackhole blackhole) {
+        mapItem(BeanTableSchema.create(TableSchemaCreationItem.class), blackhole);
+    }
+
+    @Benchmark
+    public void generatedTableSchema(Blackhole blackhole) {
+        mapItem(TableSchema.fromClass(TableSchemaCreationItem.class), blackhole);
+    }
+
+    private static void mapItem(TableSchema<TableSchemaCreationItem> tableSchema, Blackhole blackhole) {
+        TableSchemaCreationItem item = tableSchema.mapToItem(Collections.singletonMap("id", AttributeValue.fromS("id")));
+        blackhole.consume(tableSchema.itemToMap(item, true));
+    }
+
+    public static void main(String... args) throws RunnerException, CommandLineOptionException {
+        Options opt = new OptionsBuilder()
+            .parent(new CommandLineOptions())
+            .include(TableSchemaCreationBenchmark.class.getSimpleName())
+            .build();
+        Collection<RunResult> run = new Runner(opt).run();
+    }
+}
@@ -42,7 +42,10 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.cloudwatch.endpoints.CloudWatchEndpointProvider;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointProvider;
+import software.amazon.awssdk.services.ec2.endpoints.Ec2EndpointProvider;
 
 /**
  * Benchmark for creating the clients
@@ -72,6 +75,22 @@ public class V2OptimizedClientCreationBenchmark implements SdkClientCreationBenc
         blackhole.consume(client);
     }
 
+    /**
+     * Resolves the first endpoint of three services in a new JVM. This includes loading the partition metadata of the endpoint
+     * rules of each service, so compare it with and without {@code -Daws.partitionsFile} to see the cost of parsing a
+     * partitions file.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public void resolveFirstEndpoints(Blackhole blackhole) {
+        blackhole.consume(DynamoDbEndpointProvider.defaultProvider().resolveEndpoint(p -> p.region(Region.US_WEST_2)).join());
+        blackhole.consume(Ec2EndpointProvider.defaultProvider().resolveEndpoint(p -> p.region(Region.US_WEST_2)).join());
+        blackhole.consume(CloudWatchEndpointProvider.defaultProvider().resolveEndpoint(p -> p.region(Region.US_WEST_2)).join());
+    }
+
     @TearDown(Level.Trial)
     public void tearDown() throws Exception {
         if (client != null) {
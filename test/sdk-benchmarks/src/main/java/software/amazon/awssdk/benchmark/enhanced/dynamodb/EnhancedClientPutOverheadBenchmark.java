@@ -27,6 +27,10 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.benchmark.utils.MockHttpClient;
@@ -119,4 +123,16 @@ public class EnhancedClientPutOverheadBenchmark {
             HUGE_FLAT.bean = FACTORY.hugeBeanFlat();
         }
     }
+
+    /**
+     * Runs the benchmark with the GC profiler, which also reports the bytes allocated per operation
+     * ({@code gc.alloc.rate.norm}).
+     */
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(EnhancedClientPutOverheadBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.eventstream;
+
+import static software.amazon.awssdk.core.client.config.SdkClientOption.CLIENT_ENDPOINT_PROVIDER;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.awscore.eventstream.EventStreamAsyncResponseTransformer;
+import software.amazon.awssdk.awscore.eventstream.EventStreamResponseHandler;
+import software.amazon.awssdk.awscore.eventstream.EventStreamTaggedUnionPojoSupplier;
+import software.amazon.awssdk.core.ClientEndpointProvider;
+import software.amazon.awssdk.core.SdkPojoBuilder;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocolFactory;
+import software.amazon.awssdk.protocols.json.JsonOperationMetadata;
+import software.amazon.awssdk.protocols.json.internal.unmarshall.SdkClientJsonProtocolAdvancedOption;
+import software.amazon.awssdk.services.protocolrestjson.model.EventStream;
+import software.amazon.awssdk.services.protocolrestjson.model.ProtocolRestJsonException;
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.eventstream.HeaderValue;
+import software.amazon.eventstream.Message;
+
+/**
+ * Measures how many event stream messages per second the async response transformer decodes and unmarshalls, using the
+ * event response handler and protocol configuration a generated REST-JSON client creates for an event stream operation.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EventStreamUnmarshallingBenchmark {
+    private static final int EVENTS_PER_STREAM = 1000;
+
+    private static final AwsJsonProtocolFactory JSON_PROTOCOL_FACTORY = AwsJsonProtocolFactory
+        .builder()
+        .clientConfiguration(SdkClientConfiguration.builder()
+                                                   .option(CLIENT_ENDPOINT_PROVIDER,
+                                                           ClientEndpointProvider.forEndpointOverride(
+                                                               URI.create("https://localhost")))
+                                                   .option(SdkClientJsonProtocolAdvancedOption.ENABLE_FAST_UNMARSHALLER, true)
+                                                   .build())
+        .defaultServiceExceptionSupplier(ProtocolRestJsonException::builder)
+        .protocol(AwsJsonProtocol.REST_JSON)
+        .protocolVersion("1.1")
+        .build();
+
+    /**
+     * Length of the string member of each event.
+     */
+    @Param({"16", "1024"})
+    private int memberLength;
+
+    private HttpResponseHandler<? extends EventStream> eventResponseHandler;
+    private ByteBuffer[] encodedEvents;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        eventResponseHandler = JSON_PROTOCOL_FACTORY.createResponseHandler(
+            JsonOperationMetadata.builder().isPayloadJson(true).hasStreamingSuccessResponse(false).build(),
+            EventStreamTaggedUnionPojoSupplier.builder()
+                                              .putSdkPojoSupplier("EventOne", EventStream::eventOneBuilder)
+                                              .putSdkPojoSupplier("EventTwo", EventStream::eventTwoBuilder)
+                                              .defaultSdkPojoSupplier(() -> new SdkPojoBuilder(EventStream.UNKNOWN))
+                                              .build());
+
+        Map<String, HeaderValue> headers = new HashMap<>();
+        headers.put(":message-type", HeaderValue.fromString("event"));
+        headers.put(":event-type", HeaderValue.fromString("EventOne"));
+        headers.put(":content-type", HeaderValue.fromString("application/json"));
+        byte[] payload = ("{\"Foo\":\"" + StringUtils.repeat("a", memberLength) + "\"}").getBytes(StandardCharsets.UTF_8);
+
+        encodedEvents = new ByteBuffer[EVENTS_PER_STREAM];
+        for (int i = 0; i < EVENTS_PER_STREAM; i++) {
+            encodedEvents[i] = new Message(headers, payload).toByteBuffer();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_STREAM)
+    public void unmarshallEvents(Blackhole blackhole) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        EventStreamAsyncResponseTransformer<Object, EventStream> transformer =
+            EventStreamAsyncResponseTransformer.<Object, EventStream>builder()
+                                               .eventStreamResponseHandler(new ConsumingResponseHandler(blackhole))
+                                               .eventResponseHandler(eventResponseHandler)
+                                               .future(future)
+                                               .serviceName("ProtocolRestJson")
+                                               .build();
+        transformer.prepare();
+        transformer.onStream(AsyncRequestBody.fromByteBuffersUnsafe(encodedEvents));
+        future.join();
+    }
+
+    private static final class ConsumingResponseHandler implements EventStreamResponseHandler<Object, EventStream> {
+        private final Blackhole blackhole;
+
+        private ConsumingResponseHandler(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void responseReceived(Object response) {
+        }
+
+        @Override
+        public void onEventStream(SdkPublisher<EventStream> publisher) {
+            publisher.subscribe(blackhole::consume);
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable throwable) {
+        }
+
+        @Override
+        public void complete() {
+        }
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(EventStreamUnmarshallingBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.timers;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimeoutScheduler;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimer;
+import software.amazon.awssdk.core.internal.http.timers.ScheduledExecutorTimeoutScheduler;
+import software.amazon.awssdk.core.internal.http.timers.TimeoutScheduler;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Measures scheduling and cancelling an API call timeout, which is what happens for every call that completes before its
+ * timeout, with the scheduled executor the clients used to schedule timeouts on and with the hashed-wheel timer. Several threads
+ * share one scheduler, like the request threads of a client do.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(8)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TimeoutSchedulerBenchmark {
+    private static final long TIMEOUT_MILLIS = 30_000;
+    private static final Runnable NO_OP = () -> { };
+
+    private ScheduledExecutorService executor;
+    private TimeoutScheduler scheduledExecutorScheduler;
+    private TimeoutScheduler hashedWheelScheduler;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = Executors.newScheduledThreadPool(5, new ThreadFactoryBuilder().threadNamePrefix("sdk-ScheduledExecutor")
+                                                                                  .build());
+        scheduledExecutorScheduler = new ScheduledExecutorTimeoutScheduler(executor);
+        hashedWheelScheduler = new HashedWheelTimeoutScheduler(HashedWheelTimer.shared(), executor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void scheduledExecutorScheduleAndCancel() {
+        scheduledExecutorScheduler.schedule(NO_OP, TIMEOUT_MILLIS).cancel();
+    }
+
+    @Benchmark
+    public void hashedWheelScheduleAndCancel() {
+        hashedWheelScheduler.schedule(NO_OP, TIMEOUT_MILLIS).cancel();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(TimeoutSchedulerBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}